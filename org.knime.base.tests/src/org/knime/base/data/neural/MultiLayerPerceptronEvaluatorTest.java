@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.neural;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the {@link MultiLayerPerceptronEvaluator} computes the same outputs as the
+ * {@link MultiLayerPerceptron} it is compiled from.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class MultiLayerPerceptronEvaluatorTest {
+
+    private static MultiLayerPerceptron createNetwork(final Architecture architecture, final Random random) {
+        final var mlp = new MultiLayerPerceptron(architecture, random);
+        final Perceptron[] outputs = mlp.getLayer(mlp.getNrLayers() - 1).getPerceptrons();
+        for (var i = 0; i < outputs.length; i++) {
+            outputs[i].setClassValue("class" + i);
+        }
+        return mlp;
+    }
+
+    private static void assertSameOutputs(final Architecture architecture, final long seed) {
+        final var random = new Random(seed);
+        final MultiLayerPerceptron mlp = createNetwork(architecture, random);
+        final var evaluator = new MultiLayerPerceptronEvaluator(mlp);
+        for (var r = 0; r < 100; r++) {
+            final var in = new double[architecture.getNrInputNeurons()];
+            // some inputs saturate the neurons
+            final double scale = r % 10 == 0 ? 1000 : 2;
+            for (var i = 0; i < in.length; i++) {
+                in[i] = scale * (random.nextDouble() - 0.5);
+            }
+            final double[] output = evaluator.output(in);
+            assertArrayEquals(mlp.output(in), output, 0.0, "Unexpected output of input " + r);
+            assertEquals(mlp.getClassOutput(in), evaluator.getClassOutput(output),
+                "Unexpected class of input " + r);
+        }
+    }
+
+    @Test
+    void testHiddenLayers() {
+        assertSameOutputs(new Architecture(4, 1, 6, 3), 1);
+        assertSameOutputs(new Architecture(3, 3, 5, 2), 2);
+        assertSameOutputs(new Architecture(10, 2, 1, 4), 3);
+    }
+
+    @Test
+    void testWithoutHiddenLayer() {
+        assertSameOutputs(new Architecture(5, 0, 0, 3), 4);
+    }
+
+    @Test
+    void testSingleOutput() {
+        // regression networks have a single output neuron
+        assertSameOutputs(new Architecture(2, 1, 3, 1), 5);
+    }
+
+    @Test
+    void testNoWinner() {
+        final var mlp = createNetwork(new Architecture(1, 1, 1, 2), new Random(6));
+        for (final Perceptron output : mlp.getLayer(2).getPerceptrons()) {
+            output.setWeight(0, 0);
+            output.setThreshold(Double.MAX_VALUE);
+        }
+        final var evaluator = new MultiLayerPerceptronEvaluator(mlp);
+        final double[] in = {1};
+        assertEquals(mlp.getClassOutput(in), evaluator.getClassOutput(evaluator.output(in)),
+            "Unexpected class without winner");
+        assertEquals("NoWinner", evaluator.getClassOutput(evaluator.output(in)), "Unexpected class without winner");
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link QuantileSketch} and {@link QuantileSketches}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class QuantileSketchTest {
+
+    /** Small inputs are retained completely, so the median is exact. */
+    @Test
+    public void testExactMedian() {
+        final QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.getMedian()));
+        for (double d : new double[]{3, 1, 4, 1, 5, 9}) {
+            sketch.update(d);
+        }
+        assertTrue(sketch.isExact());
+        assertEquals(3.5, sketch.getMedian(), 0);
+        assertEquals(1, sketch.getQuantile(0), 0);
+        assertEquals(9, sketch.getQuantile(1), 0);
+        sketch.update(2);
+        assertEquals(3, sketch.getMedian(), 0);
+    }
+
+    /** The rank of each estimated quantile deviates from the requested rank by at most the rank error. */
+    @Test
+    public void testRankError() {
+        final double rankError = 0.01;
+        final int n = 200_000;
+        final Random random = new Random(42);
+        final double[] values = new double[n];
+        final QuantileSketch sketch = new QuantileSketch(rankError);
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextGaussian();
+            sketch.update(values[i]);
+        }
+        assertFalse(sketch.isExact());
+        assertEquals(n, sketch.getCount());
+        Arrays.sort(values);
+        for (double q = 0.05; q < 1; q += 0.05) {
+            assertRank(values, q, sketch.getQuantile(q), rankError);
+        }
+        assertRank(values, 0.5, sketch.getMedian(), rankError);
+        assertEquals(values[0], sketch.getQuantile(0), 0);
+        assertEquals(values[n - 1], sketch.getQuantile(1), 0);
+    }
+
+    /** Merged sketches keep the rank error guarantee of the union. */
+    @Test
+    public void testMerge() {
+        final double rankError = 0.02;
+        final int n = 100_000;
+        final Random random = new Random(7);
+        final double[] values = new double[n];
+        final QuantileSketch first = new QuantileSketch(rankError);
+        final QuantileSketch second = new QuantileSketch(rankError);
+        for (int i = 0; i < n; i++) {
+            // the two halves have different distributions
+            values[i] = i % 2 == 0 ? random.nextDouble() : 10 * random.nextDouble() + 0.5;
+            (i % 2 == 0 ? first : second).update(values[i]);
+        }
+        first.merge(second);
+        assertEquals(n, first.getCount());
+        Arrays.sort(values);
+        for (double q = 0.1; q < 1; q += 0.1) {
+            assertRank(values, q, first.getQuantile(q), rankError);
+        }
+    }
+
+    /** The buffered, concurrently updated sketches are identical to sketches updated one value at a time. */
+    @Test
+    public void testSketchesMatchSequentialUpdates() throws Exception {
+        final int numColumns = 7;
+        final QuantileSketches sketches = new QuantileSketches(numColumns, 0.05);
+        final QuantileSketch[] expected = new QuantileSketch[numColumns];
+        Arrays.setAll(expected, i -> new QuantileSketch(0.05));
+        final Random random = new Random(3);
+        for (int row = 0; row < 10_000; row++) {
+            for (int c = 0; c < numColumns; c++) {
+                if (c == 0 && row % 3 == 0) {
+                    // skip some values as if they were missing
+                    continue;
+                }
+                final double d = random.nextDouble() * c;
+                sketches.update(c, d);
+                expected[c].update(d);
+            }
+        }
+        sketches.flush();
+        for (int c = 0; c < numColumns; c++) {
+            assertEquals(expected[c].getCount(), sketches.getSketch(c).getCount());
+            for (double q = 0; q <= 1; q += 0.125) {
+                assertEquals(expected[c].getQuantile(q), sketches.getSketch(c).getQuantile(q), 0);
+            }
+        }
+    }
+
+    /** Invalid rank errors are rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRankError() {
+        new QuantileSketch(0);
+    }
+
+    static void assertRank(final double[] sorted, final double q, final double estimate,
+        final double rankError) {
+        final int lower = lowerBound(sorted, estimate);
+        final int upper = lowerBound(sorted, Math.nextUp(estimate));
+        final double target = q * sorted.length;
+        final double deviation = Math.max(0, Math.max(lower - target, target - upper)) / sorted.length;
+        assertTrue("Rank error " + deviation + " of quantile " + q + " exceeds " + rankError,
+            deviation <= rankError);
+    }
+
+    private static int lowerBound(final double[] sorted, final double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
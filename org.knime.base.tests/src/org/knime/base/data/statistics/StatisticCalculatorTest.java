@@ -3,8 +3,10 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Callable;
 
@@ -18,6 +20,7 @@
 import org.knime.base.data.statistics.calculation.Median;
 import org.knime.base.data.statistics.calculation.MinMax;
 import org.knime.base.data.statistics.calculation.MissingValue;
+import org.knime.base.data.statistics.calculation.Quantile;
 import org.knime.base.data.statistics.calculation.Skewness;
 import org.knime.base.data.statistics.calculation.SpecialDoubleCells;
 import org.knime.base.data.statistics.calculation.StandardDeviation;
@@ -250,6 +253,103 @@ public void doubleMedianTest() throws Exception {
         }
     }
 
+    /**
+     * Tests that the approximated medians and quantiles of {@link Statistics3Table} are within the rank error, also
+     * for a column with many ties, and identical to the ones of the {@link Quantile} statistic.
+     *
+     * @throws Exception e
+     */
+    @Test
+    public void approximateMedianTest() throws Exception {
+        final double rankError = 0.01;
+        final BufferedDataTable table = createSkewedTableWithTies(100_000);
+        final int numCols = table.getDataTableSpec().getNumColumns();
+        final Statistics3Table statistics3Table = new Statistics3Table(table, true, rankError, 0,
+            Collections.<String> emptyList(), EXEC_CONTEXT, ascendingIntArray(numCols));
+
+        final Quantile quantile = new Quantile(rankError);
+        new StatisticCalculator(table.getDataTableSpec(), table.getDataTableSpec().getColumnNames(), quantile)
+            .evaluate(table, EXEC_CONTEXT);
+
+        for (int j = 0; j < numCols; j++) {
+            final String colName = table.getDataTableSpec().getColumnSpec(j).getName();
+            final double[] sorted = sortedValues(table, j);
+            QuantileSketchTest.assertRank(sorted, 0.5, statistics3Table.getMedian(j), rankError);
+            for (double q = 0.1; q < 1; q += 0.1) {
+                QuantileSketchTest.assertRank(sorted, q, statistics3Table.getQuantile(j, q), rankError);
+            }
+            assertEquals(sorted[0], statistics3Table.getQuantile(j, 0), 0);
+            assertEquals(sorted[sorted.length - 1], statistics3Table.getQuantile(j, 1), 0);
+            assertEquals(statistics3Table.getMedian(j), quantile.getMedian(colName), 0);
+            assertEquals(statistics3Table.getQuantile(j, 0.9), quantile.getQuantile(colName, 0.9), 0);
+        }
+    }
+
+    /**
+     * Tests that {@link Statistics3Table} computes the exact medians without quantile sketches if the median is not
+     * approximated, and no medians if they are not computed.
+     *
+     * @throws Exception e
+     */
+    @Test
+    public void exactMedianWithoutRankErrorTest() throws Exception {
+        final BufferedDataTable table = createSkewedTableWithTies(10_000);
+        final int numCols = table.getDataTableSpec().getNumColumns();
+        final Statistics3Table exact = new Statistics3Table(table, true, 0, Collections.<String> emptyList(),
+            EXEC_CONTEXT, ascendingIntArray(numCols));
+        final Statistics3Table exactWithoutRankError = new Statistics3Table(table, true, 0d, 0,
+            Collections.<String> emptyList(), EXEC_CONTEXT, ascendingIntArray(numCols));
+        final Statistics3Table noMedian = new Statistics3Table(table, false, 0.01, 0,
+            Collections.<String> emptyList(), EXEC_CONTEXT, ascendingIntArray(numCols));
+
+        final Median median = new Median();
+        new StatisticCalculator(table.getDataTableSpec(), table.getDataTableSpec().getColumnNames(), median)
+            .evaluate(table, EXEC_CONTEXT);
+
+        for (int j = 0; j < numCols; j++) {
+            final String colName = table.getDataTableSpec().getColumnSpec(j).getName();
+            final double expected = ((DoubleValue)median.getMedian(colName)).getDoubleValue();
+            assertEquals(expected, exact.getMedian(j), 0.00001);
+            assertEquals(expected, exactWithoutRankError.getMedian(j), 0.00001);
+            assertTrue(Double.isNaN(exactWithoutRankError.getQuantile(j, 0.5)));
+            assertTrue(Double.isNaN(noMedian.getMedian(j)));
+            assertTrue(Double.isNaN(noMedian.getQuantile(j, 0.5)));
+        }
+    }
+
+    /**
+     * Creates a table with a skewed column with missing values, a column with only 10 distinct values and an ascending
+     * column.
+     */
+    private static BufferedDataTable createSkewedTableWithTies(final int rows) {
+        final Random random = new Random(17);
+        final DataTableSpecCreator creator = new DataTableSpecCreator();
+        creator.addColumns(new DataColumnSpecCreator("skewed", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("ties", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("ascending", DoubleCell.TYPE).createSpec());
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(creator.createSpec());
+        for (int i = 0; i < rows; i++) {
+            final DataCell skewed = random.nextDouble() > 0.2 ? new DoubleCell(Math.exp(3 * random.nextGaussian()))
+                : DataType.getMissingCell();
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(i), skewed,
+                new DoubleCell(random.nextInt(10)), new DoubleCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Returns the sorted non-missing values of the column. */
+    private static double[] sortedValues(final BufferedDataTable table, final int col) {
+        final List<Double> values = new ArrayList<>();
+        for (final DataRow row : table) {
+            final DataCell cell = row.getCell(col);
+            if (!cell.isMissing()) {
+                values.add(((DoubleValue)cell).getDoubleValue());
+            }
+        }
+        return values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+    }
+
     /**
      * Test median performance.
      *
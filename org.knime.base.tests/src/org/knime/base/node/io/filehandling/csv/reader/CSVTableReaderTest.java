@@ -52,8 +52,10 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -116,4 +118,44 @@ void testParallelReadEndsExactlyOnBoundary() throws Exception {
 
 
     }
+
+    @Test
+    void testPipelinedReadOfCompressedFilePreservesRowOrder() throws Exception {
+        var numRows = 200_000;
+        var filePath = m_tempFolder.resolve("tmp.csv.gz");
+        try (var out = new GZIPOutputStream(Files.newOutputStream(filePath))) {
+            out.write("id,value\n".getBytes(StandardCharsets.UTF_8));
+            for (var i = 0; i < numRows; i++) {
+                out.write((i + ",value" + i + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        var fsLocation = new FSLocation(FSCategory.LOCAL, filePath.toAbsolutePath().toString());
+        var connection = DefaultFSConnectionFactory.createLocalFSConnection();
+        var fsPath = connection.getFileSystem().getPath(fsLocation);
+
+        var csvReaderConfig = new CSVTableReaderConfig();
+        csvReaderConfig.setMinChunkSizeInBytes(1024);
+        csvReaderConfig.setMaxNumChunksPerFile(4);
+        csvReaderConfig.noRowDelimitersInQuotes(true);
+        csvReaderConfig.setCharSetName("UTF-8");
+        var tableReaderConfig = new DefaultTableReadConfig<>(csvReaderConfig);
+        tableReaderConfig.setUseColumnHeaderIdx(true);
+        var reads = m_reader.multiRead(fsPath, tableReaderConfig);
+        try {
+            assertEquals(1, reads.size(), "Compressed files should be read by a single read.");
+            var read = reads.get(0);
+            for (var i = 0; i < numRows; i++) {
+                var row = read.next();
+                assertNotNull(row, "Missing row " + i);
+                assertEquals(String.valueOf(i), row.get(0), "Rows should be read in the order of the file.");
+                assertEquals("value" + i, row.get(1), "Unexpected value.");
+            }
+            assertNull(read.next(), "The read should end after the last row.");
+        } finally {
+            for (var read : reads) {
+                read.close();
+            }
+        }
+    }
 }
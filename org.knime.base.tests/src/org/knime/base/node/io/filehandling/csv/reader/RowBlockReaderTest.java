@@ -0,0 +1,111 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.io.filehandling.csv.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RowBlockReader}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("static-method")
+final class RowBlockReaderTest {
+
+    private static List<String> readBlocks(final String text, final String rowDelimiter, final int blockSize)
+        throws Exception {
+        final List<String> blocks = new ArrayList<>();
+        try (var reader = new RowBlockReader(new StringReader(text), rowDelimiter, blockSize)) {
+            for (var block = reader.readBlock(); block != null; block = reader.readBlock()) {
+                blocks.add(block.toString());
+            }
+            assertNull(reader.readBlock(), "The reader should stay at the end of the input.");
+        }
+        return blocks;
+    }
+
+    @Test
+    void testBlocksEndWithRowDelimiter() throws Exception {
+        final var text = "a,b\nc,d\ne,f\ng,h\n";
+        final var blocks = readBlocks(text, "\n", 9);
+        assertEquals(text, String.join("", blocks), "The blocks should contain the entire text.");
+        assertEquals(List.of("a,b\nc,d\n", "e,f\ng,h\n"), blocks, "Unexpected blocks.");
+    }
+
+    @Test
+    void testLastBlockWithoutRowDelimiter() throws Exception {
+        final var blocks = readBlocks("a,b\nc,d\ne,f", "\n", 5);
+        assertEquals(List.of("a,b\n", "c,d\n", "e,f"), blocks, "Unexpected blocks.");
+    }
+
+    @Test
+    void testRowLargerThanBlock() throws Exception {
+        final var longRow = "x".repeat(50) + "\r\n";
+        final var text = "a\r\n" + longRow + "b\r\n";
+        final var blocks = readBlocks(text, "\r\n", 4);
+        assertEquals(text, String.join("", blocks), "The blocks should contain the entire text.");
+        assertTrue(blocks.contains(longRow), "The long row should form a block of its own.");
+        for (final var block : blocks) {
+            assertTrue(block.endsWith("\r\n"), "Each block should end with the row delimiter.");
+        }
+    }
+
+    @Test
+    void testEmptyInput() throws Exception {
+        assertEquals(List.of(), readBlocks("", "\n", 4), "An empty input should not produce any block.");
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.io.filehandling.csv.reader.api;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micro benchmark comparing the scanning {@link DoubleParser} and {@link IntegerParser} with the regular expression
+ * based parsing in {@link LegacyNumberParsers} on cells as they appear in numeric-heavy CSV files (measurements with a
+ * few decimals, identifiers, grouped amounts and the occasional text cell that makes type guessing fail).
+ *
+ * Run the {@link #main(String[])} method from the IDE; it is not executed as part of the test suite.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class NumberParserBenchmark {
+
+    private static final int NUM_VALUES = 1 << 18;
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static volatile double blackhole; // NOSONAR prevents dead code elimination
+
+    private NumberParserBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the average time per value.
+     *
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        benchmark("", ".");
+        benchmark(",", ".");
+        benchmark(".", ",");
+    }
+
+    private static void benchmark(final String thousandsSeparator, final String decimalSeparator) {
+        final var config = new CSVTableReaderConfig();
+        config.setThousandsSeparator(thousandsSeparator);
+        config.setDecimalSeparator(decimalSeparator);
+        final var doubleParser = new DoubleParser(config);
+        final var integerParser = new IntegerParser(config);
+        final var legacy = new LegacyNumberParsers(config);
+        final var doubles = createDoubles(thousandsSeparator, decimalSeparator);
+        final var longs = createLongs(thousandsSeparator);
+
+        System.out.printf("thousands separator '%s', decimal separator '%s'%n", thousandsSeparator, // NOSONAR
+            decimalSeparator);
+        guess("guess double (legacy)", doubles, v -> succeeds(legacy::parseDouble, v));
+        guess("guess double (scan)", doubles, doubleParser::canParse);
+        guess("guess long (legacy)", longs, v -> succeeds(legacy::parseLong, v));
+        guess("guess long (scan)", longs, integerParser::isLong);
+        // after the type guessing, only valid values are converted
+        final var validDoubles =
+            Arrays.stream(doubles).filter(v -> succeeds(legacy::parseDouble, v)).toArray(String[]::new);
+        final var validLongs = Arrays.stream(longs).filter(v -> succeeds(legacy::parseLong, v)).toArray(String[]::new);
+        run("parse double (legacy)", validDoubles, legacy::parseDouble);
+        run("parse double (scan)", validDoubles, doubleParser::parse);
+        run("parse long (legacy)", validLongs, legacy::parseLong);
+        run("parse long (scan)", validLongs, integerParser::parseLong);
+    }
+
+    private static boolean succeeds(final ToDoubleFunction<String> parser, final String value) {
+        try {
+            parser.applyAsDouble(value);
+            return true;
+        } catch (NumberFormatException e) { // NOSONAR this is what the type guessing used to do
+            return false;
+        }
+    }
+
+    private static void guess(final String name, final String[] values, final Predicate<String> tester) {
+        run(name, values, (ToDoubleFunction<String>)v -> tester.test(v) ? 1 : 0);
+    }
+
+    private static void run(final String name, final String[] values, final ToDoubleFunction<String> parser) {
+        for (var i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole = parseAll(values, parser);
+        }
+        final var start = System.nanoTime();
+        for (var i = 0; i < MEASURED_ROUNDS; i++) {
+            blackhole = parseAll(values, parser);
+        }
+        final var nanosPerValue = (System.nanoTime() - start) / ((double)MEASURED_ROUNDS * values.length);
+        System.out.printf("  %-24s %8.2f ns/value%n", name, nanosPerValue); // NOSONAR
+    }
+
+    private static double parseAll(final String[] values, final ToDoubleFunction<String> parser) {
+        var sum = 0.0;
+        for (final var value : values) {
+            sum += parser.applyAsDouble(value);
+        }
+        return sum;
+    }
+
+    private static String[] createDoubles(final String thousandsSeparator, final String decimalSeparator) {
+        // files that specify a thousands separator also use it consistently
+        final var group = thousandsSeparator.isEmpty() ? "" : ",";
+        final var random = new Random(42);
+        final var values = new String[NUM_VALUES];
+        for (var i = 0; i < values.length; i++) {
+            final var kind = random.nextInt(100);
+            final String value;
+            if (kind < 60) {
+                // sensor readings, prices, ...
+                value = String.format(Locale.US, "%" + group + "." + (1 + random.nextInt(5)) + "f",
+                    random.nextGaussian() * 1000);
+            } else if (kind < 80) {
+                value = String.format(Locale.US, "%" + group + "d", random.nextInt(100_000));
+            } else if (kind < 90) {
+                value = String.format(Locale.US, "%" + group + ".2f", random.nextDouble() * 1e7);
+            } else if (kind < 98) {
+                // full precision values written by other tools
+                value = String.format(Locale.US, "%.16e", random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            } else {
+                value = "n/a";
+            }
+            values[i] = localize(value, thousandsSeparator, decimalSeparator);
+        }
+        return values;
+    }
+
+    private static String[] createLongs(final String thousandsSeparator) {
+        final var format = thousandsSeparator.isEmpty() ? "%d" : "%,d";
+        final var random = new Random(7);
+        final var values = new String[NUM_VALUES];
+        for (var i = 0; i < values.length; i++) {
+            final var kind = random.nextInt(100);
+            final String value;
+            if (kind < 70) {
+                value = String.format(Locale.US, format, random.nextInt(1_000_000));
+            } else if (kind < 98) {
+                value = String.format(Locale.US, format, random.nextLong());
+            } else {
+                value = "?";
+            }
+            values[i] = localize(value, thousandsSeparator, ".");
+        }
+        return values;
+    }
+
+    private static String localize(final String value, final String thousandsSeparator,
+        final String decimalSeparator) {
+        final var builder = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == ',') {
+                builder.append(thousandsSeparator);
+            } else if (c == '.') {
+                builder.append(decimalSeparator);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.io.filehandling.csv.reader.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that the {@link DoubleParser} and {@link IntegerParser} accept and reject exactly the same values as the
+ * regular expression based parsing in {@link LegacyNumberParsers} and produce the same numbers.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("static-method")
+final class NumberParserTest {
+
+    private static final String[] VALUES = {"0", "-0", "+0", "1", "+1", "-1", "123", "1234", "0001", "1,234",
+        "1,234,567", "-1,234", ",123", "12,34", "1,,234", "1.234", "1.234,5", "1,234.5", "1.234.567", ".5", "5.", ".",
+        "-", "+", "", " ", " 1.5 ", "\t42\n", "1e5", "1E-5", "1.5e+3", "1e", "1e+", "e5", "1.5f", "2d", "2D", "1e5d",
+        "NaN", "-Infinity", "Infinity", "0x1p3", "-0X1.8P1", "abc", "1x5", "1,23", "1 234", "1 234,5", "2147483647",
+        "2147483648", "-2147483648", "-2147483649", "9223372036854775807", "9223372036854775808",
+        "-9223372036854775808", "-9223372036854775809", "123456789012345678901234", "0.1", "0.30000000000000004",
+        "1.7976931348623157E308", "4.9e-324", "1e-400", "1e400", "0e99999", "3.14159265358979", "12345678901234567",
+        "00000000000000000000001", "0.000001234", "123456.789e-10", "999999999999999", "9999999999999999",
+        "1,234e5", "1,234E+5", "1,234f", "1,234-5", "\u0661\u0662\u0663", "12-05-2024", "2024-05-12", "1/2"};
+
+    private static Stream<Arguments> provideConfigs() {
+        return Stream.of(//
+            Arguments.of("", "."), //
+            Arguments.of("", ","), //
+            Arguments.of(",", "."), //
+            Arguments.of(".", ","), //
+            Arguments.of(" ", ","));
+    }
+
+    private static List<String> createValues() {
+        final List<String> values = new ArrayList<>(List.of(VALUES));
+        final var random = new Random(42);
+        for (var i = 0; i < 2000; i++) {
+            values.add(Double.toString(random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20)));
+            values.add(String.format("%.6f", random.nextDouble() * 1e6).replace(',', '.'));
+            values.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+        }
+        return values;
+    }
+
+    private static CSVTableReaderConfig createConfig(final String thousands, final String decimal) {
+        final var config = new CSVTableReaderConfig();
+        config.setThousandsSeparator(thousands);
+        config.setDecimalSeparator(decimal);
+        return config;
+    }
+
+    /** @return the parsed value or "invalid" if parsing fails */
+    private static <T> Object outcome(final Function<String, T> parser, final String value) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException ex) {
+            return "invalid";
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideConfigs")
+    void testDoubleParser(final String thousands, final String decimal) {
+        final var config = createConfig(thousands, decimal);
+        final var parser = new DoubleParser(config);
+        final var legacy = new LegacyNumberParsers(config);
+        for (final var value : createValues()) {
+            final var expected = outcome(legacy::parseDouble, value);
+            final var actual = outcome(parser::parse, value);
+            if (expected instanceof Double e && actual instanceof Double a) {
+                assertEquals(Double.doubleToLongBits(e), Double.doubleToLongBits(a), "Wrong value for '" + value + "'");
+            } else {
+                assertEquals(expected, actual, "Wrong outcome for '" + value + "'");
+            }
+            assertEquals(!"invalid".equals(expected), parser.canParse(value), "Wrong test result for '" + value + "'");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideConfigs")
+    void testIntegerParser(final String thousands, final String decimal) {
+        final var config = createConfig(thousands, decimal);
+        final var parser = new IntegerParser(config);
+        final var legacy = new LegacyNumberParsers(config);
+        for (final var value : createValues()) {
+            final var expectedInt = outcome(legacy::parseInt, value);
+            assertEquals(expectedInt, outcome(parser::parseInt, value), "Wrong int for '" + value + "'");
+            assertEquals(!"invalid".equals(expectedInt), parser.isInt(value), "Wrong int test for '" + value + "'");
+            final var expectedLong = outcome(legacy::parseLong, value);
+            assertEquals(expectedLong, outcome(parser::parseLong, value), "Wrong long for '" + value + "'");
+            assertEquals(!"invalid".equals(expectedLong), parser.isLong(value), "Wrong long test for '" + value + "'");
+        }
+    }
+}
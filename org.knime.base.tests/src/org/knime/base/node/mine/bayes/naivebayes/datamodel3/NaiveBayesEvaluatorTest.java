@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.bayes.naivebayes.datamodel3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.pmml.PMMLPortObject;
+import org.knime.core.node.port.pmml.PMMLPortObjectSpecCreator;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests that the {@link NaiveBayesEvaluator} predicts the same classes and probabilities as the
+ * {@link NaiveBayesModel} it is compiled from.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class NaiveBayesEvaluatorTest {
+
+    private static final String[] CLASSES = {"Y", "X", "Z"};
+
+    private static final DataTableSpec TRAINING_SPEC = new DataTableSpec(
+        new String[]{"nominal", "numeric", "integer", "class"},
+        new DataType[]{StringCell.TYPE, DoubleCell.TYPE, IntCell.TYPE, StringCell.TYPE});
+
+    /** Other column order than the training table, an unknown column and no class column. */
+    private static final DataTableSpec TEST_SPEC = new DataTableSpec(
+        new String[]{"unknown", "integer", "numeric", "nominal"},
+        new DataType[]{DoubleCell.TYPE, IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+
+    private static DataCell nominal(final Random random, final int value) {
+        return random.nextInt(20) == 0 ? DataType.getMissingCell()
+            : new StringCell(String.valueOf((char)('a' + value)));
+    }
+
+    private static DataCell numeric(final Random random, final int classIdx) {
+        return random.nextInt(20) == 0 ? DataType.getMissingCell()
+            : new DoubleCell(classIdx + random.nextGaussian());
+    }
+
+    private static BufferedDataTable createTrainingTable(final ExecutionContext ctx) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(TRAINING_SPEC);
+        for (var i = 0; i < 300; i++) {
+            final int classIdx = random.nextInt(CLASSES.length);
+            // value "e" is only seen with class Z
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                nominal(random, classIdx + random.nextInt(3)), numeric(random, classIdx),
+                new IntCell(classIdx * 2 + random.nextInt(4)), new StringCell(CLASSES[classIdx])));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static NaiveBayesModel createModel(final ExecutionContext ctx, final boolean ignoreMissingVals,
+        final double probabilityThreshold) throws CanceledExecutionException, InvalidSettingsException {
+        final BufferedDataTable table = createTrainingTable(ctx);
+        final var model = new NaiveBayesModel(table, "class", ctx, 20, ignoreMissingVals, false,
+            probabilityThreshold, 1e-4, 0);
+        // numerical attributes can only be scored by a model read from PMML, like in the predictor
+        final var specCreator = new PMMLPortObjectSpecCreator(table.getDataTableSpec());
+        specCreator.setLearningColsNames(List.of("nominal", "numeric", "integer"));
+        specCreator.setTargetColName("class");
+        final var pmml = new PMMLPortObject(specCreator.createSpec(), null, table.getDataTableSpec());
+        pmml.addModelTranslater(new PMMLNaiveBayesModelTranslator(model));
+        final var translator = new PMMLNaiveBayesModelTranslator();
+        pmml.initializeModelTranslator(translator);
+        return translator.getModel();
+    }
+
+    private static DataRow createTestRow(final Random random, final int i) {
+        final int classIdx = random.nextInt(CLASSES.length);
+        // value "f" has not been seen during training
+        return new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(random.nextDouble()),
+            new IntCell(random.nextInt(10)), numeric(random, classIdx), nominal(random, random.nextInt(6)));
+    }
+
+    private static String[] getAttributeNames() {
+        return TEST_SPEC.getColumnNames();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSamePredictions(final boolean ignoreMissingVals, final ExecutionContext ctx)
+        throws CanceledExecutionException, InvalidSettingsException {
+        final NaiveBayesModel model = createModel(ctx, ignoreMissingVals, NaiveBayesModel.DEFAULT_MIN_PROB_THRESHOLD);
+        final var evaluator = new NaiveBayesEvaluator(model, TEST_SPEC);
+        final List<String> classValues = model.getSortedClassValues();
+        assertEquals(classValues, evaluator.getSortedClassValues(), "Unexpected class values");
+        final var random = new Random(7);
+        for (var i = 0; i < 500; i++) {
+            final DataRow row = createTestRow(random, i);
+            final double[] logProbs = evaluator.getLogClassProbabilities(row);
+            assertEquals(model.getMostLikelyClassCell(getAttributeNames(), row),
+                evaluator.getMostLikelyClassCell(logProbs), "Unexpected class of row " + row.getKey());
+            assertArrayEquals(model.getClassProbabilities(getAttributeNames(), row, classValues, true),
+                NaiveBayesEvaluator.normalize(logProbs), 0.0, "Unexpected probabilities of row " + row.getKey());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testZeroProbabilities(final boolean ignoreMissingVals, final ExecutionContext ctx)
+        throws CanceledExecutionException, InvalidSettingsException {
+        final NaiveBayesModel model = createModel(ctx, ignoreMissingVals, 0);
+        final var evaluator = new NaiveBayesEvaluator(model, TEST_SPEC);
+        // value "f" has not been seen during training, i.e. it has a zero probability for all classes
+        final DataRow row = new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(0), new IntCell(1),
+            new DoubleCell(1), new StringCell("f"));
+        final var modelException = assertThrows(IllegalStateException.class,
+            () -> model.getMostLikelyClassCell(getAttributeNames(), row), "Model is expected to fail");
+        final var evaluatorException = assertThrows(IllegalStateException.class,
+            () -> evaluator.getLogClassProbabilities(row), "Evaluator is expected to fail");
+        assertEquals(modelException.getMessage(), evaluatorException.getMessage(), "Unexpected message");
+    }
+}
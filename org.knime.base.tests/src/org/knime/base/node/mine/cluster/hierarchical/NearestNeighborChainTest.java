@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.cluster.hierarchical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.base.node.mine.cluster.hierarchical.HierarchicalClusterNodeModel.Linkage;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests that the {@link NearestNeighborChain} finds the same hierarchy as the greedy algorithm that merges the two
+ * closest clusters in every step.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class NearestNeighborChainTest {
+
+    /** A cluster of the greedy reference implementation. */
+    private record Cluster(List<Integer> points, String tree) {
+    }
+
+    @ParameterizedTest
+    @EnumSource(Linkage.class)
+    void testSameHierarchyAsGreedyClustering(final Linkage linkage) throws CanceledExecutionException {
+        final var random = new Random(42);
+        for (var run = 0; run < 20; run++) {
+            final var numPoints = 1 + random.nextInt(80);
+            final var points = new double[numPoints][1 + random.nextInt(4)];
+            for (final var point : points) {
+                for (var d = 0; d < point.length; d++) {
+                    point[d] = d > 0 && random.nextInt(20) == 0 ? Double.NaN : random.nextGaussian();
+                }
+            }
+            final var power = 1 + random.nextInt(2);
+
+            final var expectedDistances = new ArrayList<Float>();
+            final var expectedTree = clusterGreedily(points, power, linkage, expectedDistances);
+
+            final var nnChain = new NearestNeighborChain(
+                NearestNeighborChain.computeDistances(points, power, new ExecutionMonitor()), numPoints, linkage);
+            nnChain.run(new ExecutionMonitor());
+            final var trees = new String[numPoints];
+            final var listPosition = new int[numPoints];
+            final var parent = new int[numPoints];
+            for (var i = 0; i < numPoints; i++) {
+                trees[i] = Integer.toString(i);
+                listPosition[i] = i;
+                parent[i] = i;
+            }
+            final var order = nnChain.getMergeOrder();
+            for (var step = 0; step < order.length; step++) {
+                final var merge = order[step];
+                final var distance = nnChain.getMergeDistances()[merge];
+                assertEquals(expectedDistances.get(step), distance,
+                    Math.max(1, expectedDistances.get(step)) * 1e-5f, "Wrong distance of merge " + step);
+                final var root1 = findRoot(parent, nnChain.getRemoved()[merge]);
+                final var root2 = findRoot(parent, nnChain.getMerged()[merge]);
+                final var inOrder = listPosition[root1] < listPosition[root2];
+                trees[root2] = "(" + trees[inOrder ? root1 : root2] + "," + trees[inOrder ? root2 : root1] + ")";
+                parent[root1] = root2;
+                listPosition[root2] = numPoints + step;
+            }
+            assertEquals(expectedTree, trees[findRoot(parent, 0)], "Different hierarchy");
+        }
+    }
+
+    private static int findRoot(final int[] parent, final int point) {
+        var p = point;
+        while (parent[p] != p) {
+            p = parent[p];
+        }
+        return p;
+    }
+
+    private static double distance(final double[] x, final double[] y, final int power) {
+        double sum = 0;
+        for (var i = 0; i < x.length; i++) {
+            if (!Double.isNaN(x[i]) && !Double.isNaN(y[i])) {
+                sum += Math.pow(Math.abs(x[i] - y[i]), power);
+            }
+        }
+        return Math.pow(sum, 1.0 / power);
+    }
+
+    /** The algorithm of the node without distance cache. */
+    private static String clusterGreedily(final double[][] points, final int power, final Linkage linkage,
+        final List<Float> mergeDistances) {
+        final var clusters = new ArrayList<Cluster>();
+        for (var i = 0; i < points.length; i++) {
+            clusters.add(new Cluster(List.of(i), Integer.toString(i)));
+        }
+        while (clusters.size() > 1) {
+            var smallest = Float.MAX_VALUE;
+            Cluster closest1 = null;
+            Cluster closest2 = null;
+            for (var i = 0; i < clusters.size(); i++) {
+                for (var j = i + 1; j < clusters.size(); j++) {
+                    final var dist = linkageDistance(points, power, linkage, clusters.get(i), clusters.get(j));
+                    if (dist < smallest) {
+                        smallest = dist;
+                        closest1 = clusters.get(i);
+                        closest2 = clusters.get(j);
+                    }
+                }
+            }
+            final var merged = new ArrayList<>(closest1.points());
+            merged.addAll(closest2.points());
+            clusters.remove(closest1);
+            clusters.remove(closest2);
+            clusters.add(new Cluster(merged, "(" + closest1.tree() + "," + closest2.tree() + ")"));
+            mergeDistances.add(smallest);
+        }
+        return clusters.isEmpty() ? "" : clusters.get(0).tree();
+    }
+
+    private static float linkageDistance(final double[][] points, final int power, final Linkage linkage,
+        final Cluster c1, final Cluster c2) {
+        var min = Float.MAX_VALUE;
+        var max = 0f;
+        var sum = 0f;
+        for (final int p1 : c1.points()) {
+            for (final int p2 : c2.points()) {
+                final var dist = (float)distance(points[p1], points[p2], power);
+                min = Math.min(min, dist);
+                max = Math.max(max, dist);
+                sum += dist;
+            }
+        }
+        return switch (linkage) {
+            case SINGLE -> min;
+            case COMPLETE -> max;
+            case AVERAGE -> sum / (c1.points().size() * c2.points().size());
+        };
+    }
+}
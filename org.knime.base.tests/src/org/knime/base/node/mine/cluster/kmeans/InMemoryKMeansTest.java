@@ -0,0 +1,211 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.cluster.kmeans;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests that the {@link InMemoryKMeans} finds the same clusters as the row-by-row algorithm of the
+ * {@link KMeansNodeModel}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class InMemoryKMeansTest {
+
+    private static double[][] createBlobs(final Random random, final int numRows, final int dimension,
+        final int numBlobs) {
+        final var blobCenters = new double[numBlobs][dimension];
+        for (final var center : blobCenters) {
+            for (var d = 0; d < dimension; d++) {
+                center[d] = 10 * random.nextGaussian();
+            }
+        }
+        final var rows = new double[numRows][dimension];
+        for (final var row : rows) {
+            final var center = blobCenters[random.nextInt(numBlobs)];
+            for (var d = 0; d < dimension; d++) {
+                row[d] = center[d] + random.nextGaussian();
+            }
+        }
+        return rows;
+    }
+
+    private static InMemoryKMeans toInMemory(final double[][] rows, final int dimension, final int rowsPerBlock) {
+        final var data = new InMemoryKMeans(dimension, rowsPerBlock);
+        for (final var row : rows) {
+            data.addRow(row);
+        }
+        return data;
+    }
+
+    private static double[][] copy(final double[][] centers) {
+        return Arrays.stream(centers).map(double[]::clone).toArray(double[][]::new);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testSameClustersAsRowByRow(final boolean withNaN) throws CanceledExecutionException {
+        final var random = new Random(7);
+        for (var run = 0; run < 10; run++) {
+            final var dimension = 1 + random.nextInt(6);
+            final var numRows = 1 + random.nextInt(3000);
+            final var numCenters = 1 + random.nextInt(12);
+            final var rows = createBlobs(random, numRows, dimension, 1 + random.nextInt(8));
+            if (withNaN) {
+                rows[random.nextInt(numRows)][random.nextInt(dimension)] = Double.NaN;
+            }
+            final var data = toInMemory(rows, dimension, 1 + random.nextInt(500));
+            final var initialCenters =
+                data.getRows(random.longs(numCenters, 0, numRows).distinct().sorted().toArray(), numCenters);
+
+            final var expectedCenters = copy(initialCenters);
+            final var expectedCoverage = new int[numCenters];
+            final var expectedAssignments = clusterRowByRow(rows, expectedCenters, expectedCoverage, 30);
+
+            final var centers = copy(initialCenters);
+            final var coverage = data.cluster(centers, 30, new ExecutionMonitor());
+            assertArrayEquals(expectedCoverage, coverage, "Wrong cluster coverage");
+            for (var c = 0; c < numCenters; c++) {
+                assertArrayEquals(expectedCenters[c], centers[c], 1e-9, "Wrong center " + c);
+            }
+            for (var r = 0; r < numRows; r++) {
+                assertEquals(expectedAssignments[r], data.getCluster(r), "Wrong cluster of row " + r);
+            }
+        }
+    }
+
+    /** The algorithm of the node without in-memory clustering. */
+    private static int[] clusterRowByRow(final double[][] rows, final double[][] centers, final int[] coverage,
+        final int maxIterations) {
+        final var dimension = centers[0].length;
+        var finished = false;
+        for (var iteration = 0; !finished && iteration < maxIterations; iteration++) {
+            final var sums = new double[centers.length][dimension];
+            Arrays.fill(coverage, 0);
+            for (final var row : rows) {
+                final var winner = findClosest(row, centers);
+                for (var d = 0; d < dimension; d++) {
+                    sums[winner][d] += row[d];
+                }
+                coverage[winner]++;
+            }
+            finished = true;
+            for (var c = 0; c < centers.length; c++) {
+                for (var d = 0; coverage[c] > 0 && d < dimension; d++) {
+                    final var newValue = sums[c][d] / coverage[c];
+                    finished &= Math.abs(centers[c][d] - newValue) <= 1e-10;
+                    centers[c][d] = newValue;
+                }
+            }
+        }
+        return Arrays.stream(rows).mapToInt(row -> findClosest(row, centers)).toArray();
+    }
+
+    private static int findClosest(final double[] row, final double[][] centers) {
+        var winner = -1;
+        var winnerDistance = Double.MAX_VALUE;
+        for (var c = 0; c < centers.length; c++) {
+            double distance = 0;
+            for (var d = 0; d < row.length; d++) {
+                final var diff = centers[c][d] - row[d];
+                if (!Double.isNaN(diff)) {
+                    distance += diff * diff;
+                }
+            }
+            if (distance < winnerDistance) {
+                winner = c;
+                winnerDistance = distance;
+            }
+        }
+        return winner;
+    }
+
+    @Test
+    void testKMeansPlusPlusSeeding() throws CanceledExecutionException {
+        final var random = new Random(3);
+        final var rows = createBlobs(random, 2000, 3, 5);
+        final var data = toInMemory(rows, 3, 128);
+        final var centers = data.seedKMeansPlusPlus(5, 42, new ExecutionMonitor());
+        assertEquals(5, centers.length);
+        for (var c = 0; c < centers.length; c++) {
+            final var center = centers[c];
+            assertTrue(Arrays.stream(rows).anyMatch(row -> Arrays.equals(row, center)),
+                "Center " + c + " is not a row");
+            for (var other = 0; other < c; other++) {
+                assertNotEquals(Arrays.toString(centers[other]), Arrays.toString(center), "Duplicate center");
+            }
+        }
+        final var sameSeed = data.seedKMeansPlusPlus(5, 42, new ExecutionMonitor());
+        for (var c = 0; c < centers.length; c++) {
+            assertArrayEquals(centers[c], sameSeed[c], "Seeding is not reproducible");
+        }
+    }
+
+    @Test
+    void testKMeansPlusPlusWithDuplicateRows() throws CanceledExecutionException {
+        final var rows = new double[][]{{1, 1}, {1, 1}, {2, 2}, {1, 1}};
+        final var centers = toInMemory(rows, 2, 3).seedKMeansPlusPlus(4, 0, new ExecutionMonitor());
+        assertTrue(Arrays.stream(centers).anyMatch(c -> Arrays.equals(c, rows[0])), "Missing first distinct row");
+        assertTrue(Arrays.stream(centers).anyMatch(c -> Arrays.equals(c, rows[2])), "Missing second distinct row");
+        final var empty = new InMemoryKMeans(2, 3).seedKMeansPlusPlus(2, 0, new ExecutionMonitor());
+        assertArrayEquals(new double[2], empty[1], "Empty data must yield zero centers");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.decisiontree2.learner2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link SplitFinder} and the numeric splits of {@link SplitContinuous}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+class SplitFinderTest {
+
+    private static final int NUM_ATTRIBUTES = 6;
+
+    private static final int NUM_CLASSES = 3;
+
+    @SuppressWarnings("unchecked")
+    private static InMemoryTable createTable(final int numRows, final int numDistinctValues) {
+        final ValueMapper<String> attributeNameMapper = new ValueMapper<>();
+        for (int a = 0; a < NUM_ATTRIBUTES; a++) {
+            attributeNameMapper.getIndexMayBeAdded("attribute" + a);
+        }
+        final ValueMapper<DataCell> classValueMapper = new ValueMapper<>();
+        for (int c = 0; c < NUM_CLASSES; c++) {
+            classValueMapper.getIndexMayBeAdded(new StringCell("class" + c));
+        }
+        final InMemoryTable table =
+            new InMemoryTable(new ValueMapper[NUM_ATTRIBUTES], classValueMapper, attributeNameMapper, 2);
+        final Random random = new Random(7);
+        for (int r = 0; r < numRows; r++) {
+            final int classValue = random.nextInt(NUM_CLASSES);
+            final double[] values = new double[NUM_ATTRIBUTES];
+            for (int a = 0; a < NUM_ATTRIBUTES; a++) {
+                values[a] = random.nextInt(20) == 0 ? Double.NaN
+                    : random.nextInt(numDistinctValues) + (a % NUM_CLASSES == classValue ? a : 0);
+            }
+            table.addRow(new DataRowWeighted(new ClassValueDataRow(values, classValue), 0.5 + random.nextInt(3)));
+        }
+        table.pack();
+        return table;
+    }
+
+    private static SplitFinder findSplit(final InMemoryTable table, final int numThreads) throws Exception {
+        return new SplitFinder(table, new SplitQualityGainRatio(), true, 2, false, 10, numThreads);
+    }
+
+    private static void assertSameSplit(final SplitFinder expected, final SplitFinder actual) {
+        assertEquals(expected.getSplitAttributeIndex(), actual.getSplitAttributeIndex());
+        assertEquals(expected.getSplit().getBestQualityMeasure(), actual.getSplit().getBestQualityMeasure(), 0);
+        assertEquals(((SplitContinuous)expected.getSplit()).getBestSplitValue(),
+            ((SplitContinuous)actual.getSplit()).getBestSplitValue(), 0);
+    }
+
+    /** The split search neither depends on the number of threads nor reorders the rows of the table. */
+    @Test
+    void testParallelSearchYieldsSameSplit() throws Exception {
+        final InMemoryTable table = createTable(30000, 1000);
+        final DataRowWeighted firstRow = table.getRow(0);
+        final SplitFinder expected = findSplit(table, 1);
+        assertSame(firstRow, table.getRow(0));
+        assertSameSplit(expected, findSplit(table, 4));
+    }
+
+    /** If the attributes have fewer distinct values than bins, binning does not change the split. */
+    @Test
+    void testBinnedSplitsWithFewDistinctValues() throws Exception {
+        final InMemoryTable table = createTable(5000, 30);
+        final SplitFinder expected = findSplit(table, 1);
+        final InMemoryTable binnedTable = createTable(5000, 30);
+        binnedTable.computeNumericBinBoundaries(64, 2);
+        assertSameSplit(expected, findSplit(binnedTable, 1));
+    }
+
+    /** The bin boundaries are the cut points of equal frequency bins below the maximum value. */
+    @Test
+    void testBinBoundaries() throws Exception {
+        final InMemoryTable table = createTable(10000, 1000);
+        table.computeNumericBinBoundaries(16, 1);
+        for (int a = 0; a < NUM_ATTRIBUTES; a++) {
+            final double[] boundaries = table.getNumericBinBoundaries(a);
+            assertEquals(15, boundaries.length);
+            final int[] binCounts = new int[boundaries.length + 1];
+            for (int r = 0; r < table.getNumberDataRows(); r++) {
+                final double value = table.getRow(r).getValue(a);
+                if (!Double.isNaN(value)) {
+                    binCounts[SplitContinuous.getBin(boundaries, value)]++;
+                }
+            }
+            for (final int binCount : binCounts) {
+                assertEquals(9500 / 16.0, binCount, 100);
+            }
+        }
+    }
+}
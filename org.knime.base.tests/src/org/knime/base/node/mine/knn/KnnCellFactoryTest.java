@@ -0,0 +1,93 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link KnnCellFactory}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class KnnCellFactoryTest {
+
+    /**
+     * The nearest training point belongs to class A, but two more points of class B have the same distance. If ties
+     * are included, as by the K Nearest Neighbor node, all three vote and B wins, otherwise only the first point votes.
+     */
+    @Test
+    void testTiedNeighborsVote() {
+        final var builder = new KnnIndex.Builder(1);
+        builder.addPoint(new double[]{1}, new StringCell("A"));
+        builder.addPoint(new double[]{-1}, new StringCell("B"));
+        builder.addPoint(new double[]{1}, new StringCell("B"));
+        builder.addPoint(new double[]{5}, new StringCell("A"));
+        final KnnIndex index = builder.build();
+        final var spec = new DataTableSpec(new DataColumnSpecCreator("x", DoubleCell.TYPE).createSpec());
+        final var colSpecs = KnnCellFactory.createColumnSpecs(spec,
+            new DataColumnSpecCreator("class", StringCell.TYPE).createSpec(), false);
+        final var row = new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(0));
+
+        final var withTies =
+            new KnnCellFactory(colSpecs, index, new int[]{0}, 1, true, false, new StringCell[0], 1);
+        assertEquals(new StringCell("B"), withTies.getCells(row)[0], "All tied neighbors must vote");
+
+        final var withoutTies =
+            new KnnCellFactory(colSpecs, index, new int[]{0}, 1, false, false, new StringCell[0], 1);
+        assertEquals(new StringCell("A"), withoutTies.getCells(row)[0], "Only the first tied neighbor must vote");
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.ModelContent;
+
+/**
+ * Tests for {@link KnnIndex}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+class KnnIndexTest {
+
+    private static final int NUM_POINTS = 2000;
+
+    private static double[][] createPoints(final Random random, final int dimensions, final boolean grid) {
+        final double[][] points = new double[NUM_POINTS][dimensions];
+        for (final double[] point : points) {
+            for (int d = 0; d < dimensions; d++) {
+                point[d] = grid ? random.nextInt(4) : random.nextGaussian();
+            }
+        }
+        return points;
+    }
+
+    private static KnnIndex createIndex(final double[][] points) {
+        final KnnIndex.Builder builder = new KnnIndex.Builder(points[0].length);
+        for (int i = 0; i < points.length; i++) {
+            builder.addPoint(points[i], new StringCell("class" + (i % 3)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks the result of the searcher against a full scan. The expected neighbors are the k nearest points ordered
+     * by distance and position in the training data, so ties at the k-th distance are resolved in favor of the points
+     * that come first, or additionally all points with the same distance as the k-th one if ties are included.
+     */
+    private static void assertNeighbors(final double[][] points, final KnnIndex index, final Random random,
+        final boolean grid, final boolean includeTies) {
+        final KnnIndex.Searcher searcher = index.createSearcher();
+        final int dimensions = points[0].length;
+        for (int q = 0; q < 50; q++) {
+            final double[] query = new double[dimensions];
+            for (int d = 0; d < dimensions; d++) {
+                query[d] = grid ? random.nextInt(4) : random.nextGaussian();
+            }
+            final int k = 1 + random.nextInt(20);
+
+            final double[] distances = new double[points.length];
+            final Integer[] order = new Integer[points.length];
+            for (int i = 0; i < points.length; i++) {
+                order[i] = i;
+                for (int d = 0; d < dimensions; d++) {
+                    final double diff = query[d] - points[i][d];
+                    distances[i] += diff * diff;
+                }
+            }
+            Arrays.sort(order, (a, b) -> distances[a] == distances[b] ? Integer.compare(a, b)
+                : Double.compare(distances[a], distances[b]));
+            int expectedCount = k;
+            while (includeTies && expectedCount < points.length
+                && distances[order[expectedCount]] == distances[order[k - 1]]) {
+                expectedCount++;
+            }
+
+            assertEquals(expectedCount, includeTies ? searcher.search(query, k, true) : searcher.search(query, k));
+            for (int i = 0; i < expectedCount; i++) {
+                assertEquals(order[i].intValue(), searcher.getNeighborOrdinal(i));
+                assertEquals(Math.sqrt(distances[order[i]]), searcher.getNeighborDistance(i), 0);
+                assertEquals(order[i] % 3, searcher.getNeighborClass(i));
+            }
+        }
+    }
+
+    /** The kd-tree is used for few dimensions, a full scan for 20 dimensions. Both must find the same neighbors. */
+    @Test
+    void testNeighborsMatchFullScan() {
+        final Random random = new Random(42);
+        for (final int dimensions : new int[]{1, 3, 20}) {
+            for (final boolean grid : new boolean[]{false, true}) {
+                final double[][] points = createPoints(random, dimensions, grid);
+                final KnnIndex index = createIndex(points);
+                assertNeighbors(points, index, random, grid, false);
+                assertNeighbors(points, index, random, grid, true);
+            }
+        }
+    }
+
+    /** Of several points with the same distance as the k-th neighbor only those added first are returned. */
+    @Test
+    void testTiesAtKthDistanceResolvedByInputOrder() {
+        final KnnIndex.Builder builder = new KnnIndex.Builder(1);
+        for (int i = 0; i < 100; i++) {
+            builder.addPoint(new double[]{i % 2 == 0 ? 1 : -1}, new StringCell("class" + i));
+        }
+        final KnnIndex.Searcher searcher = builder.build().createSearcher();
+        assertEquals(3, searcher.search(new double[]{0}, 3));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, searcher.getNeighborOrdinal(i));
+            assertEquals(1, searcher.getNeighborDistance(i), 0);
+        }
+    }
+
+    /**
+     * All points with the same distance as the k-th neighbor are returned if ties are included, as by the former
+     * kd-tree of the K Nearest Neighbor node, and the next query without ties returns exactly k neighbors again.
+     */
+    @Test
+    void testTiesAtKthDistanceIncluded() {
+        final KnnIndex.Builder builder = new KnnIndex.Builder(1);
+        for (int i = 0; i < 100; i++) {
+            builder.addPoint(new double[]{i % 2 == 0 ? 1 : -1}, new StringCell("class" + i));
+        }
+        builder.addPoint(new double[]{0.5}, new StringCell("nearest"));
+        final KnnIndex.Searcher searcher = builder.build().createSearcher();
+        assertEquals(101, searcher.search(new double[]{0}, 3, true));
+        assertEquals(100, searcher.getNeighborOrdinal(0));
+        assertEquals(0.5, searcher.getNeighborDistance(0), 0);
+        for (int i = 1; i < 101; i++) {
+            assertEquals(i - 1, searcher.getNeighborOrdinal(i));
+            assertEquals(1, searcher.getNeighborDistance(i), 0);
+        }
+        assertEquals(1, searcher.search(new double[]{0}, 1, true));
+        assertEquals(3, searcher.search(new double[]{0}, 3));
+    }
+
+    @Test
+    void testClasses() {
+        final KnnIndex index = createIndex(createPoints(new Random(1), 2, false));
+        assertEquals(3, index.getNumClasses());
+        for (int c = 0; c < 3; c++) {
+            assertEquals(new StringCell("class" + c), index.getClassValue(c));
+        }
+        assertEquals(667, index.getClassCount(0));
+        assertEquals(667, index.getClassCount(1));
+        assertEquals(666, index.getClassCount(2));
+    }
+
+    @Test
+    void testFewerPointsThanNeighbors() {
+        final KnnIndex.Builder builder = new KnnIndex.Builder(2);
+        builder.addPoint(new double[]{0, 0}, new StringCell("a"));
+        builder.addPoint(new double[]{3, 4}, new StringCell("b"));
+        final KnnIndex.Searcher searcher = builder.build().createSearcher();
+        assertEquals(2, searcher.search(new double[]{0, 0}, 5));
+        assertEquals(0, searcher.getNeighborDistance(0), 0);
+        assertEquals(5, searcher.getNeighborDistance(1), 0);
+        assertEquals(1, searcher.getNeighborClass(1));
+    }
+
+    @Test
+    void testSaveLoad() throws Exception {
+        final Random random = new Random(7);
+        final double[][] points = createPoints(random, 4, true);
+        final KnnIndex index = createIndex(points);
+        final ModelContent model = new ModelContent("knn");
+        index.saveMetadata(model);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            index.savePoints(out);
+        }
+        final KnnIndex loaded =
+            KnnIndex.load(model, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(index.size(), loaded.size());
+        assertEquals(index.getDimensions(), loaded.getDimensions());
+        assertEquals(index.getNumClasses(), loaded.getNumClasses());
+        for (int c = 0; c < index.getNumClasses(); c++) {
+            assertEquals(index.getClassValue(c), loaded.getClassValue(c));
+        }
+        assertNeighbors(points, loaded, random, true, true);
+    }
+}
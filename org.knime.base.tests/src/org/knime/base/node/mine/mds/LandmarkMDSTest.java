@@ -0,0 +1,206 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.mds;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link LandmarkMDS}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class LandmarkMDSTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"x", "y", "z", "name"},
+        new DataType[]{DoubleCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * Creates rows whose values lie on a plane, so that their Euclidean distances can be reproduced exactly in two
+     * dimensions. The second row contains a missing value.
+     */
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int nrRows) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(SPEC);
+        for (var i = 0; i < nrRows; i++) {
+            final double x = random.nextDouble() * 10;
+            final double y = random.nextDouble() * 5 - 2;
+            final DataCell z = i == 1 ? DataType.getMissingCell() : new DoubleCell(0.5 * x - 0.3 * y + 1);
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(x), new DoubleCell(y), z,
+                    new StringCell("r" + i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static LandmarkMDS computeLandmarks(final BufferedDataTable table, final int dimension,
+        final long rowsToUse, final int nrLandmarks, final long seed) throws CanceledExecutionException {
+        final var mds = new LandmarkMDS(new VectorDistances(SPEC, null, DistanceManagerFactory.EUCLIDEAN_DIST, false),
+            dimension);
+        mds.computeLandmarks(table, rowsToUse, nrLandmarks, seed, new ExecutionMonitor());
+        return mds;
+    }
+
+    /** Projects the rows without missing values, row by row. */
+    private static List<double[]> project(final LandmarkMDS mds, final BufferedDataTable table) {
+        final List<double[]> points = new ArrayList<>();
+        for (final DataRow row : table) {
+            final var point = new double[mds.getDimension()];
+            if (mds.project(row, point)) {
+                points.add(point);
+            } else {
+                assertEquals(RowKey.createRowKey(1L), row.getKey(), "Only the row with missing value is skipped");
+            }
+        }
+        return points;
+    }
+
+    private static double distance(final double[] p1, final double[] p2, final int dimension) {
+        double d = 0;
+        for (var i = 0; i < dimension; i++) {
+            d += (p1[i] - p2[i]) * (p1[i] - p2[i]);
+        }
+        return Math.sqrt(d);
+    }
+
+    /** Asserts that the projected points have the same distances as the values of the rows. */
+    private static void assertDistancesReproduced(final BufferedDataTable table, final List<double[]> points) {
+        final List<double[]> values = new ArrayList<>();
+        for (final DataRow row : table) {
+            if (!row.getCell(2).isMissing()) {
+                final var v = new double[3];
+                for (var i = 0; i < v.length; i++) {
+                    v[i] = ((DoubleCell)row.getCell(i)).getDoubleValue();
+                }
+                values.add(v);
+            }
+        }
+        assertEquals(values.size(), points.size(), "Unexpected number of projected rows");
+        for (var i = 0; i < values.size(); i++) {
+            for (var j = i + 1; j < values.size(); j++) {
+                assertEquals(distance(values.get(i), values.get(j), 3),
+                    distance(points.get(i), points.get(j), points.get(i).length), EPSILON,
+                    "Unexpected distance of rows " + i + " and " + j);
+            }
+        }
+    }
+
+    @Test
+    void testLandmarksReproduceDistances(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx, 200);
+        final var mds = computeLandmarks(table, 2, table.size(), 20, 7);
+        assertEquals(20, mds.getNumLandmarks(), "Unexpected number of landmarks");
+        assertDistancesReproduced(table, project(mds, table));
+    }
+
+    @Test
+    void testFixedSeed(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx, 200);
+        final List<double[]> expected = project(computeLandmarks(table, 2, table.size(), 10, 7), table);
+        final List<double[]> actual = project(computeLandmarks(table, 2, table.size(), 10, 7), table);
+        for (var i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), 0.0, "Unexpected coordinates of row " + i);
+        }
+        // other landmarks result in a rotated or mirrored configuration with the same distances
+        final List<double[]> otherSeed = project(computeLandmarks(table, 2, table.size(), 10, 8), table);
+        assertDistancesReproduced(table, otherSeed);
+    }
+
+    @Test
+    void testFewerRowsThanLandmarks(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx, 6);
+        // all rows but the one with the missing value are landmarks, i.e. this is classical MDS
+        final var mds = computeLandmarks(table, 3, table.size(), 50, 7);
+        assertEquals(5, mds.getNumLandmarks(), "Unexpected number of landmarks");
+        final List<double[]> points = project(mds, table);
+        assertDistancesReproduced(table, points);
+        // the rows span only two dimensions
+        for (final double[] point : points) {
+            assertEquals(0.0, point[2], 0.0, "The third coordinate is expected to be zero");
+        }
+        // only the first rows are sampled
+        assertEquals(3, computeLandmarks(table, 2, 4, 50, 7).getNumLandmarks(), "Unexpected number of landmarks");
+    }
+
+    @Test
+    void testSingleLandmark(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx, 2);
+        final var mds = computeLandmarks(table, 2, table.size(), 50, 7);
+        assertEquals(1, mds.getNumLandmarks(), "Unexpected number of landmarks");
+        final var point = new double[2];
+        assertTrue(mds.project(table.iterator().next(), point), "Row without missing values is expected to be placed");
+        assertArrayEquals(new double[2], point, 0.0, "A single landmark is expected at the origin");
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.regression.predict3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLGeneralRegressionContent;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLGeneralRegressionContent.FunctionName;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLGeneralRegressionContent.ModelType;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLPCell;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLPCovCell;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLPPCell;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLParameter;
+import org.knime.base.node.mine.regression.pmmlgreg.PMMLPredictor;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.pmml.PMMLPortObjectSpec;
+import org.knime.core.node.port.pmml.PMMLPortObjectSpecCreator;
+
+/**
+ * Tests that the {@link LogRegPredictor} computes the cells of a multinomial logistic regression model as defined by
+ * the PMML general regression model, i.e. the same cells as before the terms were resolved once per model.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class LogRegPredictorTest {
+
+    private static final String[] COLORS = {"red", "green", "blue"};
+
+    /** The target categories in the order of the domain of the target column. */
+    private static final String[] CLASSES = {"a", "b", "c"};
+
+    /** The target categories in the order of the parameter matrix, the reference category is the last one. */
+    private static final String[] MODEL_CLASSES = {"b", "a", "c"};
+
+    /** Betas of intercept, x, x^2, color=green and color=blue for the target categories b and a. */
+    private static final double[][] BETAS = {{0.5, -1.25, 0.125, 2.0, -0.75}, {-0.25, 0.75, -0.5, 1.5, 3.0}};
+
+    /** Other column order than the training table, an unknown column and no target column. */
+    private static final DataTableSpec TEST_SPEC = new DataTableSpec(
+        new String[]{"color", "unknown", "x"}, new DataType[]{StringCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE});
+
+    private static DataColumnSpec createNominalColumn(final String name, final String... values) {
+        final var creator = new DataColumnSpecCreator(name, StringCell.TYPE);
+        creator.setDomain(new DataColumnDomainCreator(
+            Arrays.stream(values).map(StringCell::new).toArray(DataCell[]::new)).createDomain());
+        return creator.createSpec();
+    }
+
+    private static PMMLPortObjectSpec createPortSpec() {
+        final var trainingSpec = new DataTableSpec(new DataColumnSpecCreator("x", DoubleCell.TYPE).createSpec(),
+            createNominalColumn("color", COLORS), createNominalColumn("class", CLASSES));
+        final var creator = new PMMLPortObjectSpecCreator(trainingSpec);
+        creator.setLearningColsNames(Arrays.asList("x", "color"));
+        creator.setTargetColName("class");
+        return creator.createSpec();
+    }
+
+    private static PMMLGeneralRegressionContent createContent() {
+        final var params = new PMMLParameter[]{new PMMLParameter("p0", "Intercept"), new PMMLParameter("p1", "x"),
+            new PMMLParameter("p2", "x^2"), new PMMLParameter("p3", "color=green"),
+            new PMMLParameter("p4", "color=blue")};
+        final var ppCells = new PMMLPPCell[]{new PMMLPPCell("1", "x", "p1"), new PMMLPPCell("2", "x", "p2"),
+            new PMMLPPCell("green", "color", "p3"), new PMMLPPCell("blue", "color", "p4")};
+        final var pCells = new PMMLPCell[params.length * BETAS.length];
+        for (var k = 0; k < BETAS.length; k++) {
+            for (var p = 0; p < params.length; p++) {
+                pCells[k * params.length + p] = new PMMLPCell(params[p].getName(), BETAS[k][p], MODEL_CLASSES[k]);
+            }
+        }
+        final var content = new PMMLGeneralRegressionContent(ModelType.multinomialLogistic, "model",
+            FunctionName.classification, "LogisticRegression", params, new PMMLPredictor[]{new PMMLPredictor("color")},
+            new PMMLPredictor[]{new PMMLPredictor("x")}, ppCells, new PMMLPCovCell[0], pCells);
+        content.setTargetReferenceCategory("c");
+        return content;
+    }
+
+    private static LogRegPredictor createPredictor(final boolean includeProbs) throws InvalidSettingsException {
+        final var settings = new RegressionPredictorSettings(true);
+        settings.setIncludeProbabilities(includeProbs);
+        return new LogRegPredictor(createContent(), TEST_SPEC, createPortSpec(), "class", settings);
+    }
+
+    private static DataRow createRow(final int i, final String color, final double x) {
+        return new DefaultRow(RowKey.createRowKey((long)i), color == null ? DataType.getMissingCell()
+            : new StringCell(color), new DoubleCell(i), new DoubleCell(x));
+    }
+
+    /* The linear predictors of the model classes, red is the baseline of the color factor. */
+    private static double[] logits(final String color, final double x) {
+        final var logits = new double[MODEL_CLASSES.length];
+        for (var k = 0; k < BETAS.length; k++) {
+            final double[] beta = BETAS[k];
+            logits[k] = beta[0] * 1.0;
+            if (x != 0.0) {
+                logits[k] += beta[1] * Math.pow(x, 1);
+                logits[k] += beta[2] * Math.pow(x, 2);
+            }
+            if ("green".equals(color)) {
+                logits[k] += beta[3] * 1.0;
+            } else if ("blue".equals(color)) {
+                logits[k] += beta[4] * 1.0;
+            }
+        }
+        return logits;
+    }
+
+    private static DataCell[] expectedCells(final String color, final double x, final boolean includeProbs) {
+        final double[] logits = logits(color, x);
+        final var cells = new DataCell[includeProbs ? CLASSES.length + 1 : 1];
+        var maxIndex = 0;
+        for (var i = 0; i < logits.length; i++) {
+            if (logits[i] > logits[maxIndex]) {
+                maxIndex = i;
+            }
+            if (includeProbs) {
+                var sum = 0.0;
+                var overflow = false;
+                for (var k = 0; k < logits.length; k++) {
+                    sum += Math.exp(logits[k] - logits[i]);
+                    overflow |= logits[k] - logits[i] > 700;
+                }
+                cells[Arrays.asList(CLASSES).indexOf(MODEL_CLASSES[i])] = new DoubleCell(overflow ? 0 : 1.0 / sum);
+            }
+        }
+        cells[cells.length - 1] = new StringCell(MODEL_CLASSES[maxIndex]);
+        return cells;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testRandomRows(final boolean includeProbs) throws InvalidSettingsException {
+        final LogRegPredictor predictor = createPredictor(includeProbs);
+        final var random = new Random(42);
+        // "purple" is not part of the domain and is treated like the baseline
+        final String[] colors = {"red", "green", "blue", "purple"};
+        for (var i = 0; i < 1000; i++) {
+            final String color = colors[random.nextInt(colors.length)];
+            final double x = random.nextInt(10) == 0 ? 0.0 : random.nextGaussian() * 3;
+            assertArrayEquals(expectedCells(color, x, includeProbs), predictor.getCells(createRow(i, color, x)),
+                "Unexpected cells for color " + color + " and x " + x);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testOverflow(final boolean includeProbs) throws InvalidSettingsException {
+        final LogRegPredictor predictor = createPredictor(includeProbs);
+        // the logits differ by more than the overflow limit, for x = -70.3 the exponential would still be finite
+        for (final double x : new double[]{-70.3, 100, -100, 1e4}) {
+            assertArrayEquals(expectedCells("blue", x, includeProbs), predictor.getCells(createRow(0, "blue", x)),
+                "Unexpected cells for x " + x);
+        }
+    }
+
+    @Test
+    void testMissingValues() throws InvalidSettingsException {
+        final DataCell missing = DataType.getMissingCell();
+        assertArrayEquals(new DataCell[]{missing, missing, missing, missing},
+            createPredictor(true).getCells(createRow(0, null, 1.0)), "Expected missing cells for a missing factor");
+        final var row = new DefaultRow(RowKey.createRowKey(1L), new StringCell("red"), new DoubleCell(1), missing);
+        assertArrayEquals(new DataCell[]{missing}, createPredictor(false).getCells(row),
+            "Expected a missing cell for a missing covariate");
+    }
+}
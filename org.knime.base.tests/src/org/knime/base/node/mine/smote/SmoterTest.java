@@ -0,0 +1,300 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.smote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.util.ThreadPool;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link Smoter}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class SmoterTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"x", "y", "count", "name", "class"},
+        new DataType[]{DoubleCell.TYPE, DoubleCell.TYPE, IntCell.TYPE, StringCell.TYPE, StringCell.TYPE});
+
+    private static final int CLASS_COL = 4;
+
+    private static final long SEED = 4711;
+
+    /**
+     * Creates a table with a large, a small (with missing values) and a tiny class. The values are rounded, so that
+     * there are many rows with equal distance.
+     */
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(SPEC);
+        for (var i = 0; i < 1300; i++) {
+            final String clas = i % 13 == 0 ? "B" : (i % 181 == 0 ? "C" : "A");
+            final DataCell y = "B".equals(clas) && i % 7 == 0 ? DataType.getMissingCell()
+                : new DoubleCell(random.nextInt(8) / 2.0);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(random.nextInt(10)),
+                y, new IntCell(random.nextInt(5)), new StringCell("n" + i), new StringCell(clas)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Oversamples each class by the rate and returns the new rows. */
+    private static List<DataRow> smote(final ExecutionContext ctx, final BufferedDataTable table,
+        final boolean concurrent) throws Exception {
+        final var smoter = new Smoter(table, "class", ctx, new Random(SEED), concurrent);
+        final List<DataCell> classes = new ArrayList<>();
+        smoter.getClassValues().forEachRemaining(classes::add);
+        for (final DataCell clas : classes) {
+            smoter.smote(clas, (int)(smoter.getCount(clas) * 2.5), 5, ctx);
+        }
+        smoter.close();
+        final List<DataRow> rows = new ArrayList<>();
+        smoter.getSmotedTable().forEach(rows::add);
+        return rows.subList((int)table.size(), rows.size());
+    }
+
+    /** Runs {@link #smote(ExecutionContext, BufferedDataTable, boolean)} in a pool with the given size. */
+    private static List<DataRow> smoteInPool(final ExecutionContext ctx, final BufferedDataTable table,
+        final int maxThreads) throws Exception {
+        final var pool = new ThreadPool(maxThreads);
+        try {
+            final Future<List<DataRow>> future = pool.submit(() -> smote(ctx, table, true));
+            return future.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertRowsEqual(final List<DataRow> expected, final List<DataRow> actual) {
+        assertEquals(expected.size(), actual.size(), "Unexpected number of rows");
+        for (var i = 0; i < expected.size(); i++) {
+            final DataRow expectedRow = expected.get(i);
+            final DataRow actualRow = actual.get(i);
+            assertEquals(expectedRow.getKey(), actualRow.getKey(), "Unexpected key of row " + i);
+            for (var c = 0; c < expectedRow.getNumCells(); c++) {
+                assertEquals(expectedRow.getCell(c), actualRow.getCell(c),
+                    "Unexpected cell " + c + " of row " + expectedRow.getKey());
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentSmoteIsDeterministic(final ExecutionContext ctx) throws Exception {
+        final var table = createTable(ctx);
+        final List<DataRow> expected = smote(ctx, table, true);
+        assertEquals((int)(1193 * 2.5) + (int)(100 * 2.5) + (int)(7 * 2.5), expected.size(),
+            "Unexpected number of new rows");
+        assertRowsEqual(expected, smote(ctx, table, true));
+        assertRowsEqual(expected, smoteInPool(ctx, table, 1));
+        assertRowsEqual(expected, smoteInPool(ctx, table, 4));
+    }
+
+    @Test
+    void testSequentialSmoteEqualsFormerVersion(final ExecutionContext ctx) throws Exception {
+        final var table = createTable(ctx);
+        final List<DataRow> actual = smote(ctx, table, false);
+        final var legacy = new LegacySmoter(table);
+        legacy.smote("B");
+        legacy.smote("A");
+        legacy.smote("C");
+        assertRowsEqual(legacy.m_result, actual);
+        assertNotEquals(actual.stream().map(r -> r.getCell(0)).toList(),
+            smote(ctx, table, true).stream().map(r -> r.getCell(0)).toList(),
+            "The concurrent oversampling is expected to draw different rows");
+    }
+
+    /**
+     * The oversampling as implemented by former versions, which scanned the whole table for the neighbors of each
+     * reference row.
+     */
+    private static final class LegacySmoter {
+
+        private final List<DataRow> m_rows = new ArrayList<>();
+
+        private final Random m_random = new Random(SEED);
+
+        private final List<DataRow> m_result = new ArrayList<>();
+
+        private int m_appendCounter;
+
+        LegacySmoter(final BufferedDataTable table) {
+            table.forEach(m_rows::add);
+        }
+
+        void smote(final String clas) {
+            final DataCell name = new StringCell(clas);
+            final List<DataRow> classRows =
+                m_rows.stream().filter(r -> r.getCell(CLASS_COL).equals(name)).toList();
+            final int origCount = classRows.size();
+            final var count = (int)(origCount * 2.5);
+            final int countAtLeast = count / origCount;
+            final int[] indexesToUse = new int[count];
+            for (var i = 0; i < countAtLeast * origCount; i++) {
+                indexesToUse[i] = i % origCount;
+            }
+            final int[] shuffleMe = new int[origCount];
+            Arrays.setAll(shuffleMe, i -> i);
+            for (int i = shuffleMe.length; --i >= 0;) {
+                final int index = m_random.nextInt(i + 1);
+                final int swap = shuffleMe[i];
+                shuffleMe[i] = shuffleMe[index];
+                shuffleMe[index] = swap;
+            }
+            System.arraycopy(shuffleMe, 0, indexesToUse, countAtLeast * origCount, count - countAtLeast * origCount);
+            Arrays.sort(indexesToUse);
+            var pointer = 0;
+            for (var classCounter = 0; pointer < count; classCounter++) {
+                final DataRow ref = classRows.get(classCounter);
+                if (indexesToUse[pointer] != classCounter) {
+                    continue;
+                }
+                final LinkedList<DataRow> neighbors = new LinkedList<>();
+                final LinkedList<Double> distances = new LinkedList<>();
+                for (final DataRow n : classRows) {
+                    if (n != ref) {
+                        insertIntoList(neighbors, distances, n, distance(ref, n), 5);
+                    }
+                }
+                while (pointer < count && indexesToUse[pointer] == classCounter) {
+                    m_result.add(populate(ref, neighbors));
+                    pointer++;
+                }
+            }
+        }
+
+        private static void insertIntoList(final LinkedList<DataRow> rows, final LinkedList<Double> distances,
+            final DataRow row, final double dis, final int kNN) {
+            final ListIterator<Double> lI = distances.listIterator(distances.size());
+            double lastdis = Double.POSITIVE_INFINITY;
+            while (lI.hasPrevious() && lastdis > dis) {
+                lastdis = lI.previous();
+            }
+            if (lI.hasNext()) {
+                lI.next();
+            }
+            final int pos = lI.nextIndex();
+            distances.add(pos, dis);
+            rows.add(pos, row);
+            if (distances.size() <= kNN) {
+                return;
+            }
+            final double maxDis = distances.get(kNN - 1);
+            final Iterator<DataRow> rowIt = rows.listIterator(kNN);
+            final Iterator<Double> disIt = distances.listIterator(kNN);
+            while (disIt.hasNext()) {
+                rowIt.next();
+                if (disIt.next() > maxDis) {
+                    rowIt.remove();
+                    disIt.remove();
+                }
+            }
+        }
+
+        private static double distance(final DataRow row1, final DataRow row2) {
+            double d = 0.0;
+            for (var i = 0; i < 3; i++) {
+                final DataCell fCell = row1.getCell(i);
+                final DataCell tCell = row2.getCell(i);
+                if (!fCell.isMissing() && !tCell.isMissing()) {
+                    final double dis = ((DoubleValue)fCell).getDoubleValue() - ((DoubleValue)tCell).getDoubleValue();
+                    d += dis * dis;
+                }
+            }
+            return Math.sqrt(d);
+        }
+
+        private DataRow populate(final DataRow ref, final List<DataRow> neighbors) {
+            final double fraction = m_random.nextDouble();
+            final DataRow neigh = neighbors.isEmpty() ? ref : neighbors.get(m_random.nextInt(neighbors.size()));
+            final DataCell[] newCells = new DataCell[ref.getNumCells()];
+            for (var i = 0; i < newCells.length; i++) {
+                final DataCell fCell = ref.getCell(i);
+                final DataCell tCell = neigh.getCell(i);
+                if (i >= 3) {
+                    newCells[i] = fCell;
+                } else if (fCell.isMissing() || tCell.isMissing()) {
+                    newCells[i] = DataType.getMissingCell();
+                } else {
+                    final double from = ((DoubleValue)fCell).getDoubleValue();
+                    final double to = ((DoubleValue)tCell).getDoubleValue();
+                    newCells[i] = new DoubleCell(from + fraction * (to - from));
+                }
+            }
+            final var key = new RowKey(ref.getKey().getString() + "dupl_" + m_appendCounter);
+            m_appendCounter++;
+            return new DefaultRow(key, newCells);
+        }
+    }
+}
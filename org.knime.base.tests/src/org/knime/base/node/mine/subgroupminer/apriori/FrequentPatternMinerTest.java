@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.base.node.mine.subgroupminer.apriori.AprioriAlgorithmFactory.AlgorithmDataStructure;
+import org.knime.base.node.mine.subgroupminer.freqitemset.AssociationRule;
+import org.knime.base.node.mine.subgroupminer.freqitemset.FrequentItemSet;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.data.vector.bitvector.DenseBitVector;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests that {@link FPGrowth} and {@link Eclat} find the same itemsets with the same supports (and in the same order)
+ * and derive the same association rules as the {@link ArrayApriori}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class FrequentPatternMinerTest {
+
+    private static final int NUM_ITEMS = 16;
+
+    /**
+     * Creates transactions that contain some correlated groups of items, so that there are itemsets that are not
+     * closed, and some transactions that contain only the items that are in every transaction.
+     *
+     * @param numAlwaysFrequentItems the number of items (the last ones) that are contained in every transaction
+     */
+    private static List<BitVectorValue> createTransactions(final int numAlwaysFrequentItems) {
+        final int firstAlwaysFrequentItem = NUM_ITEMS - numAlwaysFrequentItems;
+        final var random = new Random(42);
+        final List<BitVectorValue> transactions = new ArrayList<>();
+        for (var t = 0; t < 500; t++) {
+            final var vector = new DenseBitVector(NUM_ITEMS);
+            for (var i = firstAlwaysFrequentItem; i < NUM_ITEMS; i++) {
+                vector.set(i);
+            }
+            if (t % 50 != 0) {
+                if (random.nextDouble() < 0.4) {
+                    vector.set(0);
+                    vector.set(1);
+                    if (random.nextBoolean()) {
+                        vector.set(2);
+                    }
+                }
+                if (random.nextDouble() < 0.3) {
+                    vector.set(3);
+                    vector.set(4);
+                    vector.set(5);
+                }
+                for (var i = 6; i < firstAlwaysFrequentItem; i++) {
+                    if (random.nextDouble() < 0.08 * (i - 5)) {
+                        vector.set(i);
+                    }
+                }
+            }
+            transactions.add(new DenseBitVectorCellFactory(vector).createDataCell());
+        }
+        return transactions;
+    }
+
+    private static AprioriAlgorithm createMiner(final AlgorithmDataStructure algorithm,
+        final List<BitVectorValue> transactions, final double minSupport, final int maxDepth,
+        final FrequentItemSet.Type type) throws CanceledExecutionException {
+        final AprioriAlgorithm miner =
+            AprioriAlgorithmFactory.getAprioriAlgorithm(algorithm, NUM_ITEMS, transactions.size());
+        miner.findFrequentItemSets(transactions, minSupport, maxDepth, type, new ExecutionMonitor());
+        return miner;
+    }
+
+    private static List<String> mine(final AlgorithmDataStructure algorithm, final List<BitVectorValue> transactions,
+        final double minSupport, final int maxDepth, final FrequentItemSet.Type type)
+        throws CanceledExecutionException {
+        final AprioriAlgorithm miner = createMiner(algorithm, transactions, minSupport, maxDepth, type);
+        final List<String> result = new ArrayList<>();
+        for (final FrequentItemSet set : miner.getFrequentItemSets(type)) {
+            result.add(set.getItems() + ": " + set.getSupport());
+        }
+        return result;
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AlgorithmDataStructure.class, names = {"FP_GROWTH", "ECLAT"})
+    void testSameItemSetsAsApriori(final AlgorithmDataStructure algorithm) throws CanceledExecutionException {
+        final List<BitVectorValue> transactions = createTransactions(1);
+        for (final FrequentItemSet.Type type : FrequentItemSet.Type.values()) {
+            for (final double minSupport : new double[]{0.02, 0.1, 0.3}) {
+                for (final int maxDepth : new int[]{2, 4, NUM_ITEMS}) {
+                    final List<String> expected =
+                        mine(AlgorithmDataStructure.ARRAY, transactions, minSupport, maxDepth, type);
+                    assertTrue(expected.size() > 1, "Too few itemsets to compare");
+                    assertEquals(expected,
+                        mine(algorithm, transactions, minSupport, maxDepth, type),
+                        "Unexpected itemsets of type " + type + " for a minimum support of " + minSupport
+                            + " and a maximal length of " + maxDepth);
+                }
+            }
+        }
+    }
+
+    private static List<String> mineRules(final AlgorithmDataStructure algorithm,
+        final List<BitVectorValue> transactions, final double minSupport, final int maxDepth,
+        final double confidence) throws CanceledExecutionException {
+        final AprioriAlgorithm miner =
+            createMiner(algorithm, transactions, minSupport, maxDepth, FrequentItemSet.Type.CLOSED);
+        final List<String> result = new ArrayList<>();
+        for (final AssociationRule rule : miner.getAssociationRules(confidence)) {
+            result.add(rule.getAntecedent().getItems() + " -> " + rule.getConsequent().getItems() + ": support "
+                + rule.getSupport() + ", confidence " + rule.getConfidence() + ", lift " + rule.getLift());
+        }
+        return result;
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AlgorithmDataStructure.class, names = {"FP_GROWTH", "ECLAT"})
+    void testSameAssociationRulesAsApriori(final AlgorithmDataStructure algorithm)
+        throws CanceledExecutionException {
+        for (final int numAlwaysFrequentItems : new int[]{0, 1, 2}) {
+            final List<BitVectorValue> transactions = createTransactions(numAlwaysFrequentItems);
+            for (final double minSupport : new double[]{0.02, 0.1}) {
+                for (final int maxDepth : new int[]{2, 3, NUM_ITEMS}) {
+                    for (final double confidence : new double[]{0.3, 0.8}) {
+                        final List<String> expected =
+                            mineRules(AlgorithmDataStructure.ARRAY, transactions, minSupport, maxDepth, confidence);
+                        assertTrue(expected.size() > 1, "Too few association rules to compare");
+                        assertEquals(expected,
+                            mineRules(algorithm, transactions, minSupport, maxDepth, confidence),
+                            "Unexpected association rules for " + numAlwaysFrequentItems
+                                + " always frequent items, a minimum support of " + minSupport
+                                + ", a maximal length of " + maxDepth + " and a minimum confidence of "
+                                + confidence);
+                    }
+                }
+            }
+        }
+    }
+}
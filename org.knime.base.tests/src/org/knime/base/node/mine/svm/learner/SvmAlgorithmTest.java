@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.svm.learner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.knime.base.node.mine.svm.Svm;
+import org.knime.base.node.mine.svm.kernel.RBFKernel;
+import org.knime.base.node.mine.svm.util.DoubleVector;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Tests for {@link SvmAlgorithm} with a {@link KernelCache}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+class SvmAlgorithmTest {
+
+    private static final String[] CLASSES = {"A", "B", "C"};
+
+    private static DoubleVector[] createData(final int numRows) {
+        final Random random = new Random(3);
+        final DoubleVector[] data = new DoubleVector[numRows];
+        for (int i = 0; i < numRows; i++) {
+            final int c = random.nextInt(CLASSES.length);
+            final ArrayList<Double> values = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                values.add(random.nextGaussian() + (j == c ? 1.5 : 0));
+            }
+            data[i] = new DoubleVector(values, CLASSES[c]);
+        }
+        return data;
+    }
+
+    private static RBFKernel createKernel() {
+        final RBFKernel kernel = new RBFKernel();
+        kernel.setParameter(0, 1.0);
+        return kernel;
+    }
+
+    /** A shared cache, even if it is too small for the kernel matrix, yields exactly the same models. */
+    @Test
+    void testSharedCacheYieldsIdenticalModels() throws Exception {
+        final DoubleVector[] data = createData(600);
+        final RBFKernel kernel = createKernel();
+        for (final int cacheSizeMB : new int[]{1, KernelCache.DEFAULT_CACHE_SIZE_MB}) {
+            final KernelCache cache = new KernelCache(data, kernel, cacheSizeMB);
+            for (final String positiveClass : CLASSES) {
+                final Svm expected = new SvmAlgorithm(data, positiveClass, kernel, 1.0).run(new ExecutionMonitor());
+                final Svm actual = new SvmAlgorithm(cache, positiveClass, 1.0, false).run(new ExecutionMonitor());
+                assertArrayEquals(expected.getAlphas(), actual.getAlphas(), 0);
+                assertArrayEquals(expected.getSupportVectors(), actual.getSupportVectors());
+                assertEquals(expected.getThreshold(), actual.getThreshold(), 0);
+            }
+        }
+    }
+
+    /** Shrinking converges to a solution within the tolerance of the optimization. */
+    @Test
+    void testShrinking() throws Exception {
+        final DoubleVector[] data = createData(600);
+        final RBFKernel kernel = createKernel();
+        final KernelCache cache = new KernelCache(data, kernel, KernelCache.DEFAULT_CACHE_SIZE_MB);
+        for (final String positiveClass : CLASSES) {
+            final Svm expected = new SvmAlgorithm(cache, positiveClass, 1.0, false).run(new ExecutionMonitor());
+            final Svm actual = new SvmAlgorithm(cache, positiveClass, 1.0, true).run(new ExecutionMonitor());
+            assertEquals(expected.getThreshold(), actual.getThreshold(), 1e-2);
+            int differences = 0;
+            for (final DoubleVector vector : data) {
+                if ((expected.distance(vector) > 0) != (actual.distance(vector) > 0)) {
+                    differences++;
+                }
+            }
+            assertTrue(differences <= data.length / 100, "Too many different predictions: " + differences);
+        }
+    }
+}
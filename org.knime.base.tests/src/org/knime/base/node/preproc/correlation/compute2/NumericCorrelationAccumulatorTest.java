@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.correlation.compute2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NumericCorrelationAccumulator}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("javadoc")
+class NumericCorrelationAccumulatorTest {
+
+    private static final int ROWS = 3 * NumericCorrelationAccumulator.BATCH_SIZE + 17;
+
+    private static final int COLUMNS = 41;
+
+    @Test
+    void testSumsWithoutMissingValues() throws Exception {
+        testSums(0);
+    }
+
+    @Test
+    void testSumsWithMissingValues() throws Exception {
+        testSums(0.1);
+    }
+
+    /** The pairwise-complete sums equal those of a row-by-row computation, irrespective of the shift. */
+    private static void testSums(final double missingRate) throws Exception {
+        final Random random = new Random(5);
+        final double[][] values = new double[ROWS][COLUMNS];
+        final boolean[][] missing = new boolean[ROWS][COLUMNS];
+        final NumericCorrelationAccumulator accumulator = new NumericCorrelationAccumulator(COLUMNS);
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                values[r][c] = 1000 * c + random.nextGaussian();
+                missing[r][c] = random.nextDouble() < missingRate;
+                if (missing[r][c]) {
+                    accumulator.setMissing(c);
+                } else {
+                    accumulator.setValue(c, values[r][c]);
+                }
+            }
+            accumulator.nextRow();
+        }
+        accumulator.flush();
+
+        for (int i = 0; i < COLUMNS; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                final double shiftI = accumulator.getShift(i);
+                final double shiftJ = accumulator.getShift(j);
+                long count = 0;
+                double sum = 0;
+                double squareSum = 0;
+                double productSum = 0;
+                for (int r = 0; r < ROWS; r++) {
+                    if (!missing[r][i] && !missing[r][j]) {
+                        count++;
+                        sum += values[r][i] - shiftI;
+                        squareSum += (values[r][i] - shiftI) * (values[r][i] - shiftI);
+                        productSum += (values[r][i] - shiftI) * (values[r][j] - shiftJ);
+                    }
+                }
+                assertEquals(count, accumulator.getValidCount(i, j));
+                assertEquals(sum, accumulator.getSum(i, j), 1e-8);
+                assertEquals(squareSum, accumulator.getSquareSum(i, j), 1e-8);
+                assertEquals(productSum, accumulator.getProductSum(i, j), 1e-8);
+            }
+        }
+    }
+
+    /** NaN values only affect the pairs for which the other column is not missing. */
+    @Test
+    void testNaNWithMissingValue() throws Exception {
+        final NumericCorrelationAccumulator accumulator = new NumericCorrelationAccumulator(3);
+        final double[][] rows = {{1, 2, 3}, {Double.NaN, Double.NaN, 5}, {3, 4, 7}};
+        for (final double[] row : rows) {
+            accumulator.setValue(0, row[0]);
+            if (Double.isNaN(row[1])) {
+                accumulator.setMissing(1);
+            } else {
+                accumulator.setValue(1, row[1]);
+            }
+            accumulator.setValue(2, row[2]);
+            accumulator.nextRow();
+        }
+        accumulator.flush();
+        assertEquals(2, accumulator.getValidCount(0, 1));
+        assertEquals(2, accumulator.getSum(0, 1), 0);
+        assertEquals(Double.NaN, accumulator.getSum(0, 2));
+        assertEquals(4, accumulator.getSquareSum(1, 2), 0);
+    }
+}
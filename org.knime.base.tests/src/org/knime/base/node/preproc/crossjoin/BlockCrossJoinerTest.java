@@ -0,0 +1,285 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.crossjoin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link BlockCrossJoiner}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class BlockCrossJoinerTest {
+
+    private static final int NUM_LEFT_ROWS = 60;
+
+    private static final int NUM_RIGHT_ROWS = 250;
+
+    private static final int RIGHT_BLOCK_SIZE = 7;
+
+    private static final int[] CHUNK_SIZES = {1, 3, 8, 1000};
+
+    /** Table with a double column where every thirteenth value is missing and a string column. */
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final String prefix, final int numRows) {
+        final var dts = new DataTableSpec(new DataColumnSpecCreator(prefix + "Value", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator(prefix + "Name", StringCell.TYPE).createSpec());
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < numRows; i++) {
+            final DataCell value = i % 13 == 0 ? DataType.getMissingCell() : new DoubleCell((i * 37 % 101) / 4.0);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), value, new StringCell(prefix + i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static DataTableSpec createSpec(final BufferedDataTable left, final BufferedDataTable right,
+        final boolean showLeft, final boolean showRight) {
+        final List<DataColumnSpec> colSpecs = new ArrayList<>();
+        left.getDataTableSpec().forEach(colSpecs::add);
+        right.getDataTableSpec().forEach(colSpecs::add);
+        if (showLeft) {
+            colSpecs.add(new DataColumnSpecCreator("FirstRowIDs", StringCell.TYPE).createSpec());
+        }
+        if (showRight) {
+            colSpecs.add(new DataColumnSpecCreator("SecondRowIDs", StringCell.TYPE).createSpec());
+        }
+        return new DataTableSpec(colSpecs.toArray(DataColumnSpec[]::new));
+    }
+
+    private static List<String> join(final ExecutionContext ctx, final BufferedDataTable left,
+        final BufferedDataTable right, final boolean showLeft, final boolean showRight,
+        final BlockCrossJoiner.PairFilter filter, final int chunkSize, final boolean cacheRight) throws Exception {
+        final var joiner = new BlockCrossJoiner(right, chunkSize, "_", showLeft, showRight, filter) {
+            @Override
+            boolean blockFull(final int cachedRows, final MemoryActionIndicator memIndicator) {
+                return !cacheRight && cachedRows >= RIGHT_BLOCK_SIZE;
+            }
+        };
+        final var output =
+            new BufferedDataTableRowOutput(ctx.createDataContainer(createSpec(left, right, showLeft, showRight)));
+        joiner.join(ctx, new DataTableRowInput(left), left.size(), output);
+        final List<String> rows = new ArrayList<>();
+        for (final DataRow row : output.getDataTable()) {
+            rows.add(toString(row));
+        }
+        return rows;
+    }
+
+    /**
+     * The pairs joined by a nested loop over the chunks of top rows, the chunks of bottom rows, the top rows and the
+     * bottom rows, which is the order of the node before the block-wise join.
+     */
+    private static List<String> expectedJoin(final BufferedDataTable left, final BufferedDataTable right,
+        final boolean showLeft, final boolean showRight, final BiPredicate<DataRow, DataRow> filter,
+        final int chunkSize) {
+        final List<DataRow> leftRows = new ArrayList<>();
+        left.forEach(leftRows::add);
+        final List<DataRow> rightRows = new ArrayList<>();
+        right.forEach(rightRows::add);
+        final List<String> expected = new ArrayList<>();
+        for (var leftFrom = 0; leftFrom < leftRows.size(); leftFrom += chunkSize) {
+            for (var rightFrom = 0; rightFrom < rightRows.size(); rightFrom += chunkSize) {
+                for (final DataRow l : leftRows.subList(leftFrom, Math.min(leftRows.size(), leftFrom + chunkSize))) {
+                    for (final DataRow r : rightRows.subList(rightFrom,
+                        Math.min(rightRows.size(), rightFrom + chunkSize))) {
+                        if (filter.test(l, r)) {
+                            expected.add(toString(joinRows(l, r, showLeft, showRight)));
+                        }
+                    }
+                }
+            }
+        }
+        return expected;
+    }
+
+    private static DataRow joinRows(final DataRow left, final DataRow right, final boolean showLeft,
+        final boolean showRight) {
+        final List<DataCell> cells = new ArrayList<>();
+        left.forEach(cells::add);
+        right.forEach(cells::add);
+        if (showLeft) {
+            cells.add(new StringCell(left.getKey().getString()));
+        }
+        if (showRight) {
+            cells.add(new StringCell(right.getKey().getString()));
+        }
+        return new DefaultRow(left.getKey().getString() + "_" + right.getKey().getString(), cells);
+    }
+
+    private static String toString(final DataRow row) {
+        final var sb = new StringBuilder(row.getKey().getString());
+        row.forEach(cell -> sb.append(", ").append(cell));
+        return sb.toString();
+    }
+
+    /**
+     * Tests that the cached bottom table is joined in the order of the chunks.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testCachedJoin(final ExecutionContext ctx) throws Exception {
+        final var left = createTable(ctx, "left", NUM_LEFT_ROWS);
+        final var right = createTable(ctx, "right", NUM_RIGHT_ROWS);
+        for (final int chunkSize : CHUNK_SIZES) {
+            assertEquals(expectedJoin(left, right, false, false, (l, r) -> true, chunkSize),
+                join(ctx, left, right, false, false, null, chunkSize, true),
+                "Wrong cross join for chunk size " + chunkSize);
+        }
+    }
+
+    /**
+     * Tests that a bottom table that does not fit into memory is joined block by block in the same order as a
+     * cached one.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testBlockwiseJoin(final ExecutionContext ctx) throws Exception {
+        final var left = createTable(ctx, "left", NUM_LEFT_ROWS);
+        final var right = createTable(ctx, "right", NUM_RIGHT_ROWS);
+        for (final int chunkSize : CHUNK_SIZES) {
+            assertEquals(expectedJoin(left, right, false, false, (l, r) -> true, chunkSize),
+                join(ctx, left, right, false, false, null, chunkSize, false),
+                "Wrong block-wise cross join for chunk size " + chunkSize);
+        }
+    }
+
+    /**
+     * Tests that the appended RowIDs are those of the joined rows.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testAppendRowIDs(final ExecutionContext ctx) throws Exception {
+        final var left = createTable(ctx, "left", NUM_LEFT_ROWS);
+        final var right = createTable(ctx, "right", NUM_RIGHT_ROWS);
+        for (final boolean showLeft : new boolean[]{false, true}) {
+            for (final boolean showRight : new boolean[]{false, true}) {
+                assertEquals(expectedJoin(left, right, showLeft, showRight, (l, r) -> true, 1),
+                    join(ctx, left, right, showLeft, showRight, null, 1, true),
+                    "Wrong RowIDs for " + showLeft + ", " + showRight);
+            }
+        }
+    }
+
+    /**
+     * Tests that the band filter yields the same rows as filtering the cross join afterwards.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testBandFilter(final ExecutionContext ctx) throws Exception {
+        final var left = createTable(ctx, "left", NUM_LEFT_ROWS);
+        final var right = createTable(ctx, "right", NUM_RIGHT_ROWS);
+        final double[][] bounds = {{0, 0}, {-1.5, 2}, {3, 10}, {-100, 100}, {1, -1}};
+        for (final double[] bound : bounds) {
+            final BiPredicate<DataRow, DataRow> inBand = (l, r) -> {
+                if (l.getCell(0).isMissing() || r.getCell(0).isMissing()) {
+                    return false;
+                }
+                final double difference =
+                    ((DoubleValue)r.getCell(0)).getDoubleValue() - ((DoubleValue)l.getCell(0)).getDoubleValue();
+                return difference >= bound[0] && difference <= bound[1];
+            };
+            for (final int chunkSize : CHUNK_SIZES) {
+                for (final boolean cacheRight : new boolean[]{true, false}) {
+                    assertEquals(expectedJoin(left, right, false, true, inBand, chunkSize),
+                        join(ctx, left, right, false, true,
+                            BlockCrossJoiner.createBandFilter(0, 0, bound[0], bound[1]), chunkSize, cacheRight),
+                        "Wrong filtered cross join for [" + bound[0] + ", " + bound[1] + "], chunk size "
+                            + chunkSize + ", cached " + cacheRight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that an empty table yields an empty join.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testEmptyTable(final ExecutionContext ctx) throws Exception {
+        final var left = createTable(ctx, "left", NUM_LEFT_ROWS);
+        final var empty = createTable(ctx, "right", 0);
+        assertEquals(List.of(), join(ctx, left, empty, false, false, null, 1, true), "Wrong join with empty bottom");
+        assertEquals(List.of(), join(ctx, empty, left, false, false, null, 1, true), "Wrong join with empty top");
+    }
+}
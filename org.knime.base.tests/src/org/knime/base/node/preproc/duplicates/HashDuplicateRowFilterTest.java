@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.duplicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.base.node.preproc.duplicates.DuplicateRowFilterSettings.RowSelectionType;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link HashDuplicateRowFilter}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class HashDuplicateRowFilterTest {
+
+    private static final int NUM_GROUPS = 150;
+
+    private static final int NUM_ROWS = 1500;
+
+    /** Table with a group column, where every tenth group is unique, and a reference column with missing values. */
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var dts = new DataTableSpec(new String[]{"group", "value"}, new DataType[]{IntCell.TYPE, IntCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < NUM_ROWS; i++) {
+            final var group = i < NUM_GROUPS ? i : (i * 7919 % NUM_GROUPS);
+            final var groupCell = group % 10 == 0 && i >= NUM_GROUPS ? new IntCell(-i) : new IntCell(group);
+            final DataCell value = i % 13 == 0 ? DataType.getMissingCell() : new IntCell(i * 31 % 17);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), groupCell, value));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Computes the expected status of each row by scanning all rows of the same group. */
+    private static List<String> expectedResult(final BufferedDataTable table, final RowSelectionType type) {
+        final List<DataCell[]> rows = new ArrayList<>();
+        final Map<DataCell, Integer> chosen = new HashMap<>();
+        final Map<DataCell, Integer> counts = new HashMap<>();
+        for (final var row : table) {
+            final var index = rows.size();
+            final var group = row.getCell(0);
+            final var value = row.getCell(1);
+            rows.add(new DataCell[]{group, value});
+            counts.merge(group, 1, Integer::sum);
+            final var prev = chosen.get(group);
+            if (prev == null || type == RowSelectionType.LAST || (type.supportsRefCol()
+                && isPreferred(value, rows.get(prev)[1], type == RowSelectionType.MAXIMUM))) {
+                chosen.put(group, index);
+            }
+        }
+        final List<String> expected = new ArrayList<>();
+        for (var i = 0; i < rows.size(); i++) {
+            final var group = rows.get(i)[0];
+            if (counts.get(group) == 1) {
+                expected.add(i + ":unique");
+            } else if (chosen.get(group) == i) {
+                expected.add(i + ":chosen");
+            } else {
+                expected.add(i + ":duplicate:" + RowKey.createRowKey((long)chosen.get(group)).getString());
+            }
+        }
+        return expected;
+    }
+
+    private static boolean isPreferred(final DataCell value, final DataCell current, final boolean max) {
+        if (value.isMissing()) {
+            return false;
+        }
+        if (current.isMissing()) {
+            return true;
+        }
+        final var diff = ((IntValue)value).getIntValue() - ((IntValue)current).getIntValue();
+        return max ? diff > 0 : diff < 0;
+    }
+
+    private static List<String> filter(final ExecutionContext ctx, final BufferedDataTable table,
+        final RowSelectionType type, final boolean removeDuplicates, final boolean spill)
+        throws CanceledExecutionException {
+        final var filter = new HashDuplicateRowFilter(type, removeDuplicates, false) {
+            @Override
+            boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+                return spill && groupsInMemory >= 3;
+            }
+        };
+        final List<String> result = new ArrayList<>();
+        final var refIndex = type.supportsRefCol() ? 1 : -1;
+        filter.filter(ctx, table, new int[]{0}, refIndex, (row, status, referenceKey) -> {
+            final var index = Integer.parseInt(row.getKey().getString().substring(3));
+            if (status == DuplicateRowFilterNodeModel.DUPLICATE_IDENTIFIER) {
+                if (!removeDuplicates) {
+                    result.add(index + ":duplicate:" + ((StringCell)referenceKey).getStringValue());
+                }
+            } else {
+                result.add(index + ":" + status.getStringValue());
+            }
+        });
+        return result;
+    }
+
+    @ParameterizedTest
+    @EnumSource(RowSelectionType.class)
+    void testFlagDuplicates(final RowSelectionType type, final ExecutionContext ctx)
+        throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var expected = expectedResult(table, type);
+        assertEquals(expected, filter(ctx, table, type, false, false), "Wrong result without spilling");
+        assertEquals(expected, filter(ctx, table, type, false, true), "Wrong result with spilling");
+    }
+
+    @ParameterizedTest
+    @EnumSource(RowSelectionType.class)
+    void testRemoveDuplicates(final RowSelectionType type, final ExecutionContext ctx)
+        throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var expected = expectedResult(table, type).stream().filter(s -> !s.contains(":duplicate:")).toList();
+        assertEquals(expected, filter(ctx, table, type, true, false), "Wrong result without spilling");
+        assertEquals(expected, filter(ctx, table, type, true, true), "Wrong result with spilling");
+    }
+}
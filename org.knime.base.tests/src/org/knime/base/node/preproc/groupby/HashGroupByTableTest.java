@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link HashGroupByTable}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class HashGroupByTableTest {
+
+    private static final int NUM_GROUPS = 200;
+
+    private static final int ROWS_PER_GROUP = 7;
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var dts = new DataTableSpec(new String[]{"group"}, new DataType[]{IntCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        var rowIdx = 0L;
+        for (var i = 0; i < ROWS_PER_GROUP; i++) {
+            for (var g = 0; g < NUM_GROUPS; g++) {
+                container.addRowToTable(new DefaultRow(RowKey.createRowKey(rowIdx++), new IntCell(g)));
+            }
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static GlobalSettings createGlobalSettings(final BufferedDataTable table, final List<String> groupBy) {
+        return GlobalSettings.builder().setAggregationContext(AggregationContext.ROW_AGGREGATION)
+            .setDataTableSpec(table.getDataTableSpec())
+            .setGroupColNames(groupBy)
+            .setValueDelimiter(GlobalSettings.STANDARD_DELIMITER)
+            .build();
+    }
+
+    private static Map<Integer, Long> collectCounts(final BufferedDataTable aggregated) {
+        final Map<Integer, Long> counts = new HashMap<>();
+        try (final var it = aggregated.iterator()) {
+            while (it.hasNext()) {
+                final var row = it.next();
+                final var group = ((IntValue)row.getCell(0)).getIntValue();
+                final var count = ((LongValue)row.getCell(1)).getLongValue();
+                assertEquals(null, counts.put(group, count), "Group must only occur once: " + group);
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    void testInMemoryAggregation(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var tbl = createTable(ctx);
+        final var groupBy = Arrays.asList("group");
+        final var gbt = new HashGroupByTable(ctx, tbl, groupBy, new ColumnAggregator[0], "COUNT",
+            createGlobalSettings(tbl, groupBy), false, ColumnNamePolicy.KEEP_ORIGINAL_NAME, false);
+        final var counts = collectCounts(gbt.getBufferedTable());
+        assertEquals(NUM_GROUPS, counts.size(), "Unexpected number of groups");
+        counts.values().forEach(c -> assertEquals(ROWS_PER_GROUP, c.longValue(), "Unexpected group size"));
+    }
+
+    @Test
+    void testSpilledAggregation(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var tbl = createTable(ctx);
+        final var groupBy = Arrays.asList("group");
+        // force spilling as soon as more than two groups are in memory on every recursion level
+        final var gbt = new HashGroupByTable(ctx, tbl, groupBy, new ColumnAggregator[0], "COUNT",
+            createGlobalSettings(tbl, groupBy), true, ColumnNamePolicy.KEEP_ORIGINAL_NAME, false) {
+            @Override
+            boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+                return groupsInMemory >= 2;
+            }
+        };
+        final var aggregated = gbt.getBufferedTable();
+        final var counts = collectCounts(aggregated);
+        assertEquals(NUM_GROUPS, counts.size(), "Unexpected number of groups");
+        counts.values().forEach(c -> assertEquals(ROWS_PER_GROUP, c.longValue(), "Unexpected group size"));
+        try (final var it = aggregated.iterator()) {
+            for (var i = 0L; it.hasNext(); i++) {
+                final var row = it.next();
+                assertEquals(RowKey.createRowKey(i), row.getKey(), "Row keys should be consecutive.");
+                assertEquals(ROWS_PER_GROUP, gbt.getHiliteMapping().get(row.getKey()).size(),
+                    "Hilite mapping should contain all rows of the group");
+            }
+        }
+    }
+
+    @Test
+    void testRetainOrderWithSpilling(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var tbl = createTable(ctx);
+        final var groupBy = Arrays.asList("group");
+        final var gbt = new HashGroupByTable(ctx, tbl, groupBy, new ColumnAggregator[0], null,
+            createGlobalSettings(tbl, groupBy), false, ColumnNamePolicy.KEEP_ORIGINAL_NAME, true) {
+            @Override
+            boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+                return groupsInMemory >= 5;
+            }
+        };
+        final var aggregated = gbt.getBufferedTable();
+        assertEquals(NUM_GROUPS, aggregated.size(), "Unexpected number of groups");
+        try (final var it = aggregated.iterator()) {
+            for (var g = 0; it.hasNext(); g++) {
+                final DataCell cell = it.next().getCell(0);
+                assertEquals(g, ((IntValue)cell).getIntValue(), "Groups should be in order of first occurrence");
+            }
+        }
+    }
+}
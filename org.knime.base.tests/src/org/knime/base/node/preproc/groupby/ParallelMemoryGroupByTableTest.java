@@ -0,0 +1,157 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.data.aggregation.AggregationMethods;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link ParallelMemoryGroupByTable}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class ParallelMemoryGroupByTableTest {
+
+    private static final String[] METHOD_IDS =
+        {"Sum_V2.5.2", "Mean_V4.6", "Minimum", "Maximum", "First", "Last", "Variance"};
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int rows) {
+        final var dts = new DataTableSpec(new String[]{"group", "value"},
+            new DataType[]{IntCell.TYPE, DoubleCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < rows; i++) {
+            final DataCell value = i % 13 == 0 ? DataType.getMissingCell() : new DoubleCell((i * 31) % 1000);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i % 97), value));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static ColumnAggregator[] createAggregators(final DataTableSpec spec) {
+        return Arrays.stream(METHOD_IDS)
+            .map(id -> new ColumnAggregator(spec.getColumnSpec("value"), AggregationMethods.getMethod4Id(id)))
+            .toArray(ColumnAggregator[]::new);
+    }
+
+    private static GlobalSettings createGlobalSettings(final BufferedDataTable table, final List<String> groupBy) {
+        return GlobalSettings.builder().setAggregationContext(AggregationContext.ROW_AGGREGATION)
+            .setDataTableSpec(table.getDataTableSpec())
+            .setGroupColNames(groupBy)
+            .setValueDelimiter(GlobalSettings.STANDARD_DELIMITER)
+            .setNoOfRows(table.size())
+            .build();
+    }
+
+    @Test
+    void testSameResultAsSerialAggregation(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var tbl = createTable(ctx, 100_000);
+        final var groupBy = Arrays.asList("group");
+        final var serial = new MemoryGroupByTable(ctx, tbl, groupBy, createAggregators(tbl.getDataTableSpec()),
+            "COUNT", createGlobalSettings(tbl, groupBy), true, ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME,
+            false);
+        final var parallel = new ParallelMemoryGroupByTable(ctx, tbl, groupBy,
+            createAggregators(tbl.getDataTableSpec()), "COUNT", createGlobalSettings(tbl, groupBy), true,
+            ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, false);
+
+        final var expected = serial.getBufferedTable();
+        final var actual = parallel.getBufferedTable();
+        assertEquals(expected.getDataTableSpec(), actual.getDataTableSpec(), "Specs differ");
+        assertEquals(expected.size(), actual.size(), "Number of groups differs");
+        try (final var expIt = expected.iterator(); final var actIt = actual.iterator()) {
+            while (expIt.hasNext()) {
+                final var expRow = expIt.next();
+                final var actRow = actIt.next();
+                assertEquals(expRow.getKey(), actRow.getKey(), "Row keys differ");
+                for (var i = 0; i < expRow.getNumCells(); i++) {
+                    final var expCell = expRow.getCell(i);
+                    final var actCell = actRow.getCell(i);
+                    if (expCell instanceof DoubleCell expDouble && actCell instanceof DoubleValue actDouble) {
+                        assertEquals(expDouble.getDoubleValue(), actDouble.getDoubleValue(), 1e-6,
+                            "Aggregate differs in column " + i);
+                    } else {
+                        assertEquals(expCell, actCell, "Aggregate differs in column " + i);
+                    }
+                }
+                assertEquals(serial.getHiliteMapping().get(expRow.getKey()),
+                    parallel.getHiliteMapping().get(actRow.getKey()), "Hilite mapping differs");
+            }
+            assertFalse(actIt.hasNext(), "Table should not contain more rows.");
+        }
+        assertEquals(serial.getMissingValuesMap(), parallel.getMissingValuesMap(), "Missing value counts differ");
+    }
+
+    @Test
+    void testSmallTablesAreNotSplit() {
+        assertEquals(1, ParallelMemoryGroupByTable.getNumberOfRanges(ParallelMemoryGroupByTable.MIN_ROWS_PER_RANGE));
+        assertEquals(1, ParallelMemoryGroupByTable.getNumberOfRanges(0));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.pivot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.data.aggregation.AggregationMethods;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.GlobalSettings.AggregationContext;
+import org.knime.base.node.preproc.groupby.ColumnNamePolicy;
+import org.knime.base.node.preproc.groupby.GroupByTable;
+import org.knime.base.node.preproc.groupby.GroupKey;
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link HashPivotTable}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class HashPivotTableTest {
+
+    private static final int NUM_GROUPS = 50;
+
+    private static final int NUM_PIVOTS = 4;
+
+    private static final int NUM_ROWS = 1_000;
+
+    private static final List<String> GROUP_COLS = Arrays.asList("group");
+
+    private static final List<String> PIVOT_COLS = Arrays.asList("pivot");
+
+    /** The groups occur in descending order to distinguish the sorted from the original order. */
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var dts = new DataTableSpec(new String[]{"group", "pivot", "value"},
+            new DataType[]{IntCell.TYPE, StringCell.TYPE, DoubleCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                new IntCell(NUM_GROUPS - 1 - i % NUM_GROUPS), new StringCell("p" + i % NUM_PIVOTS),
+                new DoubleCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static HashPivotTable createPivotTable(final BufferedDataTable table, final boolean inMemory,
+        final boolean retainOrder, final int maxGroupsInMemory) {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final List<ColumnAggregator> aggregators = Arrays
+            .asList(new ColumnAggregator(spec.getColumnSpec("value"), AggregationMethods.getMethod4Id("Sum_V2.5.2")));
+        final List<String> groupAndPivotCols = new ArrayList<>(GROUP_COLS);
+        groupAndPivotCols.addAll(PIVOT_COLS);
+        final DataTableSpec groupSpec = GroupByTable.createGroupByTableSpec(spec, groupAndPivotCols,
+            aggregators.toArray(new ColumnAggregator[0]), ColumnNamePolicy.KEEP_ORIGINAL_NAME);
+        final GlobalSettings globalSettings = GlobalSettings.builder()
+            .setAggregationContext(AggregationContext.ROW_AGGREGATION) //
+            .setDataTableSpec(spec) //
+            .setGroupColNames(groupAndPivotCols) //
+            .setValueDelimiter(GlobalSettings.STANDARD_DELIMITER) //
+            .setNoOfRows(table.size()) //
+            .build();
+        return new HashPivotTable(table, GROUP_COLS, PIVOT_COLS, aggregators, globalSettings, groupSpec, false,
+            inMemory, retainOrder, false) {
+            @Override
+            boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+                return groupsInMemory >= maxGroupsInMemory;
+            }
+        };
+    }
+
+    /** Aggregates the table and creates a pivot table with one sum column per pivot value. */
+    private static BufferedDataTable pivot(final ExecutionContext ctx, final HashPivotTable pivotTable)
+        throws CanceledExecutionException {
+        pivotTable.aggregate(ctx);
+        @SuppressWarnings("unchecked")
+        final Set<String>[] combPivots = new Set[1];
+        pivotTable.addPivotValues(combPivots);
+        final List<DataColumnSpec> colSpecs = new ArrayList<>();
+        colSpecs.add(new DataColumnSpecCreator("group", IntCell.TYPE).createSpec());
+        final Map<String, Integer> pivotStarts = new LinkedHashMap<>();
+        for (final String pivotValue : combPivots[0]) {
+            pivotStarts.put(pivotValue, colSpecs.size());
+            colSpecs.add(new DataColumnSpecCreator(pivotValue, DoubleCell.TYPE).createSpec());
+        }
+        return pivotTable.createPivotTable(ctx, new DataTableSpec(colSpecs.toArray(new DataColumnSpec[0])),
+            pivotStarts);
+    }
+
+    private static Map<Integer, double[]> expectedSums() {
+        final Map<Integer, double[]> sums = new HashMap<>();
+        for (var i = 0; i < NUM_ROWS; i++) {
+            final var sumsOfGroup = sums.computeIfAbsent(NUM_GROUPS - 1 - i % NUM_GROUPS, g -> new double[NUM_PIVOTS]);
+            sumsOfGroup[i % NUM_PIVOTS] += i;
+        }
+        return sums;
+    }
+
+    private static void assertSums(final BufferedDataTable pivotTable) {
+        final Map<Integer, double[]> expected = expectedSums();
+        final DataTableSpec spec = pivotTable.getDataTableSpec();
+        assertEquals(NUM_GROUPS, pivotTable.size(), "Unexpected number of groups");
+        assertEquals(NUM_PIVOTS + 1, spec.getNumColumns(), "Unexpected number of columns");
+        for (final DataRow row : pivotTable) {
+            final int group = ((IntValue)row.getCell(0)).getIntValue();
+            for (var p = 0; p < NUM_PIVOTS; p++) {
+                final DataCell cell = row.getCell(spec.findColumnIndex("p" + p));
+                assertEquals(expected.get(group)[p], ((DoubleValue)cell).getDoubleValue(), 1e-9,
+                    "Unexpected sum of group " + group + " and pivot p" + p);
+            }
+        }
+    }
+
+    private static List<Integer> getGroups(final BufferedDataTable pivotTable) {
+        final List<Integer> groups = new ArrayList<>();
+        for (final DataRow row : pivotTable) {
+            groups.add(((IntValue)row.getCell(0)).getIntValue());
+        }
+        return groups;
+    }
+
+    @Test
+    void testInMemoryPivoting(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var pivotTable = pivot(ctx, createPivotTable(table, true, false, Integer.MAX_VALUE));
+        assertSums(pivotTable);
+        // the groups are kept in the order of their first occurrence
+        final List<Integer> groups = getGroups(pivotTable);
+        for (var g = 0; g < NUM_GROUPS; g++) {
+            assertEquals(NUM_GROUPS - 1 - g, groups.get(g).intValue(), "Unexpected group order");
+        }
+    }
+
+    @Test
+    void testSpilledPivotingSameAsInMemory(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var expected = pivot(ctx, createPivotTable(table, false, false, Integer.MAX_VALUE));
+        final var spilled = pivot(ctx, createPivotTable(table, false, false, 3));
+        assertSums(spilled);
+        assertEquals(expected.getDataTableSpec(), spilled.getDataTableSpec(), "Specs differ");
+        try (final var expIt = expected.iterator(); final var actIt = spilled.iterator()) {
+            while (expIt.hasNext()) {
+                final DataRow expRow = expIt.next();
+                final DataRow actRow = actIt.next();
+                assertEquals(expRow.getKey(), actRow.getKey(), "Row keys differ");
+                for (var i = 0; i < expRow.getNumCells(); i++) {
+                    assertEquals(expRow.getCell(i), actRow.getCell(i), "Cell differs in column " + i);
+                }
+            }
+        }
+        // the groups are sorted if the row order is not retained
+        final List<Integer> groups = getGroups(spilled);
+        for (var g = 0; g < NUM_GROUPS; g++) {
+            assertEquals(g, groups.get(g).intValue(), "Unexpected group order");
+        }
+    }
+
+    @Test
+    void testRetainOrderWithSpilling(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var pivotTable = pivot(ctx, createPivotTable(table, false, true, 5));
+        assertSums(pivotTable);
+        final List<Integer> groups = getGroups(pivotTable);
+        for (var g = 0; g < NUM_GROUPS; g++) {
+            assertEquals(NUM_GROUPS - 1 - g, groups.get(g).intValue(), "Unexpected group order");
+        }
+    }
+
+    @Test
+    void testPartitionIndexDiffersPerLevel() {
+        final var key = new GroupKey(new DataCell[]{new IntCell(42), new StringCell("p1")});
+        var differs = false;
+        for (var level = 0; level < HashPartitions.MAX_SPILL_LEVEL; level++) {
+            final var idx = HashPartitions.partitionIndex(key.hashCode(), level, HashPartitions.NUM_PARTITIONS);
+            assertTrue(idx >= 0 && idx < HashPartitions.NUM_PARTITIONS, "Partition index out of range");
+            differs |= idx != HashPartitions.partitionIndex(key.hashCode(), 0, HashPartitions.NUM_PARTITIONS);
+        }
+        assertTrue(differs, "Partition index should depend on the recursion level");
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.node.preproc.rank.RankNodeSettings.RankMode;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.sort.RowComparator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link PartitionedRanker}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class PartitionedRankerTest {
+
+    private static final int NUM_ROWS = 2_000;
+
+    private static final int NUM_GROUPS = 7;
+
+    private static final int NUM_VALUES = 10;
+
+    private static int group(final int row) {
+        return row % NUM_GROUPS;
+    }
+
+    private static int value(final int row) {
+        return (row * 13) % NUM_VALUES;
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var dts =
+            new DataTableSpec(new String[]{"group", "value"}, new DataType[]{IntCell.TYPE, IntCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new IntCell(group(i)), new IntCell(value(i))));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static RowComparator createComparator(final DataTableSpec keySpec) {
+        final var rc = RowComparator.on(keySpec);
+        rc.thenComparingColumn(keySpec.findColumnIndex("value"), c -> c.withDescendingSortOrder(false));
+        return rc.build();
+    }
+
+    /**
+     * @param grouped <code>true</code> if the rows are ranked within their group, otherwise within the whole table
+     * @param numPartitions the number of hash partitions
+     * @param maxRowsInMemory the maximum number of rows that are ranked in memory
+     */
+    private static PartitionedRanker createRanker(final BufferedDataTable table, final RankMode rankMode,
+        final boolean grouped, final int numPartitions, final int maxRowsInMemory) {
+        return new PartitionedRanker(table.getDataTableSpec(), grouped ? new int[]{0} : new int[0], new int[]{1},
+            PartitionedRankerTest::createComparator, rankMode, true) {
+            @Override
+            int getNumberOfPartitions(final long rowCount) {
+                return numPartitions;
+            }
+
+            @Override
+            int getMaxRowsInMemory() {
+                return maxRowsInMemory;
+            }
+        };
+    }
+
+    /** Computes the expected rank of the given row by counting the rows of its group that are ranked before it. */
+    private static long expectedRank(final int row, final RankMode rankMode, final boolean grouped) {
+        long smaller = 0;
+        long tiedBefore = 0;
+        final var smallerValues = new boolean[NUM_VALUES];
+        for (var i = 0; i < NUM_ROWS; i++) {
+            if (!grouped || group(i) == group(row)) {
+                if (value(i) < value(row)) {
+                    smaller++;
+                    smallerValues[value(i)] = true;
+                } else if (value(i) == value(row) && i < row) {
+                    tiedBefore++;
+                }
+            }
+        }
+        return switch (rankMode) {
+            case STANDARD -> smaller + 1;
+            case DENSE -> {
+                long distinct = 0;
+                for (final boolean smallerValue : smallerValues) {
+                    distinct += smallerValue ? 1 : 0;
+                }
+                yield distinct + 1;
+            }
+            case ORDINAL -> smaller + tiedBefore + 1;
+        };
+    }
+
+    private static void assertRanks(final ExecutionContext ctx, final RankMode rankMode, final boolean grouped,
+        final int numPartitions, final int maxRowsInMemory) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var ranked = createRanker(table, rankMode, grouped, numPartitions, maxRowsInMemory).appendRanks(ctx,
+            table, new DataColumnSpecCreator("Rank", LongCell.TYPE).createSpec());
+        assertEquals(NUM_ROWS, ranked.size(), "Unexpected number of rows");
+        assertEquals(3, ranked.getDataTableSpec().getNumColumns(), "Unexpected number of columns");
+        var i = 0;
+        for (final DataRow row : ranked) {
+            assertEquals(RowKey.createRowKey((long)i), row.getKey(), "Row order not retained");
+            assertEquals(expectedRank(i, rankMode, grouped), ((LongValue)row.getCell(2)).getLongValue(),
+                "Unexpected " + rankMode + " rank of row " + i);
+            i++;
+        }
+    }
+
+    @Test
+    void testInMemoryRanking(final ExecutionContext ctx) throws CanceledExecutionException {
+        for (final RankMode rankMode : RankMode.values()) {
+            assertRanks(ctx, rankMode, true, 1, NUM_ROWS);
+        }
+    }
+
+    @Test
+    void testPartitionedRanking(final ExecutionContext ctx) throws CanceledExecutionException {
+        for (final RankMode rankMode : RankMode.values()) {
+            assertRanks(ctx, rankMode, true, 5, NUM_ROWS);
+        }
+    }
+
+    @Test
+    void testRankingOfPartitionsTooLargeForMemory(final ExecutionContext ctx) throws CanceledExecutionException {
+        for (final RankMode rankMode : RankMode.values()) {
+            // less than the number of rows of a group, so that all partitions are ranked by sorting
+            assertRanks(ctx, rankMode, true, 5, NUM_ROWS / NUM_GROUPS / 2);
+            // only the partitions with several groups are ranked by sorting
+            assertRanks(ctx, rankMode, true, 5, NUM_ROWS / NUM_GROUPS + 1);
+        }
+    }
+
+    @Test
+    void testRankingWithoutCategoriesTooLargeForMemory(final ExecutionContext ctx)
+        throws CanceledExecutionException {
+        for (final RankMode rankMode : RankMode.values()) {
+            assertRanks(ctx, rankMode, false, 5, NUM_ROWS / 2);
+        }
+    }
+
+    @Test
+    void testMaxRowsInMemory(final ExecutionContext ctx) {
+        final var table = createTable(ctx);
+        final var ranker = new PartitionedRanker(table.getDataTableSpec(), new int[]{0}, new int[]{1},
+            PartitionedRankerTest::createComparator, RankMode.STANDARD, true);
+        final int maxRows = ranker.getMaxRowsInMemory();
+        assertTrue(maxRows >= PartitionedRanker.MIN_ROWS_IN_MEMORY, "Too few rows are ranked in memory");
+        assertEquals(1, ranker.getNumberOfPartitions(maxRows), "Rows that fit into memory must not be partitioned");
+        assertEquals(2, ranker.getNumberOfPartitions(maxRows + 1L), "Rows that do not fit must be partitioned");
+    }
+
+    @Test
+    void testSortIsStable() {
+        final int[] values = {2, 1, 2, 0, 1, 0};
+        final int[] order = {0, 1, 2, 3, 4, 5};
+        PartitionedRanker.sort(order, (i, j) -> Integer.compare(values[i], values[j]));
+        assertArrayEquals(new int[]{3, 5, 1, 4, 0, 2}, order, "Tied positions must keep their order");
+    }
+}
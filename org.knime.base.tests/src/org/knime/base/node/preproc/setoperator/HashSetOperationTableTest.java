@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link HashSetOperationTable}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class HashSetOperationTableTest {
+
+    private static final int NUM_ROWS = 600;
+
+    /** Table with an int column of values in [offset, offset + numValues) where every eleventh value is missing. */
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int offset, final int numValues,
+        final int numRows) {
+        final var dts = new DataTableSpec(new String[]{"value"}, new DataType[]{IntCell.TYPE});
+        final var container = ctx.createDataContainer(dts);
+        for (var i = 0; i < numRows; i++) {
+            final DataCell value = i % 11 == 0 ? DataType.getMissingCell() : new IntCell(offset + i * 37 % numValues);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), value));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Collects the distinct values of the given table in order of their first occurrence. */
+    private static Map<DataCell, Set<RowKey>> getValues(final BufferedDataTable table, final boolean skipMissing) {
+        final Map<DataCell, Set<RowKey>> values = new LinkedHashMap<>();
+        for (final DataRow row : table) {
+            final var value = row.getCell(0);
+            if (!skipMissing || !value.isMissing()) {
+                values.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(row.getKey());
+            }
+        }
+        return values;
+    }
+
+    private static List<DataCell> expectedResult(final Map<DataCell, Set<RowKey>> values1,
+        final Map<DataCell, Set<RowKey>> values2, final SetOperation op, final boolean retainOrder) {
+        final List<DataCell> expected = new ArrayList<>();
+        for (final DataCell value : values1.keySet()) {
+            final var inSecond = values2.containsKey(value);
+            if (op == SetOperation.OR || (op == SetOperation.AND) == inSecond) {
+                expected.add(value);
+            }
+        }
+        if (op == SetOperation.OR || op == SetOperation.XOR) {
+            values2.keySet().stream().filter(v -> !values1.containsKey(v)).forEach(expected::add);
+        }
+        if (!retainOrder) {
+            expected.sort(IntCell.TYPE.getComparator()::compare);
+        }
+        return expected;
+    }
+
+    private static HashSetOperationTable createOperation(final BufferedDataTable table1,
+        final BufferedDataTable table2, final SetOperation op, final boolean enableHilite, final boolean skipMissing,
+        final boolean retainOrder, final boolean spill) {
+        return new HashSetOperationTable(false, "value", table1, false, "value", table2, op, enableHilite,
+            skipMissing, retainOrder) {
+            @Override
+            boolean spillRequired(final int valuesInMemory, final MemoryActionIndicator memIndicator) {
+                return spill && valuesInMemory >= 3;
+            }
+        };
+    }
+
+    private static List<DataCell> getCells(final BufferedDataTable table) {
+        final List<DataCell> cells = new ArrayList<>();
+        for (final DataRow row : table) {
+            cells.add(row.getCell(0));
+        }
+        return cells;
+    }
+
+    @ParameterizedTest
+    @EnumSource(SetOperation.class)
+    void testSetOperation(final SetOperation op, final ExecutionContext ctx) throws CanceledExecutionException {
+        // the second table is smaller such that the first table is streamed
+        final var table1 = createTable(ctx, 0, 120, NUM_ROWS);
+        final var table2 = createTable(ctx, 80, 100, NUM_ROWS / 2);
+        for (final boolean skipMissing : new boolean[]{true, false}) {
+            final var values1 = getValues(table1, skipMissing);
+            final var values2 = getValues(table2, skipMissing);
+            for (final boolean retainOrder : new boolean[]{true, false}) {
+                final var expected = expectedResult(values1, values2, op, retainOrder);
+                for (final boolean spill : new boolean[]{false, true}) {
+                    final var result =
+                        createOperation(table1, table2, op, false, skipMissing, retainOrder, spill).compute(ctx);
+                    assertEquals(expected, getCells(result), "Wrong result for skipMissing=" + skipMissing
+                        + ", retainOrder=" + retainOrder + ", spill=" + spill);
+                }
+                final var reversed =
+                    createOperation(table2, table1, op, false, skipMissing, retainOrder, true).compute(ctx);
+                assertEquals(expectedResult(values2, values1, op, retainOrder), getCells(reversed),
+                    "Wrong result with swapped tables");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SetOperation.class)
+    void testHiliteMapping(final SetOperation op, final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table1 = createTable(ctx, 0, 40, NUM_ROWS);
+        final var table2 = createTable(ctx, 30, 20, NUM_ROWS);
+        final var values1 = getValues(table1, true);
+        final var values2 = getValues(table2, true);
+        // spilling is ignored if hiliting is enabled
+        final var operation = createOperation(table1, table2, op, true, true, false, true);
+        final var result = getCells(operation.compute(ctx));
+        assertEquals(expectedResult(values1, values2, op, false), result, "Wrong result");
+        for (var i = 0; i < result.size(); i++) {
+            final var rowKey = RowKey.createRowKey((long)i);
+            assertEquals(values1.get(result.get(i)), operation.getHiliteMapping0().get(rowKey),
+                "Wrong hilite mapping of the first set");
+            assertEquals(values2.get(result.get(i)), operation.getHiliteMapping1().get(rowKey),
+                "Wrong hilite mapping of the second set");
+        }
+    }
+
+    @Test
+    void testDifferentTypes(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table1 = createTable(ctx, 0, 10, 30);
+        final var container = ctx.createDataContainer(new DataTableSpec(new String[]{"value"},
+            new DataType[]{StringCell.TYPE}));
+        for (var i = 5; i < 15; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell(Integer.toString(i))));
+        }
+        container.close();
+        final var operation =
+            createOperation(table1, container.getTable(), SetOperation.AND, false, true, false, false);
+        final List<DataCell> expected = new ArrayList<>();
+        for (var i = 5; i < 10; i++) {
+            expected.add(new StringCell(Integer.toString(i)));
+        }
+        assertEquals(expected, getCells(operation.compute(ctx)), "Values should be compared as strings");
+        assertNull(operation.getHiliteMapping0(), "No hilite mapping expected if hiliting is disabled");
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelColumnName;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link SetOperatorNodeModel}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class SetOperatorNodeModelTest {
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int... values) {
+        final var container =
+            ctx.createDataContainer(new DataTableSpec(new String[]{"value"}, new DataType[]{IntCell.TYPE}));
+        for (var i = 0; i < values.length; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(values[i])));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Creates the settings of the node, without the options added in 5.12 if it is <code>null</code>. */
+    private static NodeSettings createSettings(final Boolean retainOrder) {
+        final var settings = new NodeSettings("model");
+        new SettingsModelColumnName(SetOperatorNodeModel.CFG_COL1, "value").saveSettingsTo(settings);
+        new SettingsModelColumnName(SetOperatorNodeModel.CFG_COL2, "value").saveSettingsTo(settings);
+        new SettingsModelString(SetOperatorNodeModel.CFG_OP, SetOperation.OR.getName()).saveSettingsTo(settings);
+        new SettingsModelBoolean(SetOperatorNodeModel.CFG_SKIP_MISSING, true).saveSettingsTo(settings);
+        new SettingsModelBoolean(SetOperatorNodeModel.CFG_ENABLE_HILITE, false).saveSettingsTo(settings);
+        if (retainOrder != null) {
+            new SettingsModelBoolean(SetOperatorNodeModel.CFG_RETAIN_ORDER, retainOrder).saveSettingsTo(settings);
+            settings.addBoolean(SetOperatorNodeModel.CFG_SORT_TABLES, false);
+        }
+        return settings;
+    }
+
+    private static SetOperatorNodeModel createModel(final NodeSettings settings) throws InvalidSettingsException {
+        final var model = new SetOperatorNodeModel();
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        return model;
+    }
+
+    /** Loads the settings into the dialog and returns the settings saved by it. */
+    private static NodeSettings applyDialog(final NodeSettings settings) throws Exception {
+        final var spec = new DataTableSpec(new String[]{"value"}, new DataType[]{IntCell.TYPE});
+        final var dialog = new SetOperatorNodeDialog();
+        dialog.loadSettingsFrom(settings, new PortObjectSpec[]{spec, spec});
+        final var dialogSettings = new NodeSettings("model");
+        dialog.saveSettingsTo(dialogSettings);
+        return dialogSettings;
+    }
+
+    private static List<String> getRows(final BufferedDataTable table) {
+        final List<String> rows = new ArrayList<>();
+        for (final DataRow row : table) {
+            rows.add(row.getKey() + ": " + row.getCell(0));
+        }
+        return rows;
+    }
+
+    @Test
+    void testOldSettings(final ExecutionContext ctx) throws Exception {
+        final var model = createModel(createSettings(null));
+        final var savedSettings = new NodeSettings("model");
+        model.saveSettingsTo(savedSettings);
+        assertTrue(savedSettings.getBoolean(SetOperatorNodeModel.CFG_SORT_TABLES),
+            "Settings without the sort tables option must be saved with it");
+
+        final var table1 = createTable(ctx, 5, 3, 5, 1);
+        final var table2 = createTable(ctx, 4, 3, 2);
+        final var expected = new SetOperationTable(ctx, false, "value", table1, false, "value", table2,
+            SetOperation.OR, false, true).getBufferedTable();
+        assertEquals(getRows(expected), getRows(model.execute(new BufferedDataTable[]{table1, table2}, ctx)[0]),
+            "Old settings must create the same table as the sorting set operation");
+    }
+
+    @Test
+    void testRetainOrder(final ExecutionContext ctx) throws Exception {
+        final var model = createModel(createSettings(true));
+        final var savedSettings = new NodeSettings("model");
+        model.saveSettingsTo(savedSettings);
+        assertTrue(savedSettings.containsKey(SetOperatorNodeModel.CFG_RETAIN_ORDER),
+            "Retain order option must be saved");
+
+        final var table1 = createTable(ctx, 5, 3, 5, 1);
+        final var table2 = createTable(ctx, 4, 3, 2);
+        final List<DataCell> result = new ArrayList<>();
+        for (final DataRow row : model.execute(new BufferedDataTable[]{table1, table2}, ctx)[0]) {
+            result.add(row.getCell(0));
+        }
+        assertEquals(List.of(new IntCell(5), new IntCell(3), new IntCell(1), new IntCell(4), new IntCell(2)), result,
+            "Values must be ordered by their first occurrence");
+    }
+
+    @Test
+    void testDialogKeepsSortingOfOldSettings(final ExecutionContext ctx) throws Exception {
+        final var savedSettings = new NodeSettings("model");
+        createModel(createSettings(null)).saveSettingsTo(savedSettings);
+        final var dialogSettings = applyDialog(savedSettings);
+        assertTrue(dialogSettings.getBoolean(SetOperatorNodeModel.CFG_SORT_TABLES),
+            "The dialog must keep sorting both tables for old settings");
+
+        final var model = createModel(dialogSettings);
+        final var table1 = createTable(ctx, 5, 3, 5, 1);
+        final var table2 = createTable(ctx, 4, 3, 2);
+        final var expected = new SetOperationTable(ctx, false, "value", table1, false, "value", table2,
+            SetOperation.OR, false, true).getBufferedTable();
+        assertEquals(getRows(expected), getRows(model.execute(new BufferedDataTable[]{table1, table2}, ctx)[0]),
+            "Old settings applied in the dialog must create the same table as the sorting set operation");
+    }
+
+    @Test
+    void testDialogKeepsHashingOfNewSettings() throws Exception {
+        final var savedSettings = new NodeSettings("model");
+        new SetOperatorNodeModel().saveSettingsTo(savedSettings);
+        assertFalse(savedSettings.getBoolean(SetOperatorNodeModel.CFG_SORT_TABLES),
+            "New nodes must not sort both tables");
+        assertFalse(applyDialog(savedSettings).getBoolean(SetOperatorNodeModel.CFG_SORT_TABLES),
+            "The dialog must not switch new nodes to sorting both tables");
+        assertTrue(applyDialog(createSettings(true)).getBoolean(SetOperatorNodeModel.CFG_RETAIN_ORDER),
+            "The dialog must keep the retain order option");
+    }
+}
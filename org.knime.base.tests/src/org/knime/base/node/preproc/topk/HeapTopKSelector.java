@@ -56,6 +56,7 @@
 import org.knime.core.data.DataRow;
 
 /**
+ * Selects the top k rows with a single heap of full rows. Serves as the baseline of the {@link TopKSelectorBenchmark}.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
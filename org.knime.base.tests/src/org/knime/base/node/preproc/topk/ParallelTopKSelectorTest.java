@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.topk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.base.node.util.preproc.SortingUtils;
+import org.knime.base.node.util.preproc.SortingUtils.SortingCriterionSettings;
+import org.knime.base.node.util.preproc.SortingUtils.SortingOrder;
+import org.knime.base.node.util.preproc.SortingUtils.StringComparison;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.RowIDChoice;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.StringOrEnum;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link ParallelTopKSelector}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("restriction")
+@ExtendWith({ExecutionContextExtension.class})
+class ParallelTopKSelectorTest {
+
+    /** Large enough to be split into several ranges. */
+    private static final int NUM_ROWS = 50_000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"int", "double", "string"},
+        new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(SPEC);
+        for (var i = 0; i < NUM_ROWS; i++) {
+            final DataCell doubleCell = i % 17 == 0 ? DataType.getMissingCell()
+                : new DoubleCell(random.nextInt(2000) / 4.0 - 250);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(random.nextInt(100)),
+                doubleCell, new StringCell("s" + random.nextInt(500))));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static SortingCriterionSettings criterion(final String column, final SortingOrder order) {
+        return new SortingCriterionSettings(new StringOrEnum<>(column), order, StringComparison.LEXICOGRAPHIC);
+    }
+
+    /** Sorts all rows by the criteria and their position and selects the first k rows or unique values. */
+    private static List<DataRow> expectedSelection(final BufferedDataTable table,
+        final SortingCriterionSettings[] criteria, final boolean missingsLast, final int k, final TopKMode mode,
+        final OutputOrder outputOrder) {
+        final List<DataRow> rows = new ArrayList<>();
+        table.forEach(rows::add);
+        final Comparator<DataRow> comparator = SortingUtils.toRowComparator(SPEC, criteria, missingsLast);
+        final List<Integer> order = new ArrayList<>(IntStream.range(0, rows.size()).boxed().toList());
+        order.sort((i, j) -> {
+            final int comparison = comparator.compare(rows.get(i), rows.get(j));
+            return comparison != 0 ? comparison : Integer.compare(i, j);
+        });
+        final List<Integer> selected = new ArrayList<>();
+        if (mode == TopKMode.TOP_K_ROWS) {
+            selected.addAll(order.subList(0, Math.min(k, order.size())));
+        } else {
+            var numValues = 0;
+            DataRow previous = null;
+            for (final int i : order) {
+                if (previous == null || comparator.compare(previous, rows.get(i)) != 0) {
+                    numValues++;
+                    previous = rows.get(i);
+                }
+                if (numValues > k) {
+                    break;
+                }
+                selected.add(i);
+            }
+        }
+        if (outputOrder == OutputOrder.RETAIN) {
+            selected.sort(Comparator.naturalOrder());
+        }
+        return selected.stream().map(rows::get).toList();
+    }
+
+    private static void assertSelection(final ExecutionContext ctx, final BufferedDataTable table,
+        final SortingCriterionSettings[] criteria, final boolean missingsLast, final boolean normalized)
+        throws CanceledExecutionException {
+        for (final TopKMode mode : TopKMode.values()) {
+            for (final OutputOrder outputOrder : OutputOrder.values()) {
+                for (final int k : new int[]{1, 7, 100}) {
+                    final var selector = new ParallelTopKSelector(SPEC, criteria, missingsLast, k, mode);
+                    assertEquals(normalized, selector.isNormalized(), "Unexpected key normalization");
+                    final List<DataRow> expected =
+                        expectedSelection(table, criteria, missingsLast, k, mode, outputOrder);
+                    final List<DataRow> actual = selector.select(ctx, table, outputOrder);
+                    assertEquals(expected.size(), actual.size(), "Unexpected number of rows for k = " + k);
+                    for (var i = 0; i < expected.size(); i++) {
+                        assertEquals(expected.get(i).getKey(), actual.get(i).getKey(),
+                            "Unexpected row " + i + " for k = " + k + ", " + mode + ", " + outputOrder);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNormalizedKeys(final ExecutionContext ctx) throws CanceledExecutionException {
+        assertTrue(ParallelTopKSelector.getNumberOfRanges(NUM_ROWS) >= 1, "At least one range expected");
+        final var table = createTable(ctx);
+        final var criteria = new SortingCriterionSettings[]{criterion("int", SortingOrder.DESCENDING),
+            criterion("double", SortingOrder.ASCENDING)};
+        assertSelection(ctx, table, criteria, true, true);
+        assertSelection(ctx, table, criteria, false, true);
+    }
+
+    @Test
+    void testMissingValuesInDescendingOrder(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        final var criteria = new SortingCriterionSettings[]{criterion("double", SortingOrder.DESCENDING)};
+        assertSelection(ctx, table, criteria, true, true);
+        assertSelection(ctx, table, criteria, false, true);
+    }
+
+    @Test
+    void testGenericComparison(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx);
+        assertSelection(ctx, table, new SortingCriterionSettings[]{criterion("string", SortingOrder.ASCENDING)},
+            true, false);
+        assertSelection(ctx, table,
+            new SortingCriterionSettings[]{criterion("int", SortingOrder.ASCENDING), new SortingCriterionSettings(
+                new StringOrEnum<>(RowIDChoice.ROW_ID), SortingOrder.DESCENDING, StringComparison.NATURAL)},
+            false, false);
+    }
+
+    @Test
+    void testEmptyTable(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var container = ctx.createDataContainer(SPEC);
+        container.close();
+        final var selector = new ParallelTopKSelector(SPEC,
+            new SortingCriterionSettings[]{criterion("int", SortingOrder.ASCENDING)}, true, 5, TopKMode.TOP_K_ROWS);
+        assertFalse(selector.select(ctx, container.getTable(), OutputOrder.SORT).iterator().hasNext(),
+            "Nothing should be selected from an empty table");
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.topk;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.knime.base.node.util.preproc.SortingUtils;
+import org.knime.base.node.util.preproc.SortingUtils.SortingCriterionSettings;
+import org.knime.base.node.util.preproc.SortingUtils.SortingOrder;
+import org.knime.base.node.util.preproc.SortingUtils.StringComparison;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.StringOrEnum;
+
+/**
+ * Micro benchmark comparing the {@link HeapTopKSelector} and {@link HeapTopKUniqueRowsSelector}, which compare full
+ * rows with the generic row comparator, with the range selectors of the {@link ParallelTopKSelector} on a single
+ * thread and on concurrently processed ranges. The rows are held in memory so that only the selection is measured.
+ *
+ * Run the {@link #main(String[])} method from the IDE; it is not executed as part of the test suite.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("restriction")
+public final class TopKSelectorBenchmark {
+
+    private static final int NUM_ROWS = 1 << 22;
+
+    private static final int K = 1000;
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"double", "int", "string"},
+        new DataType[]{DoubleCell.TYPE, IntCell.TYPE, StringCell.TYPE});
+
+    private static volatile int blackhole; // NOSONAR prevents dead code elimination
+
+    private TopKSelectorBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the average time per row.
+     *
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        final DataRow[] rows = createRows();
+        benchmark(rows, "double descending", criterion("double", SortingOrder.DESCENDING));
+        benchmark(rows, "int, double", criterion("int", SortingOrder.ASCENDING),
+            criterion("double", SortingOrder.ASCENDING));
+        benchmark(rows, "string (generic)", criterion("string", SortingOrder.ASCENDING));
+    }
+
+    private static SortingCriterionSettings criterion(final String column, final SortingOrder order) {
+        return new SortingCriterionSettings(new StringOrEnum<>(column), order, StringComparison.LEXICOGRAPHIC);
+    }
+
+    private static void benchmark(final DataRow[] rows, final String name,
+        final SortingCriterionSettings... criteria) {
+        System.out.printf("%s, k = %d%n", name, K); // NOSONAR
+        final Comparator<DataRow> comparator = SortingUtils.toRowComparator(SPEC, criteria, true);
+        // the node model used to invert the comparator such that the heap head is the worst selected row
+        final Comparator<DataRow> inverted = (r1, r2) -> -comparator.compare(r1, r2);
+        run("heap (rows)", () -> selectAll(new HeapTopKSelector(inverted, K), rows));
+        run("parallel heap (rows), 1 range", () -> selectRanges(rows, criteria, TopKMode.TOP_K_ROWS, 1));
+        final int numRanges = Runtime.getRuntime().availableProcessors();
+        run("parallel heap (rows), " + numRanges + " ranges",
+            () -> selectRanges(rows, criteria, TopKMode.TOP_K_ROWS, numRanges));
+        run("heap (unique values)", () -> selectAll(new HeapTopKUniqueRowsSelector(inverted, K), rows));
+        run("parallel heap (unique values), 1 range",
+            () -> selectRanges(rows, criteria, TopKMode.TOP_K_ALL_ROWS_W_UNIQUE, 1));
+        run("parallel heap (unique values), " + numRanges + " ranges",
+            () -> selectRanges(rows, criteria, TopKMode.TOP_K_ALL_ROWS_W_UNIQUE, numRanges));
+    }
+
+    private static int selectAll(final TopKSelector selector, final DataRow[] rows) {
+        for (final DataRow row : rows) {
+            selector.consume(row);
+        }
+        return selector.getTopK().size();
+    }
+
+    private static int selectRanges(final DataRow[] rows, final SortingCriterionSettings[] criteria,
+        final TopKMode mode, final int numRanges) {
+        final var selector = new ParallelTopKSelector(SPEC, criteria, true, K, mode);
+        final int rangeSize = (rows.length + numRanges - 1) / numRanges;
+        final List<ParallelTopKSelector.RangeSelector> rangeSelectors =
+            IntStream.range(0, numRanges).parallel().mapToObj(r -> {
+                final var rangeSelector = selector.createRangeSelector();
+                for (int i = r * rangeSize, to = Math.min(rows.length, i + rangeSize); i < to; i++) {
+                    rangeSelector.consume(rows[i], i);
+                }
+                return rangeSelector;
+            }).toList();
+        return selector.merge(rangeSelectors, OutputOrder.NO_ORDER).size();
+    }
+
+    private static void run(final String name, final Supplier<Integer> selection) {
+        for (var i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole = selection.get();
+        }
+        final var start = System.nanoTime();
+        for (var i = 0; i < MEASURED_ROUNDS; i++) {
+            blackhole = selection.get();
+        }
+        final var nanosPerRow = (System.nanoTime() - start) / ((double)MEASURED_ROUNDS * NUM_ROWS);
+        System.out.printf("  %-44s %8.2f ns/row%n", name, nanosPerRow); // NOSONAR
+    }
+
+    private static DataRow[] createRows() {
+        final var random = new Random(42);
+        final var rows = new DataRow[NUM_ROWS];
+        for (var i = 0; i < rows.length; i++) {
+            rows[i] = new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(random.nextGaussian() * 1000),
+                new IntCell(random.nextInt(10_000)), new StringCell(Integer.toString(random.nextInt(1_000_000))));
+        }
+        return rows;
+    }
+}
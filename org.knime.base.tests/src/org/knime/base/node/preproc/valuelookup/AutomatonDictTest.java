@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.valuelookup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.knime.base.node.preproc.valuelookup.UnsortedInputDict.IllegalLookupKeyException;
+import org.knime.base.node.preproc.valuelookup.ValueLookupNodeSettings.SearchDirection;
+import org.knime.base.node.preproc.valuelookup.ValueLookupNodeSettings.StringMatching;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.util.Pair;
+
+/**
+ * Tests that the automaton based {@link AhoCorasickDict} and {@link PrefilteredPatternDict} return the same entries as
+ * the linear {@link SubstringDict} and {@link PatternDict}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class AutomatonDictTest {
+
+    private static final String[] PATTERNS = {"abc", "a.c", "^ab.*", ".*\\.txt", "(ab|ba)c+", "[ab]+c", "x?yz",
+        "\\Qa.b\\E.*", "A\\d{2}b", "(?i)abc", "ab(?i:C)", "k.*s", "é+", "\\\\", "", ".*", "c{2,}a", "ab?c", "cab"};
+
+    private static Stream<Arguments> settings() {
+        return Stream.of(SearchDirection.values())
+            .flatMap(direction -> Stream.of(Arguments.of(direction, true), Arguments.of(direction, false)));
+    }
+
+    private static ValueLookupNodeSettings createSettings(final StringMatching matching,
+        final SearchDirection direction, final boolean caseSensitive) {
+        final var settings = new ValueLookupNodeSettings();
+        settings.m_stringMatchBehaviour = matching;
+        settings.m_searchDirection = direction;
+        settings.m_caseSensitive = caseSensitive;
+        return settings;
+    }
+
+    private static String randomString(final Random random, final String alphabet, final int maxLength) {
+        final var builder = new StringBuilder();
+        for (var i = random.nextInt(maxLength + 1); i > 0; i--) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static void insert(final UnsortedInputDict dict, final String key, final int index)
+        throws IllegalLookupKeyException {
+        dict.insertSearchPair(new StringCell(key), RowKey.createRowKey((long)index),
+            new DataCell[]{new StringCell(key)});
+    }
+
+    private static void assertSameEntries(final LookupDict expected, final LookupDict actual, final String lookup) {
+        final var cell = new StringCell(lookup);
+        assertEquals(expected.getDictEntry(cell).map(Pair::getFirst), actual.getDictEntry(cell).map(Pair::getFirst),
+            () -> "Different entry for '" + lookup + "'");
+    }
+
+    @ParameterizedTest
+    @MethodSource("settings")
+    void testSubstringDict(final SearchDirection direction, final boolean caseSensitive)
+        throws IllegalLookupKeyException {
+        final var settings = createSettings(StringMatching.SUBSTRING, direction, caseSensitive);
+        final var random = new Random(42);
+        final var linear = new SubstringDict(settings);
+        final var automaton = new AhoCorasickDict(settings);
+        for (var i = 0; i < 200; i++) {
+            final var key = randomString(random, "abcABé", 4);
+            insert(linear, key, i);
+            insert(automaton, key, i);
+        }
+        for (var i = 0; i < 2000; i++) {
+            assertSameEntries(linear, automaton, randomString(random, "abcdABÉé", 12));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("settings")
+    void testPatternDict(final SearchDirection direction, final boolean caseSensitive)
+        throws IllegalLookupKeyException {
+        final var settings = createSettings(StringMatching.REGEX, direction, caseSensitive);
+        final var random = new Random(7);
+        final var linear = new PatternDict(settings);
+        final var prefiltered = new PrefilteredPatternDict(settings);
+        for (var i = 0; i < 100; i++) {
+            final var pattern = PATTERNS[random.nextInt(PATTERNS.length)];
+            insert(linear, pattern, i);
+            insert(prefiltered, pattern, i);
+        }
+        for (final var pattern : PATTERNS) {
+            assertSameEntries(linear, prefiltered, pattern);
+        }
+        for (var i = 0; i < 2000; i++) {
+            assertSameEntries(linear, prefiltered, randomString(random, "abcxyzkKsSA1.\\éÉ", 8));
+        }
+    }
+
+    @Test
+    void testRequiredLiteral() {
+        assertEquals("abc", RegexLiterals.requiredLiteral("abc", false).orElseThrow());
+        assertEquals("abc", RegexLiterals.requiredLiteral("ABC", true).orElseThrow());
+        assertEquals(".txt", RegexLiterals.requiredLiteral(".*\\.txt", false).orElseThrow());
+        assertEquals("hello", RegexLiterals.requiredLiteral("ab?c*hello+", false).orElseThrow());
+        assertEquals("a.b", RegexLiterals.requiredLiteral("x*\\Qa.b\\E", false).orElseThrow());
+        assertEquals("cde", RegexLiterals.requiredLiteral("[ab]+cde(f|g)", false).orElseThrow());
+        assertTrue(RegexLiterals.requiredLiteral("abc|def", false).isEmpty());
+        assertTrue(RegexLiterals.requiredLiteral("(?i)abc", false).isEmpty());
+        assertTrue(RegexLiterals.requiredLiteral("\\x41bc", false).isEmpty());
+        assertTrue(RegexLiterals.requiredLiteral("a*", false).isEmpty());
+    }
+}
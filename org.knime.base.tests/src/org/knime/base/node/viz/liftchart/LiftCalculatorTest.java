@@ -0,0 +1,244 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.viz.liftchart;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link LiftCalculator}, comparing the lift and response tables with the ones computed by counting the
+ * responses in the sorted input table.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class LiftCalculatorTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"class", "distinct", "ties"},
+        new DataType[]{StringCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE});
+
+    private static final double[] INTERVAL_WIDTHS = {10, 7.5, 33, 100};
+
+    /**
+     * Creates a table with responses in different spellings and missing classes. The scores of the column "ties" are
+     * tied, but only among rows of the same class, and only non-responses have missing scores, so that the order of
+     * the rows within a tie does not matter.
+     */
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int nrRows) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(SPEC);
+        for (var i = 0; i < nrRows; i++) {
+            final int type = random.nextInt(30);
+            final DataCell classCell;
+            if (type == 0) {
+                classCell = DataType.getMissingCell();
+            } else if (type < 8) {
+                classCell = new StringCell(type % 2 == 0 ? "yes" : " Yes ");
+            } else {
+                classCell = new StringCell("no");
+            }
+            final boolean response = type > 0 && type < 8;
+            final DataCell distinct = !response && random.nextInt(20) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(random.nextGaussian());
+            final DataCell ties = !response && random.nextInt(20) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(random.nextInt(10) + (response ? 0.5 : 0));
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), classCell, distinct, ties));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** A score of a row, <code>null</code> if it is missing. */
+    private record Score(Double value, boolean response) {
+    }
+
+    /**
+     * Computes the lift and the response table by sorting the scores descending, missing scores last, and counting the
+     * responses in parts of the sorted rows.
+     */
+    private static List<List<String>> computeTablesBySorting(final BufferedDataTable table, final String column,
+        final double intervalWidth, final boolean ignoreMissingValues) {
+        final int scoreIndex = SPEC.findColumnIndex(column);
+        final List<Score> scores = new ArrayList<>();
+        for (final DataRow row : table) {
+            final DataCell classCell = row.getCell(0);
+            final DataCell scoreCell = row.getCell(scoreIndex);
+            if (classCell.isMissing() || (ignoreMissingValues && scoreCell.isMissing())) {
+                continue;
+            }
+            scores.add(new Score(scoreCell.isMissing() ? null : ((DoubleValue)scoreCell).getDoubleValue(),
+                classCell.toString().trim().equalsIgnoreCase("yes")));
+        }
+        scores.sort(Comparator.comparing(Score::value, Comparator.nullsFirst(Comparator.<Double> naturalOrder()))
+            .reversed());
+        final int nrParts = (int)Math.ceil(100.0 / intervalWidth);
+        final int partWidth = (int)Math.ceil(scores.size() / (double)nrParts);
+        final int[] counter = new int[nrParts];
+        long totalResponses = 0;
+        for (var i = 0; i < scores.size(); i++) {
+            if (scores.get(i).response()) {
+                counter[i / partWidth]++;
+                totalResponses++;
+            }
+        }
+        final double avgResponse = (double)totalResponses / scores.size();
+        final List<String> lift = new ArrayList<>();
+        final List<String> response = new ArrayList<>();
+        response.add(toString("0", 0.0, 0.0));
+        long cumulativeCounter = 0;
+        for (var i = 0; i < nrParts; i++) {
+            cumulativeCounter += counter[i];
+            final long number = Math.min((long)partWidth * (i + 1), scores.size());
+            final String key = "" + Math.min((i + 1) * intervalWidth, 100);
+            lift.add(toString(key, (double)counter[i] / partWidth / avgResponse, 1.0,
+                (double)cumulativeCounter / number / avgResponse));
+            response.add(toString(key, (double)cumulativeCounter / totalResponses * 100,
+                Math.min((i + 1) * intervalWidth, 100)));
+        }
+        return List.of(lift, response);
+    }
+
+    private static String toString(final String key, final double... values) {
+        final var builder = new StringBuilder(key);
+        for (final double value : values) {
+            // rounded to hide differences in the order of floating point operations
+            builder.append(", ").append(String.format("%.12f", value));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> toStrings(final BufferedDataTable table) {
+        final List<String> rows = new ArrayList<>();
+        for (final DataRow row : table) {
+            final double[] values = new double[row.getNumCells()];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = ((DoubleValue)row.getCell(i)).getDoubleValue();
+            }
+            rows.add(toString(row.getKey().getString(), values));
+        }
+        return rows;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testTablesEqualSortedInput(final boolean ignoreMissingValues, final ExecutionContext ctx)
+        throws CanceledExecutionException {
+        final var table = createTable(ctx, 1000);
+        for (final String column : new String[]{"distinct", "ties"}) {
+            for (final double intervalWidth : INTERVAL_WIDTHS) {
+                final var calculator = new LiftCalculator("class", column, "yes", intervalWidth, ignoreMissingValues);
+                final String warning = calculator.calculateLiftTables(table, ctx);
+                final List<List<String>> expected =
+                    computeTablesBySorting(table, column, intervalWidth, ignoreMissingValues);
+                final String message = " of column " + column + " with an interval width of " + intervalWidth;
+                assertEquals(expected.get(0), toStrings(calculator.getLiftTable()), "Unexpected lift" + message);
+                assertEquals(expected.get(1), toStrings(calculator.getResponseTable()),
+                    "Unexpected response" + message);
+                assertEquals(ignoreMissingValues ? null : "Table contains missing values.", warning,
+                    "Unexpected warning" + message);
+            }
+        }
+    }
+
+    @Test
+    void testResponsesOfTiesSpreadEvenly(final ExecutionContext ctx) throws CanceledExecutionException {
+        final var container = ctx.createDataContainer(SPEC);
+        final String[] classes = {"yes", "no", "no", "yes", "no", "no"};
+        final double[] scores = {0.9, 0.5, 0.5, 0.5, 0.5, 0.1};
+        for (var i = 0; i < classes.length; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new StringCell(classes[i]),
+                new DoubleCell(scores[i]), new DoubleCell(scores[i])));
+        }
+        container.close();
+        final var calculator = new LiftCalculator("class", "ties", "yes", 50);
+        calculator.calculateLiftTables(container.getTable(), ctx);
+        // the first part contains the response with score 0.9 and two of the four tied rows, which contain one response
+        final double avgResponse = 2 / 6.0;
+        final double[] lift = new double[2];
+        final double[] cumulativeLift = new double[2];
+        var i = 0;
+        for (final DataRow row : calculator.getLiftTable()) {
+            lift[i] = ((DoubleValue)row.getCell(0)).getDoubleValue();
+            cumulativeLift[i] = ((DoubleValue)row.getCell(2)).getDoubleValue();
+            i++;
+        }
+        assertArrayEquals(new double[]{1.5 / 3 / avgResponse, 0.5 / 3 / avgResponse}, lift, 1e-12,
+            "Unexpected lift");
+        assertArrayEquals(new double[]{1.5 / 3 / avgResponse, 1.0}, cumulativeLift, 1e-12,
+            "Unexpected cumulative lift");
+        final List<Double> responses = new ArrayList<>();
+        for (final DataRow row : calculator.getResponseTable()) {
+            responses.add(((DoubleValue)row.getCell(0)).getDoubleValue());
+        }
+        assertEquals(List.of(0.0, 75.0, 100.0), responses, "Unexpected cumulative responses");
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.viz.roc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link ScoreCurveCalculator}, comparing the radix sorted curves with curves computed by sorting the
+ * scores.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class ScoreCurveCalculatorTest {
+
+    private static final String[] SCORE_COLUMNS = {"distinct", "ties", "special", "constant"};
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new String[]{"class", SCORE_COLUMNS[0], SCORE_COLUMNS[1], SCORE_COLUMNS[2], SCORE_COLUMNS[3]},
+        new DataType[]{StringCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE});
+
+    private static final double[] SPECIAL_VALUES = {Double.NaN, Double.POSITIVE_INFINITY,
+        Double.NEGATIVE_INFINITY, 0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+
+    private static BufferedDataTable createTable(final ExecutionContext ctx, final int nrRows) {
+        final var random = new Random(42);
+        final var container = ctx.createDataContainer(SPEC);
+        for (var i = 0; i < nrRows; i++) {
+            final DataCell classCell = random.nextInt(50) == 0 ? DataType.getMissingCell()
+                : new StringCell(random.nextInt(3) == 0 ? "pos" : "neg");
+            final DataCell special = random.nextInt(10) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), classCell,
+                new DoubleCell(random.nextGaussian()), new DoubleCell(random.nextInt(20) / 4.0 - 2), special,
+                new DoubleCell(0.5)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** A score of a row, <code>null</code> if it is missing. */
+    private record Score(Double value, boolean positive) {
+    }
+
+    /** Reads the scores of a column like a sorter would see them. */
+    private static List<Score> readScores(final BufferedDataTable table, final String column,
+        final boolean ignoreMissingValues) {
+        final int scoreIndex = SPEC.findColumnIndex(column);
+        final List<Score> scores = new ArrayList<>();
+        for (final DataRow row : table) {
+            final DataCell classCell = row.getCell(0);
+            final DataCell scoreCell = row.getCell(scoreIndex);
+            if (ignoreMissingValues && (classCell.isMissing() || scoreCell.isMissing())) {
+                continue;
+            }
+            scores.add(new Score(scoreCell.isMissing() ? null : ((DoubleValue)scoreCell).getDoubleValue(),
+                classCell.toString().equals("pos")));
+        }
+        return scores;
+    }
+
+    /** Computes the ROC points by sorting the scores descending, missing scores last. */
+    private static double[][] computeRatesBySorting(final List<Score> scores) {
+        final List<Score> sorted = new ArrayList<>(scores);
+        sorted.sort(Comparator.comparing(Score::value, Comparator.nullsFirst(Comparator.<Double> naturalOrder()))
+            .reversed());
+        final long nrPositives = sorted.stream().filter(Score::positive).count();
+        final long nrNegatives = sorted.size() - nrPositives;
+        final List<double[]> points = new ArrayList<>();
+        points.add(new double[]{0, 0});
+        long tp = 0;
+        long fp = 0;
+        for (var i = 0; i < sorted.size(); i++) {
+            if (sorted.get(i).positive()) {
+                tp++;
+            } else {
+                fp++;
+            }
+            if (i == sorted.size() - 1 || !sameScore(sorted.get(i), sorted.get(i + 1))) {
+                points.add(new double[]{fp / (double)nrNegatives, tp / (double)nrPositives});
+            }
+        }
+        points.get(points.size() - 1)[0] = 1;
+        points.get(points.size() - 1)[1] = 1;
+        final var rates = new double[2][points.size()];
+        for (var i = 0; i < points.size(); i++) {
+            rates[0][i] = points.get(i)[0];
+            rates[1][i] = points.get(i)[1];
+        }
+        return rates;
+    }
+
+    private static boolean sameScore(final Score s1, final Score s2) {
+        if (s1.value() == null || s2.value() == null) {
+            return s1.value() == s2.value();
+        }
+        return Double.compare(s1.value(), s2.value()) == 0;
+    }
+
+    /**
+     * Computes the area under the ROC curve as the probability of a positive row to have a higher score than a
+     * negative row, counting ties half.
+     */
+    private static double computeAreaByPairs(final List<Score> scores) {
+        final Comparator<Double> order = Comparator.nullsFirst(Comparator.<Double> naturalOrder());
+        double pairs = 0;
+        double wins = 0;
+        for (final Score p : scores) {
+            if (!p.positive()) {
+                continue;
+            }
+            for (final Score n : scores) {
+                if (!n.positive()) {
+                    pairs++;
+                    final int c = order.compare(p.value(), n.value());
+                    wins += c > 0 ? 1 : (c == 0 ? 0.5 : 0);
+                }
+            }
+        }
+        return wins / pairs;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testCurvesEqualSortedScores(final boolean ignoreMissingValues, final ExecutionContext ctx)
+        throws CanceledExecutionException {
+        final var table = createTable(ctx, 1000);
+        final var calculator = new ScoreCurveCalculator(List.of(SCORE_COLUMNS), "class", "pos", ignoreMissingValues);
+        final List<ScoreCurve> curves = calculator.calculate(table, new ExecutionMonitor());
+        assertEquals(SCORE_COLUMNS.length, curves.size(), "Unexpected number of curves");
+        for (var c = 0; c < SCORE_COLUMNS.length; c++) {
+            final ScoreCurve curve = curves.get(c);
+            final List<Score> scores = readScores(table, SCORE_COLUMNS[c], ignoreMissingValues);
+            final double[][] expected = computeRatesBySorting(scores);
+            assertEquals(SCORE_COLUMNS[c], curve.getName(), "Unexpected curve name");
+            assertEquals(scores.size(), curve.getNumRows(), "Unexpected number of rows of " + curve.getName());
+            assertArrayEquals(expected[0], curve.getFalsePositiveRates(), 0.0,
+                "Unexpected false positive rates of " + curve.getName());
+            assertArrayEquals(expected[1], curve.getTruePositiveRates(), 0.0,
+                "Unexpected true positive rates of " + curve.getName());
+            assertEquals(computeAreaByPairs(scores), curve.getArea(), 1e-12,
+                "Unexpected area under the curve of " + curve.getName());
+        }
+        assertEquals(ignoreMissingValues ? null : "Table contains missing values.", calculator.getWarningMessage(),
+            "Unexpected warning message");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 5})
+    void testSmallTables(final int nrRows, final ExecutionContext ctx) throws CanceledExecutionException {
+        final var table = createTable(ctx, 200);
+        final var container = ctx.createDataContainer(SPEC);
+        var i = 0;
+        for (final DataRow row : table) {
+            // rows with both classes and without missing values
+            if (i < nrRows && !row.getCell(0).isMissing()
+                && row.getCell(0).toString().equals(i % 2 == 0 ? "pos" : "neg")) {
+                container.addRowToTable(row);
+                i++;
+            }
+        }
+        container.close();
+        final var small = container.getTable();
+        final List<ScoreCurve> curves =
+            new ScoreCurveCalculator(List.of(SCORE_COLUMNS[1]), "class", "pos", true).calculate(small,
+                new ExecutionMonitor());
+        final double[][] expected = computeRatesBySorting(readScores(small, SCORE_COLUMNS[1], true));
+        assertArrayEquals(expected[1], curves.get(0).getTruePositiveRates(), 0.0,
+            "Unexpected true positive rates of " + nrRows + " rows");
+        assertArrayEquals(expected[0], curves.get(0).getFalsePositiveRates(), 0.0,
+            "Unexpected false positive rates of " + nrRows + " rows");
+    }
+}
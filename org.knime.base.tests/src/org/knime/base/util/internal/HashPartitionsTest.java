@@ -0,0 +1,115 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.util.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.ExecutionContext;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests for the {@link HashPartitions}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class HashPartitionsTest {
+
+    @Test
+    void testPartitionIndexDiffersPerLevel() {
+        final var hash = Integer.hashCode(42);
+        var differs = false;
+        for (var level = 0; level < HashPartitions.MAX_SPILL_LEVEL; level++) {
+            final var idx = HashPartitions.partitionIndex(hash, level, HashPartitions.NUM_PARTITIONS);
+            assertTrue(idx >= 0 && idx < HashPartitions.NUM_PARTITIONS, "Partition index out of range");
+            differs |= idx != HashPartitions.partitionIndex(hash, 0, HashPartitions.NUM_PARTITIONS);
+        }
+        assertTrue(differs, "Partition index should depend on the recursion level");
+    }
+
+    /**
+     * Tests that all spilled rows end up in the partition of their hash.
+     *
+     * @param ctx the execution context
+     */
+    @Test
+    void testSpilledRowsArePartitionedByHash(final ExecutionContext ctx) {
+        final var spec = new DataTableSpec(new String[]{"value"}, new DataType[]{IntCell.TYPE});
+        final var level = 1;
+        final var partitions = new HashPartitions(ctx, spec, level);
+        final var numRows = 1000;
+        for (var i = 0; i < numRows; i++) {
+            // duplicate RowIDs are allowed in partitions
+            partitions.add(Integer.hashCode(i % 100), new DefaultRow(RowKey.createRowKey((long)(i % 10)),
+                new IntCell(i % 100)));
+        }
+        assertEquals(numRows, partitions.size(), "Wrong number of spilled rows");
+        final var tables = partitions.close();
+        assertEquals(HashPartitions.NUM_PARTITIONS, tables.length, "Wrong number of partitions");
+        long total = 0;
+        for (var p = 0; p < tables.length; p++) {
+            for (final DataRow row : tables[p]) {
+                final var value = ((IntCell)row.getCell(0)).getIntValue();
+                assertEquals(p, HashPartitions.partitionIndex(Integer.hashCode(value), level,
+                    HashPartitions.NUM_PARTITIONS), "Row spilled to the wrong partition");
+                total++;
+            }
+        }
+        assertEquals(numRows, total, "Rows lost while spilling");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.util.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Tests for the {@link ParallelTasks}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class ParallelTasksTest {
+
+    private static final int NUM_TASKS = 100;
+
+    private static List<Callable<Integer>> createTasks() {
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        for (var i = 0; i < NUM_TASKS; i++) {
+            final var value = i;
+            tasks.add(() -> {
+                // later tasks finish first
+                Thread.sleep((NUM_TASKS - value) % 7);
+                return value;
+            });
+        }
+        return tasks;
+    }
+
+    @Test
+    void testResultsInTaskOrder() throws CanceledExecutionException {
+        assertEquals(IntStream.range(0, NUM_TASKS).boxed().toList(), ParallelTasks.run(createTasks()),
+            "Results should be in the order of the tasks");
+        assertEquals(List.of(), ParallelTasks.run(new ArrayList<Callable<Integer>>()), "No tasks, no results");
+    }
+
+    @Test
+    void testBoundedPendingTasks() throws CanceledExecutionException {
+        final var submitted = new AtomicInteger();
+        final var consumed = new AtomicInteger();
+        final var maxPending = 3;
+        final var tasks = createTasks().iterator();
+        final List<Integer> results = new ArrayList<>();
+        ParallelTasks.run(new Iterator<Callable<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return tasks.hasNext();
+            }
+
+            @Override
+            public Callable<Integer> next() {
+                assertTrue(submitted.incrementAndGet() - consumed.get() <= maxPending, "Too many pending tasks");
+                return tasks.next();
+            }
+        }, maxPending, result -> {
+            consumed.incrementAndGet();
+            results.add(result);
+        });
+        assertEquals(IntStream.range(0, NUM_TASKS).boxed().toList(), results,
+            "Results should be in the order of the tasks");
+    }
+
+    @Test
+    void testExceptionsAreRethrown() {
+        final var tasks = createTasks();
+        tasks.set(NUM_TASKS / 2, () -> {
+            throw new IllegalArgumentException("failed");
+        });
+        assertEquals("failed",
+            assertThrows(IllegalArgumentException.class, () -> ParallelTasks.run(tasks), "Task failure expected")
+                .getMessage(),
+            "Wrong exception");
+        tasks.set(NUM_TASKS / 2, () -> {
+            throw new CanceledExecutionException("canceled");
+        });
+        assertThrows(CanceledExecutionException.class, () -> ParallelTasks.run(tasks), "Cancellation expected");
+        tasks.set(NUM_TASKS / 2, () -> {
+            throw new IOException("io");
+        });
+        assertThrows(IllegalStateException.class, () -> ParallelTasks.run(tasks), "Wrapped exception expected");
+        assertThrows(CanceledExecutionException.class, () -> ParallelTasks.run(createTasks(), result -> {
+            throw new InterruptedException();
+        }), "Interruption of the consumer should cancel the execution");
+    }
+}
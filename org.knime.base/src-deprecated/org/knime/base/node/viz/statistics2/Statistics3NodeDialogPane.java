@@ -44,11 +44,13 @@
  */
 package org.knime.base.node.viz.statistics2;
 
+import org.knime.base.data.statistics.QuantileSketch;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnFilter;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelDoubleBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 
@@ -66,9 +68,24 @@ public class Statistics3NodeDialogPane extends DefaultNodeSettingsPane {
 
     /** Default constructor. */
     protected Statistics3NodeDialogPane() {
+        final SettingsModelBoolean medianModel = createMedianModel();
+        final SettingsModelBoolean approximateModel = createApproximateMedianModel();
+        final SettingsModelDoubleBounded rankErrorModel = createMedianRankErrorModel();
+        medianModel.addChangeListener(e -> updateMedianModels(medianModel, approximateModel, rankErrorModel));
+        approximateModel.addChangeListener(e -> updateMedianModels(medianModel, approximateModel, rankErrorModel));
+        updateMedianModels(medianModel, approximateModel, rankErrorModel);
         addDialogComponent(new DialogComponentBoolean(
-                createMedianModel(),
+                medianModel,
                 "Calculate median values (computationally expensive)"));
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentBoolean(approximateModel,
+            "Approximate median values in a single pass"));
+        final DialogComponentNumber rankErrorComp =
+            new DialogComponentNumber(rankErrorModel, "Max. rank error: ", 0.005, 7);
+        rankErrorComp.setToolTipText("Fraction of rows by which the rank of the approximated median "
+            + "may deviate from the rank of the exact median.");
+        addDialogComponent(rankErrorComp);
+        setHorizontalPlacement(false);
         createNewGroup("Nominal values");
         m_filterModel = createNominalFilterModel();
         addDialogComponent(new DialogComponentColumnFilter(
@@ -100,6 +117,26 @@ static SettingsModelBoolean createMedianModel() {
         return new SettingsModelBoolean("compute_median", false);
     }
 
+    private static void updateMedianModels(final SettingsModelBoolean medianModel,
+        final SettingsModelBoolean approximateModel, final SettingsModelDoubleBounded rankErrorModel) {
+        approximateModel.setEnabled(medianModel.getBooleanValue());
+        rankErrorModel.setEnabled(medianModel.getBooleanValue() && approximateModel.getBooleanValue());
+    }
+
+    /**
+     * @return boolean model to approximate the median instead of sorting each column
+     */
+    static SettingsModelBoolean createApproximateMedianModel() {
+        return new SettingsModelBoolean("approximate_median", false);
+    }
+
+    /**
+     * @return double model for the maximum normalized rank error of the approximated median
+     */
+    static SettingsModelDoubleBounded createMedianRankErrorModel() {
+        return new SettingsModelDoubleBounded("median_rank_error", QuantileSketch.DEFAULT_RANK_ERROR, 0.0001, 0.25);
+    }
+
     /**
      * @return int model to restrict number of nominal values
      */
@@ -72,6 +72,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelDoubleBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.port.PortType;
@@ -95,6 +96,12 @@ public class Statistics3NodeModel extends NodeModel {
     private final SettingsModelBoolean m_computeMedian =
         Statistics3NodeDialogPane.createMedianModel();
 
+    private final SettingsModelBoolean m_approximateMedian =
+        Statistics3NodeDialogPane.createApproximateMedianModel();
+
+    private final SettingsModelDoubleBounded m_medianRankError =
+        Statistics3NodeDialogPane.createMedianRankErrorModel();
+
     private final SettingsModelIntegerBounded m_nominalValues =
         Statistics3NodeDialogPane.createNominalValuesModel();
 
@@ -165,6 +172,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws CanceledExecutionException {
         m_statTable = new Statistics3Table(
                 inData[0], m_computeMedian.getBooleanValue(),
+                m_approximateMedian.getBooleanValue() ? m_medianRankError.getDoubleValue() : 0,
                 numOfNominalValuesOutput(), m_nominalFilter.getIncludeList(),
                 exec);
         if (getStatTable().getWarning() != null) {
@@ -185,6 +193,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_computeMedian.loadSettingsFrom(settings);
+        // Added in 5.12
+        if (settings.containsKey(m_approximateMedian.getKey())) {
+            m_approximateMedian.loadSettingsFrom(settings);
+            m_medianRankError.loadSettingsFrom(settings);
+        } else {
+            m_approximateMedian.setBooleanValue(false);
+        }
         m_nominalValues.loadSettingsFrom(settings);
         m_nominalValuesOutput.loadSettingsFrom(settings);
         m_nominalFilter.loadSettingsFrom(settings);
@@ -257,6 +272,8 @@ List<Map<DataCell, Integer>> getNominals() {
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_computeMedian.saveSettingsTo(settings);
+        m_approximateMedian.saveSettingsTo(settings);
+        m_medianRankError.saveSettingsTo(settings);
         m_nominalValues.saveSettingsTo(settings);
         m_nominalValuesOutput.saveSettingsTo(settings);
         m_nominalFilter.saveSettingsTo(settings);
@@ -269,6 +286,11 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     protected void validateSettings(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_computeMedian.validateSettings(settings);
+        // Added in 5.12
+        if (settings.containsKey(m_approximateMedian.getKey())) {
+            m_approximateMedian.validateSettings(settings);
+            m_medianRankError.validateSettings(settings);
+        }
         m_nominalValues.validateSettings(settings);
         m_nominalValuesOutput.validateSettings(settings);
         m_nominalFilter.validateSettings(settings);
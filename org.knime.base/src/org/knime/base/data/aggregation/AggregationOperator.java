@@ -450,6 +450,64 @@ public final void reset() {
      */
     protected abstract void resetInternal();
 
+    /**
+     * Returns <code>true</code> if the partial results of two instances of this operator can be combined with
+     * {@link #merge(AggregationOperator)}. Operators that return <code>true</code> can be computed in parallel on
+     * disjoint row ranges of the same group. The default implementation returns <code>false</code>.
+     *
+     * @return <code>true</code> if this operator supports merging of partial results
+     * @since 5.12
+     * @see #mergeInternal(AggregationOperator)
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+
+    /**
+     * Merges the partial result of the given operator into this operator. The given operator must be of the same
+     * class as this operator and must have been computed on rows that <b>follow</b> the rows this operator has been
+     * computed on, which allows order dependent operators such as first or last to be merged as well.
+     *
+     * @param other the operator with the partial result of the subsequent rows
+     * @throws UnsupportedOperationException if this operator is not {@link #isMergeable() mergeable}
+     * @throws IllegalArgumentException if the given operator is not of the same class as this operator
+     * @since 5.12
+     */
+    public final void merge(final AggregationOperator other) {
+        if (!isMergeable()) {
+            throw new UnsupportedOperationException(
+                "Operator '" + getOperatorData().getLabel() + "' does not support merging of partial results");
+        }
+        if (other == null || other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Only operators of the same class can be merged");
+        }
+        if (m_skipped) {
+            return;
+        }
+        if (other.m_skipped) {
+            m_skipped = true;
+            m_skipMsg = other.m_skipMsg;
+            return;
+        }
+        m_missingValuesCount += other.m_missingValuesCount;
+        m_skipped = mergeInternal(other);
+    }
+
+    /**
+     * Override this method together with {@link #isMergeable()} to combine the partial result of the given operator
+     * with the partial result of this operator. The given operator is of the same class as this operator and has
+     * been computed on the rows that follow the rows of this operator. Neither this nor the given operator are
+     * skipped.
+     *
+     * @param other the operator with the partial result of the subsequent rows
+     * @return <code>true</code> if this column should be skipped in further calculations
+     * @since 5.12
+     */
+    protected boolean mergeInternal(final AggregationOperator other) {
+        throw new UnsupportedOperationException(
+            "Operator '" + getOperatorData().getLabel() + "' does not support merging of partial results");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -122,6 +122,24 @@ protected DataCell getResultInternal() {
         return new IntCell(m_counter);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final CountOperator o = (CountOperator)other;
+        m_counter += o.m_counter;
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,6 +123,26 @@ protected DataCell getResultInternal() {
         return m_firstCell;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final FirstOperator o = (FirstOperator)other;
+        if (m_firstCell == null) {
+            m_firstCell = o.m_firstCell;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
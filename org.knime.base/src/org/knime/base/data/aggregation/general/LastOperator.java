@@ -122,6 +122,26 @@ protected DataCell getResultInternal() {
         return m_lastCell;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final LastOperator o = (LastOperator)other;
+        if (o.m_lastCell != null) {
+            m_lastCell = o.m_lastCell;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -138,6 +138,26 @@ protected DataCell getResultInternal() {
         return m_minVal;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MinOperator o = (MinOperator)other;
+        if (o.m_minVal != null && (m_minVal == null || m_comparator.compare(o.m_minVal, m_minVal) < 0)) {
+            m_minVal = o.m_minVal;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -48,7 +48,6 @@
  */
 package org.knime.base.data.aggregation.numerical;
 
-import org.apache.commons.math3.stat.descriptive.moment.Mean;
 import org.knime.base.data.aggregation.AggregationOperator;
 import org.knime.base.data.aggregation.GlobalSettings;
 import org.knime.base.data.aggregation.OperatorColumnSettings;
@@ -72,7 +71,10 @@ public class MeanOperator extends AggregationOperator {
 
     private static final DataType TYPE = DoubleCell.TYPE;
 
-    private final Mean m_mean = new Mean();
+    /** Number of values, the running mean is computed incrementally as done by the commons math Mean. */
+    private long m_n = 0;
+
+    private double m_mean = 0;
 
     /**
      * Constructor for class MeanOperator.
@@ -120,7 +122,8 @@ public String getDescription() {
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
-        m_mean.increment(((DoubleValue) cell).getDoubleValue());
+        m_n++;
+        m_mean += (((DoubleValue) cell).getDoubleValue() - m_mean) / m_n;
         // cell is never skipped
         return false;
     }
@@ -130,10 +133,33 @@ protected boolean computeInternal(final DataCell cell) {
      */
     @Override
     protected DataCell getResultInternal() {
-        if (m_mean.getN() == 0) {
+        if (m_n == 0) {
             return DataType.getMissingCell();
         }
-        return new DoubleCell(m_mean.getResult());
+        return new DoubleCell(m_mean);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MeanOperator o = (MeanOperator)other;
+        if (o.m_n == 0) {
+            return false;
+        }
+        final long n = m_n + o.m_n;
+        m_mean += (o.m_mean - m_mean) * ((double)o.m_n / n);
+        m_n = n;
+        return false;
     }
 
     /**
@@ -141,7 +167,8 @@ protected DataCell getResultInternal() {
      */
     @Override
     protected void resetInternal() {
-        m_mean.clear();
+        m_n = 0;
+        m_mean = 0;
     }
 
     /**
@@ -167,6 +167,25 @@ protected DataCell getResultInternal() {
         return new DoubleCell(m_sum);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SumOperator o = (SumOperator)other;
+        m_valid |= o.m_valid;
+        m_sum += o.m_sum;
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.neural;
+
+/**
+ * A {@link MultiLayerPerceptron} compiled into dense weight arrays. It computes the same outputs as
+ * {@link MultiLayerPerceptron#output(double[])} without accessing the layers and perceptrons and can be used by several
+ * threads at the same time. Later changes of the network are not reflected.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class MultiLayerPerceptronEvaluator {
+
+    /* [layer - 1][neuron][input] */
+    private final double[][][] m_weights;
+
+    /* [layer - 1][neuron] */
+    private final double[][] m_thresholds;
+
+    /* [layer - 1][neuron], only used for their activation function */
+    private final Perceptron[][] m_perceptrons;
+
+    private final int m_nrInputs;
+
+    private final String[] m_classValues;
+
+    /**
+     * @param mlp the network to compile
+     */
+    public MultiLayerPerceptronEvaluator(final MultiLayerPerceptron mlp) {
+        final Architecture a = mlp.getArchitecture();
+        final int nrLayers = mlp.getLayers().length;
+        m_nrInputs = a.getNrInputNeurons();
+        m_weights = new double[nrLayers - 1][][];
+        m_thresholds = new double[nrLayers - 1][];
+        m_perceptrons = new Perceptron[nrLayers - 1][];
+        int nrPredecessors = m_nrInputs;
+        for (int i = 1; i < nrLayers; i++) {
+            final int nrNeurons = i < nrLayers - 1 ? a.getNrHiddenNeurons() : a.getNrOutputNeurons();
+            m_weights[i - 1] = new double[nrNeurons][nrPredecessors];
+            m_thresholds[i - 1] = new double[nrNeurons];
+            m_perceptrons[i - 1] = new Perceptron[nrNeurons];
+            for (int j = 0; j < nrNeurons; j++) {
+                final Perceptron p = mlp.getLayer(i).getPerceptron(j);
+                for (int k = 0; k < nrPredecessors; k++) {
+                    m_weights[i - 1][j][k] = p.getWeight(k);
+                }
+                m_thresholds[i - 1][j] = p.getThreshold();
+                m_perceptrons[i - 1][j] = p;
+            }
+            nrPredecessors = nrNeurons;
+        }
+        final Perceptron[] outputs = mlp.getLayer(nrLayers - 1).getPerceptrons();
+        m_classValues = new String[outputs.length];
+        for (int j = 0; j < outputs.length; j++) {
+            m_classValues[j] = outputs[j].getClassValue();
+        }
+    }
+
+    /**
+     * Evaluates input and returns output of output neurons.
+     *
+     * @param in input for the mlp
+     * @return output of the output neurons
+     * @see MultiLayerPerceptron#output(double[])
+     */
+    public double[] output(final double[] in) {
+        if (in.length != m_nrInputs) {
+            throw new IllegalArgumentException("Number of inputs must be " + m_nrInputs);
+        }
+        double[] output = in;
+        for (int i = 0; i < m_weights.length; i++) {
+            final double[][] weights = m_weights[i];
+            final double[] thresholds = m_thresholds[i];
+            final double[] next = new double[weights.length];
+            for (int j = 0; j < weights.length; j++) {
+                final double[] w = weights[j];
+                double sum = 0.0;
+                for (int k = 0; k < w.length; k++) {
+                    sum += output[k] * w[k];
+                }
+                next[j] = m_perceptrons[i][j].activationFunction(sum - thresholds[j]);
+            }
+            output = next;
+        }
+        return output;
+    }
+
+    /**
+     * Finds the winner of the given output and returns its class value.
+     *
+     * @param output the output as returned by {@link #output(double[])}
+     * @return the class value
+     * @see MultiLayerPerceptron#getClassOutput(double[])
+     */
+    public String getClassOutput(final double[] output) {
+        int winnerindex = -1;
+        double temp = Double.MIN_VALUE;
+        for (int i = 0; i < output.length; i++) {
+            if (output[i] > temp) {
+                winnerindex = i;
+                temp = output[i];
+            }
+        }
+        // now winner found?
+        if (winnerindex == -1) {
+            return "NoWinner";
+        }
+        return m_classValues[winnerindex];
+    }
+}
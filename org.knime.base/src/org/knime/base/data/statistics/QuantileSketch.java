@@ -0,0 +1,341 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.statistics;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A mergeable sketch that approximates the quantiles of a stream of double values in a single pass and in memory
+ * that does not depend on the number of values. It implements the KLL sketch (Karnin, Lang, Liberty: "Optimal
+ * Quantile Approximation in Streams", 2016): values are collected in a hierarchy of compactors, and whenever a
+ * compactor is full, it is sorted and every other value is promoted with twice the weight to the next compactor.
+ * <p>
+ * The rank of a quantile returned by the sketch deviates from the requested rank by at most the configured rank error
+ * times the number of values (with high probability). As long as the number of values does not exceed the capacity
+ * of the first compactor, the sketch is exact. Values are ordered as by {@link Double#compare(double, double)}, i.e.
+ * {@link Double#NaN} is larger than any other value. Compactions use a fixed seed so that results are reproducible.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class QuantileSketch {
+
+    /** The default rank error, 1% of the number of values. */
+    public static final double DEFAULT_RANK_ERROR = 0.01;
+
+    /** Ratio of the capacities of adjacent compactors. */
+    private static final double CAPACITY_RATIO = 2d / 3;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private static final long SEED = 0x4b4c4cL;
+
+    private final double m_rankError;
+
+    private final int m_k;
+
+    private final SplittableRandom m_random = new SplittableRandom(SEED);
+
+    /** The compactors, the values of level h have weight 2^h. */
+    private double[][] m_levels = new double[1][];
+
+    private int[] m_levelSizes = new int[1];
+
+    private int[] m_capacities = new int[1];
+
+    /** Number of values currently retained and the number that triggers the next compaction. */
+    private int m_retained;
+
+    private int m_maxRetained;
+
+    private long m_count;
+
+    private double m_min = Double.NaN;
+
+    private double m_max = Double.NaN;
+
+    /** Creates a sketch with the {@link #DEFAULT_RANK_ERROR}. */
+    public QuantileSketch() {
+        this(DEFAULT_RANK_ERROR);
+    }
+
+    /**
+     * @param rankError the maximum normalized rank error, in (0, 1)
+     * @throws IllegalArgumentException if the rank error is not in (0, 1)
+     */
+    public QuantileSketch(final double rankError) {
+        if (!(rankError > 0 && rankError < 1)) {
+            throw new IllegalArgumentException("The rank error must be in (0, 1): " + rankError);
+        }
+        m_rankError = rankError;
+        m_k = capacityForRankError(rankError);
+        m_levels[0] = new double[m_k];
+        m_capacities[0] = m_k;
+        m_maxRetained = m_k;
+    }
+
+    /**
+     * The capacity of the largest compactor that guarantees the given rank error. The constant is chosen
+     * conservatively from the empirical error of the sketch.
+     */
+    private static int capacityForRankError(final double rankError) {
+        return (int)Math.min(1 << 16, Math.max(8, Math.ceil(2.5 / rankError)));
+    }
+
+    /** @return the maximum normalized rank error of the quantiles */
+    public double getRankError() {
+        return m_rankError;
+    }
+
+    /** @return the number of values added to the sketch */
+    public long getCount() {
+        return m_count;
+    }
+
+    /** @return whether no compaction took place yet, i.e. all values are retained and quantiles are exact */
+    public boolean isExact() {
+        return m_levels.length == 1 && m_count == m_levelSizes[0];
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+    public void update(final double value) {
+        if (m_count == 0) {
+            m_min = value;
+            m_max = value;
+        } else {
+            if (Double.compare(value, m_min) < 0) {
+                m_min = value;
+            }
+            if (Double.compare(value, m_max) > 0) {
+                m_max = value;
+            }
+        }
+        m_count++;
+        append(0, value);
+        m_retained++;
+        if (m_retained >= m_maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds all values of another sketch to this sketch. The other sketch is not modified.
+     *
+     * @param other the sketch to merge into this sketch
+     */
+    public void merge(final QuantileSketch other) {
+        if (other.m_count == 0) {
+            return;
+        }
+        if (m_count == 0) {
+            m_min = other.m_min;
+            m_max = other.m_max;
+        } else {
+            if (Double.compare(other.m_min, m_min) < 0) {
+                m_min = other.m_min;
+            }
+            if (Double.compare(other.m_max, m_max) > 0) {
+                m_max = other.m_max;
+            }
+        }
+        while (m_levels.length < other.m_levels.length) {
+            addLevel();
+        }
+        for (int h = 0; h < other.m_levels.length; h++) {
+            for (int i = 0; i < other.m_levelSizes[h]; i++) {
+                append(h, other.m_levels[h][i]);
+            }
+        }
+        m_count += other.m_count;
+        m_retained += other.m_retained;
+        while (m_retained >= m_maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Returns the smallest retained value whose rank is at least the given fraction of the number of values. The
+     * minimum and maximum are always exact.
+     *
+     * @param fraction the normalized rank, in [0, 1]
+     * @return the approximate quantile, {@link Double#NaN} if the sketch is empty
+     */
+    public double getQuantile(final double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The quantile must be in [0, 1]: " + fraction);
+        }
+        if (m_count == 0) {
+            return Double.NaN;
+        }
+        if (fraction == 0) {
+            return m_min;
+        }
+        if (fraction == 1) {
+            return m_max;
+        }
+        final var values = new double[m_retained];
+        final var weights = new long[m_retained];
+        sortedWithWeights(values, weights);
+        final double rank = fraction * m_count;
+        long cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (cumulative >= rank) {
+                return values[i];
+            }
+        }
+        return m_max;
+    }
+
+    /**
+     * Returns the median. As long as the sketch is exact, this is the mean of the two middle values for an even number
+     * of values, otherwise it is the {@link #getQuantile(double) quantile} 0.5.
+     *
+     * @return the (approximate) median, {@link Double#NaN} if the sketch is empty
+     */
+    public double getMedian() {
+        if (m_count == 0) {
+            return Double.NaN;
+        }
+        if (!isExact()) {
+            return getQuantile(0.5);
+        }
+        final double[] values = Arrays.copyOf(m_levels[0], m_levelSizes[0]);
+        Arrays.sort(values);
+        final int n = values.length;
+        return (values[(n - 1) / 2] + values[n / 2]) / 2;
+    }
+
+    /** Merges the sorted compactors into arrays of values in ascending order and their weights. */
+    private void sortedWithWeights(final double[] values, final long[] weights) {
+        int size = 0;
+        for (int h = 0; h < m_levels.length; h++) {
+            final double[] level = Arrays.copyOf(m_levels[h], m_levelSizes[h]);
+            Arrays.sort(level);
+            // merge the sorted level into the sorted prefix, starting from the back
+            int i = size - 1;
+            int j = level.length - 1;
+            int target = size + level.length - 1;
+            final long weight = 1L << h;
+            while (j >= 0) {
+                if (i >= 0 && Double.compare(values[i], level[j]) > 0) {
+                    values[target] = values[i];
+                    weights[target] = weights[i];
+                    i--;
+                } else {
+                    values[target] = level[j];
+                    weights[target] = weight;
+                    j--;
+                }
+                target--;
+            }
+            size += level.length;
+        }
+    }
+
+    /**
+     * Adds a compactor on top of the hierarchy. The capacities shrink geometrically from the top to the bottom of the
+     * hierarchy, so most of the retained values have a large weight.
+     */
+    private void addLevel() {
+        final int height = m_levels.length + 1;
+        m_levels = Arrays.copyOf(m_levels, height);
+        m_levelSizes = Arrays.copyOf(m_levelSizes, height);
+        m_capacities = new int[height];
+        m_levels[height - 1] = new double[MIN_CAPACITY];
+        m_maxRetained = 0;
+        for (int h = 0; h < height; h++) {
+            final int depth = height - h - 1;
+            m_capacities[h] = Math.max(MIN_CAPACITY, (int)Math.ceil(m_k * Math.pow(CAPACITY_RATIO, depth)));
+            m_maxRetained += m_capacities[h];
+        }
+    }
+
+    private void append(final int h, final double value) {
+        if (m_levelSizes[h] == m_levels[h].length) {
+            m_levels[h] = Arrays.copyOf(m_levels[h], Math.max(MIN_CAPACITY, m_levels[h].length * 2));
+        }
+        m_levels[h][m_levelSizes[h]++] = value;
+    }
+
+    /** Compacts the lowest compactor that exceeds its capacity. */
+    private void compress() {
+        for (int h = 0; h < m_levels.length; h++) {
+            if (m_levelSizes[h] >= m_capacities[h]) {
+                if (h + 1 == m_levels.length) {
+                    addLevel();
+                }
+                compact(h);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sorts compactor h and promotes either the values at even or at odd positions to compactor h + 1. If the number
+     * of values is odd, the smallest value stays behind.
+     */
+    private void compact(final int h) {
+        final double[] level = m_levels[h];
+        final int size = m_levelSizes[h];
+        Arrays.sort(level, 0, size);
+        final int start = size % 2;
+        final int offset = m_random.nextBoolean() ? 1 : 0;
+        for (int i = start + offset; i < size; i += 2) {
+            append(h + 1, level[i]);
+        }
+        m_levelSizes[h] = start;
+        m_retained -= (size - start) / 2;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * {@link QuantileSketch Quantile sketches} for several columns of a table that is read row by row. The values are
+ * buffered column-wise in chunks of rows, and each full chunk is fed into the sketches of disjoint groups of columns
+ * concurrently, so wide tables use all available cores while the table itself is read only once.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class QuantileSketches {
+
+    /** Number of rows buffered before the sketches are updated. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final QuantileSketch[] m_sketches;
+
+    private final double[][] m_buffers;
+
+    private final int[] m_bufferSizes;
+
+    private final int m_numGroups;
+
+    /**
+     * @param numColumns the number of columns
+     * @param rankError the maximum normalized rank error of each sketch, see {@link QuantileSketch#QuantileSketch(double)}
+     */
+    public QuantileSketches(final int numColumns, final double rankError) {
+        m_sketches = new QuantileSketch[numColumns];
+        m_buffers = new double[numColumns][CHUNK_SIZE];
+        m_bufferSizes = new int[numColumns];
+        for (int i = 0; i < numColumns; i++) {
+            m_sketches[i] = new QuantileSketch(rankError);
+        }
+        m_numGroups = Math.max(1, Math.min(numColumns, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Adds a value of a column. Missing values should simply not be added.
+     *
+     * @param column the index of the column, in [0, numColumns)
+     * @param value the value
+     * @throws CanceledExecutionException if the thread is interrupted while the sketches are updated
+     */
+    public void update(final int column, final double value) throws CanceledExecutionException {
+        m_buffers[column][m_bufferSizes[column]++] = value;
+        if (m_bufferSizes[column] == CHUNK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Feeds all buffered values into the sketches. Must be called after the last value has been added and before the
+     * sketches are queried.
+     *
+     * @throws CanceledExecutionException if the thread is interrupted while the sketches are updated
+     */
+    public void flush() throws CanceledExecutionException {
+        if (m_numGroups == 1) {
+            updateSketches(0, m_sketches.length);
+            return;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>(m_numGroups);
+        for (int g = 0; g < m_numGroups; g++) {
+            final int from = (int)((long)m_sketches.length * g / m_numGroups);
+            final int to = (int)((long)m_sketches.length * (g + 1) / m_numGroups);
+            tasks.add(() -> {
+                updateSketches(from, to);
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+    }
+
+    private void updateSketches(final int fromColumn, final int toColumn) {
+        for (int c = fromColumn; c < toColumn; c++) {
+            final QuantileSketch sketch = m_sketches[c];
+            final double[] buffer = m_buffers[c];
+            for (int i = 0; i < m_bufferSizes[c]; i++) {
+                sketch.update(buffer[i]);
+            }
+            m_bufferSizes[c] = 0;
+        }
+    }
+
+    /**
+     * @param column the index of the column
+     * @return the sketch of the column, only complete after {@link #flush()}
+     */
+    public QuantileSketch getSketch(final int column) {
+        return m_sketches[column];
+    }
+}
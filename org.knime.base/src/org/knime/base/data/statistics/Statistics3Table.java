@@ -134,6 +134,9 @@ public class Statistics3Table {
     /** Used to cache the media for each column. */
     private final double[] m_median;
 
+    /** The quantile sketch for each column, entries are {@code null} if the median was not approximated. */
+    private final QuantileSketch[] m_quantileSketches;
+
     /** Array of maps containing DataValue value to number of occurrences. */
     private final List<Map<DataCell, Integer>> m_nominalValues;
 
@@ -214,6 +217,27 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             table.getDataTableSpec(), nominalValueColumns));
     }
 
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values. If the median is
+     * approximated, it traverses the table only once.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param medianRankError the maximum normalized rank error of the approximated median, {@code 0} to compute the
+     *            exact median
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @throws CanceledExecutionException if user canceled
+     * @since 5.12
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final double medianRankError,
+        final int numNomValuesOutput, final List<String> nominalValueColumns, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        this(table, computeMedian, medianRankError, numNomValuesOutput, nominalValueColumns, exec,
+            allApplicableColumns(table.getDataTableSpec(), nominalValueColumns));
+    }
+
     /**
      * Finds those columns that have applicable columns.
      *
@@ -274,6 +298,30 @@ private static int[] allColumns(final int numberOfColumns) {
     public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final int numNomValuesOutput,
         final List<String> nominalValueColumns, final ExecutionContext exec, final int... selectedColumnIndices)
         throws CanceledExecutionException {
+        this(table, computeMedian, 0, numNomValuesOutput, nominalValueColumns, exec, selectedColumnIndices);
+    }
+
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values. If the median is
+     * approximated, the table is traversed only once and the medians (and other quantiles, see
+     * {@link #getQuantile(int, double)}) are estimated by {@link QuantileSketch quantile sketches} with the given rank
+     * error, which are updated concurrently for groups of columns. Otherwise the exact medians are computed by sorting
+     * each column.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param medianRankError the maximum normalized rank error of the approximated median, {@code 0} to compute the
+     *            exact median
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @param selectedColumnIndices The indices of columns to compute the statistics.
+     * @throws CanceledExecutionException if user canceled
+     * @since 5.12
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final double medianRankError,
+        final int numNomValuesOutput, final List<String> nominalValueColumns, final ExecutionContext exec,
+        final int... selectedColumnIndices) throws CanceledExecutionException {
         final int[] colIndices = check(selectedColumnIndices, table.getSpec(), nominalValueColumns);
         int nrCols = table.getDataTableSpec().getNumColumns();
         m_spec = table.getDataTableSpec();
@@ -299,6 +347,15 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
         m_posInfinityValueCnt = new int[nrCols];
         m_negInfinityValueCnt = new int[nrCols];
         m_median = new double[nrCols];
+        m_quantileSketches = new QuantileSketch[nrCols];
+        final boolean approximateMedian = computeMedian && medianRankError > 0;
+        final int[] doubleIndices = filter(m_spec, colIndices);
+        final int[] sketchSlots = new int[nrCols];
+        final QuantileSketches sketches =
+            approximateMedian ? new QuantileSketches(doubleIndices.length, medianRankError) : null;
+        for (int i = 0; i < doubleIndices.length; i++) {
+            sketchSlots[doubleIndices[i]] = i;
+        }
         m_nominalValues = new ArrayList<Map<DataCell, Integer>>(nominalValueColumns.size());
         for (int i = nrCols; i-- > 0;) {
             m_nominalValues.add(null);
@@ -347,12 +404,8 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
 
         final int rowCnt = table.getRowCount();
         double diffProgress = rowCnt;
-        if (computeMedian) {
-            for (int i : colIndices) {
-                if (m_spec.getColumnSpec(i).getType().isCompatible(DoubleValue.class)) {
-                    diffProgress += rowCnt;
-                }
-            }
+        if (computeMedian && !approximateMedian) {
+            diffProgress += (double)rowCnt * doubleIndices.length;
         }
         int rowIdx = 0;
         for (RowIterator rowIt = table.iterator(); rowIt.hasNext(); rowIdx++) {
@@ -386,6 +439,9 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
                         kurtosis[c].increment(d);
                         sumsquare[c] += d * d;
                         validCount[c]++;
+                        if (sketches != null) {
+                            sketches.update(sketchSlots[c], d);
+                        }
                     }
                 } else {
                     m_missingValueCnt[c]++;
@@ -488,13 +544,18 @@ public int compare(final Entry<DataCell, MutableInteger> o1, final Entry<DataCel
         }
 
         // compute median values if desired
-        if (computeMedian) {
-            final int[] filteredIndices = filter(table.getSpec(), colIndices);
-            final MedianTable medianTable = new MedianTable(table, filteredIndices);
+        if (approximateMedian) {
+            sketches.flush();
+            for (int i = 0; i < doubleIndices.length; ++i) {
+                m_quantileSketches[doubleIndices[i]] = sketches.getSketch(i);
+                m_median[doubleIndices[i]] = sketches.getSketch(i).getMedian();
+            }
+        } else if (computeMedian) {
+            final MedianTable medianTable = new MedianTable(table, doubleIndices);
             medianTable.setInMemory(table.getRowCount() < Runtime.getRuntime().freeMemory() / Double.SIZE / 2);
             double[] medianValues = medianTable.medianValues(exec);
-            for (int i = 0; i < filteredIndices.length; ++i) {
-                m_median[filteredIndices[i]] = medianValues[i];
+            for (int i = 0; i < doubleIndices.length; ++i) {
+                m_median[doubleIndices[i]] = medianValues[i];
             }
         }
     }
@@ -1060,6 +1121,20 @@ public double getMedian(final int colIdx) {
         return getValueOrNaN(m_median, colIdx);
     }
 
+    /**
+     * Returns the (approximate) quantile for the desired column. Only available if the table was created with an
+     * approximated median, i.e. a positive median rank error, and not loaded.
+     *
+     * @param colIdx the column index
+     * @param fraction the fraction of values that are smaller than the quantile, in [0, 1]
+     * @return the approximate quantile, {@link Double#NaN} if not available or the column contains only missing cells
+     * @since 5.12
+     */
+    public double getQuantile(final int colIdx, final double fraction) {
+        final QuantileSketch sketch = m_quantileSketches[colIdx];
+        return sketch == null ? Double.NaN : sketch.getQuantile(fraction);
+    }
+
     /**
      * Returns the median for all columns.
      *
@@ -1175,6 +1250,7 @@ private Statistics3Table(final DataTableSpec spec, final DataCell[] minCells, fi
         m_maxNonInfValues = maxNonInfValues;
         m_meanValues = meanValues;
         m_median = median;
+        m_quantileSketches = new QuantileSketch[spec.getNumColumns()];
         m_varianceValues = varianceValues;
         m_sum = sum;
         m_missingValueCnt = missings;
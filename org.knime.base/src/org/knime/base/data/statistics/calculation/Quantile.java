@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.data.statistics.calculation;
+
+import org.knime.base.data.statistics.QuantileSketch;
+import org.knime.base.data.statistics.QuantileSketches;
+import org.knime.base.data.statistics.Statistic;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Approximates the median and other quantiles of the given columns with {@link QuantileSketch quantile sketches} in a
+ * single pass, i.e. without sorting the table. The sketches of groups of columns are updated concurrently. Missing
+ * values are ignored.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @deprecated see {@link org.knime.core.data.statistics}
+ */
+@Deprecated(since = "5.12")
+public class Quantile extends Statistic {
+
+    private final double m_rankError;
+
+    private QuantileSketches m_sketches;
+
+    /**
+     * @param columns to approximate the quantiles of
+     */
+    public Quantile(final String... columns) {
+        this(QuantileSketch.DEFAULT_RANK_ERROR, columns);
+    }
+
+    /**
+     * @param rankError the maximum normalized rank error, see {@link QuantileSketch#QuantileSketch(double)}
+     * @param columns to approximate the quantiles of
+     */
+    public Quantile(final double rankError, final String... columns) {
+        super(DoubleValue.class, columns);
+        if (!(rankError > 0 && rankError < 1)) {
+            throw new IllegalArgumentException("The rank error must be in (0, 1): " + rankError);
+        }
+        m_rankError = rankError;
+    }
+
+    /**
+     * @param column the column
+     * @param fraction the fraction of values that are smaller than the quantile, in [0, 1]
+     * @return the approximate quantile, {@link Double#NaN} if the column contains only missing values
+     */
+    public double getQuantile(final String column, final double fraction) {
+        return m_sketches.getSketch(assertIndexForColumn(column)).getQuantile(fraction);
+    }
+
+    /**
+     * @param column the column
+     * @return the approximate median, {@link Double#NaN} if the column contains only missing values
+     */
+    public double getMedian(final String column) {
+        return m_sketches.getSketch(assertIndexForColumn(column)).getMedian();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void init(final DataTableSpec spec, final int amountOfColumns) {
+        m_sketches = new QuantileSketches(amountOfColumns, m_rankError);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void consumeRow(final DataRow dataRow) {
+        int index = 0;
+        for (int i : getIndices()) {
+            final DataCell cell = dataRow.getCell(i);
+            if (!cell.isMissing()) {
+                update(index, ((DoubleValue)cell).getDoubleValue());
+            }
+            index++;
+        }
+    }
+
+    private void update(final int index, final double value) {
+        try {
+            m_sketches.update(index, value);
+        } catch (CanceledExecutionException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String afterEvaluation() {
+        try {
+            m_sketches.flush();
+        } catch (CanceledExecutionException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return super.afterEvaluation();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.io.filehandling.csv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits the characters provided by a {@link Reader} into blocks that only contain complete rows, i.e. each block
+ * ends with the row delimiter (except for the last block if the input does not end with one). The blocks can therefore
+ * be parsed independently of each other.
+ *
+ * Rows are only split at row delimiters, hence this reader must only be used if row delimiters do not occur inside of
+ * quotes.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class RowBlockReader implements Closeable {
+
+    private final Reader m_reader;
+
+    private final char[] m_rowDelimiter;
+
+    private char[] m_buffer;
+
+    /** the number of valid chars in m_buffer */
+    private int m_length;
+
+    private boolean m_reachedEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param reader to read the characters from
+     * @param rowDelimiter the row delimiter blocks end with
+     * @param blockSize the minimal size of a block, blocks are only larger if a single row exceeds this size
+     */
+    public RowBlockReader(final Reader reader, final String rowDelimiter, final int blockSize) {
+        if (rowDelimiter.isEmpty()) {
+            throw new IllegalArgumentException("The row delimiter must not be empty.");
+        }
+        if (blockSize < rowDelimiter.length()) {
+            throw new IllegalArgumentException("The block size must not be smaller than the row delimiter.");
+        }
+        m_reader = reader;
+        m_rowDelimiter = rowDelimiter.toCharArray();
+        m_buffer = new char[blockSize];
+    }
+
+    /**
+     * Reads the next block of rows.
+     *
+     * @return the next block or {@code null} if the end of the input is reached
+     * @throws IOException if reading from the underlying reader fails
+     */
+    public CharBuffer readBlock() throws IOException {
+        for (var searchFrom = 0;;) {
+            fillBuffer();
+            if (m_reachedEnd) {
+                if (m_length == 0) {
+                    return null;
+                }
+                final var block = CharBuffer.wrap(Arrays.copyOf(m_buffer, m_length));
+                m_length = 0;
+                return block;
+            }
+            final var blockEnd = findLastRowEnd(searchFrom);
+            if (blockEnd > 0) {
+                final var block = CharBuffer.wrap(Arrays.copyOf(m_buffer, blockEnd));
+                m_length -= blockEnd;
+                System.arraycopy(m_buffer, blockEnd, m_buffer, 0, m_length);
+                return block;
+            }
+            // a single row exceeds the buffer, only the part that has not been searched needs to be searched again
+            searchFrom = Math.max(0, m_length - m_rowDelimiter.length + 1);
+            m_buffer = Arrays.copyOf(m_buffer, m_buffer.length * 2);
+        }
+    }
+
+    private void fillBuffer() throws IOException {
+        while (m_length < m_buffer.length) {
+            final var numRead = m_reader.read(m_buffer, m_length, m_buffer.length - m_length);
+            if (numRead < 0) {
+                m_reachedEnd = true;
+                return;
+            }
+            m_length += numRead;
+        }
+    }
+
+    /**
+     * @return the index after the last row delimiter that starts at or after searchFrom, or -1 if there is none
+     */
+    private int findLastRowEnd(final int searchFrom) {
+        final var delimiterLength = m_rowDelimiter.length;
+        for (int start = m_length - delimiterLength; start >= searchFrom; start--) {
+            if (Arrays.equals(m_buffer, start, start + delimiterLength, m_rowDelimiter, 0, delimiterLength)) {
+                return start + delimiterLength;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_reader.close();
+    }
+
+}
@@ -49,7 +49,7 @@
 package org.knime.base.node.io.filehandling.csv.reader.api;
 
 import java.util.Arrays;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.knime.filehandling.core.node.table.reader.type.hierarchy.TreeTypeHierarchy;
 import org.knime.filehandling.core.node.table.reader.type.hierarchy.TypeTester;
@@ -64,35 +64,35 @@ public enum CSVGuessableType {
     /** String is the root of the type hierarchy. */
     STRING(null, String.class) {
         @Override
-        protected Consumer<String> getTester(final CSVTableReaderConfig cfg) {
-            return str -> {};
+        protected Predicate<String> getTester(final CSVTableReaderConfig cfg) {
+            return str -> true;
         }
     },
 
     /** Double-precision floating-point numbers. */
     DOUBLE(String.class, Double.class) {
         @Override
-        protected Consumer<String> getTester(final CSVTableReaderConfig cfg) {
+        protected Predicate<String> getTester(final CSVTableReaderConfig cfg) {
             final var parser = new DoubleParser(cfg);
-            return parser::parse;
+            return parser::canParse;
         }
     },
 
     /** 64-bit integer values. */
     LONG(Double.class, Long.class) {
         @Override
-        protected Consumer<String> getTester(final CSVTableReaderConfig cfg) {
+        protected Predicate<String> getTester(final CSVTableReaderConfig cfg) {
             final var parser = new IntegerParser(cfg);
-            return parser::parseLong;
+            return parser::isLong;
         }
     },
 
     /** 32-bit integer values. */
     INTEGER(Long.class, Integer.class) {
         @Override
-        protected Consumer<String> getTester(final CSVTableReaderConfig cfg) {
+        protected Predicate<String> getTester(final CSVTableReaderConfig cfg) {
             final var parser = new IntegerParser(cfg);
-            return parser::parseInt;
+            return parser::isInt;
         }
     };
 
@@ -140,12 +140,13 @@ public static TreeTypeHierarchy<Class<?>, String> stringOnlyHierarchy() {
     }
 
     /**
-     * Creates a tester for this type that throws a {@link NumberFormatException} if the string can't be converted.
+     * Creates a tester for this type that returns {@code false} if the string can't be converted. The tester must not
+     * rely on exceptions as it is called for every cell of the scanned rows.
      *
      * @param cfg configuration for value formats
      * @return tester
      */
-    protected abstract Consumer<String> getTester(CSVTableReaderConfig cfg);
+    protected abstract Predicate<String> getTester(CSVTableReaderConfig cfg);
 
     /**
      * Creates a type tester for this guessable type.
@@ -154,14 +155,6 @@ public static TreeTypeHierarchy<Class<?>, String> stringOnlyHierarchy() {
      * @return type tester
      */
     private TypeTester<Class<?>, String> createTypeTester(final CSVTableReaderConfig cfg) {
-        final Consumer<String> tester = getTester(cfg);
-        return TypeTester.createTypeTester(m_javaClass, s -> {
-            try {
-                tester.accept(s);
-                return true;
-            } catch (NumberFormatException ex) {
-                return false;
-            }
-        });
+        return TypeTester.createTypeTester(m_javaClass, getTester(cfg));
     }
 }
@@ -51,21 +51,36 @@
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.Reader;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.knime.base.node.io.filehandling.csv.reader.ChunkReader;
 import org.knime.base.node.io.filehandling.csv.reader.OSIndependentNewLineReader;
+import org.knime.base.node.io.filehandling.csv.reader.RowBlockReader;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
 import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.connections.meta.FSType;
 import org.knime.filehandling.core.node.table.reader.SourceGroup;
@@ -95,6 +110,12 @@
  */
 public final class CSVTableReader implements TableReader<CSVTableReaderConfig, Class<?>, String> {
 
+    /**
+     * The assumed ratio between the uncompressed and the compressed size of a file, used to decide whether it is worth
+     * to parse a compressed file in parallel.
+     */
+    private static final int ESTIMATED_COMPRESSION_RATIO = 4;
+
     @SuppressWarnings("resource") // closing the read is the responsibility of the caller
     @Override
     public Read<String> read(final FSPath path, final TableReadConfig<CSVTableReaderConfig> config)
@@ -106,6 +127,9 @@ public Read<String> read(final FSPath path, final TableReadConfig<CSVTableReader
     @Override
     public List<Read<String>> multiRead(final FSPath item, final TableReadConfig<CSVTableReaderConfig> config)
         throws IOException {
+        if (canPipeline(item, config)) {
+            return List.of(readPipelined(item, config));
+        }
         if (cannotParallelize(item, config)) {
             return List.of(read(item, config));
         }
@@ -142,16 +166,49 @@ private static int findNumberOfChunks(final long fileSize, final int maxNumChunk
     }
 
     private static boolean cannotParallelize(final FSPath item, final TableReadConfig<CSVTableReaderConfig> config) {
-        var csvConfig = config.getReaderSpecificConfig();
         return !isLocalPath(item)
                 || FileCompressionUtils.mightBeCompressed(item)//
-                || config.limitRows()//
+                || cannotSplitIntoRows(config);
+    }
+
+    /**
+     * Checks whether the rows of a file can be determined without parsing it, i.e. by splitting at the row delimiters.
+     */
+    private static boolean cannotSplitIntoRows(final TableReadConfig<CSVTableReaderConfig> config) {
+        var csvConfig = config.getReaderSpecificConfig();
+        return config.limitRows()//
                 || config.skipRows()//
                 || !csvConfig.noRowDelimitersInQuotes()//
                 || csvConfig.skipLines()//
                 || StandardCharsets.UTF_16.equals(getCharset(csvConfig));
     }
 
+    /**
+     * Compressed files can't be split into chunks as they are not seekable. Instead they are decompressed by a single
+     * thread that hands blocks of rows to several parser threads, provided the file is large enough.
+     */
+    private static boolean canPipeline(final FSPath item, final TableReadConfig<CSVTableReaderConfig> config)
+        throws IOException {
+        return FileCompressionUtils.mightBeCompressed(item)//
+                && !cannotSplitIntoRows(config)//
+                && getEstimatedUncompressedSize(item) >= config.getReaderSpecificConfig().getMinChunkSizeInBytes();
+    }
+
+    private static long getEstimatedUncompressedSize(final FSPath item) throws IOException {
+        return Files.size(item) * ESTIMATED_COMPRESSION_RATIO;
+    }
+
+    @SuppressWarnings("resource") // the returned read is closed by the client
+    private static Read<String> readPipelined(final FSPath item, final TableReadConfig<CSVTableReaderConfig> config)
+        throws IOException {
+        var csvConfig = config.getReaderSpecificConfig();
+        var numParsers = findNumberOfChunks(getEstimatedUncompressedSize(item), csvConfig.getMaxNumChunksPerFile(),
+            csvConfig.getMinChunkSizeInBytes());
+        Read<String> read = new PipelinedCsvRead(item, numParsers, config);
+        read = ReadUtils.decorateAllowShortRows(read, config);
+        return ReadUtils.decorateSkipEmpty(read, config);
+    }
+
     @Override
     public boolean canBeReadInParallel(final SourceGroup<FSPath> sourceGroup) {
         return isLocalPath(sourceGroup.iterator().next());
@@ -342,6 +399,203 @@ public boolean needsDecoration() {
 
     }
 
+    /**
+     * {@link Read} for compressed files that decompresses the file on a dedicated thread, which splits the decoded
+     * characters into blocks of complete rows. The blocks are parsed by a pool of parser threads, and the parsed rows
+     * are returned in the order of the file. The number of blocks in flight is bounded so that the decompression can't
+     * run arbitrarily far ahead of the consumer.
+     */
+    private static final class PipelinedCsvRead implements Read<String> {
+
+        /** The number of chars a block of rows contains at least. */
+        private static final int BLOCK_SIZE = 1 << 20;
+
+        /** Marks the end of the input in the block queue. */
+        private static final Future<List<String[]>> END_OF_INPUT = CompletableFuture.completedFuture(List.of());
+
+        private static final AtomicInteger READ_COUNTER = new AtomicInteger();
+
+        private final CompressionAwareCountingInputStream m_compressionAwareStream;
+
+        private final long m_size;
+
+        private final ErrorHandler m_errorParser;
+
+        /** the parser settings with the potentially adapted line separator, cloned for each block */
+        private final CsvParserSettings m_csvSettings;
+
+        private final ExecutorService m_decompressor;
+
+        private final ExecutorService m_parsers;
+
+        /** the parsed blocks in the order of the file */
+        private final BlockingQueue<Future<List<String[]>>> m_blocks;
+
+        private Iterator<String[]> m_currentBlock = Collections.emptyIterator();
+
+        private boolean m_skipRow;
+
+        private boolean m_reachedEnd;
+
+        @SuppressWarnings("resource") // the streams are closed by the close method
+        PipelinedCsvRead(final FSPath path, final int numParsers,
+            final TableReadConfig<CSVTableReaderConfig> config) throws IOException {
+            m_size = Files.size(path);
+            m_compressionAwareStream = new CompressionAwareCountingInputStream(path);
+            // the column header is part of the first block
+            m_skipRow = config.useColumnHeaderIdx();
+            final CSVTableReaderConfig csvReaderConfig = config.getReaderSpecificConfig();
+            m_csvSettings = csvReaderConfig.getCsvSettings();
+            m_errorParser = new ErrorHandler(m_csvSettings);
+            Reader reader = BomEncodingUtils.createReader(m_compressionAwareStream, getCharset(csvReaderConfig));
+            final String rowDelimiter;
+            if (csvReaderConfig.useLineBreakRowDelimiter()) {
+                m_csvSettings.getFormat().setLineSeparator(OSIndependentNewLineReader.LINE_BREAK);
+                reader = new OSIndependentNewLineReader(reader);
+                rowDelimiter = OSIndependentNewLineReader.LINE_BREAK;
+            } else {
+                rowDelimiter = csvReaderConfig.getLineSeparator();
+            }
+            m_blocks = new ArrayBlockingQueue<>(2 * numParsers);
+            final var readId = READ_COUNTER.incrementAndGet();
+            m_decompressor = ThreadUtils.executorServiceWithContext(
+                Executors.newSingleThreadExecutor(createThreadFactory("CSV Reader decompression-" + readId)));
+            m_parsers = ThreadUtils.executorServiceWithContext(
+                Executors.newFixedThreadPool(numParsers, createThreadFactory("CSV Reader parser-" + readId)));
+            final var blockReader = new RowBlockReader(reader, rowDelimiter, BLOCK_SIZE);
+            m_decompressor.execute(() -> produceBlocks(blockReader));
+        }
+
+        private static ThreadFactory createThreadFactory(final String namePrefix) {
+            final var threadCounter = new AtomicInteger();
+            return r -> {
+                final var thread = new Thread(r, namePrefix + "-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+
+        /** Runs on the decompression thread and hands the blocks to the parser threads. */
+        private void produceBlocks(final RowBlockReader blockReader) {
+            try (blockReader) {
+                for (var block = blockReader.readBlock(); block != null; block = blockReader.readBlock()) {
+                    final var rows = block;
+                    m_blocks.put(m_parsers.submit(() -> parseBlock(rows)));
+                }
+                m_blocks.put(END_OF_INPUT);
+            } catch (InterruptedException ex) { // NOSONAR the read has been closed, the thread terminates anyway
+                // nothing to do
+            } catch (IOException | RuntimeException ex) {
+                // reported by the consumer once it reaches this position
+                try {
+                    m_blocks.put(CompletableFuture.failedFuture(ex));
+                } catch (InterruptedException ie) { // NOSONAR the read has been closed
+                    // nothing to do
+                }
+            }
+        }
+
+        private List<String[]> parseBlock(final CharBuffer block) {
+            final var parser = new CsvParser(m_csvSettings.clone());
+            final List<String[]> rows = new ArrayList<>();
+            parser.beginParsing(new CharBufferReader(block));
+            for (var row = parser.parseNext(); row != null; row = parser.parseNext()) {
+                rows.add(row);
+            }
+            parser.stopParsing();
+            return rows;
+        }
+
+        @Override
+        public RandomAccessible<String> next() throws IOException {
+            while (!m_currentBlock.hasNext()) {
+                if (m_reachedEnd) {
+                    return null;
+                }
+                m_currentBlock = takeBlock();
+            }
+            var row = m_currentBlock.next();
+            if (m_skipRow) {
+                m_skipRow = false;
+                return next();
+            }
+            return RandomAccessibleUtils.createFromArrayUnsafe(row);
+        }
+
+        private Iterator<String[]> takeBlock() throws IOException {
+            try {
+                final var block = m_blocks.take();
+                if (block == END_OF_INPUT) {
+                    m_reachedEnd = true;
+                    return Collections.emptyIterator();
+                }
+                return block.get().iterator();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                final var ioe = new InterruptedIOException("Reading has been interrupted.");
+                ioe.initCause(ex);
+                throw ioe;
+            } catch (ExecutionException ex) {
+                final var cause = ex.getCause();
+                if (cause instanceof TextParsingException tpe) {
+                    throw m_errorParser.parse(tpe);
+                } else if (cause instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+
+        @Override
+        public OptionalLong getMaxProgress() {
+            return OptionalLong.of(m_size);
+        }
+
+        @Override
+        public long getProgress() {
+            return m_compressionAwareStream.getCount();
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_decompressor.shutdownNow();
+            m_parsers.shutdownNow();
+            m_blocks.clear();
+            m_compressionAwareStream.close();
+        }
+
+        @Override
+        public boolean needsDecoration() {
+            return false;
+        }
+
+    }
+
+    /** {@link Reader} over a {@link CharBuffer} that, unlike {@link java.io.CharArrayReader}, does not synchronize. */
+    private static final class CharBufferReader extends Reader {
+
+        private final CharBuffer m_buffer;
+
+        CharBufferReader(final CharBuffer buffer) {
+            m_buffer = buffer;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (!m_buffer.hasRemaining()) {
+                return -1;
+            }
+            final var numRead = Math.min(len, m_buffer.remaining());
+            m_buffer.get(cbuf, off, numRead);
+            return numRead;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+
     private static Charset getCharset(final CSVTableReaderConfig config) {
         final String charSetName = config.getCharSetName();
         return charSetName == null ? Charset.defaultCharset() : Charset.forName(charSetName);
@@ -54,22 +54,62 @@
 import org.knime.core.util.Pair;
 
 /**
- * Parses double values from Strings.
+ * Parses double values from character sequences.
  * Allows to specify the thousands and decimal separator.
  *
+ * The characters are scanned directly. Values with at most {@value #MAX_FAST_DIGITS} significant digits and a decimal
+ * exponent of at most {@value #MAX_FAST_EXPONENT} are computed without creating any objects, which is exact because
+ * both the digits and the power of ten are exactly representable as doubles. Other plain decimal values are handed to
+ * {@link Double#parseDouble(String)} after removing the thousands separators and replacing the decimal separator. The
+ * remaining values, e.g. NaN, infinity or hexadecimal values, go through the string based parsing.
+ *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 final class DoubleParser {
 
+    /** The maximal number of significant digits that are exactly representable as double. */
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /** The maximal decimal exponent whose power of ten is exactly representable as double. */
+    private static final int MAX_FAST_EXPONENT = 22;
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /*
+     * Results of scan(CharSequence). Non-negative results encode a value that can be computed exactly: the lowest 50
+     * bits hold the significant digits, the next 6 bits the decimal exponent shifted by MAX_FAST_EXPONENT and the
+     * following bit the sign.
+     */
+
+    /** The value is surely rejected by {@link Double#parseDouble(String)}. */
+    private static final long INVALID = -1;
+
+    /** The value has to be parsed by {@link #parseString(String)}. */
+    private static final long COMPLEX = -2;
+
+    /** The value is a valid decimal but needs {@link Double#parseDouble(String)} for correct rounding. */
+    private static final long PRECISE = -3;
+
+    private static final int EXPONENT_SHIFT = 50;
+
+    private static final int SIGN_SHIFT = 56;
+
+    private static final long MANTISSA_MASK = (1L << EXPONENT_SHIFT) - 1;
+
     /** Pair of matcher and replacement pattern for the thousands format. */
     private final Pair<Predicate<String>, String> m_thousandsFormat;
 
+    /** Thousands separator character or {@code '\0'} if there is none. */
+    private final char m_thousandsSeparator;
+
     /** Decimal separator character. */
     private final char m_decimalSeparator;
 
     DoubleParser(final CSVTableReaderConfig config) {
         m_decimalSeparator = config.getDecimalSeparatorChar();
         final var separatorChar = config.getThousandsSeparatorChar();
+        m_thousandsSeparator = separatorChar;
         if (separatorChar != '\0') {
             final String replace = Pattern.quote(Character.toString(separatorChar));
             final Predicate<String> search = Pattern.compile("(?i)[+-]?\\d{0,3}(?:" + replace + "\\d{3})*(?:"
@@ -80,7 +120,35 @@ final class DoubleParser {
         }
     }
 
-    double parse(final String value) {
+    double parse(final CharSequence value) {
+        final var scanned = scan(value);
+        if (scanned >= 0) {
+            return decode(scanned);
+        } else if (scanned == PRECISE) {
+            return Double.parseDouble(normalize(value));
+        }
+        // the string based parsing also creates the appropriate exception
+        return parseString(String.valueOf(value));
+    }
+
+    /**
+     * @param value to test
+     * @return {@code true} if {@link #parse(CharSequence)} succeeds for the value
+     */
+    boolean canParse(final CharSequence value) {
+        final var scanned = scan(value);
+        if (scanned != COMPLEX) {
+            return scanned != INVALID;
+        }
+        try {
+            parseString(value.toString());
+            return true;
+        } catch (NumberFormatException ex) { // NOSONAR the value is simply not a double
+            return false;
+        }
+    }
+
+    private double parseString(final String value) {
         String data = value;
         // for numbers, trim data and accept empty tokens as missing cells remove thousands grouping
         if (m_thousandsFormat != null) {
@@ -103,4 +171,177 @@ final class DoubleParser {
         }
         return Double.parseDouble(data);
     }
+
+    /**
+     * Removes the thousands separators and replaces the decimal separator of a value that passed
+     * {@link #scan(CharSequence)}.
+     */
+    private String normalize(final CharSequence value) {
+        if (m_thousandsSeparator == '\0' && m_decimalSeparator == '.') {
+            return value.toString();
+        }
+        final var length = value.length();
+        final var chars = new char[length];
+        var numChars = 0;
+        for (var i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+            if (c == m_decimalSeparator) {
+                chars[numChars] = '.';
+                numChars++;
+            } else if (c != m_thousandsSeparator) {
+                chars[numChars] = c;
+                numChars++;
+            }
+        }
+        return new String(chars, 0, numChars);
+    }
+
+    private static double decode(final long scanned) {
+        final double mantissa = scanned & MANTISSA_MASK;
+        final var exponent = (int)((scanned >>> EXPONENT_SHIFT) & 0x3F) - MAX_FAST_EXPONENT;
+        final var value = exponent >= 0 ? (mantissa * POWERS_OF_TEN[exponent]) : (mantissa / POWERS_OF_TEN[-exponent]);
+        return ((scanned >>> SIGN_SHIFT) & 1) == 1 ? -value : value;
+    }
+
+    /**
+     * Scans the value following the syntax accepted by {@link #parseString(String)}.
+     *
+     * @return {@link #INVALID}, {@link #COMPLEX}, {@link #PRECISE} or the encoded value
+     */
+    private long scan(final CharSequence value) {
+        if (value == null) {
+            return INVALID;
+        }
+        final var separated = m_thousandsSeparator != '\0';
+        var start = 0;
+        var end = value.length();
+        if (!separated) {
+            // Double#parseDouble trims, whereas the thousands format does not allow whitespace
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        var i = start;
+        var negative = false;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        final var signEnd = i;
+        var mantissa = 0L;
+        var numSignificant = 0;
+        var exponent = 0;
+        var hasDigits = false;
+
+        // integer part
+        var isGrouped = false;
+        var groupLength = 0;
+        for (; i < end; i++) {
+            final var c = value.charAt(i);
+            if (separated && c == m_thousandsSeparator) {
+                if (isGrouped ? groupLength != 3 : groupLength > 3) {
+                    return rejected(value, signEnd, end);
+                }
+                isGrouped = true;
+                groupLength = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            hasDigits = true;
+            groupLength++;
+            if (mantissa != 0 || c != '0') {
+                if (numSignificant < MAX_FAST_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                } else {
+                    exponent++;
+                }
+                numSignificant++;
+            }
+        }
+        if (isGrouped ? groupLength != 3 : (separated && groupLength > 3)) {
+            return rejected(value, signEnd, end);
+        }
+
+        // fraction
+        if (i < end && value.charAt(i) == m_decimalSeparator) {
+            for (i++; i < end; i++) {
+                final var c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                hasDigits = true;
+                if (mantissa != 0 || c != '0') {
+                    if (numSignificant < MAX_FAST_DIGITS) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        exponent--;
+                    }
+                    numSignificant++;
+                } else {
+                    exponent--;
+                }
+            }
+        }
+        if (!hasDigits) {
+            return rejected(value, signEnd, end);
+        }
+
+        // exponent
+        if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            var negativeExponent = false;
+            if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                negativeExponent = value.charAt(i) == '-';
+                i++;
+            }
+            var exponentValue = 0;
+            final var exponentStart = i;
+            for (; i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9'; i++) {
+                // large exponents are parsed by Double#parseDouble anyway, hence we only avoid the overflow
+                exponentValue = Math.min(exponentValue * 10 + (value.charAt(i) - '0'), 1 << 16);
+            }
+            if (i == exponentStart) {
+                return rejected(value, signEnd, end);
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+
+        // type suffix
+        if (i < end && "fFdD".indexOf(value.charAt(i)) >= 0) {
+            i++;
+        }
+        if (i != end) {
+            return rejected(value, signEnd, end);
+        }
+        if (mantissa == 0) {
+            exponent = 0;
+        } else if (numSignificant > MAX_FAST_DIGITS || Math.abs(exponent) > MAX_FAST_EXPONENT) {
+            return PRECISE;
+        }
+        return mantissa | ((long)(exponent + MAX_FAST_EXPONENT) << EXPONENT_SHIFT)
+            | ((negative ? 1L : 0L) << SIGN_SHIFT);
+    }
+
+    /**
+     * Decides whether a value that does not follow the plain decimal syntax is still accepted by
+     * {@link #parseString(String)}.
+     */
+    private long rejected(final CharSequence value, final int signEnd, final int end) {
+        if (m_thousandsSeparator != '\0') {
+            // the thousands format does not quote the decimal separator, i.e. '.' matches any character
+            return m_decimalSeparator == '.' ? COMPLEX : INVALID;
+        }
+        if (signEnd < end) {
+            // NaN, Infinity and hexadecimal values
+            final var c = value.charAt(signEnd);
+            if (c == 'N' || c == 'I' || (c == '0' && signEnd + 1 < end && (value.charAt(signEnd + 1) | 0x20) == 'x')) {
+                return COMPLEX;
+            }
+        }
+        return INVALID;
+    }
 }
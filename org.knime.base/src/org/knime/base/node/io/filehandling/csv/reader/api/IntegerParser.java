@@ -48,47 +48,168 @@
  */
 package org.knime.base.node.io.filehandling.csv.reader.api;
 
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
-
-import org.knime.core.util.Pair;
-
 /**
- * Parses integer and long values from Strings. Allows to specify a thousands separator.
+ * Parses integer and long values from character sequences. Allows to specify a thousands separator.
+ *
+ * The characters are scanned directly, i.e. neither regular expressions nor intermediate strings are involved. If a
+ * thousands separator is specified, the digits must be grouped by it, where only the first group may contain less than
+ * three digits. Without thousands separator, the values are converted by {@link Long#parseLong(String)} respectively
+ * {@link Integer#parseInt(String)}.
  *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 final class IntegerParser {
 
-    private final Pair<Predicate<String>, String> m_thousandsFormat;
+    /** Magnitude of {@link Integer#MAX_VALUE}. */
+    private static final String MAX_INT_DIGITS = "2147483647";
+
+    /** Magnitude of {@link Integer#MIN_VALUE}. */
+    private static final String MIN_INT_DIGITS = "2147483648";
+
+    /** Magnitude of {@link Long#MAX_VALUE}. */
+    private static final String MAX_LONG_DIGITS = "9223372036854775807";
+
+    /** Magnitude of {@link Long#MIN_VALUE}. */
+    private static final String MIN_LONG_DIGITS = "9223372036854775808";
+
+    /** The thousands separator or {@code '\0'} if there is none. */
+    private final char m_thousandsSeparator;
 
     IntegerParser(final CSVTableReaderConfig config) {
-        final var separatorChar = config.getThousandsSeparatorChar();
-        if (separatorChar != '\0') {
-            final var replace = Pattern.quote(Character.toString(separatorChar));
-            final var search = Pattern.compile("(?i)[+-]?\\d{0,3}(?:" + replace + "\\d{3})*").asMatchPredicate();
-            m_thousandsFormat = Pair.create(search, replace);
-        } else {
-            m_thousandsFormat = null;
+        m_thousandsSeparator = config.getThousandsSeparatorChar();
+    }
+
+    int parseInt(final CharSequence value) {
+        if (m_thousandsSeparator == '\0') {
+            return Integer.parseInt(value == null ? null : value.toString());
+        }
+        if (!isValid(value, MAX_INT_DIGITS, MIN_INT_DIGITS)) {
+            throw createException(value);
+        }
+        return (int)accumulate(value);
+    }
+
+    long parseLong(final CharSequence value) {
+        if (m_thousandsSeparator == '\0') {
+            return Long.parseLong(value == null ? null : value.toString());
+        }
+        if (!isValid(value, MAX_LONG_DIGITS, MIN_LONG_DIGITS)) {
+            throw createException(value);
         }
+        return accumulate(value);
+    }
+
+    /**
+     * @param value to test
+     * @return {@code true} if {@link #parseInt(CharSequence)} succeeds for the value
+     */
+    boolean isInt(final CharSequence value) {
+        return isValid(value, MAX_INT_DIGITS, MIN_INT_DIGITS);
     }
 
-    int parseInt(final String value) {
-        return Integer.parseInt(format(value));
+    /**
+     * @param value to test
+     * @return {@code true} if {@link #parseLong(CharSequence)} succeeds for the value
+     */
+    boolean isLong(final CharSequence value) {
+        return isValid(value, MAX_LONG_DIGITS, MIN_LONG_DIGITS);
     }
 
-    long parseLong(final String value) {
-        return Long.parseLong(format(value));
+    private NumberFormatException createException(final CharSequence value) {
+        if (m_thousandsSeparator != '\0') {
+            return new NumberFormatException("Integer format didn't match.");
+        }
+        return new NumberFormatException("For input string: \"" + value + "\"");
+    }
+
+    /**
+     * Checks the syntax of the value and whether its magnitude is within the given limits.
+     *
+     * @param maxDigits the decimal digits of the largest positive value
+     * @param minDigits the decimal digits of the magnitude of the smallest negative value
+     */
+    private boolean isValid(final CharSequence value, final String maxDigits, final String minDigits) {
+        if (value == null) {
+            return false;
+        }
+        final int length = value.length();
+        var i = 0;
+        var negative = false;
+        if (length > 0) {
+            final var first = value.charAt(0);
+            negative = first == '-';
+            if (negative || first == '+') {
+                i++;
+            }
+        }
+        final var limit = negative ? minDigits : maxDigits;
+        final var separated = m_thousandsSeparator != '\0';
+        var hasDigits = false;
+        var isGrouped = false;
+        var groupLength = 0;
+        // number of digits without leading zeros
+        var numSignificant = 0;
+        // result of comparing the significant digits to the limit, decided by the first differing digit
+        var comparison = 0;
+        for (; i < length; i++) {
+            final var c = value.charAt(i);
+            if (separated && c == m_thousandsSeparator) {
+                if (isGrouped ? groupLength != 3 : groupLength > 3) {
+                    return false;
+                }
+                isGrouped = true;
+                groupLength = 0;
+                continue;
+            }
+            final var digit = toDigit(c, separated);
+            if (digit < 0) {
+                return false;
+            }
+            hasDigits = true;
+            groupLength++;
+            if (numSignificant == 0 && digit == 0) {
+                continue;
+            }
+            if (comparison == 0 && numSignificant < limit.length()) {
+                comparison = Integer.compare(digit, limit.charAt(numSignificant) - '0');
+            }
+            numSignificant++;
+        }
+        if (!hasDigits || (isGrouped ? groupLength != 3 : (separated && groupLength > 3))) {
+            return false;
+        }
+        return numSignificant < limit.length() || (numSignificant == limit.length() && comparison <= 0);
     }
 
-    private String format(final String value) {
-        if (m_thousandsFormat != null) {
-            if (m_thousandsFormat.getFirst().test(value)) {
-                return value.replaceAll(m_thousandsFormat.getSecond(), "");
-            } else {
-                throw new NumberFormatException("Integer format didn't match.");
+    /**
+     * Computes the value of a valid character sequence. The value is accumulated negatively so that the minimal value
+     * does not overflow.
+     */
+    private long accumulate(final CharSequence value) {
+        final int length = value.length();
+        var i = 0;
+        final var negative = value.charAt(0) == '-';
+        if (negative || value.charAt(0) == '+') {
+            i++;
+        }
+        final var separated = m_thousandsSeparator != '\0';
+        var result = 0L;
+        for (; i < length; i++) {
+            final var c = value.charAt(i);
+            if (!separated || c != m_thousandsSeparator) {
+                result = result * 10 - toDigit(c, separated);
             }
         }
-        return value;
+        return negative ? result : -result;
+    }
+
+    /**
+     * Integer#parseInt accepts all Unicode digits, while the grouped format only allows ASCII digits.
+     */
+    private static int toDigit(final char c, final boolean asciiOnly) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        return asciiOnly ? -1 : Character.digit(c, 10);
     }
 }
@@ -327,11 +327,7 @@ String getMissingValueHeader(final Collection<String> colNames) {
     abstract Integer getNoOfRecs4ClassValue(final String classValue);
 
     double getLogProbability(final String classValue, final DataCell attributeValue, final double logProbThreshold) {
-        if (!isCompatible(attributeValue.getType())) {
-            throw new IllegalArgumentException(String.format(
-                "Value in column '%s' (%s) is not " + "compatible with attribute model %s (Column type %s)",
-                getAttributeName(), attributeValue, getType(), attributeValue.getType()));
-        }
+        checkCompatible(attributeValue);
         if (attributeValue.isMissing() && m_ignoreMissingVals) {
             // we add 0, i.e., we multiply by 1
             return 0.0;
@@ -339,6 +335,55 @@ String getMissingValueHeader(final Collection<String> colNames) {
         return getLogProbabilityInternal(classValue, attributeValue, logProbThreshold);
     }
 
+    /**
+     * @param attributeValue the attribute value to check
+     * @throws IllegalArgumentException if the type of the value is not compatible with this model
+     */
+    void checkCompatible(final DataCell attributeValue) {
+        if (!isCompatible(attributeValue.getType())) {
+            throw new IllegalArgumentException(String.format(
+                "Value in column '%s' (%s) is not " + "compatible with attribute model %s (Column type %s)",
+                getAttributeName(), attributeValue, getType(), attributeValue.getType()));
+        }
+    }
+
+    /**
+     * Creates the function that adds the logarithmic probabilities of an attribute value to those of the given class
+     * values. The function returns the same values as {@link #getLogProbability(String, DataCell, double)} but checks
+     * the attribute value only once for all class values. Implementations may precompute the probabilities, the
+     * returned function must be safe to be used concurrently.
+     *
+     * @param classValues the class values to compute the probabilities for
+     * @param logProbThreshold the logarithm of the probability threshold
+     * @return the function adding the probabilities in the order of the class values
+     */
+    LogProbabilities createLogProbabilities(final String[] classValues, final double logProbThreshold) {
+        return (attributeValue, logProbs) -> {
+            checkCompatible(attributeValue);
+            if (attributeValue.isMissing() && m_ignoreMissingVals) {
+                return;
+            }
+            for (int i = 0; i < classValues.length; i++) {
+                logProbs[i] += getLogProbabilityInternal(classValues[i], attributeValue, logProbThreshold);
+            }
+        };
+    }
+
+    /**
+     * Adds the logarithmic probabilities of an attribute value to those of a fixed list of class values.
+     *
+     * @see AttributeModel#createLogProbabilities(String[], double)
+     */
+    @FunctionalInterface
+    interface LogProbabilities {
+
+        /**
+         * @param attributeValue the attribute value, could be a missing value
+         * @param logProbs the logarithmic probabilities of the class values to add to
+         */
+        void add(DataCell attributeValue, double[] logProbs);
+    }
+
     /**
      * This should also handle missing values.
      *
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.bayes.naivebayes.datamodel3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.math3.util.FastMath;
+import org.knime.base.node.mine.bayes.naivebayes.datamodel3.AttributeModel.LogProbabilities;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * A {@link NaiveBayesModel} compiled for the columns of a table. The attribute models of the columns and the class
+ * priors are resolved once and nominal attributes use precomputed log-probabilities, so that scoring a row involves
+ * no lookups by name. The evaluator returns the same values as the {@link NaiveBayesModel} and can be used by several
+ * threads at the same time.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class NaiveBayesEvaluator {
+
+    private final List<String> m_sortedClassValues;
+
+    private final DataCell[] m_classCells;
+
+    /** The indices of the sorted class values in the order the model iterates them, which decides ties. */
+    private final int[] m_classOrder;
+
+    private final double[] m_logPriors;
+
+    private final int m_numColumns;
+
+    private final int[] m_columns;
+
+    private final LogProbabilities[] m_attributes;
+
+    /**
+     * @param model the model to compile
+     * @param spec the spec of the tables to score, columns without an attribute model are skipped
+     */
+    public NaiveBayesEvaluator(final NaiveBayesModel model, final DataTableSpec spec) {
+        m_sortedClassValues = Collections.unmodifiableList(model.getSortedClassValues());
+        final String[] classValues = m_sortedClassValues.toArray(new String[0]);
+        m_classCells = new DataCell[classValues.length];
+        m_logPriors = new double[classValues.length];
+        for (int i = 0; i < classValues.length; i++) {
+            m_classCells[i] =
+                NaiveBayesModel.createPredictedClassCell(model.getClassColumnDataType(), classValues[i]);
+            m_logPriors[i] = FastMath.log(model.getClassPriorProbability(classValues[i]));
+        }
+        final Collection<String> modelClassValues = model.getClassValues();
+        m_classOrder = new int[modelClassValues.size()];
+        int i = 0;
+        for (final String classValue : modelClassValues) {
+            m_classOrder[i++] = m_sortedClassValues.indexOf(classValue);
+        }
+
+        m_numColumns = spec.getNumColumns();
+        final double logProbThreshold = model.getLogProbThreshold();
+        final List<Integer> columns = new ArrayList<>();
+        final List<LogProbabilities> attributes = new ArrayList<>();
+        for (int c = 0; c < m_numColumns; c++) {
+            final AttributeModel attributeModel = model.getAttributeModel(spec.getColumnSpec(c).getName());
+            //skip unknown attributes and the class value column
+            if (attributeModel != null && !(attributeModel instanceof ClassAttributeModel)) {
+                columns.add(c);
+                attributes.add(attributeModel.createLogProbabilities(classValues, logProbThreshold));
+            }
+        }
+        m_columns = columns.stream().mapToInt(Integer::intValue).toArray();
+        m_attributes = attributes.toArray(new LogProbabilities[0]);
+    }
+
+    /**
+     * @return the class values in the order of the probabilities
+     */
+    public List<String> getSortedClassValues() {
+        return m_sortedClassValues;
+    }
+
+    /**
+     * @param row the row to score
+     * @return the logarithmic probabilities of the sorted class values
+     * @throws IllegalStateException if all classes have a zero probability
+     */
+    public double[] getLogClassProbabilities(final DataRow row) {
+        if (row.getNumCells() != m_numColumns) {
+            throw new IllegalArgumentException("Attribute names array and data row must be the same size");
+        }
+        final double[] logProbs = m_logPriors.clone();
+        for (int i = 0; i < m_columns.length; i++) {
+            m_attributes[i].add(row.getCell(m_columns[i]), logProbs);
+        }
+        for (final double logProb : logProbs) {
+            if (logProb > Double.NEGATIVE_INFINITY) {
+                return logProbs;
+            }
+        }
+        throw new IllegalStateException(NaiveBayesModel.ZERO_PROB_EXCEPTION + " for row " + row.getKey().getString());
+    }
+
+    /**
+     * @param logProbs the logarithmic probabilities as returned by {@link #getLogClassProbabilities(DataRow)}
+     * @return the cell of the most likely class
+     * @see NaiveBayesModel#getMostLikelyClassCell(String[], DataRow)
+     */
+    public DataCell getMostLikelyClassCell(final double[] logProbs) {
+        double maxProbability = Double.NEGATIVE_INFINITY;
+        int mostLikelyClass = -1;
+        for (final int classIdx : m_classOrder) {
+            if (logProbs[classIdx] > maxProbability) {
+                maxProbability = logProbs[classIdx];
+                mostLikelyClass = classIdx;
+            }
+        }
+        return m_classCells[mostLikelyClass];
+    }
+
+    /**
+     * @param logProbs the logarithmic probabilities as returned by {@link #getLogClassProbabilities(DataRow)}
+     * @return the normalized probabilities
+     * @see NaiveBayesModel#getClassProbabilities(String[], DataRow, List, boolean)
+     */
+    public static double[] normalize(final double[] logProbs) {
+        final double[] normProbs = new double[logProbs.length];
+        for (int i = 0, length = logProbs.length; i < length; i++) {
+            final int idx = i;
+            normProbs[i] = 1.0 / Arrays.stream(logProbs).map(prob -> FastMath.exp(prob - logProbs[idx])).sum();
+        }
+        return normProbs;
+    }
+}
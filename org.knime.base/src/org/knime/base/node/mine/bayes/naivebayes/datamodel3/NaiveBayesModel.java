@@ -111,7 +111,7 @@ public final class NaiveBayesModel {
     public static final double DEFAULT_MIN_PROB_THRESHOLD = 1e-4;
 
     /** All classes have zero probability exception. */
-    private static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
+    static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
         + "likely due to a standard deviation and/or minimum probability value approx. 0.";
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NaiveBayesModel.class);
@@ -609,7 +609,7 @@ void exportToPMML(final org.dmg.pmml.NaiveBayesModelDocument.NaiveBayesModel bay
     /**
      * @return a <code>String</code> <code>Collection</code> with all class values
      */
-    private Collection<String> getClassValues() {
+    Collection<String> getClassValues() {
         final AttributeModel classModel = m_modelByAttrName.get(m_classColName);
         if (classModel != null) {
             return classModel.getClassValues();
@@ -993,7 +993,7 @@ public DataCell getMostLikelyClassCell(final String[] attributeNames, final Data
      *
      * @see PMMLDataDictionaryTranslator#getKNIMEDataType(Enum)
      */
-    private static DataCell createPredictedClassCell(final DataType dataType, final String val) {
+    static DataCell createPredictedClassCell(final DataType dataType, final String val) {
         if (dataType.isCompatible(BooleanValue.class)) {
             return BooleanCellFactory.create(Boolean.parseBoolean(val));
         } else if (dataType.isCompatible(IntValue.class)) {
@@ -1023,19 +1023,25 @@ private double getLogClassProbability(final String[] attrNames, final DataRow ro
             final AttributeModel model = m_modelByAttrName.get(attrName);
             //skip unknown attributes and the class value column
             if (model != null && !(model instanceof ClassAttributeModel)) {
-                final double probabilityThreshold;
-                if (hasPMMLThreshold()) {
-                    probabilityThreshold = m_pmmlZeroProbThreshold.doubleValue();
-                } else {
-                    probabilityThreshold = DEFAULT_MIN_PROB_THRESHOLD;
-                }
-                final double logProbThreshold = FastMath.log(probabilityThreshold);
-                combinedProbability += model.getLogProbability(classValue, row.getCell(i), logProbThreshold);
+                combinedProbability += model.getLogProbability(classValue, row.getCell(i), getLogProbThreshold());
             }
         }
         return combinedProbability;
     }
 
+    /**
+     * @return the logarithm of the probability to use in lieu of zero probabilities
+     */
+    double getLogProbThreshold() {
+        final double probabilityThreshold;
+        if (hasPMMLThreshold()) {
+            probabilityThreshold = m_pmmlZeroProbThreshold.doubleValue();
+        } else {
+            probabilityThreshold = DEFAULT_MIN_PROB_THRESHOLD;
+        }
+        return FastMath.log(probabilityThreshold);
+    }
+
     /**
      * Returns true if a proper probability threshold has been set.
      *
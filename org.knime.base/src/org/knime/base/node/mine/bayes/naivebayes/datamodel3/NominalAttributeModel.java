@@ -49,6 +49,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -56,6 +57,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
 
 import org.apache.commons.math3.util.FastMath;
 import org.dmg.pmml.BayesInputDocument.BayesInput;
@@ -249,12 +251,16 @@ private int getNoOfRows4AttributeValue(final String attributeValue) {
          * @return
          */
         private double getLogProbability(final DataCell attributeValue, final double logProbThreshold) {
+            return getLogProbability(getNoOfRows4AttributeValue(attributeValue), logProbThreshold);
+        }
+
+        private double getLogProbability(final int noOfRows4AttributeValue, final double logProbThreshold) {
             final int noOfRows4Class = getNoOfRows();
             if (noOfRows4Class == 0) {
                 throw new IllegalStateException(
                     "Model for attribute " + getAttributeName() + " contains no rows for class " + m_classValue);
             }
-            final double noOfRows = getNoOfRows4AttributeValue(attributeValue);
+            final double noOfRows = noOfRows4AttributeValue;
             double prob = logProbThreshold;
             if (noOfRows > 0) {
                 prob = FastMath.log(noOfRows / noOfRows4Class);
@@ -645,6 +651,59 @@ public String toString() {
         return classVal.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     * The probabilities of all attribute values seen during training are precomputed.
+     */
+    @Override
+    LogProbabilities createLogProbabilities(final String[] classValues, final double logProbThreshold) {
+        final NominalClassValue[] classVals = new NominalClassValue[classValues.length];
+        final Set<String> attributeValues = new HashSet<>();
+        for (int i = 0; i < classValues.length; i++) {
+            classVals[i] = m_classValues.get(classValues[i]);
+            if (classVals[i] != null) {
+                if (classVals[i].getNoOfRows() == 0) {
+                    // fails for every attribute value, which is reported when the first row is processed
+                    return super.createLogProbabilities(classValues, logProbThreshold);
+                }
+                attributeValues.addAll(classVals[i].m_recsByAttrValue.keySet());
+            }
+        }
+        final Map<String, double[]> logProbsByAttrValue = new HashMap<>();
+        for (final String attributeValue : attributeValues) {
+            logProbsByAttrValue.put(attributeValue,
+                getLogProbabilities(classVals, c -> c.getNoOfRows4AttributeValue(attributeValue), logProbThreshold));
+        }
+        final double[] missingLogProbs =
+            getLogProbabilities(classVals, NominalClassValue::getNoOfMissingValueRecs, logProbThreshold);
+        final double[] unknownLogProbs = getLogProbabilities(classVals, c -> 0, logProbThreshold);
+        return (attributeValue, logProbs) -> {
+            checkCompatible(attributeValue);
+            final double[] attrValueLogProbs;
+            if (attributeValue.isMissing()) {
+                if (ignoreMissingVals()) {
+                    return;
+                }
+                attrValueLogProbs = missingLogProbs;
+            } else {
+                attrValueLogProbs = logProbsByAttrValue.getOrDefault(attributeValue.toString(), unknownLogProbs);
+            }
+            for (int i = 0; i < logProbs.length; i++) {
+                logProbs[i] += attrValueLogProbs[i];
+            }
+        };
+    }
+
+    private static double[] getLogProbabilities(final NominalClassValue[] classVals,
+        final ToIntFunction<NominalClassValue> noOfRows4AttributeValue, final double logProbThreshold) {
+        final double[] logProbs = new double[classVals.length];
+        for (int i = 0; i < classVals.length; i++) {
+            logProbs[i] = classVals[i] == null ? logProbThreshold
+                : classVals[i].getLogProbability(noOfRows4AttributeValue.applyAsInt(classVals[i]), logProbThreshold);
+        }
+        return logProbs;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -49,6 +49,7 @@
 import java.util.List;
 
 import org.knime.base.data.append.column.AppendedCellFactory;
+import org.knime.base.node.mine.bayes.naivebayes.datamodel3.NaiveBayesEvaluator;
 import org.knime.base.node.mine.bayes.naivebayes.datamodel3.NaiveBayesModel;
 import org.knime.base.node.mine.util.PredictorHelper;
 import org.knime.core.data.DataCell;
@@ -57,11 +58,10 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowKey;
-import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.def.DoubleCell;
-import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.port.pmml.PMMLDataDictionaryTranslator;
+import org.knime.core.node.util.CheckUtils;
 
 /**
  * Naive Bayes <code>AppendCellFactory</code> class which uses the given <code>NaiveBayesModel</code> to predict the
@@ -69,7 +69,7 @@
  *
  * @author Tobias Koetter, KNIME AG, Zurich, Switzerland
  */
-final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
+final class NaiveBayesCellFactory extends AbstractCellFactory implements AppendedCellFactory {
 
     /**
      * The <code>NaiveBayesModel</code> which holds all necessary information to calculate the probability for new
@@ -77,18 +77,11 @@ final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
      */
     private final NaiveBayesModel m_model;
 
-    private final List<String> m_sortedClassVals;
-
-    private final DataTableSpec m_tableSpec;
-
-    private final String[] m_attributeNames;
+    /** The model compiled for the columns of the table. */
+    private final NaiveBayesEvaluator m_evaluator;
 
     private final boolean m_inclClassProbVals;
 
-    private final String m_columnName;
-
-    private final String m_suffix;
-
     /**
      * Constructor for class NaiveBayesAlgorithm.
      *
@@ -101,22 +94,11 @@ final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
      */
     NaiveBayesCellFactory(final NaiveBayesModel model, final String columnName, final DataTableSpec tableSpec,
         final boolean inclClassProbVals, final String suffix) {
-        this.m_columnName = columnName;
-        this.m_suffix = suffix;
-        if (model == null) {
-            throw new NullPointerException("Model must not be null.");
-        }
+        super(true, createResultColSpecs(CheckUtils.checkNotNull(model, "Model must not be null."), columnName,
+            CheckUtils.checkNotNull(tableSpec, "TableSpec must not be null."), inclClassProbVals, suffix));
         m_model = model;
-        m_sortedClassVals = model.getSortedClassValues();
-        if (tableSpec == null) {
-            throw new NullPointerException("TableSpec must not be null.");
-        }
-        m_tableSpec = tableSpec;
+        m_evaluator = new NaiveBayesEvaluator(model, tableSpec);
         m_inclClassProbVals = inclClassProbVals;
-        m_attributeNames = new String[tableSpec.getNumColumns()];
-        for (int i = 0, length = tableSpec.getNumColumns(); i < length; i++) {
-            m_attributeNames[i] = tableSpec.getColumnSpec(i).getName();
-        }
     }
 
     /**
@@ -181,14 +163,6 @@ private static DataColumnSpec createPredictedClassColSpec(final String classColu
         return classColSpec;
     }
 
-    /**
-     * @return the specification of the result columns in the order they should be append at the end of the original
-     *         table specification
-     */
-    DataColumnSpec[] getResultColumnsSpec() {
-        return createResultColSpecs(m_model, m_columnName, m_tableSpec, m_inclClassProbVals, m_suffix);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -213,37 +187,19 @@ public String toString() {
      */
     @Override
     public DataCell[] getCells(final DataRow row) {
-        final DataCell predictedClassCell = m_model.getMostLikelyClassCell(m_attributeNames, row);
-        if (predictedClassCell == null) {
-            throw new IllegalStateException("No class found for row with id " + row.getKey());
-        }
+        final double[] logProbs = m_evaluator.getLogClassProbabilities(row);
+        final DataCell predictedClassCell = m_evaluator.getMostLikelyClassCell(logProbs);
         if (!m_inclClassProbVals) {
             return new DataCell[]{predictedClassCell};
         }
-        final Collection<DataCell> resultCells = new ArrayList<>(m_sortedClassVals.size() + 1);
-        final double[] classProbs = m_model.getClassProbabilities(m_attributeNames, row, m_sortedClassVals, true);
+        final double[] classProbs = NaiveBayesEvaluator.normalize(logProbs);
+        final DataCell[] resultCells = new DataCell[classProbs.length + 1];
         //add the probability per class
-        for (final double classVal : classProbs) {
-            resultCells.add(new DoubleCell(classVal));
+        for (int i = 0; i < classProbs.length; i++) {
+            resultCells[i] = new DoubleCell(classProbs[i]);
         }
         //add the class cell last
-        resultCells.add(predictedClassCell);
-        return resultCells.toArray(new DataCell[0]);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public DataColumnSpec[] getColumnSpecs() {
-        return getResultColumnsSpec();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void setProgress(final int curRowNr, final int rowCount, final RowKey lastKey, final ExecutionMonitor exec) {
-        exec.setProgress(1.0 / rowCount * curRowNr);
+        resultCells[classProbs.length] = predictedClassCell;
+        return resultCells;
     }
 }
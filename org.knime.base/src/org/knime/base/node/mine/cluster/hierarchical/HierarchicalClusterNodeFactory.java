@@ -115,7 +115,8 @@ public boolean hasDialog() {
 
     private static final String FULL_DESCRIPTION = """
             <p> Hierarchically clusters the input data. <br /> Note: This node works only on small data sets. It
-                keeps the entire data in memory and has cubic complexity.<br /> There are two methods to do hierarchical
+                keeps the entire data in memory and has quadratic complexity if distances are cached and cubic
+                complexity otherwise.<br /> There are two methods to do hierarchical
                 clustering: <ul> <li> Top-down or divisive, i.e. the algorithm starts with all data points in one huge
                 cluster and the most dissimilar datapoints are divided into subclusters until each cluster consists of
                 exactly one data point. </li> <li> Bottom-up or agglomerative, i.e. the algorithm starts with every
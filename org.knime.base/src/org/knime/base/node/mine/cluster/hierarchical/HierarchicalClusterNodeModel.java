@@ -50,7 +50,10 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.knime.base.node.mine.cluster.hierarchical.distfunctions.DistanceFunction;
 import org.knime.base.node.mine.cluster.hierarchical.distfunctions.EuclideanDist;
@@ -58,7 +61,6 @@
 import org.knime.base.node.util.DataArray;
 import org.knime.base.node.util.DefaultDataArray;
 import org.knime.base.node.viz.plotter.DataProvider;
-import org.knime.base.util.HalfFloatMatrix;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -236,6 +238,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] data,
             m_distFunction = EuclideanDist.EUCLIDEAN_DISTANCE;
         }
 
+        if (m_cacheDistances.getBooleanValue()) {
+            return executeNearestNeighborChain(inputData, selectedColIndices, exec);
+        }
+
+        // without the distance matrix, the distances between all clusters are recomputed in every step
         // generate initial clustering
         // which means that every data point is one cluster
         List<ClusterNode> clusters = initClusters(inputData, exec);
@@ -243,14 +250,6 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] data,
         DataContainer fusionCont = exec.createDataContainer(createFusionSpec());
         int iterationStep = 0;
 
-        final HalfFloatMatrix cache;
-        if (m_cacheDistances.getBooleanValue()) {
-            cache = new HalfFloatMatrix((int) inputData.size(), false);
-            cache.fill(Float.NaN);
-        } else {
-            cache = null;
-        }
-
         double max = inputData.size();
         // the number of clusters at the beginning is equal to the number
         // of data rows (each row is a cluster)
@@ -288,13 +287,13 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] data,
                     // between two clusters. At the moment is single linkage
                     // and average linkage supported.
                     if (m_linkageType.getStringValue().equals(Linkage.SINGLE.name())) {
-                        dist = calculateSingleLinkageDist(node1, node2, cache,
+                        dist = calculateSingleLinkageDist(node1, node2,
                                 selectedColIndices);
                     } else if (m_linkageType.getStringValue().equals(Linkage.AVERAGE.name())) {
-                        dist = calculateAverageLinkageDist(node1, node2, cache,
+                        dist = calculateAverageLinkageDist(node1, node2,
                                 selectedColIndices);
                     } else {
-                        dist = calculateCompleteLinkageDist(node1, node2, cache,
+                        dist = calculateCompleteLinkageDist(node1, node2,
                                 selectedColIndices);
                     }
 
@@ -349,6 +348,95 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] data,
                 exec)};
     }
 
+    /**
+     * Clusters the data with the nearest-neighbor chain algorithm on the distance matrix and replays the merges in the
+     * order of the greedy algorithm, i.e. creates the same hierarchy, fusion table and output.
+     */
+    private BufferedDataTable[] executeNearestNeighborChain(final BufferedDataTable inputData,
+        final int[] selectedColIndices, final ExecutionContext exec) throws CanceledExecutionException {
+        final List<ClusterNode> leaves = initClusters(inputData, exec);
+        final int numRows = leaves.size();
+        final double[][] points = new double[numRows][selectedColIndices.length];
+        for (int i = 0; i < numRows; i++) {
+            final DataRow row = leaves.get(i).getLeafDataPoint();
+            for (int c = 0; c < selectedColIndices.length; c++) {
+                final DataCell cell = row.getCell(selectedColIndices[c]);
+                points[i][c] = !cell.isMissing() && cell instanceof DoubleValue dv ? dv.getDoubleValue() : Double.NaN;
+            }
+        }
+        final int power = m_distFunction instanceof ManhattanDist ? 1 : 2;
+        final NearestNeighborChain nnChain = new NearestNeighborChain(
+            NearestNeighborChain.computeDistances(points, power, exec.createSubProgress(0.6)), numRows,
+            Linkage.valueOf(m_linkageType.getStringValue()));
+        nnChain.run(exec.createSubProgress(0.3));
+
+        // the greedy algorithm keeps the clusters in a list: the leafs in row order, merged clusters are appended
+        final ClusterNode[] nodes = leaves.toArray(new ClusterNode[numRows]);
+        final int[] listPosition = new int[numRows];
+        final int[] parent = new int[numRows];
+        for (int i = 0; i < numRows; i++) {
+            listPosition[i] = i;
+            parent[i] = i;
+        }
+        final DataContainer fusionCont = exec.createDataContainer(createFusionSpec());
+        final int[] mergeOrder = nnChain.getMergeOrder();
+        DataTable outputData = null;
+        for (int step = 0; step < mergeOrder.length; step++) {
+            final int numClusters = numRows - step;
+            if (m_numClustersForOutput.getIntValue() == numClusters) {
+                outputData = createResultTable(inputData, currentClusters(nodes, parent, listPosition), exec);
+            }
+            final int merge = mergeOrder[step];
+            final int root1 = findRoot(parent, nnChain.getRemoved()[merge]);
+            final int root2 = findRoot(parent, nnChain.getMerged()[merge]);
+            final boolean inOrder = listPosition[root1] < listPosition[root2];
+            final ClusterNode newNode = new ClusterNode(nodes[inOrder ? root1 : root2],
+                nodes[inOrder ? root2 : root1], nnChain.getMergeDistances()[merge]);
+            parent[root1] = root2;
+            nodes[root2] = newNode;
+            listPosition[root2] = numRows + step;
+            fusionCont.addRowToTable(new DefaultRow(Integer.toString(numClusters - 1),
+                new IntCell(numClusters - 1), new DoubleCell(newNode.getDist())));
+            exec.checkCanceled();
+        }
+        fusionCont.close();
+        exec.setProgress(0.95);
+
+        final List<ClusterNode> remaining = currentClusters(nodes, parent, listPosition);
+        if (!remaining.isEmpty()) {
+            m_rootNode = remaining.get(0);
+        }
+        if (outputData == null) {
+            outputData = createResultTable(inputData, remaining, exec);
+        }
+        m_dataArray = new DefaultDataArray(inputData, 1, numRows);
+        m_fusionTable = new DefaultDataArray(fusionCont.getTable(), 1, mergeOrder.length);
+        return new BufferedDataTable[]{exec.createBufferedDataTable(outputData, exec)};
+    }
+
+    /** Returns the clusters that are not merged yet in the order of the list of the greedy algorithm. */
+    private static List<ClusterNode> currentClusters(final ClusterNode[] nodes, final int[] parent,
+        final int[] listPosition) {
+        final Integer[] roots =
+            IntStream.range(0, parent.length).filter(i -> parent[i] == i).boxed().toArray(Integer[]::new);
+        Arrays.sort(roots, Comparator.comparingInt(r -> listPosition[r]));
+        final List<ClusterNode> clusters = new ArrayList<>(roots.length);
+        for (final Integer root : roots) {
+            clusters.add(nodes[root]);
+        }
+        return clusters;
+    }
+
+    private static int findRoot(final int[] parent, final int point) {
+        int p = point;
+        while (parent[p] != p) {
+            // path halving
+            parent[p] = parent[parent[p]];
+            p = parent[p];
+        }
+        return p;
+    }
+
     private DataTableSpec createFusionSpec() {
         DataColumnSpecCreator creatorX =
                 new DataColumnSpecCreator("Nr. of Clusters", IntCell.TYPE);
@@ -375,31 +463,16 @@ public final void reset() {
      *
      */
     private float calculateSingleLinkageDist(final ClusterNode node1,
-            final ClusterNode node2, final HalfFloatMatrix cache,
-            final int[] selectedColIndices) {
+            final ClusterNode node2, final int[] selectedColIndices) {
         float minDist = Float.MAX_VALUE;
 
         for (ClusterNode node1Leaf : node1.leafs()) {
             final DataRow row1 = node1Leaf.getLeafDataPoint();
-            final int row1Index = node1Leaf.getRowIndex();
             for (ClusterNode node2Leaf : node2.leafs()) {
                 final DataRow row2 = node2Leaf.getLeafDataPoint();
-                final int row2Index = node2Leaf.getRowIndex();
-
-                float f = Float.NaN;
-                if (cache != null) {
-                    f = cache.get(row1Index, row2Index);
-                    if (Float.isNaN(f)) {
-                        f =
-                                (float)m_distFunction.calcDistance(row1, row2,
-                                        selectedColIndices);
-                        cache.set(row1Index, row2Index, f);
-                    }
-                } else {
-                    f =
-                            (float)m_distFunction.calcDistance(row1, row2,
-                                    selectedColIndices);
-                }
+
+                final float f = (float)m_distFunction.calcDistance(row1, row2,
+                        selectedColIndices);
                 minDist = Math.min(minDist, f);
             }
         }
@@ -413,31 +486,16 @@ private float calculateSingleLinkageDist(final ClusterNode node1,
      *
      */
     private float calculateCompleteLinkageDist(final ClusterNode node1,
-            final ClusterNode node2, final HalfFloatMatrix cache,
-            final int[] selectedColIndices) {
+            final ClusterNode node2, final int[] selectedColIndices) {
         float maxDist = 0;
 
         for (ClusterNode node1Leaf : node1.leafs()) {
             final DataRow row1 = node1Leaf.getLeafDataPoint();
-            final int row1Index = node1Leaf.getRowIndex();
             for (ClusterNode node2Leaf : node2.leafs()) {
                 final DataRow row2 = node2Leaf.getLeafDataPoint();
-                final int row2Index = node2Leaf.getRowIndex();
-
-                float f = Float.NaN;
-                if (cache != null) {
-                    f = cache.get(row1Index, row2Index);
-                    if (Float.isNaN(f)) {
-                        f =
-                                (float)m_distFunction.calcDistance(row1, row2,
-                                        selectedColIndices);
-                        cache.set(row1Index, row2Index, f);
-                    }
-                } else {
-                    f =
-                            (float)m_distFunction.calcDistance(row1, row2,
-                                    selectedColIndices);
-                }
+
+                final float f = (float)m_distFunction.calcDistance(row1, row2,
+                        selectedColIndices);
                 maxDist = Math.max(maxDist, f);
             }
         }
@@ -451,29 +509,16 @@ private float calculateCompleteLinkageDist(final ClusterNode node1,
      * data rows.
      */
     private float calculateAverageLinkageDist(final ClusterNode node1,
-            final ClusterNode node2, final HalfFloatMatrix cache,
-            final int[] selectedColIndices) {
+            final ClusterNode node2, final int[] selectedColIndices) {
         float sumDist = 0;
 
         for (ClusterNode node1Leaf : node1.leafs()) {
             final DataRow row1 = node1Leaf.getLeafDataPoint();
-            final int row1Index = node1Leaf.getRowIndex();
             for (ClusterNode node2Leaf : node2.leafs()) {
                 final DataRow row2 = node2Leaf.getLeafDataPoint();
-                final int row2Index = node2Leaf.getRowIndex();
-
-                float f = Float.NaN;
-                if (cache != null) {
-                    f = cache.get(row1Index, row2Index);
-                    if (Float.isNaN(f)) {
-                        f = (float)m_distFunction.calcDistance(row1, row2,
-                                        selectedColIndices);
-                        cache.set(row1Index, row2Index, f);
-                    }
-                } else {
-                    f = (float)m_distFunction.calcDistance(row1, row2,
-                                    selectedColIndices);
-                }
+
+                final float f = (float)m_distFunction.calcDistance(row1, row2,
+                        selectedColIndices);
                 sumDist += f;
             }
         }
@@ -89,7 +89,9 @@ final class HierarchicalClusterNodeParameters implements NodeParameters {
     @Persist(configKey = HierarchicalClusterNodeModel.USE_CACHE_KEY)
     @Widget(title = "Cache distances", description = """
             Caching the distances between the data points drastically improves performance especially for
-            high-dimensional datasets. However, it needs much memory, so you can switch it off for large datasets.
+            high-dimensional datasets. The distances are computed in parallel and the clusters are merged with the
+            nearest-neighbor chain algorithm, which has quadratic instead of cubic complexity. However, the cache
+            needs 4 bytes per pair of data points, so you can switch it off for large datasets.
             """)
     boolean m_cacheDistances = true;
 
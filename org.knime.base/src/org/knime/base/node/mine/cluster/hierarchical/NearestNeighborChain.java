@@ -0,0 +1,298 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.cluster.hierarchical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.base.node.mine.cluster.hierarchical.HierarchicalClusterNodeModel.Linkage;
+import org.knime.base.node.mine.cluster.hierarchical.distfunctions.MinkowskiDist;
+import org.knime.base.util.HalfFloatMatrix;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Agglomerative clustering with the nearest-neighbor chain algorithm on a condensed distance matrix. The distances
+ * between a merged cluster and all other clusters are derived from the distances of its two parts with the
+ * Lance-Williams update, i.e. the runtime is quadratic in the number of rows instead of cubic.
+ *
+ * The nearest-neighbor chain finds the merges in a different order than the greedy algorithm. Since single, average
+ * and complete linkage are reducible, sorting the merges by their distance yields the same hierarchy.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class NearestNeighborChain {
+
+    private final HalfFloatMatrix m_distances;
+
+    private final int m_numPoints;
+
+    private final Linkage m_linkage;
+
+    /** The number of points in the cluster that is represented by a slot. */
+    private final int[] m_sizes;
+
+    /** The slots of the clusters that are not merged into another one, in ascending order up to m_numActive. */
+    private final int[] m_active;
+
+    /** The position of each slot in {@link #m_active} or -1 if the slot is no longer active. */
+    private final int[] m_activePosition;
+
+    private int m_numActive;
+
+    /** The slot that is merged into {@link #m_merged}, in the order of discovery. */
+    private final int[] m_removed;
+
+    /** The slot that holds the merged cluster afterwards, in the order of discovery. */
+    private final int[] m_merged;
+
+    private final float[] m_mergeDistances;
+
+    private int m_numMerges;
+
+    /**
+     * @param distances the distances between all points, will be modified
+     * @param numPoints the number of points
+     * @param linkage the linkage
+     */
+    NearestNeighborChain(final HalfFloatMatrix distances, final int numPoints, final Linkage linkage) {
+        m_distances = distances;
+        m_numPoints = numPoints;
+        m_linkage = linkage;
+        m_sizes = new int[numPoints];
+        Arrays.fill(m_sizes, 1);
+        m_active = new int[numPoints];
+        m_activePosition = new int[numPoints];
+        for (var i = 0; i < numPoints; i++) {
+            m_active[i] = i;
+            m_activePosition[i] = i;
+        }
+        m_numActive = numPoints;
+        final var numMerges = Math.max(0, numPoints - 1);
+        m_removed = new int[numMerges];
+        m_merged = new int[numMerges];
+        m_mergeDistances = new float[numMerges];
+    }
+
+    /**
+     * Computes the distances between all pairs of points in parallel. Missing values are represented as
+     * {@link Double#NaN} and skipped, like {@link MinkowskiDist} skips missing cells.
+     *
+     * @param points the coordinates of the points
+     * @param power the power of the Minkowski distance, i.e. 1 for Manhattan and 2 for Euclidean distance
+     * @param exec for progress and cancellation
+     * @return the distances, where distances that are not a number are replaced by infinity
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    static HalfFloatMatrix computeDistances(final double[][] points, final int power, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final var numPoints = points.length;
+        final var matrix = new HalfFloatMatrix(numPoints, false);
+        final var numTasks =
+            Math.max(1, Math.min(numPoints / 64, 4 * KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+        final var totalPairs = numPoints * (numPoints - 1L) / 2;
+        final var processedPairs = new AtomicLong();
+        final List<Callable<Void>> tasks = new ArrayList<>(numTasks);
+        // row i has i entries, hence task t processes the rows i with i % numTasks == t to balance the work
+        for (var t = 0; t < numTasks; t++) {
+            final var firstRow = t;
+            tasks.add(() -> {
+                for (var i = firstRow; i < numPoints; i += numTasks) {
+                    exec.checkCanceled();
+                    for (var j = 0; j < i; j++) {
+                        final var dist = (float)minkowski(points[i], points[j], power);
+                        matrix.set(i, j, Float.isNaN(dist) ? Float.POSITIVE_INFINITY : dist);
+                    }
+                    final var processed = processedPairs.addAndGet(i);
+                    exec.setProgress(processed / (double)totalPairs, "Computing distances");
+                }
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+        return matrix;
+    }
+
+    /** Computes the Minkowski distance exactly as {@link MinkowskiDist} does. */
+    private static double minkowski(final double[] x, final double[] y, final int power) {
+        double sumPowDist = 0;
+        for (var i = 0; i < x.length; i++) {
+            if (!Double.isNaN(x[i]) && !Double.isNaN(y[i])) {
+                sumPowDist += Math.pow(Math.abs(x[i] - y[i]), power);
+            }
+        }
+        return Math.pow(sumPowDist, (double)1 / (double)power);
+    }
+
+    /**
+     * Runs the clustering.
+     *
+     * @param exec for progress and cancellation
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    void run(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final var chain = new int[m_numPoints];
+        var chainLength = 0;
+        while (m_numActive > 1) {
+            if (chainLength == 0) {
+                chain[chainLength++] = m_active[0];
+            }
+            final var current = chain[chainLength - 1];
+            final var previous = chainLength > 1 ? chain[chainLength - 2] : -1;
+            // prefer the previous cluster of the chain in case of ties, which guarantees termination
+            var nearest = previous;
+            var nearestDist = previous < 0 ? Float.POSITIVE_INFINITY : m_distances.get(current, previous);
+            for (var i = 0; i < m_numActive; i++) {
+                final var candidate = m_active[i];
+                if (candidate != current) {
+                    final var dist = m_distances.get(current, candidate);
+                    if (dist < nearestDist || nearest < 0) {
+                        nearest = candidate;
+                        nearestDist = dist;
+                    }
+                }
+            }
+            if (nearest == previous) {
+                // reciprocal nearest neighbors
+                chainLength -= 2;
+                merge(current, previous, nearestDist);
+                if ((m_numMerges & 0xFF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(m_numMerges / (double)m_removed.length,
+                        (m_numActive) + " clusters left to merge.");
+                }
+            } else {
+                chain[chainLength++] = nearest;
+            }
+        }
+    }
+
+    /** Merges the cluster in slot a into the one in slot b and updates the distances to all other clusters. */
+    private void merge(final int a, final int b, final float dist) {
+        m_removed[m_numMerges] = a;
+        m_merged[m_numMerges] = b;
+        m_mergeDistances[m_numMerges] = dist;
+        m_numMerges++;
+        deactivate(a);
+        final var sizeA = m_sizes[a];
+        final var sizeB = m_sizes[b];
+        for (var i = 0; i < m_numActive; i++) {
+            final var k = m_active[i];
+            if (k != b) {
+                final var distA = m_distances.get(k, a);
+                final var distB = m_distances.get(k, b);
+                final float updated = switch (m_linkage) {
+                    case SINGLE -> Math.min(distA, distB);
+                    case COMPLETE -> Math.max(distA, distB);
+                    case AVERAGE -> (float)((sizeA * (double)distA + sizeB * (double)distB) / (sizeA + sizeB));
+                };
+                m_distances.set(k, b, updated);
+            }
+        }
+        m_sizes[b] = sizeA + sizeB;
+    }
+
+    private void deactivate(final int slot) {
+        // keep the active slots in ascending order, which makes the result independent of the merge history
+        final var position = m_activePosition[slot];
+        System.arraycopy(m_active, position + 1, m_active, position, m_numActive - position - 1);
+        m_numActive--;
+        for (var i = position; i < m_numActive; i++) {
+            m_activePosition[m_active[i]] = i;
+        }
+        m_activePosition[slot] = -1;
+    }
+
+    /**
+     * Returns the order in which the merges have to be applied, i.e. sorted by distance. Merges with the same distance
+     * keep the order of discovery. Since the cluster in a slot always contains the point with the same index, the
+     * merges can be applied by joining the clusters that contain the two points.
+     *
+     * @return indices into {@link #getRemoved()}, {@link #getMerged()} and {@link #getMergeDistances()}
+     */
+    int[] getMergeOrder() {
+        final var keys = new long[m_numMerges];
+        for (var i = 0; i < m_numMerges; i++) {
+            // non-negative floats are ordered like their bit patterns
+            keys[i] = ((long)Float.floatToIntBits(m_mergeDistances[i]) << 32) | i;
+        }
+        Arrays.sort(keys);
+        final var order = new int[m_numMerges];
+        for (var i = 0; i < m_numMerges; i++) {
+            order[i] = (int)keys[i];
+        }
+        return order;
+    }
+
+    /**
+     * @return the slot of the cluster that is merged into the one in the corresponding {@link #getMerged()} slot
+     */
+    int[] getRemoved() {
+        return m_removed;
+    }
+
+    /**
+     * @return the slot that holds the merged cluster afterwards
+     */
+    int[] getMerged() {
+        return m_merged;
+    }
+
+    /**
+     * @return the distance of each merge
+     */
+    float[] getMergeDistances() {
+        return m_mergeDistances;
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.cluster.kmeans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.math3.random.RandomDataGenerator;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Holds the selected columns of the input table in memory and runs the k-means iterations on it concurrently. The
+ * rows are stored in blocks of primitive arrays, each block is processed by its own task and its partial sums are
+ * merged in block order, i.e. the result does not depend on the number of threads.
+ * <p>
+ * The assignment step uses Hamerly's bounds: for every row an upper bound on the distance to its own center and a
+ * lower bound on the distance to all other centers are kept up to date with the center movements, so that rows whose
+ * bounds prove that their center cannot change are skipped. The assignments are the same as with the exhaustive search
+ * of the row-by-row algorithm (apart from rounding). Since the bounds rely on the triangle inequality, rows are always
+ * compared to all centers if the data contains values that are not finite.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class InMemoryKMeans {
+
+    /** The maximal number of values of a block, keeps the arrays far below the maximal array size. */
+    private static final int MAX_BLOCK_VALUES = 1 << 24;
+
+    /** The maximal number of rows of a block. */
+    static final int MAX_BLOCK_ROWS = 1 << 16;
+
+    private final int m_dimension;
+
+    private final int m_rowsPerBlock;
+
+    /** The values of the rows, row after row. */
+    private final List<double[]> m_blocks = new ArrayList<>();
+
+    private long m_numRows;
+
+    private boolean m_allFinite = true;
+
+    /** The cluster of each row. */
+    private int[][] m_assignments;
+
+    /** Upper bound of the distance of each row to its center. */
+    private double[][] m_upperBounds;
+
+    /** Lower bound of the distance of each row to all other centers. */
+    private double[][] m_lowerBounds;
+
+    /** The centers the bounds refer to or {@code null} if no assignment step has been done yet. */
+    private double[][] m_boundCenters;
+
+    /**
+     * @param dimension the number of values per row
+     * @param rowsPerBlock the number of rows per block
+     */
+    InMemoryKMeans(final int dimension, final int rowsPerBlock) {
+        m_dimension = dimension;
+        m_rowsPerBlock = rowsPerBlock;
+    }
+
+    /**
+     * @param dimension the number of values per row
+     * @return the default number of rows per block for the given dimension
+     */
+    static int getRowsPerBlock(final int dimension) {
+        return Math.max(1, Math.min(MAX_BLOCK_ROWS, MAX_BLOCK_VALUES / Math.max(1, dimension)));
+    }
+
+    /**
+     * Reads the given columns of the table into memory.
+     *
+     * @param table the input table
+     * @param columnIndices the indices of the columns to cluster, must be compatible to {@link DoubleValue}
+     * @param exec for progress and cancellation
+     * @return the data in memory
+     * @throws CanceledExecutionException if the execution is canceled
+     * @throws IllegalArgumentException if one of the columns contains missing values
+     */
+    static InMemoryKMeans read(final BufferedDataTable table, final int[] columnIndices, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final var data = new InMemoryKMeans(columnIndices.length, getRowsPerBlock(columnIndices.length));
+        final long numRows = table.size();
+        final var values = new double[columnIndices.length];
+        try (final CloseableRowIterator it = table.iterator()) {
+            for (long r = 0; it.hasNext(); r++) {
+                final DataRow row = it.next();
+                for (var i = 0; i < columnIndices.length; i++) {
+                    final DataCell cell = row.getCell(columnIndices[i]);
+                    if (cell.isMissing()) {
+                        throw new IllegalArgumentException("Missing Values not (yet) allowed in k-Means.");
+                    }
+                    values[i] = ((DoubleValue)cell).getDoubleValue();
+                }
+                data.addRow(values);
+                if ((r & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(r / (double)numRows, "Reading row " + r + " of " + numRows);
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @param values the values of the row
+     */
+    void addRow(final double[] values) {
+        final var rowInBlock = (int)(m_numRows % m_rowsPerBlock);
+        if (rowInBlock == 0) {
+            m_blocks.add(new double[m_rowsPerBlock * m_dimension]);
+        }
+        System.arraycopy(values, 0, m_blocks.get(m_blocks.size() - 1), rowInBlock * m_dimension, m_dimension);
+        for (final var value : values) {
+            m_allFinite &= Double.isFinite(value);
+        }
+        m_numRows++;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    long getNumRows() {
+        return m_numRows;
+    }
+
+    /**
+     * Returns the values of the given rows as initial centers.
+     *
+     * @param rows the indices of the rows
+     * @param numCenters the number of centers, centers without row are initialized with zeros
+     * @return the centers
+     */
+    double[][] getRows(final long[] rows, final int numCenters) {
+        final var centers = new double[numCenters][m_dimension];
+        for (var c = 0; c < rows.length && c < numCenters; c++) {
+            System.arraycopy(m_blocks.get((int)(rows[c] / m_rowsPerBlock)), offset(rows[c]), centers[c], 0,
+                m_dimension);
+        }
+        return centers;
+    }
+
+    private int offset(final long row) {
+        return (int)(row % m_rowsPerBlock) * m_dimension;
+    }
+
+    private int getNumRows(final int block) {
+        return (int)Math.min(m_rowsPerBlock, m_numRows - (long)block * m_rowsPerBlock);
+    }
+
+    /**
+     * Chooses the initial centers with k-means++, i.e. the first center is a random row and every further center is a
+     * row that is drawn with a probability proportional to its squared distance to the closest center chosen so far.
+     * If all rows coincide with chosen centers, the remaining centers are drawn uniformly.
+     *
+     * @param numCenters the number of centers
+     * @param seed the random seed
+     * @param exec for progress and cancellation
+     * @return the centers, zeros if the table is empty
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    double[][] seedKMeansPlusPlus(final int numCenters, final long seed, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final var centers = new double[numCenters][m_dimension];
+        if (m_numRows == 0 || numCenters == 0) {
+            return centers;
+        }
+        final var rdg = new RandomDataGenerator();
+        rdg.reSeed(seed);
+        final var minDistances = new double[m_blocks.size()][];
+        final var blockSums = new double[m_blocks.size()];
+        long row = rdg.nextLong(0, m_numRows - 1);
+        for (var c = 0; c < numCenters; c++) {
+            exec.setProgress(c / (double)numCenters, "Choosing center " + (c + 1) + " of " + numCenters);
+            System.arraycopy(m_blocks.get((int)(row / m_rowsPerBlock)), offset(row), centers[c], 0, m_dimension);
+            if (c == numCenters - 1) {
+                break;
+            }
+            final var center = centers[c];
+            final var first = c == 0;
+            final List<Callable<Double>> tasks = new ArrayList<>(m_blocks.size());
+            for (var b = 0; b < m_blocks.size(); b++) {
+                final var block = b;
+                tasks.add(() -> {
+                    exec.checkCanceled();
+                    final var values = m_blocks.get(block);
+                    final var numRows = getNumRows(block);
+                    if (first) {
+                        minDistances[block] = new double[numRows];
+                        Arrays.fill(minDistances[block], Double.POSITIVE_INFINITY);
+                    }
+                    final var distances = minDistances[block];
+                    double sum = 0;
+                    for (var r = 0; r < numRows; r++) {
+                        distances[r] = Math.min(distances[r], squaredDistance(values, r * m_dimension, center));
+                        sum += distances[r];
+                    }
+                    return sum;
+                });
+            }
+            final var blockIndex = new int[1];
+            ParallelTasks.run(tasks, sum -> blockSums[blockIndex[0]++] = sum);
+            double total = 0;
+            for (final var sum : blockSums) {
+                total += sum;
+            }
+            row = total > 0 && Double.isFinite(total) ? drawRow(minDistances, blockSums, total, rdg)
+                : rdg.nextLong(0, m_numRows - 1);
+        }
+        return centers;
+    }
+
+    /** Draws a row with a probability proportional to its weight. */
+    private long drawRow(final double[][] weights, final double[] blockSums, final double total,
+        final RandomDataGenerator rdg) {
+        var remaining = rdg.getRandomGenerator().nextDouble() * total;
+        var block = 0;
+        while (block < blockSums.length - 1 && (remaining >= blockSums[block] || blockSums[block] == 0)) {
+            remaining -= blockSums[block];
+            block++;
+        }
+        while (blockSums[block] == 0) {
+            // rounding errors skipped all blocks with positive weights
+            block--;
+        }
+        final var blockWeights = weights[block];
+        var lastPositive = -1;
+        for (var r = 0; r < blockWeights.length; r++) {
+            if (blockWeights[r] > 0) {
+                lastPositive = r;
+                remaining -= blockWeights[r];
+                if (remaining < 0) {
+                    break;
+                }
+            }
+        }
+        return (long)block * m_rowsPerBlock + lastPositive;
+    }
+
+    /**
+     * Runs the k-means iterations until the centers do not change anymore or the maximal number of iterations is
+     * reached and assigns each row to its closest final center afterwards, see {@link #getCluster(long)}.
+     *
+     * @param centers the initial centers, which are updated in place
+     * @param maxIterations the maximal number of iterations
+     * @param exec for progress and cancellation
+     * @return the number of rows per cluster in the last iteration
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    int[] cluster(final double[][] centers, final int maxIterations, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final var coverage = new int[centers.length];
+        var finished = false;
+        for (var iteration = 0; !finished && iteration < maxIterations; iteration++) {
+            exec.checkCanceled();
+            exec.setProgress(iteration / (double)maxIterations, "Iteration " + iteration);
+            final var partial = assign(centers, true, exec);
+            finished = true;
+            for (var c = 0; c < centers.length; c++) {
+                coverage[c] = (int)partial.m_counts[c];
+                if (partial.m_counts[c] > 0) {
+                    // only update clusters who do cover some pattern
+                    for (var d = 0; d < m_dimension; d++) {
+                        final var newValue = partial.m_sums[c * m_dimension + d] / partial.m_counts[c];
+                        if (Math.abs(centers[c][d] - newValue) > 1e-10) {
+                            finished = false;
+                        }
+                        centers[c][d] = newValue;
+                    }
+                }
+            }
+        }
+        assign(centers, false, exec);
+        return coverage;
+    }
+
+    /**
+     * @param row the index of a row
+     * @return the index of the closest center of the row after {@link #cluster(double[][], int, ExecutionMonitor)}
+     */
+    int getCluster(final long row) {
+        return m_assignments[(int)(row / m_rowsPerBlock)][(int)(row % m_rowsPerBlock)];
+    }
+
+    /** The sums of the values and the number of rows per cluster. */
+    private static final class PartialSums {
+
+        private final double[] m_sums;
+
+        private final long[] m_counts;
+
+        PartialSums(final int numCenters, final int dimension, final boolean withSums) {
+            m_sums = withSums ? new double[numCenters * dimension] : null;
+            m_counts = new long[numCenters];
+        }
+
+        void add(final PartialSums other) {
+            if (m_sums != null) {
+                for (var i = 0; i < m_sums.length; i++) {
+                    m_sums[i] += other.m_sums[i];
+                }
+            }
+            for (var i = 0; i < m_counts.length; i++) {
+                m_counts[i] += other.m_counts[i];
+            }
+        }
+    }
+
+    /** Assigns all rows to their closest center and sums the values per cluster if requested. */
+    private PartialSums assign(final double[][] centers, final boolean withSums, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final var numCenters = centers.length;
+        final var numBlocks = m_blocks.size();
+        final var prune = m_allFinite && m_boundCenters != null && allFinite(centers) && allFinite(m_boundCenters);
+        if (m_assignments == null) {
+            m_assignments = new int[numBlocks][];
+            m_upperBounds = new double[numBlocks][];
+            m_lowerBounds = new double[numBlocks][];
+            for (var b = 0; b < numBlocks; b++) {
+                m_assignments[b] = new int[getNumRows(b)];
+                m_upperBounds[b] = new double[getNumRows(b)];
+                m_lowerBounds[b] = new double[getNumRows(b)];
+            }
+        }
+
+        // how far each center moved since the bounds were computed
+        final var shifts = new double[numCenters];
+        var maxShift = 0.0;
+        var maxShiftCenter = -1;
+        var secondMaxShift = 0.0;
+        // half the distance of each center to its closest other center
+        final var halfMinCenterDistances = new double[numCenters];
+        if (prune) {
+            for (var c = 0; c < numCenters; c++) {
+                shifts[c] = Math.sqrt(squaredDistance(m_boundCenters[c], 0, centers[c]));
+                if (shifts[c] > maxShift) {
+                    secondMaxShift = maxShift;
+                    maxShift = shifts[c];
+                    maxShiftCenter = c;
+                } else if (shifts[c] > secondMaxShift) {
+                    secondMaxShift = shifts[c];
+                }
+            }
+            Arrays.fill(halfMinCenterDistances, Double.POSITIVE_INFINITY);
+            for (var c1 = 0; c1 < numCenters; c1++) {
+                for (var c2 = c1 + 1; c2 < numCenters; c2++) {
+                    final var half = Math.sqrt(squaredDistance(centers[c1], 0, centers[c2])) / 2;
+                    halfMinCenterDistances[c1] = Math.min(halfMinCenterDistances[c1], half);
+                    halfMinCenterDistances[c2] = Math.min(halfMinCenterDistances[c2], half);
+                }
+            }
+        }
+        final var maxShiftFinal = maxShift;
+        final var maxShiftCenterFinal = maxShiftCenter;
+        final var secondMaxShiftFinal = secondMaxShift;
+
+        final List<Callable<PartialSums>> tasks = new ArrayList<>(numBlocks);
+        for (var b = 0; b < numBlocks; b++) {
+            final var block = b;
+            tasks.add(() -> {
+                exec.checkCanceled();
+                final var values = m_blocks.get(block);
+                final var assignments = m_assignments[block];
+                final var upperBounds = m_upperBounds[block];
+                final var lowerBounds = m_lowerBounds[block];
+                final var partial = new PartialSums(numCenters, m_dimension, withSums);
+                for (var r = 0; r < assignments.length; r++) {
+                    final var offset = r * m_dimension;
+                    var winner = assignments[r];
+                    var search = true;
+                    if (prune) {
+                        upperBounds[r] += shifts[winner];
+                        lowerBounds[r] -= winner == maxShiftCenterFinal ? secondMaxShiftFinal : maxShiftFinal;
+                        final var bound = Math.max(lowerBounds[r], halfMinCenterDistances[winner]);
+                        if (upperBounds[r] < bound) {
+                            search = false;
+                        } else {
+                            // tighten the upper bound
+                            upperBounds[r] = Math.sqrt(squaredDistance(values, offset, centers[winner]));
+                            search = upperBounds[r] >= bound;
+                        }
+                    }
+                    if (search) {
+                        winner = -1; // closest cluster so far
+                        var winnerDistance = Double.MAX_VALUE; // best distance
+                        var secondDistance = Double.POSITIVE_INFINITY;
+                        for (var c = 0; c < numCenters; c++) {
+                            final var distance = squaredDistance(values, offset, centers[c]);
+                            if (distance < winnerDistance) {
+                                if (winner >= 0) {
+                                    secondDistance = winnerDistance;
+                                }
+                                winner = c;
+                                winnerDistance = distance;
+                            } else {
+                                secondDistance = Math.min(secondDistance, distance);
+                            }
+                        }
+                        if (winner < 0) {
+                            throw new IllegalStateException("No winner found: " + winner);
+                        }
+                        assignments[r] = winner;
+                        upperBounds[r] = Math.sqrt(winnerDistance);
+                        lowerBounds[r] = Math.sqrt(secondDistance);
+                    }
+                    if (withSums) {
+                        final var sumOffset = winner * m_dimension;
+                        for (var d = 0; d < m_dimension; d++) {
+                            partial.m_sums[sumOffset + d] += values[offset + d];
+                        }
+                    }
+                    partial.m_counts[winner]++;
+                }
+                return partial;
+            });
+        }
+        final var total = new PartialSums(numCenters, m_dimension, withSums);
+        ParallelTasks.run(tasks, total::add);
+        m_boundCenters = new double[numCenters][];
+        for (var c = 0; c < numCenters; c++) {
+            m_boundCenters[c] = centers[c].clone();
+        }
+        return total;
+    }
+
+    private static boolean allFinite(final double[][] centers) {
+        for (final var center : centers) {
+            for (final var value : center) {
+                if (!Double.isFinite(value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** The squared Euclidean distance, skipping values that are not a number like the row-by-row algorithm. */
+    private static double squaredDistance(final double[] values, final int offset, final double[] center) {
+        double distance = 0;
+        for (var d = 0; d < center.length; d++) {
+            final var diff = center[d] - values[offset + d];
+            if (!Double.isNaN(diff)) {
+                distance += diff * diff;
+            }
+        }
+        return distance;
+    }
+}
@@ -55,10 +55,13 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.apache.commons.math3.random.RandomDataGenerator;
 import org.knime.base.node.mine.cluster.PMMLClusterTranslator;
 import org.knime.base.node.mine.cluster.PMMLClusterTranslator.ComparisonMeasure;
+import org.knime.base.node.mine.cluster.kmeans.KMeansNodeParameters.CentroidInitialization;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnDomainCreator;
 import org.knime.core.data.DataColumnSpec;
@@ -250,8 +253,90 @@ protected PortObject[] execute(final PortObject[] data, final ExecutionContext e
         m_dimension = inData.getDataTableSpec().getNumColumns();
         HashMap<RowKey, Set<RowKey>> mapping = new HashMap<RowKey, Set<RowKey>>();
         addExcludeColumnsToIgnoreList(modelSettings, spec);
-        double[][] clusters = initializeClusters(modelSettings, inData);
+        final InMemoryKMeans inMemoryData;
+        final double[][] clusters;
+        final int[] clusterCoverage;
+        if (modelSettings.m_clusterInMemory
+            || modelSettings.m_centroidInitialization == CentroidInitialization.K_MEANS_PLUS_PLUS) {
+            exec.setMessage("Reading data");
+            inMemoryData = InMemoryKMeans.read(inData, getIncludedColumnIndices(), exec.createSubProgress(0.1));
+            clusters = initializeClusters(modelSettings, inMemoryData, exec.createSubProgress(0.1));
+            clusterCoverage =
+                inMemoryData.cluster(clusters, modelSettings.m_maxIterations, exec.createSubProgress(0.6));
+        } else {
+            inMemoryData = null;
+            clusters = initializeClusters(modelSettings, inData);
+            clusterCoverage = clusterRowByRow(modelSettings, inData, clusters, exec);
+        }
 
+        // create list of feature names
+        int k = 0; // index of not-ignored columns
+        int j = 0; // index of column
+        String[] featureNames = new String[m_dimension];
+        do {
+            if (!m_ignoreColumn[j]) {
+                featureNames[k] = spec.getColumnSpec(j).getName();
+                k++;
+            }
+            j++;
+        } while (j < m_dimension);
+        // create output container and also mapping for HiLiteing
+        BufferedDataContainer labeledInput = exec.createDataContainer(createAppendedSpec(modelSettings, spec));
+        long rowIndex = 0;
+        for (DataRow row : inData) {
+            int winner = inMemoryData != null ? inMemoryData.getCluster(rowIndex++)
+                : findClosestPrototypeFor(modelSettings, row, clusters);
+            DataCell cell = new StringCell(CLUSTER + winner);
+            labeledInput.addRowToTable(new AppendedColumnRow(row, cell));
+            if (modelSettings.m_enableHilite) {
+                RowKey key = new RowKey(CLUSTER + winner);
+                if (mapping.get(key) == null) {
+                    Set<RowKey> set = new HashSet<RowKey>();
+                    set.add(row.getKey());
+                    mapping.put(key, set);
+                } else {
+                    mapping.get(key).add(row.getKey());
+                }
+            }
+        }
+        labeledInput.close();
+        if (modelSettings.m_enableHilite) {
+            m_translator.setMapper(new DefaultHiLiteMapper(mapping));
+        }
+        BufferedDataTable outData = labeledInput.getTable();
+
+        // handle the PMML output port
+        PMMLPortObjectSpec pmmlOutSpec = createPMMLSpec(modelSettings, null, spec);
+        PMMLPortObject outPMMLPort = new PMMLPortObject(pmmlOutSpec, null, spec);
+        Set<String> columns = new LinkedHashSet<String>();
+        for (String s : pmmlOutSpec.getLearningFields()) {
+            columns.add(s);
+        }
+        outPMMLPort.addModelTranslater(new PMMLClusterTranslator(ComparisonMeasure.squaredEuclidean,
+            modelSettings.m_nrOfClusters, clusters, clusterCoverage, columns));
+        m_viewData = new KMeansViewData(clusters, clusterCoverage, m_dimension - m_nrIgnoredColumns, featureNames);
+
+        DataContainer clusterCenterContainer = exec.createDataContainer(createClusterCentersSpec(spec));
+        int i = 0;
+        for (double[] cluster : clusters) {
+            List<DataCell> cells = new ArrayList<>();
+            for (double d : cluster) {
+                cells.add(new DoubleCell(d));
+            }
+            clusterCenterContainer
+                .addRowToTable(new DefaultRow(new RowKey(PMMLClusterTranslator.CLUSTER_NAME_PREFIX + i++), cells));
+        }
+        clusterCenterContainer.close();
+        return new PortObject[]{outData, (BufferedDataTable)clusterCenterContainer.getTable(), outPMMLPort};
+    }
+
+    /**
+     * Runs the k-means iterations on the table, reading the rows from the table in every iteration.
+     *
+     * @return the number of rows per cluster in the last iteration
+     */
+    private int[] clusterRowByRow(final KMeansNodeParameters modelSettings, final BufferedDataTable inData,
+        final double[][] clusters, final ExecutionContext exec) throws Exception {
         // also keep counts of how many patterns fall in a specific cluster
         int[] clusterCoverage = new int[modelSettings.m_nrOfClusters];
 
@@ -312,63 +397,7 @@ protected PortObject[] execute(final PortObject[] data, final ExecutionContext e
             finished = updateClusterCenters(modelSettings, clusterCoverage, clusters, delta);
             currentIteration++;
         } // while(!finished & nrIt<maxNrIt)
-          // create list of feature names
-        int k = 0; // index of not-ignored columns
-        int j = 0; // index of column
-        String[] featureNames = new String[m_dimension];
-        do {
-            if (!m_ignoreColumn[j]) {
-                featureNames[k] = spec.getColumnSpec(j).getName();
-                k++;
-            }
-            j++;
-        } while (j < m_dimension);
-        // create output container and also mapping for HiLiteing
-        BufferedDataContainer labeledInput = exec.createDataContainer(createAppendedSpec(modelSettings, spec));
-        for (DataRow row : inData) {
-            int winner = findClosestPrototypeFor(modelSettings, row, clusters);
-            DataCell cell = new StringCell(CLUSTER + winner);
-            labeledInput.addRowToTable(new AppendedColumnRow(row, cell));
-            if (modelSettings.m_enableHilite) {
-                RowKey key = new RowKey(CLUSTER + winner);
-                if (mapping.get(key) == null) {
-                    Set<RowKey> set = new HashSet<RowKey>();
-                    set.add(row.getKey());
-                    mapping.put(key, set);
-                } else {
-                    mapping.get(key).add(row.getKey());
-                }
-            }
-        }
-        labeledInput.close();
-        if (modelSettings.m_enableHilite) {
-            m_translator.setMapper(new DefaultHiLiteMapper(mapping));
-        }
-        BufferedDataTable outData = labeledInput.getTable();
-
-        // handle the PMML output port
-        PMMLPortObjectSpec pmmlOutSpec = createPMMLSpec(modelSettings, null, spec);
-        PMMLPortObject outPMMLPort = new PMMLPortObject(pmmlOutSpec, null, spec);
-        Set<String> columns = new LinkedHashSet<String>();
-        for (String s : pmmlOutSpec.getLearningFields()) {
-            columns.add(s);
-        }
-        outPMMLPort.addModelTranslater(new PMMLClusterTranslator(ComparisonMeasure.squaredEuclidean,
-            modelSettings.m_nrOfClusters, clusters, clusterCoverage, columns));
-        m_viewData = new KMeansViewData(clusters, clusterCoverage, m_dimension - m_nrIgnoredColumns, featureNames);
-
-        DataContainer clusterCenterContainer = exec.createDataContainer(createClusterCentersSpec(spec));
-        int i = 0;
-        for (double[] cluster : clusters) {
-            List<DataCell> cells = new ArrayList<>();
-            for (double d : cluster) {
-                cells.add(new DoubleCell(d));
-            }
-            clusterCenterContainer
-                .addRowToTable(new DefaultRow(new RowKey(PMMLClusterTranslator.CLUSTER_NAME_PREFIX + i++), cells));
-        }
-        clusterCenterContainer.close();
-        return new PortObject[]{outData, (BufferedDataTable)clusterCenterContainer.getTable(), outPMMLPort};
+        return clusterCoverage;
     }
 
     private boolean updateClusterCenters(final KMeansNodeParameters modelSettings, final int[] clusterCoverage,
@@ -411,6 +440,25 @@ private double[][] initializeClusters(final KMeansNodeParameters modelSettings,
         }
     }
 
+    private double[][] initializeClusters(final KMeansNodeParameters modelSettings, final InMemoryKMeans data,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        // the same rows as chosen by the initialization on the table
+        final long[] rows = switch (modelSettings.m_centroidInitialization) {
+            case K_MEANS_PLUS_PLUS -> null;
+            case FIRST_ROWS -> LongStream.range(0, Math.min(data.getNumRows(), modelSettings.m_nrOfClusters)).toArray();
+            case RANDOM_INITIALIZATION -> randomCentroidsSetCreation(modelSettings, data.getNumRows()).stream()
+                .mapToLong(Long::longValue).sorted().toArray();
+        };
+        if (rows == null) {
+            return data.seedKMeansPlusPlus(modelSettings.m_nrOfClusters, getSeedOrRandom(modelSettings), exec);
+        }
+        return data.getRows(rows, modelSettings.m_nrOfClusters);
+    }
+
+    private int[] getIncludedColumnIndices() {
+        return IntStream.range(0, m_dimension).filter(i -> !m_ignoreColumn[i]).toArray();
+    }
+
     private static boolean isFirstRowsInitialized(final KMeansNodeParameters modelSettings) {
         return modelSettings.m_centroidInitialization == KMeansNodeParameters.CentroidInitialization.FIRST_ROWS;
     }
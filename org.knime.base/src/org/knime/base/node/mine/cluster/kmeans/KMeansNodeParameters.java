@@ -51,6 +51,7 @@
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.migration.Migrate;
 import org.knime.node.parameters.persistence.legacy.LongAsStringPersistor;
 import org.knime.node.parameters.updates.ButtonReference;
 import org.knime.node.parameters.updates.Effect;
@@ -142,6 +143,16 @@ final class KMeansNodeParameters implements NodeParameters {
             + "Depending on the number of rows, enabling this feature might consume a lot of memory.")
     boolean m_enableHilite;
 
+    @Advanced
+    @Widget(title = "Cluster in memory",
+        description = "If enabled, the selected columns are read into memory once and the rows are assigned to their "
+            + "closest cluster centers concurrently. Rows whose cluster center provably cannot change are skipped. "
+            + "This is much faster for large tables but needs 8 bytes per selected value and 20 bytes per row of "
+            + "memory. The result is the same as without this option, apart from rounding differences. "
+            + "The data is always clustered in memory if the centroids are initialized with k-means++.")
+    @Migrate(loadDefaultIfAbsent = true)
+    boolean m_clusterInMemory;
+
     static final class CentroidInitializationModeRef implements ParameterReference<CentroidInitialization> {
     }
 
@@ -164,7 +175,8 @@ static final class IsRandomInitialization implements EffectPredicateProvider {
 
         @Override
         public EffectPredicate init(final PredicateInitializer i) {
-            return i.getEnum(CentroidInitializationModeRef.class).isOneOf(CentroidInitialization.RANDOM_INITIALIZATION);
+            return i.getEnum(CentroidInitializationModeRef.class).isOneOf(CentroidInitialization.RANDOM_INITIALIZATION,
+                CentroidInitialization.K_MEANS_PLUS_PLUS);
         }
 
     }
@@ -182,7 +194,8 @@ static final class IsRandomInitializationAndUseStaticRandomSeed implements Effec
 
         @Override
         public EffectPredicate init(final PredicateInitializer i) {
-            return i.getEnum(CentroidInitializationModeRef.class).isOneOf(CentroidInitialization.RANDOM_INITIALIZATION)
+            return i.getEnum(CentroidInitializationModeRef.class)
+                .isOneOf(CentroidInitialization.RANDOM_INITIALIZATION, CentroidInitialization.K_MEANS_PLUS_PLUS)
                 .and(i.getBoolean(IsUseStaticRandomSeedRef.class).isTrue());
         }
 
@@ -218,7 +231,16 @@ enum CentroidInitialization {
              */
             @Label(value = "First k rows",
                 description = "Initializes the centroids using the first rows of the input table.")
-            FIRST_ROWS;
+            FIRST_ROWS,
+            /**
+             * k-means++ seeding.
+             */
+            @Label(value = "k-means++",
+                description = "Initializes the first centroid with a random row and each further centroid with a row "
+                    + "that is drawn with a probability proportional to its squared distance to the closest centroid "
+                    + "chosen so far. This usually leads to better clusters in fewer iterations. Checking the Use "
+                    + "static random seed it is possible to get reproducible results.")
+            K_MEANS_PLUS_PLUS;
 
     }
 
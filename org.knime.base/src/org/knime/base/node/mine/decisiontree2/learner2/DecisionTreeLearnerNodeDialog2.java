@@ -401,6 +401,22 @@ static SettingsModelIntegerBounded createSettingsNumProcessors() {
             DecisionTreeLearnerNodeModel2.DEFAULT_NUM_PROCESSORS, 1, Integer.MAX_VALUE);
     }
 
+    /**
+     * @return whether to search numeric splits among bin boundaries
+     */
+    static SettingsModelBoolean createSettingsUseBinnedNumericSplits() {
+        return new SettingsModelBoolean(DecisionTreeLearnerNodeModel2.KEY_USE_BINNED_NUMERIC_SPLITS,
+            DecisionTreeLearnerNodeModel2.DEFAULT_USE_BINNED_NUMERIC_SPLITS);
+    }
+
+    /**
+     * @return maximum number of bins per numeric attribute
+     */
+    static SettingsModelIntegerBounded createSettingsMaxNumBins() {
+        return new SettingsModelIntegerBounded(DecisionTreeLearnerNodeModel2.KEY_MAX_NUM_BINS,
+            DecisionTreeLearnerNodeModel2.DEFAULT_MAX_NUM_BINS, 2, Integer.MAX_VALUE);
+    }
+
     /**
      * @return name of column to perform first split on
      */
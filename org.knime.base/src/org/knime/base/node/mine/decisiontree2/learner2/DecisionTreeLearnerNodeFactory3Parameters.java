@@ -64,6 +64,7 @@
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.StateComputationFailureException;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
+import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.Widget;
 import org.knime.node.parameters.layout.Layout;
 import org.knime.node.parameters.layout.Section;
@@ -88,6 +89,7 @@
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider;
 import org.knime.node.parameters.widget.choices.util.FilteredInputTableColumnsProvider;
 import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation;
 import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsNonNegativeValidation;
 import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 
@@ -162,6 +164,40 @@ largest value of the lower partition (like C4.5).
             """)
     boolean m_averageSplitPoint = DecisionTreeLearnerNodeModel2.DEFAULT_SPLIT_AVERAGE;
 
+    @Persist(configKey = DecisionTreeLearnerNodeModel2.KEY_USE_BINNED_NUMERIC_SPLITS)
+    @Widget(title = "Binned numeric splits", description = """
+            If checked, the values of each numeric column are divided into equal frequency bins once before the tree is
+            built, and splits of numeric columns are only searched between these bins. This avoids sorting the values
+            in every tree node and considerably speeds up learning on large tables. If a column has at most the
+            maximum number of bins distinct values, the splits are the same as without binning. If unchecked
+            (default), all values are considered as split points.
+            """)
+    @ValueReference(IsBinnedNumericSplitsEnabled.class)
+    @Advanced
+    boolean m_useBinnedNumericSplits = DecisionTreeLearnerNodeModel2.DEFAULT_USE_BINNED_NUMERIC_SPLITS;
+
+    static final class IsBinnedNumericSplitsEnabled implements BooleanReference {
+    }
+
+    @Persist(configKey = DecisionTreeLearnerNodeModel2.KEY_MAX_NUM_BINS)
+    @Widget(title = "Maximum number of bins", description = """
+            The maximum number of bins per numeric column. More bins result in more candidate split points, which
+            approximate the exact splits more closely but take longer to evaluate.
+            """)
+    @NumberInputWidget(minValidation = IsMaxNumBinsMinValidation.class)
+    @Effect(predicate = IsBinnedNumericSplitsEnabled.class, type = EffectType.SHOW)
+    @Advanced
+    int m_maxNumBins = DecisionTreeLearnerNodeModel2.DEFAULT_MAX_NUM_BINS;
+
+    static final class IsMaxNumBinsMinValidation extends MinValidation {
+
+        @Override
+        public double getMin() {
+            return 2;
+        }
+
+    }
+
     @Persist(configKey = DecisionTreeLearnerNodeModel2.KEY_NUM_PROCESSORS)
     @Widget(title = "Number threads", description = """
             This node can exploit multiple threads and thus multiple processors or cores. This can improve performance.
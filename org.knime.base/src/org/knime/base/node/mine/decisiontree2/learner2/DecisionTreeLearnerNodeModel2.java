@@ -197,6 +197,19 @@ public class DecisionTreeLearnerNodeModel2 extends NodeModel {
      */
     public static final String KEY_BINARY_MAX_NUM_NOMINAL_VALUES = "maxNumNominalValues";
 
+    /**
+     * Key to store whether the splits of numeric attributes are only searched
+     * among the boundaries of equal frequency bins.
+     * @since 5.12
+     */
+    public static final String KEY_USE_BINNED_NUMERIC_SPLITS = "useBinnedNumericSplits";
+
+    /**
+     * Key to store the maximum number of bins per numeric attribute.
+     * @since 5.12
+     */
+    public static final String KEY_MAX_NUM_BINS = "maxNumBins";
+
     /** post process tree and remove test attribute values from
      * children, which have been removed further up in the tree already.
      * (see bug 3124).
@@ -289,6 +302,19 @@ public class DecisionTreeLearnerNodeModel2 extends NodeModel {
      */
     public static final int DEFAULT_MAX_BIN_NOMINAL_SPLIT_COMPUTATION = 10;
 
+    /**
+     * The default for binned numeric splits (off, i.e. all values are split
+     * candidates).
+     * @since 5.12
+     */
+    public static final boolean DEFAULT_USE_BINNED_NUMERIC_SPLITS = false;
+
+    /**
+     * The default maximum number of bins per numeric attribute.
+     * @since 5.12
+     */
+    public static final int DEFAULT_MAX_NUM_BINS = 256;
+
     /**
      * The default number of records stored for the view.
      */
@@ -404,6 +430,11 @@ public class DecisionTreeLearnerNodeModel2 extends NodeModel {
     private final SettingsModelIntegerBounded m_parallelProcessing =
             DecisionTreeLearnerNodeDialog2.createSettingsNumProcessors();
 
+    private final SettingsModelBoolean m_useBinnedNumericSplits =
+        DecisionTreeLearnerNodeDialog2.createSettingsUseBinnedNumericSplits();
+
+    private final SettingsModelIntegerBounded m_maxNumBins = DecisionTreeLearnerNodeDialog2.createSettingsMaxNumBins();
+
     private final SettingsModelBoolean m_useFirstSplitCol =
         DecisionTreeLearnerNodeDialog2.createSettingsUseFirstSplitColumn();
 
@@ -506,6 +537,12 @@ protected PortObject[] execute(final PortObject[] data,
         // the all over row count is used to report progress
         m_alloverRowCount = initialTable.getSumOfWeights();
 
+        if (m_useBinnedNumericSplits.getBooleanValue()) {
+            exec.setMessage("Binning numeric attributes...");
+            initialTable.computeNumericBinBoundaries(m_maxNumBins.getIntValue(),
+                parallelProcessing.getMaxNumberThreads());
+        }
+
         // set the finishing counter
         // this counter will always be incremented when a leaf node is
         // created, as this determines the recursion end and can thus
@@ -744,7 +781,8 @@ private DecisionTreeNode buildTree(final InMemoryTable table, final ExecutionCon
                 // find the best splits for all attributes
                 SplitFinder splittFinder = new SplitFinder(table, splitQualityMeasure,
                     m_averageSplitpoint.getBooleanValue(), m_minNumberRecordsPerNode.getIntValue(),
-                    m_binaryNominalSplitMode.getBooleanValue(), m_maxNumNominalsForCompleteComputation.getIntValue());
+                    m_binaryNominalSplitMode.getBooleanValue(), m_maxNumNominalsForCompleteComputation.getIntValue(),
+                    parallelProcessing.getMaxNumberThreads());
                 // check for enough memory
                 checkMemory();
 
@@ -1048,6 +1086,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             // setting this to falls ensures backward compatibility
             m_useFirstSplitCol.setBooleanValue(false);
         }
+
+        // Added in 5.12
+        if (settings.containsKey(KEY_USE_BINNED_NUMERIC_SPLITS)) {
+            m_useBinnedNumericSplits.loadSettingsFrom(settings);
+            m_maxNumBins.loadSettingsFrom(settings);
+        } else {
+            m_useBinnedNumericSplits.setBooleanValue(false);
+        }
     }
 
     /**
@@ -1073,6 +1119,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_missingValues.saveSettingsTo(settings);
         m_useFirstSplitCol.saveSettingsTo(settings);
         m_firstSplitCol.saveSettingsTo(settings);
+        m_useBinnedNumericSplits.saveSettingsTo(settings);
+        m_maxNumBins.saveSettingsTo(settings);
     }
 
     /**
@@ -1131,6 +1179,11 @@ protected void validateSettings(final NodeSettingsRO settings)
             m_useFirstSplitCol.validateSettings(settings);
             m_firstSplitCol.validateSettings(settings);
         }
+        // Added in 5.12
+        if (settings.containsKey(KEY_USE_BINNED_NUMERIC_SPLITS)) {
+            m_useBinnedNumericSplits.validateSettings(settings);
+            m_maxNumBins.validateSettings(settings);
+        }
     }
 
     /**
@@ -47,13 +47,18 @@
  */
 package org.knime.base.node.mine.decisiontree2.learner2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
+import org.knime.base.util.internal.ParallelTasks;
 import org.knime.core.data.DataCell;
+import org.knime.core.node.CanceledExecutionException;
 
 /**
  * Implements a table that holds {@link DataRowWeighted}s in memory.
@@ -71,6 +76,12 @@ public class InMemoryTable implements Iterable<DataRowWeighted> {
      */
     private static final int INITIAL_ROWVECTOR_SIZE = 2000;
 
+    /**
+     * The maximum number of values per attribute used to compute the bin
+     * boundaries.
+     */
+    private static final int MAX_NUM_BINNING_SAMPLES = 1 << 20;
+
     /**
      * The weighted data rows of this table.
      */
@@ -133,6 +144,13 @@ public class InMemoryTable implements Iterable<DataRowWeighted> {
      */
     private double m_sumOfWeights;
 
+    /**
+     * The ascending bin boundaries for each numeric attribute, <code>null</code>
+     * if the splits are searched among all values. Shared with all tables
+     * created from this one as template.
+     */
+    private double[][] m_numericBinBoundaries;
+
     /**
      * Creates an empty table that keeps all rows in memory. The
      * {@link ValueMapper} array must contain mappers only at array positions
@@ -231,6 +249,7 @@ public InMemoryTable(final InMemoryTable tableTemplate) {
         // initialize the boolean array remembering whether an attribute
         // should be considered during learning
         m_considerAttribute = tableTemplate.m_considerAttribute.clone();
+        m_numericBinBoundaries = tableTemplate.m_numericBinBoundaries;
     }
 
     /**
@@ -506,6 +525,17 @@ public int getNumberDataRows() {
         return m_size;
     }
 
+    /**
+     * Returns the row at the given position. The table must be packed.
+     *
+     * @param index the position of the row, smaller than
+     *            {@link #getNumberDataRows()}
+     * @return the row at the given position
+     */
+    DataRowWeighted getRow(final int index) {
+        return m_rows[index];
+    }
+
     /**
      * Returns the class value mapper of this table.
      *
@@ -625,6 +655,115 @@ public DataCell[] getNominalValuesInMappingOrder(final int attributeIndex) {
         return asCells;
     }
 
+    /**
+     * Returns the bin boundaries of the given numeric attribute. A value
+     * belongs to the first bin whose boundary is not smaller than the value,
+     * values larger than all boundaries belong to the last bin.
+     *
+     * @param attributeIndex the index of the numeric attribute
+     * @return the ascending bin boundaries or <code>null</code> if no bins
+     *         have been computed, i.e. all values are split candidates
+     * @since 5.12
+     */
+    public double[] getNumericBinBoundaries(final int attributeIndex) {
+        return m_numericBinBoundaries == null ? null
+                : m_numericBinBoundaries[attributeIndex];
+    }
+
+    /**
+     * Computes at most <code>maxNumBins</code> equal frequency bins for each
+     * numeric attribute. Afterwards, the splits of numeric attributes are only
+     * searched among the bin boundaries, which is much cheaper than sorting the
+     * values in each tree node. If an attribute has at most
+     * <code>maxNumBins</code> distinct values, each value forms a bin and the
+     * splits are the same as without binning. The boundaries are passed on to
+     * all tables created from this table as template, hence this method should
+     * be called on the initial table after all rows have been added.
+     *
+     * @param maxNumBins the maximum number of bins per attribute, at least 2
+     * @param numThreads the number of threads to compute the bins with
+     * @throws CanceledExecutionException if the computation was interrupted
+     * @since 5.12
+     */
+    public void computeNumericBinBoundaries(final int maxNumBins,
+            final int numThreads) throws CanceledExecutionException {
+        if (maxNumBins < 2) {
+            throw new IllegalArgumentException(
+                    "The number of bins must be at least 2: " + maxNumBins);
+        }
+        final double[][] boundaries = new double[getNumAttributes()][];
+        if (numThreads <= 1) {
+            computeBinBoundaries(boundaries, 0, 1, maxNumBins);
+        } else {
+            final List<Callable<Void>> tasks = new ArrayList<>(numThreads);
+            for (int t = 0; t < numThreads; t++) {
+                final int firstAttribute = t;
+                tasks.add(() -> {
+                    computeBinBoundaries(boundaries, firstAttribute,
+                            numThreads, maxNumBins);
+                    return null;
+                });
+            }
+            ParallelTasks.run(tasks);
+        }
+        m_numericBinBoundaries = boundaries;
+    }
+
+    private void computeBinBoundaries(final double[][] boundaries,
+            final int firstAttribute, final int step, final int maxNumBins) {
+        for (int i = firstAttribute; i < boundaries.length; i += step) {
+            if (!isNominal(i)) {
+                boundaries[i] = computeBinBoundaries(i, maxNumBins);
+            }
+        }
+    }
+
+    private double[] computeBinBoundaries(final int attributeIndex,
+            final int maxNumBins) {
+        // the quantiles are estimated on a sample for very large tables
+        final int step = Math.max(1, m_size / MAX_NUM_BINNING_SAMPLES);
+        double[] values = new double[(m_size + step - 1) / step];
+        int numValues = 0;
+        for (int i = 0; i < m_size; i += step) {
+            final double value = m_rows[i].getValue(attributeIndex);
+            if (!Double.isNaN(value)) {
+                values[numValues++] = value;
+            }
+        }
+        values = Arrays.copyOf(values, numValues);
+        Arrays.sort(values);
+        // count the distinct values
+        int numDistinct = numValues == 0 ? 0 : 1;
+        for (int i = 1; i < numValues; i++) {
+            if (values[i] != values[i - 1]) {
+                numDistinct++;
+            }
+        }
+        final double[] boundaries;
+        int numBoundaries = 0;
+        if (numDistinct <= maxNumBins) {
+            // each distinct value is a bin, the largest one needs no boundary
+            boundaries = new double[Math.max(0, numDistinct - 1)];
+            for (int i = 1; i < numValues; i++) {
+                if (values[i] != values[i - 1]) {
+                    boundaries[numBoundaries++] = values[i - 1];
+                }
+            }
+        } else {
+            boundaries = new double[maxNumBins - 1];
+            for (int k = 1; k < maxNumBins; k++) {
+                final double quantile =
+                        values[(int)((long)k * numValues / maxNumBins) - 1];
+                if ((numBoundaries == 0
+                        || quantile > boundaries[numBoundaries - 1])
+                        && quantile < values[numValues - 1]) {
+                    boundaries[numBoundaries++] = quantile;
+                }
+            }
+        }
+        return Arrays.copyOf(boundaries, numBoundaries);
+    }
+
     /**
      * Sorts the data rows of this table in ascending order on the given
      * attribute index. The missing values are put at the end of the table.
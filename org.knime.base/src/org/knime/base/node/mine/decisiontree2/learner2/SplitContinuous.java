@@ -47,7 +47,7 @@
  */
 package org.knime.base.node.mine.decisiontree2.learner2;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
  * This class determines the best split for a numeric attribute.
@@ -62,6 +62,9 @@ public class SplitContinuous extends Split {
 
     private static final int ABOVE_INDEX = 1;
 
+    /** Ranges of at most this size are sorted by insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     private double m_bestSplitValue;
 
     /**
@@ -95,8 +98,15 @@ public SplitContinuous(final InMemoryTable table, final int attributeIndex,
     }
 
     /**
-     * Constructs the best split for the given numeric attribute list and the
-     * class distribution. The results can be retrieved from getter methods.
+     * Determines the best split for the given numeric attribute. The table
+     * itself is not modified, hence the splits for different attributes of the
+     * same table can be determined concurrently (given that each uses its own
+     * quality measure instance).
+     *
+     * If the table provides bin boundaries for the attribute, the class
+     * distributions are collected per bin and only the bin boundaries are
+     * evaluated as split points. Otherwise the non-missing values are sorted
+     * and every value change is evaluated.
      *
      * @param table the table with the data for which to create the split
      * @param attributeIndex the index of the attribute for which to create the
@@ -107,9 +117,7 @@ public SplitContinuous(final InMemoryTable table, final int attributeIndex,
      *            of the partition borders, else the upper value of the lower
      *            partition is used
      * @param minObjectsCount the minimum number of objects in at least two
-     *            partitions *
-     * @param above the initial class distribution above this attribute list
-     * @param below the initial class distribution below this attribute list
+     *            partitions
      */
     private void findBestSplit(final InMemoryTable table,
             final int attributeIndex,
@@ -121,22 +129,44 @@ private void findBestSplit(final InMemoryTable table,
         // default value is the worst one
         setBestQualityMeasure(splitQualityMeasure.getWorstValue());
 
-        // get the iterator for the data rows of the table
-        // (NOTE: the missing values are at the end of the table)
-        Iterator<DataRowWeighted> rowIterator = table.iterator();
         // if there are no rows return
-        if (!rowIterator.hasNext()) {
+        final int numRows = table.getNumberDataRows();
+        if (numRows == 0) {
             // set the quality measure to NaN marking as "not a valid split"
             setBestQualityMeasure(Double.NaN);
             return;
         }
 
-        // now sort the table on this splits attribute index and get the
-        // frequency array for the missing values
-        // the missing value frequencies must be subtracted from the
-        // counter
-        double[] missingValueClassFrequencies =
-                table.sortDataRows(attributeIndex);
+        final double[] binBoundaries =
+                table.getNumericBinBoundaries(attributeIndex);
+        final double[] missingValueClassFrequencies =
+                new double[table.getClassFrequencyArray().length];
+        if (binBoundaries != null) {
+            findBestBinnedSplit(table, attributeIndex, binBoundaries,
+                    missingValueClassFrequencies, averageSplitpoint,
+                    minObjectsCount);
+            return;
+        }
+
+        // collect the non-missing values together with their row index and
+        // sort them; the missing value frequencies must be subtracted from
+        // the counter
+        final double[] values = new double[numRows];
+        final int[] rowIndices = new int[numRows];
+        int numValidRows = 0;
+        for (int i = 0; i < numRows; i++) {
+            final DataRowWeighted row = table.getRow(i);
+            final double value = row.getValue(attributeIndex);
+            if (Double.isNaN(value)) {
+                missingValueClassFrequencies[row.getClassValue()] +=
+                        row.getWeight();
+            } else {
+                values[numValidRows] = value;
+                rowIndices[numValidRows] = i;
+                numValidRows++;
+            }
+        }
+        sort(values, rowIndices, 0, numValidRows - 1);
 
         // the split is determined by sweeping linearly through the
         // ordered attribute list
@@ -145,33 +175,17 @@ private void findBestSplit(final InMemoryTable table,
         // for the class distribution above the current position
         // for all potential split points, the quality measure is calculates
         // and the best split according to this index is remembered
-        double[][] partitionHisto = new double[2][];
-        partitionHisto[ABOVE_INDEX] = table.getCopyOfClassFrequencyArray();
-        double alloverMissingValueWeight = 0.0;
-        for (int i = 0; i < missingValueClassFrequencies.length; i++) {
-            partitionHisto[ABOVE_INDEX][i] -= missingValueClassFrequencies[i];
-            alloverMissingValueWeight += missingValueClassFrequencies[i];
-        }
-        // initially the "below" histogram is set all fields to 0
-        partitionHisto[BELOW_INDEX] =
-                new double[partitionHisto[ABOVE_INDEX].length];
-
-        // also the overall number of values in both partitions is maintained
-        double alloverCount =
-                table.getSumOfWeights() - alloverMissingValueWeight;
-        double[] partitionCount = new double[2];
-        partitionCount[ABOVE_INDEX] = alloverCount;
-        partitionCount[BELOW_INDEX] = 0;
-
-        // init the split quality measure
-        m_splitQualityMeasure.initQualityMeasure(partitionHisto[ABOVE_INDEX],
-                alloverCount);
+        final double[][] partitionHisto = new double[2][];
+        final double[] partitionCount = new double[2];
+        final double alloverMissingValueWeight = initPartitions(table,
+                missingValueClassFrequencies, partitionHisto, partitionCount);
+        final double alloverCount = partitionCount[ABOVE_INDEX];
 
         // Bug 3291: option minCount overwritten when number of overall objects
-        // less than 10% of the actual class count, 
-        // OR if greater than 25 (magic number) 
+        // less than 10% of the actual class count,
+        // OR if greater than 25 (magic number)
         double minCount = minObjectsCount;
-        
+
         // check if there are too much missing cells
         if (alloverCount - alloverMissingValueWeight < 2 * minCount) {
             // set the quality measure to NaN marking as "not a valid split"
@@ -179,50 +193,43 @@ private void findBestSplit(final InMemoryTable table,
             return;
         }
 
-        // get the first valid attribute value, the class value and its weight
-        DataRowWeighted firstRow = rowIterator.next();
-        double previouseAttrValue = firstRow.getValue(attributeIndex);
-        int previousClassValue = firstRow.getClassValue();
-        double weight = firstRow.getWeight();
-
         // to remember the best split
         // the best split value is the mean of the two split separating values
         // or the lower value (depends on the parameter "averageSplitPoint")
         double bestSplitValue = Double.NaN;
         double bestQualityMeasure = splitQualityMeasure.getWorstValue();
         m_partitionValidCount = new double[2];
-        while (rowIterator.hasNext()) {
+        if (numValidRows == 0) {
+            setBestQualityMeasure(bestQualityMeasure);
+            m_bestSplitValue = bestSplitValue;
+            return;
+        }
+
+        // get the first valid attribute value, the class value and its weight
+        DataRowWeighted previousRow = table.getRow(rowIndices[0]);
+        double previouseAttrValue = values[0];
+        for (int i = 1; i < numValidRows; i++) {
             // if the above part has too few rows terminate the loop
             if (partitionCount[ABOVE_INDEX] <= minCount) {
                 break;
             }
             // adapt the below and above histogram with the previous value
+            final int previousClassValue = previousRow.getClassValue();
+            final double weight = previousRow.getWeight();
             partitionHisto[BELOW_INDEX][previousClassValue] += weight;
             partitionHisto[ABOVE_INDEX][previousClassValue] -= weight;
             partitionCount[BELOW_INDEX] += weight;
             partitionCount[ABOVE_INDEX] -= weight;
 
-            // get the next data row
-            DataRowWeighted row = rowIterator.next();
-            double attrValue = row.getValue(attributeIndex);
-            if (Double.isNaN(attrValue)) {
-                break;
-            }
-            int classValue = row.getClassValue();
+            // get the next value
+            final double attrValue = values[i];
 
             // the quality measure is only calculated if the value changes
             if (attrValue != previouseAttrValue
                     && partitionCount[BELOW_INDEX] >= minCount) {
-                double qualityMeasure =
-                        m_splitQualityMeasure.measureQuality(alloverCount,
-                                partitionCount, partitionHisto,
-                                alloverMissingValueWeight);
-                // post process measure
-                qualityMeasure =
-                    m_splitQualityMeasure.postProcessMeasure(
-                            qualityMeasure, alloverCount,
-                            partitionCount, alloverMissingValueWeight);
-
+                double qualityMeasure = measureQuality(alloverCount,
+                        partitionCount, partitionHisto,
+                        alloverMissingValueWeight);
                 if (m_splitQualityMeasure.isBetterOrEqual(qualityMeasure,
                         bestQualityMeasure)) {
                     bestQualityMeasure = qualityMeasure;
@@ -233,7 +240,6 @@ private void findBestSplit(final InMemoryTable table,
                     } else {
                         bestSplitValue = previouseAttrValue;
                     }
-                    bestQualityMeasure = qualityMeasure;
                     // also remember the partition counts
                     m_partitionValidCount[BELOW_INDEX] =
                             partitionCount[BELOW_INDEX];
@@ -244,14 +250,238 @@ private void findBestSplit(final InMemoryTable table,
 
             // set the current values to the previous ones
             previouseAttrValue = attrValue;
-            previousClassValue = classValue;
-            weight = row.getWeight();
+            previousRow = table.getRow(rowIndices[i]);
+        }
+
+        setBestQualityMeasure(bestQualityMeasure);
+        m_bestSplitValue = bestSplitValue;
+    }
+
+    /**
+     * Determines the best split among the bin boundaries of the attribute.
+     * The candidate split points lie between the largest value of a bin and
+     * the smallest value of the next non-empty bin.
+     */
+    private void findBestBinnedSplit(final InMemoryTable table,
+            final int attributeIndex, final double[] binBoundaries,
+            final double[] missingValueClassFrequencies,
+            final boolean averageSplitpoint, final double minCount) {
+        final int numClasses = missingValueClassFrequencies.length;
+        final int numBins = binBoundaries.length + 1;
+        final double[][] binHisto = new double[numBins][numClasses];
+        final double[] binCount = new double[numBins];
+        final double[] binMin = new double[numBins];
+        final double[] binMax = new double[numBins];
+        Arrays.fill(binMin, Double.POSITIVE_INFINITY);
+        Arrays.fill(binMax, Double.NEGATIVE_INFINITY);
+        final int numRows = table.getNumberDataRows();
+        for (int i = 0; i < numRows; i++) {
+            final DataRowWeighted row = table.getRow(i);
+            final double value = row.getValue(attributeIndex);
+            if (Double.isNaN(value)) {
+                missingValueClassFrequencies[row.getClassValue()] +=
+                        row.getWeight();
+            } else {
+                final int bin = getBin(binBoundaries, value);
+                binHisto[bin][row.getClassValue()] += row.getWeight();
+                binCount[bin] += row.getWeight();
+                binMin[bin] = Math.min(binMin[bin], value);
+                binMax[bin] = Math.max(binMax[bin], value);
+            }
+        }
+
+        final double[][] partitionHisto = new double[2][];
+        final double[] partitionCount = new double[2];
+        final double alloverMissingValueWeight = initPartitions(table,
+                missingValueClassFrequencies, partitionHisto, partitionCount);
+        final double alloverCount = partitionCount[ABOVE_INDEX];
+
+        // check if there are too much missing cells
+        if (alloverCount - alloverMissingValueWeight < 2 * minCount) {
+            // set the quality measure to NaN marking as "not a valid split"
+            setBestQualityMeasure(Double.NaN);
+            return;
+        }
+
+        double bestSplitValue = Double.NaN;
+        double bestQualityMeasure = m_splitQualityMeasure.getWorstValue();
+        m_partitionValidCount = new double[2];
+        // a bin is empty if its minimum is larger than its maximum
+        int previousBin = 0;
+        while (previousBin < numBins
+                && binMin[previousBin] > binMax[previousBin]) {
+            previousBin++;
+        }
+        for (int bin = previousBin + 1; bin < numBins; bin++) {
+            if (binMin[bin] > binMax[bin]) {
+                continue;
+            }
+            // if the above part has too few rows terminate the loop
+            if (partitionCount[ABOVE_INDEX] <= minCount) {
+                break;
+            }
+            // move the previous bin to the lower partition
+            for (int c = 0; c < numClasses; c++) {
+                partitionHisto[BELOW_INDEX][c] += binHisto[previousBin][c];
+                partitionHisto[ABOVE_INDEX][c] -= binHisto[previousBin][c];
+            }
+            partitionCount[BELOW_INDEX] += binCount[previousBin];
+            partitionCount[ABOVE_INDEX] -= binCount[previousBin];
+
+            if (partitionCount[BELOW_INDEX] >= minCount) {
+                double qualityMeasure = measureQuality(alloverCount,
+                        partitionCount, partitionHisto,
+                        alloverMissingValueWeight);
+                if (m_splitQualityMeasure.isBetterOrEqual(qualityMeasure,
+                        bestQualityMeasure)) {
+                    bestQualityMeasure = qualityMeasure;
+                    if (averageSplitpoint) {
+                        bestSplitValue =
+                                binMax[previousBin] / 2.0 + binMin[bin] / 2.0;
+                    } else {
+                        bestSplitValue = binMax[previousBin];
+                    }
+                    m_partitionValidCount[BELOW_INDEX] =
+                            partitionCount[BELOW_INDEX];
+                    m_partitionValidCount[ABOVE_INDEX] =
+                            partitionCount[ABOVE_INDEX];
+                }
+            }
+            previousBin = bin;
         }
 
         setBestQualityMeasure(bestQualityMeasure);
         m_bestSplitValue = bestSplitValue;
     }
 
+    /**
+     * Initializes the partition histograms and counts with all non-missing
+     * values in the upper partition and initializes the quality measure.
+     *
+     * @return the sum of the weights of the missing values
+     */
+    private double initPartitions(final InMemoryTable table,
+            final double[] missingValueClassFrequencies,
+            final double[][] partitionHisto, final double[] partitionCount) {
+        partitionHisto[ABOVE_INDEX] = table.getCopyOfClassFrequencyArray();
+        double alloverMissingValueWeight = 0.0;
+        for (int i = 0; i < missingValueClassFrequencies.length; i++) {
+            partitionHisto[ABOVE_INDEX][i] -= missingValueClassFrequencies[i];
+            alloverMissingValueWeight += missingValueClassFrequencies[i];
+        }
+        // initially the "below" histogram is set all fields to 0
+        partitionHisto[BELOW_INDEX] =
+                new double[partitionHisto[ABOVE_INDEX].length];
+
+        // also the overall number of values in both partitions is maintained
+        double alloverCount =
+                table.getSumOfWeights() - alloverMissingValueWeight;
+        partitionCount[ABOVE_INDEX] = alloverCount;
+        partitionCount[BELOW_INDEX] = 0;
+
+        // init the split quality measure
+        m_splitQualityMeasure.initQualityMeasure(partitionHisto[ABOVE_INDEX],
+                alloverCount);
+        return alloverMissingValueWeight;
+    }
+
+    private double measureQuality(final double alloverCount,
+            final double[] partitionCount, final double[][] partitionHisto,
+            final double alloverMissingValueWeight) {
+        double qualityMeasure =
+                m_splitQualityMeasure.measureQuality(alloverCount,
+                        partitionCount, partitionHisto,
+                        alloverMissingValueWeight);
+        // post process measure
+        return m_splitQualityMeasure.postProcessMeasure(qualityMeasure,
+                alloverCount, partitionCount, alloverMissingValueWeight);
+    }
+
+    /**
+     * Returns the bin of a value, i.e. the index of the first boundary that is
+     * not smaller than the value or the number of boundaries if all are
+     * smaller.
+     *
+     * @param binBoundaries the ascending bin boundaries
+     * @param value the value, not NaN
+     * @return the bin index
+     */
+    static int getBin(final double[] binBoundaries, final double value) {
+        int low = 0;
+        int high = binBoundaries.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (binBoundaries[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the values ascending and permutes the row indices accordingly.
+     *
+     * @param values the values to sort, not NaN
+     * @param rowIndices the row indices to permute along with the values
+     * @param left the first index of the range to sort
+     * @param right the last index of the range to sort (inclusive)
+     */
+    private static void sort(final double[] values, final int[] rowIndices,
+            final int left, final int right) {
+        int lo = left;
+        int hi = right;
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            final double pivot = values[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, rowIndices, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (j - lo < hi - i) {
+                sort(values, rowIndices, lo, j);
+                lo = i;
+            } else {
+                sort(values, rowIndices, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            final double value = values[i];
+            final int rowIndex = rowIndices[i];
+            int j = i - 1;
+            while (j >= lo && values[j] > value) {
+                values[j + 1] = values[j];
+                rowIndices[j + 1] = rowIndices[j];
+                j--;
+            }
+            values[j + 1] = value;
+            rowIndices[j + 1] = rowIndex;
+        }
+    }
+
+    private static void swap(final double[] values, final int[] rowIndices,
+            final int i, final int j) {
+        final double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        final int rowIndex = rowIndices[i];
+        rowIndices[i] = rowIndices[j];
+        rowIndices[j] = rowIndex;
+    }
+
     // private String printCountStructures(final double allCount,
     // final double[] partitionCount, final double[][] histoCount) {
     // StringBuilder sb = new StringBuilder();
@@ -49,6 +49,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.node.CanceledExecutionException;
 
 
 /**
@@ -64,6 +68,12 @@ public class SplitFinder {
 
     private Split m_split;
 
+    /**
+     * The minimum number of rows times considered attributes for which the
+     * attributes are evaluated concurrently.
+     */
+    private static final long MIN_NUM_CELLS_FOR_PARALLEL_SEARCH = 100000;
+
     /**
      * Finds the best split for the given data.
      *
@@ -89,31 +99,114 @@ public SplitFinder(final InMemoryTable table,
             final boolean averageSplitpoint, final double minObjectsCount,
             final boolean binaryNominalSplits,
             final int maxNumNominalsForCompleteComputation) {
+        final List<Integer> attributes = getConsideredAttributes(table);
+        final Split[] splitCandidates = new Split[attributes.size()];
+        createSplits(splitCandidates, 0, 1, table, attributes,
+                splitQualityMeasure, averageSplitpoint, minObjectsCount,
+                binaryNominalSplits, maxNumNominalsForCompleteComputation);
+        selectBestSplit(splitCandidates, splitQualityMeasure);
+    }
+
+    /**
+     * Finds the best split for the given data. The best splits of the
+     * individual attributes are determined concurrently if more than one
+     * thread is given and the table is large enough. The result does not
+     * depend on the number of threads.
+     *
+     * @param table the data table for which to find the best split attribute
+     *            and for this the best split
+     * @param splitQualityMeasure the quality measure (e.g. gini or gain
+     *            ratio)
+     * @param averageSplitpoint if true, the split point is set as the average
+     *            of the partition borders, else the upper value of the lower
+     *            partition is used
+     * @param minObjectsCount minimum number of examples for a partition
+     * @param binaryNominalSplits if true, nominal attributes are split
+     *            according to binary subsets, else each nominal value
+     *            represents one branch
+     * @param maxNumNominalsForCompleteComputation the maximum number of nominal
+     *            values for which all subsets are calculated (results in the
+     *            optimal binary split); this parameter is only use if
+     *            <code>binaryNominalSplits</code> is <code>true</code>; if
+     *            the number of nominal values is higher, a heuristic is applied
+     * @param numThreads the maximum number of threads to evaluate the
+     *            attributes with
+     * @throws CanceledExecutionException if the split search was interrupted
+     * @since 5.12
+     */
+    public SplitFinder(final InMemoryTable table,
+            final SplitQualityMeasure splitQualityMeasure,
+            final boolean averageSplitpoint, final double minObjectsCount,
+            final boolean binaryNominalSplits,
+            final int maxNumNominalsForCompleteComputation,
+            final int numThreads) throws CanceledExecutionException {
+
+        final List<Integer> attributes = getConsideredAttributes(table);
 
         // create the best splits for each attribute
-        List<Split> splitCandidates = new ArrayList<Split>();
+        final Split[] splitCandidates = new Split[attributes.size()];
+        final long numCells =
+                (long)table.getNumberDataRows() * attributes.size();
+        if (numThreads > 1 && attributes.size() > 1
+                && numCells >= MIN_NUM_CELLS_FOR_PARALLEL_SEARCH) {
+            // each task evaluates every numTasks-th attribute with its own
+            // copy of the (stateful) quality measure
+            final int numTasks = Math.min(numThreads, attributes.size());
+            final List<Callable<Void>> tasks =
+                    new ArrayList<Callable<Void>>(numTasks);
+            for (int t = 0; t < numTasks; t++) {
+                final int firstCandidate = t;
+                tasks.add(() -> {
+                    final SplitQualityMeasure measure =
+                            (SplitQualityMeasure)splitQualityMeasure.clone();
+                    createSplits(splitCandidates, firstCandidate, numTasks,
+                            table, attributes, measure, averageSplitpoint,
+                            minObjectsCount, binaryNominalSplits,
+                            maxNumNominalsForCompleteComputation);
+                    return null;
+                });
+            }
+            ParallelTasks.run(tasks);
+        } else {
+            createSplits(splitCandidates, 0, 1, table, attributes,
+                    splitQualityMeasure, averageSplitpoint, minObjectsCount,
+                    binaryNominalSplits, maxNumNominalsForCompleteComputation);
+        }
+        selectBestSplit(splitCandidates, splitQualityMeasure);
+    }
 
+    private static List<Integer> getConsideredAttributes(
+            final InMemoryTable table) {
+        final List<Integer> attributes = new ArrayList<Integer>();
         for (int i = 0; i < table.getNumAttributes(); i++) {
             // check if the attribute should be considered
-            if (!table.considerAttribute(i)) {
-                continue;
-            }
-            if (table.isNominal(i)) {
-                if (binaryNominalSplits) {
-                    splitCandidates.add(new SplitNominalBinary(table, i,
-                            splitQualityMeasure, minObjectsCount,
-                            maxNumNominalsForCompleteComputation));
-                } else {
-                    splitCandidates.add(new SplitNominalNormal(table, i,
-                            splitQualityMeasure, minObjectsCount));
-                }
-            } else {
-                splitCandidates.add(new SplitContinuous(table, i,
-                        splitQualityMeasure, averageSplitpoint,
-                        minObjectsCount));
+            if (table.considerAttribute(i)) {
+                attributes.add(i);
             }
         }
+        return attributes;
+    }
+
+    /**
+     * Creates the best splits for every <code>step</code>-th attribute,
+     * starting at <code>first</code>.
+     */
+    private static void createSplits(final Split[] splitCandidates,
+            final int first, final int step, final InMemoryTable table,
+            final List<Integer> attributes,
+            final SplitQualityMeasure splitQualityMeasure,
+            final boolean averageSplitpoint, final double minObjectsCount,
+            final boolean binaryNominalSplits,
+            final int maxNumNominalsForCompleteComputation) {
+        for (int c = first; c < splitCandidates.length; c += step) {
+            splitCandidates[c] = createSplit(table, attributes.get(c),
+                    splitQualityMeasure, averageSplitpoint, minObjectsCount,
+                    binaryNominalSplits, maxNumNominalsForCompleteComputation);
+        }
+    }
 
+    private void selectBestSplit(final Split[] splitCandidates,
+            final SplitQualityMeasure splitQualityMeasure) {
         // get the best split
         Split bestSplit = null;
         double bestQualityMeasure = splitQualityMeasure.getWorstValue();
@@ -134,6 +227,25 @@ public SplitFinder(final InMemoryTable table,
         m_split = bestSplit;
     }
 
+    private static Split createSplit(final InMemoryTable table,
+            final int attributeIndex,
+            final SplitQualityMeasure splitQualityMeasure,
+            final boolean averageSplitpoint, final double minObjectsCount,
+            final boolean binaryNominalSplits,
+            final int maxNumNominalsForCompleteComputation) {
+        if (table.isNominal(attributeIndex)) {
+            if (binaryNominalSplits) {
+                return new SplitNominalBinary(table, attributeIndex,
+                        splitQualityMeasure, minObjectsCount,
+                        maxNumNominalsForCompleteComputation);
+            }
+            return new SplitNominalNormal(table, attributeIndex,
+                    splitQualityMeasure, minObjectsCount);
+        }
+        return new SplitContinuous(table, attributeIndex, splitQualityMeasure,
+                averageSplitpoint, minObjectsCount);
+    }
+
     /**
      * Returns the split evaluated as the best for the given data.
      *
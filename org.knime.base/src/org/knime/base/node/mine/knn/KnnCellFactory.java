@@ -0,0 +1,281 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.knime.base.node.mine.knn.KnnIndex.Searcher;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Cell factory that classifies rows with a {@link KnnIndex}. It appends the predicted class and optionally the class
+ * probabilities. Rows are processed concurrently, each worker thread borrows its own {@link Searcher}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class KnnCellFactory extends AbstractCellFactory {
+    private final KnnIndex m_index;
+
+    private final int[] m_queryColumns;
+
+    private final int m_k;
+
+    private final boolean m_includeTies;
+
+    private final boolean m_weightByDistance;
+
+    /** For each probability column the index of its class in the index, or -1 if the class does not occur. */
+    private final int[] m_probabilityClasses;
+
+    private final double m_maxRows;
+
+    private final Queue<Searcher> m_searchers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new cell factory.
+     *
+     * @param colSpecs the specs of the appended columns, see {@link #createColumnSpecs(DataTableSpec, DataColumnSpec,
+     *            boolean)}
+     * @param index the index containing the training data
+     * @param queryColumns the indices of the feature columns in the table that is classified, in the order of the
+     *            index's dimensions
+     * @param k the number of neighbors
+     * @param includeTies whether all neighbors with the same distance as the k-th one vote, see
+     *            {@link Searcher#search(double[], int, boolean)}
+     * @param weightByDistance whether the neighbors are weighted by their inverse distance
+     * @param probabilityClasses the class values for which probabilities are appended, in the order of the columns
+     * @param maxRows the number of rows to classify, or -1 if unknown (streaming)
+     */
+    KnnCellFactory(final DataColumnSpec[] colSpecs, final KnnIndex index, final int[] queryColumns, final int k,
+        final boolean includeTies, final boolean weightByDistance, final DataCell[] probabilityClasses,
+        final double maxRows) {
+        super(true, colSpecs);
+        m_index = index;
+        m_queryColumns = queryColumns;
+        m_k = k;
+        m_includeTies = includeTies;
+        m_weightByDistance = weightByDistance;
+        m_maxRows = maxRows;
+
+        final Map<DataCell, Integer> classIndices = new HashMap<>();
+        for (int c = 0; c < index.getNumClasses(); c++) {
+            classIndices.put(index.getClassValue(c), c);
+        }
+        m_probabilityClasses = new int[probabilityClasses.length];
+        for (int i = 0; i < probabilityClasses.length; i++) {
+            m_probabilityClasses[i] = classIndices.getOrDefault(probabilityClasses[i], -1);
+        }
+    }
+
+    /**
+     * Creates the specs of the appended columns.
+     *
+     * @param in the spec of the table that is classified
+     * @param classColumnSpec the spec of the class column in the training data
+     * @param outputClassProbabilities whether probability columns are appended
+     * @return the column specs
+     */
+    static DataColumnSpec[] createColumnSpecs(final DataTableSpec in, final DataColumnSpec classColumnSpec,
+        final boolean outputClassProbabilities) {
+        String newName = "Class [kNN]";
+        while (in.containsName(newName)) {
+            newName += "_dup";
+        }
+
+        final List<DataColumnSpec> colSpecs = new ArrayList<>();
+        final DataColumnSpecCreator crea = new DataColumnSpecCreator(classColumnSpec);
+        crea.setName(newName);
+        colSpecs.add(crea.createSpec());
+
+        if (outputClassProbabilities) {
+            for (final DataCell posVal : getProbabilityClasses(classColumnSpec)) {
+                newName = posVal.toString();
+                while (in.containsName(newName)) {
+                    newName += "_dup";
+                }
+                newName = "P (" + classColumnSpec.getName() + "=" + newName + ")";
+                colSpecs.add(new DataColumnSpecCreator(newName, DoubleCell.TYPE).createSpec());
+            }
+        }
+        return colSpecs.toArray(new DataColumnSpec[0]);
+    }
+
+    /**
+     * Returns the class values for which probabilities are output, i.e. the domain values of the class column sorted
+     * by their string representation.
+     *
+     * @param classColumnSpec the spec of the class column in the training data
+     * @return the class values, an empty array if the column has no possible values
+     */
+    static DataCell[] getProbabilityClasses(final DataColumnSpec classColumnSpec) {
+        if (!classColumnSpec.getDomain().hasValues()) {
+            return new DataCell[0];
+        }
+        final DataCell[] possibleValues = classColumnSpec.getDomain().getValues().toArray(new DataCell[0]);
+        Arrays.sort(possibleValues, Comparator.comparing(DataCell::toString));
+        return possibleValues;
+    }
+
+    /**
+     * Finds the feature columns in the table that is classified.
+     *
+     * @param featureColumns the names of the features in the order of the index's dimensions
+     * @param spec the spec of the table that is classified
+     * @return the indices of the feature columns in the spec
+     * @throws InvalidSettingsException if a feature column is missing or not numeric
+     */
+    static int[] findQueryColumns(final String[] featureColumns, final DataTableSpec spec)
+        throws InvalidSettingsException {
+        final int[] queryColumns = new int[featureColumns.length];
+        for (int i = 0; i < featureColumns.length; i++) {
+            queryColumns[i] = spec.findColumnIndex(featureColumns[i]);
+            if (queryColumns[i] == -1) {
+                throw new InvalidSettingsException(
+                    "Second input table does not contain a column: '" + featureColumns[i] + "'");
+            }
+            if (!spec.getColumnSpec(queryColumns[i]).getType().isCompatible(DoubleValue.class)) {
+                throw new InvalidSettingsException("Column '" + featureColumns[i] + "' from second table is not "
+                    + "compatible with corresponding column '" + featureColumns[i] + "' from first table.");
+            }
+        }
+        return queryColumns;
+    }
+
+    @Override
+    public void setProgress(final long curRowNr, final long rowCount, final RowKey lastKey,
+        final ExecutionMonitor exec) {
+        if (m_maxRows > 0) {
+            exec.setProgress(curRowNr / m_maxRows, "Classifying row " + lastKey);
+        } else {
+            exec.setProgress("Classifying row " + lastKey);
+        }
+    }
+
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final DataCell[] output = new DataCell[1 + m_probabilityClasses.length];
+        final double[] query = new double[m_queryColumns.length];
+        for (int i = 0; i < m_queryColumns.length; i++) {
+            final DataCell cell = row.getCell(m_queryColumns[i]);
+            if (cell.isMissing()) {
+                Arrays.fill(output, DataType.getMissingCell());
+                return output;
+            }
+            query[i] = ((DoubleValue)cell).getDoubleValue();
+        }
+
+        Searcher searcher = m_searchers.poll();
+        if (searcher == null) {
+            searcher = m_index.createSearcher();
+        }
+        final double[] classWeights = new double[m_index.getNumClasses()];
+        final boolean[] seen = new boolean[classWeights.length];
+        // the classes in the order in which they appear among the neighbors
+        final int[] classOrder = new int[classWeights.length];
+        int numClasses = 0;
+        try {
+            final int numNeighbors = searcher.search(query, m_k, m_includeTies);
+            for (int i = 0; i < numNeighbors; i++) {
+                final int c = searcher.getNeighborClass(i);
+                if (!seen[c]) {
+                    seen[c] = true;
+                    classOrder[numClasses++] = c;
+                }
+                classWeights[c] += m_weightByDistance ? 1 / searcher.getNeighborDistance(i) : 1;
+            }
+        } finally {
+            m_searchers.offer(searcher);
+        }
+
+        double winnerWeight = 0;
+        double weightSum = 0;
+        int winner = -1;
+        for (int i = 0; i < numClasses; i++) {
+            final double weight = classWeights[classOrder[i]];
+            if (weight > winnerWeight) {
+                winnerWeight = weight;
+                winner = classOrder[i];
+            }
+            weightSum += weight;
+        }
+
+        // among classes with the same weight, prefer the one that is more frequent in the training data
+        for (int i = 0; i < numClasses && winner >= 0; i++) {
+            final int c = classOrder[i];
+            if (classWeights[c] == winnerWeight && m_index.getClassCount(winner) < m_index.getClassCount(c)) {
+                winner = c;
+            }
+        }
+
+        output[0] = winner < 0 ? DataType.getMissingCell() : m_index.getClassValue(winner);
+        for (int i = 0; i < m_probabilityClasses.length; i++) {
+            final int c = m_probabilityClasses[i];
+            output[i + 1] = new DoubleCell(c < 0 || !seen[c] ? 0 : classWeights[c] / weightSum);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,722 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContentRO;
+import org.knime.core.node.ModelContentWO;
+
+/**
+ * Index over labeled training points for k nearest neighbor queries using the Euclidean distance.
+ *
+ * <p>
+ * All points are kept in one flat, row-major <code>double</code> array. For low dimensional data a kd-tree whose
+ * nodes are stored in primitive arrays is built on top of it; the points of each leaf are contiguous in the point
+ * store. If the number of points is small compared to 2^dimensions a kd-tree hardly prunes anything, so queries
+ * scan all points instead and abandon a distance computation as soon as the partial sum exceeds the current k-th
+ * distance.
+ *
+ * <p>
+ * The index itself is immutable and can be shared between threads; queries are run by {@link Searcher}s, which
+ * reuse their bounded heaps between queries and must only be used by one thread at a time.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class KnnIndex {
+    /** The maximum number of points in a leaf of the kd-tree. */
+    static final int LEAF_SIZE = 16;
+
+    /**
+     * A kd-tree only prunes well if the number of points is large compared to 2^dimensions. Queries scan all points
+     * if 2^dimensions exceeds this factor times the number of points.
+     */
+    static final int BRUTE_FORCE_SIZE_FACTOR = 4;
+
+    /** The number of coordinates or class indices that are written or read at once. */
+    private static final int BLOCK_SIZE = 8192;
+
+    private static final String CFG_DIMENSIONS = "dimensions";
+
+    private static final String CFG_SIZE = "size";
+
+    private static final String CFG_CLASS_VALUES = "classValues";
+
+    private final int m_dimensions;
+
+    private final int m_size;
+
+    /** The points in kd-tree order, row-major. */
+    private final double[] m_points;
+
+    /** The class index of each point in kd-tree order. */
+    private final int[] m_classes;
+
+    /** The position in which each point (in kd-tree order) was added to the index. */
+    private final int[] m_ordinals;
+
+    /** The class values in the order of their first appearance. */
+    private final DataCell[] m_classValues;
+
+    private final int[] m_classCounts;
+
+    // the kd-tree nodes; leaves have a split dimension of -1
+    private int[] m_splitDimension;
+
+    private double[] m_splitValue;
+
+    private int[] m_left;
+
+    private int[] m_right;
+
+    private int[] m_start;
+
+    private int[] m_end;
+
+    private int m_numNodes;
+
+    private KnnIndex(final int dimensions, final double[] points, final int[] classes,
+        final DataCell[] classValues) {
+        m_dimensions = dimensions;
+        m_size = classes.length;
+        m_points = points;
+        m_classes = classes;
+        m_ordinals = new int[m_size];
+        for (int i = 0; i < m_size; i++) {
+            m_ordinals[i] = i;
+        }
+        m_classValues = classValues;
+        m_classCounts = new int[classValues.length];
+        for (final int c : classes) {
+            m_classCounts[c]++;
+        }
+        if (m_size > 0 && !useBruteForce()) {
+            buildTree();
+        }
+    }
+
+    /**
+     * Returns the dimensionality of the indexed points.
+     *
+     * @return the number of dimensions
+     */
+    public int getDimensions() {
+        return m_dimensions;
+    }
+
+    /**
+     * Returns the number of indexed points.
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * Returns the number of distinct class values.
+     *
+     * @return the number of classes
+     */
+    public int getNumClasses() {
+        return m_classValues.length;
+    }
+
+    /**
+     * Returns a class value.
+     *
+     * @param classIndex the index of the class, classes are numbered in the order in which they first appeared
+     * @return the class value
+     */
+    public DataCell getClassValue(final int classIndex) {
+        return m_classValues[classIndex];
+    }
+
+    /**
+     * Returns how many of the indexed points belong to a class.
+     *
+     * @param classIndex the index of the class
+     * @return the number of points of that class
+     */
+    public int getClassCount(final int classIndex) {
+        return m_classCounts[classIndex];
+    }
+
+    /**
+     * Creates a new searcher for this index.
+     *
+     * @return a new searcher
+     */
+    public Searcher createSearcher() {
+        return new Searcher();
+    }
+
+    private boolean useBruteForce() {
+        return m_dimensions > 60 || (1L << m_dimensions) > (long)BRUTE_FORCE_SIZE_FACTOR * m_size;
+    }
+
+    private void buildTree() {
+        // every split node has more than LEAF_SIZE points, so each leaf has at least LEAF_SIZE / 2 of them
+        final int capacity = 2 * (m_size / (LEAF_SIZE / 2)) + 1;
+        m_splitDimension = new int[capacity];
+        m_splitValue = new double[capacity];
+        m_left = new int[capacity];
+        m_right = new int[capacity];
+        m_start = new int[capacity];
+        m_end = new int[capacity];
+        buildNode(0, m_size);
+    }
+
+    private int buildNode(final int start, final int end) {
+        final int node = m_numNodes++;
+        m_start[node] = start;
+        m_end[node] = end;
+        m_splitDimension[node] = -1;
+        if (end - start <= LEAF_SIZE) {
+            return node;
+        }
+
+        // split at the median of the dimension with the largest spread
+        int splitDimension = -1;
+        double maxSpread = 0;
+        for (int d = 0; d < m_dimensions; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                final double v = m_points[i * m_dimensions + d];
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            if (max - min > maxSpread) {
+                maxSpread = max - min;
+                splitDimension = d;
+            }
+        }
+        if (splitDimension < 0) {
+            return node; // all points are identical
+        }
+
+        final int median = (start + end) >>> 1;
+        select(start, end - 1, median, splitDimension);
+        m_splitDimension[node] = splitDimension;
+        m_splitValue[node] = m_points[median * m_dimensions + splitDimension];
+        m_left[node] = buildNode(start, median);
+        m_right[node] = buildNode(median, end);
+        return node;
+    }
+
+    /** Partially sorts the points so that the point at position <code>k</code> is the one of that rank. */
+    private void select(final int from, final int to, final int k, final int dimension) {
+        int left = from;
+        int right = to;
+        while (left < right) {
+            final double pivot = m_points[((left + right) >>> 1) * m_dimensions + dimension];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (m_points[i * m_dimensions + dimension] < pivot) {
+                    i++;
+                }
+                while (m_points[j * m_dimensions + dimension] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        for (int d = 0; d < m_dimensions; d++) {
+            final double v = m_points[i * m_dimensions + d];
+            m_points[i * m_dimensions + d] = m_points[j * m_dimensions + d];
+            m_points[j * m_dimensions + d] = v;
+        }
+        final int c = m_classes[i];
+        m_classes[i] = m_classes[j];
+        m_classes[j] = c;
+        final int o = m_ordinals[i];
+        m_ordinals[i] = m_ordinals[j];
+        m_ordinals[j] = o;
+    }
+
+    /**
+     * Saves the metadata of the index, i.e. the dimensionality, the number of points and the class values. The points
+     * and their classes are saved by {@link #savePoints(DataOutput)}, the kd-tree is rebuilt when the index is loaded.
+     *
+     * @param model the model content to save to
+     */
+    public void saveMetadata(final ModelContentWO model) {
+        model.addInt(CFG_DIMENSIONS, m_dimensions);
+        model.addInt(CFG_SIZE, m_size);
+        model.addDataCellArray(CFG_CLASS_VALUES, m_classValues);
+    }
+
+    /**
+     * Writes the coordinates of all points followed by their class indices in the order in which the points were
+     * added to the index.
+     *
+     * @param out the output to write to
+     * @throws IOException if the points cannot be written
+     */
+    public void savePoints(final DataOutput out) throws IOException {
+        final int[] positions = new int[m_size];
+        for (int i = 0; i < m_size; i++) {
+            positions[m_ordinals[i]] = i;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE * Double.BYTES);
+        for (final int position : positions) {
+            for (int d = 0; d < m_dimensions; d++) {
+                if (!buffer.hasRemaining()) {
+                    writeBlock(out, buffer);
+                }
+                buffer.putDouble(m_points[position * m_dimensions + d]);
+            }
+        }
+        for (final int position : positions) {
+            if (!buffer.hasRemaining()) {
+                writeBlock(out, buffer);
+            }
+            buffer.putInt(m_classes[position]);
+        }
+        writeBlock(out, buffer);
+    }
+
+    private static void writeBlock(final DataOutput out, final ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    /**
+     * Loads an index that has been saved with {@link #saveMetadata(ModelContentWO)} and
+     * {@link #savePoints(DataOutput)}.
+     *
+     * @param model the model content to load the metadata from
+     * @param in the input to read the points from
+     * @return the loaded index
+     * @throws InvalidSettingsException if the model content does not contain valid metadata
+     * @throws IOException if the points cannot be read or contain an invalid class index
+     */
+    public static KnnIndex load(final ModelContentRO model, final DataInput in)
+        throws InvalidSettingsException, IOException {
+        final int dimensions = model.getInt(CFG_DIMENSIONS);
+        final int size = model.getInt(CFG_SIZE);
+        final DataCell[] classValues = model.getDataCellArray(CFG_CLASS_VALUES);
+        if (dimensions < 0 || size < 0 || (long)dimensions * size > Integer.MAX_VALUE - 8) {
+            throw new InvalidSettingsException("Invalid number of points or dimensions.");
+        }
+        final double[] points = new double[dimensions * size];
+        final int[] classes = new int[size];
+        final byte[] block = new byte[BLOCK_SIZE * Double.BYTES];
+        for (int from = 0; from < points.length; from += BLOCK_SIZE) {
+            final int length = Math.min(BLOCK_SIZE, points.length - from);
+            in.readFully(block, 0, length * Double.BYTES);
+            ByteBuffer.wrap(block, 0, length * Double.BYTES).asDoubleBuffer().get(points, from, length);
+        }
+        for (int from = 0; from < size; from += BLOCK_SIZE) {
+            final int length = Math.min(BLOCK_SIZE, size - from);
+            in.readFully(block, 0, length * Integer.BYTES);
+            ByteBuffer.wrap(block, 0, length * Integer.BYTES).asIntBuffer().get(classes, from, length);
+        }
+        for (final int c : classes) {
+            if (c < 0 || c >= classValues.length) {
+                throw new IOException("Invalid class index: " + c);
+            }
+        }
+        return new KnnIndex(dimensions, points, classes, classValues);
+    }
+
+    /**
+     * Builder for a {@link KnnIndex}. Points keep the order in which they are added, which is used to order
+     * neighbors with equal distances.
+     */
+    public static final class Builder {
+        private final int m_dimensions;
+
+        private double[] m_points;
+
+        private int[] m_classes;
+
+        private int m_size;
+
+        private final Map<DataCell, Integer> m_classIndices = new LinkedHashMap<>();
+
+        /**
+         * Creates a new builder.
+         *
+         * @param dimensions the dimensionality of the points
+         */
+        public Builder(final int dimensions) {
+            m_dimensions = dimensions;
+            m_points = new double[16 * dimensions];
+            m_classes = new int[16];
+        }
+
+        /**
+         * Adds a point.
+         *
+         * @param point the coordinates of the point, the array is copied
+         * @param classValue the point's class, may be a missing cell
+         */
+        public void addPoint(final double[] point, final DataCell classValue) {
+            if (point.length != m_dimensions) {
+                throw new IllegalArgumentException("The point has not length " + m_dimensions);
+            }
+            if (m_size == m_classes.length) {
+                final int capacity = m_classes.length * 2;
+                m_classes = Arrays.copyOf(m_classes, capacity);
+                m_points = Arrays.copyOf(m_points, capacity * m_dimensions);
+            }
+            System.arraycopy(point, 0, m_points, m_size * m_dimensions, m_dimensions);
+            m_classes[m_size++] = m_classIndices.computeIfAbsent(classValue, v -> m_classIndices.size());
+        }
+
+        /**
+         * Builds the index.
+         *
+         * @return the new index
+         */
+        public KnnIndex build() {
+            return new KnnIndex(m_dimensions, Arrays.copyOf(m_points, m_size * m_dimensions),
+                Arrays.copyOf(m_classes, m_size), m_classIndices.keySet().toArray(new DataCell[0]));
+        }
+    }
+
+    /**
+     * Runs k nearest neighbor queries against the index. The result of a query contains the k nearest points sorted
+     * by distance. Points with equal distances are ordered by the position in which they were added to the index;
+     * if several points have the same distance as the k-th one, those added first are returned, as in a linear scan
+     * of the training data, unless the query includes ties, see {@link #search(double[], int, boolean)}.
+     *
+     * <p>
+     * A searcher reuses its buffers between queries and must not be used by several threads concurrently.
+     */
+    public final class Searcher {
+        // max-heap on the squared distance and, for equal distances, on the ordinal
+        private double[] m_heapDistances = new double[0];
+
+        private int[] m_heapPoints = new int[0];
+
+        private int m_heapSize;
+
+        private int m_k;
+
+        private boolean m_includeTies;
+
+        // the points having the same distance as the heap's maximum, which were pushed out of the heap
+        private int[] m_ties = new int[16];
+
+        private int m_numTies;
+
+        private final double[] m_offsets = new double[m_dimensions];
+
+        private int[] m_resultPoints = new int[0];
+
+        private double[] m_resultDistances = new double[0];
+
+        private int m_resultSize;
+
+        private Searcher() {
+        }
+
+        /**
+         * Searches the k nearest neighbors of the query point. The result can be retrieved with
+         * {@link #getNeighborClass(int)} and {@link #getNeighborDistance(int)} until the next query is run.
+         *
+         * @param query the query point
+         * @param k the number of neighbors; if the index contains fewer points, all points are returned
+         * @return the number of neighbors found, which is k unless the index contains fewer points
+         */
+        public int search(final double[] query, final int k) {
+            return search(query, k, false);
+        }
+
+        /**
+         * Searches the k nearest neighbors of the query point and, if ties are included, additionally all points with
+         * the same distance as the k-th one, like the former {@link org.knime.base.util.kdtree.KDTree} did. The result
+         * can be retrieved with {@link #getNeighborClass(int)} and {@link #getNeighborDistance(int)} until the next
+         * query is run.
+         *
+         * @param query the query point
+         * @param k the number of neighbors; if the index contains fewer points, all points are returned
+         * @param includeTies whether all points with the same distance as the k-th neighbor are returned
+         * @return the number of neighbors found, which may be larger than k if ties are included
+         * @since 5.12
+         */
+        public int search(final double[] query, final int k, final boolean includeTies) {
+            if (query.length != m_dimensions) {
+                throw new IllegalArgumentException("The query vector has not length " + m_dimensions);
+            }
+            if (k < 1) {
+                throw new IllegalArgumentException("At least one neighbor must be requested");
+            }
+            m_k = Math.min(k, m_size);
+            if (m_heapPoints.length < m_k) {
+                m_heapPoints = new int[m_k];
+                m_heapDistances = new double[m_k];
+            }
+            m_heapSize = 0;
+            m_includeTies = includeTies;
+            m_numTies = 0;
+            if (m_size > 0) {
+                if (useBruteForce()) {
+                    scan(query, 0, m_size);
+                } else {
+                    Arrays.fill(m_offsets, 0);
+                    searchNode(0, query);
+                }
+            }
+            collectResult();
+            return m_resultSize;
+        }
+
+        /**
+         * Returns the class index of a neighbor found by the last query.
+         *
+         * @param i the rank of the neighbor, 0 being the nearest
+         * @return the neighbor's class index, see {@link KnnIndex#getClassValue(int)}
+         */
+        public int getNeighborClass(final int i) {
+            return m_classes[m_resultPoints[i]];
+        }
+
+        /**
+         * Returns the Euclidean distance of a neighbor found by the last query.
+         *
+         * @param i the rank of the neighbor, 0 being the nearest
+         * @return the distance between the neighbor and the query point
+         */
+        public double getNeighborDistance(final int i) {
+            return m_resultDistances[i];
+        }
+
+        /**
+         * Returns the position in which a neighbor found by the last query was added to the index.
+         *
+         * @param i the rank of the neighbor, 0 being the nearest
+         * @return the neighbor's position in the training data
+         */
+        public int getNeighborOrdinal(final int i) {
+            return m_ordinals[m_resultPoints[i]];
+        }
+
+        private double maxDistance() {
+            return m_heapSize < m_k ? Double.POSITIVE_INFINITY : m_heapDistances[0];
+        }
+
+        private void searchNode(final int node, final double[] query) {
+            final int dimension = m_splitDimension[node];
+            if (dimension < 0) {
+                scan(query, m_start[node], m_end[node]);
+                return;
+            }
+            final double diff = query[dimension] - m_splitValue[node];
+            final int near = diff <= 0 ? m_left[node] : m_right[node];
+            final int far = diff <= 0 ? m_right[node] : m_left[node];
+            searchNode(near, query);
+
+            final double oldOffset = m_offsets[dimension];
+            m_offsets[dimension] = diff;
+            // the squared offsets are summed up in the same order as the distances in scan(), which makes this a
+            // lower bound also in floating point arithmetic; "<=" visits points with a distance equal to the maximum,
+            // which replace it if they were added earlier
+            double lowerBound = 0;
+            for (final double offset : m_offsets) {
+                lowerBound += offset * offset;
+            }
+            if (lowerBound <= maxDistance()) {
+                searchNode(far, query);
+            }
+            m_offsets[dimension] = oldOffset;
+        }
+
+        private void scan(final double[] query, final int start, final int end) {
+            double max = maxDistance();
+            for (int p = start, offset = start * m_dimensions; p < end; p++, offset += m_dimensions) {
+                double dist = 0;
+                for (int d = 0; d < m_dimensions && dist <= max; d++) {
+                    final double diff = query[d] - m_points[offset + d];
+                    dist += diff * diff;
+                }
+                if (dist <= max) {
+                    offer(p, dist);
+                    max = maxDistance();
+                }
+            }
+        }
+
+        private void offer(final int point, final double dist) {
+            if (m_heapSize < m_k) {
+                m_heapPoints[m_heapSize] = point;
+                m_heapDistances[m_heapSize] = dist;
+                siftUp(m_heapSize++);
+            } else if (isCloser(dist, point, m_heapDistances[0], m_heapPoints[0])) {
+                final int removedPoint = m_heapPoints[0];
+                final double removedDistance = m_heapDistances[0];
+                m_heapPoints[0] = point;
+                m_heapDistances[0] = dist;
+                siftDown(0);
+                if (removedDistance == m_heapDistances[0]) {
+                    addTie(removedPoint);
+                } else {
+                    m_numTies = 0;
+                }
+            } else {
+                addTie(point); // dist is equal to the maximum
+            }
+        }
+
+        private void addTie(final int point) {
+            if (!m_includeTies) {
+                return;
+            }
+            if (m_numTies == m_ties.length) {
+                m_ties = Arrays.copyOf(m_ties, 2 * m_numTies);
+            }
+            m_ties[m_numTies++] = point;
+        }
+
+        /** Compares by distance and, for equal distances, by the position in which the points were added. */
+        private boolean isCloser(final double dist, final int point, final double otherDist, final int otherPoint) {
+            return dist < otherDist || (dist == otherDist && m_ordinals[point] < m_ordinals[otherPoint]);
+        }
+
+        private void siftUp(final int index) {
+            final int point = m_heapPoints[index];
+            final double dist = m_heapDistances[index];
+            int i = index;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (!isCloser(m_heapDistances[parent], m_heapPoints[parent], dist, point)) {
+                    break;
+                }
+                m_heapPoints[i] = m_heapPoints[parent];
+                m_heapDistances[i] = m_heapDistances[parent];
+                i = parent;
+            }
+            m_heapPoints[i] = point;
+            m_heapDistances[i] = dist;
+        }
+
+        private void siftDown(final int index) {
+            final int point = m_heapPoints[index];
+            final double dist = m_heapDistances[index];
+            int i = index;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= m_heapSize) {
+                    break;
+                }
+                if (child + 1 < m_heapSize
+                    && isCloser(m_heapDistances[child], m_heapPoints[child], m_heapDistances[child + 1],
+                        m_heapPoints[child + 1])) {
+                    child++;
+                }
+                if (!isCloser(dist, point, m_heapDistances[child], m_heapPoints[child])) {
+                    break;
+                }
+                m_heapPoints[i] = m_heapPoints[child];
+                m_heapDistances[i] = m_heapDistances[child];
+                i = child;
+            }
+            m_heapPoints[i] = point;
+            m_heapDistances[i] = dist;
+        }
+
+        private void collectResult() {
+            m_resultSize = m_heapSize + m_numTies;
+            if (m_resultPoints.length < m_resultSize) {
+                m_resultPoints = new int[m_resultSize];
+                m_resultDistances = new double[m_resultSize];
+            }
+            for (int i = 0; i < m_heapSize; i++) {
+                m_resultPoints[i] = m_heapPoints[i];
+                m_resultDistances[i] = m_heapDistances[i];
+            }
+            final double tieDistance = m_heapSize > 0 ? m_heapDistances[0] : 0;
+            for (int i = 0; i < m_numTies; i++) {
+                m_resultPoints[m_heapSize + i] = m_ties[i];
+                m_resultDistances[m_heapSize + i] = tieDistance;
+            }
+            // insertion sort by distance and ordinal, the result is small
+            for (int i = 1; i < m_resultSize; i++) {
+                final int point = m_resultPoints[i];
+                final double dist = m_resultDistances[i];
+                int j = i - 1;
+                while (j >= 0 && isCloser(dist, point, m_resultDistances[j], m_resultPoints[j])) {
+                    m_resultPoints[j + 1] = m_resultPoints[j];
+                    m_resultDistances[j + 1] = m_resultDistances[j];
+                    j--;
+                }
+                m_resultPoints[j + 1] = point;
+                m_resultDistances[j + 1] = dist;
+            }
+            for (int i = 0; i < m_resultSize; i++) {
+                m_resultDistances[i] = Math.sqrt(m_resultDistances[i]);
+            }
+        }
+    }
+}
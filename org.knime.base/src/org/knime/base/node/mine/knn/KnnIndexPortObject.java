@@ -0,0 +1,211 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+
+import javax.swing.JComponent;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContent;
+import org.knime.core.node.ModelContentRO;
+import org.knime.core.node.port.AbstractPortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortObjectZipInputStream;
+import org.knime.core.node.port.PortObjectZipOutputStream;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.PortTypeRegistry;
+
+/**
+ * Port object that is passed from the kNN learner to the kNN predictor. It holds a {@link KnnIndex} over the
+ * training data. Its spec contains the feature columns in the order of the index's dimensions, followed by the class
+ * column. The metadata of the index is saved as model content, the training points are saved in binary form.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class KnnIndexPortObject extends AbstractPortObject {
+
+    /** Convenience accessor for the port type. */
+    @SuppressWarnings("hiding")
+    public static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(KnnIndexPortObject.class);
+
+    /** @noreference This class is not intended to be referenced by clients. */
+    public static final class Serializer extends AbstractPortObjectSerializer<KnnIndexPortObject> {
+    }
+
+    private static final String METADATA_ENTRY = "metadata.xml";
+
+    private static final String POINTS_ENTRY = "points.bin";
+
+    private DataTableSpec m_spec;
+
+    private KnnIndex m_index;
+
+    /**
+     * Empty constructor.
+     *
+     * @noreference This constructor is not intended to be referenced by clients.
+     */
+    public KnnIndexPortObject() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param spec the spec containing the feature columns followed by the class column
+     * @param index the index over the training data
+     */
+    public KnnIndexPortObject(final DataTableSpec spec, final KnnIndex index) {
+        if (spec.getNumColumns() != index.getDimensions() + 1) {
+            throw new IllegalArgumentException("Spec does not match the dimensionality of the index");
+        }
+        m_spec = spec;
+        m_index = index;
+    }
+
+    /**
+     * Returns the index over the training data.
+     *
+     * @return the index
+     */
+    public KnnIndex getIndex() {
+        return m_index;
+    }
+
+    /**
+     * Returns the names of the feature columns in the order of the index's dimensions.
+     *
+     * @param spec the spec of a kNN index port object
+     * @return the feature column names
+     */
+    public static String[] getFeatureColumns(final DataTableSpec spec) {
+        final String[] featureColumns = new String[spec.getNumColumns() - 1];
+        for (int i = 0; i < featureColumns.length; i++) {
+            featureColumns[i] = spec.getColumnSpec(i).getName();
+        }
+        return featureColumns;
+    }
+
+    /**
+     * Returns the spec of the class column.
+     *
+     * @param spec the spec of a kNN index port object
+     * @return the class column spec
+     */
+    public static DataColumnSpec getClassColumn(final DataTableSpec spec) {
+        return spec.getColumnSpec(spec.getNumColumns() - 1);
+    }
+
+    @Override
+    public String getSummary() {
+        return "kNN index over " + m_index.size() + " patterns with " + m_index.getDimensions() + " features and "
+            + m_index.getNumClasses() + " classes";
+    }
+
+    @Override
+    public DataTableSpec getSpec() {
+        return m_spec;
+    }
+
+    @Override
+    public JComponent[] getViews() {
+        return new JComponent[0];
+    }
+
+    @Override
+    protected void save(final PortObjectZipOutputStream out, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final ModelContent metadata = new ModelContent("knn");
+        m_index.saveMetadata(metadata);
+        // saving the model content closes the stream, which must stay open for the points
+        final ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream();
+        metadata.saveToXML(metadataBytes);
+        out.putNextEntry(new ZipEntry(METADATA_ENTRY));
+        out.write(metadataBytes.toByteArray());
+        exec.checkCanceled();
+        out.putNextEntry(new ZipEntry(POINTS_ENTRY));
+        final DataOutputStream pointsOut = new DataOutputStream(new BufferedOutputStream(out));
+        m_index.savePoints(pointsOut);
+        pointsOut.flush();
+    }
+
+    @Override
+    protected void load(final PortObjectZipInputStream in, final PortObjectSpec spec, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        m_spec = (DataTableSpec)spec;
+        checkEntry(in.getNextEntry(), METADATA_ENTRY);
+        final ModelContentRO metadata = ModelContent.loadFromXML(new ByteArrayInputStream(in.readAllBytes()));
+        exec.checkCanceled();
+        checkEntry(in.getNextEntry(), POINTS_ENTRY);
+        try {
+            m_index = KnnIndex.load(metadata, new DataInputStream(new BufferedInputStream(in)));
+        } catch (final InvalidSettingsException e) {
+            throw new IOException("Invalid kNN index: " + e.getMessage(), e);
+        }
+    }
+
+    private static void checkEntry(final ZipEntry entry, final String expectedName) throws IOException {
+        if (entry == null || !expectedName.equals(entry.getName())) {
+            throw new IOException("Expected zip entry '" + expectedName + "', got "
+                + (entry == null ? "none" : ("'" + entry.getName() + "'")));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.NominalValue;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.webui.node.impl.WebUINodeModel;
+
+/**
+ * Model of the kNN Learner node. It builds a {@link KnnIndex} over all numeric columns of the training data, which can
+ * then be applied to any number of test tables by the kNN Predictor without being rebuilt.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+@SuppressWarnings("restriction")
+public final class KnnLearnerNodeModel extends WebUINodeModel<KnnLearnerNodeParameters> {
+
+    KnnLearnerNodeModel() {
+        super(new PortType[]{BufferedDataTable.TYPE}, new PortType[]{KnnIndexPortObject.TYPE},
+            KnnLearnerNodeParameters.class);
+    }
+
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs, final KnnLearnerNodeParameters settings)
+        throws InvalidSettingsException {
+        return new PortObjectSpec[]{createModelSpec((DataTableSpec)inSpecs[0], settings)};
+    }
+
+    private DataTableSpec createModelSpec(final DataTableSpec inSpec, final KnnLearnerNodeParameters settings)
+        throws InvalidSettingsException {
+        final DataColumnSpec classColumnSpec = inSpec.getColumnSpec(settings.m_classColumn);
+        if (classColumnSpec == null || !classColumnSpec.getType().isCompatible(NominalValue.class)) {
+            throw new InvalidSettingsException("Please choose a valid class column.");
+        }
+        final List<DataColumnSpec> columns = new ArrayList<>();
+        for (final DataColumnSpec cs : inSpec) {
+            if (cs.getType().isCompatible(DoubleValue.class)) {
+                columns.add(cs);
+            } else if (!cs.getName().equals(settings.m_classColumn)) {
+                setWarningMessage("Input table contains more than one non-numeric column; they will be ignored.");
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new InvalidSettingsException("Input table does not contain a numeric column.");
+        }
+        columns.add(classColumnSpec);
+        return new DataTableSpec(columns.toArray(new DataColumnSpec[0]));
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec,
+        final KnnLearnerNodeParameters settings) throws Exception {
+        final BufferedDataTable data = (BufferedDataTable)inObjects[0];
+        final DataTableSpec inSpec = data.getDataTableSpec();
+        final DataTableSpec modelSpec = createModelSpec(inSpec, settings);
+        final int[] featureColumns = inSpec.columnsToIndices(KnnIndexPortObject.getFeatureColumns(modelSpec));
+        final int classColumn = inSpec.findColumnIndex(settings.m_classColumn);
+
+        final KnnIndex.Builder builder = new KnnIndex.Builder(featureColumns.length);
+        final double[] features = new double[featureColumns.length];
+        final long rowCount = data.size();
+        long count = 0;
+        long skipped = 0;
+        for (final DataRow row : data) {
+            exec.checkCanceled();
+            exec.setProgress(count++ / (double)rowCount, () -> "Reading row " + row.getKey());
+            if (readFeatures(row, featureColumns, features)) {
+                builder.addPoint(features, row.getCell(classColumn));
+            } else {
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            setWarningMessage(skipped + " rows contain missing values and are ignored.");
+        }
+
+        exec.setMessage("Building index");
+        return new PortObject[]{new KnnIndexPortObject(modelSpec, builder.build())};
+    }
+
+    /** Fills the feature vector, returns <code>false</code> if the row contains missing values. */
+    private static boolean readFeatures(final DataRow row, final int[] featureColumns, final double[] features) {
+        for (int i = 0; i < featureColumns.length; i++) {
+            final DataCell cell = row.getCell(featureColumns[i]);
+            if (cell.isMissing()) {
+                return false;
+            }
+            features[i] = ((DoubleValue)cell).getDoubleValue();
+        }
+        return true;
+    }
+}
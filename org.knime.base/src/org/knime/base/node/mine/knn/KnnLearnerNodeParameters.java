@@ -44,51 +44,36 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 16, 2019 (Adrian Nembach, KNIME GmbH, Konstanz, Germany): created
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
  */
-package org.knime.base.node.preproc.topk;
+package org.knime.base.node.mine.knn;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-
-import org.knime.core.data.DataRow;
+import org.knime.base.node.mine.knn.KnnNodeFactory2Parameters.NominalColumnsProvider;
+import org.knime.core.data.NominalValue;
+import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.NodeParametersInput;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.widget.choices.ChoicesProvider;
+import org.knime.node.parameters.widget.choices.util.ColumnSelectionUtil;
 
 /**
- * Efficient selector that selects the top row among the presented rows.
+ * Node parameters for the kNN Learner.
  *
- * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-final class TopSelector implements TopKSelector {
-
-    private final Comparator<DataRow> m_comparator;
-
-    private DataRow m_topElement;
-
-    TopSelector(final Comparator<DataRow> comparator) {
-        m_comparator = comparator;
-    }
+final class KnnLearnerNodeParameters implements NodeParameters {
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void consume(final DataRow row) {
-        m_comparator.compare(m_topElement, row);
-        if (m_topElement == null || m_comparator.compare(m_topElement, row) < 0) {
-            m_topElement = row;
-        }
+    KnnLearnerNodeParameters() {
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Collection<DataRow> getTopK() {
-        if (m_topElement == null) {
-            return Collections.emptyList();
-        }
-        return Collections.singletonList(m_topElement);
+    KnnLearnerNodeParameters(final NodeParametersInput input) {
+        // last column is usually the class column
+        ColumnSelectionUtil.getCompatibleColumnsOfFirstPort(input, NominalValue.class).stream()
+            .reduce((first, second) -> second).ifPresent(spec -> m_classColumn = spec.getName());
     }
 
+    @Widget(title = "Column with class labels", description = //
+            "Select the column to be used as classification attribute. This column must contain nominal values.")
+    @ChoicesProvider(NominalColumnsProvider.class)
+    String m_classColumn;
 }
@@ -47,29 +47,18 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.knime.base.util.kdtree.KDTree;
-import org.knime.base.util.kdtree.KDTreeBuilder;
-import org.knime.base.util.kdtree.NearestNeighbour;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.NominalValue;
-import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
-import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.def.DoubleCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -87,8 +76,6 @@
 import org.knime.core.node.streamable.PortOutput;
 import org.knime.core.node.streamable.StreamableFunction;
 import org.knime.core.node.streamable.StreamableOperator;
-import org.knime.core.util.MutableDouble;
-import org.knime.core.util.MutableInteger;
 
 /**
  * This is the model for the k Nearest Neighbor node. In contrast to most
@@ -102,9 +89,6 @@
 public class KnnNodeModel2 extends NodeModel {
     private KnnSettings2 m_settings = new KnnSettings2();
 
-    private final Map<DataCell, MutableInteger> m_classDistribution =
-            new HashMap<DataCell, MutableInteger>();
-
     /**
      * Creates a new model for the kNN node.
      */
@@ -214,10 +198,8 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs)
             return new DataTableSpec[1];
         }
 
-        ColumnRearranger crea =
-                createRearranger(inSpecs[1], classColSpec, null, null, null, -1);
-
-        return new DataTableSpec[]{crea.createSpec()};
+        return new DataTableSpec[]{new DataTableSpec(inSpecs[1], new DataTableSpec(
+            KnnCellFactory.createColumnSpecs(inSpecs[1], classColSpec, m_settings.outputClassProbabilities())))};
     }
 
     /**
@@ -268,7 +250,7 @@ public OutputPortRole[] getOutputPortRoles() {
     }
 
     /*
-     * Creates a column rearranger. NOTE: This call possibly involves heavier calculations since the kd-tree is determined here based on the training data.
+     * Creates a column rearranger. NOTE: This call possibly involves heavier calculations since the index is built here from the training data.
      * @param numRowsTable2 - can be -1 if can't be determined (streaming)
      */
     private ColumnRearranger createRearranger(final BufferedDataTable trainData, final DataTableSpec inSpec2,
@@ -283,45 +265,45 @@ private ColumnRearranger createRearranger(final BufferedDataTable trainData, fin
         Map<Integer, Integer> firstToSecond = new HashMap<Integer, Integer>();
         checkInputTables(new DataTableSpec[]{trainData.getDataTableSpec(), inSpec2}, featureColumns, firstToSecond);
 
-        KDTreeBuilder<DataCell> treeBuilder = new KDTreeBuilder<DataCell>(featureColumns.size());
+        final KnnIndex.Builder indexBuilder = new KnnIndex.Builder(featureColumns.size());
         int count = 0;
         for (DataRow currentRow : trainData) {
             exec.checkCanceled();
-            exec.setProgress(0.1 * count * trainData.size(), "Reading row " + currentRow.getKey());
+            exec.setProgress(0.1 * count++ / trainData.size(), "Reading row " + currentRow.getKey());
 
             double[] features = createFeatureVector(currentRow, featureColumns);
             if (features == null) {
                 setWarningMessage("Input table contains missing values, the " + "affected rows are ignored.");
             } else {
-                DataCell thisClassCell = currentRow.getCell(classColIndex);
-                // and finally add data
-                treeBuilder.addPattern(features, thisClassCell);
-
-                // compute the majority class for breaking possible ties later
-                MutableInteger t = m_classDistribution.get(thisClassCell);
-                if (t == null) {
-                    m_classDistribution.put(thisClassCell, new MutableInteger(1));
-                } else {
-                    t.inc();
-                }
+                indexBuilder.addPoint(features, currentRow.getCell(classColIndex));
             }
         }
 
         // and now use it to classify the test data...
         DataColumnSpec classColumnSpec = trainData.getDataTableSpec().getColumnSpec(classColIndex);
 
-        exec.setMessage("Building kd-tree");
-        KDTree<DataCell> tree = treeBuilder.buildTree(exec.createSubProgress(0.3));
+        exec.setMessage("Building index");
+        KnnIndex index = indexBuilder.build();
 
-        if (tree.size() < m_settings.k()) {
-            setWarningMessage("There are only " + tree.size() + " patterns in the input table, but " + m_settings.k()
+        if (index.size() < m_settings.k()) {
+            setWarningMessage("There are only " + index.size() + " patterns in the input table, but " + m_settings.k()
                 + " nearest neighbours were requested for classification."
                 + " The prediction will be the majority class for all" + " input patterns.");
         }
 
         exec.setMessage("Classifying");
-        ColumnRearranger c =
-            createRearranger(inSpec2, classColumnSpec, featureColumns, firstToSecond, tree, numRowsTable2);
+        final int[] queryColumns = new int[featureColumns.size()];
+        for (int i = 0; i < queryColumns.length; i++) {
+            queryColumns[i] = firstToSecond.get(featureColumns.get(i));
+        }
+        ColumnRearranger c = new ColumnRearranger(inSpec2);
+        // all neighbors with the same distance as the k-th one vote, as they did with the former kd-tree
+        c.append(new KnnCellFactory(
+            KnnCellFactory.createColumnSpecs(inSpec2, classColumnSpec, m_settings.outputClassProbabilities()), index,
+            queryColumns, m_settings.k(), true, m_settings.weightByDistance(),
+            m_settings.outputClassProbabilities() ? KnnCellFactory.getProbabilityClasses(classColumnSpec)
+                : new DataCell[0],
+            numRowsTable2));
         return c;
     }
 
@@ -330,7 +312,7 @@ private ColumnRearranger createRearranger(final BufferedDataTable trainData, fin
      */
     @Override
     protected void reset() {
-        m_classDistribution.clear();
+        // nothing to do
     }
 
     /**
@@ -379,153 +361,6 @@ protected void loadInternals(final File nodeInternDir,
         // nothing to do
     }
 
-    /*
-     * @param maxRows - can be -1 if can't be determined (streaming)
-     */
-    private ColumnRearranger createRearranger(final DataTableSpec in,
-            final DataColumnSpec classColumnSpec,
-            final List<Integer> featureColumns,
-            final Map<Integer, Integer> firstToSecond,
-            final KDTree<DataCell> tree, final double maxRows) {
-        ColumnRearranger c = new ColumnRearranger(in);
-        String newName = "Class [kNN]";
-        while (in.containsName(newName)) {
-            newName += "_dup";
-        }
-
-        List<DataColumnSpec> colSpecs = new ArrayList<DataColumnSpec>();
-        DataColumnSpecCreator crea = new DataColumnSpecCreator(classColumnSpec);
-        crea.setName(newName);
-        colSpecs.add(crea.createSpec());
-
-        final DataCell[] possibleValues;
-        if (m_settings.outputClassProbabilities()) {
-            possibleValues =
-                    classColumnSpec.getDomain().getValues()
-                            .toArray(new DataCell[0]);
-            Arrays.sort(possibleValues, new Comparator<DataCell>() {
-                @Override
-                public int compare(final DataCell o1, final DataCell o2) {
-                    return o1.toString().compareTo(o2.toString());
-                }
-            });
-
-            for (DataCell posVal : possibleValues) {
-                newName = posVal.toString();
-                while (in.containsName(newName)) {
-                    newName += "_dup";
-                }
-                newName = "P (" + classColumnSpec.getName() + "=" + newName + ")";
-                crea = new DataColumnSpecCreator(newName, DoubleCell.TYPE);
-                colSpecs.add(crea.createSpec());
-            }
-        } else {
-            possibleValues = new DataCell[0];
-        }
-
-        final DataColumnSpec[] colSpecArray =
-                colSpecs.toArray(new DataColumnSpec[colSpecs.size()]);
-        c.append(new AbstractCellFactory(colSpecArray) {
-
-            /** {@inheritDoc} */
-            @Override
-            public void setProgress(final long curRowNr, final long rowCount,
-                    final RowKey lastKey, final ExecutionMonitor exec) {
-                if (maxRows > 0) {
-                    exec.setProgress(curRowNr / maxRows, "Classifying row " + lastKey);
-                } else {
-                    exec.setProgress("Classifying row " + lastKey);
-                }
-            }
-
-            @Override
-            public DataCell[] getCells(final DataRow row) {
-                List<DataCell> output =
-                        classify(row, tree, featureColumns, firstToSecond,
-                                possibleValues);
-                return output.toArray(new DataCell[output.size()]);
-            }
-
-        });
-        return c;
-    }
-
-    // returns a list where the first value if the winner class, and the
-    // following values are the class probabilities (if enabled)
-    private List<DataCell> classify(final DataRow row,
-            final KDTree<DataCell> tree, final List<Integer> featureColumns,
-            final Map<Integer, Integer> firstToSecond,
-            final DataCell[] allClassValues) {
-        double[] features =
-                createQueryVector(row, featureColumns, firstToSecond);
-        List<DataCell> output = new ArrayList<DataCell>();
-        if (features == null) {
-            for (int i = 0; i < 1 + allClassValues.length; i++) {
-                output.add(DataType.getMissingCell());
-            }
-            return output;
-        }
-
-        HashMap<DataCell, MutableDouble> classWeights =
-                new LinkedHashMap<DataCell, MutableDouble>();
-        List<NearestNeighbour<DataCell>> nearestN =
-                tree.getKNearestNeighbours(features,
-                        Math.min(m_settings.k(), tree.size()));
-
-        for (NearestNeighbour<DataCell> n : nearestN) {
-            MutableDouble count = classWeights.get(n.getData());
-            if (count == null) {
-                count = new MutableDouble(0);
-                classWeights.put(n.getData(), count);
-            }
-            if (m_settings.weightByDistance()) {
-                count.add(1 / n.getDistance());
-            } else {
-                count.inc();
-            }
-        }
-
-        double winnerWeight = 0;
-        double weightSum = 0;
-        DataCell winnerCell = DataType.getMissingCell();
-        for (Map.Entry<DataCell, MutableDouble> e : classWeights.entrySet()) {
-            double weight = e.getValue().doubleValue();
-            if (weight > winnerWeight) {
-                winnerWeight = weight;
-                winnerCell = e.getKey();
-            }
-            weightSum += weight;
-        }
-
-        // check if there are other classes with the same weight
-        for (Map.Entry<DataCell, MutableDouble> e : classWeights.entrySet()) {
-            double weight = e.getValue().doubleValue();
-            if (weight == winnerWeight) {
-                if (m_classDistribution.get(winnerCell).intValue() < m_classDistribution
-                        .get(e.getKey()).intValue()) {
-                    winnerCell = e.getKey();
-                }
-            }
-        }
-
-        output.add(winnerCell);
-
-        if (m_settings.outputClassProbabilities()) {
-            for (DataCell classVal : allClassValues) {
-                MutableDouble v = classWeights.get(classVal);
-                if (v == null) {
-                    output.add(new DoubleCell(0));
-//                } else if (Double.isInfinite(v.doubleValue())) { // if distance to prototype is 0
-//                    output.add(new DoubleCell(1));
-                } else {
-                    output.add(new DoubleCell(v.doubleValue() / weightSum));
-                }
-            }
-        }
-
-        return output;
-    }
-
     /**
      * Creates a double array with the features of one data row.
      *
@@ -550,33 +385,4 @@ private double[] createFeatureVector(final DataRow row,
         }
         return features;
     }
-
-    /**
-     * Creates a double array with the features of one data row used for
-     * querying the tree.
-     *
-     * @param row the row
-     * @param featureColumns the indices of the column with the features to use
-     * @param firstToSecond a map that maps the indices of the feature columns
-     *            from the first table to the columns in the second table
-     * @return a double array with the features' values
-     */
-    private double[] createQueryVector(final DataRow row,
-            final List<Integer> featureColumns,
-            final Map<Integer, Integer> firstToSecond) {
-        double[] features = new double[featureColumns.size()];
-        int currentIndex = 0;
-        for (Integer i : featureColumns) {
-            DataCell thisCell = row.getCell(firstToSecond.get(i));
-
-            if (!thisCell.isMissing()) {
-                features[currentIndex] =
-                        ((DoubleValue)thisCell).getDoubleValue();
-            } else {
-                return null;
-            }
-            currentIndex++;
-        }
-        return features;
-    }
 }
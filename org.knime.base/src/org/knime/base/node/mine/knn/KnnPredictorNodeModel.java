@@ -0,0 +1,157 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.knn;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.webui.node.impl.WebUINodeModel;
+
+/**
+ * Model of the kNN Predictor node. It classifies the rows of a table with the {@link KnnIndex} created by the kNN
+ * Learner; rows are classified concurrently.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+@SuppressWarnings("restriction")
+public final class KnnPredictorNodeModel extends WebUINodeModel<KnnPredictorNodeParameters> {
+
+    KnnPredictorNodeModel() {
+        super(new PortType[]{KnnIndexPortObject.TYPE, BufferedDataTable.TYPE}, new PortType[]{BufferedDataTable.TYPE},
+            KnnPredictorNodeParameters.class);
+    }
+
+    @Override
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs, final KnnPredictorNodeParameters settings)
+        throws InvalidSettingsException {
+        final DataTableSpec modelSpec = (DataTableSpec)inSpecs[0];
+        final DataTableSpec dataSpec = (DataTableSpec)inSpecs[1];
+        KnnCellFactory.findQueryColumns(KnnIndexPortObject.getFeatureColumns(modelSpec), dataSpec);
+        final DataColumnSpec classColumnSpec = KnnIndexPortObject.getClassColumn(modelSpec);
+        if (settings.m_outputClassProbabilities && !classColumnSpec.getDomain().hasValues()) {
+            return new PortObjectSpec[1];
+        }
+        return new PortObjectSpec[]{new DataTableSpec(dataSpec, new DataTableSpec(
+            KnnCellFactory.createColumnSpecs(dataSpec, classColumnSpec, settings.m_outputClassProbabilities)))};
+    }
+
+    @Override
+    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec,
+        final KnnPredictorNodeParameters settings) throws Exception {
+        final BufferedDataTable data = (BufferedDataTable)inObjects[1];
+        final ColumnRearranger rearranger =
+            createRearranger((KnnIndexPortObject)inObjects[0], data.getDataTableSpec(), settings, data.size());
+        return new PortObject[]{exec.createColumnRearrangeTable(data, rearranger, exec)};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs, final KnnPredictorNodeParameters settings) throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final KnnIndexPortObject model = (KnnIndexPortObject)((PortObjectInput)inputs[0]).getPortObject();
+                createRearranger(model, (DataTableSpec)inSpecs[1], settings, -1).createStreamableFunction(1, 0)
+                    .runFinal(inputs, outputs, exec);
+            }
+        };
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /*
+     * @param numRows - can be -1 if can't be determined (streaming)
+     */
+    private ColumnRearranger createRearranger(final KnnIndexPortObject model, final DataTableSpec dataSpec,
+        final KnnPredictorNodeParameters settings, final long numRows) throws InvalidSettingsException {
+        final DataTableSpec modelSpec = model.getSpec();
+        final KnnIndex index = model.getIndex();
+        final int[] queryColumns =
+            KnnCellFactory.findQueryColumns(KnnIndexPortObject.getFeatureColumns(modelSpec), dataSpec);
+        if (index.size() < settings.m_k) {
+            setWarningMessage("There are only " + index.size() + " patterns in the training data, but "
+                + settings.m_k + " nearest neighbours were requested for classification."
+                + " The prediction will be the majority class for all input patterns.");
+        }
+
+        final DataColumnSpec classColumnSpec = KnnIndexPortObject.getClassColumn(modelSpec);
+        final ColumnRearranger rearranger = new ColumnRearranger(dataSpec);
+        rearranger.append(new KnnCellFactory(
+            KnnCellFactory.createColumnSpecs(dataSpec, classColumnSpec, settings.m_outputClassProbabilities), index,
+            queryColumns, settings.m_k, false, settings.m_weightByDistance,
+            settings.m_outputClassProbabilities ? KnnCellFactory.getProbabilityClasses(classColumnSpec)
+                : new DataCell[0],
+            numRows));
+        return rearranger;
+    }
+}
@@ -44,29 +44,41 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 20, 2019 (Adrian Nembach, KNIME GmbH, Konstanz, Germany): created
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
  */
-package org.knime.base.node.preproc.topk;
+package org.knime.base.node.mine.knn;
 
-import java.util.Collection;
-import java.util.Comparator;
-
-import org.knime.core.data.DataRow;
+import org.knime.base.node.mine.knn.KnnNodeFactory2Parameters.MaxKValidation;
+import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 
 /**
+ * Node parameters for the kNN Predictor.
  *
- * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-@FunctionalInterface
-interface OrderPostprocessor {
+final class KnnPredictorNodeParameters implements NodeParameters {
+
+    @Widget(title = "Number of neighbors to consider (k)",
+        description = """
+            The number of nearest neighbors used to classify a new instance. An odd number is recommended to avoid ties.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class,
+        maxValidation = MaxKValidation.class)
+    int m_k = 3;
+
+    @Widget(title = "Weight neighbors by distance",
+        description = """
+            If enabled, the distance of each neighbor to the query pattern influences its weight
+            in the classification. Closer neighbors have greater influence on the result.
+            Note: Only k neighbors are considered, regardless of weighting.""")
+    boolean m_weightByDistance;
 
-    /**
-     * Postprocess the selection e.g. sort and remove added columns.
-     *
-     * @param selection the selected rows
-     * @param rowComparator the comparator used for the selection
-     * @return the selection ready for the output
-     */
-    Collection<DataRow> postprocessSelection(final Collection<DataRow> selection,
-        final Comparator<DataRow> rowComparator);
+    @Widget(title = "Output class probabilities",
+        description = """
+            If enabled, additional columns containing the class probabilities for each predicted class
+            will be appended to the output.""")
+    boolean m_outputClassProbabilities;
 }
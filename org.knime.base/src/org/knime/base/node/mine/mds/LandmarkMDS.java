@@ -0,0 +1,276 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.mds;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.exception.MathArithmeticException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.EigenDecomposition;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.RowIterator;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+
+import Jama.EigenvalueDecomposition;
+import Jama.Matrix;
+
+/**
+ * Landmark MDS (de Silva and Tenenbaum): a random sample of rows, the landmarks, is mapped by classical MDS, i.e. by
+ * the eigen decomposition of the double centered matrix of their squared distances. Each row is then placed by
+ * triangulation from its squared distances to the landmarks, which reproduces the classical MDS coordinates for the
+ * landmarks themselves. Only the landmarks are kept in memory, all other rows are projected independently of each
+ * other.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class LandmarkMDS {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LandmarkMDS.class);
+
+    private static final double EIGENVALUE_TOLERANCE = 1e-10;
+
+    private final VectorDistances m_distances;
+
+    private final int m_dimension;
+
+    private int m_nrLandmarks;
+
+    /** The values of the landmarks, landmark by landmark. */
+    private double[] m_landmarks;
+
+    /** The mean squared distance of each landmark to all landmarks. */
+    private double[] m_meanSquaredDistances;
+
+    /** The rows of the pseudo inverse of the landmark coordinates, dimension by dimension. */
+    private double[] m_projection;
+
+    /**
+     * @param distances the distances between the rows
+     * @param dimension the output dimension
+     */
+    LandmarkMDS(final VectorDistances distances, final int dimension) {
+        m_distances = distances;
+        m_dimension = dimension;
+    }
+
+    /**
+     * Samples the landmarks among the rows without missing values and computes their classical MDS.
+     *
+     * @param table the table to sample from
+     * @param rowsToUse the number of leading rows of the table to sample from
+     * @param nrLandmarks the maximum number of landmarks, if there are fewer rows, all rows are landmarks
+     * @param seed the random seed of the sampling
+     * @param exec to check for cancelation and report progress
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    void computeLandmarks(final DataTable table, final long rowsToUse, final int nrLandmarks, final long seed,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        exec.setMessage("Sampling landmarks");
+        sampleLandmarks(table, rowsToUse, nrLandmarks, seed, exec);
+        exec.setMessage("Computing landmark coordinates");
+        exec.checkCanceled();
+        final int n = m_nrLandmarks;
+        final int nrValues = m_distances.getNumValues();
+
+        // squared distances between all landmarks and their means
+        final double[][] b = new double[n][n];
+        m_meanSquaredDistances = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                final double d = m_distances.getDistance(m_landmarks, i * nrValues, m_landmarks, j * nrValues);
+                b[i][j] = d * d;
+                b[j][i] = d * d;
+            }
+            exec.checkCanceled();
+        }
+        double grandMean = 0;
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                sum += b[i][j];
+            }
+            m_meanSquaredDistances[i] = sum / n;
+            grandMean += sum;
+        }
+        grandMean /= (double)n * n;
+
+        // double centering, b = -1/2 * J * D * J
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                final double value =
+                    -0.5 * (b[i][j] - m_meanSquaredDistances[i] - m_meanSquaredDistances[j] + grandMean);
+                b[i][j] = value;
+                b[j][i] = value;
+            }
+        }
+
+        m_projection = new double[m_dimension * n];
+        if (n == 0) {
+            return;
+        }
+        Supplier<double[]> realEigenVals;
+        IntFunction<double[]> getEigenvector;
+        try {
+            final EigenDecomposition eigenDecomp = new EigenDecomposition(new Array2DRowRealMatrix(b, false));
+            realEigenVals = eigenDecomp::getRealEigenvalues;
+            getEigenvector = i -> eigenDecomp.getEigenvector(i).toArray();
+        } catch (final MaxCountExceededException | MathArithmeticException e) {
+            // math.commons has problems in some cases so we use jama as fallback see AP-13058
+            LOGGER.debug("Eigen decomposition failed (commons.math3).", e);
+            final EigenvalueDecomposition jama = new EigenvalueDecomposition(new Matrix(b));
+            realEigenVals = jama::getRealEigenvalues;
+            final double[][] eVecs = jama.getV().transpose().getArray();
+            getEigenvector = i -> eVecs[i];
+        }
+        final double[] eVals = realEigenVals.get();
+        final int[] permutation = IntStream.range(0, eVals.length)//
+            .boxed()//
+            .sorted((i, j) -> Double.compare(eVals[j], eVals[i]))//
+            .mapToInt(x -> x)//
+            .toArray();
+        // eigenvalues that are this small relative to the largest are rounding errors of zero
+        final double minEVal = eVals.length == 0 ? 0 : EIGENVALUE_TOLERANCE * eVals[permutation[0]];
+        for (int k = 0; k < Math.min(m_dimension, n); k++) {
+            final double eVal = eVals[permutation[k]];
+            if (eVal <= 0 || eVal <= minEVal) {
+                // the landmarks do not span more dimensions, the remaining coordinates are 0
+                LOGGER.debug("The landmarks span only " + k + " of " + m_dimension + " dimensions.");
+                break;
+            }
+            final double[] eVec = getEigenvector.apply(permutation[k]);
+            double norm = 0;
+            for (final double v : eVec) {
+                norm += v * v;
+            }
+            final double scale = 1 / Math.sqrt(norm * eVal);
+            for (int i = 0; i < n; i++) {
+                m_projection[k * n + i] = eVec[i] * scale;
+            }
+        }
+    }
+
+    /* Reservoir sampling of the landmarks. */
+    private void sampleLandmarks(final DataTable table, final long rowsToUse, final int nrLandmarks,
+        final long seed, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final Random rand = new Random(seed);
+        final int nrValues = m_distances.getNumValues();
+        double[] landmarks = new double[Math.min(nrLandmarks, 1024) * nrValues];
+        final double[] values = new double[nrValues];
+        long nrCandidates = 0;
+        long rowIndex = 0;
+        for (RowIterator it = table.iterator(); it.hasNext() && rowIndex < rowsToUse; rowIndex++) {
+            final DataRow row = it.next();
+            exec.checkCanceled();
+            if (!m_distances.read(row, values, 0)) {
+                continue;
+            }
+            final long index = nrCandidates < nrLandmarks ? nrCandidates : rand.nextLong(nrCandidates + 1);
+            if (index < nrLandmarks) {
+                if ((index + 1) * nrValues > landmarks.length) {
+                    landmarks = Arrays.copyOf(landmarks, Math.min(2 * landmarks.length, nrLandmarks * nrValues));
+                }
+                System.arraycopy(values, 0, landmarks, (int)index * nrValues, nrValues);
+            }
+            nrCandidates++;
+        }
+        m_nrLandmarks = (int)Math.min(nrCandidates, nrLandmarks);
+        m_landmarks = landmarks;
+    }
+
+    /**
+     * @return the number of landmarks
+     */
+    int getNumLandmarks() {
+        return m_nrLandmarks;
+    }
+
+    /**
+     * @return the output dimension
+     */
+    int getDimension() {
+        return m_dimension;
+    }
+
+    /**
+     * Places the given row relative to the landmarks.
+     *
+     * @param row the row to place
+     * @param point the array to store the coordinates in
+     * @return <code>false</code> if the row contains missing values and has not been placed
+     */
+    boolean project(final DataRow row, final double[] point) {
+        final int nrValues = m_distances.getNumValues();
+        final double[] values = new double[nrValues];
+        if (!m_distances.read(row, values, 0)) {
+            return false;
+        }
+        final int n = m_nrLandmarks;
+        final double[] delta = new double[n];
+        for (int i = 0; i < n; i++) {
+            final double d = m_distances.getDistance(values, 0, m_landmarks, i * nrValues);
+            delta[i] = d * d - m_meanSquaredDistances[i];
+        }
+        for (int k = 0; k < m_dimension; k++) {
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += m_projection[k * n + i] * delta[i];
+            }
+            point[k] = -0.5 * sum;
+        }
+        return true;
+    }
+}
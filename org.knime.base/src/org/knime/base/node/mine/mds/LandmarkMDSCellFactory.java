@@ -44,75 +44,53 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 20, 2019 (Adrian Nembach, KNIME GmbH, Konstanz, Germany): created
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
  */
-package org.knime.base.node.preproc.topk;
+package org.knime.base.node.mine.mds;
 
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
-import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.LongCell;
-import org.knime.core.node.BufferedDataTable;
-import org.knime.core.node.CanceledExecutionException;
-import org.knime.core.node.ExecutionContext;
-import org.knime.core.util.UniqueNameGenerator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
 
 /**
- * Static factory class for OrderPreprocessor implementations.
+ * Appends the coordinates computed by a {@link LandmarkMDS} to the rows. The rows are projected while the output
+ * table is written, concurrently if possible. Rows beyond the number of rows to use and rows with missing values get
+ * missing cells.
  *
- * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-final class OrderPreprocessors {
+final class LandmarkMDSCellFactory extends AbstractCellFactory {
 
-    private OrderPreprocessors() {
-        // static factory class
-    }
-
-    static OrderPreprocessor noOp() {
-        return new OrderPreprocessor() {
-
-            @Override
-            public double getProgressRequired() {
-                return 0;
-            }
-
-            @Override
-            public BufferedDataTable preprocessSelectionTable(final BufferedDataTable table,
-                final ExecutionContext exec) {
-                return table;
-            }
+    private final LandmarkMDS m_mds;
 
-        };
-    }
+    private final long m_rowsToUse;
 
-    static OrderPreprocessor appendInOrderColumn() {
-        return new OrderColumnAppender();
+    /**
+     * @param mds the landmark MDS to place the rows with
+     * @param rowsToUse the number of leading rows to place
+     */
+    LandmarkMDSCellFactory(final LandmarkMDS mds, final long rowsToUse) {
+        super(true, new MDSCellFactory(null, mds.getDimension()).getColumnSpecs());
+        m_mds = mds;
+        m_rowsToUse = rowsToUse;
     }
 
-    private static final class OrderColumnAppender implements OrderPreprocessor {
-        @Override
-        public double getProgressRequired() {
-            return 0.1;
-        }
-
-        @Override
-        public BufferedDataTable preprocessSelectionTable(final BufferedDataTable table, final ExecutionContext exec)
-            throws CanceledExecutionException {
-            final DataTableSpec spec = table.getDataTableSpec();
-            UniqueNameGenerator nameGen = new UniqueNameGenerator(spec);
-            final DataColumnSpec orderColumn = nameGen.newColumn("order", LongCell.TYPE);
-            ColumnRearranger cr = new ColumnRearranger(spec);
-            cr.append(new SingleCellFactory(orderColumn) {
-
-                @Override
-                public DataCell getCell(final DataRow row, final long rowIndex) {
-                    return new LongCell(rowIndex);
-                }
-            });
-            return exec.createColumnRearrangeTable(table, cr, exec);
+    @Override
+    public DataCell[] getCells(final DataRow row, final long rowIndex) {
+        final int dimension = m_mds.getDimension();
+        final DataCell[] cells = new DataCell[dimension];
+        final double[] point = new double[dimension];
+        if (rowIndex < m_rowsToUse && m_mds.project(row, point)) {
+            for (int i = 0; i < dimension; i++) {
+                cells[i] = new DoubleCell(point[i]);
+            }
+        } else {
+            for (int i = 0; i < dimension; i++) {
+                cells[i] = DataType.getMissingCell();
+            }
         }
+        return cells;
     }
 }
@@ -93,4 +93,16 @@ public class MDSConfigKeys {
      * The configuration key for columns to use.
      */
     public static final String CFGKEY_SEED = "Seed";    
+
+    /**
+     * The configuration key for the MDS method.
+     * @since 5.12
+     */
+    public static final String CFGKEY_METHOD = "Method";
+
+    /**
+     * The configuration key for the number of landmarks.
+     * @since 5.12
+     */
+    public static final String CFGKEY_LANDMARKS = "Landmarks";
 }
@@ -47,15 +47,19 @@
  */
 package org.knime.base.node.mine.mds;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
 
-import org.knime.base.node.mine.mds.distances.DistanceManager;
 import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
 import org.knime.base.node.mine.mds.distances.RowDistanceManager;
 import org.knime.base.node.preproc.filter.row.RowFilterTable;
 import org.knime.base.node.preproc.filter.row.rowfilter.IRowFilter;
 import org.knime.base.node.preproc.filter.row.rowfilter.MissingCellRowFilter;
+import org.knime.base.util.internal.ParallelTasks;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.RowIterator;
@@ -64,6 +68,7 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 
 /**
  * The <code>MDSManager</code> handling the MDS algorithmic. For each row
@@ -74,6 +79,11 @@
  * dimensional points. The rearrangement is an iterative process running as
  * many epochs as specified. The learn rate, specifying the step size is
  * reduced after each epoch, so that the process converges at the end.
+ * <p>
+ * The points and, if the distance is given by its name, the values of the
+ * rows are kept in primitive arrays. If parallel epochs are enabled, all
+ * points of an epoch are moved concurrently, each relative to the positions
+ * the other points had at the start of the epoch.
  *
  * @author Kilian Thiel, University of Konstanz
  */
@@ -99,15 +109,42 @@ public class MDSManager {
      */
     public static final double DEF_MINDIST_THRESHOLD = 0.0001;
 
+    /**
+     * The maximal number of high dimensional distances kept in memory between
+     * the epochs (128MB), for more rows they are recomputed in each epoch.
+     */
+    private static final int MAX_CACHED_DISTANCES = 1 << 24;
+
     private int m_dimension;
 
     private RowDistanceManager m_distMan;
 
-    private DistanceManager m_euclideanDistMan;
+    /** The distances on the primitive values, null for a custom distance manager. */
+    private VectorDistances m_distances;
+
+    private String m_distance;
+
+    private boolean m_fuzzy;
 
     private DataTable m_inData;
 
-    private Hashtable<RowKey, DataPoint> m_points;
+    private int m_size;
+
+    private RowKey[] m_keys;
+
+    /** The rows, only used for a custom distance manager. */
+    private DataRow[] m_rows;
+
+    /** The high dimensional values of the rows, row by row. */
+    private double[] m_values;
+
+    /** The high dimensional distances of the row pairs (upper triangle). */
+    private double[] m_distanceCache;
+
+    /** The low dimensional points, point by point. */
+    private double[] m_points;
+
+    private boolean m_parallel = false;
 
     private double m_learningrate;
 
@@ -142,6 +179,7 @@ public MDSManager(final int dimension, final String distance,
     throws IllegalArgumentException {
         this(dimension, DistanceManagerFactory.createDistanceManager(
                 distance, fuzzy), fuzzy, inData, exec);
+        m_distance = distance;
     }
 
     /**
@@ -191,15 +229,26 @@ public MDSManager(final int dimension, final RowDistanceManager distManager,
         }
         m_dimension = dimension;
         m_distMan = distManager;
-        m_euclideanDistMan = DistanceManagerFactory.createDistanceManager(
-                DistanceManagerFactory.EUCLIDEAN_DIST, fuzzy);
-
+        m_fuzzy = fuzzy;
 
         IRowFilter rf = new MissingCellRowFilter();
         m_inData = new RowFilterTable(inData, rf);
         m_exec = exec.createSubExecutionContext(0.9);
+    }
 
-        m_points = new Hashtable<RowKey, DataPoint>();
+    /**
+     * Sets whether the points are moved concurrently in each epoch. The
+     * sequential training moves each point relative to the current positions
+     * of the other points, the parallel training relative to the positions
+     * they had at the start of the epoch. The parallel result does therefore
+     * slightly differ from the sequential one, but it does not depend on the
+     * number of threads. Default is <code>false</code>.
+     *
+     * @param parallel <code>true</code> if the points are moved concurrently
+     * @since 5.12
+     */
+    public void setParallel(final boolean parallel) {
+        m_parallel = parallel;
     }
 
     /**
@@ -214,20 +263,46 @@ public void init(final long seed) throws CanceledExecutionException {
 
         ExecutionMonitor exec = m_exec.createSubProgress(0.1);
 
+        if (m_distance != null) {
+            m_distances = new VectorDistances(m_inData.getDataTableSpec(),
+                    null, m_distance, m_fuzzy);
+        }
+        final int nrValues =
+            m_distances == null ? 0 : m_distances.getNumValues();
+        List<RowKey> keys = new ArrayList<RowKey>();
+        List<DataRow> rows = new ArrayList<DataRow>();
+        double[] values = new double[16 * nrValues];
+        double[] points = new double[16 * m_dimension];
+
         // init all data points
         RowIterator it = m_inData.iterator();
         while (it.hasNext()) {
             exec.checkCanceled();
 
             DataRow row = it.next();
-            DataPoint p = new DataPoint(m_dimension);
+            final int index = keys.size();
+            if ((index + 1) * m_dimension > points.length) {
+                points = Arrays.copyOf(points, 2 * points.length);
+                values = Arrays.copyOf(values, 2 * values.length);
+            }
             for (int j = 0; j < m_dimension; j++) {
-                p.setElementAt(j, rand.nextDouble());
+                points[index * m_dimension + j] = rand.nextDouble();
+            }
+            keys.add(row.getKey());
+            if (m_distances != null) {
+                m_distances.read(row, values, index * nrValues);
+            } else {
+                rows.add(row);
             }
-            m_points.put(row.getKey(), p);
 
             exec.setProgress("Initialising data points.");
         }
+        m_size = keys.size();
+        m_keys = keys.toArray(new RowKey[m_size]);
+        m_rows = m_distances == null ? rows.toArray(new DataRow[m_size]) : null;
+        m_values = m_distances == null ? null : values;
+        m_points = Arrays.copyOf(points, m_size * m_dimension);
+        m_distanceCache = null;
     }
 
     /**
@@ -250,6 +325,11 @@ public void train(final int epochs, final double learningrate)
         m_learningrate = learningrate;
         m_initialLearningrate = learningrate;
         m_epochs = epochs;
+        if (epochs > 1 && m_distances != null
+                && (long)m_size * (m_size - 1) / 2 <= MAX_CACHED_DISTANCES) {
+            exec.setMessage("Computing distances");
+            cacheDistances();
+        }
         for (int e = 1; e <= epochs; e++) {
             exec.setMessage("Start training");
             exec.checkCanceled();
@@ -260,48 +340,88 @@ public void train(final int epochs, final double learningrate)
         }
     }
 
+    private void cacheDistances() throws CanceledExecutionException {
+        final double[] cache = new double[m_size * (m_size - 1) / 2];
+        runChunked(m_size, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int j = i + 1; j < m_size; j++) {
+                    cache[cacheIndex(i, j)] = computeDistance(i, j);
+                }
+            }
+        });
+        m_distanceCache = cache;
+    }
+
+    /* The index of the pair i < j in the upper triangle. */
+    private int cacheIndex(final int i, final int j) {
+        return i * (2 * m_size - i - 1) / 2 + j - i - 1;
+    }
+
+    private double computeDistance(final int i, final int j) {
+        if (m_distances == null) {
+            return m_distMan.getDistance(m_rows[i], m_rows[j]);
+        }
+        final int nrValues = m_distances.getNumValues();
+        return m_distances.getDistance(m_values, i * nrValues, m_values,
+                j * nrValues);
+    }
+
+    private double getDistance(final int i, final int j) {
+        if (m_distanceCache == null) {
+            return computeDistance(i, j);
+        }
+        // the distances are symmetric
+        return i < j ? m_distanceCache[cacheIndex(i, j)]
+            : m_distanceCache[cacheIndex(j, i)];
+    }
+
     private void doEpoch(final int epoch, final ExecutionMonitor exec)
     throws CanceledExecutionException {
-        // through all data points
-        RowIterator it1 = m_inData.iterator();
-        while (it1.hasNext()) {
-            DataRow r1 = it1.next();
-            DataPoint p1 = m_points.get(r1.getKey());
-
-            // through all data points again
-            RowIterator it2 = m_inData.iterator();
-            while (it2.hasNext()) {
+        if (m_parallel) {
+            // all points are moved relative to the positions at epoch start
+            final double[] others = m_points.clone();
+            runChunked(m_size, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    exec.checkCanceled();
+                    for (int j = 0; j < m_size; j++) {
+                        adjustDataPoint(i, j, others);
+                    }
+                }
+            });
+        } else {
+            // through all data points
+            for (int i = 0; i < m_size; i++) {
                 exec.checkCanceled();
-
-                DataRow r2 = it2.next();
-                DataPoint p2 = m_points.get(r2.getKey());
-
-                adjustDataPoint(p1, p2, r1, r2);
+                // through all data points again
+                for (int j = 0; j < m_size; j++) {
+                    adjustDataPoint(i, j, m_points);
+                }
             }
         }
 
         adjustLearningRate(epoch);
     }
 
-    private void adjustDataPoint(final DataPoint p1, final DataPoint p2,
-            final DataRow r1, final DataRow r2) {
-        if (!p1.equals(p2)) {
-            double disparity =
-                    disparityTransformation(m_distMan.getDistance(r1, r2));
+    private void adjustDataPoint(final int i1, final int i2,
+            final double[] others) {
+        if (i1 != i2) {
+            double disparity = disparityTransformation(getDistance(i1, i2));
 
-            // double distance = m_distMan.getDistance(p1, p2);
             // use only the Euclidean distance for low
             // dimensional data.
-            double distance = m_euclideanDistMan.getDistance(p1, p2);
+            final int p1 = i1 * m_dimension;
+            final int p2 = i2 * m_dimension;
+            double distance = VectorDistances.getEuclideanDistance(m_points,
+                    p1, others, p2, m_dimension);
 
             // through all dimensions
             for (int d = 0; d < m_dimension; d++) {
-                double value = p1.getElementAt(d);
+                double value = m_points[p1 + d];
                 if (distance != 0) {
                     double delta =
                             m_learningrate * (1 - (disparity / distance))
-                                    * (p2.getElementAt(d) - value);
-                    p1.setElementAt(d, value + delta);
+                                    * (others[p2 + d] - value);
+                    m_points[p1 + d] = value + delta;
                 }
             }
         }
@@ -324,7 +444,16 @@ private void adjustLearningRate(final int epoch) {
      * as values.
      */
     public Hashtable<RowKey, DataPoint> getDataPoints() {
-        return m_points;
+        Hashtable<RowKey, DataPoint> points =
+            new Hashtable<RowKey, DataPoint>();
+        for (int i = 0; i < m_size; i++) {
+            DataPoint p = new DataPoint(m_dimension);
+            for (int d = 0; d < m_dimension; d++) {
+                p.setElementAt(d, m_points[i * m_dimension + d]);
+            }
+            points.put(m_keys[i], p);
+        }
+        return points;
     }
 
     /**
@@ -332,7 +461,12 @@ public Hashtable<RowKey, DataPoint> getDataPoints() {
      * corresponding low dimensional data points.
      */
     public void reset() {
-        m_points.clear();
+        m_size = 0;
+        m_keys = null;
+        m_rows = null;
+        m_values = null;
+        m_distanceCache = null;
+        m_points = null;
         m_isInit = false;
     }
 
@@ -342,4 +476,26 @@ public void reset() {
     public int getDimension() {
         return m_dimension;
     }
+
+    /** A range of points processed by one thread. */
+    @FunctionalInterface
+    private interface Chunk {
+        void process(int from, int to) throws CanceledExecutionException;
+    }
+
+    private static void runChunked(final int size, final Chunk chunk)
+    throws CanceledExecutionException {
+        final int nrChunks = Math.max(1, Math.min(size,
+                4 * KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+        final List<Callable<Void>> tasks = new ArrayList<>(nrChunks);
+        for (int c = 0; c < nrChunks; c++) {
+            final int from = (int)((long)size * c / nrChunks);
+            final int to = (int)((long)size * (c + 1) / nrChunks);
+            tasks.add(() -> {
+                chunk.process(from, to);
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+    }
 }
@@ -44,35 +44,33 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Aug 20, 2019 (Adrian Nembach, KNIME GmbH, Konstanz, Germany): created
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
  */
-package org.knime.base.node.preproc.topk;
+package org.knime.base.node.mine.mds;
 
-import org.knime.core.node.BufferedDataTable;
-import org.knime.core.node.CanceledExecutionException;
-import org.knime.core.node.ExecutionContext;
+import org.knime.node.parameters.widget.choices.Label;
 
 /**
- * Allows to transform the input table to the Top K Selector node prior to the selection. One example is to add a column
- * with the input order.
+ * The methods the MDS node can compute the mapping with.
  *
- * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
+ * @author KNIME GmbH, Konstanz, Germany
  */
-interface OrderPreprocessor {
+enum MDSMethod {
 
-    /**
-     * @return the fractional amount of progress this operation requires
-     */
-    double getProgressRequired();
+        /** The iterative layout, moving one point after the other. */
+        @Label(value = "Stochastic (sequential)", description = "Iteratively moves one point after the other, as "
+            + "done by older versions of this node. The runtime grows quadratically with the number of rows.")
+        SEQUENTIAL,
 
-    /**
-     *
-     * @param table the input table of the Top K Selector node
-     * @param exec the execution context of the current execution
-     * @return the preprocessed table
-     * @throws CanceledExecutionException if the user cancels the node's execution
-     */
-    BufferedDataTable preprocessSelectionTable(final BufferedDataTable table, final ExecutionContext exec)
-        throws CanceledExecutionException;
+        /** The iterative layout, moving all points of an epoch concurrently. */
+        @Label(value = "Stochastic (parallel)", description = "Iteratively moves all points of an epoch "
+            + "concurrently, each relative to the positions the other points had at the start of the epoch. The "
+            + "runtime grows quadratically with the number of rows, but is spread over all available cores.")
+        PARALLEL,
 
+        /** Classical MDS of a sample of landmarks, the other rows are projected onto them. */
+        @Label(value = "Landmark", description = "Computes the classical MDS of a random sample of landmark rows "
+            + "and places all other rows by their distances to the landmarks. The runtime grows linearly with the "
+            + "number of rows. The epochs and the learning rate are not used.")
+        LANDMARK;
 }
@@ -54,10 +54,14 @@
 import javax.swing.event.ChangeListener;
 
 import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.FuzzyIntervalValue;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
+import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnFilter;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
@@ -157,11 +161,41 @@ public static SettingsModelIntegerBounded getSeedModel() {
                 MDSManager.MAX_SEED);
     }
     
+    /**
+     * @return Creates and returns a new instance of
+     * <code>SettingsModelString</code> containing the name of the MDS method.
+     * @since 5.12
+     */
+    public static SettingsModelString getMethodModel() {
+        return new SettingsModelString(MDSConfigKeys.CFGKEY_METHOD,
+                MDSMethod.PARALLEL.name());
+    }
+    
+    /**
+     * @return Creates and returns a new instance of 
+     * <code>SettingsModelIntegerBounded</code> containing the number of
+     * landmarks to use.
+     * @since 5.12
+     */
+    public static SettingsModelIntegerBounded getLandmarksModel() {
+        return new SettingsModelIntegerBounded(MDSConfigKeys.CFGKEY_LANDMARKS,
+                MDSNodeModel.DEF_LANDMARKS, MDSNodeModel.MIN_LANDMARKS,
+                MDSNodeModel.MAX_LANDMARKS);
+    }
+    
     
     private SettingsModelIntegerBounded m_rowsModel;
     
     private SettingsModelBoolean m_useRowsModel;
     
+    private SettingsModelString m_methodModel;
+    
+    private SettingsModelIntegerBounded m_landmarksModel;
+    
+    private SettingsModelIntegerBounded m_epochModel;
+    
+    private SettingsModelDoubleBounded m_learnrateModel;
+    
     /**
      * Creates a new instance of <code>MDSNodeDialog</code>.
      */
@@ -185,16 +219,31 @@ public MDSNodeDialog() {
         
         createNewGroup("MDS settings");
         
+        m_methodModel = getMethodModel();
+        addDialogComponent(new DialogComponentButtonGroup(m_methodModel,
+                "Method: ", false,
+                new String[]{"Stochastic (sequential)",
+                    "Stochastic (parallel)", "Landmark"},
+                new String[]{MDSMethod.SEQUENTIAL.name(),
+                    MDSMethod.PARALLEL.name(), MDSMethod.LANDMARK.name()}));
+        m_methodModel.addChangeListener(e -> enableMethodModels());
+        
+        m_landmarksModel = getLandmarksModel();
+        addDialogComponent(new DialogComponentNumber(m_landmarksModel,
+                "Landmarks: ", 100));
+        
         addDialogComponent(new DialogComponentNumber(getSeedModel(),
                 "Random seed: ", 1000));
         
-        addDialogComponent(new DialogComponentNumber(getEpochModel(),
+        m_epochModel = getEpochModel();
+        addDialogComponent(new DialogComponentNumber(m_epochModel,
                 "Epochs: ", 10));
         
         addDialogComponent(new DialogComponentNumber(getOutputDimModel(),
                 "Output dimensions: ", 1));
         
-        addDialogComponent(new DialogComponentNumber(getLearnrateModel(),
+        m_learnrateModel = getLearnrateModel();
+        addDialogComponent(new DialogComponentNumber(m_learnrateModel,
                 "Learningrate: ", 0.1));
         
         List<String> distanceMetric = new ArrayList<String>();
@@ -217,6 +266,7 @@ public MDSNodeDialog() {
         closeCurrentGroup();
         
         checkUncheck();
+        enableMethodModels();
     }
     
     /**
@@ -241,4 +291,25 @@ private void checkUncheck() {
             m_rowsModel.setEnabled(true);
         }
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadAdditionalSettingsFrom(final NodeSettingsRO settings,
+            final DataTableSpec[] specs) throws NotConfigurableException {
+        // Added in 5.12, old workflows keep the sequential layout
+        if (!settings.containsKey(MDSConfigKeys.CFGKEY_METHOD)) {
+            m_methodModel.setStringValue(MDSMethod.SEQUENTIAL.name());
+        }
+        enableMethodModels();
+    }
+    
+    private void enableMethodModels() {
+        final boolean landmark = MDSMethod.LANDMARK.name().equals(
+                m_methodModel.getStringValue());
+        m_landmarksModel.setEnabled(landmark);
+        m_epochModel.setEnabled(!landmark);
+        m_learnrateModel.setEnabled(!landmark);
+    }
 }
@@ -127,7 +127,10 @@ This node maps data of a high dimensional space onto a lower (usually 2 or 3) di
                 dimension. The Sammons mapping tries to keep the distance information of the high dimensional data by
                 adjusting the low dimensional data points in a certain way. Each low dimensional data point is moved
                 around a bit towards or back from the other points accordant to its high dimensional distances. This
-                procedure is repeated a specified number of epochs or iterations respectively.
+                procedure is repeated a specified number of epochs or iterations respectively. The points can be moved
+                one after the other or all points of an epoch concurrently. For large tables the landmark method maps
+                a random sample of landmark rows by classical MDS instead and places all other rows by their
+                distances to the landmarks in a single pass over the data.
             """;
     private static final List<PortDescription> INPUT_PORTS = List.of(
             fixedPort("Any input table", """
@@ -50,6 +50,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.swing.event.ChangeEvent;
@@ -156,6 +157,24 @@ public class MDSNodeModel extends NodeModel {
     public static final String DEF_DISTANCE =
         DistanceManagerFactory.EUCLIDEAN_DIST;
 
+    /**
+     * The default number of landmarks.
+     * @since 5.12
+     */
+    public static final int DEF_LANDMARKS = 1000;
+
+    /**
+     * The minimum number of landmarks.
+     * @since 5.12
+     */
+    public static final int MIN_LANDMARKS = 2;
+
+    /**
+     * The maximum number of landmarks.
+     * @since 5.12
+     */
+    public static final int MAX_LANDMARKS = Integer.MAX_VALUE;
+
 
 
     private SettingsModelIntegerBounded m_rowsModel =
@@ -181,6 +200,12 @@ public class MDSNodeModel extends NodeModel {
     private SettingsModelIntegerBounded m_seedModel =
         MDSNodeDialog.getSeedModel();
 
+    private SettingsModelString m_methodModel =
+        MDSNodeDialog.getMethodModel();
+
+    private SettingsModelIntegerBounded m_landmarksModel =
+        MDSNodeDialog.getLandmarksModel();
+
     private MDSManager m_manager;
 
     private List<String> m_includeList;
@@ -273,6 +298,21 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         }
 
         final DataTableSpec inSpec = inData[0].getSpec();
+        final MDSMethod method = MDSMethod.valueOf(m_methodModel.getStringValue());
+        if (method == MDSMethod.LANDMARK) {
+            m_manager = null;
+            final LandmarkMDS landmarkMDS = new LandmarkMDS(new VectorDistances(inSpec, m_includeList,
+                m_distModel.getStringValue(), m_fuzzy), m_outputDimModel.getIntValue());
+            landmarkMDS.computeLandmarks(inData[0], rowsToUse, m_landmarksModel.getIntValue(),
+                m_seedModel.getIntValue(), exec.createSubProgress(0.2));
+
+            // place all rows while writing the output table.
+            ColumnRearranger rearranger = new ColumnRearranger(inSpec);
+            rearranger.append(new LandmarkMDSCellFactory(landmarkMDS, rowsToUse));
+            return new BufferedDataTable[] {exec.createColumnRearrangeTable(inData[0], rearranger,
+                    exec.createSubProgress(0.8))};
+        }
+
         final ColumnRearranger colFilter = new ColumnRearranger(inSpec);
         if (m_includeList != null) {
             colFilter.keepOnly(m_includeList.toArray(new String[m_includeList.size()]));
@@ -290,6 +330,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         // create MDS manager, init and train stuff
         m_manager = new MDSManager(m_outputDimModel.getIntValue(),
                 m_distModel.getStringValue(), m_fuzzy, rowCutDataTable, exec);
+        m_manager.setParallel(method == MDSMethod.PARALLEL);
         m_manager.init(m_seedModel.getIntValue());
         m_manager.train(m_epochsModel.getIntValue(),
                 m_learnrateModel.getDoubleValue());
@@ -368,6 +409,17 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_rowsModel.loadSettingsFrom(settings);
         m_seedModel.loadSettingsFrom(settings);
         m_useRowsModel.loadSettingsFrom(settings);
+        // Added in 5.12, old workflows keep the sequential layout
+        if (settings.containsKey(MDSConfigKeys.CFGKEY_METHOD)) {
+            m_methodModel.loadSettingsFrom(settings);
+        } else {
+            m_methodModel.setStringValue(MDSMethod.SEQUENTIAL.name());
+        }
+        if (settings.containsKey(MDSConfigKeys.CFGKEY_LANDMARKS)) {
+            m_landmarksModel.loadSettingsFrom(settings);
+        } else {
+            m_landmarksModel.setIntValue(DEF_LANDMARKS);
+        }
         checkUncheck();
     }
 
@@ -394,6 +446,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_rowsModel.saveSettingsTo(settings);
         m_seedModel.saveSettingsTo(settings);
         m_useRowsModel.saveSettingsTo(settings);
+        m_methodModel.saveSettingsTo(settings);
+        m_landmarksModel.saveSettingsTo(settings);
     }
 
     /**
@@ -410,6 +464,19 @@ protected void validateSettings(final NodeSettingsRO settings)
         m_rowsModel.validateSettings(settings);
         m_seedModel.validateSettings(settings);
         m_useRowsModel.validateSettings(settings);
+        // Added in 5.12
+        if (settings.containsKey(MDSConfigKeys.CFGKEY_METHOD)) {
+            final SettingsModelString method =
+                m_methodModel.createCloneWithValidatedValue(settings);
+            if (Arrays.stream(MDSMethod.values()).noneMatch(
+                    m -> m.name().equals(method.getStringValue()))) {
+                throw new InvalidSettingsException("Unknown MDS method: "
+                        + method.getStringValue());
+            }
+        }
+        if (settings.containsKey(MDSConfigKeys.CFGKEY_LANDMARKS)) {
+            m_landmarksModel.validateSettings(settings);
+        }
     }
 
 
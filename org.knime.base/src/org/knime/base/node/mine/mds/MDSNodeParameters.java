@@ -53,14 +53,26 @@
 import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.PersistWithin;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.Modification;
 import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.migration.DefaultProvider;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
+import org.knime.node.parameters.migration.Migration;
 import org.knime.node.parameters.persistence.Persist;
 import org.knime.node.parameters.persistence.legacy.LegacyStringFilter;
 import org.knime.node.parameters.persistence.legacy.LegacyStringFilter.ColumnBasedExclListProvider;
 import org.knime.node.parameters.persistence.legacy.LegacyStringFilter.ColumnBasedInclListProvider;
+import org.knime.node.parameters.updates.Effect;
+import org.knime.node.parameters.updates.Effect.EffectType;
+import org.knime.node.parameters.updates.EffectPredicate;
+import org.knime.node.parameters.updates.EffectPredicateProvider;
+import org.knime.node.parameters.updates.ParameterReference;
+import org.knime.node.parameters.updates.ValueReference;
 import org.knime.node.parameters.widget.choices.ChoicesStateProvider;
 import org.knime.node.parameters.widget.choices.TypedStringChoice;
+import org.knime.node.parameters.widget.choices.ValueSwitchWidget;
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation;
 
 /**
  * The node parameters for the MDS node.
@@ -78,6 +90,49 @@ final class MDSNodeParameters implements NodeParameters {
     @PersistWithin.PersistEmbedded
     MDSParameterDistanceMetric m_distanceMetric = new MDSParameterDistanceMetric();
 
+    @Persist(configKey = MDSConfigKeys.CFGKEY_METHOD)
+    @Widget(title = "Method", description = """
+            Select how the mapping is computed.
+            """)
+    @ValueSwitchWidget
+    @ValueReference(MethodRef.class)
+    @Migration(LoadSequentialForOldNodesMigration.class)
+    MDSMethod m_method = MDSMethod.PARALLEL;
+
+    static final class MethodRef implements ParameterReference<MDSMethod> {
+    }
+
+    static final class IsLandmarkMethod implements EffectPredicateProvider {
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getEnum(MethodRef.class).isOneOf(MDSMethod.LANDMARK);
+        }
+    }
+
+    static final class LoadSequentialForOldNodesMigration implements DefaultProvider<MDSMethod> {
+        @Override
+        public MDSMethod getDefault() {
+            return MDSMethod.SEQUENTIAL;
+        }
+    }
+
+    @Persist(configKey = MDSConfigKeys.CFGKEY_LANDMARKS)
+    @Widget(title = "Number of landmarks", description = """
+            The maximum number of rows sampled as landmarks. More landmarks approximate the mapping of all rows
+            more closely, but the landmarks are kept in memory and their classical MDS takes cubic time in their
+            number. If fewer rows are used, all of them are landmarks.
+            """)
+    @NumberInputWidget(minValidation = IsMinLandmarksValidation.class, stepSize = 100)
+    @Effect(predicate = IsLandmarkMethod.class, type = EffectType.SHOW)
+    int m_landmarks = MDSNodeModel.DEF_LANDMARKS;
+
+    static final class IsMinLandmarksValidation extends MinValidation {
+        @Override
+        public double getMin() {
+            return MDSNodeModel.MIN_LANDMARKS;
+        }
+    }
+
     @PersistWithin.PersistEmbedded
     MDSParametersUseRows m_common = new MDSParametersUseRows();
 
@@ -0,0 +1,198 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.mds;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.base.node.mine.mds.distances.DistanceManagerFactory;
+import org.knime.base.node.mine.sota.logic.SotaFuzzyMath;
+import org.knime.base.node.mine.sota.logic.SotaUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.FuzzyIntervalValue;
+
+/**
+ * Reads the values of the MDS columns of a row into a primitive array and computes the distances between such
+ * arrays. The values and distances are the same as those of the <code>DistanceManager</code> created by the
+ * {@link DistanceManagerFactory} for the same distance and fuzzy flag: if fuzzy is set, only the centers of the core
+ * regions of the fuzzy columns are used, otherwise only the numeric columns.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class VectorDistances {
+
+    private final String m_distance;
+
+    private final boolean m_fuzzy;
+
+    /** The indices of all MDS columns, a missing value in one of them excludes the row. */
+    private final int[] m_columns;
+
+    /** The indices of the MDS columns the values are read from. */
+    private final int[] m_valueColumns;
+
+    /**
+     * @param spec the spec of the rows to read
+     * @param columns the names of the MDS columns, <code>null</code> to use all columns of the spec
+     * @param distance the distance, see {@link DistanceManagerFactory}
+     * @param fuzzy <code>true</code> if only fuzzy columns are used, <code>false</code> if only numeric ones
+     * @throws IllegalArgumentException if the distance is not known
+     */
+    VectorDistances(final DataTableSpec spec, final List<String> columns, final String distance,
+        final boolean fuzzy) {
+        if (!DistanceManagerFactory.EUCLIDEAN_DIST.equals(distance)
+            && !DistanceManagerFactory.MANHATTAN_DIST.equals(distance)
+            && !DistanceManagerFactory.COS_DIST.equals(distance)) {
+            throw new IllegalArgumentException("Unknown distance: " + distance);
+        }
+        m_distance = distance;
+        m_fuzzy = fuzzy;
+        m_columns = columns == null ? new int[spec.getNumColumns()] : new int[columns.size()];
+        int nrValueColumns = 0;
+        int[] valueColumns = new int[m_columns.length];
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i] = columns == null ? i : spec.findColumnIndex(columns.get(i));
+            if (m_columns[i] < 0) {
+                throw new IllegalArgumentException("Column \"" + columns.get(i) + "\" not found");
+            }
+            DataType type = spec.getColumnSpec(m_columns[i]).getType();
+            if (fuzzy ? SotaUtil.isFuzzyIntervalType(type) : SotaUtil.isNumberType(type)) {
+                valueColumns[nrValueColumns++] = m_columns[i];
+            }
+        }
+        Arrays.sort(valueColumns, 0, nrValueColumns);
+        m_valueColumns = Arrays.copyOf(valueColumns, nrValueColumns);
+    }
+
+    /**
+     * @return the number of values read from each row
+     */
+    int getNumValues() {
+        return m_valueColumns.length;
+    }
+
+    /**
+     * Reads the values of the given row.
+     *
+     * @param row the row to read
+     * @param values the array to store the values in
+     * @param offset the position of the first value in the array
+     * @return <code>false</code> if the row contains a missing value in one of the MDS columns, in which case the
+     *         values are undefined
+     */
+    boolean read(final DataRow row, final double[] values, final int offset) {
+        for (int column : m_columns) {
+            if (row.getCell(column).isMissing()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < m_valueColumns.length; i++) {
+            DataCell cell = row.getCell(m_valueColumns[i]);
+            values[offset + i] = m_fuzzy ? SotaFuzzyMath.getCenterOfCoreRegion((FuzzyIntervalValue)cell)
+                : ((DoubleValue)cell).getDoubleValue();
+        }
+        return true;
+    }
+
+    /**
+     * Computes the distance between two value arrays read by this instance.
+     *
+     * @param values1 the array containing the first values
+     * @param offset1 the position of the first values
+     * @param values2 the array containing the second values
+     * @param offset2 the position of the second values
+     * @return the distance
+     */
+    double getDistance(final double[] values1, final int offset1, final double[] values2, final int offset2) {
+        final int length = m_valueColumns.length;
+        if (DistanceManagerFactory.COS_DIST.equals(m_distance)) {
+            double vectorMultRes = 0;
+            double vector1Length = 0;
+            double vector2Length = 0;
+            for (int i = 0; i < length; i++) {
+                vectorMultRes += values1[offset1 + i] * values2[offset2 + i];
+                vector1Length += Math.pow(values1[offset1 + i], 2);
+                vector2Length += Math.pow(values2[offset2 + i], 2);
+            }
+            // the offset of the distance managers is always 1
+            return 1 - vectorMultRes / (Math.sqrt(vector1Length) * Math.sqrt(vector2Length));
+        }
+        final int power = DistanceManagerFactory.MANHATTAN_DIST.equals(m_distance) ? 1 : 2;
+        return getMinkowskiDistance(power, values1, offset1, values2, offset2, length);
+    }
+
+    /**
+     * Computes the Euclidean distance between two low dimensional points, in the same way as
+     * {@link org.knime.base.node.mine.mds.distances.Distances#getEuclideanDistance(DataPoint, DataPoint)}.
+     *
+     * @param points1 the array containing the first point
+     * @param offset1 the position of the first point
+     * @param points2 the array containing the second point
+     * @param offset2 the position of the second point
+     * @param dimension the dimension of the points
+     * @return the Euclidean distance
+     */
+    static double getEuclideanDistance(final double[] points1, final int offset1, final double[] points2,
+        final int offset2, final int dimension) {
+        return getMinkowskiDistance(2, points1, offset1, points2, offset2, dimension);
+    }
+
+    private static double getMinkowskiDistance(final int power, final double[] values1, final int offset1,
+        final double[] values2, final int offset2, final int length) {
+        double distance = 0;
+        for (int i = 0; i < length; i++) {
+            distance += Math.pow(Math.abs(values1[offset1 + i] - values2[offset2 + i]), power);
+        }
+        return Math.pow(distance, (double)1 / (double)power);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.neural.mlp2;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.base.data.neural.MultiLayerPerceptron;
+import org.knime.base.data.neural.MultiLayerPerceptronEvaluator;
+import org.knime.base.node.mine.util.PredictorHelper;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnProperties;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.renderer.DataValueRenderer;
+import org.knime.core.data.renderer.DoubleBarRenderer;
+
+/**
+ * This class generates the appended column with the classification or regression of a MultiLayerPerceptron. The
+ * network is compiled into dense weight arrays and the rows are scored concurrently.
+ *
+ * @author Nicolas Cebron, University of Konstanz
+ */
+final class MLPPredictorCellFactory extends AbstractCellFactory {
+
+    /*
+     * Flag whether regression is done or not.
+     */
+    private final boolean m_regression;
+
+    /*
+     * The compiled network, null if the factory is only used to create the output spec.
+     */
+    private final MultiLayerPerceptronEvaluator m_mlp;
+
+    /*
+     * The columns to work on.
+     */
+    private final int[] m_faccolumns;
+
+    private final boolean m_addProbs;
+
+    private final int m_nrPossValues;
+
+    /**
+     * A new AppendedColumnFactory that uses a MultiLayerPerceptron to classify new instances.
+     *
+     * @param regression indicates whether a regression should take place.
+     * @param columns to work on.
+     * @param classcolspec DataColumnSpec with target column.
+     * @param predictionColumn the name of the prediction column
+     * @param addProbs whether to append the class probabilities
+     * @param suffix the suffix of the probability columns
+     * @param mlp the network, <code>null</code> if only the output spec is needed
+     */
+    MLPPredictorCellFactory(final boolean regression, final int[] columns, final DataColumnSpec classcolspec,
+        final String predictionColumn, final boolean addProbs, final String suffix,
+        final MultiLayerPerceptron mlp) {
+        super(true, createColumnSpecs(regression, classcolspec, predictionColumn, addProbs, suffix));
+        m_regression = regression;
+        m_faccolumns = columns;
+        m_addProbs = addProbs;
+        m_mlp = mlp == null ? null : new MultiLayerPerceptronEvaluator(mlp);
+        m_nrPossValues = getPossibleValues(classcolspec).size();
+    }
+
+    private static Set<DataCell> getPossibleValues(final DataColumnSpec classcolspec) {
+        Set<DataCell> classvalues = classcolspec.getDomain().getValues();
+        if (classvalues == null) {
+            // no possible values information available.
+            classvalues = new HashSet<DataCell>();
+        }
+        return classvalues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        double[] inputs = new double[m_faccolumns.length];
+        for (int i = 0; i < m_faccolumns.length; i++) {
+            if (!row.getCell(m_faccolumns[i]).isMissing()) {
+                DoubleValue dv = (DoubleValue)row.getCell(m_faccolumns[i]);
+                inputs[i] = dv.getDoubleValue();
+            } else {
+                throw new IllegalArgumentException("Input DataTable" + " should not contain missing values.");
+            }
+        }
+        DataCell[] append;
+        double[] outputs = m_mlp.output(inputs);
+        if (m_regression) {
+            append = new DataCell[1];
+            append[0] = new DoubleCell(outputs[0]);
+        } else {
+            append = new DataCell[1 + (m_addProbs ? m_nrPossValues : 0)];
+            String output = m_mlp.getClassOutput(outputs);
+            if (m_addProbs) {
+                for (int i = 0; i < append.length - 1; i++) {
+                    append[i] = new DoubleCell(outputs[i]);
+                }
+            }
+            append[append.length - 1] = new StringCell(output);
+        }
+        return append;
+    }
+
+    private static DataColumnSpec[] createColumnSpecs(final boolean regression, final DataColumnSpec classcolspec,
+        final String predictionColumnName, final boolean addProbs, final String probabilitySuffix) {
+        DataType type;
+        if (regression) {
+            type = DoubleCell.TYPE;
+        } else {
+            type = StringCell.TYPE;
+        }
+        DataColumnSpec appendSpec = new DataColumnSpecCreator(predictionColumnName, type).createSpec();
+        DataColumnSpec[] allappSpec;
+
+        /*
+         * Regression
+         */
+        if (regression) {
+            allappSpec = new DataColumnSpec[1];
+            allappSpec[0] = appendSpec;
+
+        } else {
+            /*
+             * Classification
+             */
+            Set<DataCell> classvalues = getPossibleValues(classcolspec);
+            allappSpec = new DataColumnSpec[(addProbs ? classvalues.size() : 0) + 1];
+            if (addProbs) {
+                int index = 0;
+                DataColumnDomainCreator domaincreator = new DataColumnDomainCreator();
+                domaincreator.setLowerBound(new DoubleCell(0));
+                domaincreator.setUpperBound(new DoubleCell(1));
+                DataColumnDomain domain = domaincreator.createDomain();
+                final PredictorHelper ph = PredictorHelper.getInstance();
+                for (DataCell nomValue : classvalues) {
+                    final String name = ph.probabilityColumnName(classcolspec.getName(),
+                        ((StringValue)nomValue).getStringValue(), probabilitySuffix);
+                    type = DoubleCell.TYPE;
+                    DataColumnSpecCreator colspeccreator = new DataColumnSpecCreator(name, type);
+                    colspeccreator.setProperties(new DataColumnProperties(Collections.singletonMap(
+                        DataValueRenderer.PROPERTY_PREFERRED_RENDERER, DoubleBarRenderer.DESCRIPTION)));
+                    colspeccreator.setDomain(domain);
+                    allappSpec[index] = colspeccreator.createSpec();
+                    index++;
+                }
+            }
+            allappSpec[allappSpec.length - 1] = appendSpec;
+        }
+        return allappSpec;
+    }
+}
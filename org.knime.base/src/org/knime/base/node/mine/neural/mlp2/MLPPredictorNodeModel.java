@@ -49,31 +49,14 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.knime.base.data.neural.MultiLayerPerceptron;
 import org.knime.base.node.mine.util.PredictorHelper;
-import org.knime.core.data.DataCell;
-import org.knime.core.data.DataColumnDomain;
-import org.knime.core.data.DataColumnDomainCreator;
-import org.knime.core.data.DataColumnProperties;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
-import org.knime.core.data.RowKey;
-import org.knime.core.data.StringValue;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.def.DoubleCell;
-import org.knime.core.data.def.StringCell;
-import org.knime.core.data.renderer.DataValueRenderer;
-import org.knime.core.data.renderer.DoubleBarRenderer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -118,11 +101,6 @@ public final class MLPPredictorNodeModel extends NodeModel {
      */
     private MultiLayerPerceptron m_mlp;
 
-    /*
-     * The number of possible values in the class column.
-     */
-    private int m_nrPossValues;
-
     /*
      * The columns to work on.
      */
@@ -190,13 +168,15 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs)
         final String prediction =
             PredictorHelper.getInstance().checkedComputePredictionColumnName(m_predictionColumn.getStringValue(),
                 m_overridePrediction.getBooleanValue(), targetCol.getName());
-        MLPClassificationFactory mymlp;
+        MLPPredictorCellFactory mymlp;
         // Regression
         if (targetCol.getType().isCompatible(DoubleValue.class)) {
-            mymlp = new MLPClassificationFactory(true, m_columns, targetCol, prediction, m_appendProbs.getBooleanValue(), m_suffix.getStringValue());
+            mymlp = new MLPPredictorCellFactory(true, m_columns, targetCol, prediction, m_appendProbs.getBooleanValue(),
+                m_suffix.getStringValue(), null);
         } else {
             // Classification
-            mymlp = new MLPClassificationFactory(false, m_columns, targetCol, prediction, m_appendProbs.getBooleanValue(), m_suffix.getStringValue());
+            mymlp = new MLPPredictorCellFactory(false, m_columns, targetCol, prediction, m_appendProbs.getBooleanValue(),
+                m_suffix.getStringValue(), null);
         }
         ColumnRearranger colre = new ColumnRearranger(testSpec);
         colre.append(mymlp);
@@ -281,20 +261,20 @@ private ColumnRearranger createColumnRearranger(final PMMLPortObject pmmlPortObj
         DataColumnSpec targetCol = pmmlPortObject.getSpec().getTargetCols().iterator().next();
         final String predictionColumnName = PredictorHelper.getInstance().computePredictionColumnName(
             m_predictionColumn.getStringValue(), m_overridePrediction.getBooleanValue(), targetCol.getName());
-        MLPClassificationFactory mymlp;
+        MLPPredictorCellFactory mymlp;
         /*
          * Regression
          */
         if (m_mlp.getMode() == MultiLayerPerceptron.REGRESSION_MODE) {
 
-            mymlp = new MLPClassificationFactory(true, m_columns, targetCol, predictionColumnName,
-                m_appendProbs.getBooleanValue(), m_suffix.getStringValue());
+            mymlp = new MLPPredictorCellFactory(true, m_columns, targetCol, predictionColumnName,
+                m_appendProbs.getBooleanValue(), m_suffix.getStringValue(), m_mlp);
         } else if (m_mlp.getMode() == MultiLayerPerceptron.CLASSIFICATION_MODE) {
             /*
              * Classification
              */
-            mymlp = new MLPClassificationFactory(false, m_columns, targetCol, predictionColumnName,
-                m_appendProbs.getBooleanValue(), m_suffix.getStringValue());
+            mymlp = new MLPPredictorCellFactory(false, m_columns, targetCol, predictionColumnName,
+                m_appendProbs.getBooleanValue(), m_suffix.getStringValue(), m_mlp);
         } else {
             throw new Exception("Unsupported Mode: " + m_mlp.getMode());
         }
@@ -347,154 +327,6 @@ protected void validateSettings(final NodeSettingsRO settings)
         m_suffix.validateSettings(settings);
     }
 
-    /**
-     * This class generates the appended column with the classification from the
-     * WekaNodeModel.
-     *
-     * @author Nicolas Cebron, University of Konstanz
-     */
-    private class MLPClassificationFactory implements CellFactory {
-        private final String m_predictionColumnName;
-        private final String m_probabilitySuffices;
-
-        /*
-         * Flag whether regression is done or not.
-         */
-        private final boolean m_regression;
-
-        /*
-         * The columns to work on.
-         */
-        private final int[] m_faccolumns;
-
-        private final DataColumnSpec m_classcolspec;
-        private final boolean m_addProbs;
-
-        /**
-         * A new AppendedColumnFactory that uses a MultiLayerPerceptron to
-         * classify new instances.
-         *
-         * @param regression indicates whether a regression should take place.
-         * @param columns to work on.
-         * @param classcolspec DataColumnSpec with target column.
-         */
-        MLPClassificationFactory(final boolean regression, final int[] columns,
-                final DataColumnSpec classcolspec, final String predictionColumn, final boolean addProbs, final String suffix) {
-            m_regression = regression;
-            m_faccolumns = columns;
-            m_classcolspec = classcolspec;
-            m_predictionColumnName = predictionColumn;
-            m_addProbs = addProbs;
-            m_probabilitySuffices = suffix;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public DataCell[] getCells(final DataRow row) {
-            double[] inputs = new double[m_faccolumns.length];
-            for (int i = 0; i < m_faccolumns.length; i++) {
-                if (!row.getCell(m_faccolumns[i]).isMissing()) {
-                    DoubleValue dv = (DoubleValue)row.getCell(m_faccolumns[i]);
-                    inputs[i] = dv.getDoubleValue();
-                } else {
-                    throw new IllegalArgumentException("Input DataTable"
-                            + " should not contain missing values.");
-                }
-            }
-            DataCell[] append;
-            if (m_regression) {
-                append = new DataCell[1];
-                double[] outputs = m_mlp.output(inputs);
-                append[0] = new DoubleCell(outputs[0]);
-            } else {
-                append = new DataCell[1 + (m_addProbs ? m_nrPossValues : 0)];
-                String output = m_mlp.getClassOutput(inputs);
-                if (m_addProbs) {
-                    double[] outputs = m_mlp.output(inputs);
-                    for (int i = 0; i < append.length - 1; i++) {
-                        append[i] = new DoubleCell(outputs[i]);
-                    }
-                }
-                append[append.length - 1] = new StringCell(output);
-            }
-            return append;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public DataColumnSpec[] getColumnSpecs() {
-            DataType type;
-            if (m_regression) {
-                type = DoubleCell.TYPE;
-            } else {
-                type = StringCell.TYPE;
-            }
-            DataColumnSpec appendSpec =
-                    new DataColumnSpecCreator(m_predictionColumnName, type).createSpec();
-            DataColumnSpec[] allappSpec;
-
-            /*
-             * Regression
-             */
-            if (m_regression) {
-                allappSpec = new DataColumnSpec[1];
-                allappSpec[0] = appendSpec;
-
-            } else {
-                /*
-                 * Classification
-                 */
-                Set<DataCell> classvalues =
-                        m_classcolspec.getDomain().getValues();
-                if (classvalues == null) {
-                    // no possible values information available.
-                    classvalues = new HashSet<DataCell>();
-                }
-                m_nrPossValues = classvalues.size();
-                allappSpec = new DataColumnSpec[(m_addProbs?classvalues.size() : 0) + 1];
-                if (m_addProbs) {
-                    int index = 0;
-                    DataColumnDomainCreator domaincreator =
-                            new DataColumnDomainCreator();
-                    domaincreator.setLowerBound(new DoubleCell(0));
-                    domaincreator.setUpperBound(new DoubleCell(1));
-                    DataColumnDomain domain = domaincreator.createDomain();
-                    final PredictorHelper ph = PredictorHelper.getInstance();
-                    for (DataCell nomValue : classvalues) {
-                        final String name = ph.probabilityColumnName(m_classcolspec.getName(),
-                            ((StringValue)nomValue).getStringValue(), m_probabilitySuffices);
-                        type = DoubleCell.TYPE;
-                        DataColumnSpecCreator colspeccreator =
-                                new DataColumnSpecCreator(name, type);
-                        colspeccreator
-                        .setProperties(new DataColumnProperties(
-                            Collections.singletonMap(
-                                DataValueRenderer.PROPERTY_PREFERRED_RENDERER,
-                                DoubleBarRenderer.DESCRIPTION)));
-                        colspeccreator.setDomain(domain);
-                        allappSpec[index] = colspeccreator.createSpec();
-                        index++;
-                    }
-                }
-                allappSpec[allappSpec.length - 1] = appendSpec;
-            }
-            return allappSpec;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void setProgress(final int curRowNr, final int rowCount,
-                final RowKey lastKey, final ExecutionMonitor exec) {
-            exec.setProgress((double)curRowNr / (double)rowCount, "Prediction");
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
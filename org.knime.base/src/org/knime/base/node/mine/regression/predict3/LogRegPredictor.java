@@ -59,8 +59,6 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.math3.linear.MatrixUtils;
-import org.apache.commons.math3.linear.RealMatrix;
 import org.knime.base.node.mine.regression.RegressionTrainingRow;
 import org.knime.base.node.mine.regression.RegressionTrainingRow.MissingHandling;
 import org.knime.base.node.mine.regression.pmmlgreg.PMMLGeneralRegressionContent;
@@ -107,13 +105,16 @@ public final class LogRegPredictor extends RegressionPredictorCellFactory {
 
     private final String[] m_paramIdx2Predictor;
 
+    /** The parameters visited when scoring a row, resolved once. */
+    private final Term[] m_terms;
+
     // matrix
     // Number of Rows: dim(x)
     // Number of Cols: numTargetCategories
-    private RealMatrix m_beta = null;
+    private final double[][] m_beta;
     private boolean m_includeProbs;
     /** maps the indices of the values from m_targetCategories to the domain values of the target column. */
-    private Map<Integer, Integer> m_targetCategoryIndex;
+    private final int[] m_targetCategoryIndex;
     /** the number of domain values of the target column. */
     private int m_targetDomainValuesCount;
     /** from label to column name */
@@ -177,6 +178,7 @@ public LogRegPredictor(final PMMLGeneralRegressionContent content,
         m_values = determineFactorValues(m_content, m_trainingSpec);
         m_factors = m_values.keySet();
         m_beta = getBetaMatrix();
+        m_terms = compileTerms();
     }
 
 
@@ -202,15 +204,14 @@ private String[] createParameterIdx2PredictorMap() {
      * @return the mapping from the indices of the values from m_targetCategories to
      * the domain values of the target column.
      */
-    private Map<Integer, Integer> createTargetCategoryToOutputMap(final List<DataCell> targetCategories,
+    private static int[] createTargetCategoryToOutputMap(final List<DataCell> targetCategories,
         final DataColumnSpec targetColSpec) {
-        Map<Integer, Integer> targetCategoryIndex = new HashMap<>();
+        int[] targetCategoryIndex = new int[targetCategories.size()];
         List<DataCell> domainValues = new ArrayList<>();
         domainValues.addAll(targetColSpec.getDomain().getValues());
         int i = 0;
         for (DataCell cell : targetCategories) {
-            int index = domainValues.indexOf(cell);
-            targetCategoryIndex.put(i, index);
+            targetCategoryIndex[i] = domainValues.indexOf(cell);
             i++;
         }
         return targetCategoryIndex;
@@ -257,9 +258,120 @@ private static List<DataCell> determineTargetCategories(final DataColumnSpec tar
 
     @Override
     public DataCell[] getCells(final DataRow row) {
-        return new Prediction(row).getOutput();
+        final double[] logits = new double[m_targetCategories.size()];
+        for (final Term term : m_terms) {
+            double value = 1.0;
+            int offsetToNonZero = 0;
+            if (term.m_kind != Term.INTERCEPT) {
+                final DataCell cell = row.getCell(term.m_column);
+                if (cell.isMissing()) {
+                    // abort if missing value is encountered
+                    return createMissingOutput();
+                }
+                if (term.m_kind == Term.FACTOR) {
+                    final int index = term.indexOf(cell);
+                    // these are design variables
+                    /* When building a general regression model, for each
+                    categorical fields, there is one category used as the
+                    default baseline and therefore it didn't show in the
+                    ParameterList in PMML. This design for the training is fine,
+                    but in the prediction, when the input of Employment is
+                    the default baseline, the parameters should all be 0.
+                    See the commit message for an example and more details.
+                    */
+                    if (index > 0) {
+                        offsetToNonZero = index - 1;
+                    } else {
+                        value = 0.0;
+                    }
+                } else {
+                    final double radix = term.m_kind == Term.VECTOR
+                        ? RegressionTrainingRow.getValue(cell, term.m_vectorIndex, MISSING_HANDLING)
+                        : ((DoubleValue)cell).getDoubleValue();
+                    value = radix != 0.0 ? Math.pow(radix, term.m_exponent) : 0.0;
+                }
+            }
+            if (value != 0.0) {
+                final double[] beta = m_beta[term.m_parameter + offsetToNonZero];
+                for (int j = 0; j < logits.length; j++) {
+                    logits[j] += beta[j] * value;
+                }
+            }
+        }
+        return createOutput(logits);
     }
 
+    /*
+     * Resolves the parameters that are visited when scoring a row once, so that no lookups by name and no parsing
+     * happen per row. A factor is visited once for all of its design variables.
+     */
+    private Term[] compileTerms() {
+        final List<Term> terms = new ArrayList<>();
+        int step;
+        for (int i = 0; i < m_parameters.size(); i += step) {
+            final String parameter = m_parameters.get(i);
+            final String predictor = m_paramIdx2Predictor[i];
+            if (predictor == null) {
+                terms.add(new Term(Term.INTERCEPT, i, -1, 0, -1, null));
+                step = 1;
+                continue;
+            }
+            final int column = m_parameterI.get(parameter);
+            if (m_factors.contains(predictor)) {
+                final List<DataCell> values = m_values.get(predictor);
+                terms.add(new Term(Term.FACTOR, i, column, 0, -1, values));
+                // jump over all positions of the one-hot vector
+                step = Math.max(1, values.size() - 1);
+            } else {
+                final double exponent = Integer.parseInt(m_ppMatrix.getValue(parameter, predictor, null));
+                if (correspondsToVector(parameter)) {
+                    final NameAndIndex vectorValue = VectorHandling.parse(predictor)
+                        .orElseThrow(() -> new IllegalStateException("Can't find vector value for " + predictor));
+                    terms.add(new Term(Term.VECTOR, i, column, exponent, vectorValue.getIndex(), null));
+                } else {
+                    terms.add(new Term(Term.NUMERICAL, i, column, exponent, -1, null));
+                }
+                step = 1;
+            }
+        }
+        return terms.toArray(new Term[0]);
+    }
+
+    private boolean correspondsToVector(final String parameter) {
+        return m_baseLabelToColName.containsKey(parameter)
+            && m_vectorLengths.containsKey(m_baseLabelToColName.get(parameter));
+    }
+
+    private DataCell[] createOutput(final double[] logits) {
+        // determine the column with highest probability
+        int maxIndex = argMax(logits);
+
+        DataCell[] cells = m_includeProbs
+                ? new DataCell[1 + m_targetDomainValuesCount]
+                : new DataCell[1];
+
+        if (m_includeProbs) {
+            // compute probabilities of the target categories
+            for (int i = 0; i < m_targetCategories.size(); i++) {
+                cells[m_targetCategoryIndex[i]] = calculateProbability(logits, i);
+            }
+        }
+        // the last cell is the prediction
+        cells[cells.length - 1] = m_targetCategories.get(maxIndex);
+        return cells;
+    }
+
+    private DataCell[] createMissingOutput() {
+        int numTargetCategories = m_targetCategories.size();
+
+        DataCell[] cells = m_includeProbs
+                                  ? new DataCell[1 + numTargetCategories]
+                                  : new DataCell[1];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = DataType.getMissingCell();
+        }
+        return cells;
+    }
 
     private Optional<String> findPredictor(final String parameter) {
         String predictor;
@@ -275,181 +387,94 @@ private Optional<String> findPredictor(final String parameter) {
     }
 
 
-    private RealMatrix getBetaMatrix() {
+    private double[][] getBetaMatrix() {
         ParamMatrix paramMatrix = new ParamMatrix(m_content.getParamMatrix());
-        RealMatrix beta = MatrixUtils.createRealMatrix(m_parameters.size(), m_targetCategories.size());
+        double[][] beta = new double[m_parameters.size()][m_targetCategories.size()];
         for (int k = 0; k < m_targetCategories.size() - 1; k++) {
             for (int i = 0; i < m_parameters.size(); i++) {
-                double value = paramMatrix.getBeta(m_parameters.get(i), m_targetCategories.get(k).toString());
-                beta.setEntry(i, k, value);
+                beta[i][k] = paramMatrix.getBeta(m_parameters.get(i), m_targetCategories.get(k).toString());
             }
         }
         return beta;
     }
 
-    private class Prediction {
-
-        private DataCell[] m_predition;
-        private double[] m_logits;
-        private int m_step;
-        private double m_value;
-        private int m_offsetToNonZero;
-
-        public Prediction(final DataRow row) {
-            m_logits = new double[m_beta.getColumnDimension()];
-            for (int i = 0; i < m_parameters.size(); i += m_step) {
-                String parameter = m_parameters.get(i);
-                String predictor = m_paramIdx2Predictor[i];
-                if (predictor != null) {
-                    String value = m_ppMatrix.getValue(parameter, predictor, null);
-                    DataCell cell = row.getCell(m_parameterI.get(parameter));
-                    if (cell.isMissing()) {
-                        // abort if missing value is encountered
-                        m_predition = createMissingOutput();
-                        return;
-                    }
-                    if (m_factors.contains(predictor)) {
-                        handleFactor(predictor, cell);
-                    } else if (correspondsToVector(parameter)) {
-                        handleVector(predictor, cell, Integer.parseInt(value));
-                    } else {
-                        // numerical
-                        handleNumerical(cell, Integer.parseInt(value));
-                    }
-                } else {
-                    handleIntercept();
-                }
-
-                if (m_value != 0.0) {
-                    updateLogits(i);
-                }
+    private static int argMax(final double[] vector) {
+        int maxIndex = 0;
+        double maxValue = vector[0];
+        for (int i = 1; i < vector.length; i++) {
+            if (vector[i] > maxValue) {
+                maxValue = vector[i];
+                maxIndex = i;
             }
-            m_predition = createOutput();
         }
+        return maxIndex;
+    }
 
-        public DataCell[] getOutput() {
-            return m_predition;
+    private static DoubleCell calculateProbability(final double[] logits, final int classIdx) {
+        // test if calculation would overflow
+        boolean overflow = false;
+        for (int k = 0; k < logits.length; k++) {
+            if ((logits[k] - logits[classIdx]) > OVERFLOW_LIMIT) {
+                overflow = true;
+            }
         }
-
-        private DataCell[] createOutput() {
-         // determine the column with highest probability
-            int maxIndex = argMax(m_logits);
-
-            DataCell[] cells = m_includeProbs
-                    ? new DataCell[1 + m_targetDomainValuesCount]
-                    : new DataCell[1];
-
-
-            if (m_includeProbs) {
-                // compute probabilities of the target categories
-                for (int i = 0; i < m_targetCategories.size(); i++) {
-                        cells[m_targetCategoryIndex.get(i)] = calculateProbability(m_logits, i);
-                }
+        if (!overflow) {
+            double sum = 0;
+            for (int k = 0; k < logits.length; k++) {
+                sum += Math.exp(logits[k] - logits[classIdx]);
             }
-            // the last cell is the prediction
-            cells[cells.length - 1] = m_targetCategories.get(maxIndex);
-            return cells;
+            return new DoubleCell(1.0 / sum);
+        } else {
+            return new DoubleCell(0);
         }
+    }
 
-        private DataCell[] createMissingOutput() {
-            int numTargetCategories = m_targetCategories.size();
+    /** A parameter of the model together with everything needed to compute its value for a row. */
+    private static final class Term {
 
-            DataCell[] cells = m_includeProbs
-                                      ? new DataCell[1 + numTargetCategories]
-                                      : new DataCell[1];
-            for (int i = 0; i < cells.length; i++) {
-                cells[i] = DataType.getMissingCell();
-            }
-            return cells;
-        }
+        private static final int INTERCEPT = 0;
 
-        private void updateLogits(final int parameterIdx) {
-            for (int j = 0; j < m_logits.length; j++) {
-                m_logits[j] += m_beta.getEntry(parameterIdx + m_offsetToNonZero, j) * m_value;
-            }
-        }
+        private static final int FACTOR = 1;
 
-        private void handleIntercept() {
-            m_step = 1;
-            m_offsetToNonZero = 0;
-            m_value = 1.0;
-        }
+        private static final int VECTOR = 2;
 
-        private void handleFactor(final String predictor, final DataCell cell) {
-            List<DataCell> values = m_values.get(predictor);
-            int index = values.indexOf(cell);
-            // these are design variables
-            /* When building a general regression model, for each
-            categorical fields, there is one category used as the
-            default baseline and therefore it didn't show in the
-            ParameterList in PMML. This design for the training is fine,
-            but in the prediction, when the input of Employment is
-            the default baseline, the parameters should all be 0.
-            See the commit message for an example and more details.
-            */
-            if (index > 0) {
-                m_value = 1.0;
-                m_offsetToNonZero = index - 1;
-            } else {
-                m_value = 0.0;
-            }
-            // jump over all positions of the one-hot vector
-            m_step = values.size() - 1;
-        }
+        private static final int NUMERICAL = 3;
 
-        private void handleVector(final String predictor, final DataCell cell, final double exponent) {
-            NameAndIndex vectorValue = VectorHandling.parse(predictor)
-                    .orElseThrow(()-> new IllegalStateException("Can't find vector value for " + predictor));
-                int j = vectorValue.getIndex();
-                double radix = RegressionTrainingRow.getValue(cell, j, MISSING_HANDLING);
-               updateStateForNumerical(radix, exponent);
-        }
+        private final int m_kind;
 
-        private void handleNumerical(final DataCell cell, final double exponent) {
-            double radix = ((DoubleValue)cell).getDoubleValue();
-            updateStateForNumerical(radix, exponent);
-        }
+        private final int m_parameter;
 
-        private void updateStateForNumerical(final double radix, final double exponent) {
-            m_step = 1;
-            m_value = radix != 0.0 ? Math.pow(radix, exponent) : 0.0;
-            m_offsetToNonZero = 0;
-        }
+        private final int m_column;
 
-        private boolean correspondsToVector(final String parameter) {
-            return m_baseLabelToColName.containsKey(parameter) && m_vectorLengths.containsKey(m_baseLabelToColName.get(parameter));
-        }
+        private final double m_exponent;
 
+        private final int m_vectorIndex;
 
-        private int argMax(final double[] vector) {
-            int maxIndex = 0;
-            double maxValue = vector[0];
-            for (int i = 1; i < vector.length; i++) {
-                if (vector[i] > maxValue) {
-                    maxValue = vector[i];
-                    maxIndex = i;
+        private final List<DataCell> m_values;
+
+        /** The position of the first occurrence of each factor value. */
+        private final Map<DataCell, Integer> m_valueIndices;
+
+        private Term(final int kind, final int parameter, final int column, final double exponent,
+            final int vectorIndex, final List<DataCell> values) {
+            m_kind = kind;
+            m_parameter = parameter;
+            m_column = column;
+            m_exponent = exponent;
+            m_vectorIndex = vectorIndex;
+            m_values = values;
+            m_valueIndices = new HashMap<>();
+            if (values != null) {
+                for (int i = values.size() - 1; i >= 0; i--) {
+                    m_valueIndices.put(values.get(i), i);
                 }
             }
-            return maxIndex;
         }
 
-        private DoubleCell calculateProbability(final double[] logits, final int classIdx) {
-         // test if calculation would overflow
-            boolean overflow = false;
-            for (int k = 0; k < logits.length; k++) {
-                if ((logits[k] - logits[classIdx]) > OVERFLOW_LIMIT) {
-                    overflow = true;
-                }
-            }
-            if (!overflow) {
-                double sum = 0;
-                for (int k = 0; k < logits.length; k++) {
-                    sum += Math.exp(logits[k] - logits[classIdx]);
-                }
-                return new DoubleCell(1.0 / sum);
-            } else {
-                return new DoubleCell(0);
-            }
+        /* Same as List#indexOf on the factor values. */
+        private int indexOf(final DataCell cell) {
+            final Integer index = m_valueIndices.get(cell);
+            return index != null ? index : m_values.indexOf(cell);
         }
     }
 }
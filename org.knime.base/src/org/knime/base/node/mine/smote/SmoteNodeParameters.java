@@ -57,10 +57,13 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.webui.node.dialog.defaultdialog.internal.button.SimpleButtonWidget;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.StateComputationFailureException;
+import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.migration.DefaultProvider;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
+import org.knime.node.parameters.migration.Migration;
 import org.knime.node.parameters.persistence.NodeParametersPersistor;
 import org.knime.node.parameters.persistence.Persist;
 import org.knime.node.parameters.persistence.Persistor;
@@ -134,6 +137,25 @@ final class SmoteNodeParameters implements NodeParameters {
     @Persistor(SeedParametersPersistor.class)
     SeedParameters m_seedParameters = new SeedParameters();
 
+    @Persist(configKey = SmoteNodeModel.CFG_FAST_OVERSAMPLING)
+    @Widget(title = "Fast oversampling", description = """
+            If checked, the nearest neighbors are searched using an index and the synthetic rows are created
+            concurrently. For a static seed the output differs from the output of nodes created before this option
+            was introduced, which have it unchecked.
+            """)
+    @Migration(LoadFalseForOldNodesMigration.class)
+    @Advanced
+    boolean m_fastOversampling = true;
+
+    static final class LoadFalseForOldNodesMigration implements DefaultProvider<Boolean> {
+
+        @Override
+        public Boolean getDefault() {
+            return false;
+        }
+
+    }
+
     static final class SeedParameters implements NodeParameters {
 
         @Persist(hidden = true)
@@ -45,14 +45,18 @@
  */
 package org.knime.base.node.mine.smote;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.ListIterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
 
+import org.knime.base.node.mine.knn.KnnIndex;
+import org.knime.base.util.internal.ParallelTasks;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -71,6 +75,7 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 
 /**
  * Implementation of the <a
@@ -90,10 +95,19 @@
  */
 class Smoter {
 
+    /** Number of new rows that are created by one task. */
+    private static final int CHUNK_SIZE = 256;
+
+    /** Added to the seed for each chunk, the golden ratio scaled to 64 bit. */
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
     private final BufferedDataTable m_inTable;
 
     private final int m_targetCol;
 
+    /** Indices of the numeric columns, which are used for the distance. */
+    private final int[] m_numericCols;
+
     private final BufferedDataContainer m_container;
 
     private final LinkedHashMap<DataCell, MutableInt> m_inStats;
@@ -102,6 +116,8 @@ class Smoter {
 
     private final Random m_random;
 
+    private final boolean m_concurrent;
+
     /**
      * Creates a new instance given the input table <code>in</code> and the
      * target column <code>colName</code>.
@@ -111,10 +127,13 @@ class Smoter {
      * @param exec monitor to get canceled status from
      *  (may be <code>null</code>)
      * @param rand The random generator, may be <code>null</code>.
+     * @param concurrent whether the new rows are created concurrently, which
+     *  yields a different output for a given seed than in former versions
      * @throws CanceledExecutionException if execution is canceled
      */
     public Smoter(final BufferedDataTable in, final String colName,
-            final ExecutionContext exec, final Random rand)
+            final ExecutionContext exec, final Random rand,
+            final boolean concurrent)
         throws CanceledExecutionException {
         final int col = in.getDataTableSpec().findColumnIndex(colName);
         if (col < 0) {
@@ -122,8 +141,13 @@ public Smoter(final BufferedDataTable in, final String colName,
                     + colName);
         }
         m_random =  (rand == null ? new Random() : rand);
+        m_concurrent = concurrent;
         m_inTable = in;
         m_targetCol = col;
+        m_numericCols = IntStream.range(0, in.getDataTableSpec().getNumColumns())
+            .filter(i -> in.getDataTableSpec().getColumnSpec(i).getType()
+                .isCompatible(DoubleValue.class))
+            .toArray();
         DataTableSpec outSpec = createFinalSpec(in.getDataTableSpec());
         m_container = exec.createDataContainer(outSpec);
         m_inStats = new LinkedHashMap<DataCell, MutableInt>();
@@ -224,6 +248,12 @@ public void smote(final DataCell name, final int count, final int kNN,
         System.arraycopy(shuffleMe, 0, indexesToUse, fixedPart.length, lucky);
         Arrays.sort(indexesToUse);
 
+        final double[] points = readPoints(name, origCount, exec);
+        if (m_concurrent) {
+            smoteConcurrently(name, indexesToUse, points, origCount, kNN, exec);
+            return;
+        }
+
         // the counter in the input table for this particular class value
         int classCounter = -1;
         int pointer = 0;
@@ -237,10 +267,13 @@ public void smote(final DataCell name, final int count, final int kNN,
             }
             classCounter++;
             if (indexesToUse[pointer] == classCounter) {
-                DataRow[] neighbors = determineNeighbors(next, kNN, exec);
+                int[] neighbors =
+                    scanNeighbors(points, origCount, classCounter, kNN);
                 while (pointer < indexesToUse.length
                         && indexesToUse[pointer] == classCounter) {
-                    DataRow newRow = populate(next, neighbors);
+                    DataRow newRow = populate(next, neighbors, points,
+                        m_random, m_appendCounter);
+                    m_appendCounter++;
                     m_container.addRowToTable(newRow);
                     pointer++;
                     exec.setProgress(pointer / (double)count);
@@ -250,122 +283,311 @@ public void smote(final DataCell name, final int count, final int kNN,
     }
 
     /*
-     * Helper that determine the k NN of a given row. @param ref The reference
-     * vector @param kNN Number NN @return The nearest neighbor in an array.
+     * Creates the new rows in chunks of CHUNK_SIZE concurrently. Each chunk
+     * determines the neighbors of its reference rows using the index and
+     * draws from its own random generator, which is derived from the seed
+     * and the position of the chunk, so that the output does not depend on
+     * the number of threads.
      */
-    private DataRow[] determineNeighbors(final DataRow ref, final int kNN,
+    private void smoteConcurrently(final DataCell name,
+            final int[] indexesToUse, final double[] points,
+            final int classCount, final int kNN, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        final long seed = m_random.nextLong();
+        final KnnIndex index = hasMissingValues(points) ? null
+            : createIndex(points, classCount, name);
+        final int firstAppendCounter = m_appendCounter;
+        final int count = indexesToUse.length;
+        final Iterator<Callable<List<DataRow>>> tasks =
+            new Iterator<Callable<List<DataRow>>>() {
+                private final RowIterator m_it = m_inTable.iterator();
+
+                private DataRow m_row;
+
+                private int m_classCounter = -1;
+
+                private int m_start;
+
+                @Override
+                public boolean hasNext() {
+                    return m_start < count;
+                }
+
+                @Override
+                public Callable<List<DataRow>> next() {
+                    final int start = m_start;
+                    final int end = Math.min(start + CHUNK_SIZE, count);
+                    // the rows are read in the calling thread
+                    final DataRow[] refs = new DataRow[end - start];
+                    for (int p = start; p < end; p++) {
+                        while (m_classCounter < indexesToUse[p]) {
+                            m_row = m_it.next();
+                            if (m_row.getCell(m_targetCol).equals(name)) {
+                                m_classCounter++;
+                            }
+                        }
+                        refs[p - start] = m_row;
+                    }
+                    m_start = end;
+                    final Random random = new Random(
+                        seed + (start / CHUNK_SIZE) * SEED_INCREMENT);
+                    return () -> populateChunk(refs, indexesToUse, start,
+                        points, classCount, index, kNN, random,
+                        firstAppendCounter, exec);
+                }
+            };
+        try {
+            ParallelTasks.run(tasks,
+                2 * KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), rows -> {
+                    for (DataRow row : rows) {
+                        m_container.addRowToTable(row);
+                    }
+                    m_appendCounter += rows.size();
+                    exec.setProgress(
+                        (m_appendCounter - firstAppendCounter) / (double)count);
+                });
+        } catch (CanceledExecutionException cee) {
+            if (m_container.isOpen()) {
+                m_container.close();
+            }
+            throw cee;
+        }
+    }
+
+    /* Creates the new rows of a chunk, refs holds the reference row of each. */
+    private List<DataRow> populateChunk(final DataRow[] refs,
+            final int[] indexesToUse, final int start, final double[] points,
+            final int classCount, final KnnIndex index, final int kNN,
+            final Random random, final int firstAppendCounter,
             final ExecutionMonitor exec) throws CanceledExecutionException {
-        final DataCell clas = ref.getCell(m_targetCol);
-        LinkedList<RowAndDistance> list = new LinkedList<RowAndDistance>();
-        for (DataRow n : m_inTable) {
-            checkCanceled(exec);
-            // a potential neighbor?
-            if (n.getCell(m_targetCol).equals(clas) && !ref.equals(n)) {
-                double dis = distance(ref, n);
-                insertIntoList(list, n, dis, kNN);
+        final KnnIndex.Searcher searcher =
+            index == null ? null : index.createSearcher();
+        final double[] query = new double[m_numericCols.length];
+        final List<DataRow> rows = new ArrayList<>(refs.length);
+        int[] neighbors = null;
+        for (int i = 0; i < refs.length; i++) {
+            exec.checkCanceled();
+            final int reference = indexesToUse[start + i];
+            if (i == 0 || indexesToUse[start + i - 1] != reference) {
+                neighbors = searcher == null
+                    ? nearestNeighbors(points, classCount, reference, kNN)
+                    : searchNeighbors(searcher, points, query, classCount,
+                        reference, kNN);
             }
+            rows.add(populate(refs[i], neighbors, points, random,
+                firstAppendCounter + start + i));
         }
-        DataRow[] neighbors = new DataRow[list.size()];
-        int i = 0;
-        for (Iterator<RowAndDistance> it = list.iterator(); it.hasNext(); i++) {
-            RowAndDistance os = it.next();
-            neighbors[i] = os.getRow();
+        return rows;
+    }
+
+    /*
+     * Reads the numeric values of all rows of a class into a row-major
+     * array, missing values are represented by NaN.
+     */
+    private double[] readPoints(final DataCell name, final int classCount,
+            final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int dimensions = m_numericCols.length;
+        final double[] points = new double[classCount * dimensions];
+        int offset = 0;
+        for (DataRow row : m_inTable) {
+            checkCanceled(exec);
+            if (row.getCell(m_targetCol).equals(name)) {
+                for (int col : m_numericCols) {
+                    DataCell cell = row.getCell(col);
+                    points[offset++] = cell.isMissing() ? Double.NaN
+                        : ((DoubleValue)cell).getDoubleValue();
+                }
+            }
         }
-        return neighbors;
-        // TODO add asserts
+        return points;
     }
 
-    /* Helper to put a row into a list of a given length. */
-    private void insertIntoList(final LinkedList<RowAndDistance> list,
-            final DataRow row, final double dis, final int kNN) {
-        // insert into the list
-        ListIterator<RowAndDistance> lI = list.listIterator(list.size());
-        double lastdis = Double.POSITIVE_INFINITY;
-        while (lI.hasPrevious() && lastdis > dis) {
-            RowAndDistance last = lI.previous();
-            lastdis = last.getDist();
+    private static boolean hasMissingValues(final double[] points) {
+        for (double v : points) {
+            if (Double.isNaN(v)) {
+                return true;
+            }
         }
-        if (lI.hasNext()) {
-            lI.next();
+        return false;
+    }
+
+    private KnnIndex createIndex(final double[] points, final int classCount,
+            final DataCell name) {
+        final int dimensions = m_numericCols.length;
+        final KnnIndex.Builder builder = new KnnIndex.Builder(dimensions);
+        final double[] point = new double[dimensions];
+        for (int i = 0; i < classCount; i++) {
+            System.arraycopy(points, i * dimensions, point, 0, dimensions);
+            builder.addPoint(point, name);
         }
-        lI.add(new RowAndDistance(row, dis));
+        return builder.build();
+    }
 
-        // truncate the end of the list
-        if (list.size() <= kNN) {
-            return;
+    /*
+     * Determines the k nearest neighbors of a row of the class (the row
+     * itself excluded) using the index. Neighbors with equal distance are
+     * ordered by their position in the table.
+     */
+    private static int[] searchNeighbors(final KnnIndex.Searcher searcher,
+            final double[] points, final double[] query, final int classCount,
+            final int reference, final int kNN) {
+        System.arraycopy(points, reference * query.length, query, 0,
+                query.length);
+        final int k = Math.min(kNN, classCount - 1);
+        // the row itself is usually one of the k + 1 nearest rows
+        final int count = searcher.search(query, k + 1);
+        final int[] neighbors = new int[k];
+        int size = 0;
+        for (int i = 0; i < count && size < k; i++) {
+            final int ordinal = searcher.getNeighborOrdinal(i);
+            if (ordinal != reference) {
+                neighbors[size++] = ordinal;
+            }
         }
-        lI = list.listIterator(kNN - 1);
-        double maxDis = Double.POSITIVE_INFINITY;
-        if (lI.hasNext()) {
-            RowAndDistance last = lI.next();
-            maxDis = last.getDist();
+        return neighbors;
+    }
+
+    /*
+     * Same as searchNeighbors but scans all rows of the class, which is used
+     * if there are missing values as they don't contribute to the distance.
+     */
+    private int[] nearestNeighbors(final double[] points, final int classCount,
+            final int reference, final int kNN) {
+        final int dimensions = m_numericCols.length;
+        final int k = Math.min(kNN, classCount - 1);
+        final int[] rows = new int[k];
+        final double[] distances = new double[k];
+        int size = 0;
+        for (int row = 0; row < classCount && k > 0; row++) {
+            if (row == reference) {
+                continue;
+            }
+            final double dis = distance(points, reference * dimensions,
+                    row * dimensions, dimensions);
+            if (size == k) {
+                if (dis >= distances[k - 1]) {
+                    continue;
+                }
+                size--;
+            }
+            // insert behind all rows with smaller or equal distance
+            int pos = size;
+            while (pos > 0 && distances[pos - 1] > dis) {
+                pos--;
+            }
+            System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+            System.arraycopy(distances, pos, distances, pos + 1, size - pos);
+            rows[pos] = row;
+            distances[pos] = dis;
+            size++;
         }
-        while (lI.hasNext()) {
-            RowAndDistance last = lI.next();
-            double d = last.getDist();
-            if (d > maxDis) {
-                lI.remove();
+        return rows;
+    }
+
+    /*
+     * Determines the k nearest neighbors of a row of the class (the row
+     * itself excluded) by scanning all rows of the class, extended by all
+     * rows having the same distance as the k-th one. The rows are inserted
+     * into the list exactly as in former versions (including the insertion
+     * behind the first row if the new row is nearer than all others), so that
+     * the output doesn't change if the rows are not created concurrently.
+     */
+    private int[] scanNeighbors(final double[] points, final int classCount,
+            final int reference, final int kNN) {
+        final int dimensions = m_numericCols.length;
+        int[] rows = new int[Math.min(kNN, classCount) + 1];
+        double[] distances = new double[rows.length];
+        int size = 0;
+        for (int row = 0; row < classCount; row++) {
+            if (row == reference) {
+                continue;
+            }
+            final double dis = Math.sqrt(distance(points,
+                    reference * dimensions, row * dimensions, dimensions));
+            int pos = size;
+            while (pos > 0 && distances[pos - 1] > dis) {
+                pos--;
+            }
+            if (pos == 0 && size > 0) {
+                pos = 1;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * size);
+                distances = Arrays.copyOf(distances, 2 * size);
+            }
+            System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+            System.arraycopy(distances, pos, distances, pos + 1, size - pos);
+            rows[pos] = row;
+            distances[pos] = dis;
+            size++;
+            // remove the rows behind the k-th that are farther away
+            if (size > kNN) {
+                final double maxDis = distances[kNN - 1];
+                int kept = kNN;
+                for (int i = kNN; i < size; i++) {
+                    if (distances[i] <= maxDis) {
+                        rows[kept] = rows[i];
+                        distances[kept] = distances[i];
+                        kept++;
+                    }
+                }
+                size = kept;
             }
         }
+        return Arrays.copyOf(rows, size);
     }
 
-    /* Determines the Euclidean distance of two rows. */
-    private double distance(final DataRow row1, final DataRow row2) {
+    /*
+     * Determines the squared Euclidean distance of two rows, missing values
+     * don't contribute.
+     */
+    private static double distance(final double[] points, final int offset1,
+            final int offset2, final int dimensions) {
         double d = 0.0;
-        for (int i = 0; i < row1.getNumCells(); i++) {
-            DataType t = m_inTable.getDataTableSpec().getColumnSpec(i)
-                    .getType();
-            if (t.isCompatible(DoubleValue.class)) {
-                double dis;
-                DataCell fCell = row1.getCell(i);
-                DataCell tCell = row2.getCell(i);
-                if (fCell.isMissing() || tCell.isMissing()) {
-                    dis = 0.0;
-                } else {
-                    DoubleValue cell1 = (DoubleValue)fCell;
-                    DoubleValue cell2 = (DoubleValue)tCell;
-                    dis = cell1.getDoubleValue() - cell2.getDoubleValue();
-                }
+        for (int i = 0; i < dimensions; i++) {
+            final double dis = points[offset1 + i] - points[offset2 + i];
+            if (!Double.isNaN(dis)) {
                 d += dis * dis;
             }
         }
-        return Math.sqrt(d);
+        return d;
     }
 
     /*
      * populates a given row <code>ref</code>, choosing any neighbor from
      * <code>neighbors</code>.
      */
-    private DataRow populate(final DataRow ref, final DataRow[] neighbors) {
-        final double fraction = m_random.nextDouble();
-        final DataRow neigh;
+    private DataRow populate(final DataRow ref, final int[] neighbors,
+            final double[] points, final Random random,
+            final int appendCounter) {
+        final double fraction = random.nextDouble();
+        final int neigh;
         if (neighbors.length > 0) {
-            neigh = neighbors[m_random.nextInt(neighbors.length)];
+            neigh = neighbors[random.nextInt(neighbors.length)];
         } else {
-            neigh = ref;
+            neigh = -1;
         }
         DataCell[] newCells = new DataCell[ref.getNumCells()];
         for (int i = 0; i < newCells.length; i++) {
-            DataType t = m_inTable.getDataTableSpec().getColumnSpec(i)
-                    .getType();
-            if (t.isCompatible(DoubleValue.class)) {
-                DataCell fCell = ref.getCell(i);
-                DataCell tCell = neigh.getCell(i);
-                if (fCell.isMissing() || tCell.isMissing()) {
-                    newCells[i] = DataType.getMissingCell();
-                } else {
-                    double from = ((DoubleValue)fCell).getDoubleValue();
-                    double to = ((DoubleValue)tCell).getDoubleValue();
-                    double newVal = from + fraction * (to - from);
-                    newCells[i] = new DoubleCell(newVal);
-                }
+            newCells[i] = ref.getCell(i);
+        }
+        for (int d = 0; d < m_numericCols.length; d++) {
+            final int i = m_numericCols[d];
+            DataCell fCell = ref.getCell(i);
+            if (fCell.isMissing()) {
+                continue;
+            }
+            double from = ((DoubleValue)fCell).getDoubleValue();
+            double to = neigh < 0 ? from
+                : points[neigh * m_numericCols.length + d];
+            if (Double.isNaN(to)) {
+                newCells[i] = DataType.getMissingCell();
             } else {
-                newCells[i] = ref.getCell(i);
+                double newVal = from + fraction * (to - from);
+                newCells[i] = new DoubleCell(newVal);
             }
         }
-        String newName = ref.getKey().getString() + "dupl_"
-                + m_appendCounter;
-        m_appendCounter++;
+        String newName = ref.getKey().getString() + "dupl_" + appendCounter;
         RowKey key = new RowKey(newName);
         return new DefaultRow(key, newCells);
     }
@@ -490,34 +712,4 @@ public String toString() {
             return Integer.toString(m_int);
         }
     }
-
-    /** Helper that bind row to a distance. */
-    private static class RowAndDistance {
-        private final DataRow m_row;
-
-        private final double m_dist;
-
-        /**
-         * @param row The row of interest
-         * @param dist The distance of row to whatever
-         */
-        RowAndDistance(final DataRow row, final double dist) {
-            m_row = row;
-            m_dist = dist;
-        }
-
-        /**
-         * @return Returns the dist.
-         */
-        double getDist() {
-            return m_dist;
-        }
-
-        /**
-         * @return Returns the row.
-         */
-        DataRow getRow() {
-            return m_row;
-        }
-    }
 }
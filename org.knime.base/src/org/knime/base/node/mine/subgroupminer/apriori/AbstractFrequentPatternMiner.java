@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.base.node.mine.subgroupminer.freqitemset.AssociationRule;
+import org.knime.base.node.mine.subgroupminer.freqitemset.FrequentItemSet;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Base class of the depth first algorithms {@link FPGrowth} and {@link Eclat}. It determines the frequent items, lets
+ * the subclass split the search space into independent tasks which are mined in parallel and creates the frequent
+ * itemsets and association rules from the mined supports. The results are the same as (and in the same order as)
+ * those of the {@link ArrayApriori}: items which occur in every transaction are reported separately and are not
+ * combined with other items.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+abstract class AbstractFrequentPatternMiner implements AprioriAlgorithm {
+
+    private static final Comparator<ItemSet> LEXICOGRAPHIC_ORDER = (s1, s2) -> Arrays.compare(s1.m_items, s2.m_items);
+
+    private double m_minSupport;
+
+    private int m_dbsize;
+
+    private int m_maxLength;
+
+    private List<Integer> m_alwaysFrequentItems = new ArrayList<Integer>();
+
+    /** The mined itemsets in lexicographic order of their (sorted) items. */
+    private List<ItemSet> m_itemSets = new ArrayList<ItemSet>();
+
+    private Map<ItemSet, ItemSet> m_itemSetLookup = new HashMap<ItemSet, ItemSet>();
+
+    private int m_idCounter;
+
+    /**
+     * A part of the search space which can be mined independently of the other parts.
+     */
+    @FunctionalInterface
+    interface MiningTask {
+        /**
+         * Mines the itemsets of this part of the search space.
+         *
+         * @param result the list to add the found itemsets to
+         * @throws CanceledExecutionException if the execution was canceled
+         */
+        void mine(List<ItemSet> result) throws CanceledExecutionException;
+    }
+
+    /**
+     * Builds the data structure of the algorithm (e.g. the FP-tree) for the frequent items and splits the search
+     * space into tasks. The tasks are executed concurrently and must therefore only read shared state.
+     *
+     * @param transactions the database
+     * @param items the ids of the frequent items which are not contained in every transaction, in ascending order
+     * @param supports the absolute supports of the items
+     * @param exec the execution monitor used to check for cancellation
+     * @return the tasks which together find all frequent itemsets
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    abstract List<MiningTask> createTasks(List<BitVectorValue> transactions, int[] items, int[] supports,
+        ExecutionMonitor exec) throws CanceledExecutionException;
+
+    /**
+     * @param count the absolute support of an itemset
+     * @return <code>true</code> if an itemset with this support is frequent
+     */
+    final boolean isFrequent(final int count) {
+        return count > 0 && ((double)count / (double)m_dbsize) >= m_minSupport;
+    }
+
+    /**
+     * @return the maximal length of an itemset
+     */
+    final int getMaxLength() {
+        return m_maxLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void findFrequentItemSets(final List<BitVectorValue> transactions, final double minSupport,
+        final int maxDepth, final FrequentItemSet.Type type, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        m_minSupport = minSupport;
+        m_dbsize = transactions.size();
+        m_maxLength = Math.max(1, maxDepth);
+        m_alwaysFrequentItems = new ArrayList<Integer>();
+
+        int[] counts = new int[0];
+        for (BitVectorValue s : transactions) {
+            exec.checkCanceled();
+            // this type cast is save because the maximum length is checked in
+            // SubgroupMinerModel2#preprocess
+            for (int i = (int)s.nextSetBit(0); i >= 0; i = (int)s.nextSetBit(i + 1)) {
+                if (i >= counts.length) {
+                    counts = Arrays.copyOf(counts, Math.max(i + 1, 2 * counts.length));
+                }
+                counts[i]++;
+            }
+        }
+        int nrItems = 0;
+        int[] items = new int[counts.length];
+        int[] supports = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == m_dbsize && m_dbsize > 0) {
+                // items occurring in every transaction are not informative
+                m_alwaysFrequentItems.add(i);
+            } else if (isFrequent(counts[i])) {
+                items[nrItems] = i;
+                supports[nrItems++] = counts[i];
+            }
+        }
+
+        exec.setMessage("building data structure for " + nrItems + " frequent items");
+        final List<MiningTask> tasks = createTasks(transactions, Arrays.copyOf(items, nrItems),
+            Arrays.copyOf(supports, nrItems), exec);
+
+        final AtomicInteger finished = new AtomicInteger();
+        final List<Callable<List<ItemSet>>> callables = new ArrayList<Callable<List<ItemSet>>>(tasks.size());
+        for (final MiningTask task : tasks) {
+            callables.add(() -> {
+                final List<ItemSet> result = new ArrayList<ItemSet>();
+                task.mine(result);
+                exec.setProgress(finished.incrementAndGet() / (double)tasks.size(),
+                    "mined " + finished.get() + " of " + tasks.size() + " frequent items");
+                return result;
+            });
+        }
+
+        m_itemSets = new ArrayList<ItemSet>();
+        for (List<ItemSet> result : ParallelTasks.run(callables)) {
+            m_itemSets.addAll(result);
+        }
+        m_itemSets.sort(LEXICOGRAPHIC_ORDER);
+        m_itemSetLookup = new HashMap<ItemSet, ItemSet>(2 * m_itemSets.size());
+        for (ItemSet set : m_itemSets) {
+            m_itemSetLookup.put(set, set);
+        }
+        // a set is closed if no frequent superset has the same support, it is
+        // enough to look at the supersets with one more item
+        for (ItemSet set : m_itemSets) {
+            exec.checkCanceled();
+            if (set.m_items.length < 2) {
+                continue;
+            }
+            for (int i = 0; i < set.m_items.length; i++) {
+                ItemSet subset = lookup(set.m_items, i);
+                subset.m_extended = true;
+                if (subset.m_count == set.m_count) {
+                    subset.m_closed = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FrequentItemSet> getFrequentItemSets(final FrequentItemSet.Type type) {
+        List<FrequentItemSet> list = new ArrayList<FrequentItemSet>();
+        List<ItemSet> sets = new ArrayList<ItemSet>();
+        for (Integer i : m_alwaysFrequentItems) {
+            List<Integer> id = new ArrayList<Integer>();
+            id.add(i);
+            list.add(new FrequentItemSet(Integer.toString(m_idCounter++), id, 1));
+            sets.add(null);
+        }
+        for (ItemSet set : m_itemSets) {
+            list.add(toFrequentItemSet(set));
+            sets.add(set);
+        }
+        if (type.equals(FrequentItemSet.Type.FREE)) {
+            return list;
+        }
+        // same (stable) order as the closed itemsets of the ArrayApriori
+        Integer[] order = new Integer[list.size()];
+        double[] supports = new double[list.size()];
+        int[] sizes = new int[list.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            supports[i] = list.get(i).getSupport();
+            sizes[i] = sets.get(i) == null ? 1 : sets.get(i).m_items.length;
+        }
+        Arrays.sort(order, (o1, o2) -> {
+            if (supports[o1] == supports[o2]) {
+                return sizes[o1] - sizes[o2];
+            }
+            return Double.compare(supports[o1], supports[o2]);
+        });
+        List<FrequentItemSet> resultList = new ArrayList<FrequentItemSet>();
+        for (Integer i : order) {
+            ItemSet set = sets.get(i);
+            if (set == null || (set.m_closed
+                    && !(type.equals(FrequentItemSet.Type.MAXIMAL) && set.m_extended))) {
+                FrequentItemSet frequentSet = list.get(i);
+                frequentSet.setClosed(true);
+                resultList.add(frequentSet);
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AssociationRule> getAssociationRules(final double confidence) {
+        List<AssociationRule> associationRules = new ArrayList<AssociationRule>();
+        // always frequent items have confidence = 1 and support = dbsize
+        for (Integer i : m_alwaysFrequentItems) {
+            List<Integer> withoutI = new ArrayList<Integer>(m_alwaysFrequentItems);
+            withoutI.remove(i);
+            AssociationRule rule = new AssociationRule(
+                new FrequentItemSet(Integer.toString(m_idCounter++), withoutI, 1.0),
+                new FrequentItemSet(Integer.toString(m_idCounter++), Collections.singletonList(i), 1.0), 1.0, 1.0,
+                1.0);
+            associationRules.add(rule);
+        }
+        for (FrequentItemSet s : getFrequentItemSets(FrequentItemSet.Type.CLOSED)) {
+            List<Integer> items = s.getItems();
+            if (items.size() < 2) {
+                continue;
+            }
+            int[] itemArray = items.stream().mapToInt(Integer::intValue).toArray();
+            for (int i = 0; i < itemArray.length; i++) {
+                double newSupport = getSupport(lookup(itemArray, i));
+                double c = s.getSupport() / newSupport;
+                if (c >= confidence) {
+                    List<Integer> sWithoutI = new ArrayList<Integer>(items);
+                    sWithoutI.remove(i);
+                    double itemSupport = getSupport(m_itemSetLookup.get(new ItemSet(new int[]{itemArray[i]}, -1)));
+                    AssociationRule rule = new AssociationRule(
+                        new FrequentItemSet(Integer.toString(m_idCounter++), sWithoutI, newSupport),
+                        new FrequentItemSet(Integer.toString(m_idCounter++),
+                            Collections.singletonList(itemArray[i]), itemSupport),
+                        s.getSupport(), c, c / itemSupport);
+                    associationRules.add(rule);
+                }
+            }
+        }
+        return associationRules;
+    }
+
+    private double getSupport(final ItemSet set) {
+        return (double)set.m_count / (double)m_dbsize;
+    }
+
+    private FrequentItemSet toFrequentItemSet(final ItemSet set) {
+        List<Integer> items = new ArrayList<Integer>(set.m_items.length);
+        for (int item : set.m_items) {
+            items.add(item);
+        }
+        return new FrequentItemSet(Integer.toString(m_idCounter++), items, getSupport(set));
+    }
+
+    /* Returns the mined subset of the passed itemset without the item at the given position. */
+    private ItemSet lookup(final int[] items, final int without) {
+        int[] subset = new int[items.length - 1];
+        System.arraycopy(items, 0, subset, 0, without);
+        System.arraycopy(items, without + 1, subset, without, subset.length - without);
+        return m_itemSetLookup.get(new ItemSet(subset, -1));
+    }
+
+    /**
+     * An itemset found by a {@link MiningTask} together with its absolute support.
+     */
+    static final class ItemSet {
+
+        private final int[] m_items;
+
+        private final int m_count;
+
+        private boolean m_closed = true;
+
+        private boolean m_extended;
+
+        /**
+         * @param items the items, the first <code>length</code> ones are copied
+         * @param length the number of items
+         * @param count the absolute support
+         */
+        ItemSet(final int[] items, final int length, final int count) {
+            m_items = Arrays.copyOf(items, length);
+            Arrays.sort(m_items);
+            m_count = count;
+        }
+
+        private ItemSet(final int[] sortedItems, final int count) {
+            m_items = sortedItems;
+            m_count = count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(m_items);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ItemSet && Arrays.equals(m_items, ((ItemSet)obj).m_items);
+        }
+    }
+}
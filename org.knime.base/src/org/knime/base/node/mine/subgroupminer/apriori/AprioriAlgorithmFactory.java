@@ -80,7 +80,27 @@ Array is recommended when the number of transactions (rows) is larger than the n
                 TIDList is recommended if the number of rows is small and the number of items large.
                 TIDList needs less memory but is slower compared to Array.
                 """)
-        TIDList;
+        TIDList,
+        /**
+         * The FP-tree stores the transactions as a prefix tree.
+         *
+         * @since 5.12
+         */
+        @Label(value = "FP-growth", description = """
+                FP-growth compresses the transactions into a prefix tree and mines it without candidate generation.
+                It is recommended for large databases and low minimum supports and uses all available cores.
+                """)
+        FP_GROWTH,
+        /**
+         * Eclat stores the ids of the transactions as compressed lists.
+         *
+         * @since 5.12
+         */
+        @Label(value = "Eclat", description = """
+                Eclat intersects the compressed lists of transaction ids of the items in a depth first search.
+                It is recommended for dense data with many items per transaction and uses all available cores.
+                """)
+        ECLAT;
 
         /**
          * Returns the values of this enum as a list of strings.
@@ -118,6 +138,10 @@ public static AprioriAlgorithm getAprioriAlgorithm(
             return new ArrayApriori(bitSetLength, dbsize);
         } else if (type.equals(AlgorithmDataStructure.TIDList)) {
             return new TIDApriori();
+        } else if (type.equals(AlgorithmDataStructure.FP_GROWTH)) {
+            return new FPGrowth();
+        } else if (type.equals(AlgorithmDataStructure.ECLAT)) {
+            return new Eclat();
         } else {
             throw new RuntimeException("Type not supported: " + type);
         }
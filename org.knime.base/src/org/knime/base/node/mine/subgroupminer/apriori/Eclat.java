@@ -0,0 +1,277 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * The Eclat algorithm stores for each frequent item the ids of the transactions it occurs in and searches the
+ * itemsets depth first. The transaction ids of an itemset are the intersection of the ids of its items. The ids are
+ * kept either as a sorted array or as a bitmap over the range of transactions they span, whichever needs less memory,
+ * so that the lists of rare as well as of frequent itemsets stay compact. The itemsets starting with the different
+ * frequent items are mined in parallel.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class Eclat extends AbstractFrequentPatternMiner {
+
+    @Override
+    List<MiningTask> createTasks(final List<BitVectorValue> transactions, final int[] items, final int[] supports,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        // items with a small support first keep the equivalence classes small
+        Integer[] order = new Integer[items.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> supports[i1] == supports[i2] ? Integer.compare(i1, i2)
+            : Integer.compare(supports[i1], supports[i2]));
+        int[] index = new int[items.length == 0 ? 0 : items[items.length - 1] + 1];
+        Arrays.fill(index, -1);
+        int[] classItems = new int[items.length];
+        int[][] tids = new int[items.length][];
+        for (int i = 0; i < order.length; i++) {
+            classItems[i] = items[order[i]];
+            index[classItems[i]] = i;
+            tids[i] = new int[supports[order[i]]];
+        }
+        int[] sizes = new int[items.length];
+        int tid = 0;
+        for (BitVectorValue transaction : transactions) {
+            exec.checkCanceled();
+            for (int i = (int)transaction.nextSetBit(0); i >= 0 && i < index.length;
+                    i = (int)transaction.nextSetBit(i + 1)) {
+                if (index[i] >= 0) {
+                    tids[index[i]][sizes[index[i]]++] = tid;
+                }
+            }
+            tid++;
+        }
+        final TIDList[] tidLists = new TIDList[items.length];
+        for (int i = 0; i < items.length; i++) {
+            tidLists[i] = TIDList.create(tids[i]);
+            tids[i] = null;
+        }
+
+        List<MiningTask> tasks = new ArrayList<MiningTask>(items.length);
+        for (int i = 0; i < items.length; i++) {
+            final int item = i;
+            tasks.add(result -> {
+                int[] prefix = new int[getMaxLength()];
+                prefix[0] = classItems[item];
+                result.add(new ItemSet(prefix, 1, tidLists[item].cardinality()));
+                if (getMaxLength() > 1) {
+                    List<Integer> extensions = new ArrayList<Integer>();
+                    List<TIDList> extensionTIDs = new ArrayList<TIDList>();
+                    for (int j = item + 1; j < items.length; j++) {
+                        TIDList intersection = tidLists[item].intersect(tidLists[j]);
+                        if (isFrequent(intersection.cardinality())) {
+                            extensions.add(classItems[j]);
+                            extensionTIDs.add(intersection);
+                        }
+                    }
+                    mine(extensions, extensionTIDs, prefix, 1, result, exec);
+                }
+            });
+        }
+        return tasks;
+    }
+
+    /* Mines the equivalence class of the prefix with the passed extensions. */
+    private void mine(final List<Integer> extensions, final List<TIDList> extensionTIDs, final int[] prefix,
+        final int depth, final List<ItemSet> result, final ExecutionMonitor exec) throws CanceledExecutionException {
+        exec.checkCanceled();
+        for (int i = 0; i < extensions.size(); i++) {
+            prefix[depth] = extensions.get(i);
+            TIDList tids = extensionTIDs.get(i);
+            result.add(new ItemSet(prefix, depth + 1, tids.cardinality()));
+            if (depth + 1 < getMaxLength() && i + 1 < extensions.size()) {
+                List<Integer> newExtensions = new ArrayList<Integer>();
+                List<TIDList> newExtensionTIDs = new ArrayList<TIDList>();
+                for (int j = i + 1; j < extensions.size(); j++) {
+                    TIDList intersection = tids.intersect(extensionTIDs.get(j));
+                    if (isFrequent(intersection.cardinality())) {
+                        newExtensions.add(extensions.get(j));
+                        newExtensionTIDs.add(intersection);
+                    }
+                }
+                mine(newExtensions, newExtensionTIDs, prefix, depth + 1, result, exec);
+            }
+        }
+    }
+
+    /**
+     * An immutable set of transaction ids, which is either a sorted array of the ids or a bitmap whose first word
+     * covers the ids from <code>64 * offset</code> on.
+     */
+    private static final class TIDList {
+
+        private final int[] m_ids;
+
+        private final long[] m_words;
+
+        private final int m_offset;
+
+        private final int m_cardinality;
+
+        private TIDList(final int[] ids, final long[] words, final int offset, final int cardinality) {
+            m_ids = ids;
+            m_words = words;
+            m_offset = offset;
+            m_cardinality = cardinality;
+        }
+
+        /* Creates the more compact representation of the sorted ids. */
+        static TIDList create(final int[] ids) {
+            if (ids.length == 0) {
+                return new TIDList(ids, null, 0, 0);
+            }
+            final int offset = ids[0] >>> 6;
+            final int nrWords = (ids[ids.length - 1] >>> 6) - offset + 1;
+            if (ids.length < 2 * nrWords) {
+                return new TIDList(ids, null, 0, ids.length);
+            }
+            long[] words = new long[nrWords];
+            for (int id : ids) {
+                words[(id >>> 6) - offset] |= 1L << id;
+            }
+            return new TIDList(null, words, offset, ids.length);
+        }
+
+        int cardinality() {
+            return m_cardinality;
+        }
+
+        private boolean contains(final int id) {
+            final int word = (id >>> 6) - m_offset;
+            return word >= 0 && word < m_words.length && (m_words[word] & (1L << id)) != 0;
+        }
+
+        TIDList intersect(final TIDList other) {
+            if (m_ids != null && other.m_ids != null) {
+                return intersectArrays(m_ids, other.m_ids);
+            }
+            if (m_ids != null) {
+                return other.intersectArray(m_ids);
+            }
+            if (other.m_ids != null) {
+                return intersectArray(other.m_ids);
+            }
+            return intersectBitmaps(other);
+        }
+
+        private static TIDList intersectArrays(final int[] ids1, final int[] ids2) {
+            int[] ids = new int[Math.min(ids1.length, ids2.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < ids1.length && j < ids2.length) {
+                if (ids1[i] < ids2[j]) {
+                    i++;
+                } else if (ids1[i] > ids2[j]) {
+                    j++;
+                } else {
+                    ids[size++] = ids1[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new TIDList(Arrays.copyOf(ids, size), null, 0, size);
+        }
+
+        private TIDList intersectArray(final int[] ids) {
+            int[] intersection = new int[Math.min(ids.length, m_cardinality)];
+            int size = 0;
+            for (int id : ids) {
+                if (contains(id)) {
+                    intersection[size++] = id;
+                }
+            }
+            return new TIDList(Arrays.copyOf(intersection, size), null, 0, size);
+        }
+
+        private TIDList intersectBitmaps(final TIDList other) {
+            final int from = Math.max(m_offset, other.m_offset);
+            final int to = Math.min(m_offset + m_words.length, other.m_offset + other.m_words.length);
+            int first = -1;
+            int last = -1;
+            int cardinality = 0;
+            long[] words = new long[Math.max(0, to - from)];
+            for (int w = from; w < to; w++) {
+                final long word = m_words[w - m_offset] & other.m_words[w - other.m_offset];
+                if (word != 0) {
+                    words[w - from] = word;
+                    cardinality += Long.bitCount(word);
+                    first = first < 0 ? w : first;
+                    last = w;
+                }
+            }
+            if (cardinality == 0) {
+                return new TIDList(new int[0], null, 0, 0);
+            }
+            final int nrWords = last - first + 1;
+            if (cardinality < 2 * nrWords) {
+                int[] ids = new int[cardinality];
+                int size = 0;
+                for (int w = first; w <= last; w++) {
+                    for (long word = words[w - from]; word != 0; word &= word - 1) {
+                        ids[size++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    }
+                }
+                return new TIDList(ids, null, 0, cardinality);
+            }
+            return new TIDList(null, Arrays.copyOfRange(words, first - from, last - from + 1), first, cardinality);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.subgroupminer.apriori;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * The FP-growth algorithm compresses the database into a prefix tree (the FP-tree) of the transactions, whose frequent
+ * items are sorted by descending support. The itemsets ending with an item are mined from the conditional pattern
+ * base of this item, that is, from the paths leading to the item in the tree. They are compressed into a conditional
+ * FP-tree again and mined recursively. Hence, neither candidates are generated nor is the database scanned more than
+ * twice. The conditional pattern bases of the frequent items are mined in parallel.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class FPGrowth extends AbstractFrequentPatternMiner {
+
+    @Override
+    List<MiningTask> createTasks(final List<BitVectorValue> transactions, final int[] items, final int[] supports,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        // the tree items are ranked by descending support
+        Integer[] order = new Integer[items.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> supports[i1] == supports[i2] ? Integer.compare(i1, i2)
+            : Integer.compare(supports[i2], supports[i1]));
+        int[] treeItems = new int[items.length];
+        int[] rank = new int[items.length == 0 ? 0 : items[items.length - 1] + 1];
+        Arrays.fill(rank, -1);
+        for (int r = 0; r < order.length; r++) {
+            treeItems[r] = items[order[r]];
+            rank[treeItems[r]] = r;
+        }
+
+        final FPTree tree = new FPTree(treeItems);
+        int[] path = new int[items.length];
+        for (BitVectorValue transaction : transactions) {
+            exec.checkCanceled();
+            int length = 0;
+            for (int i = (int)transaction.nextSetBit(0); i >= 0 && i < rank.length;
+                    i = (int)transaction.nextSetBit(i + 1)) {
+                if (rank[i] >= 0) {
+                    path[length++] = rank[i];
+                }
+            }
+            Arrays.sort(path, 0, length);
+            tree.insert(path, length, 1);
+        }
+
+        List<MiningTask> tasks = new ArrayList<MiningTask>(items.length);
+        for (int r = items.length - 1; r >= 0; r--) {
+            final int item = r;
+            tasks.add(result -> {
+                int[] prefix = new int[getMaxLength()];
+                prefix[0] = tree.m_items[item];
+                result.add(new ItemSet(prefix, 1, tree.m_itemCounts[item]));
+                if (getMaxLength() > 1) {
+                    FPTree conditional = tree.createConditionalTree(item, this);
+                    if (conditional != null) {
+                        mine(conditional, prefix, 1, result, exec);
+                    }
+                }
+            });
+        }
+        return tasks;
+    }
+
+    private void mine(final FPTree tree, final int[] prefix, final int depth, final List<ItemSet> result,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        exec.checkCanceled();
+        for (int r = tree.m_items.length - 1; r >= 0; r--) {
+            prefix[depth] = tree.m_items[r];
+            result.add(new ItemSet(prefix, depth + 1, tree.m_itemCounts[r]));
+            if (depth + 1 < getMaxLength()) {
+                FPTree conditional = tree.createConditionalTree(r, this);
+                if (conditional != null) {
+                    mine(conditional, prefix, depth + 1, result, exec);
+                }
+            }
+        }
+    }
+
+    /**
+     * An FP-tree whose nodes are stored in parallel arrays. The items of the tree are identified by their rank, the
+     * children of a node always have a higher rank than the node itself. The nodes of the same item are linked.
+     */
+    private static final class FPTree {
+
+        private static final int ROOT = 0;
+
+        /** The item ids of the ranks. */
+        private final int[] m_items;
+
+        /** The summed up counts of the nodes of each rank. */
+        private final int[] m_itemCounts;
+
+        /** The first node of each rank. */
+        private final int[] m_firstNodes;
+
+        /** The children of the root by rank, the number of items is often too large for a linear search. */
+        private final int[] m_rootChildren;
+
+        private int[] m_nodeItems;
+
+        private int[] m_nodeCounts;
+
+        private int[] m_parents;
+
+        private int[] m_firstChildren;
+
+        private int[] m_nextSiblings;
+
+        private int[] m_nextNodes;
+
+        private int m_size;
+
+        FPTree(final int[] items) {
+            m_items = items;
+            m_itemCounts = new int[items.length];
+            m_firstNodes = new int[items.length];
+            m_rootChildren = new int[items.length];
+            Arrays.fill(m_firstNodes, -1);
+            Arrays.fill(m_rootChildren, -1);
+            int capacity = 16;
+            m_nodeItems = new int[capacity];
+            m_nodeCounts = new int[capacity];
+            m_parents = new int[capacity];
+            m_firstChildren = new int[capacity];
+            m_nextSiblings = new int[capacity];
+            m_nextNodes = new int[capacity];
+            // the root
+            m_nodeItems[ROOT] = -1;
+            m_parents[ROOT] = -1;
+            m_firstChildren[ROOT] = -1;
+            m_nextSiblings[ROOT] = -1;
+            m_nextNodes[ROOT] = -1;
+            m_size = 1;
+        }
+
+        /* Inserts the path of ascending ranks with the given count. */
+        void insert(final int[] path, final int length, final int count) {
+            int node = ROOT;
+            for (int i = 0; i < length; i++) {
+                final int rank = path[i];
+                int child = node == ROOT ? m_rootChildren[rank] : m_firstChildren[node];
+                while (child >= 0 && m_nodeItems[child] != rank) {
+                    child = m_nextSiblings[child];
+                }
+                if (child < 0) {
+                    child = createNode(node, rank);
+                }
+                m_nodeCounts[child] += count;
+                m_itemCounts[rank] += count;
+                node = child;
+            }
+        }
+
+        private int createNode(final int parent, final int rank) {
+            if (m_size == m_nodeItems.length) {
+                int capacity = 2 * m_size;
+                m_nodeItems = Arrays.copyOf(m_nodeItems, capacity);
+                m_nodeCounts = Arrays.copyOf(m_nodeCounts, capacity);
+                m_parents = Arrays.copyOf(m_parents, capacity);
+                m_firstChildren = Arrays.copyOf(m_firstChildren, capacity);
+                m_nextSiblings = Arrays.copyOf(m_nextSiblings, capacity);
+                m_nextNodes = Arrays.copyOf(m_nextNodes, capacity);
+            }
+            final int node = m_size++;
+            m_nodeItems[node] = rank;
+            m_nodeCounts[node] = 0;
+            m_parents[node] = parent;
+            m_firstChildren[node] = -1;
+            if (parent == ROOT) {
+                m_nextSiblings[node] = -1;
+                m_rootChildren[rank] = node;
+            } else {
+                m_nextSiblings[node] = m_firstChildren[parent];
+                m_firstChildren[parent] = node;
+            }
+            m_nextNodes[node] = m_firstNodes[rank];
+            m_firstNodes[rank] = node;
+            return node;
+        }
+
+        /*
+         * Creates the FP-tree of the conditional pattern base of the passed
+         * rank, i.e. of the prefix paths of its nodes, restricted to the items
+         * which are frequent within the base. Returns null if there are none.
+         */
+        FPTree createConditionalTree(final int rank, final AbstractFrequentPatternMiner miner) {
+            int[] counts = new int[rank];
+            for (int node = m_firstNodes[rank]; node >= 0; node = m_nextNodes[node]) {
+                final int count = m_nodeCounts[node];
+                for (int p = m_parents[node]; p != ROOT; p = m_parents[p]) {
+                    counts[m_nodeItems[p]] += count;
+                }
+            }
+            // the ranks of the conditional tree keep the order of this tree
+            int[] conditionalRank = new int[rank];
+            int nrItems = 0;
+            for (int r = 0; r < rank; r++) {
+                conditionalRank[r] = miner.isFrequent(counts[r]) ? nrItems++ : -1;
+            }
+            if (nrItems == 0) {
+                return null;
+            }
+            int[] items = new int[nrItems];
+            for (int r = 0; r < rank; r++) {
+                if (conditionalRank[r] >= 0) {
+                    items[conditionalRank[r]] = m_items[r];
+                }
+            }
+            FPTree tree = new FPTree(items);
+            int[] path = new int[nrItems];
+            for (int node = m_firstNodes[rank]; node >= 0; node = m_nextNodes[node]) {
+                int length = 0;
+                for (int p = m_parents[node]; p != ROOT; p = m_parents[p]) {
+                    final int r = conditionalRank[m_nodeItems[p]];
+                    if (r >= 0) {
+                        path[length++] = r;
+                    }
+                }
+                // the path was collected bottom up
+                for (int i = 0, j = length - 1; i < j; i++, j--) {
+                    final int swap = path[i];
+                    path[i] = path[j];
+                    path[j] = swap;
+                }
+                tree.insert(path, length, m_nodeCounts[node]);
+            }
+            return tree;
+        }
+    }
+}
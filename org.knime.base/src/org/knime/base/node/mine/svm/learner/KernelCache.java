@@ -0,0 +1,206 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.mine.svm.learner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.knime.base.node.mine.svm.kernel.Kernel;
+import org.knime.base.node.mine.svm.util.DoubleVector;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * A least-recently-used cache of kernel matrix rows, shared by all binary SVMs that are trained on the same input
+ * data. The kernel values do not depend on the positive class, so the one-vs-rest models of a multi-class problem
+ * can reuse each other's rows. All values are computed by {@link Kernel#evaluate(DoubleVector, DoubleVector)}, so
+ * a training run with the cache yields exactly the same model as one without.
+ *
+ * <p>
+ * This class is thread-safe. Long rows are computed in parallel chunks.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class KernelCache {
+
+    /** The default memory budget in megabytes. */
+    public static final int DEFAULT_CACHE_SIZE_MB = 256;
+
+    /* Rows of at least this length are computed in parallel. */
+    private static final int MIN_PARALLEL_ROW_LENGTH = 1 << 14;
+
+    private final DoubleVector[] m_inputData;
+
+    private final Kernel m_kernel;
+
+    private final double[] m_diagonal;
+
+    private final int m_maxRows;
+
+    private final LinkedHashMap<Integer, double[]> m_rows;
+
+    /**
+     * Creates a new cache. The diagonal of the kernel matrix is computed right away.
+     *
+     * @param inputData the input vectors
+     * @param kernel the kernel
+     * @param cacheSizeMB the memory budget for cached rows in megabytes, at least two rows are always kept
+     */
+    public KernelCache(final DoubleVector[] inputData, final Kernel kernel, final int cacheSizeMB) {
+        m_inputData = inputData;
+        m_kernel = kernel;
+        m_diagonal = new double[inputData.length];
+        for (int i = 0; i < inputData.length; i++) {
+            m_diagonal[i] = kernel.evaluate(inputData[i], inputData[i]);
+        }
+        final long rowBytes = Math.max(1L, (long)Double.BYTES * inputData.length);
+        m_maxRows = (int)Math.max(2, Math.min(inputData.length, (long)cacheSizeMB * (1 << 20) / rowBytes));
+        m_rows = new LinkedHashMap<Integer, double[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, double[]> eldest) {
+                return size() > m_maxRows;
+            }
+        };
+    }
+
+    /**
+     * @return the input vectors this cache computes the kernel values for
+     */
+    public DoubleVector[] getInputData() {
+        return m_inputData;
+    }
+
+    /**
+     * @return the kernel
+     */
+    public Kernel getKernel() {
+        return m_kernel;
+    }
+
+    /**
+     * @return the maximum number of rows held in the cache
+     */
+    public int getCapacity() {
+        return m_maxRows;
+    }
+
+    /**
+     * @param i the index of an input vector
+     * @return the kernel value of the vector with itself
+     */
+    public double getDiagonal(final int i) {
+        return m_diagonal[i];
+    }
+
+    /**
+     * Returns the kernel values of one input vector with all input vectors, computing and caching the row if
+     * necessary. The returned array must not be modified.
+     *
+     * @param i the index of the input vector
+     * @return the row of the kernel matrix
+     * @throws CanceledExecutionException if the computation of the row was interrupted
+     */
+    public double[] getRow(final int i) throws CanceledExecutionException {
+        double[] row = getCachedRow(i);
+        if (row == null) {
+            // rows are computed outside the lock; a row requested concurrently by two models is computed twice
+            row = computeRow(i);
+            synchronized (m_rows) {
+                m_rows.put(i, row);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * @param i the index of the input vector
+     * @return the cached row of the kernel matrix or {@code null} if it is not cached
+     */
+    public double[] getCachedRow(final int i) {
+        synchronized (m_rows) {
+            return m_rows.get(i);
+        }
+    }
+
+    private double[] computeRow(final int i) throws CanceledExecutionException {
+        final double[] row = new double[m_inputData.length];
+        final int numChunks = Math.min(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(),
+            m_inputData.length / MIN_PARALLEL_ROW_LENGTH);
+        if (numChunks <= 1) {
+            fillRow(i, row, 0, row.length);
+            return row;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>(numChunks);
+        for (int c = 0; c < numChunks; c++) {
+            final int from = (int)((long)row.length * c / numChunks);
+            final int to = (int)((long)row.length * (c + 1) / numChunks);
+            tasks.add(() -> {
+                fillRow(i, row, from, to);
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+        return row;
+    }
+
+    private void fillRow(final int i, final double[] row, final int from, final int to) {
+        final DoubleVector vector = m_inputData[i];
+        for (int j = from; j < to; j++) {
+            row[j] = m_kernel.evaluate(vector, m_inputData[j]);
+        }
+    }
+}
@@ -86,7 +86,9 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
@@ -129,6 +131,18 @@ public class SVMLearnerNodeModel extends NodeModel {
      */
     public static final String CFG_KERNELTYPE = "kernel_type";
 
+    /**
+     * Key to store the memory budget of the kernel cache in megabytes in the NodeSettings.
+     * @since 5.12
+     */
+    public static final String CFG_KERNEL_CACHE_SIZE = "kernel_cache_size";
+
+    /**
+     * Key to store whether to use the shrinking heuristic in the NodeSettings.
+     * @since 5.12
+     */
+    public static final String CFG_SHRINKING = "shrinking";
+
     /** Keys under which to save the parameters. */
     public static final String KEY_CATEG_COUNT = "Category count";
 
@@ -153,6 +167,19 @@ public class SVMLearnerNodeModel extends NodeModel {
     private final SettingsModelString m_classcol =
             new SettingsModelString(CFG_CLASSCOL, "");
 
+    /*
+     * The memory budget of the kernel cache in megabytes.
+     */
+    private final SettingsModelIntegerBounded m_kernelCacheSize =
+            new SettingsModelIntegerBounded(CFG_KERNEL_CACHE_SIZE,
+                    KernelCache.DEFAULT_CACHE_SIZE_MB, 1, Integer.MAX_VALUE);
+
+    /*
+     * Whether to use the shrinking heuristic.
+     */
+    private final SettingsModelBoolean m_shrinking =
+            new SettingsModelBoolean(CFG_SHRINKING, true);
+
     /*
      * The chosen kernel
      */
@@ -294,10 +321,14 @@ protected PortObject[] execute(final PortObject[] inData,
         exec.setMessage("Training SVM");
         final BinarySvmRunnable[] bst =
                 new BinarySvmRunnable[categories.size()];
+        // the kernel values don't depend on the class, all SVMs share the rows
+        final KernelCache kernelCache = new KernelCache(inputDataArr, kernel,
+                m_kernelCacheSize.getIntValue());
         for (int i = 0; i < categories.size(); i++) {
             bst[i] =
-                    new BinarySvmRunnable(inputDataArr, categories.get(i),
-                            kernel, m_paramC.getDoubleValue(),
+                    new BinarySvmRunnable(kernelCache, categories.get(i),
+                            m_paramC.getDoubleValue(),
+                            m_shrinking.getBooleanValue(),
                             exec.createSubProgress((1.0 / categories.size())));
 
         }
@@ -468,6 +499,18 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_paramC.loadSettingsFrom(settings);
         m_classcol.loadSettingsFrom(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_KERNEL_CACHE_SIZE)) {
+            m_kernelCacheSize.loadSettingsFrom(settings);
+        } else {
+            m_kernelCacheSize.setIntValue(KernelCache.DEFAULT_CACHE_SIZE_MB);
+        }
+        // Added in 5.12, old workflows keep training without shrinking
+        if (settings.containsKey(CFG_SHRINKING)) {
+            m_shrinking.loadSettingsFrom(settings);
+        } else {
+            m_shrinking.setBooleanValue(false);
+        }
         if (settings.containsKey(CFG_KERNELTYPE)) {
             m_kernelType =
                     KernelType.valueOf(settings.getString(CFG_KERNELTYPE));
@@ -553,6 +596,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString(CFG_KERNELTYPE, m_kernelType.toString());
         m_paramC.saveSettingsTo(settings);
         m_classcol.saveSettingsTo(settings);
+        m_kernelCacheSize.saveSettingsTo(settings);
+        m_shrinking.saveSettingsTo(settings);
         for (Map.Entry<KernelType, Vector<SettingsModelDouble>>
         entry : m_kernelParameters
                 .entrySet()) {
@@ -601,6 +646,13 @@ protected void validateSettings(final NodeSettingsRO settings)
 
         m_paramC.validateSettings(settings);
         m_classcol.validateSettings(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_KERNEL_CACHE_SIZE)) {
+            m_kernelCacheSize.validateSettings(settings);
+        }
+        if (settings.containsKey(CFG_SHRINKING)) {
+            m_shrinking.validateSettings(settings);
+        }
     }
 
     private static final class LearnColumnsAndColumnRearrangerTuple {
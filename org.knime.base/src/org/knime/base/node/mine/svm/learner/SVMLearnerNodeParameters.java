@@ -51,10 +51,13 @@
 import org.knime.base.node.mine.svm.kernel.KernelFactory.KernelType;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.StringValue;
+import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.migration.DefaultProvider;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
+import org.knime.node.parameters.migration.Migration;
 import org.knime.node.parameters.persistence.Persist;
 import org.knime.node.parameters.updates.Effect;
 import org.knime.node.parameters.updates.Effect.EffectType;
@@ -68,6 +71,8 @@
 import org.knime.node.parameters.widget.choices.ValueSwitchWidget;
 import org.knime.node.parameters.widget.choices.util.ColumnSelectionUtil;
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider.StringColumnsProvider;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 
 /**
  * Node parameters for SVM Learner.
@@ -153,6 +158,36 @@ The sigma parameter for the Radial Basis Function (RBF) kernel.
     @Effect(predicate = IsRBFKernel.class, type = EffectType.SHOW)
     double m_sigma = 0.1;
 
+    @Persist(configKey = SVMLearnerNodeModel.CFG_KERNEL_CACHE_SIZE)
+    @Widget(title = "Kernel cache size (MB)", description = """
+            The memory budget in megabytes for caching rows of the kernel matrix. The rows are shared by the
+            models of all classes. A larger cache speeds up the training on large tables but does not change the
+            trained models.
+            """)
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Advanced
+    int m_kernelCacheSize = KernelCache.DEFAULT_CACHE_SIZE_MB;
+
+    @Persist(configKey = SVMLearnerNodeModel.CFG_SHRINKING)
+    @Widget(title = "Use shrinking heuristic", description = """
+            If checked, training examples that are repeatedly found to satisfy the optimality conditions at a
+            bound are skipped when iterating over all examples. They are checked again before the training
+            terminates. This usually speeds up the training considerably, but the resulting support vectors may
+            differ slightly within the tolerance of the optimization.
+            """)
+    @Migration(LoadFalseForOldNodesMigration.class)
+    @Advanced
+    boolean m_shrinking = true;
+
+    static final class LoadFalseForOldNodesMigration implements DefaultProvider<Boolean> {
+
+        @Override
+        public Boolean getDefault() {
+            return false;
+        }
+
+    }
+
     static final class IsPolynomialKernel implements EffectPredicateProvider {
 
         @Override
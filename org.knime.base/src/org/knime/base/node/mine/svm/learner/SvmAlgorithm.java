@@ -45,6 +45,7 @@
  */
 package org.knime.base.node.mine.svm.learner;
 
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -72,6 +73,11 @@
  *
  * The variable names used in this class follow the notations from the papers.
  *
+ * Kernel values are looked up in a {@link KernelCache}, which may be shared by
+ * several instances. Optionally, examples at a bound that repeatedly satisfy
+ * the optimality conditions are skipped when iterating over all examples
+ * (shrinking); they are examined again before the algorithm terminates.
+ *
  * @author Stefan, University of Konstanz
  * @author Nicolas Cebron, University of Konstanz
  */
@@ -104,6 +110,22 @@ public class SvmAlgorithm {
      */
     private Kernel m_kernel;
 
+    /*
+     * the cache of kernel rows, possibly shared with other instances.
+     */
+    private final KernelCache m_cache;
+
+    /*
+     * whether to skip examples at a bound that are found optimal repeatedly.
+     */
+    private final boolean m_shrinking;
+
+    /*
+     * for each example, the number of consecutive examinations in which it was
+     * at a bound and satisfied the optimality conditions.
+     */
+    private int[] m_optimalCount;
+
     /*
      * the C parameter (upper bound for alpha's) -- needed for when the input
      * data is not separable.
@@ -151,6 +173,12 @@ public class SvmAlgorithm {
      */
     private static final double EPSILON = 1.0e-12;
 
+    /*
+     * the number of consecutive examinations after which an optimal example at
+     * a bound is shrunk.
+     */
+    private static final int SHRINKING_COUNT = 2;
+
     /**
      * The main constructor.
      *
@@ -164,13 +192,36 @@ public class SvmAlgorithm {
     public SvmAlgorithm(final DoubleVector[] inputData,
             final String positiveClass, final Kernel kernel,
             final double paramC) {
-        m_inputData = inputData;
+        this(new KernelCache(inputData, kernel,
+                KernelCache.DEFAULT_CACHE_SIZE_MB), positiveClass, paramC,
+                false);
+    }
+
+    /**
+     * Constructor using a (shared) kernel cache.
+     *
+     * @param cache the cache providing the input vectors, the kernel and the
+     *            kernel values
+     * @param positiveClass the class value for which to consider an input
+     *            vector a 'positive' example. if input vectors have other class
+     *            values, they are considered 'negative'
+     * @param paramC the "C" from the problem constraints
+     * @param shrinking whether to skip examples at a bound that repeatedly
+     *            satisfy the optimality conditions
+     * @since 5.12
+     */
+    public SvmAlgorithm(final KernelCache cache, final String positiveClass,
+            final double paramC, final boolean shrinking) {
+        m_cache = cache;
+        m_inputData = cache.getInputData();
         m_positiveClass = positiveClass;
-        m_kernel = kernel;
+        m_kernel = cache.getKernel();
         m_paramC = paramC;
+        m_shrinking = shrinking;
         m_alpha = new double[m_inputData.length];
+        m_optimalCount = new int[m_inputData.length];
         //See: https://github.com/cran/e1071/blob/R-3.0.3/src/svm.cpp#L567
-        m_maxIteration = Math.max(10000000, inputData.length > Integer.MAX_VALUE / 100 ? Integer.MAX_VALUE - 1 : 100*inputData.length);
+        m_maxIteration = Math.max(10000000, m_inputData.length > Integer.MAX_VALUE / 100 ? Integer.MAX_VALUE - 1 : 100*m_inputData.length);
     }
 
     /**
@@ -216,13 +267,15 @@ private double target(final int i) {
      */
     private double computeSvmOutput(final int i1) {
         double result = 0;
+        // only use the row if it is cached, the support vectors may be few
+        final double[] row = m_cache.getCachedRow(i1);
 
         for (int i2 = 0; i2 < m_alpha.length; ++i2) {
             if (!zero(m_alpha[i2])) {
                 double alpha = m_alpha[i2];
                 double targ = target(i2);
-                double kern =
-                        m_kernel.evaluate(m_inputData[i1], m_inputData[i2]);
+                double kern = row != null ? row[i2]
+                        : m_kernel.evaluate(m_inputData[i1], m_inputData[i2]);
                 result += alpha * targ * kern;
             }
         }
@@ -330,6 +383,26 @@ private void repairSets(final int i1, final int i2) {
         assert m_iUp != -1;
     }
 
+    /**
+     * Returns a row of the kernel matrix for updating the error cache. A row
+     * that is not cached is only computed if the whole kernel matrix fits into
+     * the cache or if at least half of the examples are unbound. Otherwise the
+     * row would likely be evicted before it is used again, and evaluating the
+     * kernel for the unbound examples only is cheaper.
+     *
+     * @param i the index of the example
+     * @return the row or {@code null} if the kernel is to be evaluated directly
+     * @throws CanceledExecutionException if the computation of the row was
+     *             interrupted
+     */
+    private double[] getRow(final int i) throws CanceledExecutionException {
+        if (m_cache.getCapacity() >= m_inputData.length
+                || 2 * m_i0.size() >= m_inputData.length) {
+            return m_cache.getRow(i);
+        }
+        return m_cache.getCachedRow(i);
+    }
+
     /**
      * Given two examples, optimize their Lagrange coefficients.
      *
@@ -340,8 +413,10 @@ private void repairSets(final int i1, final int i2) {
      * @param i2 second index
      * @return was the optimization successful?
      * @throws MaxIterationsExceededException More than maximal allowed iterations performed.
+     * @throws CanceledExecutionException if the computation of a kernel row was interrupted
      */
-    private boolean takeStep(final int i1, final int i2) throws MaxIterationsExceededException {
+    private boolean takeStep(final int i1, final int i2)
+            throws MaxIterationsExceededException, CanceledExecutionException {
         m_iteration++;
         if (m_iteration == m_maxIteration) {
             throw new MaxIterationsExceededException(m_maxIteration);
@@ -367,9 +442,11 @@ private boolean takeStep(final int i1, final int i2) throws MaxIterationsExceede
         if (Math.abs(low - high) < EPSILON) {
             return false;
         }
-        double k11 = m_kernel.evaluate(m_inputData[i1], m_inputData[i1]);
-        double k12 = m_kernel.evaluate(m_inputData[i1], m_inputData[i2]);
-        double k22 = m_kernel.evaluate(m_inputData[i2], m_inputData[i2]);
+        double k11 = m_cache.getDiagonal(i1);
+        double[] cachedRow1 = m_cache.getCachedRow(i1);
+        double k12 = cachedRow1 != null ? cachedRow1[i2]
+                : m_kernel.evaluate(m_inputData[i1], m_inputData[i2]);
+        double k22 = m_cache.getDiagonal(i2);
         //-eta as in the Pratt paper.
         double eta = k11 + k22 - 2.0 * k12; // value of second derivative
         double a2;
@@ -404,17 +481,17 @@ private boolean takeStep(final int i1, final int i2) throws MaxIterationsExceede
         m_alpha[i1] = a1;
         m_alpha[i2] = a2;
         updateSets(i1, i2);
+        m_optimalCount[i1] = 0;
+        m_optimalCount[i2] = 0;
+        final double[] row1 = getRow(i1);
+        final double[] row2 = getRow(i2);
         for (int i : m_i0) {
             if ((i != i1) && (i != i2)) {
-                m_fcache[i] +=
-                        y1
-                                * (a1 - alpha1)
-                                * m_kernel.evaluate(m_inputData[i1],
-                                        m_inputData[i])
-                                + y2
-                                * (a2 - alpha2)
-                                * m_kernel.evaluate(m_inputData[i2],
-                                        m_inputData[i]);
+                double k1i = row1 != null ? row1[i]
+                        : m_kernel.evaluate(m_inputData[i1], m_inputData[i]);
+                double k2i = row2 != null ? row2[i]
+                        : m_kernel.evaluate(m_inputData[i2], m_inputData[i]);
+                m_fcache[i] += y1 * (a1 - alpha1) * k1i + y2 * (a2 - alpha2) * k2i;
             }
         }
         m_fcache[i1] += y1 * (a1 - alpha1) * k11 + y2 * (a2 - alpha2) * k12;
@@ -432,8 +509,10 @@ private boolean takeStep(final int i1, final int i2) throws MaxIterationsExceede
      * Support Vector Machines by John C. Platt and also Improvements to Platt's
      * SMO Algorithm for SVM Classifier Design
      * @throws MaxIterationsExceededException Maximal iterations performed, should stop.
+     * @throws CanceledExecutionException if the computation of a kernel row was interrupted
      */
-    private boolean examineExample(final int i2) throws MaxIterationsExceededException {
+    private boolean examineExample(final int i2)
+            throws MaxIterationsExceededException, CanceledExecutionException {
         int i1 = -1;
         double y2 = target(i2);
         double f2;
@@ -466,8 +545,14 @@ private boolean examineExample(final int i2) throws MaxIterationsExceededExcepti
             }
         }
         if (optimality) {
+            if (m_i0.contains(i2)) {
+                m_optimalCount[i2] = 0;
+            } else {
+                m_optimalCount[i2]++;
+            }
             return false;
         }
+        m_optimalCount[i2] = 0;
         //TODO why?
         if (m_i0.contains(i2)) {
             if (m_bLow - f2 > f2 - m_bUp) {
@@ -536,6 +621,7 @@ private void mainAlgorithm(final ExecutionMonitor exec)
             m_fcache[i] = 0.0;
             m_alpha[i] = 0.0;
         }
+        Arrays.fill(m_optimalCount, 0);
         m_b = 0.0;
         m_bUp = -1.0;
         m_bLow = 1.0;
@@ -583,11 +669,17 @@ private void mainAlgorithm(final ExecutionMonitor exec)
 //                exec.setProgress(progress);
 //            }
             exec.checkCanceled();
+            int numShrunk = 0;
             try {
                 numChanged = 0;
                 if (examineAll) {
                     for (int i = 0; i < m_inputData.length; ++i) {
                         exec.checkCanceled();
+                        if (m_shrinking
+                                && m_optimalCount[i] >= SHRINKING_COUNT) {
+                            numShrunk++;
+                            continue;
+                        }
                         if (examineExample(i)) {
                             numChanged++;
                         }
@@ -611,7 +703,12 @@ private void mainAlgorithm(final ExecutionMonitor exec)
             }
 
             if (examineAll) {
-                examineAll = false;
+                if (numChanged == 0 && numShrunk > 0) {
+                    // examine the shrunk examples before terminating
+                    Arrays.fill(m_optimalCount, 0);
+                } else {
+                    examineAll = false;
+                }
             } else if (numChanged == 0) {
                 examineAll = true;
             }
@@ -47,6 +47,7 @@
 
 import org.knime.base.node.mine.svm.Svm;
 import org.knime.base.node.mine.svm.kernel.Kernel;
+import org.knime.base.node.mine.svm.learner.KernelCache;
 import org.knime.base.node.mine.svm.learner.SvmAlgorithm;
 import org.knime.core.node.ExecutionMonitor;
 
@@ -83,6 +84,21 @@ public BinarySvmRunnable(final DoubleVector[] inputData,
         m_exec = exec;
     }
 
+    /**
+     * @param cache the kernel cache providing the input data and the kernel, may be shared with other runnables
+     * @param positiveClass the positive class value
+     * @param paramC overlapping penalty to use
+     * @param shrinking whether to skip examples at a bound that repeatedly satisfy the optimality conditions
+     * @param exec the execution process to report to
+     * @since 5.12
+     */
+    public BinarySvmRunnable(final KernelCache cache, final String positiveClass, final double paramC,
+        final boolean shrinking, final ExecutionMonitor exec) {
+        m_svmAlgo = new SvmAlgorithm(cache, positiveClass, paramC, shrinking);
+        m_exception = null;
+        m_exec = exec;
+    }
+
     /**
      * {@inheritDoc}
      */
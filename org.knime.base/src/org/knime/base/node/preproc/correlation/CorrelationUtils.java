@@ -243,6 +243,38 @@ public HalfIntMatrix getDegreesOfFreedomMatrix() {
         }
     }
 
+    /**
+     * The correlation coefficient that is computed for pairs of numeric columns.
+     *
+     * @since 5.12
+     */
+    public enum NumericCorrelationMethod {
+
+            /** Pearson's product-moment coefficient */
+            @Label(value = "Pearson", description = """
+                    Pearson's product-moment coefficient, which measures the linear relationship of the values.
+                    """)
+            PEARSON("Pearson's product-moment coefficient"),
+
+            /** Spearman's rank correlation coefficient */
+            @Label(value = "Spearman", description = """
+                    Spearman's rank correlation coefficient, i.e. Pearson's coefficient of the ranks of the values,
+                    which measures any monotonic relationship. All numeric columns are held in memory to rank them.
+                    """)
+            SPEARMAN("Spearman's rank correlation coefficient");
+
+        private final String m_desc;
+
+        private NumericCorrelationMethod(final String desc) {
+            m_desc = desc;
+        }
+
+        @Override
+        public String toString() {
+            return m_desc;
+        }
+    }
+
     /**
      * Describes which pairs of columns should be included in a correlation output table.
      */
@@ -123,9 +123,14 @@ will not be ignored for the correlation between (B, C). This corresponds to the
                 <i>cor(&lt;data.frame&gt;, use="pairwise.complete.obs")</i> in the R statistics package. <br /> The
                 value of this measure ranges from -1 (strong negative correlation) to 1 (strong positive correlation). A
                 value of 0 represents no linear correlation (the columns might still be highly dependent on each other,
-                though). <br /> The p-value for these columns indicates the probability of an uncorrelated system
-                producing a correlation at least as extreme, if the mean of the correlation is zero and it follows a
-                t-distribution with <i>df</i> degrees of freedom. <br /> <tt>nominal &lt;-&gt; nominal</tt>: <a
+                though). <br /> Alternatively, <a
+                href="https://en.wikipedia.org/wiki/Spearman%27s_rank_correlation_coefficient"> Spearman's rank
+                correlation coefficient</a> can be computed for numeric pairs, which is Pearson's coefficient of the
+                ranks of the values and measures any monotonic relationship. Tied values get their average rank, and
+                each column is ranked among all of its non-missing values. <br /> The p-value for these columns
+                indicates the probability of an uncorrelated system producing a correlation at least as extreme, if
+                the mean of the correlation is zero and it follows a t-distribution with <i>df</i> degrees of freedom.
+                <br /> <tt>nominal &lt;-&gt; nominal</tt>: <a
                 href="http://en.wikipedia.org/wiki/Pearson%27s_chi-square_test"> Pearson's chi square test on the
                 contingency table</a>. This value is then normalized to a range [0,1] using <a
                 href="http://en.wikipedia.org/wiki/Cram%C3%A9r%27s_V"> Cramer's V</a>, whereby 0 represents no
@@ -161,6 +166,7 @@ contains a missing value (shown as cross in the color view).
     private static final List<String> KEYWORDS = List.of( //
         "association analysis", //
         "pearson correlation", //
+        "spearman correlation", //
         "cramer" //
     );
 
@@ -53,6 +53,7 @@
 import org.knime.base.node.preproc.correlation.CorrelationUtils;
 import org.knime.base.node.preproc.correlation.CorrelationUtils.ColumnPairFilter;
 import org.knime.base.node.preproc.correlation.CorrelationUtils.CorrelationResult;
+import org.knime.base.node.preproc.correlation.CorrelationUtils.NumericCorrelationMethod;
 import org.knime.base.node.preproc.correlation.pmcc.PMCCPortObjectAndSpec;
 import org.knime.base.node.preproc.correlation.pmcc.PValueAlternative;
 import org.knime.core.data.DataTable;
@@ -100,6 +101,7 @@ final class CorrelationCompute2NodeModel extends NodeModel implements BufferedDa
     public static final String CFG_INCLUDE_LIST = "include-list";
     public static final String CFG_PVAL_ALTERNATIVE = "pvalAlternative";
     public static final String CFG_COLUMN_PAIRS_FILTER = "columnPairsFilter";
+    public static final String CFG_NUMERIC_CORRELATION_METHOD = "numericCorrelationMethod";
 
     /**
      * Factory method to instantiate a default settings object, used in constructor and in dialog.
@@ -138,6 +140,15 @@ static SettingsModelString createColumnPairsFilterModel() {
         return new SettingsModelString(CFG_COLUMN_PAIRS_FILTER, ColumnPairFilter.COMPATIBLE_PAIRS.name());
     }
 
+    /**
+     * Factory method to create the string model for the correlation coefficient of numeric column pairs.
+     *
+     * @return A new model.
+     */
+    static SettingsModelString createNumericCorrelationMethodModel() {
+        return new SettingsModelString(CFG_NUMERIC_CORRELATION_METHOD, NumericCorrelationMethod.PEARSON.name());
+    }
+
     private SettingsModelColumnFilter2 m_columnFilterModel;
 
     private final SettingsModelIntegerBounded m_maxPossValueCountModel;
@@ -146,6 +157,8 @@ static SettingsModelString createColumnPairsFilterModel() {
 
     private final SettingsModelString m_columnPairsFilter;
 
+    private final SettingsModelString m_numericCorrelationMethod;
+
     private BufferedDataTable m_correlationTable;
 
     /**
@@ -160,6 +173,7 @@ static SettingsModelString createColumnPairsFilterModel() {
         m_maxPossValueCountModel = createNewPossValueCounterModel();
         m_pValAlternativeModel = createPValAlternativeModel();
         m_columnPairsFilter = createColumnPairsFilterModel();
+        m_numericCorrelationMethod = createNumericCorrelationMethodModel();
     }
 
     @Override
@@ -205,7 +219,8 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
 
         // Create the correlation computer
         CorrelationComputer2 calculator =
-            new CorrelationComputer2(filteredTableSpec, m_maxPossValueCountModel.getIntValue());
+            new CorrelationComputer2(filteredTableSpec, m_maxPossValueCountModel.getIntValue(),
+                NumericCorrelationMethod.valueOf(m_numericCorrelationMethod.getStringValue()));
 
         // Calculate statistics on the table
         exec.setMessage("Calculating table statistics");
@@ -278,6 +293,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
             m_maxPossValueCountModel.saveSettingsTo(settings);
             m_pValAlternativeModel.saveSettingsTo(settings);
             m_columnPairsFilter.saveSettingsTo(settings);
+            m_numericCorrelationMethod.saveSettingsTo(settings);
         }
     }
 
@@ -287,6 +303,10 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_maxPossValueCountModel.validateSettings(settings);
         m_pValAlternativeModel.validateSettings(settings);
         m_columnPairsFilter.validateSettings(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_NUMERIC_CORRELATION_METHOD)) {
+            m_numericCorrelationMethod.validateSettings(settings);
+        }
     }
 
     @Override
@@ -298,6 +318,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_maxPossValueCountModel.loadSettingsFrom(settings);
         m_pValAlternativeModel.loadSettingsFrom(settings);
         m_columnPairsFilter.loadSettingsFrom(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_NUMERIC_CORRELATION_METHOD)) {
+            m_numericCorrelationMethod.loadSettingsFrom(settings);
+        } else {
+            m_numericCorrelationMethod.setStringValue(NumericCorrelationMethod.PEARSON.name());
+        }
     }
 
     /**
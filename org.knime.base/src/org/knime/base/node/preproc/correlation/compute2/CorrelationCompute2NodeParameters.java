@@ -49,6 +49,7 @@
 import java.util.List;
 
 import org.knime.base.node.preproc.correlation.CorrelationUtils.ColumnPairFilter;
+import org.knime.base.node.preproc.correlation.CorrelationUtils.NumericCorrelationMethod;
 import org.knime.base.node.preproc.correlation.pmcc.PValueAlternative;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.NominalValue;
@@ -108,6 +109,13 @@ private NumericNominalColumnsProvider() {
     @TypedStringFilterWidgetInternal(hideTypeFilter = true)
     ColumnFilter m_columnFilter = new ColumnFilter();
 
+    @Widget(title = "Numeric correlation", description = """
+            Select the correlation coefficient for pairs of numeric columns. \
+            """)
+    @Persist(configKey = CorrelationCompute2NodeModel.CFG_NUMERIC_CORRELATION_METHOD)
+    @RadioButtonsWidget
+    NumericCorrelationMethod m_numericCorrelationMethod = NumericCorrelationMethod.PEARSON;
+
     @Widget(title = "Output column pairs", description = """
             Select which column pairs of the selected columns should be included in the correlation measure \
             table. If only compatible column pairs are included <tt>numeric &lt;-&gt; nominal</tt> pairs will be \
@@ -128,7 +136,7 @@ values are encountered in a nominal column, the column will be ignored (no corre
     int m_possibleValuesCount = 50;
 
     @Widget(title = "p-value", description = """
-            Select which p-value should be computed for Pearson's product-moment coefficient. \
+            Select which p-value should be computed for Pearson's product-moment (or Spearman's rank) coefficient. \
             <ul> \
             <li>"two-sided" corresponds to the probability of obtaining a correlation value that is at least \
             as extreme as the observed correlation.</li> \
@@ -47,7 +47,9 @@
  */
 package org.knime.base.node.preproc.correlation.compute2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -55,17 +57,21 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.commons.math3.distribution.ChiSquaredDistribution;
 import org.apache.commons.math3.distribution.TDistribution;
 import org.knime.base.node.preproc.correlation.CorrelationUtils.CorrelationResult;
+import org.knime.base.node.preproc.correlation.CorrelationUtils.NumericCorrelationMethod;
 import org.knime.base.node.preproc.correlation.pmcc.PMCCPortObjectAndSpec;
 import org.knime.base.node.preproc.correlation.pmcc.PValueAlternative;
 import org.knime.base.util.HalfDoubleMatrix;
 import org.knime.base.util.HalfIntMatrix;
+import org.knime.base.util.internal.ParallelTasks;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -75,6 +81,7 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.util.ConvenienceMethods;
 import org.knime.core.util.Pair;
 
 import com.google.common.primitives.Ints;
@@ -83,7 +90,14 @@
  * Calculates pairwise correlation values for a table. Uses Cramers'V for pairs of categorical columns and the standard
  * linear correlation coefficient for numerical pairs. Missing values are treated as a separated category for
  * categorical columns and pairwise ignored for num columns. This corresponds the option "R<-cor(R,
- * use="pairwise.complete.obs")" in R.
+ * use="pairwise.complete.obs")" in R. Optionally, Spearman's rank correlation coefficient is computed for numerical
+ * pairs instead, i.e. the linear correlation coefficient of the ranks of the values of each column.
+ *
+ * <p>
+ * The sums for the numerical pairs are accumulated in batches of rows as blocked matrix products on multiple threads,
+ * see {@link NumericCorrelationAccumulator}. The table is scanned a second time only if there are pairs of categorical
+ * columns.
+ * </p>
  *
  * @author Bernd Wiswedel, KNIME AG, Zurich, Switzerland
  * @author Benjamin Wilhelm, KNIME GmbH, Konstanz, Germnany
@@ -103,6 +117,12 @@ public final class CorrelationComputer2 {
     /** max possible values (user setting). */
     private final int m_maxPossibleValues;
 
+    /** correlation coefficient for pairs of numeric columns (user setting). */
+    private final NumericCorrelationMethod m_numericCorrelationMethod;
+
+    /** populated in first scan on data. The pairwise-complete sums of the numeric columns. */
+    private NumericCorrelationAccumulator m_numericSums;
+
     /**
      * populated in first scan on data. For each categorical column the map of possible values with their ordered index.
      * Array element is null if column has too many distinct values.
@@ -139,9 +159,23 @@ public final class CorrelationComputer2 {
      * @param maxPossibleValues ...
      */
     public CorrelationComputer2(final DataTableSpec filteredSpec, final int maxPossibleValues) {
+        this(filteredSpec, maxPossibleValues, NumericCorrelationMethod.PEARSON);
+    }
+
+    /**
+     * Inits fields.
+     *
+     * @param filteredSpec ...
+     * @param maxPossibleValues ...
+     * @param numericCorrelationMethod the correlation coefficient for pairs of numeric columns
+     * @since 5.12
+     */
+    public CorrelationComputer2(final DataTableSpec filteredSpec, final int maxPossibleValues,
+        final NumericCorrelationMethod numericCorrelationMethod) {
         m_tableSpec = filteredSpec;
         int colCount = filteredSpec.getNumColumns();
         m_maxPossibleValues = maxPossibleValues;
+        m_numericCorrelationMethod = numericCorrelationMethod;
         int[] numericColIndexMap = new int[colCount];
         int[] categoricalColIndexMap = new int[colCount];
         int numericColCount = 0;
@@ -179,21 +213,26 @@ public void calculateStatistics(final BufferedDataTable table, final ExecutionMo
             m_possibleValues[i] = new LinkedHashMap<>();
         }
         final int numericColCount = m_numericColIndexMap.length;
-        // sumMatrix[i][j] contains the sum of all values in column i were the column j cell is not missing
-        double[][] sumMatrix = new double[numericColCount][numericColCount];
-        // sumSqMatrix contains the sum of the squared values as sumMatrix
-        double[][] sumSqMatrix = new double[numericColCount][numericColCount];
-        // validCountMatrix[i][j] contains the number of rows were neither column i nor column j is missing
-        m_numericValidCountMatrix = new HalfIntMatrix(numericColCount, true);
-        // A cell buffer for the numeric cells (They need to be accessed multiple times)
-        final DataCell[] numericCellBuffer = new DataCell[m_numericColIndexMap.length];
+        m_numericSums = new NumericCorrelationAccumulator(numericColCount);
+        final boolean rankValues = m_numericCorrelationMethod == NumericCorrelationMethod.SPEARMAN;
+        final long rowCount = table.size();
+        // the numeric columns, only held in memory to compute the ranks (for Spearman)
+        final double[][] columns = new double[rankValues ? numericColCount : 0][];
+        final BitSet[] missings = new BitSet[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new double[ConvenienceMethods.checkTableSize(rowCount)];
+            missings[i] = new BitSet();
+        }
 
-        // Loop over the rows and fill the sum/sumSq/validCount matrix and possible categorical values
+        // Loop over the rows and fill the numeric sums (or columns) and possible categorical values
         long rowIndex = 1;
-        final long rowCount = table.size();
         for (DataRow r : table) {
 
-            addToSumIfValid(r, sumMatrix, sumSqMatrix, m_numericValidCountMatrix, numericCellBuffer);
+            if (rankValues) {
+                addToColumns(r, columns, missings, (int)(rowIndex - 1));
+            } else {
+                addToSums(r);
+            }
             addPossibleValues(r);
 
             exec.checkCanceled();
@@ -202,44 +241,129 @@ public void calculateStatistics(final BufferedDataTable table, final ExecutionMo
                 () -> String.format("Calculating statistics - %d/%d (\"%s\")", currentRow, rowCount, r.getKey()));
             rowIndex += 1;
         }
+        if (rankValues) {
+            exec.setMessage("Ranking values");
+            rankColumns(columns, missings);
+            addRanksToSums(columns, missings, exec);
+        }
+        m_numericSums.flush();
 
         assignIndexToCategoricalValues();
 
-        computeMeanAndStdDevMatix(sumMatrix, sumSqMatrix);
+        computeMeanAndStdDevMatix();
     }
 
     /**
-     * Adds the given row to the sum matrix and sum square matrix and increases the counts in the valid count matrix if
-     * valid.
+     * Adds the numeric values of the given row to the sums.
      */
-    private void addToSumIfValid(final DataRow row, final double[][] sumMatrix, final double[][] sumSqMatrix,
-        final HalfIntMatrix validCountMatrix, final DataCell[] cellBuffer) {
-        // getCell may be an expensive operation and we may access a cell
-        // multiple times, so we buffer it
-        for (int i = 0; i < cellBuffer.length; i++) {
-            cellBuffer[i] = row.getCell(m_numericColIndexMap[i]);
-        }
-        // Loop over numeric columns
+    private void addToSums(final DataRow row) throws CanceledExecutionException {
         for (int i = 0; i < m_numericColIndexMap.length; i++) {
-            DataCell c = cellBuffer[i];
-            final boolean isMissing = c.isMissing();
-            if (isMissing) {
+            final DataCell c = row.getCell(m_numericColIndexMap[i]);
+            if (c.isMissing()) {
                 // Remember that there was a missing cell
                 m_numericsWithMissings.add(m_numericColIndexMap[i]);
+                m_numericSums.setMissing(i);
             } else {
-                // Add values to the sumMatrix and sumSqMatrix
-                final double val = ((DoubleValue)c).getDoubleValue();
-                final double valSquare = val * val;
-                for (int j = 0; j < m_numericColIndexMap.length; j++) {
-                    if (!cellBuffer[j].isMissing()) {
-                        sumMatrix[i][j] += val;
-                        sumSqMatrix[i][j] += valSquare;
-                        if (j >= i) { // don't count twice
-                            validCountMatrix.add(i, j, 1);
-                        }
-                    }
+                m_numericSums.setValue(i, ((DoubleValue)c).getDoubleValue());
+            }
+        }
+        m_numericSums.nextRow();
+    }
+
+    /**
+     * Copies the numeric values of the given row into the columns.
+     */
+    private void addToColumns(final DataRow row, final double[][] columns, final BitSet[] missings,
+        final int rowIndex) {
+        for (int i = 0; i < m_numericColIndexMap.length; i++) {
+            final DataCell c = row.getCell(m_numericColIndexMap[i]);
+            if (c.isMissing()) {
+                m_numericsWithMissings.add(m_numericColIndexMap[i]);
+                missings[i].set(rowIndex);
+            } else {
+                columns[i][rowIndex] = ((DoubleValue)c).getDoubleValue();
+            }
+        }
+    }
+
+    /**
+     * Replaces the values of each column by their ranks among the non-missing values of the column. Tied values get
+     * the average of their ranks. The columns are ranked concurrently.
+     */
+    private static void rankColumns(final double[][] columns, final BitSet[] missings)
+        throws CanceledExecutionException {
+        final List<Callable<Void>> tasks = new ArrayList<>(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            final double[] column = columns[i];
+            final BitSet missing = missings[i];
+            tasks.add(() -> {
+                rank(column, missing);
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+    }
+
+    private static void rank(final double[] column, final BitSet missing) {
+        final double[] sorted = new double[column.length - missing.cardinality()];
+        int k = 0;
+        for (int r = missing.nextClearBit(0); r < column.length; r = missing.nextClearBit(r + 1)) {
+            sorted[k++] = column[r];
+        }
+        Arrays.sort(sorted);
+        for (int r = missing.nextClearBit(0); r < column.length; r = missing.nextClearBit(r + 1)) {
+            final int first = lowerBound(sorted, column[r]);
+            final int last = upperBound(sorted, column[r]) - 1;
+            // ranks start at 1
+            column[r] = (first + last) / 2.0 + 1;
+        }
+    }
+
+    /** The index of the first element of the sorted array that is not smaller than the value. */
+    private static int lowerBound(final double[] sorted, final double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** The index of the first element of the sorted array that is larger than the value. */
+    private static int upperBound(final double[] sorted, final double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (Double.compare(sorted[mid], value) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void addRanksToSums(final double[][] columns, final BitSet[] missings, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final int rowCount = columns.length == 0 ? 0 : columns[0].length;
+        for (int r = 0; r < rowCount; r++) {
+            for (int i = 0; i < columns.length; i++) {
+                if (missings[i].get(r)) {
+                    m_numericSums.setMissing(i);
+                } else {
+                    m_numericSums.setValue(i, columns[i][r]);
                 }
             }
+            m_numericSums.nextRow();
+            if (r % NumericCorrelationAccumulator.BATCH_SIZE == 0) {
+                exec.checkCanceled();
+            }
         }
     }
 
@@ -272,38 +396,40 @@ private void assignIndexToCategoricalValues() {
     }
 
     /**
-     * Computes the mean and stddev of the numeric columns with each other.
-     *
-     * Note: The sumMatrix and sumSqMatrix are reused! The values of <code>sumMatrix</code> are replaced with the mean.
-     * The values of sumSqMatrix are replaced with the stddev
+     * Computes the mean and stddev of the numeric columns with each other from the accumulated sums.
      */
-    private void computeMeanAndStdDevMatix(final double[][] sumMatrix, final double[][] sumSqMatrix) {
-        // sumMatrix --> m_numericMeanMatrix
-        // sumSqMatrix --> m_numericStdDevMatrix
+    private void computeMeanAndStdDevMatix() {
         final int numericColCount = m_numericColIndexMap.length;
+        m_numericValidCountMatrix = new HalfIntMatrix(numericColCount, true);
+        m_numericMeanMatrix = new double[numericColCount][numericColCount];
+        m_numericStdDevMatrix = new double[numericColCount][numericColCount];
         for (int i = 0; i < numericColCount; i++) {
             for (int j = 0; j < numericColCount; j++) {
-                final int validCount = m_numericValidCountMatrix.get(i, j);
+                final int validCount = (int)m_numericSums.getValidCount(i, j);
+                final double sum = m_numericSums.getSum(i, j);
+                if (j >= i) {
+                    m_numericValidCountMatrix.set(i, j, validCount);
+                }
                 if (validCount > 1) {
                     double variance =
-                        (sumSqMatrix[i][j] - (sumMatrix[i][j] * sumMatrix[i][j]) / validCount) / (validCount - 1);
+                        (m_numericSums.getSquareSum(i, j) - (sum * sum) / validCount) / (validCount - 1);
                     if (variance < PMCCPortObjectAndSpec.ROUND_ERROR_OK) {
                         variance = 0.0;
                     }
-                    sumSqMatrix[i][j] = Math.sqrt(variance);
+                    m_numericStdDevMatrix[i][j] = Math.sqrt(variance);
                 } else {
-                    sumSqMatrix[i][j] = 0.0;
+                    m_numericStdDevMatrix[i][j] = 0.0;
                 }
-                sumMatrix[i][j] = validCount > 0 ? sumMatrix[i][j] / validCount : Double.NaN;
+                m_numericMeanMatrix[i][j] =
+                    validCount > 0 ? sum / validCount + m_numericSums.getShift(i) : Double.NaN;
             }
         }
-        m_numericMeanMatrix = sumMatrix;
-        m_numericStdDevMatrix = sumSqMatrix;
     }
 
     /**
-     * Second scan on data. Computes the pair wise correlation for numeric columns and reads the contingency tables of
-     * pairs of categorical columns into memory.
+     * Second scan on data. Computes the pair wise correlation for numeric columns from the sums of the first scan and
+     * reads the contingency tables of pairs of categorical columns into memory. The table is only scanned if there are
+     * such pairs.
      *
      * @param table ...
      * @param exec ...
@@ -332,21 +458,21 @@ public CorrelationResult calculateOutput(final BufferedDataTable table, final Ex
 
         handleZeroStdDev(nominatorMatrix);
 
-        // A cell buffer for the numeric cells (They need to be accessed multiple times)
-        final DataCell[] numericCellBuffer = new DataCell[m_numericColIndexMap.length];
+        fillNominatorMatrix(nominatorMatrix);
 
-        long rowIndex = 0;
-        final long rowCount = table.size();
-        for (DataRow r : table) {
+        // the numeric pairs are already complete, only the contingency tables need another scan
+        if (Arrays.stream(contingencyTables).anyMatch(Objects::nonNull)) {
+            long rowIndex = 0;
+            final long rowCount = table.size();
+            for (DataRow r : table) {
 
-            addRowToNominatorMatrix(r, nominatorMatrix, numericCellBuffer);
+                addRowToContigencyTable(r, contingencyTables);
 
-            addRowToContigencyTable(r, contingencyTables);
-
-            exec.checkCanceled();
-            exec.setProgress(rowIndex / (double)rowCount,
-                String.format("Calculating statistics - %d/%d (\"%s\")", rowIndex, rowCount, r.getKey()));
-            rowIndex += 1;
+                exec.checkCanceled();
+                exec.setProgress(rowIndex / (double)rowCount,
+                    String.format("Calculating statistics - %d/%d (\"%s\")", rowIndex, rowCount, r.getKey()));
+                rowIndex += 1;
+            }
         }
 
         normalizeNumericCorrelation(nominatorMatrix);
@@ -423,46 +549,24 @@ private void handleZeroStdDev(final HalfDoubleMatrix nominatorMatrix) {
     }
 
     /**
-     * Adds the numeric values of the row to the nominator matrix.
+     * Sets the sum of the products of the standardized values of all numeric pairs with a valid standard deviation.
      */
-    private void addRowToNominatorMatrix(final DataRow row, final HalfDoubleMatrix nominatorMatrix,
-        final DataCell[] cellBuffer) {
-        // getCell may be an expensive operation and we may access a cell
-        // multiple times, so we buffer it
-        for (int i = 0; i < cellBuffer.length; i++) {
-            cellBuffer[i] = row.getCell(m_numericColIndexMap[i]);
-        }
+    private void fillNominatorMatrix(final HalfDoubleMatrix nominatorMatrix) {
         for (int i = 0; i < m_numericColIndexMap.length; i++) {
-            final DataCell ci = cellBuffer[i];
-
-            // Skip for missing cells and constant columns
-            if (ci.isMissing()) {
-                continue;
-            }
             if (m_numericStdDevMatrix[i][i] == 0.0) {
                 continue; // constant column, reported above
             }
-
-            final double di = ((DoubleValue)ci).getDoubleValue();
-
             for (int j = i + 1; j < m_numericColIndexMap.length; j++) {
-                final DataCell cj = cellBuffer[j];
-                if (cj.isMissing()) {
-                    continue;
-                }
-                final double meanI = m_numericMeanMatrix[i][j];
                 final double stdDevI = m_numericStdDevMatrix[i][j];
-                final double meanJ = m_numericMeanMatrix[j][i];
                 final double stdDevJ = m_numericStdDevMatrix[j][i];
-
                 if (stdDevI == 0.0 || stdDevJ == 0.0) {
                     continue; // constant with respect to other column, reported above
                 }
-
-                final double vi = (di - meanI) / stdDevI;
-                final double dj = ((DoubleValue)cj).getDoubleValue();
-                final double vj = (dj - meanJ) / stdDevJ;
-                nominatorMatrix.add(m_numericColIndexMap[i], m_numericColIndexMap[j], vi * vj);
+                final long validCount = m_numericSums.getValidCount(i, j);
+                // sum over the valid rows of (x_i - mean_i) * (x_j - mean_j)
+                final double coMoment = m_numericSums.getProductSum(i, j)
+                    - m_numericSums.getSum(i, j) * m_numericSums.getSum(j, i) / validCount;
+                nominatorMatrix.set(m_numericColIndexMap[i], m_numericColIndexMap[j], coMoment / (stdDevI * stdDevJ));
             }
         }
     }
@@ -501,6 +605,8 @@ private void normalizeNumericCorrelation(final HalfDoubleMatrix nominatorMatrix)
                     if (t > 1) {
                         // Numeric instability
                         t = 1;
+                    } else if (t < -1) {
+                        t = -1;
                     }
                     nominatorMatrix.set(tableI, tableJ, t);
                 }
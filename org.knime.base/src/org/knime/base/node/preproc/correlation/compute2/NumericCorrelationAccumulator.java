@@ -0,0 +1,419 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.correlation.compute2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Accumulates the pairwise-complete sums that are needed for the linear correlation of all pairs of numeric columns.
+ * Rows are collected into column-major batches of values and missing value masks. Each full batch is added to the sum
+ * matrices as tiled matrix products of the batch with itself, whereby disjoint tiles are computed concurrently.
+ *
+ * <p>
+ * For each pair of columns <i>i</i>, <i>j</i> the accumulator provides the number of rows where both are not missing,
+ * the sum and sum of squares of column <i>i</i> over these rows, and the sum of products of both columns. To reduce
+ * cancellation, the values of each column are shifted by the first finite value of the column (see
+ * {@link #getShift(int)}), which changes neither variances nor covariances.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class NumericCorrelationAccumulator {
+
+    /** Number of rows per batch. */
+    static final int BATCH_SIZE = 512;
+
+    /** Number of columns per side of a tile. */
+    private static final int TILE_SIZE = 32;
+
+    /** Minimum number of multiply-adds of a batch to compute it concurrently. */
+    private static final long MIN_PARALLEL_WORK = 1L << 21;
+
+    private final int m_numColumns;
+
+    /** Shifted values of the current batch, 0 if missing. */
+    private final double[][] m_values;
+
+    /** Squares of the shifted values of the current batch, 0 if missing. */
+    private final double[][] m_squares;
+
+    /** 1 if the value in the current batch is present, 0 if missing. */
+    private final double[][] m_masks;
+
+    private final double[] m_shifts;
+
+    private final boolean[] m_hasShift;
+
+    /** Sums of products of columns i and j, only i <= j is used. */
+    private final double[][] m_productSums;
+
+    /** Sums, sums of squares and number of values of the batches without missing values. */
+    private final double[] m_completeSums;
+
+    private final double[] m_completeSquareSums;
+
+    private long m_completeCount;
+
+    /**
+     * Sums of column i where column j is not missing (and the squares and pair counts accordingly) of the batches with
+     * missing values. Allocated when the first missing value is encountered.
+     */
+    private double[][] m_sums;
+
+    private double[][] m_squareSums;
+
+    /** Only i <= j is used. */
+    private double[][] m_counts;
+
+    private int m_batchRows;
+
+    private boolean m_batchHasMissings;
+
+    private boolean m_batchHasNonFinites;
+
+    /**
+     * @param numColumns the number of numeric columns
+     */
+    NumericCorrelationAccumulator(final int numColumns) {
+        m_numColumns = numColumns;
+        m_values = new double[numColumns][BATCH_SIZE];
+        m_squares = new double[numColumns][BATCH_SIZE];
+        m_masks = new double[numColumns][BATCH_SIZE];
+        m_shifts = new double[numColumns];
+        m_hasShift = new boolean[numColumns];
+        m_productSums = new double[numColumns][numColumns];
+        m_completeSums = new double[numColumns];
+        m_completeSquareSums = new double[numColumns];
+    }
+
+    /**
+     * Sets the value of a column in the current row.
+     *
+     * @param column the column index
+     * @param value the value
+     */
+    void setValue(final int column, final double value) {
+        if (!m_hasShift[column] && Double.isFinite(value)) {
+            // all values that were added before are infinite or NaN, so they are not affected by the shift
+            m_shifts[column] = value;
+            m_hasShift[column] = true;
+        }
+        m_batchHasNonFinites |= !Double.isFinite(value);
+        final double shifted = value - m_shifts[column];
+        m_values[column][m_batchRows] = shifted;
+        m_squares[column][m_batchRows] = shifted * shifted;
+        m_masks[column][m_batchRows] = 1;
+    }
+
+    /**
+     * Marks the value of a column in the current row as missing.
+     *
+     * @param column the column index
+     */
+    void setMissing(final int column) {
+        m_values[column][m_batchRows] = 0;
+        m_squares[column][m_batchRows] = 0;
+        m_masks[column][m_batchRows] = 0;
+        m_batchHasMissings = true;
+    }
+
+    /**
+     * Completes the current row, whose values must all have been set or marked as missing.
+     *
+     * @throws CanceledExecutionException if the computation of a full batch was interrupted
+     */
+    void nextRow() throws CanceledExecutionException {
+        m_batchRows++;
+        if (m_batchRows == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the rows of the current, possibly incomplete, batch to the sums. Must be called after the last row.
+     *
+     * @throws CanceledExecutionException if the computation was interrupted
+     */
+    void flush() throws CanceledExecutionException {
+        if (m_batchRows == 0) {
+            return;
+        }
+        if (m_batchHasMissings && m_sums == null) {
+            m_sums = new double[m_numColumns][m_numColumns];
+            m_squareSums = new double[m_numColumns][m_numColumns];
+            m_counts = new double[m_numColumns][m_numColumns];
+        }
+        if (!m_batchHasMissings) {
+            for (int i = 0; i < m_numColumns; i++) {
+                m_completeSums[i] += sum(m_values[i], m_batchRows);
+                m_completeSquareSums[i] += sum(m_squares[i], m_batchRows);
+            }
+            m_completeCount += m_batchRows;
+        }
+        final int numBlocks = (m_numColumns + TILE_SIZE - 1) / TILE_SIZE;
+        final long work = (long)m_numColumns * (m_numColumns + 1) / 2 * m_batchRows * (m_batchHasMissings ? 6 : 1);
+        final int parallelism = work < MIN_PARALLEL_WORK ? 1
+            : Math.min(Runtime.getRuntime().availableProcessors(), numBlocks * (numBlocks + 1) / 2);
+        if (parallelism <= 1) {
+            computeTiles(0, 1, numBlocks);
+        } else {
+            final List<Callable<Void>> tasks = new ArrayList<>(parallelism);
+            for (int t = 0; t < parallelism; t++) {
+                final int offset = t;
+                tasks.add(() -> {
+                    computeTiles(offset, parallelism, numBlocks);
+                    return null;
+                });
+            }
+            ParallelTasks.run(tasks);
+        }
+        m_batchRows = 0;
+        m_batchHasMissings = false;
+        m_batchHasNonFinites = false;
+    }
+
+    private static double sum(final double[] values, final int length) {
+        double sum = 0;
+        for (int r = 0; r < length; r++) {
+            sum += values[r];
+        }
+        return sum;
+    }
+
+    /** Computes every {@code stride}-th tile of the upper triangle, starting with the {@code offset}-th. */
+    private void computeTiles(final int offset, final int stride, final int numBlocks) {
+        int tile = 0;
+        for (int bi = 0; bi < numBlocks; bi++) {
+            for (int bj = bi; bj < numBlocks; bj++, tile++) {
+                if (tile % stride == offset) {
+                    final int i0 = bi * TILE_SIZE;
+                    final int i1 = Math.min(i0 + TILE_SIZE, m_numColumns);
+                    final int j0 = bj * TILE_SIZE;
+                    final int j1 = Math.min(j0 + TILE_SIZE, m_numColumns);
+                    if (m_batchHasMissings && m_batchHasNonFinites) {
+                        computeSelectedTile(i0, i1, j0, j1);
+                    } else if (m_batchHasMissings) {
+                        computeMaskedTile(i0, i1, j0, j1);
+                    } else {
+                        computeTile(i0, i1, j0, j1);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Adds the products of the columns of a tile of a batch without missing values. */
+    private void computeTile(final int i0, final int i1, final int j0, final int j1) {
+        final int n = m_batchRows;
+        for (int i = i0; i < i1; i++) {
+            final double[] xi = m_values[i];
+            final double[] productSums = m_productSums[i];
+            int j = Math.max(i, j0);
+            // four columns at a time to load each value of column i only once
+            for (; j + 3 < j1; j += 4) {
+                final double[] x0 = m_values[j];
+                final double[] x1 = m_values[j + 1];
+                final double[] x2 = m_values[j + 2];
+                final double[] x3 = m_values[j + 3];
+                double s0 = 0;
+                double s1 = 0;
+                double s2 = 0;
+                double s3 = 0;
+                for (int r = 0; r < n; r++) {
+                    final double v = xi[r];
+                    s0 += v * x0[r];
+                    s1 += v * x1[r];
+                    s2 += v * x2[r];
+                    s3 += v * x3[r];
+                }
+                productSums[j] += s0;
+                productSums[j + 1] += s1;
+                productSums[j + 2] += s2;
+                productSums[j + 3] += s3;
+            }
+            for (; j < j1; j++) {
+                final double[] xj = m_values[j];
+                double s = 0;
+                for (int r = 0; r < n; r++) {
+                    s += xi[r] * xj[r];
+                }
+                productSums[j] += s;
+            }
+        }
+    }
+
+    /** Adds the products, masked sums and pair counts of the columns of a tile of a batch with missing values. */
+    private void computeMaskedTile(final int i0, final int i1, final int j0, final int j1) {
+        final int n = m_batchRows;
+        for (int i = i0; i < i1; i++) {
+            final double[] xi = m_values[i];
+            final double[] qi = m_squares[i];
+            final double[] mi = m_masks[i];
+            for (int j = Math.max(i, j0); j < j1; j++) {
+                final double[] xj = m_values[j];
+                final double[] qj = m_squares[j];
+                final double[] mj = m_masks[j];
+                double product = 0;
+                double sumI = 0;
+                double squareSumI = 0;
+                double sumJ = 0;
+                double squareSumJ = 0;
+                double count = 0;
+                for (int r = 0; r < n; r++) {
+                    product += xi[r] * xj[r];
+                    sumI += xi[r] * mj[r];
+                    squareSumI += qi[r] * mj[r];
+                    sumJ += xj[r] * mi[r];
+                    squareSumJ += qj[r] * mi[r];
+                    count += mi[r] * mj[r];
+                }
+                m_productSums[i][j] += product;
+                m_counts[i][j] += count;
+                m_sums[i][j] += sumI;
+                m_squareSums[i][j] += squareSumI;
+                if (i != j) {
+                    m_sums[j][i] += sumJ;
+                    m_squareSums[j][i] += squareSumJ;
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #computeMaskedTile(int, int, int, int)} but selects the rows explicitly, as masking by
+     * multiplication does not work for infinite and NaN values.
+     */
+    private void computeSelectedTile(final int i0, final int i1, final int j0, final int j1) {
+        final int n = m_batchRows;
+        for (int i = i0; i < i1; i++) {
+            final double[] xi = m_values[i];
+            final double[] qi = m_squares[i];
+            final double[] mi = m_masks[i];
+            for (int j = Math.max(i, j0); j < j1; j++) {
+                final double[] xj = m_values[j];
+                final double[] qj = m_squares[j];
+                final double[] mj = m_masks[j];
+                double product = 0;
+                double sumI = 0;
+                double squareSumI = 0;
+                double sumJ = 0;
+                double squareSumJ = 0;
+                double count = 0;
+                for (int r = 0; r < n; r++) {
+                    if (mi[r] != 0 && mj[r] != 0) {
+                        product += xi[r] * xj[r];
+                        sumI += xi[r];
+                        squareSumI += qi[r];
+                        sumJ += xj[r];
+                        squareSumJ += qj[r];
+                        count++;
+                    }
+                }
+                m_productSums[i][j] += product;
+                m_counts[i][j] += count;
+                m_sums[i][j] += sumI;
+                m_squareSums[i][j] += squareSumI;
+                if (i != j) {
+                    m_sums[j][i] += sumJ;
+                    m_squareSums[j][i] += squareSumJ;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param column the column index
+     * @return the value by which all values of the column are shifted
+     */
+    double getShift(final int column) {
+        return m_shifts[column];
+    }
+
+    /**
+     * @param i a column index
+     * @param j another column index
+     * @return the number of rows where neither column is missing
+     */
+    long getValidCount(final int i, final int j) {
+        final double masked = m_counts == null ? 0 : m_counts[Math.min(i, j)][Math.max(i, j)];
+        return m_completeCount + (long)masked;
+    }
+
+    /**
+     * @param i a column index
+     * @param j another column index
+     * @return the sum of the shifted values of column i in the rows where neither column is missing
+     */
+    double getSum(final int i, final int j) {
+        return m_completeSums[i] + (m_sums == null ? 0 : m_sums[i][j]);
+    }
+
+    /**
+     * @param i a column index
+     * @param j another column index
+     * @return the sum of the squared shifted values of column i in the rows where neither column is missing
+     */
+    double getSquareSum(final int i, final int j) {
+        return m_completeSquareSums[i] + (m_squareSums == null ? 0 : m_squareSums[i][j]);
+    }
+
+    /**
+     * @param i a column index
+     * @param j another column index
+     * @return the sum of the products of the shifted values of both columns in the rows where neither is missing
+     */
+    double getProductSum(final int i, final int j) {
+        return m_productSums[Math.min(i, j)][Math.max(i, j)];
+    }
+}
@@ -0,0 +1,645 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.crossjoin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.function.DoublePredicate;
+import java.util.stream.IntStream;
+
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Creates the cartesian product of two tables block by block.
+ * <p>
+ * The bottom table is cached column by column in a block that grows until the whole table is cached or the
+ * {@link MemoryAlertSystem} reports low memory. If the whole bottom table fits into one block, it is read exactly
+ * once, otherwise it is re-read block by block for each chunk of top rows. The pairs of a block of top rows and a
+ * block of bottom rows are split into tasks of at most {@value #MAX_PAIRS_PER_TASK} pairs that are joined
+ * concurrently, while their rows are pushed to the output in the order of the tasks.
+ * </p>
+ * <p>
+ * The output is ordered by chunk of top rows, chunk of bottom rows, top row and bottom row, where the chunks have the
+ * chunk size of the node, no matter whether the bottom table fits into memory. This is the order of the nested loop
+ * over chunks of both tables the node used before.
+ * </p>
+ * <p>
+ * An optional {@link PairFilter} prunes pairs before their rows are created, which is much cheaper than filtering
+ * the joined table.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class BlockCrossJoiner {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BlockCrossJoiner.class);
+
+    /** Maximum number of pairs joined by one task, i.e. the maximum number of rows buffered per task. */
+    static final int MAX_PAIRS_PER_TASK = 1 << 12;
+
+    /** Maximum number of top rows held in memory at once unless the chunk size is larger. */
+    static final int MAX_LEFT_BLOCK_SIZE = 1 << 16;
+
+    /** Minimum number of cached bottom rows before the memory state is considered at all. */
+    private static final int MIN_CACHED_ROWS = 1024;
+
+    /**
+     * Restricts the pairs of a cross join before their rows are created, e.g. to the pairs that satisfy a range or
+     * band predicate applied after the join.
+     */
+    @FunctionalInterface
+    interface PairFilter {
+
+        /**
+         * Prepares the filter for a block of cached bottom rows.
+         *
+         * @param block the block of bottom rows
+         * @return the selector of the bottom rows that are joined with a top row, which is called concurrently
+         */
+        PairSelector prepare(RightBlock block);
+    }
+
+    /**
+     * Selects the bottom rows of a block that are joined with a top row.
+     */
+    @FunctionalInterface
+    interface PairSelector {
+
+        /**
+         * Selects the bottom rows of the block that are joined with the given top row.
+         *
+         * @param left the top row
+         * @param indices the array the ascending indices of the selected bottom rows are written to, its length is
+         *            the size of the block
+         * @return the number of selected bottom rows
+         */
+        int select(DataRow left, int[] indices);
+    }
+
+    private final BufferedDataTable m_right;
+
+    private final int m_chunkSize;
+
+    private final String m_delimiter;
+
+    private final boolean m_showLeft;
+
+    private final boolean m_showRight;
+
+    private final PairFilter m_filter;
+
+    /**
+     * Constructor.
+     *
+     * @param right the bottom table
+     * @param chunkSize the number of rows of the chunks that define the order of the joined rows
+     * @param delimiter the delimiter of the RowIDs of the joined rows
+     * @param showLeft <code>true</code> if the RowIDs of the top rows should be appended
+     * @param showRight <code>true</code> if the RowIDs of the bottom rows should be appended
+     * @param filter the filter of the pairs or <code>null</code> if all pairs should be joined
+     */
+    BlockCrossJoiner(final BufferedDataTable right, final int chunkSize, final String delimiter,
+        final boolean showLeft, final boolean showRight, final PairFilter filter) {
+        m_right = right;
+        m_chunkSize = Math.max(1, chunkSize);
+        m_delimiter = delimiter;
+        m_showLeft = showLeft;
+        m_showRight = showRight;
+        m_filter = filter;
+    }
+
+    /**
+     * Cross joins the top rows with the bottom table and closes the output.
+     *
+     * @param exec the execution context
+     * @param left the top rows
+     * @param leftRowCount the number of top rows or 0 if unknown
+     * @param output the output
+     * @throws Exception if the execution was canceled or interrupted, or the output failed
+     */
+    void join(final ExecutionContext exec, final RowInput left, final long leftRowCount, final RowOutput output)
+        throws Exception {
+        final var numCols = m_right.getDataTableSpec().getNumColumns();
+        RightBlock cached;
+        final boolean fullyCached;
+        try (CloseableRowIterator it = m_right.iterator()) {
+            cached = readBlock(exec, it, numCols, Integer.MAX_VALUE);
+            fullyCached = !it.hasNext();
+        }
+        // blocks consist of whole chunks so that the order of the chunks does not depend on the blocks
+        final int rightBlockSize = Math.max(m_chunkSize, cached.size() / m_chunkSize * m_chunkSize);
+        final int leftBlockSize;
+        final PairSelector cachedSelector;
+        if (fullyCached) {
+            cached.trim();
+            cachedSelector = m_filter == null ? null : m_filter.prepare(cached);
+            // enough top rows to keep all threads busy
+            final long leftRowsForTasks = 2L * getMaxThreads() * MAX_PAIRS_PER_TASK / Math.max(1, cached.size());
+            final long leftChunks =
+                (Math.min(MAX_LEFT_BLOCK_SIZE, Math.max(1, leftRowsForTasks)) + m_chunkSize - 1) / m_chunkSize;
+            leftBlockSize = (int)Math.min(Integer.MAX_VALUE / m_chunkSize, leftChunks) * m_chunkSize;
+        } else {
+            LOGGER.debugWithFormat("Bottom table does not fit into memory, joining blocks of %d rows.",
+                rightBlockSize);
+            // only one block of the bottom table is held in memory at a time, which is re-read per chunk of top
+            // rows as a chunk of top rows is joined with all chunks of bottom rows before the next one
+            cached = null;
+            cachedSelector = null;
+            leftBlockSize = m_chunkSize;
+        }
+        final List<DataRow> leftBlock = new ArrayList<>();
+        long leftRowsRead = 0;
+        boolean finished = false;
+        while (!finished) {
+            fillLeftBlock(exec, left, leftBlock, leftBlockSize);
+            finished = leftBlock.size() < leftBlockSize;
+            leftRowsRead += leftBlock.size();
+            if (!leftBlock.isEmpty()) {
+                if (fullyCached) {
+                    joinBlock(exec, leftBlock, cached, cachedSelector, output);
+                } else {
+                    try (CloseableRowIterator it = m_right.iterator()) {
+                        while (it.hasNext()) {
+                            final RightBlock block = readBlock(exec, it, numCols, rightBlockSize);
+                            joinBlock(exec, leftBlock, block, m_filter == null ? null : m_filter.prepare(block),
+                                output);
+                        }
+                    }
+                }
+                leftBlock.clear();
+            }
+            if (leftRowCount > 0) {
+                final long rowsRead = leftRowsRead;
+                exec.setProgress(rowsRead / (double)leftRowCount,
+                    () -> "Joined " + rowsRead + " of " + leftRowCount + " top rows");
+            } else {
+                exec.setMessage("Joined " + leftRowsRead + " top rows");
+            }
+        }
+        output.close();
+    }
+
+    /**
+     * Returns <code>true</code> if no more bottom rows should be added to the current block.
+     *
+     * @param cachedRows the number of bottom rows in the block
+     * @param memIndicator the memory indicator of the block
+     * @return <code>true</code> if the block is full
+     */
+    boolean blockFull(final int cachedRows, final MemoryActionIndicator memIndicator) {
+        return cachedRows >= MIN_CACHED_ROWS && memIndicator.lowMemoryActionRequired();
+    }
+
+    private RightBlock readBlock(final ExecutionContext exec, final CloseableRowIterator it, final int numCols,
+        final int maxRows) throws CanceledExecutionException {
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final var block = new RightBlock(numCols, m_showRight);
+        while (block.size() < maxRows && it.hasNext()) {
+            exec.checkCanceled();
+            block.add(it.next());
+            if (maxRows == Integer.MAX_VALUE && blockFull(block.size(), memIndicator)) {
+                break;
+            }
+        }
+        return block;
+    }
+
+    private static void fillLeftBlock(final ExecutionContext exec, final RowInput left, final List<DataRow> block,
+        final int blockSize) throws InterruptedException, CanceledExecutionException {
+        while (block.size() < blockSize) {
+            exec.checkCanceled();
+            final DataRow row = left.poll();
+            if (row == null) {
+                return;
+            }
+            block.add(row);
+        }
+    }
+
+    /** Joins all pairs of the given blocks and pushes the joined rows in the order of the pairs. */
+    private void joinBlock(final ExecutionContext exec, final List<DataRow> leftBlock, final RightBlock rightBlock,
+        final PairSelector selector, final RowOutput output) throws Exception {
+        if (leftBlock.isEmpty() || rightBlock.size() == 0) {
+            return;
+        }
+        final int maxThreads = getMaxThreads();
+        // the bottom rows of each top row are selected once and shared by all tasks
+        final int[][] selected = selector == null ? null : select(exec, leftBlock, rightBlock, selector, maxThreads);
+        final var tasks = new JoinTasks(exec, leftBlock, rightBlock, selected);
+        if (maxThreads <= 1 || (long)leftBlock.size() * rightBlock.size() <= MAX_PAIRS_PER_TASK) {
+            while (tasks.hasNext()) {
+                for (final DataRow row : tasks.next().call()) {
+                    output.push(row);
+                }
+            }
+        } else {
+            ParallelTasks.run(tasks, 2 * maxThreads, rows -> {
+                for (final DataRow row : rows) {
+                    output.push(row);
+                }
+            });
+        }
+    }
+
+    /** Returns the ascending indices of the bottom rows that are joined with each top row. */
+    private static int[][] select(final ExecutionContext exec, final List<DataRow> leftBlock,
+        final RightBlock rightBlock, final PairSelector selector, final int maxThreads)
+        throws CanceledExecutionException {
+        final int numLeft = leftBlock.size();
+        final int rowsPerTask = (numLeft + maxThreads - 1) / maxThreads;
+        final List<Callable<int[][]>> tasks = new ArrayList<>();
+        for (var from = 0; from < numLeft; from += rowsPerTask) {
+            final int start = from;
+            final int end = Math.min(numLeft, from + rowsPerTask);
+            tasks.add(() -> {
+                final var indices = new int[rightBlock.size()];
+                final var selected = new int[end - start][];
+                for (var l = start; l < end; l++) {
+                    exec.checkCanceled();
+                    selected[l - start] = Arrays.copyOf(indices, selector.select(leftBlock.get(l), indices));
+                }
+                return selected;
+            });
+        }
+        final var selected = new int[numLeft][];
+        var l = 0;
+        for (final int[][] part : ParallelTasks.run(tasks)) {
+            System.arraycopy(part, 0, selected, l, part.length);
+            l += part.length;
+        }
+        return selected;
+    }
+
+    /**
+     * Consecutive pairs of a top row and the bottom rows with the indices in [from, to), or the bottom rows with the
+     * selected indices at the positions [from, to) if the bottom rows are selected.
+     */
+    private record Run(int left, int[] selected, int from, int to) {
+    }
+
+    /**
+     * Creates the tasks that join the pairs of a block of top rows and a block of bottom rows, which both consist of
+     * whole chunks except for the last block of a table, in the order of the chunks of top rows, the chunks of bottom
+     * rows, the top rows and the bottom rows. A task joins at most {@value #MAX_PAIRS_PER_TASK} pairs.
+     */
+    private final class JoinTasks implements Iterator<Callable<List<DataRow>>> {
+
+        private final ExecutionContext m_exec;
+
+        private final List<DataRow> m_leftBlock;
+
+        private final RightBlock m_rightBlock;
+
+        private final int[][] m_selected;
+
+        /** The runs of the current chunks of top and bottom rows that have not been assigned to a task yet. */
+        private final Deque<Run> m_runs = new ArrayDeque<>();
+
+        /** The first and the last (exclusive) top row of the current chunk. */
+        private int m_leftStart;
+
+        private int m_leftEnd;
+
+        /** The first bottom row of the next chunk if all bottom rows are joined. */
+        private int m_rightStart;
+
+        /** The position of the next selected bottom row of each top row of the current chunk. */
+        private int[] m_positions;
+
+        JoinTasks(final ExecutionContext exec, final List<DataRow> leftBlock, final RightBlock rightBlock,
+            final int[][] selected) {
+            m_exec = exec;
+            m_leftBlock = leftBlock;
+            m_rightBlock = rightBlock;
+            m_selected = selected;
+            startLeftChunk(0);
+        }
+
+        private void startLeftChunk(final int leftStart) {
+            m_leftStart = leftStart;
+            m_leftEnd = (int)Math.min(m_leftBlock.size(), (long)leftStart + m_chunkSize);
+            m_rightStart = 0;
+            m_positions = new int[m_leftEnd - m_leftStart];
+        }
+
+        /**
+         * Returns the end (exclusive) of the chunk of bottom rows that starts at or contains the given bottom row. A
+         * single top row is joined with all bottom rows of the block in a row, which avoids runs of single pairs.
+         */
+        private int rightChunkEnd(final int right) {
+            if (m_leftEnd - m_leftStart == 1) {
+                return m_rightBlock.size();
+            }
+            return (int)Math.min(m_rightBlock.size(), (right / m_chunkSize + 1L) * m_chunkSize);
+        }
+
+        /** Adds the runs of the next chunk of bottom rows and returns <code>false</code> if there is none. */
+        private boolean addRunsOfNextRightChunk() {
+            if (m_selected == null) {
+                if (m_rightStart >= m_rightBlock.size()) {
+                    return false;
+                }
+                final int end = rightChunkEnd(m_rightStart);
+                for (int l = m_leftStart; l < m_leftEnd; l++) {
+                    m_runs.add(new Run(l, null, m_rightStart, end));
+                }
+                m_rightStart = end;
+                return true;
+            }
+            // skips the chunks of bottom rows that are not joined with any of the top rows
+            int next = Integer.MAX_VALUE;
+            for (int l = m_leftStart; l < m_leftEnd; l++) {
+                final int position = m_positions[l - m_leftStart];
+                if (position < m_selected[l].length) {
+                    next = Math.min(next, m_selected[l][position]);
+                }
+            }
+            if (next == Integer.MAX_VALUE) {
+                return false;
+            }
+            final int end = rightChunkEnd(next);
+            for (int l = m_leftStart; l < m_leftEnd; l++) {
+                final int from = m_positions[l - m_leftStart];
+                var to = from;
+                while (to < m_selected[l].length && m_selected[l][to] < end) {
+                    to++;
+                }
+                if (to > from) {
+                    m_runs.add(new Run(l, m_selected[l], from, to));
+                }
+                m_positions[l - m_leftStart] = to;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (m_runs.isEmpty()) {
+                if (m_leftStart >= m_leftBlock.size()) {
+                    return false;
+                }
+                if (!addRunsOfNextRightChunk()) {
+                    startLeftChunk(m_leftEnd);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Callable<List<DataRow>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<Run> runs = new ArrayList<>();
+            var numPairs = 0;
+            while (numPairs < MAX_PAIRS_PER_TASK && hasNext()) {
+                final Run run = m_runs.poll();
+                final int to = Math.min(run.to(), run.from() + MAX_PAIRS_PER_TASK - numPairs);
+                runs.add(new Run(run.left(), run.selected(), run.from(), to));
+                numPairs += to - run.from();
+                if (to < run.to()) {
+                    m_runs.addFirst(new Run(run.left(), run.selected(), to, run.to()));
+                }
+            }
+            final int capacity = numPairs;
+            return () -> joinRuns(runs, capacity);
+        }
+
+        private List<DataRow> joinRuns(final List<Run> runs, final int numPairs) throws CanceledExecutionException {
+            final List<DataRow> rows = new ArrayList<>(numPairs);
+            for (final Run run : runs) {
+                m_exec.checkCanceled();
+                final DataRow left = m_leftBlock.get(run.left());
+                for (int i = run.from(); i < run.to(); i++) {
+                    rows.add(joinRows(left, m_rightBlock, run.selected() == null ? i : run.selected()[i]));
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Returns a new row composed of the given top row and the bottom row of the block. The RowID is composed of the
+     * two RowIDs joined by the delimiter and the RowIDs are appended as cells depending on the settings.
+     */
+    private DataRow joinRows(final DataRow left, final RightBlock rightBlock, final int r) {
+        final int numLeft = left.getNumCells();
+        final int numRight = rightBlock.m_columns.length;
+        final var cells = new DataCell[numLeft + numRight + (m_showLeft ? 1 : 0) + (m_showRight ? 1 : 0)];
+        for (var i = 0; i < numLeft; i++) {
+            cells[i] = left.getCell(i);
+        }
+        for (var i = 0; i < numRight; i++) {
+            cells[numLeft + i] = rightBlock.m_columns[i][r];
+        }
+        if (m_showLeft) {
+            cells[numLeft + numRight] = new StringCell(left.getKey().toString());
+        }
+        if (m_showRight) {
+            cells[cells.length - 1] = rightBlock.m_keyCells[r];
+        }
+        return new DefaultRow(left.getKey().getString() + m_delimiter + rightBlock.m_keys[r], cells);
+    }
+
+    private static int getMaxThreads() {
+        return Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+    }
+
+    /**
+     * Creates a filter that only joins pairs whose bottom value minus top value lies within the given bounds. Pairs
+     * with a missing value are never joined.
+     *
+     * @param leftCol the index of the numeric column of the top table
+     * @param rightCol the index of the numeric column of the bottom table
+     * @param minDifference the minimum difference (inclusive)
+     * @param maxDifference the maximum difference (inclusive)
+     * @return the filter
+     */
+    static PairFilter createBandFilter(final int leftCol, final int rightCol, final double minDifference,
+        final double maxDifference) {
+        return block -> {
+            // the bottom rows with a numeric value ordered by value
+            final DataCell[] column = block.m_columns[rightCol];
+            final var values = new double[block.size()];
+            for (var r = 0; r < values.length; r++) {
+                values[r] = column[r].isMissing() ? Double.NaN : ((DoubleValue)column[r]).getDoubleValue();
+            }
+            final int[] order = IntStream.range(0, values.length).filter(r -> !Double.isNaN(values[r])).boxed()
+                .sorted(Comparator.comparingDouble(r -> values[r])).mapToInt(Integer::intValue).toArray();
+            final var sortedValues = new double[order.length];
+            for (var i = 0; i < order.length; i++) {
+                sortedValues[i] = values[order[i]];
+            }
+            return (left, indices) -> {
+                final DataCell cell = left.getCell(leftCol);
+                if (cell.isMissing()) {
+                    return 0;
+                }
+                final double value = ((DoubleValue)cell).getDoubleValue();
+                if (Double.isNaN(value)) {
+                    return 0;
+                }
+                // the difference is monotonic in the bottom value
+                final int from = firstIndex(sortedValues, v -> v - value >= minDifference);
+                final int to = firstIndex(sortedValues, v -> v - value > maxDifference);
+                final int count = Math.max(0, to - from);
+                System.arraycopy(order, from, indices, 0, count);
+                Arrays.sort(indices, 0, count);
+                return count;
+            };
+        };
+    }
+
+    /** Returns the first index of the sorted values that satisfies the monotonic predicate. */
+    private static int firstIndex(final double[] sortedValues, final DoublePredicate predicate) {
+        int lo = 0;
+        int hi = sortedValues.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (predicate.test(sortedValues[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * A block of bottom rows stored column by column.
+     */
+    static final class RightBlock {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private DataCell[][] m_columns;
+
+        private String[] m_keys = new String[INITIAL_CAPACITY];
+
+        /** The RowIDs as cells if they are appended, <code>null</code> otherwise. */
+        private StringCell[] m_keyCells;
+
+        private int m_size;
+
+        RightBlock(final int numCols, final boolean keyCells) {
+            m_columns = new DataCell[numCols][INITIAL_CAPACITY];
+            if (keyCells) {
+                m_keyCells = new StringCell[INITIAL_CAPACITY];
+            }
+        }
+
+        /**
+         * @return the number of rows in the block
+         */
+        int size() {
+            return m_size;
+        }
+
+        /**
+         * @param col the column index
+         * @param row the row index within the block
+         * @return the cell of the given row and column
+         */
+        DataCell getCell(final int col, final int row) {
+            return m_columns[col][row];
+        }
+
+        void add(final DataRow row) {
+            if (m_size == m_keys.length) {
+                resize(m_size * 2);
+            }
+            for (var i = 0; i < m_columns.length; i++) {
+                m_columns[i][m_size] = row.getCell(i);
+            }
+            final String key = row.getKey().getString();
+            m_keys[m_size] = key;
+            if (m_keyCells != null) {
+                m_keyCells[m_size] = new StringCell(key);
+            }
+            m_size++;
+        }
+
+        /** Releases the unused capacity of a block that is kept for the whole join. */
+        void trim() {
+            resize(m_size);
+        }
+
+        private void resize(final int capacity) {
+            for (var i = 0; i < m_columns.length; i++) {
+                m_columns[i] = Arrays.copyOf(m_columns[i], capacity);
+            }
+            m_keys = Arrays.copyOf(m_keys, capacity);
+            if (m_keyCells != null) {
+                m_keyCells = Arrays.copyOf(m_keyCells, capacity);
+            }
+        }
+    }
+}
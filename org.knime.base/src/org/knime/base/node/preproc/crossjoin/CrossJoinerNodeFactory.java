@@ -122,7 +122,9 @@ public boolean hasDialog() {
     private static final String FULL_DESCRIPTION = """
                 Performs a cross join of two tables. Each row of the top table is joined with each row of the bottom
                 table. Note, this is an extremely expensive operation as the number of rows in the output is the product
-                of both input table row counts, by increasing the chunk size there will be a speed up.
+                of both input table row counts. The bottom table is cached in memory as far as possible and joined
+                with blocks of top rows on all available threads. Optionally, only pairs whose numeric difference lies
+                within a given range are output, which is much faster than filtering the cross product afterwards.
 
                 <p>
                 <i>Note:</i>
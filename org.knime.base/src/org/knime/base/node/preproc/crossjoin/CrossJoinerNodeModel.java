@@ -47,7 +47,6 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -56,13 +55,10 @@
 import javax.swing.event.ChangeListener;
 
 import org.apache.commons.lang.StringUtils;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.CloseableRowIterator;
-import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.DoubleValue;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -74,6 +70,7 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObjectSpec;
@@ -112,6 +109,16 @@ final class CrossJoinerNodeModel extends NodeModel {
 
     private final SettingsModelString m_nameRight = createSecondRowIdsNameSettingsModel(m_showRight);
 
+    private final SettingsModelBoolean m_filterPairs = createFilterPairsSettingsModel();
+
+    private final SettingsModelString m_topFilterColumn = createTopFilterColumnSettingsModel();
+
+    private final SettingsModelString m_bottomFilterColumn = createBottomFilterColumnSettingsModel();
+
+    private final SettingsModelDouble m_minDifference = createMinDifferenceSettingsModel();
+
+    private final SettingsModelDouble m_maxDifference = createMaxDifferenceSettingsModel();
+
     /**
      * Constructor for the node model.
      */
@@ -146,7 +153,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             exec.createDataContainer(createSpec(inData[0].getDataTableSpec(), inData[1].getDataTableSpec())));
 
         // join the tables
-        crossJoin(new DataTableRowInput(inData[0]), inData[1], output, inData[0].size() * inData[1].size(), exec);
+        crossJoin(new DataTableRowInput(inData[0]), inData[1], output, inData[0].size(), exec);
 
         // return the joined table
         return new BufferedDataTable[]{output.getDataTable()};
@@ -175,122 +182,21 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final
      * @param lData the left data input
      * @param rData the right data input
      * @param output the output, i.e., the joined table
-     * @param totalNumRows the row count of the resulting table. Use 0 if it's not known in advance
+     * @param leftRowCount the row count of the left data input. Use 0 if it's not known in advance
      * @param exec the execution context
      * @throws Exception - If the execution was, e.g., interrupted or canceled
      */
     private void crossJoin(final RowInput lData, final BufferedDataTable rData, final RowOutput output,
-        final long totalNumRows, final ExecutionContext exec) throws Exception {
-        int chunksize = m_cacheSize.getIntValue();
-        double rowCounter = 0;
-        final List<DataRow> lDataChunk = new ArrayList<DataRow>();
-        final List<DataRow> rDataChunk = new ArrayList<DataRow>();
-        boolean finished = false;
-        while (!finished) {
-            // collect a chunk from the left data input
-            fillLeftDataChunk(lDataChunk, lData, chunksize, exec);
-            // check whether we reached the end of the left data input
-            finished = lDataChunk.size() < chunksize;
-            // start joining the chunked data rows of the left data input with the right input data
-            if (!lDataChunk.isEmpty()) {
-                try (CloseableRowIterator rRowIt = rData.iterator()) {
-                    while (rRowIt.hasNext()) {
-                        // collect a chunk from the right data input
-                        fillRightDataChunk(rDataChunk, rRowIt, chunksize, exec);
-                        // join the data rows
-                        for (final DataRow lRow : lDataChunk) {
-                            for (final DataRow rRow : rDataChunk) {
-                                exec.checkCanceled();
-                                final DataRow row = joinRows(lRow, rRow);
-                                output.push(row);
-                                exec.setProgress(++rowCounter / totalNumRows,
-                                    () -> "Generating Row " + row.getKey().toString());
-                            }
-                        }
-                        rDataChunk.clear();
-                    }
-                    lDataChunk.clear();
-                }
-            }
-        }
-        output.close();
-    }
-
-    /**
-     * Fills the provided list with an unprocessed chunk of data rows.
-     *
-     * @param list the list to store the chunk of data rows to
-     * @param rowIt the data row iterator
-     * @param chunkSize the size of the chunk to be collected
-     * @throws CanceledExecutionException - If the execution was canceled
-     */
-    private static void fillRightDataChunk(final List<DataRow> list, final CloseableRowIterator rowIt,
-        final int chunkSize, final ExecutionContext exec) throws CanceledExecutionException {
-        for (int i = 0; i < chunkSize && rowIt.hasNext(); i++) {
-            exec.checkCanceled();
-            list.add(rowIt.next());
-        }
-    }
-
-    /**
-     * Fills the provided list with an unprocessed chunk of data rows.
-     *
-     * @param list the list to store the chunk of data rows to
-     * @param data the input holding the next chunk of data rows
-     * @param chunkSize the size of the chunk to be collected
-     * @param exec the execution context
-     * @throws InterruptedException - If the execution was interrupted
-     * @throws CanceledExecutionException - If the execution was canceled
-     */
-    private static void fillLeftDataChunk(final List<DataRow> list, final RowInput data, final int chunkSize,
-        final ExecutionContext exec) throws InterruptedException, CanceledExecutionException {
-        for (int i = 0; i < chunkSize; i++) {
-            exec.checkCanceled();
-            final DataRow row = data.poll();
-            if (row == null) {
-                return;
-            }
-            list.add(row);
-        }
-    }
-
-    /**
-     * Returns a new DataRow composed of the two rows to join. The row-key of the new DataRow is composed of the two
-     * individual row-keys joined together with the selected {@link #m_rkseparator delimiter}. Depending on the settings
-     * a new left and/or right column containing the corresponding row-keys is created.
-     *
-     * @param left the first data row (put at the beginning of the new one)
-     * @param right the second data row (at the end of the new one)
-     * @return a DataRow, containing the cells of both rows and if selected the (original) row-keys in additional
-     *         columns
-     * @since 2.9.1
-     */
-    private DataRow joinRows(final DataRow left, final DataRow right) {
-        final boolean showLeft = m_showLeft.getBooleanValue();
-        final boolean showRight = m_showRight.getBooleanValue();
-        final String delimiter = m_rkseparator.getStringValue();
-
-        int numCols = left.getNumCells() + right.getNumCells() + (showLeft ? 1 : 0) + (showRight ? 1 : 0);
-        DataCell[] cells = new DataCell[numCols];
-
-        for (int i = 0; i < left.getNumCells(); i++) {
-            cells[i] = left.getCell(i);
-        }
-        for (int i = 0; i < right.getNumCells(); i++) {
-            cells[i + left.getNumCells()] = right.getCell(i);
-        }
-
-        if (showLeft) {
-            cells[left.getNumCells() + right.getNumCells()] = new StringCell(left.getKey().toString());
+        final long leftRowCount, final ExecutionContext exec) throws Exception {
+        BlockCrossJoiner.PairFilter filter = null;
+        if (m_filterPairs.getBooleanValue()) {
+            filter = BlockCrossJoiner.createBandFilter(
+                lData.getDataTableSpec().findColumnIndex(m_topFilterColumn.getStringValue()),
+                rData.getDataTableSpec().findColumnIndex(m_bottomFilterColumn.getStringValue()),
+                m_minDifference.getDoubleValue(), m_maxDifference.getDoubleValue());
         }
-
-        if (showRight) {
-            cells[left.getNumCells() + right.getNumCells() + (showLeft ? 1 : 0)] =
-                new StringCell(right.getKey().toString());
-        }
-
-        String newrowkey = left.getKey().getString() + delimiter + right.getKey().getString();
-        return new DefaultRow(newrowkey, cells);
+        new BlockCrossJoiner(rData, m_cacheSize.getIntValue(), m_rkseparator.getStringValue(),
+            m_showLeft.getBooleanValue(), m_showRight.getBooleanValue(), filter).join(exec, lData, leftRowCount, output);
     }
 
     private DataTableSpec createSpec(final DataTableSpec left, final DataTableSpec right) {
@@ -353,9 +259,26 @@ protected void reset() {
      */
     @Override
     protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        if (m_filterPairs.getBooleanValue()) {
+            checkFilterColumn(inSpecs[0], m_topFilterColumn.getStringValue(), "top");
+            checkFilterColumn(inSpecs[1], m_bottomFilterColumn.getStringValue(), "bottom");
+        }
         return new DataTableSpec[]{createSpec(inSpecs[0], inSpecs[1])};
     }
 
+    private static void checkFilterColumn(final DataTableSpec spec, final String column, final String table)
+        throws InvalidSettingsException {
+        final DataColumnSpec colSpec = spec.getColumnSpec(column);
+        if (colSpec == null) {
+            throw new InvalidSettingsException(
+                "The filter column '" + column + "' is not contained in the " + table + " table.");
+        }
+        if (!colSpec.getType().isCompatible(DoubleValue.class)) {
+            throw new InvalidSettingsException(
+                "The filter column '" + column + "' of the " + table + " table is not numeric.");
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -369,6 +292,11 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_showRight.saveSettingsTo(settings);
         m_nameLeft.saveSettingsTo(settings);
         m_nameRight.saveSettingsTo(settings);
+        m_filterPairs.saveSettingsTo(settings);
+        m_topFilterColumn.saveSettingsTo(settings);
+        m_bottomFilterColumn.saveSettingsTo(settings);
+        m_minDifference.saveSettingsTo(settings);
+        m_maxDifference.saveSettingsTo(settings);
     }
 
     /**
@@ -387,6 +315,16 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
             m_nameLeft.loadSettingsFrom(settings);
             m_nameRight.loadSettingsFrom(settings);
         }
+        if (settings.containsKey(m_filterPairs.getKey())) {
+            // one in, all in
+            m_filterPairs.loadSettingsFrom(settings);
+            m_topFilterColumn.loadSettingsFrom(settings);
+            m_bottomFilterColumn.loadSettingsFrom(settings);
+            m_minDifference.loadSettingsFrom(settings);
+            m_maxDifference.loadSettingsFrom(settings);
+        } else {
+            m_filterPairs.setBooleanValue(false);
+        }
     }
 
     /**
@@ -417,6 +355,22 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
             m_nameLeft.validateSettings(settings);
             m_nameRight.validateSettings(settings);
         }
+        if (settings.containsKey(m_filterPairs.getKey())) {
+            // one in, all in
+            m_filterPairs.validateSettings(settings);
+            m_topFilterColumn.validateSettings(settings);
+            m_bottomFilterColumn.validateSettings(settings);
+            m_minDifference.validateSettings(settings);
+            m_maxDifference.validateSettings(settings);
+            final double min =
+                ((SettingsModelDouble)m_minDifference.createCloneWithValidatedValue(settings)).getDoubleValue();
+            final double max =
+                ((SettingsModelDouble)m_maxDifference.createCloneWithValidatedValue(settings)).getDoubleValue();
+            if (min > max) {
+                throw new InvalidSettingsException(
+                    "The minimum difference must not be larger than the maximum difference.");
+            }
+        }
     }
 
     /**
@@ -497,6 +451,41 @@ public void stateChanged(final ChangeEvent e) {
         return settingsModel;
     }
 
+    /**
+     * @return the SM for filtering the pairs by the difference of two numeric columns
+     */
+    static SettingsModelBoolean createFilterPairsSettingsModel() {
+        return new SettingsModelBoolean("CFG_FILTER_PAIRS", false);
+    }
+
+    /**
+     * @return the SM for the numeric filter column of the top table
+     */
+    static SettingsModelString createTopFilterColumnSettingsModel() {
+        return new SettingsModelString("CFG_TOP_FILTER_COLUMN", "");
+    }
+
+    /**
+     * @return the SM for the numeric filter column of the bottom table
+     */
+    static SettingsModelString createBottomFilterColumnSettingsModel() {
+        return new SettingsModelString("CFG_BOTTOM_FILTER_COLUMN", "");
+    }
+
+    /**
+     * @return the SM for the minimum difference of the bottom and the top filter value
+     */
+    static SettingsModelDouble createMinDifferenceSettingsModel() {
+        return new SettingsModelDouble("CFG_MIN_DIFFERENCE", 0);
+    }
+
+    /**
+     * @return the SM for the maximum difference of the bottom and the top filter value
+     */
+    static SettingsModelDouble createMaxDifferenceSettingsModel() {
+        return new SettingsModelDouble("CFG_MAX_DIFFERENCE", 0);
+    }
+
     /**
      * Creates a settings model for the suffix of duplicate column names in the right table.
      *
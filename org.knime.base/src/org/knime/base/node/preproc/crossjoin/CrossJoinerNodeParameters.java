@@ -46,6 +46,8 @@
 
 package org.knime.base.node.preproc.crossjoin;
 
+import org.knime.core.data.DoubleValue;
+import org.knime.core.node.InvalidSettingsException;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.Widget;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
@@ -56,6 +58,8 @@
 import org.knime.node.parameters.updates.EffectPredicateProvider;
 import org.knime.node.parameters.updates.ParameterReference;
 import org.knime.node.parameters.updates.ValueReference;
+import org.knime.node.parameters.widget.choices.ChoicesProvider;
+import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider;
 import org.knime.node.parameters.widget.number.NumberInputWidget;
 import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 import org.knime.node.parameters.widget.text.TextInputWidget;
@@ -94,6 +98,37 @@ public EffectPredicate init(final PredicateInitializer i) {
         }
     }
 
+    /** Reference for the "Filter pairs by numeric difference" toggle. */
+    interface FilterPairsRef extends ParameterReference<Boolean> {
+    }
+
+    /** Predicate provider: show dependent controls when the pairs should be filtered. */
+    static final class FilterPairsIsTrue implements EffectPredicateProvider {
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(FilterPairsRef.class).isTrue();
+        }
+    }
+
+    /** Numeric columns of the top table. */
+    static final class TopNumericColumns extends CompatibleColumnsProvider {
+        TopNumericColumns() {
+            super(DoubleValue.class);
+        }
+    }
+
+    /** Numeric columns of the bottom table. */
+    static final class BottomNumericColumns extends CompatibleColumnsProvider {
+        BottomNumericColumns() {
+            super(DoubleValue.class);
+        }
+
+        @Override
+        public int getInputTableIndex() {
+            return 1;
+        }
+    }
+
     @Widget(title = "Bottom table's column name suffix", description = """
             The suffix attached to a column's name if the bottom table contains a column
             with the same name. The column names of the first inport are always retained.
@@ -112,8 +147,9 @@ public EffectPredicate init(final PredicateInitializer i) {
     public String rowKeySeparator = "_";
 
     @Widget(title = "Chunk size", description = """
-            Number of rows read at once. Increasing this value yields faster execution time
-            but also increases memory consumption.
+            Minimum number of rows of the top table read at once. The bottom table is cached in memory
+            as far as possible and joined with blocks of top rows on all available threads. Increasing
+            this value only matters if the bottom table does not fit into memory.
             """)
     @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
     @Persist(configKey = "CFG_CACHE")
@@ -147,4 +183,46 @@ public EffectPredicate init(final PredicateInitializer i) {
     @Effect(predicate = ShowSecondRowIdsIsTrue.class, type = EffectType.SHOW)
     @Persist(configKey = "CFG_SECOND_COLUMNNAME")
     public String secondRowIdsColumnName = "SecondRowIDs";
+
+    @Widget(title = "Filter pairs by numeric difference", description = """
+            If selected only pairs of rows are output whose difference of the bottom and the top filter
+            column value lies within the given minimum and maximum difference (both inclusive). The
+            pairs are selected while joining, which is much faster than filtering the full cross
+            product afterwards. Rows with a missing filter value are not joined.
+            """)
+    @Persist(configKey = "CFG_FILTER_PAIRS")
+    @ValueReference(FilterPairsRef.class)
+    public boolean filterPairs = false;
+
+    @Widget(title = "Filter column (top)", description = "The numeric column of the top table to filter by")
+    @ChoicesProvider(TopNumericColumns.class)
+    @Effect(predicate = FilterPairsIsTrue.class, type = EffectType.SHOW)
+    @Persist(configKey = "CFG_TOP_FILTER_COLUMN")
+    public String topFilterColumn = "";
+
+    @Widget(title = "Filter column (bottom)", description = "The numeric column of the bottom table to filter by")
+    @ChoicesProvider(BottomNumericColumns.class)
+    @Effect(predicate = FilterPairsIsTrue.class, type = EffectType.SHOW)
+    @Persist(configKey = "CFG_BOTTOM_FILTER_COLUMN")
+    public String bottomFilterColumn = "";
+
+    @Widget(title = "Minimum difference",
+        description = "The minimum difference of the bottom and the top filter value of a joined pair")
+    @Effect(predicate = FilterPairsIsTrue.class, type = EffectType.SHOW)
+    @Persist(configKey = "CFG_MIN_DIFFERENCE")
+    public double minDifference = 0;
+
+    @Widget(title = "Maximum difference",
+        description = "The maximum difference of the bottom and the top filter value of a joined pair")
+    @Effect(predicate = FilterPairsIsTrue.class, type = EffectType.SHOW)
+    @Persist(configKey = "CFG_MAX_DIFFERENCE")
+    public double maxDifference = 0;
+
+    @Override
+    public void validate() throws InvalidSettingsException {
+        if (filterPairs && minDifference > maxDifference) {
+            throw new InvalidSettingsException(
+                "The minimum difference must not be larger than the maximum difference.");
+        }
+    }
 }
@@ -293,6 +293,17 @@ interface PerformanceSection {
     @Layout(PerformanceSection.class)
     boolean m_updateDomains;
 
+    @Persist(configKey = DuplicateRowFilterSettings.HASH_BASED_KEY)
+    @Migrate(loadDefaultIfAbsent = true)
+    @Widget(title = "Detect duplicates without sorting",
+        description = "If selected, duplicates are detected with a hash table instead of sorting the input table. "
+            + "The output rows always have the same order as in the input table. If the working memory (RAM) gets "
+            + "low, the rows of new groups are swapped to disk unless \"Compute in memory\" is selected. "
+            + "If duplicate rows are removed and the first row is chosen, the node can be executed in streaming "
+            + "mode, keeping only the values of the selected columns in memory.")
+    @Layout(PerformanceSection.class)
+    boolean m_hashBased;
+
     /** Constructor for deserialization */
     DuplicateRowFilterDialogSettings() {
     }
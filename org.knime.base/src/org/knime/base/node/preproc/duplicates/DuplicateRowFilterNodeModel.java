@@ -52,9 +52,12 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.knime.base.node.preproc.duplicates.DuplicateRowFilterSettings.RowSelectionType;
+import org.knime.base.node.preproc.groupby.GroupKey;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -79,6 +82,14 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.util.UniqueNameGenerator;
@@ -134,6 +145,17 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         // sort the table according to the selected group columns
         final String[] grpCols = m_settings.getGroupCols(data.getDataTableSpec()).getIncludes();
 
+        // detect the duplicates via hashing, which retains the row order without sorting
+        if (m_settings.hashBased()) {
+            final ExecutionContext hashContext =
+                m_settings.updateDomains() ? exec.createSubExecutionContext(0.7) : exec;
+            data = hashDuplicates(hashContext, grpCols, data);
+            if (m_settings.updateDomains()) {
+                data = updateDomain(data, exec.createSubExecutionContext(0.3));
+            }
+            return new BufferedDataTable[]{data};
+        }
+
         // append the row order column if required
         final boolean hasOrderCol;
         ExecutionContext mainContext;
@@ -246,13 +268,8 @@ private BufferedDataTable sortTable(final BufferedDataTable inData, final Execut
 
     private static BufferedDataTable removeDuplicates(final ExecutionContext exec, final String[] grpCols,
         final BufferedDataTable sortedTbl) throws CanceledExecutionException {
-        final var containerSettings = DataContainerSettings.builder()//
-                .withInitializedDomain(true)// take the domain from the input
-                .withDomainUpdate(true)// unfortunately needed for backwards-compatibility
-                .withCheckDuplicateRowKeys(false)// we will not introduce new keys
-                .build();
-
-        final BufferedDataContainer cont = exec.createDataContainer(sortedTbl.getDataTableSpec(), containerSettings);
+        final BufferedDataContainer cont =
+            exec.createDataContainer(sortedTbl.getDataTableSpec(), createRemoveDuplicatesContainerSettings());
         final int[] grpIndices = sortedTbl.getDataTableSpec().columnsToIndices(grpCols);
         double rowCnt = 0;
         final long nRows = sortedTbl.size();
@@ -276,6 +293,21 @@ private static BufferedDataTable removeDuplicates(final ExecutionContext exec, f
         return cont.getTable();
     }
 
+    private static DataContainerSettings createRemoveDuplicatesContainerSettings() {
+        return DataContainerSettings.builder()//
+                .withInitializedDomain(true)// take the domain from the input
+                .withDomainUpdate(true)// unfortunately needed for backwards-compatibility
+                .withCheckDuplicateRowKeys(false)// we will not introduce new keys
+                .build();
+    }
+
+    private static DataContainerSettings createAppendColumnsContainerSettings() {
+        return DataContainerSettings.builder()//
+                .withCheckDuplicateRowKeys(false)//
+                .withDomainUpdate(true)// unfortunately needed for backwards-compatibility
+                .build();
+    }
+
     private static boolean isDifferentGroup(final int[] grpIndices, final DataRow prevRow, final DataRow curRow) {
         return Arrays.stream(grpIndices).anyMatch(i -> !prevRow.getCell(i).equals(curRow.getCell(i)));
     }
@@ -283,12 +315,8 @@ private static boolean isDifferentGroup(final int[] grpIndices, final DataRow pr
     private BufferedDataTable appendColumns(final ExecutionContext exec, final String[] grpCols,
         final BufferedDataTable sortedTbl) throws CanceledExecutionException {
         final int[] grpIndices = sortedTbl.getDataTableSpec().columnsToIndices(grpCols);
-        final var containerSettings = DataContainerSettings.builder()//
-                .withCheckDuplicateRowKeys(false)//
-                .withDomainUpdate(true)// unfortunately needed for backwards-compatibility
-                .build();
-        final BufferedDataContainer cont =
-            exec.createDataContainer(createAdditionalColsSpec(sortedTbl.getDataTableSpec()), containerSettings);
+        final BufferedDataContainer cont = exec.createDataContainer(
+            createAdditionalColsSpec(sortedTbl.getDataTableSpec()), createAppendColumnsContainerSettings());
         double rowCnt = 0;
         final long nRows = sortedTbl.size();
         DataCell referenceKey = DataType.getMissingCell();
@@ -340,6 +368,90 @@ private BufferedDataTable appendColumns(final ExecutionContext exec, final Strin
         return exec.createJoinedTable(sortedTbl, cont.getTable(), exec);
     }
 
+    /**
+     * Removes or flags the duplicates of the unsorted input table by means of the {@link HashDuplicateRowFilter}.
+     *
+     * @param exec the execution context
+     * @param grpCols the duplicate detection columns
+     * @param data the input table
+     * @return the output table, which has the same row order as the input table
+     * @throws CanceledExecutionException - If the execution has been canceled
+     */
+    private BufferedDataTable hashDuplicates(final ExecutionContext exec, final String[] grpCols,
+        final BufferedDataTable data) throws CanceledExecutionException {
+        final DataTableSpec spec = data.getDataTableSpec();
+        final int[] grpIndices = spec.columnsToIndices(grpCols);
+        final RowSelectionType rowSelectionType = m_settings.getRowSelectionType();
+        final int refIndex =
+            rowSelectionType.supportsRefCol() ? spec.findColumnIndex(m_settings.getReferenceCol()) : -1;
+        final var filter =
+            new HashDuplicateRowFilter(rowSelectionType, m_settings.removeDuplicates(), m_settings.inMemory());
+        if (m_settings.removeDuplicates()) {
+            final BufferedDataContainer cont =
+                exec.createDataContainer(spec, createRemoveDuplicatesContainerSettings());
+            filter.filter(exec, data, grpIndices, refIndex, (row, status, referenceKey) -> {
+                if (status != DUPLICATE_IDENTIFIER) {
+                    cont.addRowToTable(row);
+                }
+            });
+            cont.close();
+            return cont.getTable();
+        }
+        final BufferedDataContainer cont =
+            exec.createDataContainer(createAdditionalColsSpec(spec), createAppendColumnsContainerSettings());
+        filter.filter(exec.createSubExecutionContext(0.9), data, grpIndices, refIndex,
+            (row, status, referenceKey) -> cont.addRowToTable(createRow(row, status, referenceKey)));
+        cont.close();
+        return exec.createJoinedTable(data, cont.getTable(), exec.createSubExecutionContext(0.1));
+    }
+
+    /**
+     * The node can be streamed if duplicates are detected via hashing, removed and the first row is chosen, as each
+     * row can then be decided on its own.
+     */
+    private boolean isStreamable() {
+        return m_settings.hashBased() && m_settings.removeDuplicates()
+            && m_settings.getRowSelectionType() == RowSelectionType.FIRST && !m_settings.updateDomains();
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (isStreamable()) {
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!isStreamable()) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        final DataTableSpec inSpec = (DataTableSpec)inSpecs[DATA_IN_PORT];
+        final int[] grpIndices = inSpec.columnsToIndices(m_settings.getGroupCols(inSpec).getIncludes());
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final RowInput input = (RowInput)inputs[DATA_IN_PORT];
+                final RowOutput output = (RowOutput)outputs[0];
+                // only the values of the duplicate detection columns are kept in memory
+                final Set<GroupKey> seenGroups = new HashSet<>();
+                DataRow row;
+                while ((row = input.poll()) != null) {
+                    exec.checkCanceled();
+                    if (seenGroups.add(HashDuplicateRowFilter.createKey(row, grpIndices))) {
+                        output.push(row);
+                    }
+                }
+                input.close();
+                output.close();
+            }
+        };
+    }
+
     private DataRow createRow(final DataRow curRow, final StringCell label, final DataCell referenceKey) {
         if (m_settings.addUniqueLabel() && m_settings.addRowLabel()) {
             return new DefaultRow(curRow.getKey(), label, referenceKey);
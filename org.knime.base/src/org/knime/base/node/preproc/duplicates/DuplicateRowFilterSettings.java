@@ -147,6 +147,9 @@ public String toString() {
 
     static final String UPDATE_DOMAINS_KEY = "update_domains";
 
+    /** The hash based duplicate detection config key. */
+    static final String HASH_BASED_KEY = "hash_based";
+
     /** Settings model storing the selected group columns. */
     private final SettingsModelColumnFilter2 m_groupCols = new SettingsModelColumnFilter2(GROUP_COLS_KEY);
 
@@ -189,6 +192,9 @@ public String toString() {
     /** If domains should be updated. This element is only shown in the modern UI, defaults to "false" otherwise. */
     private final SettingsModelBoolean m_updateDomains = new SettingsModelBoolean(UPDATE_DOMAINS_KEY, false);
 
+    /** Settings model storing the hash based duplicate detection flag. */
+    private final SettingsModelBoolean m_hashBased = new SettingsModelBoolean(HASH_BASED_KEY, false);
+
     private RowSelectionType m_rowSelectionType = RowSelectionType.FIRST;
 
     SettingsModelColumnFilter2 getGroupColsModel() {
@@ -267,6 +273,10 @@ boolean updateDomains() {
         return m_updateDomains.getBooleanValue();
     }
 
+    boolean hashBased() {
+        return m_hashBased.getBooleanValue();
+    }
+
     /**
      * @param settings
      */
@@ -291,6 +301,7 @@ void saveSettingsForModel(final NodeSettingsWO settings) {
         m_inMemory.saveSettingsTo(settings);
         saveSettingsForDialog(settings);
         m_updateDomains.saveSettingsTo(settings);
+        m_hashBased.saveSettingsTo(settings);
     }
 
     void loadSettingsForDialog(final NodeSettingsRO settings) throws InvalidSettingsException {
@@ -330,6 +341,13 @@ void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSett
             // Added in 5.0, defaults to false
             m_updateDomains.loadSettingsFrom(settings);
         }
+
+        if (settings.containsKey(HASH_BASED_KEY)) {
+            // Added in 5.12, defaults to false
+            m_hashBased.loadSettingsFrom(settings);
+        } else {
+            m_hashBased.setBooleanValue(false);
+        }
     }
 
     /**
@@ -354,6 +372,10 @@ void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsExcep
             // Added in 5.0
             m_updateDomains.validateSettings(settings);
         }
+        if (settings.containsKey(HASH_BASED_KEY)) {
+            // Added in 5.12
+            m_hashBased.validateSettings(settings);
+        }
         final var keepDuplicates = !settings.getBoolean(REMOVE_DUPLICATE_ROWS_KEY);
         final var addRowStatusColumn = settings.getBoolean(ADD_ROW_DUPLICATE_FLAG_KEY);
         final var addChosenRowIDColumn = settings.getBoolean(ADD_ROW_ID_FLAG_KEY);
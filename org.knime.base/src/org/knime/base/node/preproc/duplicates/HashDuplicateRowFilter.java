@@ -0,0 +1,492 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.duplicates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.knime.base.node.preproc.duplicates.DuplicateRowFilterSettings.RowSelectionType;
+import org.knime.base.node.preproc.groupby.GroupKey;
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Detects duplicate rows with a hash table instead of sorting the input table.
+ * <p>
+ * The first pass over the input table determines for each group (the values of the duplicate detection columns) the
+ * chosen row and the number of rows. The second pass labels each input row in input order, i.e. the output never needs
+ * to be sorted. Group values are compared with {@link DataCell#equals(Object)}, hash collisions are therefore always
+ * resolved.
+ * </p>
+ * <p>
+ * If the {@link MemoryAlertSystem} reports low memory, the groups that are already in memory are kept, whereas the
+ * group values of all rows belonging to groups that have not been seen so far are written to one of
+ * {@value HashPartitions#NUM_PARTITIONS} hash partitions together with their row index. Each partition is processed recursively
+ * and produces a table of row decisions ordered by row index, which are merged with the input table during the second
+ * pass.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class HashDuplicateRowFilter {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashDuplicateRowFilter.class);
+
+    /** Minimum number of in-memory groups before spilling is considered at all. */
+    private static final int MIN_GROUPS_IN_MEMORY = 16;
+
+    /**
+     * Receives the rows of the input table in input order together with their duplicate status.
+     */
+    @FunctionalInterface
+    interface RowConsumer {
+
+        /**
+         * @param row the input row
+         * @param status one of {@link DuplicateRowFilterNodeModel#UNIQUE_IDENTIFIER},
+         *            {@link DuplicateRowFilterNodeModel#CHOSEN_IDENTIFIER} or
+         *            {@link DuplicateRowFilterNodeModel#DUPLICATE_IDENTIFIER}
+         * @param referenceKey the RowID of the chosen row for duplicate rows, a missing cell otherwise
+         */
+        void accept(DataRow row, StringCell status, DataCell referenceKey);
+    }
+
+    private final RowSelectionType m_rowSelectionType;
+
+    private final boolean m_removeDuplicates;
+
+    private final boolean m_inMemory;
+
+    /**
+     * Constructor.
+     *
+     * @param rowSelectionType the row selection type used to choose a row from a set of duplicates
+     * @param removeDuplicates {@code true} if duplicate rows are removed, in which case only the decisions of the kept
+     *            rows of spilled groups are stored
+     * @param inMemory {@code true} if spilling to disk is disabled
+     */
+    HashDuplicateRowFilter(final RowSelectionType rowSelectionType, final boolean removeDuplicates,
+        final boolean inMemory) {
+        m_rowSelectionType = rowSelectionType;
+        m_removeDuplicates = removeDuplicates;
+        m_inMemory = inMemory;
+    }
+
+    /**
+     * Labels all rows of the given table and passes them in input order to the given consumer.
+     *
+     * @param exec the execution context
+     * @param table the input table
+     * @param grpIndices the indices of the duplicate detection columns
+     * @param refIndex the index of the reference column or -1 if the row selection type does not use one
+     * @param consumer the consumer receiving the labeled rows
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    void filter(final ExecutionContext exec, final BufferedDataTable table, final int[] grpIndices,
+        final int refIndex, final RowConsumer consumer) throws CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final DataValueComparator comparator =
+            refIndex < 0 ? null : spec.getColumnSpec(refIndex).getType().getComparator();
+        final var partitionSpec = createPartitionSpec(spec, grpIndices, refIndex);
+        final var groupExec = exec.createSubExecutionContext(0.4);
+        final var spillExec = exec.createSubExecutionContext(0.2);
+        final var outputExec = exec.createSubExecutionContext(0.4);
+
+        final var pass = firstPass(groupExec, table, grpIndices, refIndex, -1, comparator, partitionSpec, 0);
+        final List<BufferedDataTable> decisions = new ArrayList<>();
+        if (pass.m_partitions != null) {
+            processPartitions(spillExec, pass, partitionSpec, comparator, decisions, 0);
+        }
+        spillExec.setProgress(1.0);
+
+        final PriorityQueue<DecisionIterator> queue =
+            new PriorityQueue<>((a, b) -> Long.compare(a.m_index, b.m_index));
+        try {
+            for (final BufferedDataTable decisionTable : decisions) {
+                final var it = new DecisionIterator(decisionTable.iterator());
+                if (it.advance()) {
+                    queue.add(it);
+                } else {
+                    it.close();
+                }
+            }
+            final var groups = pass.m_groups;
+            final long rowCount = table.size();
+            long index = 0;
+            for (final DataRow row : table) {
+                outputExec.checkCanceled();
+                outputExec.setProgress(index / (double)rowCount, "Writing rows");
+                final var group = groups.get(createKey(row, grpIndices));
+                if (group != null) {
+                    consumer.accept(row, group.getStatus(index), group.getReferenceKey(index));
+                } else {
+                    final var head = queue.peek();
+                    if (head != null && head.m_index == index) {
+                        queue.poll();
+                        consumer.accept(row, head.m_status, head.m_referenceKey);
+                        if (head.advance()) {
+                            queue.add(head);
+                        } else {
+                            head.close();
+                        }
+                    } else {
+                        // only the kept rows of spilled groups are stored when duplicates get removed
+                        consumer.accept(row, DuplicateRowFilterNodeModel.DUPLICATE_IDENTIFIER,
+                            DataType.getMissingCell());
+                    }
+                }
+                index++;
+            }
+        } finally {
+            queue.forEach(DecisionIterator::close);
+        }
+        for (final BufferedDataTable decisionTable : decisions) {
+            exec.clearTable(decisionTable);
+        }
+    }
+
+    /**
+     * Groups the rows of the given table. Rows of groups that do not fit into memory are written to hash partitions.
+     *
+     * @param indexIdx the index of the row index column or -1 if the row index is the position within the table
+     */
+    private FirstPass firstPass(final ExecutionContext exec, final BufferedDataTable table, final int[] grpIndices,
+        final int refIndex, final int indexIdx, final DataValueComparator comparator,
+        final DataTableSpec partitionSpec, final int level) throws CanceledExecutionException {
+        final Map<GroupKey, Group> groups = new HashMap<>();
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final var canSpill = !m_inMemory && level < HashPartitions.MAX_SPILL_LEVEL;
+        HashPartitions partitions = null;
+        final long rowCount = table.size();
+        final var progressMsg = level > 0 ? ("Detecting duplicates in partition (level " + level + ")")
+            : "Detecting duplicates";
+        long position = 0;
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(position / (double)rowCount, progressMsg);
+            final long index = indexIdx < 0 ? position : ((LongValue)row.getCell(indexIdx)).getLongValue();
+            position++;
+            final var key = createKey(row, grpIndices);
+            var group = groups.get(key);
+            if (group == null) {
+                if (partitions == null && canSpill && spillRequired(groups.size(), memIndicator)) {
+                    LOGGER.debugWithFormat("Low memory: spilling new groups to %d partitions after %d groups "
+                        + "(level %d).", HashPartitions.NUM_PARTITIONS, groups.size(), level);
+                    partitions = new HashPartitions(exec, partitionSpec, level);
+                }
+                if (partitions != null) {
+                    partitions.add(key.hashCode(), createPartitionRow(row, key, refIndex, index));
+                    continue;
+                }
+                group = new Group(index, row.getKey(), refIndex < 0 ? null : row.getCell(refIndex));
+                groups.put(key, group);
+            } else {
+                group.update(m_rowSelectionType, index, row.getKey(), refIndex < 0 ? null : row.getCell(refIndex),
+                    comparator);
+            }
+        }
+        exec.setProgress(1.0);
+        return new FirstPass(groups, partitions);
+    }
+
+    /**
+     * Processes the hash partitions of the given pass and adds the decision tables of all spilled rows to the list.
+     */
+    private void processPartitions(final ExecutionContext exec, final FirstPass pass,
+        final DataTableSpec partitionSpec, final DataValueComparator comparator,
+        final List<BufferedDataTable> decisions, final int level) throws CanceledExecutionException {
+        final int nrGrpCols = partitionSpec.getNumColumns() - (comparator == null ? 1 : 2);
+        final int[] grpIndices = new int[nrGrpCols];
+        for (var i = 0; i < nrGrpCols; i++) {
+            grpIndices[i] = i;
+        }
+        final int refIndex = comparator == null ? -1 : nrGrpCols;
+        final int indexIdx = partitionSpec.getNumColumns() - 1;
+        final var progressPerPartition = 1.0 / HashPartitions.NUM_PARTITIONS;
+        for (final BufferedDataTable partitionTable : pass.m_partitions.close()) {
+            final var partitionExec = exec.createSubExecutionContext(progressPerPartition);
+            if (partitionTable.size() > 0) {
+                final var subPass = firstPass(partitionExec.createSubExecutionContext(0.4), partitionTable,
+                    grpIndices, refIndex, indexIdx, comparator, partitionSpec, level + 1);
+                decisions.add(writeDecisions(partitionExec.createSubExecutionContext(0.3), partitionTable,
+                    subPass.m_groups, grpIndices, indexIdx));
+                subPass.m_groups.clear();
+                if (subPass.m_partitions != null) {
+                    processPartitions(partitionExec.createSubExecutionContext(0.3), subPass, partitionSpec,
+                        comparator, decisions, level + 1);
+                }
+            }
+            exec.clearTable(partitionTable);
+        }
+    }
+
+    /**
+     * Writes the decisions for all rows of the given partition whose groups are held in memory. The decisions are
+     * ordered by row index as the rows of a partition are.
+     */
+    private BufferedDataTable writeDecisions(final ExecutionContext exec, final BufferedDataTable partitionTable,
+        final Map<GroupKey, Group> groups, final int[] grpIndices, final int indexIdx)
+        throws CanceledExecutionException {
+        final BufferedDataContainer cont = HashPartitions.createContainer(exec, createDecisionSpec());
+        final long rowCount = partitionTable.size();
+        long position = 0;
+        for (final DataRow row : partitionTable) {
+            exec.checkCanceled();
+            exec.setProgress(position++ / (double)rowCount);
+            final var group = groups.get(createKey(row, grpIndices));
+            if (group == null) {
+                // the group has been spilled to the next level
+                continue;
+            }
+            final long index = ((LongValue)row.getCell(indexIdx)).getLongValue();
+            final var status = group.getStatus(index);
+            if (m_removeDuplicates && status == DuplicateRowFilterNodeModel.DUPLICATE_IDENTIFIER) {
+                continue;
+            }
+            cont.addRowToTable(new DefaultRow(row.getKey(), new LongCell(index), status, group.getReferenceKey(index)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * Returns <code>true</code> if rows of groups that are not yet in memory should be spilled to disk.
+     *
+     * @param groupsInMemory the number of groups currently held in memory
+     * @param memIndicator the memory indicator of the current pass
+     * @return <code>true</code> if new groups should be spilled to the hash partitions
+     */
+    boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+        return groupsInMemory >= MIN_GROUPS_IN_MEMORY && memIndicator.lowMemoryActionRequired();
+    }
+
+    /**
+     * Creates the spec of the partition tables, which only hold the group values, the reference value and the row
+     * index of the spilled rows.
+     */
+    private static DataTableSpec createPartitionSpec(final DataTableSpec spec, final int[] grpIndices,
+        final int refIndex) {
+        final List<DataColumnSpec> cols = new ArrayList<>();
+        for (final int idx : grpIndices) {
+            cols.add(spec.getColumnSpec(idx));
+        }
+        if (refIndex >= 0) {
+            cols.add(spec.getColumnSpec(refIndex));
+        }
+        final var partialSpec = new DataTableSpec(cols.toArray(DataColumnSpec[]::new));
+        cols.add(new DataColumnSpecCreator(DataTableSpec.getUniqueColumnName(partialSpec, "row-index"), LongCell.TYPE)
+            .createSpec());
+        return new DataTableSpec(cols.toArray(DataColumnSpec[]::new));
+    }
+
+    private static DataTableSpec createDecisionSpec() {
+        return new DataTableSpec(new String[]{"row-index", "status", "reference"},
+            new DataType[]{LongCell.TYPE, StringCell.TYPE, StringCell.TYPE});
+    }
+
+    private static DataRow createPartitionRow(final DataRow row, final GroupKey key, final int refIndex,
+        final long index) {
+        final var groupVals = key.getGroupVals();
+        final var cells = new DataCell[groupVals.length + (refIndex < 0 ? 1 : 2)];
+        System.arraycopy(groupVals, 0, cells, 0, groupVals.length);
+        if (refIndex >= 0) {
+            cells[groupVals.length] = row.getCell(refIndex);
+        }
+        cells[cells.length - 1] = new LongCell(index);
+        return new DefaultRow(row.getKey(), cells);
+    }
+
+    static GroupKey createKey(final DataRow row, final int[] grpIndices) {
+        final var groupVals = new DataCell[grpIndices.length];
+        for (var i = 0; i < grpIndices.length; i++) {
+            groupVals[i] = row.getCell(grpIndices[i]);
+        }
+        return new GroupKey(groupVals);
+    }
+
+    /** The groups held in memory and the hash partitions (or {@code null}) of one pass. */
+    private static final class FirstPass {
+
+        private final Map<GroupKey, Group> m_groups;
+
+        private final HashPartitions m_partitions;
+
+        FirstPass(final Map<GroupKey, Group> groups, final HashPartitions partitions) {
+            m_groups = groups;
+            m_partitions = partitions;
+        }
+    }
+
+    /** The chosen row and the number of rows of a group. */
+    private static final class Group {
+
+        private long m_count = 1;
+
+        private long m_chosenIndex;
+
+        private RowKey m_chosenKey;
+
+        private DataCell m_reference;
+
+        Group(final long index, final RowKey key, final DataCell reference) {
+            m_chosenIndex = index;
+            m_chosenKey = key;
+            m_reference = reference;
+        }
+
+        void update(final RowSelectionType rowSelectionType, final long index, final RowKey key,
+            final DataCell reference, final DataValueComparator comparator) {
+            m_count++;
+            final boolean choose = switch (rowSelectionType) {
+                case FIRST -> false;
+                case LAST -> true;
+                case MINIMUM -> isPreferred(reference, comparator, -1);
+                case MAXIMUM -> isPreferred(reference, comparator, 1);
+            };
+            if (choose) {
+                m_chosenIndex = index;
+                m_chosenKey = key;
+                m_reference = reference;
+            }
+        }
+
+        /**
+         * Non-missing values are preferred over missing ones, ties are resolved in favor of the earlier row.
+         */
+        private boolean isPreferred(final DataCell reference, final DataValueComparator comparator,
+            final int direction) {
+            if (reference.isMissing()) {
+                return false;
+            }
+            if (m_reference.isMissing()) {
+                return true;
+            }
+            return direction * comparator.compare(reference, m_reference) > 0;
+        }
+
+        StringCell getStatus(final long index) {
+            if (m_count == 1) {
+                return DuplicateRowFilterNodeModel.UNIQUE_IDENTIFIER;
+            }
+            return index == m_chosenIndex ? DuplicateRowFilterNodeModel.CHOSEN_IDENTIFIER
+                : DuplicateRowFilterNodeModel.DUPLICATE_IDENTIFIER;
+        }
+
+        DataCell getReferenceKey(final long index) {
+            if (m_count == 1 || index == m_chosenIndex) {
+                return DataType.getMissingCell();
+            }
+            return new StringCell(m_chosenKey.getString());
+        }
+    }
+
+    /** Iterates a decision table, exposing the current decision. */
+    private static final class DecisionIterator implements AutoCloseable {
+
+        private final CloseableRowIterator m_iterator;
+
+        private long m_index;
+
+        private StringCell m_status;
+
+        private DataCell m_referenceKey;
+
+        DecisionIterator(final CloseableRowIterator iterator) {
+            m_iterator = iterator;
+        }
+
+        boolean advance() {
+            if (!m_iterator.hasNext()) {
+                return false;
+            }
+            final var row = m_iterator.next();
+            m_index = ((LongValue)row.getCell(0)).getLongValue();
+            m_status = toIdentifier(row.getCell(1));
+            m_referenceKey = row.getCell(2);
+            return true;
+        }
+
+        /** Maps the status read from disk to the identifier constants so that they can be compared by identity. */
+        private static StringCell toIdentifier(final DataCell status) {
+            if (DuplicateRowFilterNodeModel.UNIQUE_IDENTIFIER.equals(status)) {
+                return DuplicateRowFilterNodeModel.UNIQUE_IDENTIFIER;
+            } else if (DuplicateRowFilterNodeModel.CHOSEN_IDENTIFIER.equals(status)) {
+                return DuplicateRowFilterNodeModel.CHOSEN_IDENTIFIER;
+            }
+            return DuplicateRowFilterNodeModel.DUPLICATE_IDENTIFIER;
+        }
+
+        @Override
+        public void close() {
+            m_iterator.close();
+        }
+    }
+}
@@ -129,6 +129,10 @@ public class GroupByNodeDialog extends NodeDialogPane {
 
     private final SettingsModelBoolean m_inMemory = new SettingsModelBoolean(GroupByNodeModel.CFG_IN_MEMORY, false);
 
+    private final SettingsModelBoolean m_hashAggregation = GroupByNodeModel.createHashAggregationModel();
+
+    private final SettingsModelBoolean m_parallelAggregation = GroupByNodeModel.createParallelAggregationModel();
+
     private final SettingsModelString m_columnNamePolicy =
         new SettingsModelString(GroupByNodeModel.CFG_COLUMN_NAME_POLICY, ColumnNamePolicy.getDefault().getLabel());
 
@@ -228,6 +232,8 @@ public GroupByNodeDialog(final boolean showPattern, final boolean showType) {
 
         //add the  process in memory change listener
         m_inMemory.addChangeListener(e -> inMemoryChanged());
+        // parallel aggregation requires processing in memory, which is disabled by default
+        m_parallelAggregation.setEnabled(m_inMemory.getBooleanValue());
 
         //add description tab
         final Component descriptionTab = AggregationMethods.createDescriptionPane();
@@ -265,6 +271,8 @@ protected void inMemoryChanged() {
         final boolean inMem = m_inMemory.getBooleanValue();
         m_retainOrder.setBooleanValue(inMem);
         m_retainOrder.setEnabled(!inMem);
+        m_hashAggregation.setEnabled(!inMem);
+        m_parallelAggregation.setEnabled(inMem);
     }
 
     /**
@@ -292,6 +300,10 @@ protected JComponent createAdvancedOptionsBox() {
         rootPanel.add(createInMemoryDialog().getComponentPanel(), c);
         c.gridx++;
         rootPanel.add(createRetainOrderDialog().getComponentPanel(), c);
+        c.gridx++;
+        rootPanel.add(createHashAggregationDialog().getComponentPanel(), c);
+        c.gridx++;
+        rootPanel.add(createParallelAggregationDialog().getComponentPanel(), c);
 
         c.gridy++;
         c.gridx = 0;
@@ -366,6 +378,60 @@ protected final DialogComponentBoolean createInMemoryDialog(final String label,
         return diaComp;
     }
 
+    /**
+     * Creates the hash aggregation dialog with default label and tooltip.
+     *
+     * @return the hash aggregation dialog
+     * @since 5.12
+     */
+    protected final DialogComponentBoolean createHashAggregationDialog() {
+        return createHashAggregationDialog("Hash aggregation",
+            "Aggregates the groups without sorting the input table. Groups that do not fit into memory are "
+                + "partitioned on disk.");
+    }
+
+    /**
+     * Creates the hash aggregation dialog with the given label and tooltip.
+     *
+     * @param label the label
+     * @param toolTip the tooltip which can be null
+     *
+     * @return the hash aggregation dialog
+     * @since 5.12
+     */
+    protected final DialogComponentBoolean createHashAggregationDialog(final String label, final String toolTip) {
+        final DialogComponentBoolean diaComp = new DialogComponentBoolean(m_hashAggregation, label);
+        setToolTipText(diaComp, toolTip);
+        return diaComp;
+    }
+
+    /**
+     * Creates the parallel aggregation dialog with default label and tooltip.
+     *
+     * @return the parallel aggregation dialog
+     * @since 5.12
+     */
+    protected final DialogComponentBoolean createParallelAggregationDialog() {
+        return createParallelAggregationDialog("Parallel aggregation",
+            "Aggregates row ranges concurrently when processing in memory.");
+    }
+
+    /**
+     * Creates the parallel aggregation dialog with the given label and tooltip.
+     *
+     * @param label the label
+     * @param toolTip the tooltip which can be null
+     *
+     * @return the parallel aggregation dialog
+     * @since 5.12
+     */
+    protected final DialogComponentBoolean createParallelAggregationDialog(final String label,
+        final String toolTip) {
+        final DialogComponentBoolean diaComp = new DialogComponentBoolean(m_parallelAggregation, label);
+        setToolTipText(diaComp, toolTip);
+        return diaComp;
+    }
+
     /**
      * Creates the value delimiter dialog with default label and tooltip.
      *
@@ -573,6 +639,18 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         } catch (final InvalidSettingsException e) { // NOSONAR backwards compatible loading
             m_inMemory.setBooleanValue(false);
         }
+        try {
+            //this option was introduced in KNIME 5.12
+            m_hashAggregation.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) { // NOSONAR backwards compatible loading
+            m_hashAggregation.setBooleanValue(false);
+        }
+        try {
+            //this option was introduced in KNIME 5.12
+            m_parallelAggregation.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) { // NOSONAR backwards compatible loading
+            m_parallelAggregation.setBooleanValue(false);
+        }
         // this option was introduced in Knime 2.4+
         try {
             m_valueDelimiter.loadSettingsFrom(settings);
@@ -613,6 +691,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_dataTypeAggrPanel.saveSettingsTo(settings);
         m_retainOrder.saveSettingsTo(settings);
         m_inMemory.saveSettingsTo(settings);
+        m_hashAggregation.saveSettingsTo(settings);
+        m_parallelAggregation.saveSettingsTo(settings);
         m_version.saveSettingsTo(settings);
         m_typeMatch.getItemAt(m_typeMatch.getSelectedIndex()).saveSettingsTo(settings);
     }
@@ -233,6 +233,18 @@ static TypeMatch loadSettingsFrom(final NodeSettingsRO settings) throws InvalidS
     /** Configuration key for the in memory option. */
     protected static final String CFG_IN_MEMORY = "inMemory";
 
+    /**
+     * Configuration key for the hash aggregation option.
+     * @since 5.12
+     */
+    protected static final String CFG_HASH_AGGREGATION = "hashAggregation";
+
+    /**
+     * Configuration key for the parallel aggregation option.
+     * @since 5.12
+     */
+    protected static final String CFG_PARALLEL_AGGREGATION = "parallelAggregation";
+
     /** Configuration key for the aggregation column name policy. */
     protected static final String CFG_COLUMN_NAME_POLICY = "columnNamePolicy";
 
@@ -273,6 +285,24 @@ static SettingsModelFilterString createGroupByColsSettings() {
 
     private final SettingsModelBoolean m_inMemory = new SettingsModelBoolean(CFG_IN_MEMORY, false);
 
+    private final SettingsModelBoolean m_hashAggregation = createHashAggregationModel();
+
+    /**
+     * @return hash aggregation model
+     */
+    static SettingsModelBoolean createHashAggregationModel() {
+        return new SettingsModelBoolean(CFG_HASH_AGGREGATION, false);
+    }
+
+    private final SettingsModelBoolean m_parallelAggregation = createParallelAggregationModel();
+
+    /**
+     * @return parallel aggregation model
+     */
+    static SettingsModelBoolean createParallelAggregationModel() {
+        return new SettingsModelBoolean(CFG_PARALLEL_AGGREGATION, false);
+    }
+
     private final SettingsModelString m_columnNamePolicy =
         new SettingsModelString(GroupByNodeModel.CFG_COLUMN_NAME_POLICY,
                 ColumnNamePolicy.getDefault().getLabel());
@@ -391,6 +421,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_columnNamePolicy.saveSettingsTo(settings);
         m_retainOrder.saveSettingsTo(settings);
         m_inMemory.saveSettingsTo(settings);
+        m_hashAggregation.saveSettingsTo(settings);
+        m_parallelAggregation.saveSettingsTo(settings);
         m_valueDelimiter.saveSettingsTo(settings);
         m_version.saveSettingsTo(settings);
         m_typeMatch.saveSettingsTo(settings);
@@ -581,6 +613,18 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         } catch (final InvalidSettingsException e) {
             m_inMemory.setBooleanValue(false);
         }
+        try {
+            // this option was introduced in KNIME 5.12
+            m_hashAggregation.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) {
+            m_hashAggregation.setBooleanValue(false);
+        }
+        try {
+            // this option was introduced in KNIME 5.12
+            m_parallelAggregation.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) {
+            m_parallelAggregation.setBooleanValue(false);
+        }
         m_maxUniqueValues.loadSettingsFrom(settings);
         m_enableHilite.loadSettingsFrom(settings);
         try {
@@ -827,9 +871,16 @@ protected final GroupByTable createGroupByTable(final ExecutionContext exec, fin
             colAggr.reset();
         }
         final GroupByTable resultTable;
-        if (inMemory || groupByCols.isEmpty()) {
+        if ((inMemory || groupByCols.isEmpty()) && m_parallelAggregation.getBooleanValue()) {
+            resultTable = new ParallelMemoryGroupByTable(exec, table, groupByCols,
+                aggregators.toArray(new ColumnAggregator[0]), null, globalSettings, enableHilite, colNamePolicy,
+                retainOrder);
+        } else if (inMemory || groupByCols.isEmpty()) {
             resultTable = new MemoryGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
                 globalSettings, enableHilite, colNamePolicy, retainOrder);
+        } else if (m_hashAggregation.getBooleanValue()) {
+            resultTable = new HashGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
+                null, globalSettings, enableHilite, colNamePolicy, retainOrder);
         } else {
             resultTable = new BigGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
                     globalSettings, enableHilite, colNamePolicy, retainOrder);
@@ -895,6 +946,31 @@ protected boolean isProcessInMemory() {
         return m_inMemory.getBooleanValue();
     }
 
+    /**
+     * @return <code>true</code> if the groups should be created by hash aggregation with spilling to disk instead of
+     *         sorting the input table first
+     * @since 5.12
+     */
+    protected boolean isHashAggregation() {
+        return m_hashAggregation.getBooleanValue();
+    }
+
+    /**
+     * @return <code>true</code> if row ranges should be aggregated concurrently when processing in memory
+     * @since 5.12
+     */
+    protected boolean isParallelAggregation() {
+        return m_parallelAggregation.getBooleanValue();
+    }
+
+    /**
+     * @return the maximum number of unique values per group
+     * @since 5.12
+     */
+    protected int getMaxUniqueValues() {
+        return m_maxUniqueValues.getIntValue();
+    }
+
     /**
      * @return <code>true</code> if any sorting should be performed in memory
      * @deprecated sort in memory is no longer required
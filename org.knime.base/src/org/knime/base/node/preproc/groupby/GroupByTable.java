@@ -865,6 +865,37 @@ void updateAggregates(final DataRow row) {
                 colAggr.getOperator(m_globalSettings).compute(row, colIdx);
             }
         }
+
+        /**
+         * @return <code>true</code> if all operators of this group support merging of partial results
+         * @see AggregationOperator#isMergeable()
+         */
+        boolean isMergeable() {
+            for (final ColumnAggregator colAggr : m_columnAggregators) {
+                if (!colAggr.getOperator(m_globalSettings).isMergeable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Merges the partial aggregates of the given group into this group. The given group must have been computed
+         * with the same aggregators on rows that follow the rows of this group.
+         *
+         * @param other the group with the partial aggregates of the subsequent rows
+         * @see AggregationOperator#merge(AggregationOperator)
+         */
+        void merge(final GroupAggregate other) {
+            m_groupSize.add(other.m_groupSize.longValue());
+            if (m_isHiliteEnabled) {
+                m_hiliteKeys.addAll(other.m_hiliteKeys);
+            }
+            for (var i = 0; i < m_columnAggregators.length; i++) {
+                m_columnAggregators[i].getOperator(m_globalSettings)
+                    .merge(other.m_columnAggregators[i].getOperator(other.m_globalSettings));
+            }
+        }
     }
 
 }
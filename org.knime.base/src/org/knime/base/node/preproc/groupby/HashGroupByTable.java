@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
+
+
+/**
+ * A {@link GroupByTable} implementation that aggregates the input table with a hash map instead of sorting it first.
+ * <p>
+ * All groups are aggregated in memory as long as the {@link MemoryAlertSystem} does not report low memory. Once memory
+ * gets low, the groups that are already in memory keep on being aggregated, whereas rows of all groups that have not
+ * been seen so far are written to one of {@value HashPartitions#NUM_PARTITIONS} hash partitions. After the input table has been
+ * processed the in-memory groups are written to the result table and each partition is aggregated recursively in the
+ * same way, using different hash bits on each recursion level. The runtime is therefore linear in the number of rows
+ * as long as the groups of a partition fit into memory.
+ * </p>
+ * <p>
+ * The result rows are ordered by the first occurrence of a group within the in-memory part followed by the groups of
+ * the spilled partitions. Use the retain order option to get the groups in the order of their first occurrence in
+ * the input table.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public class HashGroupByTable extends GroupByTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashGroupByTable.class);
+
+    /** Minimum number of in-memory groups before spilling is considered at all. */
+    private static final int MIN_GROUPS_IN_MEMORY = 16;
+
+    /**
+     * Constructor for class HashGroupByTable.
+     *
+     * @param exec the <code>ExecutionContext</code>
+     * @param inDataTable the table to aggregate
+     * @param groupByCols the name of all columns to group by
+     * @param colAggregators the aggregation columns with the aggregation method to use in the order the columns should
+     *        appear in the result table
+     * @param countColumnName name of the group row count column or {@code null} if counts should not be added
+     * @param globalSettings the global settings
+     * @param enableHilite <code>true</code> if a row key map should be maintained to enable hiliting
+     * @param colNamePolicy the {@link ColumnNamePolicy} for the aggregation columns
+     * @param retainOrder returns the row of the table in the same order as the input table if set to <code>true</code>
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    public HashGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable inDataTable,
+            final List<String> groupByCols,
+            final ColumnAggregator[] colAggregators,
+            final String countColumnName,
+            final GlobalSettings globalSettings, final boolean enableHilite,
+            final ColumnNamePolicy colNamePolicy, final boolean retainOrder)
+    throws CanceledExecutionException {
+        super(exec, inDataTable, groupByCols, colAggregators, countColumnName, globalSettings,
+                enableHilite, colNamePolicy, retainOrder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void createGroupByTable(final ExecutionContext exec, final BufferedDataTable table,
+            final int[] groupColIdx, final boolean appendRowCountColumn, final BufferedDataContainer dc)
+            throws CanceledExecutionException {
+        LOGGER.debug("Entering createGroupByTable(exec, table) of class HashGroupByTable.");
+        // cannot put init to the constructor, as the super() constructor directly calls the current function
+        initMissingValuesMap();
+        final var spec = table.getDataTableSpec();
+        // map aggregated columns to aggregators
+        final var aggToColIdx = Arrays.stream(getColAggregators()) //
+                .mapToInt(agg -> spec.findColumnIndex(agg.getOriginalColName())) //
+                .toArray();
+        final var groupIDCounter = new AtomicLong();
+        aggregatePartition(exec, table, groupColIdx, aggToColIdx, appendRowCountColumn, dc, groupIDCounter, 0);
+        exec.setProgress(1.0, (String)null);
+    }
+
+    /**
+     * Aggregates the given (partition) table. Groups that do not fit into memory are spilled to hash partitions which
+     * are aggregated recursively afterwards.
+     */
+    private void aggregatePartition(final ExecutionContext exec, final BufferedDataTable table,
+        final int[] groupColIdx, final int[] aggToColIdx, final boolean appendRowCountColumn,
+        final BufferedDataContainer dc, final AtomicLong groupIDCounter, final int level)
+        throws CanceledExecutionException {
+        final Map<GroupKey, GroupAggregate> groups = new LinkedHashMap<>();
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final var canSpill = level < HashPartitions.MAX_SPILL_LEVEL;
+        HashPartitions partitions = null;
+
+        final ExecutionContext groupExec = exec.createSubExecutionContext(0.6);
+        final long rowCount = table.size();
+        long processedRows = 0;
+        final var progressMsg = level > 0 ? ("Aggregating partition (level " + level + ")") : "Aggregating rows";
+        for (final DataRow row : table) {
+            groupExec.checkCanceled();
+            processedRows++;
+            groupExec.setProgress(processedRows / (double)rowCount, progressMsg);
+            final var currentGroup = new DataCell[groupColIdx.length];
+            //fetch the current group column values
+            for (int i = 0, length = groupColIdx.length; i < length; i++) {
+                currentGroup[i] = row.getCell(groupColIdx[i]);
+            }
+            final var groupKey = new GroupKey(currentGroup);
+            var group = groups.get(groupKey);
+            if (group == null) {
+                if (partitions == null && canSpill && spillRequired(groups.size(), memIndicator)) {
+                    LOGGER.debugWithFormat("Low memory: spilling new groups to %d partitions after %d groups "
+                        + "(level %d).", HashPartitions.NUM_PARTITIONS, groups.size(), level);
+                    partitions = new HashPartitions(exec, table.getDataTableSpec(), level);
+                }
+                if (partitions != null) {
+                    partitions.add(groupKey.hashCode(), row);
+                    continue;
+                }
+                group = new GroupAggregate(aggToColIdx, cloneColumnAggregators(), isEnableHilite(),
+                    getGlobalSettings());
+                groups.put(groupKey, group);
+            }
+            // compute aggregates, group size, and hilite
+            group.updateAggregates(row);
+        }
+
+        final long spilledRows = partitions == null ? 0 : partitions.size();
+        final double writeProg = partitions == null ? 0.4 : (0.4 * (rowCount - spilledRows) / rowCount);
+        addAggregateRows(exec.createSubExecutionContext(writeProg), groups, appendRowCountColumn, dc, groupIDCounter);
+        groups.clear();
+
+        if (partitions != null) {
+            final var partitionProg = 0.4 - writeProg;
+            for (final BufferedDataTable partitionTable : partitions.close()) {
+                final var partitionExec = exec.createSubExecutionContext(partitionProg * partitionTable.size()
+                    / spilledRows);
+                if (partitionTable.size() > 0) {
+                    aggregatePartition(partitionExec, partitionTable, groupColIdx, aggToColIdx, appendRowCountColumn,
+                        dc, groupIDCounter, level + 1);
+                }
+                exec.clearTable(partitionTable);
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if rows of groups that are not yet in memory should be spilled to disk.
+     *
+     * @param groupsInMemory the number of groups currently held in memory
+     * @param memIndicator the memory indicator of the current aggregation pass
+     * @return <code>true</code> if new groups should be spilled to the hash partitions
+     */
+    boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+        return groupsInMemory >= MIN_GROUPS_IN_MEMORY && memIndicator.lowMemoryActionRequired();
+    }
+
+    private void addAggregateRows(final ExecutionContext exec, final Map<GroupKey, GroupAggregate> groups,
+        final boolean appendRowCountColumn, final BufferedDataContainer dc, final AtomicLong groupIDCounter)
+        throws CanceledExecutionException {
+        var groupCounter = 0L;
+        final int size = groups.size();
+        for (final Map.Entry<GroupKey, GroupAggregate> entry : groups.entrySet()) {
+            exec.checkCanceled();
+            exec.setProgress(groupCounter / (double)size, "Writing group " + groupCounter + " of " + size);
+            final var rowKey = RowKey.createRowKey(groupIDCounter.getAndIncrement());
+            dc.addRowToTable(createOutputRow(rowKey, entry.getKey(), entry.getValue(), appendRowCountColumn));
+            groupCounter++;
+        }
+    }
+}
@@ -219,14 +219,23 @@ protected void createGroupByTable(final ExecutionContext exec,
             group.updateAggregates(row);
         }
 
-        addAllAggregateRows(exec.createSubExecutionContext(outputMaxProg), appendRowCountColumn, dc);
+        addAllAggregateRows(exec.createSubExecutionContext(outputMaxProg), m_groups, appendRowCountColumn, dc);
     }
 
-    private void addAllAggregateRows(final ExecutionContext exec, final boolean appendRowCountColumn,
-        final BufferedDataContainer dc) throws CanceledExecutionException {
+    /**
+     * Writes one result row per group in the iteration order of the given map.
+     *
+     * @param exec the {@link ExecutionContext}
+     * @param groups the aggregated groups
+     * @param appendRowCountColumn {@code true} if the group row count should be appended
+     * @param dc the data container to write to
+     * @throws CanceledExecutionException if the operation has been canceled
+     */
+    void addAllAggregateRows(final ExecutionContext exec, final Map<GroupKey, GroupAggregate> groups,
+        final boolean appendRowCountColumn, final BufferedDataContainer dc) throws CanceledExecutionException {
         var groupCounter = 0L;
-        final int size = m_groups.size();
-        for (final Entry<GroupKey, GroupAggregate> entry : m_groups.entrySet()) {
+        final int size = groups.size();
+        for (final Entry<GroupKey, GroupAggregate> entry : groups.entrySet()) {
             final var groupByKey = entry.getKey();
             final var groupMembers = entry.getValue();
             exec.checkCanceled();
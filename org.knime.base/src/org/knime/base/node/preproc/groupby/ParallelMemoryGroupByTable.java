@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+
+/**
+ * A {@link MemoryGroupByTable} that aggregates disjoint row ranges of the input table concurrently. Each range is
+ * aggregated into its own group map, the partial aggregates are merged afterwards in the order of the ranges via
+ * {@link AggregationOperator#merge(AggregationOperator)}. The result is therefore identical to the result of the
+ * {@link MemoryGroupByTable}, apart from rounding differences of floating point sums.
+ * <p>
+ * If at least one of the selected aggregation methods does not support merging of partial results (see
+ * {@link AggregationOperator#isMergeable()}) or the input table is small, the table is aggregated on a single thread.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public class ParallelMemoryGroupByTable extends MemoryGroupByTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelMemoryGroupByTable.class);
+
+    /** Minimum number of rows per range, smaller tables are aggregated on a single thread. */
+    static final long MIN_ROWS_PER_RANGE = 10000;
+
+    /**
+     * Constructor for class ParallelMemoryGroupByTable.
+     *
+     * @param exec the <code>ExecutionContext</code>
+     * @param inDataTable the table to aggregate
+     * @param groupByCols the name of all columns to group by
+     * @param colAggregators the aggregation columns with the aggregation method to use in the order the columns should
+     *        appear in the result table
+     * @param countColumnName name of the group row count column or {@code null} if counts should not be added
+     * @param globalSettings the global settings
+     * @param enableHilite <code>true</code> if a row key map should be maintained to enable hiliting
+     * @param colNamePolicy the {@link ColumnNamePolicy} for the aggregation columns
+     * @param retainOrder <code>true</code> if the original row order should be retained
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    public ParallelMemoryGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable inDataTable, final List<String> groupByCols,
+            final ColumnAggregator[] colAggregators,
+            final String countColumnName,
+            final GlobalSettings globalSettings,
+            final boolean enableHilite, final ColumnNamePolicy colNamePolicy,
+            final boolean retainOrder)
+            throws CanceledExecutionException {
+        super(exec, inDataTable, groupByCols, colAggregators, countColumnName, globalSettings, enableHilite,
+            colNamePolicy, retainOrder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void createGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable dataTable, final int[] groupColIdx, final boolean appendRowCountColumn,
+            final BufferedDataContainer dc) throws CanceledExecutionException {
+        final var spec = dataTable.getDataTableSpec();
+        // map aggregated columns to aggregators
+        final var aggToColIdx = Arrays.stream(getColAggregators())
+                .mapToInt(agg -> spec.findColumnIndex(agg.getOriginalColName()))
+                .toArray();
+        final long rowCount = dataTable.size();
+        final int numRanges = getNumberOfRanges(rowCount);
+        if (numRanges < 2 || !createGroupAggregate(aggToColIdx).isMergeable()) {
+            LOGGER.debug("Aggregating input table on a single thread.");
+            super.createGroupByTable(exec, dataTable, groupColIdx, appendRowCountColumn, dc);
+            return;
+        }
+        initMissingValuesMap();
+
+        final ExecutionMonitor groupExec = exec.createSubProgress(0.7);
+        final var processedRows = new AtomicLong();
+        final long rangeSize = (rowCount + numRanges - 1) / numRanges;
+        final List<Callable<Map<GroupKey, GroupAggregate>>> tasks = new ArrayList<>(numRanges);
+        for (long from = 0; from < rowCount; from += rangeSize) {
+            final long to = Math.min(from + rangeSize, rowCount) - 1;
+            final long rangeStart = from;
+            tasks.add(() -> aggregateRange(groupExec, dataTable, rangeStart, to, groupColIdx, aggToColIdx,
+                processedRows, rowCount));
+        }
+        final List<Map<GroupKey, GroupAggregate>> partialGroups = ParallelTasks.run(tasks);
+
+        // merge the partial results in range order which retains the order of the first occurrence of each group
+        exec.setMessage("Merging partial aggregates");
+        final Map<GroupKey, GroupAggregate> groups = partialGroups.get(0);
+        for (var i = 1; i < partialGroups.size(); i++) {
+            exec.checkCanceled();
+            partialGroups.get(i).forEach((key, group) -> groups.merge(key, group, (g1, g2) -> {
+                g1.merge(g2);
+                return g1;
+            }));
+            partialGroups.set(i, null);
+        }
+
+        addAllAggregateRows(exec.createSubExecutionContext(0.3), groups, appendRowCountColumn, dc);
+    }
+
+    /**
+     * @param rowCount the number of rows to aggregate
+     * @return the number of row ranges to aggregate concurrently
+     */
+    static int getNumberOfRanges(final long rowCount) {
+        final long maxRanges = Math.max(1, rowCount / MIN_ROWS_PER_RANGE);
+        return (int)Math.min(maxRanges, Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+    }
+
+    private GroupAggregate createGroupAggregate(final int[] aggToColIdx) {
+        return new GroupAggregate(aggToColIdx, cloneColumnAggregators(), isEnableHilite(), getGlobalSettings());
+    }
+
+    private Map<GroupKey, GroupAggregate> aggregateRange(final ExecutionMonitor exec, final BufferedDataTable table,
+        final long from, final long to, final int[] groupColIdx, final int[] aggToColIdx,
+        final AtomicLong processedRows, final long rowCount) throws CanceledExecutionException {
+        final Map<GroupKey, GroupAggregate> groups = new LinkedHashMap<>();
+        try (final CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(from, to)).iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final var currentGroup = new DataCell[groupColIdx.length];
+                //fetch the current group column values
+                for (int i = 0, length = groupColIdx.length; i < length; i++) {
+                    currentGroup[i] = row.getCell(groupColIdx[i]);
+                }
+                groups.computeIfAbsent(new GroupKey(currentGroup), k -> createGroupAggregate(aggToColIdx))
+                    .updateAggregates(row);
+                final long processed = processedRows.incrementAndGet();
+                if ((processed & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(processed / (double)rowCount, "Analyzing row " + processed + " of " + rowCount);
+                }
+            }
+        }
+        return groups;
+    }
+}
@@ -110,6 +110,31 @@ static final class ProcessInMemoryRef implements ParameterReference<Boolean> {
     static final class RetainOrderRef implements ParameterReference<Boolean> {
     }
 
+    @Layout(Sections.Performance.class)
+    @Widget(title = "Hash aggregation", description = """
+            Aggregates the groups using a hash table instead of sorting the
+            input table prior aggregation. Groups that do not fit into memory
+            are written to hash partitions on disk which are aggregated
+            subsequently. Recommended for large tables with many groups.
+            Has no effect if the process in memory option is selected.
+            """)
+    @Effect(predicate = GroupByPerformanceParameters.ProcessInMemoryEffect.class, type = Effect.EffectType.DISABLE)
+    @Persist(configKey = "hashAggregation")
+    boolean m_hashAggregation;
+
+    @Layout(Sections.Performance.class)
+    @Widget(title = "Parallel aggregation", description = """
+            Aggregates row ranges of the input table concurrently if the table
+            is processed in memory. Falls back to a single thread if one of the
+            selected aggregation methods does not support combining partial
+            results (supported are e.g. sum, count, mean, variance, minimum,
+            maximum, first and last). Only available if the process in memory
+            option is selected.
+            """)
+    @Effect(predicate = GroupByPerformanceParameters.ProcessInMemoryEffect.class, type = Effect.EffectType.ENABLE)
+    @Persist(configKey = "parallelAggregation")
+    boolean m_parallelAggregation;
+
     static final class ProcessInMemoryEffect implements EffectPredicateProvider, StateProvider<Boolean> {
 
         private Supplier<Boolean> m_processInMemoryChange;
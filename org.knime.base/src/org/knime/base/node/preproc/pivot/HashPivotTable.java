@@ -0,0 +1,858 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.pivot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.node.preproc.groupby.GroupByTable;
+import org.knime.base.node.preproc.groupby.GroupKey;
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Creates the pivot table of the {@link Pivot2NodeModel} without the intermediate group-by table over the group and
+ * pivot columns. Each row is aggregated directly into a hash map from the group key to a dense array that holds the
+ * aggregators of every pivot value combination of the group. The wide pivot table is written once after all pivot
+ * values are known.
+ * <p>
+ * If the table is not processed in memory and memory gets low, rows of groups that are not yet in memory are spilled
+ * to {@value HashPartitions#NUM_PARTITIONS} hash partitions which are aggregated recursively afterwards, as done by the
+ * {@link org.knime.base.node.preproc.groupby.HashGroupByTable}. The aggregates of spilled groups are buffered in a
+ * table with one row per group and pivot value combination until the pivot columns are known. If the table is
+ * processed in memory, disjoint row ranges can be aggregated concurrently provided all aggregation methods support
+ * merging of partial results.
+ * </p>
+ * <p>
+ * The pivot columns, the order of the rows and the row keys are the same as the ones created via the group-by table:
+ * pivot values without a domain appear in the order they would have in the sorted group-by table, the rows are
+ * ordered by the first occurrence of their group if the table is processed in memory or the row order should be
+ * retained, and by the group values otherwise.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class HashPivotTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashPivotTable.class);
+
+    /** Minimum number of rows per range if row ranges are aggregated concurrently. */
+    static final long MIN_ROWS_PER_RANGE = 10000;
+
+    /** Minimum number of in-memory groups before spilling is considered at all. */
+    private static final int MIN_GROUPS_IN_MEMORY = 16;
+
+    private static final String PIVOT_COLUMN_DELIMITER = "_";
+
+    private final BufferedDataTable m_table;
+
+    private final int[] m_groupColIdx;
+
+    private final int[] m_pivotColIdx;
+
+    private final ColumnAggregator[] m_aggregators;
+
+    private final int[] m_aggColIdx;
+
+    private final GlobalSettings m_globalSettings;
+
+    private final DataTableSpec m_groupSpec;
+
+    private final boolean m_ignoreMissingPivots;
+
+    private final boolean m_inMemory;
+
+    private final boolean m_retainOrder;
+
+    private final boolean m_parallel;
+
+    /** Comparators of the group and pivot columns. */
+    private final DataValueComparator[] m_comparators;
+
+    private final PivotIndex m_pivotIndex = new PivotIndex();
+
+    /** Pivot value combinations of rows that are ignored because of missing pivot values. */
+    private final Set<GroupKey> m_ignoredPivots = new HashSet<>();
+
+    private final PivotValueOrder m_pivotValueOrder;
+
+    private final Map<String, Set<String>> m_skippedGroups = new LinkedHashMap<>();
+
+    private final Set<String> m_skipCauses = new LinkedHashSet<>();
+
+    /** The in-memory groups, empty if groups have been spilled. */
+    private Map<GroupKey, PivotGroup> m_groups = new LinkedHashMap<>();
+
+    /** The aggregates of all groups (one row per group and pivot combination) if groups have been spilled. */
+    private BufferedDataContainer m_spilledAggregates;
+
+    /**
+     * Constructor for class HashPivotTable.
+     *
+     * @param table the table to pivot
+     * @param groupCols the names of the group columns
+     * @param pivotCols the names of the pivot columns
+     * @param aggregators the aggregation columns with the aggregation method to use
+     * @param globalSettings the global settings
+     * @param groupSpec the spec of the group-by table over the group and pivot columns using the given aggregators
+     * @param ignoreMissingPivots <code>true</code> if rows with a missing pivot value should be ignored
+     * @param inMemory <code>true</code> if the table should be processed in memory
+     * @param retainOrder <code>true</code> if the row order should be retained
+     * @param parallel <code>true</code> if row ranges should be aggregated concurrently when processing in memory
+     */
+    HashPivotTable(final BufferedDataTable table, final List<String> groupCols, final List<String> pivotCols,
+        final List<ColumnAggregator> aggregators, final GlobalSettings globalSettings, final DataTableSpec groupSpec,
+        final boolean ignoreMissingPivots, final boolean inMemory, final boolean retainOrder,
+        final boolean parallel) {
+        m_table = table;
+        final DataTableSpec spec = table.getDataTableSpec();
+        m_groupColIdx = groupCols.stream().mapToInt(spec::findColumnIndex).toArray();
+        m_pivotColIdx = pivotCols.stream().mapToInt(spec::findColumnIndex).toArray();
+        m_aggregators = aggregators.toArray(new ColumnAggregator[0]);
+        m_aggColIdx = Arrays.stream(m_aggregators) //
+            .mapToInt(agg -> spec.findColumnIndex(agg.getOriginalColName())) //
+            .toArray();
+        m_globalSettings = globalSettings;
+        m_groupSpec = groupSpec;
+        m_ignoreMissingPivots = ignoreMissingPivots;
+        m_inMemory = inMemory;
+        m_retainOrder = retainOrder;
+        m_parallel = parallel && inMemory;
+        m_comparators = new DataValueComparator[m_groupColIdx.length + m_pivotColIdx.length];
+        for (var i = 0; i < m_comparators.length; i++) {
+            final int colIdx =
+                i < m_groupColIdx.length ? m_groupColIdx[i] : m_pivotColIdx[i - m_groupColIdx.length];
+            m_comparators[i] = spec.getColumnSpec(colIdx).getType().getComparator();
+        }
+        m_pivotValueOrder = new PivotValueOrder();
+    }
+
+    /**
+     * Aggregates the input table.
+     *
+     * @param exec the execution context
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    void aggregate(final ExecutionContext exec) throws CanceledExecutionException {
+        final long rowCount = m_table.size();
+        final int numRanges = getNumberOfRanges(rowCount);
+        if (m_parallel && numRanges > 1 && isMergeable()) {
+            aggregateConcurrently(exec, numRanges);
+            return;
+        }
+        final var groups = new LinkedHashMap<GroupKey, PivotGroup>();
+        final HashPartitions partitions =
+            aggregatePartition(exec.createSubExecutionContext(0.6), m_table, groups, 0);
+        if (partitions == null) {
+            m_groups = groups;
+            exec.setProgress(1.0);
+            return;
+        }
+        exec.setMessage("Aggregating spilled groups");
+        m_spilledAggregates = HashPartitions.createContainer(exec, createSpilledAggregatesSpec());
+        spillAggregates(groups);
+        aggregatePartitions(exec.createSubExecutionContext(0.4), partitions, 1);
+        m_spilledAggregates.close();
+        exec.setProgress(1.0);
+    }
+
+    /**
+     * Returns <code>true</code> if rows of groups that are not yet in memory should be spilled to disk.
+     *
+     * @param groupsInMemory the number of groups currently held in memory
+     * @param memIndicator the memory indicator of the current aggregation pass
+     * @return <code>true</code> if new groups should be spilled to the hash partitions
+     */
+    boolean spillRequired(final int groupsInMemory, final MemoryActionIndicator memIndicator) {
+        return groupsInMemory >= MIN_GROUPS_IN_MEMORY && memIndicator.lowMemoryActionRequired();
+    }
+
+    /**
+     * Aggregates the given (partition) table into the given groups. Rows of groups that do not fit into memory are
+     * spilled to hash partitions.
+     *
+     * @return the hash partitions or <code>null</code> if no rows have been spilled
+     */
+    private HashPartitions aggregatePartition(final ExecutionContext exec, final BufferedDataTable table,
+        final Map<GroupKey, PivotGroup> groups, final int level) throws CanceledExecutionException {
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final var canSpill = !m_inMemory && level < HashPartitions.MAX_SPILL_LEVEL;
+        // rows of spilled partitions contain the index of the input row as last cell
+        final int rowIndexCol = m_table.getDataTableSpec().getNumColumns();
+        HashPartitions partitions = null;
+        final long rowCount = table.size();
+        final var progressMsg = level > 0 ? ("Aggregating partition (level " + level + ")") : "Aggregating rows";
+        long rowIndex = 0;
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress((rowIndex + 1) / (double)rowCount, progressMsg);
+            final long origRowIndex = level == 0 ? rowIndex : ((LongValue)row.getCell(rowIndexCol)).getLongValue();
+            rowIndex++;
+            final DataCell[] groupCells = getCells(row, m_groupColIdx);
+            final DataCell[] pivotCells = getCells(row, m_pivotColIdx);
+            if (isIgnored(groupCells, pivotCells, m_ignoredPivots)) {
+                continue;
+            }
+            final var groupKey = new GroupKey(groupCells);
+            var group = groups.get(groupKey);
+            if (group == null) {
+                if (partitions == null && canSpill && spillRequired(groups.size(), memIndicator)) {
+                    LOGGER.debugWithFormat("Low memory: spilling new groups to %d partitions after %d groups "
+                        + "(level %d).", HashPartitions.NUM_PARTITIONS, groups.size(), level);
+                    partitions = new HashPartitions(exec, createPartitionSpec(), level);
+                }
+                if (partitions != null) {
+                    partitions.add(groupKey.hashCode(),
+                        level == 0 ? new AppendedColumnRow(row, new LongCell(origRowIndex)) : row);
+                    continue;
+                }
+                group = new PivotGroup(groupCells, origRowIndex);
+                groups.put(groupKey, group);
+            }
+            update(group, m_pivotIndex.indexOf(new GroupKey(pivotCells)), row);
+        }
+        return partitions;
+    }
+
+    private void aggregatePartitions(final ExecutionContext exec, final HashPartitions partitions,
+        final int level) throws CanceledExecutionException {
+        final long spilledRows = partitions.size();
+        for (final BufferedDataTable partitionTable : partitions.close()) {
+            final ExecutionContext partitionExec =
+                exec.createSubExecutionContext(partitionTable.size() / (double)Math.max(1, spilledRows));
+            if (partitionTable.size() > 0) {
+                final var groups = new LinkedHashMap<GroupKey, PivotGroup>();
+                final HashPartitions subPartitions =
+                    aggregatePartition(partitionExec.createSubExecutionContext(0.6), partitionTable, groups, level);
+                spillAggregates(groups);
+                if (subPartitions != null) {
+                    aggregatePartitions(partitionExec.createSubExecutionContext(0.4), subPartitions, level + 1);
+                }
+            }
+            exec.clearTable(partitionTable);
+        }
+    }
+
+    /** The spec of the spilled rows, i.e. the input spec with the index of the input row appended. */
+    private DataTableSpec createPartitionSpec() {
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final var rowIndexSpec = new DataColumnSpecCreator(
+            DataTableSpec.getUniqueColumnName(spec, "#pivot_row_index#"), LongCell.TYPE).createSpec();
+        return new DataTableSpec(spec, new DataTableSpec(rowIndexSpec));
+    }
+
+    /**
+     * The spilled aggregates table contains the group values, the pivot index, the first row of the group and the
+     * aggregated values.
+     */
+    private DataTableSpec createSpilledAggregatesSpec() {
+        final var colSpecs = new ArrayList<DataColumnSpec>();
+        final int groupCount = m_groupColIdx.length;
+        final int aggOffset = groupCount + m_pivotColIdx.length;
+        for (var i = 0; i < groupCount; i++) {
+            colSpecs.add(m_groupSpec.getColumnSpec(i));
+        }
+        final var pivotIdxName = DataTableSpec.getUniqueColumnName(m_groupSpec, "#pivot_index#");
+        colSpecs.add(new DataColumnSpecCreator(pivotIdxName, IntCell.TYPE).createSpec());
+        final var firstRowName = DataTableSpec.getUniqueColumnName(m_groupSpec, "#pivot_first_row#");
+        colSpecs.add(new DataColumnSpecCreator(firstRowName, LongCell.TYPE).createSpec());
+        for (var i = aggOffset; i < m_groupSpec.getNumColumns(); i++) {
+            colSpecs.add(m_groupSpec.getColumnSpec(i));
+        }
+        return new DataTableSpec(colSpecs.toArray(new DataColumnSpec[0]));
+    }
+
+    /** Writes the aggregates of the given groups to the spilled aggregates and removes the groups. */
+    private void spillAggregates(final Map<GroupKey, PivotGroup> groups) {
+        final int groupCount = m_groupColIdx.length;
+        for (final PivotGroup group : groups.values()) {
+            for (var p = 0; p < group.m_pivots.length; p++) {
+                if (group.m_pivots[p] == null) {
+                    continue;
+                }
+                final DataCell[] pivotCells = m_pivotIndex.get(p).getGroupVals();
+                m_pivotValueOrder.add(group.m_groupCells, pivotCells);
+                final var cells = new DataCell[groupCount + 2 + m_aggregators.length];
+                System.arraycopy(group.m_groupCells, 0, cells, 0, groupCount);
+                cells[groupCount] = new IntCell(p);
+                cells[groupCount + 1] = new LongCell(group.m_firstRow);
+                final DataCell[] results = getResults(group, p);
+                System.arraycopy(results, 0, cells, groupCount + 2, results.length);
+                m_spilledAggregates.addRowToTable(
+                    new DefaultRow(RowKey.createRowKey(m_spilledAggregates.size()), cells));
+                group.m_pivots[p] = null;
+            }
+        }
+        groups.clear();
+    }
+
+    private void aggregateConcurrently(final ExecutionContext exec, final int numRanges)
+        throws CanceledExecutionException {
+        final long rowCount = m_table.size();
+        final ExecutionMonitor groupExec = exec.createSubProgress(0.9);
+        final var processedRows = new AtomicLong();
+        final long rangeSize = (rowCount + numRanges - 1) / numRanges;
+        final List<Callable<PartialResult>> tasks = new ArrayList<>(numRanges);
+        for (long from = 0; from < rowCount; from += rangeSize) {
+            final long to = Math.min(from + rangeSize, rowCount) - 1;
+            final long rangeStart = from;
+            tasks.add(() -> aggregateRange(groupExec, rangeStart, to, processedRows, rowCount));
+        }
+        final List<PartialResult> partialResults = ParallelTasks.run(tasks);
+
+        // merge the partial results in range order which retains the order of the first occurrence of each group
+        exec.setMessage("Merging partial aggregates");
+        final Map<GroupKey, PivotGroup> groups = partialResults.get(0).m_groups;
+        m_ignoredPivots.addAll(partialResults.get(0).m_ignoredPivots);
+        for (var i = 1; i < partialResults.size(); i++) {
+            exec.checkCanceled();
+            final PartialResult partial = partialResults.get(i);
+            partial.m_groups.forEach((key, group) -> groups.merge(key, group, this::merge));
+            m_ignoredPivots.addAll(partial.m_ignoredPivots);
+            partialResults.set(i, null);
+        }
+        m_groups = groups;
+        exec.setProgress(1.0);
+    }
+
+    private PartialResult aggregateRange(final ExecutionMonitor exec, final long from, final long to,
+        final AtomicLong processedRows, final long rowCount) throws CanceledExecutionException {
+        final var result = new PartialResult();
+        try (final CloseableRowIterator it = m_table.filter(TableFilter.filterRangeOfRows(from, to)).iterator()) {
+            for (long rowIndex = from; it.hasNext(); rowIndex++) {
+                final DataRow row = it.next();
+                final DataCell[] groupCells = getCells(row, m_groupColIdx);
+                final DataCell[] pivotCells = getCells(row, m_pivotColIdx);
+                if (!isIgnored(groupCells, pivotCells, result.m_ignoredPivots)) {
+                    final long firstRow = rowIndex;
+                    final PivotGroup group = result.m_groups.computeIfAbsent(new GroupKey(groupCells),
+                        k -> new PivotGroup(groupCells, firstRow));
+                    update(group, m_pivotIndex.indexOf(new GroupKey(pivotCells)), row);
+                }
+                final long processed = processedRows.incrementAndGet();
+                if ((processed & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(processed / (double)rowCount, "Analyzing row " + processed + " of " + rowCount);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Merges the partial aggregates of the second group, computed on subsequent rows, into the first group. */
+    private PivotGroup merge(final PivotGroup group, final PivotGroup other) {
+        group.m_firstRow = Math.min(group.m_firstRow, other.m_firstRow);
+        for (var p = 0; p < other.m_pivots.length; p++) {
+            final ColumnAggregator[] otherAggs = other.m_pivots[p];
+            if (otherAggs == null) {
+                continue;
+            }
+            final ColumnAggregator[] aggs = group.get(p);
+            if (aggs == null) {
+                group.set(p, otherAggs);
+                continue;
+            }
+            for (var i = 0; i < aggs.length; i++) {
+                aggs[i].getOperator(m_globalSettings).merge(otherAggs[i].getOperator(m_globalSettings));
+            }
+        }
+        return group;
+    }
+
+    private boolean isMergeable() {
+        for (final ColumnAggregator aggregator : m_aggregators) {
+            if (!aggregator.clone().getOperator(m_globalSettings).isMergeable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param rowCount the number of rows to aggregate
+     * @return the number of row ranges to aggregate concurrently
+     */
+    static int getNumberOfRanges(final long rowCount) {
+        final long maxRanges = Math.max(1, rowCount / MIN_ROWS_PER_RANGE);
+        return (int)Math.min(maxRanges, Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+    }
+
+    private static DataCell[] getCells(final DataRow row, final int[] colIdx) {
+        final var cells = new DataCell[colIdx.length];
+        for (var i = 0; i < colIdx.length; i++) {
+            cells[i] = row.getCell(colIdx[i]);
+        }
+        return cells;
+    }
+
+    /**
+     * Returns <code>true</code> if the row with the given pivot values has to be ignored due to a missing pivot value.
+     * The pivot values of an ignored row are still remembered since they affect the order of the pivot columns.
+     */
+    private boolean isIgnored(final DataCell[] groupCells, final DataCell[] pivotCells,
+        final Set<GroupKey> ignoredPivots) {
+        if (!m_ignoreMissingPivots) {
+            return false;
+        }
+        var missing = false;
+        var nonMissing = false;
+        for (final DataCell cell : pivotCells) {
+            missing |= cell.isMissing();
+            nonMissing |= !cell.isMissing();
+        }
+        if (missing && nonMissing) {
+            ignoredPivots.add(new GroupKey(concat(groupCells, pivotCells)));
+        }
+        return missing;
+    }
+
+    private void update(final PivotGroup group, final int pivotIdx, final DataRow row) {
+        var aggs = group.get(pivotIdx);
+        if (aggs == null) {
+            aggs = new ColumnAggregator[m_aggregators.length];
+            for (var i = 0; i < aggs.length; i++) {
+                aggs[i] = m_aggregators[i].clone();
+            }
+            group.set(pivotIdx, aggs);
+        }
+        for (var i = 0; i < aggs.length; i++) {
+            aggs[i].getOperator(m_globalSettings).compute(row, m_aggColIdx[i]);
+        }
+    }
+
+    private DataCell[] getResults(final PivotGroup group, final int pivotIdx) {
+        final ColumnAggregator[] aggs = group.m_pivots[pivotIdx];
+        final var results = new DataCell[aggs.length];
+        for (var i = 0; i < aggs.length; i++) {
+            final AggregationOperator operator = aggs[i].getOperator(m_globalSettings);
+            results[i] = operator.getResult();
+            if (operator.isSkipped()) {
+                final var groupVals = concat(group.m_groupCells, m_pivotIndex.get(pivotIdx).getGroupVals());
+                m_skippedGroups.computeIfAbsent(aggs[i].getOriginalColName(), k -> new LinkedHashSet<>())
+                    .add(GroupByTable.createSkippedGroupName(groupVals));
+                final String skipMsg = operator.getSkipMessage();
+                if (skipMsg != null && !skipMsg.isEmpty()) {
+                    m_skipCauses.add(skipMsg);
+                }
+            }
+        }
+        return results;
+    }
+
+    private static DataCell[] concat(final DataCell[] first, final DataCell[] second) {
+        final var cells = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, cells, first.length, second.length);
+        return cells;
+    }
+
+    /**
+     * Adds the pivot values of the aggregated table to the given pivot values of each pivot column. The values are
+     * added in the order they have in the sorted group-by table over the group and pivot columns. Pivot columns without
+     * any values (<code>null</code>) are initialized if the input table is not empty.
+     *
+     * @param combPivots the pivot values of each pivot column, e.g. from the column domain
+     */
+    void addPivotValues(final Set<String>[] combPivots) {
+        for (final PivotGroup group : m_groups.values()) {
+            for (var p = 0; p < group.m_pivots.length; p++) {
+                if (group.m_pivots[p] != null) {
+                    m_pivotValueOrder.add(group.m_groupCells, m_pivotIndex.get(p).getGroupVals());
+                }
+            }
+        }
+        final int groupCount = m_groupColIdx.length;
+        for (final GroupKey ignored : m_ignoredPivots) {
+            final DataCell[] cells = ignored.getGroupVals();
+            m_pivotValueOrder.add(Arrays.copyOf(cells, groupCount), Arrays.copyOfRange(cells, groupCount,
+                cells.length));
+        }
+        if (m_table.size() == 0) {
+            return;
+        }
+        for (var i = 0; i < combPivots.length; i++) {
+            if (combPivots[i] == null) {
+                combPivots[i] = new LinkedHashSet<>();
+            }
+            combPivots[i].addAll(m_pivotValueOrder.getValues(i));
+        }
+    }
+
+    /**
+     * Creates the pivot table.
+     *
+     * @param exec the execution context
+     * @param pivotSpec the spec of the pivot table
+     * @param pivotStarts the index of the first aggregation column of each pivot column name
+     * @return the pivot table
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    BufferedDataTable createPivotTable(final ExecutionContext exec, final DataTableSpec pivotSpec,
+        final Map<String, Integer> pivotStarts) throws CanceledExecutionException {
+        final int[] starts = new int[m_pivotIndex.size()];
+        for (var p = 0; p < starts.length; p++) {
+            final String pivotName = Arrays.stream(m_pivotIndex.get(p).getGroupVals()) //
+                .map(DataCell::toString) //
+                .collect(Collectors.joining(PIVOT_COLUMN_DELIMITER));
+            final Integer start = pivotStarts.get(pivotName);
+            if (start == null) {
+                throw new IllegalStateException("No pivot column found for pivot value '" + pivotName + "'");
+            }
+            starts[p] = start;
+        }
+        if (m_spilledAggregates != null) {
+            return createPivotTableFromSpilledAggregates(exec, pivotSpec, starts);
+        }
+        final List<PivotGroup> groups = new ArrayList<>(m_groups.values());
+        m_groups = new LinkedHashMap<>();
+        if (!m_inMemory) {
+            // the row keys correspond to the position of the group in the sorted table
+            groups.sort((g1, g2) -> compare(g1.m_groupCells, g2.m_groupCells));
+            for (var i = 0; i < groups.size(); i++) {
+                groups.get(i).m_rowIndex = i;
+            }
+            if (m_retainOrder) {
+                groups.sort(Comparator.comparingLong(g -> g.m_firstRow));
+            }
+        } else {
+            // the groups are already in the order of their first occurrence
+            for (var i = 0; i < groups.size(); i++) {
+                groups.get(i).m_rowIndex = i;
+            }
+        }
+        final BufferedDataContainer dc = HashPartitions.createContainer(exec, pivotSpec);
+        final int groupCount = m_groupColIdx.length;
+        final int size = groups.size();
+        for (var i = 0; i < size; i++) {
+            exec.checkCanceled();
+            exec.setProgress(i / (double)size, "Writing group " + i + " of " + size);
+            final PivotGroup group = groups.get(i);
+            groups.set(i, null);
+            final var cells = new DataCell[pivotSpec.getNumColumns()];
+            System.arraycopy(group.m_groupCells, 0, cells, 0, groupCount);
+            for (var p = 0; p < group.m_pivots.length; p++) {
+                if (group.m_pivots[p] != null) {
+                    final DataCell[] results = getResults(group, p);
+                    System.arraycopy(results, 0, cells, starts[p], results.length);
+                }
+            }
+            fillMissing(cells);
+            dc.addRowToTable(new DefaultRow(RowKey.createRowKey(group.m_rowIndex), cells));
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
+    /** Compares the given group and pivot values in the order of the sorted group-by table. */
+    private int compare(final DataCell[] cells1, final DataCell[] cells2) {
+        for (var i = 0; i < cells1.length; i++) {
+            final DataCell c1 = cells1[i];
+            final DataCell c2 = cells2[i];
+            final int comparison;
+            if (m_inMemory) {
+                // the in-memory sorting puts the missing values first followed by the values in descending order
+                if (c1.isMissing() || c2.isMissing()) {
+                    comparison = Boolean.compare(c2.isMissing(), c1.isMissing());
+                } else {
+                    comparison = -m_comparators[i].compare(c1, c2);
+                }
+            } else {
+                comparison = m_comparators[i].compare(c1, c2);
+            }
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private static void fillMissing(final DataCell[] cells) {
+        for (var i = 0; i < cells.length; i++) {
+            if (cells[i] == null) {
+                cells[i] = DataType.getMissingCell();
+            }
+        }
+    }
+
+    private BufferedDataTable createPivotTableFromSpilledAggregates(final ExecutionContext exec,
+        final DataTableSpec pivotSpec, final int[] starts) throws CanceledExecutionException {
+        final BufferedDataTable aggregates = m_spilledAggregates.getTable();
+        m_spilledAggregates = null;
+        final int groupCount = m_groupColIdx.length;
+        final var orderColSpec = new DataColumnSpecCreator(
+            DataTableSpec.getUniqueColumnName(pivotSpec, "#pivot_order#"), LongCell.TYPE).createSpec();
+        final var orderedSpec = new DataTableSpec(pivotSpec, new DataTableSpec(orderColSpec));
+        final int numCols = pivotSpec.getNumColumns();
+
+        // the aggregates of a group are consecutive, the first row of a group identifies the group
+        exec.setMessage("Filling pivot table");
+        final ExecutionContext fillExec = exec.createSubExecutionContext(0.4);
+        final BufferedDataContainer unsorted = HashPartitions.createContainer(exec, orderedSpec);
+        final long aggregateCount = aggregates.size();
+        DataCell[] cells = null;
+        long currentGroup = -1;
+        long rowIndex = 0;
+        for (final DataRow row : aggregates) {
+            fillExec.checkCanceled();
+            fillExec.setProgress(rowIndex++ / (double)aggregateCount);
+            final long firstRow = ((LongValue)row.getCell(groupCount + 1)).getLongValue();
+            if (cells == null || firstRow != currentGroup) {
+                if (cells != null) {
+                    fillMissing(cells);
+                    unsorted.addRowToTable(new DefaultRow(RowKey.createRowKey(unsorted.size()), cells));
+                }
+                cells = new DataCell[numCols + 1];
+                for (var i = 0; i < groupCount; i++) {
+                    cells[i] = row.getCell(i);
+                }
+                cells[numCols] = new LongCell(firstRow);
+                currentGroup = firstRow;
+            }
+            final int start = starts[((IntValue)row.getCell(groupCount)).getIntValue()];
+            for (var i = 0; i < m_aggregators.length; i++) {
+                cells[start + i] = row.getCell(groupCount + 2 + i);
+            }
+        }
+        if (cells != null) {
+            fillMissing(cells);
+            unsorted.addRowToTable(new DefaultRow(RowKey.createRowKey(unsorted.size()), cells));
+        }
+        unsorted.close();
+        exec.clearTable(aggregates);
+
+        // the row keys correspond to the position of the group in the table sorted by the group columns
+        exec.setMessage("Sorting pivot table");
+        final List<String> groupColNames = Arrays.asList(pivotSpec.getColumnNames()).subList(0, groupCount);
+        final BufferedDataTable sorted =
+            GroupByTable.sortTable(exec.createSubExecutionContext(0.3), unsorted.getTable(), groupColNames);
+        final BufferedDataContainer keyed =
+            HashPartitions.createContainer(exec, m_retainOrder ? orderedSpec : pivotSpec);
+        for (final DataRow row : sorted) {
+            exec.checkCanceled();
+            final var rowCells = new DataCell[keyed.getTableSpec().getNumColumns()];
+            for (var i = 0; i < rowCells.length; i++) {
+                rowCells[i] = row.getCell(i);
+            }
+            keyed.addRowToTable(new DefaultRow(RowKey.createRowKey(keyed.size()), rowCells));
+        }
+        keyed.close();
+        if (!m_retainOrder) {
+            return keyed.getTable();
+        }
+        exec.setMessage("Restoring row order");
+        final BufferedDataTable ordered = GroupByTable.sortTable(exec.createSubExecutionContext(0.3),
+            keyed.getTable(), Arrays.asList(orderColSpec.getName()));
+        final var rearranger = new ColumnRearranger(ordered.getDataTableSpec());
+        rearranger.remove(orderColSpec.getName());
+        return exec.createColumnRearrangeTable(ordered, rearranger, exec.createSilentSubProgress(0));
+    }
+
+    /**
+     * @return message with the skipped groups per column or <code>null</code> if no groups were skipped
+     */
+    String getSkippedGroupsMessage() {
+        if (m_skippedGroups.isEmpty()) {
+            return null;
+        }
+        final var buf = new StringBuilder("Skipped group(s): ");
+        var columnCounter = 0;
+        for (final Map.Entry<String, Set<String>> entry : m_skippedGroups.entrySet()) {
+            if (columnCounter++ >= 3) {
+                buf.append("; ...");
+                break;
+            }
+            if (columnCounter > 1) {
+                buf.append("; ");
+            }
+            final List<String> groupNames = new ArrayList<>(entry.getValue());
+            buf.append(entry.getKey()).append(" groups: \"")
+                .append(String.join(", ", groupNames.subList(0, Math.min(3, groupNames.size()))))
+                .append(groupNames.size() > 3 ? ", ...\"" : "\"");
+        }
+        if (!m_skipCauses.isEmpty()) {
+            buf.append(" cause: \"").append(String.join(", ", m_skipCauses)).append("\"");
+        }
+        return buf.toString();
+    }
+
+    /** The aggregators of a group, indexed by the pivot index. */
+    private static final class PivotGroup {
+
+        private final DataCell[] m_groupCells;
+
+        private long m_firstRow;
+
+        private long m_rowIndex;
+
+        private ColumnAggregator[][] m_pivots = new ColumnAggregator[4][];
+
+        PivotGroup(final DataCell[] groupCells, final long firstRow) {
+            m_groupCells = groupCells;
+            m_firstRow = firstRow;
+        }
+
+        ColumnAggregator[] get(final int pivotIdx) {
+            return pivotIdx < m_pivots.length ? m_pivots[pivotIdx] : null;
+        }
+
+        void set(final int pivotIdx, final ColumnAggregator[] aggregators) {
+            if (pivotIdx >= m_pivots.length) {
+                m_pivots = Arrays.copyOf(m_pivots, Math.max(pivotIdx + 1, 2 * m_pivots.length));
+            }
+            m_pivots[pivotIdx] = aggregators;
+        }
+    }
+
+    /** The groups and ignored pivot values of a row range. */
+    private static final class PartialResult {
+
+        private final Map<GroupKey, PivotGroup> m_groups = new LinkedHashMap<>();
+
+        private final Set<GroupKey> m_ignoredPivots = new HashSet<>();
+    }
+
+    /** Assigns dense indices to the pivot value combinations, shared by all threads. */
+    private static final class PivotIndex {
+
+        private final Map<GroupKey, Integer> m_indices = new ConcurrentHashMap<>();
+
+        private final List<GroupKey> m_keys = new ArrayList<>();
+
+        int indexOf(final GroupKey pivotKey) {
+            final Integer idx = m_indices.get(pivotKey);
+            return idx != null ? idx : m_indices.computeIfAbsent(pivotKey, this::add);
+        }
+
+        private synchronized Integer add(final GroupKey pivotKey) {
+            m_keys.add(pivotKey);
+            return m_keys.size() - 1;
+        }
+
+        synchronized GroupKey get(final int idx) {
+            return m_keys.get(idx);
+        }
+
+        synchronized int size() {
+            return m_keys.size();
+        }
+    }
+
+    /**
+     * Determines the order of the pivot values of each pivot column in the sorted group-by table, which is the order
+     * of the smallest group and pivot value combination each pivot value occurs in.
+     */
+    private final class PivotValueOrder {
+
+        private final List<Map<String, DataCell[]>> m_minKeys = new ArrayList<>();
+
+        PivotValueOrder() {
+            for (var i = 0; i < m_pivotColIdx.length; i++) {
+                m_minKeys.add(new HashMap<>());
+            }
+        }
+
+        void add(final DataCell[] groupCells, final DataCell[] pivotCells) {
+            final DataCell[] key = concat(groupCells, pivotCells);
+            for (var i = 0; i < pivotCells.length; i++) {
+                final DataCell cell = pivotCells[i];
+                if (cell.isMissing() && m_ignoreMissingPivots) {
+                    continue;
+                }
+                m_minKeys.get(i).merge(cell.toString(), key, (k1, k2) -> compare(k1, k2) <= 0 ? k1 : k2);
+            }
+        }
+
+        List<String> getValues(final int pivotCol) {
+            return m_minKeys.get(pivotCol).entrySet().stream() //
+                .sorted((e1, e2) -> compare(e1.getValue(), e2.getValue())) //
+                .map(Map.Entry::getKey) //
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -199,6 +199,12 @@ protected JComponent createAdvancedOptionsBox() {
         ++c.gridx;
         rootPanel.add(createHiliteDialog().getComponentPanel(), c);
 
+        ++c.gridx;
+        rootPanel.add(createHashAggregationDialog().getComponentPanel(), c);
+
+        ++c.gridx;
+        rootPanel.add(createParallelAggregationDialog().getComponentPanel(), c);
+
         return rootPanel;
     }
 
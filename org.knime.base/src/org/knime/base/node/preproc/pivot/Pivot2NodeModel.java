@@ -97,7 +97,9 @@
 
 /**
  * The {@link NodeModel} implementation of the pivot node which uses the {@link GroupByNodeModel} class implementations
- * to create an intermediate group-by table from which the pivoting table is extracted.
+ * to create an intermediate group-by table from which the pivoting table is extracted. If hash aggregation or parallel
+ * in-memory aggregation is enabled the pivoting table is created by the {@link HashPivotTable} without the
+ * intermediate group-by table.
  *
  * @author Thomas Gabriel, KNIME.com AG, Switzerland
  */
@@ -455,18 +457,17 @@ private List<String> createAllColumns() {
         return all;
     }
 
-    /** {@inheritDoc} */
-    @Override
-    protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
-        final BufferedDataTable table = (BufferedDataTable)inData[0];
+    /**
+     * Creates the pivot table from an intermediate group-by table over the group and pivot columns which is sorted by
+     * the group and pivot values and reshaped afterwards.
+     */
+    private Pair<DataTableSpec, BufferedDataTable> createPivotTable(final ExecutionContext exec,
+        final ExecutionContext groupAndPivotExec, final BufferedDataTable table,
+        final Map<String, Integer> pivotStarts) throws CanceledExecutionException, InvalidSettingsException {
         final List<String> groupAndPivotCols = createAllColumns();
         final BufferedDataTable groupTable;
         final String orderPivotColumnName;
 
-        ExecutionContext groupAndPivotExec = exec.createSubExecutionContext(0.5);
-        ExecutionContext groupExec = exec.createSubExecutionContext(0.25);
-        ExecutionContext pivotExec = exec.createSubExecutionContext(0.25);
-
         double progMainTotal = 0.0;
         double progMainTableAppendIndexForSort = isProcessInMemory() || isRetainOrder() ? 1.0 : 0.0;
         progMainTotal += progMainTableAppendIndexForSort;
@@ -559,7 +560,6 @@ appTable, groupAndPivotCols, isProcessInMemory(),
             fillExec.checkCanceled();
         }
 
-        final Map<String, Integer> pivotStarts = new LinkedHashMap<String, Integer>();
         final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots, pivotStarts, orderPivotColumnName);
         exec.setProgress("Filling pivot table");
         BufferedDataTable pivotTable = fillPivotTable(groupTable, outSpec, pivotStarts,
@@ -588,6 +588,61 @@ appTable, groupAndPivotCols, isProcessInMemory(),
             rowkeyBuf.close();
             pivotTable = rowkeyBuf.getTable();
         }
+        return new Pair<DataTableSpec, BufferedDataTable>(outSpec, pivotTable);
+    }
+
+    /**
+     * Creates the pivot table in a single pass over the input table using the {@link HashPivotTable}.
+     */
+    private Pair<DataTableSpec, BufferedDataTable> createHashPivotTable(final ExecutionContext exec,
+        final BufferedDataTable table, final Map<String, Integer> pivotStarts)
+        throws CanceledExecutionException, InvalidSettingsException {
+        final List<String> groupAndPivotCols = createAllColumns();
+        final List<String> pivotCols = m_pivotCols.getIncludeList();
+        final List<ColumnAggregator> aggregators = getColumnAggregators();
+        //reset all aggregators in order to use enforce operator creation
+        for (final ColumnAggregator colAggr : aggregators) {
+            colAggr.reset();
+        }
+        final DataTableSpec groupSpec = GroupByTable.createGroupByTableSpec(table.getDataTableSpec(),
+            groupAndPivotCols, aggregators.toArray(new ColumnAggregator[0]), getColumnNamePolicy());
+        final HashPivotTable hashPivotTable = new HashPivotTable(table, getGroupByColumns(), pivotCols, aggregators,
+            createGlobalSettings(exec, table, groupAndPivotCols, getMaxUniqueValues()), groupSpec,
+            m_ignoreMissValues.getBooleanValue(), isProcessInMemory(), isRetainOrder(), isParallelAggregation());
+        exec.setMessage("Pivoting main table");
+        hashPivotTable.aggregate(exec.createSubExecutionContext(0.8));
+
+        final Set<String>[] combPivots = createCombinedPivots(groupSpec, pivotCols);
+        hashPivotTable.addPivotValues(combPivots);
+        final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots, pivotStarts, null);
+        exec.setMessage("Filling pivot table");
+        final BufferedDataTable pivotTable =
+            hashPivotTable.createPivotTable(exec.createSubExecutionContext(0.2), outSpec, pivotStarts);
+        final String warningMsg = hashPivotTable.getSkippedGroupsMessage();
+        if (warningMsg != null) {
+            setWarningMessage(warningMsg);
+        }
+        return new Pair<DataTableSpec, BufferedDataTable>(outSpec, pivotTable);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
+        final BufferedDataTable table = (BufferedDataTable)inData[0];
+
+        ExecutionContext groupAndPivotExec = exec.createSubExecutionContext(0.5);
+        ExecutionContext groupExec = exec.createSubExecutionContext(0.25);
+        ExecutionContext pivotExec = exec.createSubExecutionContext(0.25);
+
+        final Map<String, Integer> pivotStarts = new LinkedHashMap<String, Integer>();
+        final Pair<DataTableSpec, BufferedDataTable> pivotResult;
+        if (isHashAggregation() || (isProcessInMemory() && isParallelAggregation())) {
+            pivotResult = createHashPivotTable(groupAndPivotExec, table, pivotStarts);
+        } else {
+            pivotResult = createPivotTable(exec, groupAndPivotExec, table, pivotStarts);
+        }
+        final DataTableSpec outSpec = pivotResult.getFirst();
+        BufferedDataTable pivotTable = pivotResult.getSecond();
         groupAndPivotExec.setProgress(1.0);
 
         /* Fill the 3rd port */
@@ -0,0 +1,526 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.knime.base.node.preproc.rank.RankNodeSettings.RankMode;
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.data.sort.RowComparator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.UniqueNameGenerator;
+
+/**
+ * Appends ranks to a table without sorting its rows. Only the category and ranking cells of each row are extracted
+ * and collected per category in a hash table. Each category is ranked by sorting the positions of its rows on these
+ * cells, the categories are sorted concurrently. The ranks are then appended to the input table in its original
+ * order.
+ * <p>
+ * Tables with more rows than fit into memory are split into hash partitions over the category columns. The
+ * partitions are written to disk and ranked one after another so that only the cells of one partition are held in
+ * memory. Since a category is never split across partitions, this does not help if there are only few categories: a
+ * partition that still has too many rows, or a table without category columns, is ranked by sorting its category and
+ * ranking cells together with the position of each row, which keeps the rows of the input table in place.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class PartitionedRanker {
+
+    /** The minimum number of rows that are ranked in memory, regardless of the available memory. */
+    static final int MIN_ROWS_IN_MEMORY = 1 << 16;
+
+    /** The estimated number of bytes of an extracted row in memory, without its cells. */
+    private static final int BYTES_PER_ROW = 64;
+
+    /** The estimated number of bytes of an extracted cell in memory. */
+    private static final int BYTES_PER_CELL = 48;
+
+    /** The maximum number of hash partitions. */
+    static final int MAX_PARTITIONS = 256;
+
+    /** The minimum number of rows that are sorted by one task. */
+    private static final int MIN_ROWS_PER_TASK = 10000;
+
+    /** The spec of the ranks of a partition, i.e. the rank and the position of each row within the partition. */
+    private static final DataTableSpec RANK_SPEC =
+        new DataTableSpec(new String[]{"rank", "position"}, new DataType[]{LongCell.TYPE, LongCell.TYPE});
+
+    private final int[] m_groupColIndices;
+
+    private final int[] m_rankColIndices;
+
+    /** The spec of the extracted rows, i.e. the category columns followed by the ranking columns. */
+    private final DataTableSpec m_keySpec;
+
+    /** The indices of the ranking columns within the extracted rows, -1 for the row id. */
+    private final int[] m_keyRankColIndices;
+
+    private final int[] m_keyGroupColIndices;
+
+    private final Function<DataTableSpec, RowComparator> m_comparatorFactory;
+
+    private final RankMode m_rankMode;
+
+    private final boolean m_rankAsLong;
+
+    /**
+     * Constructor for class PartitionedRanker.
+     *
+     * @param spec the spec of the table to rank
+     * @param groupColIndices the indices of the category columns
+     * @param rankColIndices the indices of the ranking columns, -1 for the row id
+     * @param comparatorFactory creates the comparator of the ranking criteria for the given spec, which contains the
+     *            category and ranking columns
+     * @param rankMode the rank mode
+     * @param rankAsLong <code>true</code> if the ranks should be created as long cells
+     */
+    PartitionedRanker(final DataTableSpec spec, final int[] groupColIndices, final int[] rankColIndices,
+        final Function<DataTableSpec, RowComparator> comparatorFactory, final RankMode rankMode,
+        final boolean rankAsLong) {
+        m_groupColIndices = groupColIndices;
+        m_rankColIndices = rankColIndices;
+        m_comparatorFactory = comparatorFactory;
+        m_rankMode = rankMode;
+        m_rankAsLong = rankAsLong;
+        final List<DataColumnSpec> keyColSpecs = new ArrayList<>();
+        for (final int groupColIdx : groupColIndices) {
+            keyColSpecs.add(spec.getColumnSpec(groupColIdx));
+        }
+        m_keyGroupColIndices = IntStream.range(0, groupColIndices.length).toArray();
+        m_keyRankColIndices = new int[rankColIndices.length];
+        for (var i = 0; i < rankColIndices.length; i++) {
+            if (rankColIndices[i] < 0) {
+                m_keyRankColIndices[i] = -1;
+            } else {
+                m_keyRankColIndices[i] = keyColSpecs.size();
+                keyColSpecs.add(spec.getColumnSpec(rankColIndices[i]));
+            }
+        }
+        m_keySpec = new DataTableSpec(keyColSpecs.toArray(new DataColumnSpec[0]));
+    }
+
+    /**
+     * Appends the rank column to the given table.
+     *
+     * @param exec the execution context
+     * @param table the table to rank
+     * @param rankColSpec the spec of the rank column
+     * @return the given table with the appended rank column
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    BufferedDataTable appendRanks(final ExecutionContext exec, final BufferedDataTable table,
+        final DataColumnSpec rankColSpec) throws CanceledExecutionException {
+        final int numPartitions = getNumberOfPartitions(table.size());
+        final SingleCellFactory factory;
+        if (numPartitions == 1) {
+            final long[] ranks = rank(exec.createSubExecutionContext(0.5), table, this::toKeyRow);
+            factory = new InMemoryRankFactory(rankColSpec, ranks);
+        } else if (m_groupColIndices.length == 0) {
+            // partitioning does not split a single category
+            factory = new PartitionRankFactory(rankColSpec, new BufferedDataTable[]{
+                rankBySorting(exec.createSubExecutionContext(0.5), table, this::toKeyRow)});
+        } else {
+            factory = new PartitionRankFactory(rankColSpec,
+                rankPartitions(exec.createSubExecutionContext(0.5), table, numPartitions));
+        }
+        final var rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        return exec.createColumnRearrangeTable(table, rearranger, exec.createSubExecutionContext(0.5));
+    }
+
+    /**
+     * @param rowCount the number of rows to rank
+     * @return the number of hash partitions, 1 if the rows are ranked in memory
+     */
+    int getNumberOfPartitions(final long rowCount) {
+        final int maxRows = getMaxRowsInMemory();
+        return (int)Math.min(MAX_PARTITIONS, Math.max(1, (rowCount + maxRows - 1) / maxRows));
+    }
+
+    /**
+     * @return the maximum number of rows that are ranked in memory, estimated from the maximum heap size and the
+     *         number of extracted cells per row, but at least {@link #MIN_ROWS_IN_MEMORY}
+     */
+    int getMaxRowsInMemory() {
+        final long bytesPerRow = BYTES_PER_ROW + BYTES_PER_CELL * (long)m_keySpec.getNumColumns();
+        // the extracted cells share the heap with the input table's cache and other nodes
+        final long maxRows = Runtime.getRuntime().maxMemory() / 4 / bytesPerRow;
+        return (int)Math.max(MIN_ROWS_IN_MEMORY, Math.min(Integer.MAX_VALUE - 8, maxRows));
+    }
+
+    private static int partitionIndex(final DataCellTuple group, final int numPartitions) {
+        return HashPartitions.partitionIndex(group.hashCode(), 0, numPartitions);
+    }
+
+    private DataRow toKeyRow(final DataRow row) {
+        final var cells = new DataCell[m_keySpec.getNumColumns()];
+        var i = 0;
+        for (final int groupColIdx : m_groupColIndices) {
+            cells[i++] = row.getCell(groupColIdx);
+        }
+        for (final int rankColIdx : m_rankColIndices) {
+            if (rankColIdx >= 0) {
+                cells[i++] = row.getCell(rankColIdx);
+            }
+        }
+        return new DefaultRow(row.getKey(), cells);
+    }
+
+    /**
+     * Writes the category and ranking cells of each row to the hash partition of its category and ranks each
+     * partition. The rows of a partition keep their relative order, thus the i-th rank of a partition belongs to the
+     * i-th row of the input table that falls into this partition.
+     *
+     * @return the ranks of each partition
+     */
+    private BufferedDataTable[] rankPartitions(final ExecutionContext exec, final BufferedDataTable table,
+        final int numPartitions) throws CanceledExecutionException {
+        final var partitionExec = exec.createSubExecutionContext(0.3);
+        final var partitions = new BufferedDataContainer[numPartitions];
+        for (var p = 0; p < numPartitions; p++) {
+            partitions[p] = HashPartitions.createContainer(exec, m_keySpec);
+        }
+        final long size = table.size();
+        long rowIdx = 0;
+        for (final DataRow row : table) {
+            partitionExec.checkCanceled();
+            partitionExec.setProgress(rowIdx++ / (double)size, "Partitioning row " + rowIdx + " of " + size);
+            final var keyRow = toKeyRow(row);
+            partitions[partitionIndex(new DataCellTuple(keyRow, m_keyGroupColIndices), numPartitions)]
+                .addRowToTable(keyRow);
+        }
+        final var rankTables = new BufferedDataTable[numPartitions];
+        for (var p = 0; p < numPartitions; p++) {
+            partitions[p].close();
+            final BufferedDataTable partitionTable = partitions[p].getTable();
+            final var rankExec = exec.createSubExecutionContext(0.7 / numPartitions);
+            if (partitionTable.size() <= getMaxRowsInMemory()) {
+                final long[] ranks = rank(rankExec, partitionTable, UnaryOperator.identity());
+                final var rankContainer = HashPartitions.createContainer(exec, RANK_SPEC);
+                for (var i = 0; i < ranks.length; i++) {
+                    rankContainer.addRowToTable(
+                        new DefaultRow(RowKey.createRowKey((long)i), new LongCell(ranks[i]), new LongCell(i)));
+                }
+                rankContainer.close();
+                rankTables[p] = rankContainer.getTable();
+            } else {
+                // the partition contains a category that does not fit into memory
+                rankTables[p] = rankBySorting(rankExec, partitionTable, UnaryOperator.identity());
+            }
+            exec.clearTable(partitionTable);
+        }
+        return rankTables;
+    }
+
+    /**
+     * Ranks the rows of a table that has too many rows to be ranked in memory. The category and ranking cells of each
+     * row are sorted together with its position, the ranks are assigned in this order and then sorted back into the
+     * order of the rows. Only the extracted cells and the ranks are sorted, not the rows of the input table.
+     *
+     * @param exec the execution context
+     * @param table the table to rank
+     * @param toKeyRow extracts the category and ranking cells of a row
+     * @return the ranks of the rows of the given table in their order, see {@link #RANK_SPEC}
+     */
+    private BufferedDataTable rankBySorting(final ExecutionContext exec, final BufferedDataTable table,
+        final UnaryOperator<DataRow> toKeyRow) throws CanceledExecutionException {
+        final int positionColIdx = m_keySpec.getNumColumns();
+        final var positionColSpec = new DataColumnSpecCreator(
+            new UniqueNameGenerator(m_keySpec).newName("position"), LongCell.TYPE).createSpec();
+        final var keyContainer =
+            HashPartitions.createContainer(exec, new DataTableSpec(m_keySpec, new DataTableSpec(positionColSpec)));
+        final var readExec = exec.createSubExecutionContext(0.2);
+        final long size = table.size();
+        long position = 0;
+        for (final DataRow row : table) {
+            readExec.checkCanceled();
+            readExec.setProgress(position / (double)size, "Reading row " + position + " of " + size);
+            keyContainer.addRowToTable(new AppendedColumnRow(toKeyRow.apply(row), new LongCell(position++)));
+        }
+        keyContainer.close();
+        final BufferedDataTable keyTable = keyContainer.getTable();
+        // tied rows keep their input order, as when they are ranked in memory
+        final BufferedDataTable sortedKeys = new BufferedDataTableSorter(keyTable,
+            m_comparatorFactory.apply(m_keySpec).thenComparing(byLongCell(positionColIdx)))
+                .sort(exec.createSubExecutionContext(0.4));
+        exec.clearTable(keyTable);
+
+        final var rankExec = exec.createSubExecutionContext(0.1);
+        final var rankContainer = HashPartitions.createContainer(exec, RANK_SPEC);
+        final Map<DataCellTuple, RankAssigner> rankAssigners = new HashMap<>();
+        long rowIdx = 0;
+        for (final DataRow keyRow : sortedKeys) {
+            rankExec.checkCanceled();
+            rankExec.setProgress(rowIdx++ / (double)size, "Ranking row " + rowIdx + " of " + size);
+            final RankAssigner rankAssigner = rankAssigners.computeIfAbsent(
+                new DataCellTuple(keyRow, m_keyGroupColIndices),
+                g -> m_rankMode.createRankAssigner(m_keyRankColIndices));
+            rankContainer.addRowToTable(new DefaultRow(keyRow.getKey(), new LongCell(rankAssigner.getRank(keyRow)),
+                keyRow.getCell(positionColIdx)));
+        }
+        rankContainer.close();
+        exec.clearTable(sortedKeys);
+        final BufferedDataTable rankTable = rankContainer.getTable();
+        final BufferedDataTable ranks =
+            new BufferedDataTableSorter(rankTable, byLongCell(1)).sort(exec.createSubExecutionContext(0.3));
+        exec.clearTable(rankTable);
+        return ranks;
+    }
+
+    private static Comparator<DataRow> byLongCell(final int colIdx) {
+        return Comparator.comparingLong(row -> ((LongValue)row.getCell(colIdx)).getLongValue());
+    }
+
+    /**
+     * Ranks the rows of the given table within their category.
+     *
+     * @param exec the execution monitor
+     * @param table the table to rank, which must not have more than {@link #getMaxRowsInMemory()} rows
+     * @param toKeyRow extracts the category and ranking cells of a row
+     * @return the rank of each row of the given table
+     */
+    private long[] rank(final ExecutionMonitor exec, final BufferedDataTable table,
+        final UnaryOperator<DataRow> toKeyRow) throws CanceledExecutionException {
+        final int size = Math.toIntExact(table.size());
+        final Map<DataCellTuple, Group> groups = new LinkedHashMap<>();
+        final var readExec = exec.createSubProgress(0.5);
+        var position = 0;
+        for (final DataRow row : table) {
+            readExec.checkCanceled();
+            readExec.setProgress(position / (double)size, "Reading row " + position + " of " + size);
+            final DataRow keyRow = toKeyRow.apply(row);
+            groups.computeIfAbsent(new DataCellTuple(keyRow, m_keyGroupColIndices), g -> new Group())
+                .add(keyRow, position++);
+        }
+        exec.setMessage("Ranking " + groups.size() + " categories");
+        final var ranks = new long[size];
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        List<Group> batch = new ArrayList<>();
+        var batchSize = 0;
+        for (final Group group : groups.values()) {
+            batch.add(group);
+            batchSize += group.m_size;
+            if (batchSize >= MIN_ROWS_PER_TASK) {
+                tasks.add(createRankTask(exec, batch, ranks));
+                batch = new ArrayList<>();
+                batchSize = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            tasks.add(createRankTask(exec, batch, ranks));
+        }
+        ParallelTasks.run(tasks);
+        exec.setProgress(1.0);
+        return ranks;
+    }
+
+    private Callable<Void> createRankTask(final ExecutionMonitor exec, final List<Group> groups,
+        final long[] ranks) {
+        return () -> {
+            final RowComparator comparator = m_comparatorFactory.apply(m_keySpec);
+            for (final Group group : groups) {
+                exec.checkCanceled();
+                group.rank(comparator, m_rankMode.createRankAssigner(m_keyRankColIndices), ranks);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Sorts the given positions such that rows which are tied keep their input order.
+     *
+     * @param order the positions to sort
+     * @param comparator compares two positions
+     */
+    static void sort(final int[] order, final IntBinaryOperator comparator) {
+        final int n = order.length;
+        int[] src = order;
+        int[] dst = new int[n];
+        // bottom-up merge sort, which is stable
+        for (var width = 1; width < n; width <<= 1) {
+            for (var lo = 0; lo < n; lo += width << 1) {
+                final int mid = Math.min(lo + width, n);
+                final int hi = Math.min(lo + (width << 1), n);
+                int i = lo;
+                int j = mid;
+                int k = lo;
+                while (i < mid && j < hi) {
+                    dst[k++] = comparator.applyAsInt(src[j], src[i]) < 0 ? src[j++] : src[i++];
+                }
+                while (i < mid) {
+                    dst[k++] = src[i++];
+                }
+                while (j < hi) {
+                    dst[k++] = src[j++];
+                }
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, n);
+        }
+    }
+
+    private DataCell createRankCell(final long rank) {
+        return m_rankAsLong ? new LongCell(rank) : new IntCell((int)rank);
+    }
+
+    /** The extracted rows of a category and their positions. */
+    private static final class Group {
+
+        private DataRow[] m_keys = new DataRow[4];
+
+        private int[] m_positions = new int[4];
+
+        private int m_size;
+
+        void add(final DataRow keyRow, final int position) {
+            if (m_size == m_keys.length) {
+                m_keys = Arrays.copyOf(m_keys, m_size << 1);
+                m_positions = Arrays.copyOf(m_positions, m_size << 1);
+            }
+            m_keys[m_size] = keyRow;
+            m_positions[m_size++] = position;
+        }
+
+        void rank(final RowComparator comparator, final RankAssigner rankAssigner, final long[] ranks) {
+            final int[] order = IntStream.range(0, m_size).toArray();
+            sort(order, (i, j) -> comparator.compare(m_keys[i], m_keys[j]));
+            for (final int i : order) {
+                ranks[m_positions[i]] = rankAssigner.getRank(m_keys[i]);
+            }
+            m_keys = null;
+            m_positions = null;
+        }
+    }
+
+    /** Looks up the rank of a row by its index. */
+    private final class InMemoryRankFactory extends SingleCellFactory {
+
+        private final long[] m_ranks;
+
+        InMemoryRankFactory(final DataColumnSpec newColSpec, final long[] ranks) {
+            super(newColSpec);
+            m_ranks = ranks;
+        }
+
+        @Override
+        public DataCell getCell(final DataRow row, final long rowIndex) {
+            return createRankCell(m_ranks[(int)rowIndex]);
+        }
+    }
+
+    /** Reads the rank of a row from the ranks of its partition, must not be used concurrently. */
+    private final class PartitionRankFactory extends SingleCellFactory {
+
+        private final BufferedDataTable[] m_rankTables;
+
+        private final CloseableRowIterator[] m_iterators;
+
+        PartitionRankFactory(final DataColumnSpec newColSpec, final BufferedDataTable[] rankTables) {
+            super(newColSpec);
+            m_rankTables = rankTables;
+            m_iterators = new CloseableRowIterator[rankTables.length];
+        }
+
+        @Override
+        public DataCell getCell(final DataRow row) {
+            final int p = partitionIndex(new DataCellTuple(row, m_groupColIndices), m_rankTables.length);
+            if (m_iterators[p] == null) {
+                m_iterators[p] = m_rankTables[p].iterator();
+            }
+            return createRankCell(((LongValue)m_iterators[p].next().getCell(0)).getLongValue());
+        }
+
+        @Override
+        public void afterProcessing() {
+            for (var p = 0; p < m_iterators.length; p++) {
+                if (m_iterators[p] != null) {
+                    m_iterators[p].close();
+                    m_iterators[p] = null;
+                }
+            }
+        }
+    }
+}
@@ -49,7 +49,6 @@
 package org.knime.base.node.preproc.rank;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.OptionalInt;
 
 import org.knime.base.node.preproc.rank.RankNodeSettings.RankDataType;
@@ -58,14 +57,11 @@
 import org.knime.base.node.util.preproc.SortingUtils.SortingCriterionSettings;
 import org.knime.base.node.util.preproc.SortingUtils.SortingOrder;
 import org.knime.base.node.util.preproc.SortingUtils.StringComparison;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.StringValue;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.sort.BufferedDataTableSorter;
@@ -76,7 +72,6 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.util.UniqueNameGenerator;
 import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.RowIDChoice;
 import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.StringOrEnum;
 import org.knime.core.webui.node.impl.WebUINodeConfiguration;
@@ -93,19 +88,6 @@ final class RankNodeModel extends WebUINodeModel<RankNodeSettings> {
         super(configuration, RankNodeSettings.class);
     }
 
-    private static class OrderCellFactory extends SingleCellFactory {
-
-        OrderCellFactory(final DataColumnSpec newColSpec) {
-            super(newColSpec);
-        }
-
-        @Override
-        public DataCell getCell(final DataRow row, final long rowIndex) {
-            return new LongCell(rowIndex);
-        }
-
-    }
-
     @Override
     protected void validateSettings(final RankNodeSettings settings) throws InvalidSettingsException {
         final var distinctLength = Arrays.stream(settings.m_sortingCriteria).map(RankingCriterionSettings::getColumn)
@@ -151,26 +133,14 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             setWarningMessage("The input table is empty.");
         }
 
-        // calculate number of steps
-        double numSteps = 2;
         if (modelSettings.m_rowOrder == RowOrder.INPUT_ORDER) {
-            numSteps += 2;
+            // rank without sorting the rows so that they keep their input order
+            return new BufferedDataTable[]{appendRankInInputOrder(exec, table, modelSettings)};
         }
 
-        // insert extra column containing the original order of the input table
-        String rowOrderColumn = null;
-        if (modelSettings.m_rowOrder == RowOrder.INPUT_ORDER) {
-            rowOrderColumn = new UniqueNameGenerator(table.getDataTableSpec()).newName("rowOrder");
-            table = appendOrderColumn(exec.createSubExecutionContext(1 / numSteps), table, rowOrderColumn);
-        }
+        var sortedTable = sortTable(exec.createSubExecutionContext(0.5), table, modelSettings);
 
-        var sortedTable = sortTable(exec.createSubExecutionContext(1 / numSteps), table, modelSettings);
-
-        BufferedDataTable out = appendRank(exec.createSubExecutionContext(1 / numSteps), sortedTable, modelSettings);
-
-        if (modelSettings.m_rowOrder == RowOrder.INPUT_ORDER) {
-            out = retainRowOrder(exec.createSubExecutionContext(1 / numSteps), rowOrderColumn, out);
-        }
+        BufferedDataTable out = appendRank(exec.createSubExecutionContext(0.5), sortedTable, modelSettings);
 
         return new BufferedDataTable[]{out};
     }
@@ -193,15 +163,6 @@ private static DataColumnSpec createRankColSpec(final RankDataType rankDataType,
         return new DataColumnSpecCreator(colName, outputType).createSpec();
     }
 
-    private static BufferedDataTable appendOrderColumn(final ExecutionContext exec, final BufferedDataTable table,
-        final String rowOrderColumn) throws CanceledExecutionException {
-        var cr = new ColumnRearranger(table.getDataTableSpec());
-        DataColumnSpec rowOrderSpec = new DataColumnSpecCreator(rowOrderColumn, LongCell.TYPE).createSpec();
-        var cellFac = new OrderCellFactory(rowOrderSpec);
-        cr.append(cellFac);
-        return exec.createColumnRearrangeTable(table, cr, exec);
-    }
-
     private static BufferedDataTable sortTable(final ExecutionContext exec, final BufferedDataTable table,
         final RankNodeSettings modelSettings) throws CanceledExecutionException {
         final boolean[] order = new boolean[modelSettings.m_sortingCriteria.length];
@@ -249,35 +210,46 @@ private static OptionalInt resolveColumnName(final DataTableSpec dts, final Stri
         return OptionalInt.of(idx);
     }
 
-    private static BufferedDataTable appendRank(final ExecutionContext exec, final BufferedDataTable sortedTable,
-        final RankNodeSettings modelSettings) throws CanceledExecutionException {
-        var spec = sortedTable.getDataTableSpec();
-        var columnRearranger = new ColumnRearranger(spec);
+    private static int[] getGroupColIndices(final DataTableSpec spec, final RankNodeSettings modelSettings) {
         final var sortingColumns =
             Arrays.stream(modelSettings.m_sortingCriteria).map(SortingCriterionSettings::getColumn)
                 .filter(column -> column.getEnumChoice().isEmpty()).map(StringOrEnum::getStringChoice).toList();
         final var availableColumns = spec.stream().filter(col -> !sortingColumns.contains(col.getName())).toList();
-        int[] groupColIndices = Arrays.stream(modelSettings.m_categoryColumns.filter(availableColumns))
-            .mapToInt(spec::findColumnIndex).toArray();
-        int[] rankColIndices = Arrays.stream(modelSettings.m_sortingCriteria).map(SortingCriterionSettings::getColumn)
+        return Arrays.stream(modelSettings.m_categoryColumns.filter(availableColumns)).mapToInt(spec::findColumnIndex)
+            .toArray();
+    }
+
+    private static int[] getRankColIndices(final DataTableSpec spec, final RankNodeSettings modelSettings) {
+        return Arrays.stream(modelSettings.m_sortingCriteria).map(SortingCriterionSettings::getColumn)
             .mapToInt(
                 column -> column.getEnumChoice().isPresent() ? -1 : spec.findColumnIndex(column.getStringChoice()))
             .toArray();
+    }
+
+    private static BufferedDataTable appendRank(final ExecutionContext exec, final BufferedDataTable sortedTable,
+        final RankNodeSettings modelSettings) throws CanceledExecutionException {
+        var spec = sortedTable.getDataTableSpec();
+        var columnRearranger = new ColumnRearranger(spec);
         // append rank column
         columnRearranger.append(new RankCellFactory(
-            createRankColSpec(modelSettings.m_rankDataType, modelSettings.m_rankOutFieldName), groupColIndices,
-            rankColIndices, modelSettings.m_rankMode, modelSettings.m_rankDataType == RankDataType.LONG));
+            createRankColSpec(modelSettings.m_rankDataType, modelSettings.m_rankOutFieldName),
+            getGroupColIndices(spec, modelSettings), getRankColIndices(spec, modelSettings), modelSettings.m_rankMode,
+            modelSettings.m_rankDataType == RankDataType.LONG));
         return exec.createColumnRearrangeTable(sortedTable, columnRearranger, exec);
     }
 
-    private static BufferedDataTable retainRowOrder(final ExecutionContext exec, final String rowOrderColumn,
-        BufferedDataTable out) throws CanceledExecutionException {
-        // recover row order
-        out = new BufferedDataTableSorter(out, Collections.singleton(rowOrderColumn), new boolean[]{true}).sort(exec);
-        // remove order column
-        var cr = new ColumnRearranger(out.getDataTableSpec());
-        cr.remove(rowOrderColumn);
-        out = exec.createColumnRearrangeTable(out, cr, exec.createSilentSubExecutionContext(0));
-        return out;
+    /**
+     * Ranks the table without sorting it.
+     *
+     * @return the table with the appended rank column
+     */
+    private static BufferedDataTable appendRankInInputOrder(final ExecutionContext exec,
+        final BufferedDataTable table, final RankNodeSettings modelSettings) throws CanceledExecutionException {
+        final var spec = table.getDataTableSpec();
+        final var ranker = new PartitionedRanker(spec, getGroupColIndices(spec, modelSettings),
+            getRankColIndices(spec, modelSettings), keySpec -> toRowComparator(keySpec, modelSettings),
+            modelSettings.m_rankMode, modelSettings.m_rankDataType == RankDataType.LONG);
+        return ranker.appendRanks(exec, table,
+            createRankColSpec(modelSettings.m_rankDataType, modelSettings.m_rankOutFieldName));
     }
 }
@@ -0,0 +1,604 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.knime.base.util.internal.HashPartitions;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Computes the result of a {@link SetOperation} with a hash set of the set values instead of sorting both input
+ * tables as done by the {@link SetOperationTable}.
+ * <p>
+ * The smaller input table is added to an open addressing hash set first, the larger table is streamed afterwards.
+ * The set stores the hash code of each value, the value itself, the sets it occurs in and the position of its first
+ * occurrence, where the rows of the second table are positioned after the rows of the first table. Values are
+ * compared with {@link DataCell#equals(Object)} whenever their hash codes match, hash collisions are therefore always
+ * resolved. If all values of the smaller table are held in memory, values of the streamed table that are not
+ * contained in the set are not stored at all whenever they cannot be part of the result, i.e. for the intersection
+ * and for the complement if the second table is streamed.
+ * </p>
+ * <p>
+ * If the {@link MemoryAlertSystem} reports low memory, the values that are already in memory are kept, whereas the
+ * rows of all values that have not been seen so far are written to one of {@value HashPartitions#NUM_PARTITIONS} hash
+ * partitions, which are processed recursively. Spilling is disabled if hiliting is enabled since the hilite mapping
+ * holds all RowIDs in memory anyway.
+ * </p>
+ * <p>
+ * The result values are either sorted, as done by the {@link SetOperationTable}, or ordered by their first occurrence.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+class HashSetOperationTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashSetOperationTable.class);
+
+    /** Minimum number of in-memory values before spilling is considered at all. */
+    private static final int MIN_VALUES_IN_MEMORY = 16;
+
+    /** Flag of values contained in the first set. */
+    private static final byte IN_FIRST = 1;
+
+    /** Flag of values contained in the second set. */
+    private static final byte IN_SECOND = 2;
+
+    private static final byte IN_BOTH = IN_FIRST | IN_SECOND;
+
+    private static final IntCell[] SET_CELLS = {new IntCell(0), new IntCell(1)};
+
+    private final BufferedDataTable[] m_tables;
+
+    private final int[] m_colIdx;
+
+    private final SetOperation m_op;
+
+    private final boolean m_differentTypes;
+
+    private final DataTableSpec m_resultSpec;
+
+    private final DataValueComparator m_comparator;
+
+    private final boolean m_enableHilite;
+
+    private final boolean m_skipMissing;
+
+    private final boolean m_retainOrder;
+
+    private Map<RowKey, Set<RowKey>> m_hiliteMapping0;
+
+    private Map<RowKey, Set<RowKey>> m_hiliteMapping1;
+
+    /**
+     * Constructor for class HashSetOperationTable.
+     *
+     * @param useRowID1 <code>true</code> if the row id should be used instead of a column
+     * @param col1 the column name of the first set
+     * @param table1 the table of the first set
+     * @param useRowID2 <code>true</code> if the row id should be used instead of a column
+     * @param col2 the column name of the second set
+     * @param table2 the table of the second set
+     * @param op the {@link SetOperation} to perform
+     * @param enableHilite <code>true</code> if hilite translation should be performed
+     * @param skipMissing <code>true</code> if missing cells should be skipped
+     * @param retainOrder <code>true</code> if the result values should be ordered by their first occurrence instead of
+     *            being sorted
+     */
+    HashSetOperationTable(final boolean useRowID1, final String col1, final BufferedDataTable table1,
+        final boolean useRowID2, final String col2, final BufferedDataTable table2, final SetOperation op,
+        final boolean enableHilite, final boolean skipMissing, final boolean retainOrder) {
+        if (table1 == null) {
+            throw new NullPointerException("table1 must not be null");
+        }
+        if (table2 == null) {
+            throw new NullPointerException("table2 must not be null");
+        }
+        if (op == null) {
+            throw new NullPointerException("op must not be null");
+        }
+        m_tables = new BufferedDataTable[]{table1, table2};
+        m_colIdx = new int[]{getColumnIndex(useRowID1, col1, table1, 1), getColumnIndex(useRowID2, col2, table2, 2)};
+        final DataColumnSpec col1Spec = useRowID1 ? SetOperationTable.createRowIDSpec("RowID1")
+            : table1.getDataTableSpec().getColumnSpec(m_colIdx[0]);
+        final DataColumnSpec col2Spec = useRowID2 ? SetOperationTable.createRowIDSpec("RowID2")
+            : table2.getDataTableSpec().getColumnSpec(m_colIdx[1]);
+        m_op = op;
+        m_differentTypes = useRowID1 || useRowID2 || !col1Spec.getType().equals(col2Spec.getType());
+        m_resultSpec = SetOperationTable.createResultTableSpec(op, col1Spec, col2Spec);
+        m_comparator =
+            m_differentTypes ? GeneralDataValueComparator.getInstance() : op.getComparator(col1Spec, col2Spec);
+        if (enableHilite && (table1.size() > Integer.MAX_VALUE || table2.size() > Integer.MAX_VALUE)) {
+            LOGGER.warn("Disabling hilite mapping because row count is greater than " + Integer.MAX_VALUE);
+            m_enableHilite = false;
+        } else {
+            m_enableHilite = enableHilite;
+        }
+        m_skipMissing = skipMissing;
+        m_retainOrder = retainOrder;
+    }
+
+    private static int getColumnIndex(final boolean useRowID, final String col, final BufferedDataTable table,
+        final int setIdx) {
+        if (useRowID) {
+            return -1;
+        }
+        if (col == null) {
+            throw new NullPointerException("col" + setIdx + " must not be null");
+        }
+        final int colIdx = table.getDataTableSpec().findColumnIndex(col);
+        if (colIdx < 0) {
+            throw new IllegalArgumentException(
+                "No column spec found for column" + setIdx + " in table" + setIdx);
+        }
+        return colIdx;
+    }
+
+    /**
+     * Computes the result set.
+     *
+     * @param exec the execution context
+     * @return the table with one row per value of the result set
+     * @throws CanceledExecutionException if the operation was canceled
+     */
+    BufferedDataTable compute(final ExecutionContext exec) throws CanceledExecutionException {
+        // the larger table is streamed against the values of the smaller one
+        final int buildIdx = m_tables[0].size() <= m_tables[1].size() ? 0 : 1;
+        final int probeIdx = 1 - buildIdx;
+        final long totalRows = m_tables[0].size() + m_tables[1].size();
+        final ExecutionContext hashExec = exec.createSubExecutionContext(0.7);
+        final ExecutionContext spillExec = exec.createSubExecutionContext(0.2);
+        final ExecutionContext outputExec = exec.createSubExecutionContext(0.1);
+
+        final var pass = new Pass(hashExec, 0);
+        addTable(hashExec, pass, buildIdx, 0, totalRows, true);
+        // values of the streamed table only need to be stored if they might be part of the result
+        final boolean storeUnknown =
+            pass.m_partitions != null || m_op == SetOperation.OR || m_op == SetOperation.XOR
+                || (m_op == SetOperation.MINUS && probeIdx == 0);
+        addTable(hashExec, pass, probeIdx, m_tables[buildIdx].size(), totalRows, storeUnknown);
+        hashExec.setProgress(1.0);
+
+        if (pass.m_partitions == null) {
+            spillExec.setProgress(1.0);
+            return createResultTable(outputExec, pass.m_values);
+        }
+        final BufferedDataContainer results = HashPartitions.createContainer(exec, createResultsSpec());
+        writeResults(pass.m_values, results);
+        processPartitions(spillExec, pass.m_partitions, results, 1);
+        results.close();
+        return createResultTable(outputExec, results.getTable());
+    }
+
+    /**
+     * Adds the values of the given input table to the given pass. The rows of the second table are positioned after
+     * the rows of the first table.
+     *
+     * @param processedRows the number of rows processed so far
+     * @param storeUnknown <code>false</code> if values that are neither in memory nor spilled can be ignored
+     */
+    private void addTable(final ExecutionContext exec, final Pass pass, final int setIdx, final long processedRows,
+        final long totalRows, final boolean storeUnknown) throws CanceledExecutionException {
+        final int colIdx = m_colIdx[setIdx];
+        long position = setIdx == 0 ? 0 : m_tables[0].size();
+        long rowNo = processedRows;
+        for (final DataRow row : m_tables[setIdx]) {
+            exec.checkCanceled();
+            final long currentRowNo = ++rowNo;
+            exec.setProgress(currentRowNo / (double)totalRows,
+                () -> "Processing row " + currentRowNo + " of " + totalRows);
+            pass.add(getValue(row, colIdx), setIdx, position++, row.getKey(), storeUnknown);
+        }
+    }
+
+    /**
+     * Processes the given hash partitions recursively and writes the result values of each partition to the given
+     * container.
+     */
+    private void processPartitions(final ExecutionContext exec, final HashPartitions partitions,
+        final BufferedDataContainer results, final int level) throws CanceledExecutionException {
+        final var progressPerPartition = 1.0 / HashPartitions.NUM_PARTITIONS;
+        for (final BufferedDataTable partitionTable : partitions.close()) {
+            final var partitionExec = exec.createSubExecutionContext(progressPerPartition);
+            if (partitionTable.size() > 0) {
+                final var pass = new Pass(partitionExec, level);
+                final long rowCount = partitionTable.size();
+                long rowNo = 0;
+                for (final DataRow row : partitionTable) {
+                    partitionExec.checkCanceled();
+                    partitionExec.setProgress(0.5 * rowNo++ / rowCount,
+                        "Processing partition (level " + level + ")");
+                    pass.add(row.getCell(0), ((IntValue)row.getCell(1)).getIntValue(),
+                        ((LongValue)row.getCell(2)).getLongValue(), row.getKey(), true);
+                }
+                writeResults(pass.m_values, results);
+                if (pass.m_partitions != null) {
+                    processPartitions(partitionExec.createSubExecutionContext(0.5), pass.m_partitions, results,
+                        level + 1);
+                }
+            }
+            exec.clearTable(partitionTable);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if rows of values that are not yet in memory should be spilled to disk.
+     *
+     * @param valuesInMemory the number of values currently held in memory
+     * @param memIndicator the memory indicator of the current pass
+     * @return <code>true</code> if new values should be spilled to the hash partitions
+     */
+    boolean spillRequired(final int valuesInMemory, final MemoryActionIndicator memIndicator) {
+        return valuesInMemory >= MIN_VALUES_IN_MEMORY && memIndicator.lowMemoryActionRequired();
+    }
+
+    private DataCell getValue(final DataRow row, final int colIdx) {
+        if (colIdx < 0) {
+            return new StringCell(row.getKey().getString());
+        }
+        final DataCell cell = row.getCell(colIdx);
+        return m_differentTypes ? new StringCell(cell.toString()) : cell;
+    }
+
+    private boolean isResult(final byte sets) {
+        return switch (m_op) {
+            case AND -> sets == IN_BOTH;
+            case OR -> true;
+            case MINUS -> sets == IN_FIRST;
+            case XOR -> sets != IN_BOTH;
+        };
+    }
+
+    /** Creates the result table from the values of an in-memory pass. */
+    private BufferedDataTable createResultTable(final ExecutionContext exec, final ValueSet values)
+        throws CanceledExecutionException {
+        final List<Integer> resultIdx = new ArrayList<>();
+        for (var i = 0; i < values.size(); i++) {
+            if (isResult(values.m_sets[i])) {
+                resultIdx.add(i);
+            }
+        }
+        if (m_retainOrder) {
+            resultIdx.sort((a, b) -> Long.compare(values.m_positions[a], values.m_positions[b]));
+        } else {
+            resultIdx.sort((a, b) -> m_comparator.compare(values.m_values[a], values.m_values[b]));
+        }
+        if (m_enableHilite) {
+            m_hiliteMapping0 = new HashMap<>();
+            m_hiliteMapping1 = new HashMap<>();
+        }
+        final BufferedDataContainer dc = exec.createDataContainer(m_resultSpec);
+        final int resultCount = resultIdx.size();
+        for (var i = 0; i < resultCount; i++) {
+            exec.checkCanceled();
+            exec.setProgress(i / (double)resultCount);
+            final int idx = resultIdx.get(i);
+            final RowKey rowKey = RowKey.createRowKey((long)i);
+            dc.addRowToTable(new DefaultRow(rowKey, values.m_values[idx]));
+            if (m_enableHilite) {
+                addHiliteMapping(m_hiliteMapping0, rowKey, values.m_keys0[idx]);
+                addHiliteMapping(m_hiliteMapping1, rowKey, values.m_keys1[idx]);
+            }
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
+    private static void addHiliteMapping(final Map<RowKey, Set<RowKey>> mapping, final RowKey rowKey,
+        final List<RowKey> keys) {
+        if (keys != null) {
+            mapping.put(rowKey, new LinkedHashSet<>(keys));
+        }
+    }
+
+    /** Creates the result table from the result values of all passes if rows have been spilled. */
+    private BufferedDataTable createResultTable(final ExecutionContext exec, final BufferedDataTable results)
+        throws CanceledExecutionException {
+        final Comparator<DataRow> rowComparator;
+        if (m_retainOrder) {
+            rowComparator = (r1, r2) -> Long.compare(((LongValue)r1.getCell(1)).getLongValue(),
+                ((LongValue)r2.getCell(1)).getLongValue());
+        } else {
+            rowComparator = (r1, r2) -> m_comparator.compare(r1.getCell(0), r2.getCell(0));
+        }
+        final BufferedDataTable sorted =
+            new BufferedDataTableSorter(results, rowComparator).sort(exec.createSubExecutionContext(0.8));
+        exec.clearTable(results);
+        final ExecutionContext writeExec = exec.createSubExecutionContext(0.2);
+        final BufferedDataContainer dc = writeExec.createDataContainer(m_resultSpec);
+        final long resultCount = sorted.size();
+        long rowId = 0;
+        for (final DataRow row : sorted) {
+            writeExec.checkCanceled();
+            writeExec.setProgress(rowId / (double)resultCount);
+            dc.addRowToTable(new DefaultRow(RowKey.createRowKey(rowId++), row.getCell(0)));
+        }
+        dc.close();
+        exec.clearTable(sorted);
+        return dc.getTable();
+    }
+
+    private void writeResults(final ValueSet values, final BufferedDataContainer results) {
+        for (var i = 0; i < values.size(); i++) {
+            if (isResult(values.m_sets[i])) {
+                results.addRowToTable(new DefaultRow(RowKey.createRowKey(values.m_positions[i]), values.m_values[i],
+                    new LongCell(values.m_positions[i])));
+            }
+        }
+    }
+
+    private DataType getValueType() {
+        return m_resultSpec.getColumnSpec(0).getType();
+    }
+
+    /** The result values of all passes and the position of their first occurrence. */
+    private DataTableSpec createResultsSpec() {
+        return new DataTableSpec(new String[]{"value", "position"}, new DataType[]{getValueType(), LongCell.TYPE});
+    }
+
+    /** The spilled rows hold the value, the index of the set it belongs to and its position. */
+    private DataTableSpec createPartitionSpec() {
+        return new DataTableSpec(new DataColumnSpecCreator("value", getValueType()).createSpec(),
+            new DataColumnSpecCreator("set", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("position", LongCell.TYPE).createSpec());
+    }
+
+    /**
+     * The hilite translation <code>Map</code> for the first set or <code>null</code> if hiliting is disabled.
+     *
+     * @return the hilite translation <code>Map</code> or <code>null</code>
+     */
+    Map<RowKey, Set<RowKey>> getHiliteMapping0() {
+        return m_hiliteMapping0;
+    }
+
+    /**
+     * The hilite translation <code>Map</code> for the second set or <code>null</code> if hiliting is disabled.
+     *
+     * @return the hilite translation <code>Map</code> or <code>null</code>
+     */
+    Map<RowKey, Set<RowKey>> getHiliteMapping1() {
+        return m_hiliteMapping1;
+    }
+
+    /** The values of one pass over the input tables or a partition and its hash partitions once spilling started. */
+    private final class Pass {
+
+        private final ValueSet m_values = new ValueSet(m_enableHilite);
+
+        private final MemoryActionIndicator m_memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+
+        private final ExecutionContext m_exec;
+
+        private final int m_level;
+
+        private final boolean m_canSpill;
+
+        private HashPartitions m_partitions;
+
+        Pass(final ExecutionContext exec, final int level) {
+            m_exec = exec;
+            m_level = level;
+            m_canSpill = !m_enableHilite && level < HashPartitions.MAX_SPILL_LEVEL;
+        }
+
+        /**
+         * @param storeUnknown <code>false</code> if the value should be ignored if it is not contained in memory
+         */
+        void add(final DataCell value, final int setIdx, final long position, final RowKey key,
+            final boolean storeUnknown) {
+            if (m_skipMissing && value.isMissing()) {
+                return;
+            }
+            final int hash = value.hashCode();
+            final int idx = m_values.find(value, hash);
+            if (idx >= 0) {
+                m_values.update(idx, setIdx, position, key);
+                return;
+            }
+            if (!storeUnknown) {
+                return;
+            }
+            if (m_partitions == null && m_canSpill && spillRequired(m_values.size(), m_memIndicator)) {
+                LOGGER.debugWithFormat("Low memory: spilling new values to %d partitions after %d values "
+                    + "(level %d).", HashPartitions.NUM_PARTITIONS, m_values.size(), m_level);
+                m_partitions = new HashPartitions(m_exec, createPartitionSpec(), m_level);
+            }
+            if (m_partitions != null) {
+                m_partitions.add(hash, new DefaultRow(key, value, SET_CELLS[setIdx], new LongCell(position)));
+                return;
+            }
+            m_values.add(value, hash, setIdx, position, key);
+        }
+    }
+
+    /**
+     * Open addressing hash set of cells with linear probing. The slots hold the index of the value plus one and the
+     * values are stored in parallel arrays in insertion order together with their hash code.
+     */
+    private static final class ValueSet {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] m_slots = new int[INITIAL_CAPACITY];
+
+        private int[] m_hashes = new int[INITIAL_CAPACITY / 2];
+
+        private DataCell[] m_values = new DataCell[INITIAL_CAPACITY / 2];
+
+        private byte[] m_sets = new byte[INITIAL_CAPACITY / 2];
+
+        private long[] m_positions = new long[INITIAL_CAPACITY / 2];
+
+        /** The RowIDs of the rows containing the value per set, <code>null</code> if hiliting is disabled. */
+        private List<RowKey>[] m_keys0;
+
+        private List<RowKey>[] m_keys1;
+
+        private int m_size;
+
+        /**
+         * @param trackKeys <code>true</code> if the RowIDs of the rows containing a value should be stored
+         */
+        ValueSet(final boolean trackKeys) {
+            if (trackKeys) {
+                m_keys0 = newKeyLists(INITIAL_CAPACITY / 2);
+                m_keys1 = newKeyLists(INITIAL_CAPACITY / 2);
+            }
+        }
+
+        int size() {
+            return m_size;
+        }
+
+        int find(final DataCell value, final int hash) {
+            final int mask = m_slots.length - 1;
+            for (int slot = spread(hash) & mask;; slot = (slot + 1) & mask) {
+                final int idx = m_slots[slot] - 1;
+                if (idx < 0) {
+                    return -1;
+                }
+                if (m_hashes[idx] == hash && m_values[idx].equals(value)) {
+                    return idx;
+                }
+            }
+        }
+
+        void add(final DataCell value, final int hash, final int setIdx, final long position, final RowKey key) {
+            if (m_size == m_values.length) {
+                grow();
+            }
+            final int idx = m_size++;
+            m_hashes[idx] = hash;
+            m_values[idx] = value;
+            m_positions[idx] = position;
+            insert(idx);
+            update(idx, setIdx, position, key);
+        }
+
+        void update(final int idx, final int setIdx, final long position, final RowKey key) {
+            m_sets[idx] |= setIdx == 0 ? IN_FIRST : IN_SECOND;
+            m_positions[idx] = Math.min(m_positions[idx], position);
+            if (m_keys0 != null) {
+                final List<RowKey>[] keys = setIdx == 0 ? m_keys0 : m_keys1;
+                if (keys[idx] == null) {
+                    keys[idx] = new ArrayList<>(1);
+                }
+                keys[idx].add(key);
+            }
+        }
+
+        private void insert(final int idx) {
+            final int mask = m_slots.length - 1;
+            var slot = spread(m_hashes[idx]) & mask;
+            while (m_slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            m_slots[slot] = idx + 1;
+        }
+
+        /** Doubles the capacity, the number of values is at most half the number of slots. */
+        private void grow() {
+            if (m_slots.length == 1 << 30) {
+                throw new IllegalStateException("Too many distinct values to be held in memory");
+            }
+            final int capacity = m_values.length * 2;
+            m_hashes = Arrays.copyOf(m_hashes, capacity);
+            m_values = Arrays.copyOf(m_values, capacity);
+            m_sets = Arrays.copyOf(m_sets, capacity);
+            m_positions = Arrays.copyOf(m_positions, capacity);
+            if (m_keys0 != null) {
+                m_keys0 = Arrays.copyOf(m_keys0, capacity);
+                m_keys1 = Arrays.copyOf(m_keys1, capacity);
+            }
+            m_slots = new int[capacity * 2];
+            for (var i = 0; i < m_size; i++) {
+                insert(i);
+            }
+        }
+
+        private static int spread(final int hash) {
+            final int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<RowKey>[] newKeyLists(final int capacity) {
+            return new List[capacity];
+        }
+    }
+}
@@ -48,7 +48,12 @@
 
 package org.knime.base.node.preproc.setoperator;
 
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataValue;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponent;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
@@ -78,6 +83,13 @@ public class SetOperatorNodeDialog extends DefaultNodeSettingsPane {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_retainOrder =
+        new SettingsModelBoolean(SetOperatorNodeModel.CFG_RETAIN_ORDER, false);
+
+    /**<code>true</code> if the node computes the result by sorting both
+     * tables, which is not shown but kept when the settings are saved.*/
+    private boolean m_sortTables = false;
+
 
     /**Constructor for claprivaterNodeDialog.
      *
@@ -107,5 +119,28 @@ public SetOperatorNodeDialog() {
         setHorizontalPlacement(true);
         addDialogComponent(enableHilite);
         addDialogComponent(skipMissing);
+        addDialogComponent(new DialogComponentBoolean(m_retainOrder,
+                "Retain order of first occurrence"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadAdditionalSettingsFrom(final NodeSettingsRO settings,
+            final DataTableSpec[] specs) throws NotConfigurableException {
+        m_sortTables = settings.getBoolean(
+                SetOperatorNodeModel.CFG_SORT_TABLES, true);
+        // the order of the sorted result cannot be retained
+        m_retainOrder.setEnabled(!m_sortTables);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveAdditionalSettingsTo(final NodeSettingsWO settings)
+            throws InvalidSettingsException {
+        settings.addBoolean(SetOperatorNodeModel.CFG_SORT_TABLES, m_sortTables);
     }
 }
@@ -52,9 +52,12 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -91,6 +94,13 @@ public class SetOperatorNodeModel extends NodeModel {
     protected static final String CFG_SKIP_MISSING = "skipMissing";
     /**Configuration key for the enable hilite option.*/
     protected static final String CFG_ENABLE_HILITE = "enableHilite";
+    /**Configuration key for the retain order option.
+     * @since 5.12*/
+    protected static final String CFG_RETAIN_ORDER = "retainOrder";
+    /**Configuration key of the compatibility option that computes the result
+     * by sorting both tables, which is set for nodes created before 5.12.
+     * @since 5.12*/
+    protected static final String CFG_SORT_TABLES = "sortTables";
 
     private final SettingsModelColumnName m_col1 =
         new SettingsModelColumnName(SetOperatorNodeModel.CFG_COL1, null);
@@ -104,6 +114,13 @@ public class SetOperatorNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_retainOrder =
+        new SettingsModelBoolean(CFG_RETAIN_ORDER, false);
+
+    /**<code>true</code> if the result is computed by sorting both tables,
+     * which is the case for nodes created before the option was added.*/
+    private boolean m_sortTables = false;
+
     private static final String HILITE_MAPPING0 = "hilite_mapping0.xml.gz";
     private static final String HILITE_MAPPING1 = "hilite_mapping1.xml.gz";
 
@@ -156,6 +173,13 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_setOp.loadSettingsFrom(settings);
         m_skipMissing.loadSettingsFrom(settings);
         m_enableHilite.loadSettingsFrom(settings);
+        // options added in 5.12, older nodes keep sorting both tables
+        m_sortTables = settings.getBoolean(CFG_SORT_TABLES, true);
+        if (settings.containsKey(CFG_RETAIN_ORDER)) {
+            m_retainOrder.loadSettingsFrom(settings);
+        } else {
+            m_retainOrder.setBooleanValue(false);
+        }
     }
 
     /**
@@ -168,6 +192,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_setOp.saveSettingsTo(settings);
         m_skipMissing.saveSettingsTo(settings);
         m_enableHilite.saveSettingsTo(settings);
+        m_retainOrder.saveSettingsTo(settings);
+        settings.addBoolean(CFG_SORT_TABLES, m_sortTables);
     }
 
     /**
@@ -248,17 +274,34 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
         final SetOperation op =
             SetOperation.getOperation4Name(m_setOp.getStringValue());
-        final SetOperationTable table = new SetOperationTable(exec,
-                m_col1.useRowID(), m_col1.getColumnName(), inData[0],
-                m_col2.useRowID(), m_col2.getColumnName(), inData[1],
-                op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue());
+        final BufferedDataTable result;
+        final Map<RowKey, Set<RowKey>> hiliteMapping0;
+        final Map<RowKey, Set<RowKey>> hiliteMapping1;
+        if (m_sortTables) {
+            final SetOperationTable table = new SetOperationTable(exec,
+                    m_col1.useRowID(), m_col1.getColumnName(), inData[0],
+                    m_col2.useRowID(), m_col2.getColumnName(), inData[1],
+                    op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue());
+            result = table.getBufferedTable();
+            hiliteMapping0 = table.getHiliteMapping0();
+            hiliteMapping1 = table.getHiliteMapping1();
+        } else {
+            final HashSetOperationTable table = new HashSetOperationTable(
+                    m_col1.useRowID(), m_col1.getColumnName(), inData[0],
+                    m_col2.useRowID(), m_col2.getColumnName(), inData[1],
+                    op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue(),
+                    m_retainOrder.getBooleanValue());
+            result = table.compute(exec);
+            hiliteMapping0 = table.getHiliteMapping0();
+            hiliteMapping1 = table.getHiliteMapping1();
+        }
         if (m_enableHilite.getBooleanValue()) {
             m_trans0.setMapper(
-                    new DefaultHiLiteMapper(table.getHiliteMapping0()));
+                    new DefaultHiLiteMapper(hiliteMapping0));
             m_trans1.setMapper(
-                    new DefaultHiLiteMapper(table.getHiliteMapping1()));
+                    new DefaultHiLiteMapper(hiliteMapping1));
         }
-        return new BufferedDataTable[] {table.getBufferedTable()};
+        return new BufferedDataTable[] {result};
     }
 
     /**
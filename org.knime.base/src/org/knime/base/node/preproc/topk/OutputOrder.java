@@ -52,51 +52,27 @@
 
 enum OutputOrder implements ButtonGroupEnumInterface {
         /**
-         * The user does not care about the output order so no pre- and postprocessing is performed to keep the runtime
-         * as low as possible.
+         * The user does not care about the output order so the rows are output in whichever order is cheapest to keep
+         * the runtime as low as possible.
          */
-        NO_ORDER("No order", OrderPreprocessors.noOp(), OrderPostprocessors.noOp()),
+        NO_ORDER("No order"),
         /**
          * The input order should be retained i.e. the order of the selected rows should be the same as in the input
-         * table. </br>
-         * Preprocessing: An artificial order column is added. Postprocessing: The selection is sorted according to the
-         * order column which is removed afterwards.
+         * table.
          */
-        RETAIN("Retain order", OrderPreprocessors.appendInOrderColumn(),
-            OrderPostprocessors.chain(OrderPostprocessors.sort(OrderPostprocessors::compareInputOrderColumn),
-                OrderPostprocessors.removeLastColumn())),
+        RETAIN("Retain order"),
         /**
-         * The output table should be sorted according to the selection criterion. </br>
-         * Preprocessing: An artificial order column is added. Postprocessing: The selection is sorted according to the
-         * user-specified selection criterion with tie-breaking according to the input order. The order column is
-         * removed afterwards.
+         * The output table should be sorted according to the selection criterion with tie-breaking according to the
+         * input order.
          */
-        SORT("Sort output", OrderPreprocessors.appendInOrderColumn(),
-            OrderPostprocessors.chain((s, c) -> OrderPostprocessors
-                .sort(OrderPostprocessors.chain(c, OrderPostprocessors::compareInputOrderColumn))
-                .postprocessSelection(s, c), OrderPostprocessors.removeLastColumn()));
+        SORT("Sort output");
 
-    private OutputOrder(final String text, final OrderPreprocessor preprocessor,
-        final OrderPostprocessor postprocessor) {
+    private OutputOrder(final String text) {
         m_text = text;
-        m_preprocessor = preprocessor;
-        m_postprocessor = postprocessor;
     }
 
     private final String m_text;
 
-    private final OrderPreprocessor m_preprocessor;
-
-    private final OrderPostprocessor m_postprocessor;
-
-    OrderPreprocessor getPreprocessor() {
-        return m_preprocessor;
-    }
-
-    OrderPostprocessor getPostprocessor() {
-        return m_postprocessor;
-    }
-
     /**
      * {@inheritDoc}
      */
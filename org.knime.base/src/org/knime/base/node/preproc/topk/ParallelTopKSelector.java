@@ -0,0 +1,418 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.topk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.base.node.util.preproc.SortingUtils;
+import org.knime.base.node.util.preproc.SortingUtils.SortingCriterionSettings;
+import org.knime.base.node.util.preproc.SortingUtils.SortingOrder;
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.StringOrEnum;
+
+/**
+ * Selects the top k rows of a table by splitting it into row ranges which are processed concurrently. Each range keeps
+ * its own bounded heap of candidates and the candidates of all ranges are merged at the end. Rows with equal sort
+ * values are ranked by their position in the input table, i.e. the earlier row is selected.
+ * <p>
+ * If all sorting criteria are integer, long or double columns, the sort values of each row are normalized into a
+ * <code>long</code> array that compares lexicographically like the rows themselves. Rows are then only compared on
+ * these arrays, which avoids the generic row comparator for the vast majority of rows that are rejected. Other
+ * criteria fall back to the row comparator.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class ParallelTopKSelector {
+
+    /** The minimum number of rows per concurrently processed range. */
+    static final long MIN_ROWS_PER_RANGE = 10000;
+
+    private final Comparator<DataRow> m_rowComparator;
+
+    /** <code>null</code> if the sort values cannot be normalized. */
+    private final KeyNormalizer m_normalizer;
+
+    private final Comparator<Candidate> m_keyComparator;
+
+    private final int m_k;
+
+    private final boolean m_unique;
+
+    /**
+     * Constructor for class ParallelTopKSelector.
+     *
+     * @param spec the spec of the table to select from
+     * @param sortingCriteria the sorting criteria
+     * @param missingsLast whether missing values are always sorted to the end
+     * @param k the number of rows or unique values to select
+     * @param topKMode the selection mode
+     */
+    ParallelTopKSelector(final DataTableSpec spec, final SortingCriterionSettings[] sortingCriteria,
+        final boolean missingsLast, final int k, final TopKMode topKMode) {
+        m_rowComparator = SortingUtils.toRowComparator(spec, sortingCriteria, missingsLast);
+        m_normalizer = KeyNormalizer.create(spec, sortingCriteria, missingsLast);
+        m_keyComparator = m_normalizer != null ? (c1, c2) -> KeyNormalizer.compare(c1.m_key, c2.m_key)
+            : (c1, c2) -> m_rowComparator.compare(c1.m_row, c2.m_row);
+        m_k = k;
+        m_unique = topKMode == TopKMode.TOP_K_ALL_ROWS_W_UNIQUE;
+    }
+
+    /**
+     * @return <code>true</code> if the sort values are normalized into primitive keys
+     */
+    boolean isNormalized() {
+        return m_normalizer != null;
+    }
+
+    /**
+     * Selects the top k rows of the given table.
+     *
+     * @param exec the execution monitor
+     * @param table the table to select from
+     * @param outputOrder the order of the selected rows
+     * @return the selected rows
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    List<DataRow> select(final ExecutionMonitor exec, final BufferedDataTable table, final OutputOrder outputOrder)
+        throws CanceledExecutionException {
+        final long rowCount = table.size();
+        final int numRanges = getNumberOfRanges(rowCount);
+        final var processedRows = new AtomicLong();
+        final long rangeSize = Math.max(1, (rowCount + numRanges - 1) / numRanges);
+        final List<Callable<RangeSelector>> tasks = new ArrayList<>(numRanges);
+        for (long from = 0; from < rowCount; from += rangeSize) {
+            final long to = Math.min(from + rangeSize, rowCount) - 1;
+            final long rangeStart = from;
+            tasks.add(() -> selectRange(exec, table, rangeStart, to, processedRows, rowCount));
+        }
+        final List<RangeSelector> selectors = ParallelTasks.run(tasks);
+        exec.setMessage("Merging selected rows");
+        return merge(selectors, outputOrder);
+    }
+
+    /**
+     * @param rowCount the number of rows to select from
+     * @return the number of row ranges to process concurrently
+     */
+    static int getNumberOfRanges(final long rowCount) {
+        final long maxRanges = Math.max(1, rowCount / MIN_ROWS_PER_RANGE);
+        return (int)Math.min(maxRanges, Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+    }
+
+    private RangeSelector selectRange(final ExecutionMonitor exec, final BufferedDataTable table, final long from,
+        final long to, final AtomicLong processedRows, final long rowCount) throws CanceledExecutionException {
+        final RangeSelector selector = createRangeSelector();
+        try (final CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(from, to)).iterator()) {
+            for (long index = from; it.hasNext(); index++) {
+                selector.consume(it.next(), index);
+                if ((index & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    final long processed = processedRows.addAndGet(0x400);
+                    exec.setProgress(Math.min(1.0, processed / (double)rowCount),
+                        () -> "Selecting from row " + Math.min(processed, rowCount) + " of " + rowCount);
+                }
+            }
+        }
+        return selector;
+    }
+
+    /**
+     * @return a selector for the rows of one range, which must be consumed in input order
+     */
+    RangeSelector createRangeSelector() {
+        return new RangeSelector();
+    }
+
+    /**
+     * Merges the candidates of the given range selectors.
+     *
+     * @param selectors the range selectors in the order of their ranges
+     * @param outputOrder the order of the selected rows
+     * @return the selected rows
+     */
+    List<DataRow> merge(final List<RangeSelector> selectors, final OutputOrder outputOrder) {
+        final List<Candidate> selected;
+        if (m_unique) {
+            final TreeMap<Candidate, List<Candidate>> groups = new TreeMap<>(m_keyComparator);
+            for (final RangeSelector selector : selectors) {
+                selector.m_groups.forEach((key, group) -> groups.merge(key, group, (g1, g2) -> {
+                    g1.addAll(g2);
+                    return g1;
+                }));
+            }
+            selected = new ArrayList<>();
+            var numGroups = 0;
+            for (final List<Candidate> group : groups.values()) {
+                if (numGroups++ == m_k) {
+                    break;
+                }
+                selected.addAll(group);
+            }
+        } else {
+            final List<Candidate> candidates = new ArrayList<>();
+            for (final RangeSelector selector : selectors) {
+                candidates.addAll(selector.m_heap);
+            }
+            candidates.sort(m_keyComparator.thenComparingLong(c -> c.m_index));
+            selected = candidates.subList(0, Math.min(Math.max(m_k, 0), candidates.size()));
+        }
+        if (outputOrder == OutputOrder.RETAIN) {
+            selected.sort(Comparator.comparingLong(c -> c.m_index));
+        }
+        return selected.stream().map(c -> c.m_row).toList();
+    }
+
+    /** A selected row with its position in the input table and its normalized sort values. */
+    private static final class Candidate {
+
+        private final DataRow m_row;
+
+        private final long m_index;
+
+        private final long[] m_key;
+
+        Candidate(final DataRow row, final long index, final long[] key) {
+            m_row = row;
+            m_index = index;
+            m_key = key;
+        }
+    }
+
+    /**
+     * Keeps the top k candidates of one row range. The rows must be consumed in input order, so that a row which ties
+     * with a candidate always ranks behind it.
+     */
+    final class RangeSelector {
+
+        /** The top k candidates with the worst candidate at the head, only used if not in unique mode. */
+        private final PriorityQueue<Candidate> m_heap;
+
+        /** The candidates of the top k unique values, only used in unique mode. */
+        private final TreeMap<Candidate, List<Candidate>> m_groups;
+
+        private final long[] m_scratch;
+
+        private RangeSelector() {
+            if (m_unique) {
+                m_heap = null;
+                m_groups = new TreeMap<>(m_keyComparator);
+            } else {
+                m_heap = new PriorityQueue<>(Math.max(m_k, 0) + 1,
+                    m_keyComparator.thenComparingLong((Candidate c) -> c.m_index).reversed());
+                m_groups = null;
+            }
+            m_scratch = m_normalizer != null ? new long[m_normalizer.getKeyLength()] : null;
+        }
+
+        /**
+         * Considers the given row.
+         *
+         * @param row the row
+         * @param index the position of the row in the input table
+         */
+        void consume(final DataRow row, final long index) {
+            if (m_k <= 0) {
+                return;
+            }
+            if (m_normalizer != null) {
+                m_normalizer.normalize(row, m_scratch);
+            }
+            if (m_unique) {
+                consumeUnique(row, index);
+            } else if (m_heap.size() < m_k) {
+                m_heap.add(createCandidate(row, index));
+            } else if (compareToCandidate(row, m_heap.peek()) < 0) {
+                m_heap.poll();
+                m_heap.add(createCandidate(row, index));
+            } else {
+                // the row is not among the top k rows
+            }
+        }
+
+        private void consumeUnique(final DataRow row, final long index) {
+            if (m_groups.size() == m_k && compareToCandidate(row, m_groups.lastKey()) > 0) {
+                // the value of the row is not among the top k values
+                return;
+            }
+            final Candidate candidate = createCandidate(row, index);
+            final List<Candidate> group = m_groups.get(candidate);
+            if (group != null) {
+                group.add(candidate);
+                return;
+            }
+            final List<Candidate> newGroup = new ArrayList<>();
+            newGroup.add(candidate);
+            m_groups.put(candidate, newGroup);
+            if (m_groups.size() > m_k) {
+                m_groups.pollLastEntry();
+            }
+        }
+
+        private int compareToCandidate(final DataRow row, final Candidate candidate) {
+            return m_normalizer != null ? KeyNormalizer.compare(m_scratch, candidate.m_key)
+                : m_rowComparator.compare(row, candidate.m_row);
+        }
+
+        private Candidate createCandidate(final DataRow row, final long index) {
+            return new Candidate(row, index, m_scratch != null ? m_scratch.clone() : null);
+        }
+    }
+
+    /**
+     * Normalizes the sort values of integer, long and double columns into <code>long</code> values such that the
+     * lexicographic comparison of the normalized keys yields the same order as the row comparator. Each criterion
+     * occupies two values: the first one places missing cells before or after all other values, the second one
+     * holds the value itself.
+     */
+    private static final class KeyNormalizer {
+
+        private final int[] m_colIndices;
+
+        private final boolean[] m_isDouble;
+
+        private final boolean[] m_descending;
+
+        /** The first value of a criterion for missing cells, the other cells use the complement. */
+        private final long[] m_missingRanks;
+
+        private KeyNormalizer(final int[] colIndices, final boolean[] isDouble, final boolean[] descending,
+            final long[] missingRanks) {
+            m_colIndices = colIndices;
+            m_isDouble = isDouble;
+            m_descending = descending;
+            m_missingRanks = missingRanks;
+        }
+
+        /**
+         * @return the normalizer or <code>null</code> if any criterion is not an integer, long or double column
+         */
+        static KeyNormalizer create(final DataTableSpec spec, final SortingCriterionSettings[] sortingCriteria,
+            final boolean missingsLast) {
+            final int n = sortingCriteria.length;
+            final var colIndices = new int[n];
+            final var isDouble = new boolean[n];
+            final var descending = new boolean[n];
+            final var missingRanks = new long[n];
+            for (var i = 0; i < n; i++) {
+                final StringOrEnum<?> column = sortingCriteria[i].getColumn();
+                if (column.getEnumChoice().isPresent()) {
+                    // the row id is compared as string
+                    return null;
+                }
+                colIndices[i] = spec.findColumnIndex(column.getStringChoice());
+                final DataType type = spec.getColumnSpec(colIndices[i]).getType();
+                if (type.equals(DoubleCell.TYPE)) {
+                    isDouble[i] = true;
+                } else if (!type.equals(IntCell.TYPE) && !type.equals(LongCell.TYPE)) {
+                    return null;
+                }
+                descending[i] = sortingCriteria[i].getSortingOrder() == SortingOrder.DESCENDING;
+                // missing cells are the smallest values unless they are always sorted to the end
+                missingRanks[i] = missingsLast || descending[i] ? 1 : 0;
+            }
+            return new KeyNormalizer(colIndices, isDouble, descending, missingRanks);
+        }
+
+        int getKeyLength() {
+            return 2 * m_colIndices.length;
+        }
+
+        void normalize(final DataRow row, final long[] key) {
+            for (var i = 0; i < m_colIndices.length; i++) {
+                final DataCell cell = row.getCell(m_colIndices[i]);
+                if (cell.isMissing()) {
+                    key[2 * i] = m_missingRanks[i];
+                    key[2 * i + 1] = 0;
+                    continue;
+                }
+                long value;
+                if (m_isDouble[i]) {
+                    // flips the bits of negative values such that the signed comparison equals Double#compare
+                    final long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                    value = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+                } else {
+                    // integer cells are long values as well
+                    value = ((LongValue)cell).getLongValue();
+                }
+                key[2 * i] = 1 - m_missingRanks[i];
+                key[2 * i + 1] = m_descending[i] ? ~value : value;
+            }
+        }
+
+        static int compare(final long[] key1, final long[] key2) {
+            for (var i = 0; i < key1.length; i++) {
+                if (key1[i] != key2[i]) {
+                    return key1[i] < key2[i] ? -1 : 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
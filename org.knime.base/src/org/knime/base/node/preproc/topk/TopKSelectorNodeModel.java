@@ -49,13 +49,12 @@
 package org.knime.base.node.preproc.topk;
 
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 import org.knime.base.node.util.preproc.SortingUtils;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -107,56 +106,21 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                 "The input table has fewer rows (%s) than the specified k. Make sure the input has at least %s rows.",
                 table.size(), modelSettings.m_amount));
         }
-        final var dts = table.getDataTableSpec();
-        final var rc =
-            SortingUtils.toRowComparator(dts, modelSettings.m_sortingCriteria, modelSettings.m_missingsToEnd);
-        final TopKSelector elementSelector = createElementSelector(rc, modelSettings);
         final var outputOrder = modelSettings.m_rowOrder.m_outputOrder;
-        final OrderPreprocessor preprocessor = outputOrder.getPreprocessor();
-        final BufferedDataTable execTable = preprocessor.preprocessSelectionTable(table,
-            exec.createSubExecutionContext(preprocessor.getProgressRequired()));
-        fillElementSelector(exec.createSubExecutionContext(0.9 - preprocessor.getProgressRequired()), execTable,
-            elementSelector);
-        // these two enums apply `OrderPostprocessors#removeLastColumn` which previously threw this error when
-        // the input table is empty -- this is unnecessary and is fixed in 5.10 with backwards compatibility
+        final var selector = new ParallelTopKSelector(table.getDataTableSpec(), modelSettings.m_sortingCriteria,
+            modelSettings.m_missingsToEnd, (int)modelSettings.m_amount, modelSettings.m_filterMode.m_topkMode);
+        final List<DataRow> topK = selector.select(exec.createSubProgress(0.9), table, outputOrder);
+        // these two orders used to fail on an empty input table when removing their temporary order column
+        // -- this is unnecessary and is fixed in 5.10 with backwards compatibility
         if (modelSettings.m_failOnEmptyTable
             && (outputOrder == OutputOrder.RETAIN || outputOrder == OutputOrder.SORT)) {
-            CheckUtils.checkArgument(execTable.size() > 0, "The selection must contain at least one row.");
+            CheckUtils.checkArgument(table.size() > 0, "The selection must contain at least one row.");
         }
-        final Collection<DataRow> topK =
-            outputOrder.getPostprocessor().postprocessSelection(elementSelector.getTopK(), rc);
-        final BufferedDataTable outputTable = createOutputTable(topK, dts, exec.createSubExecutionContext(0.1));
+        final BufferedDataTable outputTable =
+            createOutputTable(topK, table.getDataTableSpec(), exec.createSubExecutionContext(0.1));
         return new BufferedDataTable[]{outputTable};
     }
 
-    private static TopKSelector createElementSelector(final Comparator<DataRow> comparator,
-        final TopKSelectorNodeSettings modelSettings) {
-        final Comparator<DataRow> inverted = (i, j) -> -comparator.compare(i, j);
-        final TopKMode topKMode = modelSettings.m_filterMode.m_topkMode;
-        if (modelSettings.m_amount == 1 && topKMode == TopKMode.TOP_K_ROWS) {
-            return new TopSelector(inverted);
-        } else if (topKMode == TopKMode.TOP_K_ALL_ROWS_W_UNIQUE) {
-            return new HeapTopKUniqueRowsSelector(inverted, (int)modelSettings.m_amount);
-        } else {
-            return new HeapTopKSelector(inverted, (int)modelSettings.m_amount);
-        }
-    }
-
-    private static void fillElementSelector(final ExecutionContext exec, final BufferedDataTable table,
-        final TopKSelector elementSelector) throws CanceledExecutionException {
-        final double nrRows = table.size();
-        try (CloseableRowIterator iterator = table.iterator()) {
-            for (long i = 1; iterator.hasNext(); i++) {
-                exec.checkCanceled();
-                final DataRow row = iterator.next();
-                final long iFinal = i;
-                exec.setProgress(i / nrRows,
-                    () -> String.format("Consuming row %s (%s of %s)", row.getKey(), iFinal, (long)nrRows));
-                elementSelector.consume(row);
-            }
-        }
-    }
-
     private static BufferedDataTable createOutputTable(final Collection<DataRow> topK, final DataTableSpec spec,
         final ExecutionContext exec) throws CanceledExecutionException {
         final BufferedDataContainer container = exec.createDataContainer(spec);
@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.valuelookup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton that finds all keywords contained in a text with a single pass over the text, independent of
+ * the number of keywords. The keywords are identified by their index in the list handed to the constructor.
+ *
+ * The trie transitions are stored in an open addressing hash table keyed by state and character, which keeps the
+ * memory footprint small also for large alphabets.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    private static final int NONE = -1;
+
+    private static final long EMPTY = -1;
+
+    /** Keys of the transition table, i.e. {@code (state << 16) | character} or {@link #EMPTY}. */
+    private final long[] m_transitionKeys;
+
+    /** Target states of the transition table. */
+    private final int[] m_transitionTargets;
+
+    private final int m_transitionBits;
+
+    private int m_numStates;
+
+    /** The longest proper suffix of each state that is also a state. */
+    private final int[] m_failure;
+
+    /** The longest proper suffix of each state that has an output, or {@link #NONE}. */
+    private final int[] m_outputLink;
+
+    /** Head of the list of keywords ending in each state, or {@link #NONE}. */
+    private final int[] m_firstOutput;
+
+    /** Next keyword in the output list of a state, indexed by keyword. */
+    private final int[] m_nextOutput;
+
+    /** The smallest keyword index ending in a state or in one of its suffixes. */
+    private final int[] m_minOutput;
+
+    /** The largest keyword index ending in a state or in one of its suffixes. */
+    private final int[] m_maxOutput;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param keywords the keywords to search for, duplicates and empty keywords are allowed
+     */
+    AhoCorasickAutomaton(final List<String> keywords) {
+        final var maxStates = 1 + keywords.stream().mapToLong(String::length).sum();
+        if (maxStates > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("The keywords are too long to be indexed.");
+        }
+        final var capacity = (int)maxStates;
+        m_transitionBits = Math.max(4, 32 - Integer.numberOfLeadingZeros(2 * capacity - 1));
+        m_transitionKeys = new long[1 << m_transitionBits];
+        Arrays.fill(m_transitionKeys, EMPTY);
+        m_transitionTargets = new int[1 << m_transitionBits];
+        m_firstOutput = new int[capacity];
+        Arrays.fill(m_firstOutput, NONE);
+        m_nextOutput = new int[keywords.size()];
+        m_numStates = 1;
+
+        // the trie, children are remembered as sibling lists for the breadth first traversal below
+        final var firstChild = new int[capacity];
+        final var nextSibling = new int[capacity];
+        final var characters = new char[capacity];
+        Arrays.fill(firstChild, NONE);
+        for (var k = 0; k < keywords.size(); k++) {
+            final var keyword = keywords.get(k);
+            var state = ROOT;
+            for (var i = 0; i < keyword.length(); i++) {
+                final var c = keyword.charAt(i);
+                var next = getTransition(state, c);
+                if (next == NONE) {
+                    next = m_numStates;
+                    m_numStates++;
+                    putTransition(state, c, next);
+                    characters[next] = c;
+                    nextSibling[next] = firstChild[state];
+                    firstChild[state] = next;
+                }
+                state = next;
+            }
+            // prepend, i.e. the list is in descending keyword order
+            m_nextOutput[k] = m_firstOutput[state];
+            m_firstOutput[state] = k;
+        }
+        m_failure = new int[m_numStates];
+        m_outputLink = new int[m_numStates];
+        m_minOutput = new int[m_numStates];
+        m_maxOutput = new int[m_numStates];
+        computeFailureLinks(firstChild, nextSibling, characters);
+    }
+
+    /**
+     * Computes the failure and output links as well as the smallest and largest outputs in breadth first order, i.e.
+     * the links of all shorter states are known when a state is processed.
+     */
+    private void computeFailureLinks(final int[] firstChild, final int[] nextSibling, final char[] characters) {
+        m_outputLink[ROOT] = NONE;
+        m_minOutput[ROOT] = minOwnOutput(ROOT, Integer.MAX_VALUE);
+        m_maxOutput[ROOT] = maxOwnOutput(ROOT, NONE);
+        final var queue = new int[m_numStates];
+        var head = 0;
+        var tail = 0;
+        queue[tail++] = ROOT;
+        while (head < tail) {
+            final var state = queue[head++];
+            for (var child = firstChild[state]; child != NONE; child = nextSibling[child]) {
+                queue[tail++] = child;
+                final var failure = state == ROOT ? ROOT : step(m_failure[state], characters[child]);
+                m_failure[child] = failure;
+                m_outputLink[child] = m_firstOutput[failure] != NONE ? failure : m_outputLink[failure];
+                m_minOutput[child] = minOwnOutput(child, m_minOutput[failure]);
+                m_maxOutput[child] = maxOwnOutput(child, m_maxOutput[failure]);
+            }
+        }
+    }
+
+    private int minOwnOutput(final int state, final int inherited) {
+        var min = inherited;
+        for (var k = m_firstOutput[state]; k != NONE; k = m_nextOutput[k]) {
+            min = Math.min(min, k);
+        }
+        return min;
+    }
+
+    private int maxOwnOutput(final int state, final int inherited) {
+        // the list is in descending order
+        return m_firstOutput[state] == NONE ? inherited : Math.max(inherited, m_firstOutput[state]);
+    }
+
+    /**
+     * @param text the text to search in
+     * @return the smallest index of a keyword that is contained in the text or -1 if there is none
+     */
+    int findFirst(final CharSequence text) {
+        var min = m_minOutput[ROOT];
+        var state = ROOT;
+        for (var i = 0; i < text.length() && min > 0; i++) {
+            state = step(state, text.charAt(i));
+            min = Math.min(min, m_minOutput[state]);
+        }
+        return min == Integer.MAX_VALUE ? NONE : min;
+    }
+
+    /**
+     * @param text the text to search in
+     * @return the largest index of a keyword that is contained in the text or -1 if there is none
+     */
+    int findLast(final CharSequence text) {
+        final var last = m_nextOutput.length - 1;
+        var max = m_maxOutput[ROOT];
+        var state = ROOT;
+        for (var i = 0; i < text.length() && max < last; i++) {
+            state = step(state, text.charAt(i));
+            max = Math.max(max, m_maxOutput[state]);
+        }
+        return max;
+    }
+
+    /**
+     * Reports the indices of all keywords that are contained in the text. Keywords that occur several times may be
+     * reported several times.
+     *
+     * @param text the text to search in
+     * @param consumer receives the keyword indices
+     */
+    void forEachMatch(final CharSequence text, final IntConsumer consumer) {
+        reportOutputs(ROOT, consumer);
+        var state = ROOT;
+        for (var i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (var s = m_firstOutput[state] != NONE ? state : m_outputLink[state]; s > ROOT; s = m_outputLink[s]) {
+                reportOutputs(s, consumer);
+            }
+        }
+    }
+
+    private void reportOutputs(final int state, final IntConsumer consumer) {
+        for (var k = m_firstOutput[state]; k != NONE; k = m_nextOutput[k]) {
+            consumer.accept(k);
+        }
+    }
+
+    /** Follows the goto function, falling back along the failure links. */
+    private int step(final int state, final char c) {
+        for (var s = state;; s = m_failure[s]) {
+            final var next = getTransition(s, c);
+            if (next != NONE) {
+                return next;
+            } else if (s == ROOT) {
+                return ROOT;
+            }
+        }
+    }
+
+    private int getTransition(final int state, final char c) {
+        final var key = transitionKey(state, c);
+        final var mask = m_transitionKeys.length - 1;
+        for (var i = slot(key);; i = (i + 1) & mask) {
+            final var candidate = m_transitionKeys[i];
+            if (candidate == key) {
+                return m_transitionTargets[i];
+            } else if (candidate == EMPTY) {
+                return NONE;
+            }
+        }
+    }
+
+    private void putTransition(final int state, final char c, final int target) {
+        final var key = transitionKey(state, c);
+        final var mask = m_transitionKeys.length - 1;
+        var i = slot(key);
+        while (m_transitionKeys[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        m_transitionKeys[i] = key;
+        m_transitionTargets[i] = target;
+    }
+
+    private static long transitionKey(final int state, final char c) {
+        return ((long)state << 16) | c;
+    }
+
+    /** Fibonacci hashing of the key onto the table. */
+    private int slot(final long key) {
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> (64 - m_transitionBits));
+    }
+}
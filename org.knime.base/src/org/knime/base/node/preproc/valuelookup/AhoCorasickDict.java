@@ -0,0 +1,103 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.valuelookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.knime.base.node.preproc.valuelookup.ValueLookupNodeSettings.SearchDirection;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.util.Pair;
+
+/**
+ * Dictionary implementation that matches lookup strings if they contain a substring found in the dictionary table.
+ * Contrary to the {@link SubstringDict}, all dictionary entries are searched at once with an
+ * {@link AhoCorasickAutomaton}, i.e. the lookup time does not depend on the size of the dictionary. The first (last)
+ * matching entry in dictionary order is returned.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class AhoCorasickDict extends SubstringDict {
+
+    /**
+     * The values of the dictionary entries in insertion order, created together with the automaton
+     */
+    private List<Pair<RowKey, DataCell[]>> m_values;
+
+    private AhoCorasickAutomaton m_automaton;
+
+    /**
+     * Create a new instance by providing the settings of a node instance
+     *
+     * @param settings the relevant settings instance
+     */
+    AhoCorasickDict(final ValueLookupNodeSettings settings) {
+        super(settings);
+    }
+
+    @Override
+    public Optional<Pair<RowKey, DataCell[]>> getDictEntry(final DataCell key) {
+        if (m_automaton == null) {
+            // all search pairs have been inserted once the first lookup happens
+            m_values = new ArrayList<>(m_dict.size());
+            final var keywords = new ArrayList<String>(m_dict.size());
+            for (var entry : m_dict) {
+                keywords.add(entry.getKey());
+                m_values.add(entry.getValue());
+            }
+            m_automaton = new AhoCorasickAutomaton(keywords);
+        }
+        final var lookup = m_stringNormaliser.apply(key);
+        final var index = m_settings.m_searchDirection == SearchDirection.BACKWARD ? m_automaton.findLast(lookup)
+            : m_automaton.findFirst(lookup);
+        return index < 0 ? Optional.empty() : Optional.of(m_values.get(index));
+    }
+}
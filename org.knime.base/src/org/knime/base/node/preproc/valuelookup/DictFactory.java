@@ -81,6 +81,12 @@
  */
 final class DictFactory {
 
+    /**
+     * Dictionary tables with fewer rows are searched linearly for substring and pattern matches, larger ones use an
+     * automaton to find the (candidate) entries
+     */
+    static final long MIN_AUTOMATON_DICT_SIZE = 32;
+
     private final ValueLookupNodeSettings m_settings;
 
     private final BufferedDataTable m_dictTable;
@@ -181,8 +187,9 @@ private UnsortedInputDict getDictImplementation(final DataType dictKeyColType) {
             if (dictKeyColType.isCompatible(StringValue.class)) {
                 return switch (m_settings.m_stringMatchBehaviour) {
                     case FULLSTRING -> new StringDict(m_settings);
-                    case SUBSTRING -> new SubstringDict(m_settings);
-                    case WILDCARD, REGEX -> new PatternDict(m_settings);
+                    case SUBSTRING -> useAutomaton() ? new AhoCorasickDict(m_settings) : new SubstringDict(m_settings);
+                    case WILDCARD, REGEX -> useAutomaton() ? new PrefilteredPatternDict(m_settings)
+                        : new PatternDict(m_settings);
                     default ->
                         throw new IllegalArgumentException(
                             "Unknown String Matching behaviour: " + m_settings.m_stringMatchBehaviour.toString());
@@ -195,6 +202,10 @@ private UnsortedInputDict getDictImplementation(final DataType dictKeyColType) {
         }
     }
 
+    private boolean useAutomaton() {
+        return m_dictTable.size() >= MIN_AUTOMATON_DICT_SIZE;
+    }
+
     /**
      * This method tries to initialise a Binary Search Dictionary, and while iterating over the input, writes all
      * entries to the key- and value-cache provided. If the input data is sorted either ascendingly or descendingly
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.valuelookup;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.knime.base.node.preproc.valuelookup.ValueLookupNodeSettings.SearchDirection;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.util.Pair;
+
+/**
+ * Dictionary implementation that uses Regular Expressions to match lookup cells against a pattern in the dictionary
+ * table. Contrary to the {@link PatternDict}, a lookup only evaluates the patterns whose required literal (see
+ * {@link RegexLiterals}) is contained in the lookup string. The literals of all patterns are searched at once with an
+ * {@link AhoCorasickAutomaton}. Patterns without such a literal are always evaluated.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class PrefilteredPatternDict extends PatternDict {
+
+    /**
+     * The dictionary entries in insertion order, created together with the automaton
+     */
+    private List<Map.Entry<Pattern, Pair<RowKey, DataCell[]>>> m_entries;
+
+    /**
+     * The index of the entry each literal of the automaton belongs to
+     */
+    private int[] m_literalOwners;
+
+    /**
+     * The entries without a required literal
+     */
+    private BitSet m_unfiltered;
+
+    /**
+     * The entries that need to be evaluated for the current lookup
+     */
+    private BitSet m_candidates;
+
+    private AhoCorasickAutomaton m_automaton;
+
+    /**
+     * Create a new instance by providing the settings of a node instance
+     *
+     * @param settings the relevant settings instance
+     */
+    PrefilteredPatternDict(final ValueLookupNodeSettings settings) {
+        super(settings);
+    }
+
+    private void initialiseAutomaton() {
+        m_entries = new ArrayList<>(m_dict);
+        m_unfiltered = new BitSet(m_entries.size());
+        m_candidates = new BitSet(m_entries.size());
+        final var literals = new ArrayList<String>();
+        final var owners = new int[m_entries.size()];
+        for (var i = 0; i < m_entries.size(); i++) {
+            final var pattern = m_entries.get(i).getKey();
+            final var literal = RegexLiterals.requiredLiteral(pattern.pattern(), !m_settings.m_caseSensitive);
+            if (literal.isPresent()) {
+                owners[literals.size()] = i;
+                literals.add(literal.get());
+            } else {
+                m_unfiltered.set(i);
+            }
+        }
+        m_literalOwners = owners;
+        m_automaton = new AhoCorasickAutomaton(literals);
+    }
+
+    @Override
+    public Optional<Pair<RowKey, DataCell[]>> getDictEntry(final DataCell key) {
+        if (m_automaton == null) {
+            // all search pairs have been inserted once the first lookup happens
+            initialiseAutomaton();
+        }
+        final var lookup = key.toString();
+        m_candidates.clear();
+        m_candidates.or(m_unfiltered);
+        m_automaton.forEachMatch(m_settings.m_caseSensitive ? lookup : RegexLiterals.fold(lookup),
+            literal -> m_candidates.set(m_literalOwners[literal]));
+        if (m_settings.m_searchDirection == SearchDirection.BACKWARD) {
+            for (var i = m_candidates.previousSetBit(m_entries.size() - 1); i >= 0;
+                    i = m_candidates.previousSetBit(i - 1)) {
+                if (matches(m_entries.get(i).getKey(), key)) {
+                    return Optional.of(m_entries.get(i).getValue());
+                }
+            }
+        } else {
+            for (var i = m_candidates.nextSetBit(0); i >= 0; i = m_candidates.nextSetBit(i + 1)) {
+                if (matches(m_entries.get(i).getKey(), key)) {
+                    return Optional.of(m_entries.get(i).getValue());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.preproc.valuelookup;
+
+import java.util.Optional;
+
+/**
+ * Extracts a literal from a regular expression that every string matched by the expression contains. Such a literal
+ * allows to discard most of the patterns of a dictionary with a substring search before running the (expensive) regular
+ * expression matching.
+ *
+ * The extraction is conservative: it only considers literal characters on the top level of the expression, and gives
+ * up for constructs whose semantics it does not model (alternations, embedded flags, escape sequences other than
+ * escaped punctuation).
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class RegexLiterals {
+
+    private RegexLiterals() {
+    }
+
+    /**
+     * Folds a character for case-insensitive comparisons in the same way {@link java.util.regex.Pattern} compares
+     * characters if the {@code CASE_INSENSITIVE} and {@code UNICODE_CASE} flags are set. Only reliable for pattern
+     * characters in the ASCII range, which is why {@link #requiredLiteral(String, boolean)} only extracts those.
+     *
+     * @param c the character to fold
+     * @return the folded character
+     */
+    static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Folds all characters of a string, see {@link #fold(char)}.
+     *
+     * @param s the string to fold
+     * @return the folded string
+     */
+    static String fold(final String s) {
+        final var chars = new char[s.length()];
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = fold(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Finds the longest literal that every match of the regular expression contains.
+     *
+     * @param regex a valid regular expression
+     * @param caseInsensitive whether the expression is matched case-insensitively, in which case the literal is folded
+     *            by {@link #fold(char)}
+     * @return the literal or {@link Optional#empty()} if none could be determined
+     */
+    static Optional<String> requiredLiteral(final String regex, final boolean caseInsensitive) {
+        final var extractor = new Extractor(regex, caseInsensitive);
+        return extractor.extract() ? Optional.of(extractor.m_best).filter(s -> !s.isEmpty()) : Optional.empty();
+    }
+
+    private static final class Extractor {
+
+        private final String m_regex;
+
+        private final boolean m_caseInsensitive;
+
+        private final StringBuilder m_run = new StringBuilder();
+
+        private String m_best = "";
+
+        /** Whether the last token was a single literal character in {@link #m_run}, i.e. subject to a quantifier. */
+        private boolean m_lastWasLiteral;
+
+        Extractor(final String regex, final boolean caseInsensitive) {
+            m_regex = regex;
+            m_caseInsensitive = caseInsensitive;
+        }
+
+        /**
+         * @return {@code false} if the expression contains constructs that prevent the extraction
+         */
+        boolean extract() {
+            final var length = m_regex.length();
+            var i = 0;
+            while (i < length) {
+                final var c = m_regex.charAt(i);
+                switch (c) {
+                    case '\\':
+                        i = escape(i);
+                        break;
+                    case '[':
+                        endRun();
+                        i = skipClass(i);
+                        break;
+                    case '(':
+                        endRun();
+                        i = skipGroup(i);
+                        break;
+                    case '*', '?':
+                        quantify();
+                        i++;
+                        break;
+                    case '{':
+                        quantify();
+                        i = m_regex.indexOf('}', i);
+                        i = i < 0 ? -1 : (i + 1);
+                        break;
+                    case '+':
+                        // the preceding token occurs at least once, but may be repeated
+                        endRun();
+                        i++;
+                        break;
+                    case '|', ')':
+                        return false;
+                    case '.', '^', '$', ']', '}':
+                        endRun();
+                        i++;
+                        break;
+                    default:
+                        literal(c);
+                        i++;
+                }
+                if (i < 0) {
+                    return false;
+                }
+            }
+            endRun();
+            return true;
+        }
+
+        /** @return the index after the escape sequence or -1 if it is not supported */
+        private int escape(final int start) {
+            if (start + 1 >= m_regex.length()) {
+                return -1;
+            }
+            final var c = m_regex.charAt(start + 1);
+            if (c == 'Q') {
+                final var end = m_regex.indexOf("\\E", start + 2);
+                final var quoteEnd = end < 0 ? m_regex.length() : end;
+                for (var i = start + 2; i < quoteEnd; i++) {
+                    literal(m_regex.charAt(i));
+                }
+                return end < 0 ? quoteEnd : (end + 2);
+            } else if (c < 128 && Character.isLetterOrDigit(c)) {
+                // character classes, boundaries, back references, octal, hexadecimal and unicode escapes, ...
+                return -1;
+            }
+            literal(c);
+            return start + 2;
+        }
+
+        /** @return the index after the character class starting at the given index or -1 if it is not supported */
+        private int skipClass(final int start) {
+            var depth = 0;
+            for (var i = start; i < m_regex.length(); i++) {
+                final var c = m_regex.charAt(i);
+                if (c == '\\') {
+                    if (i + 1 < m_regex.length() && m_regex.charAt(i + 1) == 'Q') {
+                        return -1;
+                    }
+                    i++;
+                } else if (c == '[') {
+                    if (m_regex.startsWith("]", i + 1) || m_regex.startsWith("^]", i + 1)) {
+                        // a closing bracket as first character of a class is ambiguous
+                        return -1;
+                    }
+                    depth++;
+                } else if (c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /** @return the index after the group starting at the given index or -1 if it is not supported */
+        private int skipGroup(final int start) {
+            var depth = 0;
+            for (var i = start; i < m_regex.length(); i++) {
+                final var c = m_regex.charAt(i);
+                if (c == '\\') {
+                    if (i + 1 < m_regex.length() && m_regex.charAt(i + 1) == 'Q') {
+                        return -1;
+                    }
+                    i++;
+                } else if (c == '[') {
+                    final var classEnd = skipClass(i);
+                    if (classEnd < 0) {
+                        return -1;
+                    }
+                    i = classEnd - 1;
+                } else if (c == '(') {
+                    if (isEmbeddedFlag(i)) {
+                        return -1;
+                    }
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        /** Embedded flags like {@code (?i)} or {@code (?-s:X)} change how the following literals are matched. */
+        private boolean isEmbeddedFlag(final int groupStart) {
+            return groupStart + 2 < m_regex.length() && m_regex.charAt(groupStart + 1) == '?'
+                && (Character.isLetter(m_regex.charAt(groupStart + 2)) || m_regex.charAt(groupStart + 2) == '-');
+        }
+
+        private void literal(final char c) {
+            if (Character.isSurrogate(c) || (m_caseInsensitive && c >= 128)) {
+                // quantifiers apply to the whole code point, case-insensitive matching is only modelled for ASCII
+                endRun();
+                return;
+            }
+            m_run.append(m_caseInsensitive ? fold(c) : c);
+            m_lastWasLiteral = true;
+        }
+
+        /** The last literal character is optional or repeated. */
+        private void quantify() {
+            if (m_lastWasLiteral) {
+                m_run.setLength(m_run.length() - 1);
+            }
+            endRun();
+        }
+
+        private void endRun() {
+            if (m_run.length() > m_best.length()) {
+                m_best = m_run.toString();
+            }
+            m_run.setLength(0);
+            m_lastWasLiteral = false;
+        }
+    }
+}
@@ -48,13 +48,14 @@
  */
 package org.knime.base.node.viz.liftchart;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collections;
 
 import org.knime.base.data.sort.SortedTable;
+import org.knime.base.node.viz.roc.ScoreCurve;
+import org.knime.base.node.viz.roc.ScoreCurveCalculator;
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
@@ -81,6 +82,8 @@ public class LiftCalculator {
 
     private BufferedDataTable m_lift;
     private BufferedDataTable m_response;
+    private BufferedDataTable m_table;
+    private ExecutionContext m_exec;
     private SortedTable m_sorted;
 
     /**
@@ -98,9 +101,19 @@ public BufferedDataTable getResponseTable() {
     }
 
     /**
+     * The lift tables are calculated without sorting the input table, it is sorted by the first call of this method.
+     *
      * @return the sorted input table
      */
     public BufferedDataTable getSortedInput() {
+        if (m_sorted == null) {
+            try {
+                m_sorted = new SortedTable(m_table, Collections.singletonList(m_probabilityColumn),
+                    new boolean[]{false}, m_exec);
+            } catch (final CanceledExecutionException e) {
+                throw new IllegalStateException("Sorting of the input table has been canceled", e);
+            }
+        }
         return m_sorted.getBufferedDataTable();
     }
 
@@ -143,60 +156,28 @@ public LiftCalculator(final String responseColumn, final String probabilityColum
      */
     public String calculateLiftTables(final BufferedDataTable table, final ExecutionContext exec)
             throws CanceledExecutionException {
-        int predColIndex = table.getDataTableSpec().findColumnIndex(m_responseColumn);
-        String warning = null;
-        List<String> inclList = new LinkedList<String>();
-
-        inclList.add(m_probabilityColumn);
-        int probColInd = table.getDataTableSpec().findColumnIndex(m_probabilityColumn);
+        m_table = table;
+        m_exec = exec;
+        m_sorted = null;
 
-        boolean[] order = new boolean[]{false};
+        // missing values in the class column are always ignored
+        final ScoreCurveCalculator calculator = new ScoreCurveCalculator(
+            Collections.singletonList(m_probabilityColumn), m_responseColumn, this::isResponse, true,
+            m_ignoreMissingValues);
+        final ScoreCurve curve = calculator.calculate(table, exec).get(0);
+        String warning = calculator.getWarningMessage();
 
-        m_sorted = new SortedTable(table, inclList, order, exec);
-
-        long totalResponses = 0;
+        long totalResponses = curve.getNumPositives();
 
         double partWidth = m_intervalWidth;
 
         int nrParts = (int)Math.ceil(100.0 / partWidth);
 
-        List<Integer> positiveResponses = new LinkedList<Integer>();
-
-        int rowIndex = 0;
-        for (DataRow row : m_sorted) {
-            if (row.getCell(predColIndex).isMissing() || row.getCell(probColInd).isMissing()) {
-                if (row.getCell(predColIndex).isMissing()) {
-                    // miss. values in class column we always ignore
-                    continue;
-                }
-                if (m_ignoreMissingValues) {
-                    continue;
-                } else {
-                    warning = "Table contains missing values.";
-                }
-            }
+        long rowIndex = curve.getNumRows();
 
-            String response =
-                    ((StringValue)row.getCell(predColIndex)).getStringValue()
-                            .trim();
+        long partWidthAbsolute = (long)Math.ceil(rowIndex / (double)nrParts);
 
-            if (response.equalsIgnoreCase(m_responseLabel)) {
-                totalResponses++;
-                positiveResponses.add(rowIndex);
-            }
-
-            rowIndex++;
-        }
-
-        int[] counter = new int[nrParts];
-        int partWidthAbsolute = (int)Math.ceil(rowIndex / (double)nrParts);
-
-        double avgResponse = (double)positiveResponses.size() / rowIndex;
-
-        for (int rIndex : positiveResponses) {
-            int index = rIndex / partWidthAbsolute;
-            counter[index]++;
-        }
+        double avgResponse = (double)totalResponses / rowIndex;
 
         DataColumnSpec[] colSpec = new DataColumnSpec[3];
 
@@ -226,17 +207,11 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
 
         DataContainer responseCont = exec.createDataContainer(tableSpec);//new DataContainer(tableSpec);
 
-        long cumulativeCounter = 0;
+        double cumulativeCounter = 0;
 
         responseCont.addRowToTable(new DefaultRow(new RowKey("0"), 0.0, 0.0));
 
-        for (int i = 0; i < counter.length; i++) {
-            cumulativeCounter += counter[i];
-            double responseRate = (double)counter[i] / partWidthAbsolute;
-            double lift = responseRate / avgResponse;
-
-            double cumResponseRate = (double)cumulativeCounter / totalResponses;
-
+        for (int i = 0; i < nrParts; i++) {
             long number = partWidthAbsolute * (i + 1);
 
             // well.. rounding problems
@@ -244,12 +219,17 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
                 number = rowIndex;
             }
 
-            double cumulativeLift =
-            // (double)cumulativeCounter / (partWidthAbsolute * (i + 1));
-                    (double)cumulativeCounter / number;
-            cumulativeLift /= avgResponse;
+            // the responses of rows with equal probabilities are spread evenly among these rows
+            double cumulativePositives = curve.getPositives(number);
+            double counter = cumulativePositives - cumulativeCounter;
+            cumulativeCounter = cumulativePositives;
+            double responseRate = counter / partWidthAbsolute;
+            double lift = responseRate / avgResponse;
+
+            double cumResponseRate = cumulativeCounter / totalResponses;
 
-            // cumulativeLift = lifts / (i+1);
+            double cumulativeLift = cumulativeCounter / number;
+            cumulativeLift /= avgResponse;
 
             double rowKey = ((i + 1) * partWidth);
             if (rowKey > 100) {
@@ -274,4 +254,9 @@ public String calculateLiftTables(final BufferedDataTable table, final Execution
         m_response = (BufferedDataTable)responseCont.getTable();
         return warning;
     }
+
+    private boolean isResponse(final DataCell classCell) {
+        return !classCell.isMissing()
+            && ((StringValue)classCell).getStringValue().trim().equalsIgnoreCase(m_responseLabel);
+    }
 }
@@ -49,15 +49,10 @@
 package org.knime.base.node.viz.roc;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
-import org.knime.base.data.sort.SortedTable;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
@@ -147,85 +142,19 @@ public ROCCalculator(final List<String> curves, final String classCol,
      */
     public void calculateCurveData(final BufferedDataTable table, final ExecutionContext exec)
             throws CanceledExecutionException {
-        m_warningMessage = null;
+        // all curves are computed from a single pass over the table instead of sorting it once per curve
+        ScoreCurveCalculator calculator =
+                new ScoreCurveCalculator(m_curves, m_classCol, m_posClass, m_ignoreMissingValues);
+        List<ScoreCurve> scoreCurves = calculator.calculate(table, exec.createSubProgress(0.9));
+        m_warningMessage = calculator.getWarningMessage();
+
         List<ROCCurve> curves = new ArrayList<ROCCurve>();
-        int classIndex = table.getDataTableSpec().findColumnIndex(m_classCol);
-        int curvesSize = m_curves.size();
-        int size = table.getRowCount();
-        if (size == 0) {
-            m_warningMessage = "Input table contains no rows";
-        }
         BufferedDataContainer outCont = exec.createDataContainer(OUT_SPEC);
-        for (int i = 0; i < curvesSize; i++) {
+        for (ScoreCurve c : scoreCurves) {
             exec.checkCanceled();
-            String c = m_curves.get(i);
-
-            ExecutionContext subExec = exec.createSubExecutionContext(
-                    1.0 / curvesSize);
-            SortedTable sortedTable =
-                    new SortedTable(table, Collections.singletonList(c),
-                            new boolean[]{false}, subExec);
-            subExec.setProgress(1.0);
-
-            int tp = 0, fp = 0;
-            // these contain the coordinates for the plot
-            double[] xValues = new double[size + 1];
-            double[] yValues = new double[size + 1];
-            int k = 0;
-            final int scoreColIndex =
-                    sortedTable.getDataTableSpec().findColumnIndex(c);
-            DataCell lastScore = null;
-            for (DataRow row : sortedTable) {
-                exec.checkCanceled();
-                DataCell realClass = row.getCell(classIndex);
-                if (realClass.isMissing() || row.getCell(scoreColIndex).isMissing()) {
-                    if (m_ignoreMissingValues) {
-                        continue;
-                    } else {
-                        m_warningMessage = "Table contains missing values.";
-                    }
-                }
-                if (realClass.toString().equals(m_posClass)) {
-                    tp++;
-                } else {
-                    fp++;
-                }
-
-                // Only add a new line point if probability values differ. If they are equal we can't prefer one
-                // value over the other as they are indifferent; for a sequence of equal probabilities, think of what
-                // would happen if we first encounter all TP and then the FP and the other way
-                // around ... the following lines circumvent this.
-                if (!row.getCell(scoreColIndex).equals(lastScore)) {
-                    k++;
-                    lastScore = row.getCell(scoreColIndex);
-                }
-                xValues[k] = fp;
-                yValues[k] = tp;
-            }
-
-            xValues = Arrays.copyOf(xValues, k + 1);
-            yValues = Arrays.copyOf(yValues, k + 1);
-
-            for (int j = 0; j <= k; j++) {
-                xValues[j] /= fp;
-                yValues[j] /= tp;
-            }
-            xValues[xValues.length - 1] = 1;
-            yValues[yValues.length - 1] = 1;
-
-            double area = 0;
-            for (k = 1; k < xValues.length; k++) {
-                if (xValues[k - 1] < xValues[k]) {
-                    // magical math: the rectangle + the triangle under
-                    // the segment xValues[k] to xValues[k - 1]
-                    area += 0.5 * (xValues[k] - xValues[k - 1])
-                        * (yValues[k] + yValues[k - 1]);
-                }
-            }
-
-            curves.add(new ROCCurve(c, xValues, yValues, area, m_maxPoints));
-            outCont.addRowToTable(new DefaultRow(new RowKey(c.toString()),
-                    new DoubleCell(area)));
+            curves.add(c.createROCCurve(m_maxPoints));
+            outCont.addRowToTable(new DefaultRow(new RowKey(c.getName()),
+                    new DoubleCell(c.getArea())));
         }
 
         m_outCurves = curves;
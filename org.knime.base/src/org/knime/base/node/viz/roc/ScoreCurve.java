@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.viz.roc;
+
+/**
+ * A score curve computed by the {@link ScoreCurveCalculator}: the cumulative numbers of positive and negative rows
+ * above each distinct score, in descending order of the scores. ROC curves, the area under the ROC curve and lift
+ * charts are derived from these counts. Rows with equal scores cannot be ordered, lift charts therefore assume the
+ * positive rows to be spread evenly among the rows of such a tie.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class ScoreCurve {
+
+    private final String m_name;
+
+    /** The cumulative number of positive rows, the first entry is 0, the last the number of positive rows. */
+    private final long[] m_positives;
+
+    /** The cumulative number of negative rows, the first entry is 0, the last the number of negative rows. */
+    private final long[] m_negatives;
+
+    private final double m_area;
+
+    /**
+     * @param name the name of the score column
+     * @param positives the cumulative number of positive rows for each distinct score, starting with 0
+     * @param negatives the cumulative number of negative rows for each distinct score, starting with 0
+     */
+    ScoreCurve(final String name, final long[] positives, final long[] negatives) {
+        m_name = name;
+        m_positives = positives;
+        m_negatives = negatives;
+        m_area = computeArea(getFalsePositiveRates(), getTruePositiveRates());
+    }
+
+    /**
+     * @return the name of the score column
+     */
+    public String getName() {
+        return m_name;
+    }
+
+    /**
+     * @return the number of positive rows
+     */
+    public long getNumPositives() {
+        return m_positives[m_positives.length - 1];
+    }
+
+    /**
+     * @return the number of negative rows
+     */
+    public long getNumNegatives() {
+        return m_negatives[m_negatives.length - 1];
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public long getNumRows() {
+        return getNumPositives() + getNumNegatives();
+    }
+
+    /**
+     * @return the number of distinct scores
+     */
+    public int getNumScores() {
+        return m_positives.length - 1;
+    }
+
+    /**
+     * @return the exact area under the ROC curve
+     */
+    public double getArea() {
+        return m_area;
+    }
+
+    /**
+     * @return the false positive rates of the ROC curve, one for each distinct score and the origin
+     */
+    public double[] getFalsePositiveRates() {
+        return getRates(m_negatives);
+    }
+
+    /**
+     * @return the true positive rates of the ROC curve, one for each distinct score and the origin
+     */
+    public double[] getTruePositiveRates() {
+        return getRates(m_positives);
+    }
+
+    private static double[] getRates(final long[] counts) {
+        final double[] rates = new double[counts.length];
+        final long total = counts[counts.length - 1];
+        for (int i = 0; i < counts.length; i++) {
+            rates[i] = counts[i];
+            rates[i] /= total;
+        }
+        rates[rates.length - 1] = 1;
+        return rates;
+    }
+
+    private static double computeArea(final double[] xValues, final double[] yValues) {
+        double area = 0;
+        for (int k = 1; k < xValues.length; k++) {
+            if (xValues[k - 1] < xValues[k]) {
+                // magical math: the rectangle + the triangle under
+                // the segment xValues[k] to xValues[k - 1]
+                area += 0.5 * (xValues[k] - xValues[k - 1]) * (yValues[k] + yValues[k - 1]);
+            }
+        }
+        return area;
+    }
+
+    /**
+     * Creates the ROC curve.
+     *
+     * @param maxPoints the maximum number of points of the curve, -1 to keep all points
+     * @return the ROC curve
+     */
+    public ROCCurve createROCCurve(final int maxPoints) {
+        return new ROCCurve(m_name, getFalsePositiveRates(), getTruePositiveRates(), m_area, maxPoints);
+    }
+
+    /**
+     * Returns the number of positive rows among the rows with the highest scores. If these rows end within a tie, i.e.
+     * rows with equal scores, the positive rows of the tie are assumed to be spread evenly among its rows.
+     *
+     * @param nrRows the number of rows with the highest scores, at most the number of rows
+     * @return the (expected) number of positive rows among them
+     */
+    public double getPositives(final long nrRows) {
+        if (nrRows < 0 || nrRows > getNumRows()) {
+            throw new IllegalArgumentException("Invalid number of rows: " + nrRows);
+        }
+        // the first score whose rows, together with the rows of the higher scores, cover the requested rows
+        int low = 0;
+        int high = getNumScores();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (getCumulativeRows(mid) < nrRows) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        final long rowsAbove = getCumulativeRows(low);
+        if (rowsAbove == nrRows) {
+            return m_positives[low];
+        }
+        // the rows end within the tie of the score, whose rows are counted at index low
+        final long rowsBefore = getCumulativeRows(low - 1);
+        final long tiePositives = m_positives[low] - m_positives[low - 1];
+        return m_positives[low - 1] + tiePositives * (double)(nrRows - rowsBefore) / (rowsAbove - rowsBefore);
+    }
+
+    /* The number of rows with one of the first i distinct scores. */
+    private long getCumulativeRows(final int i) {
+        return m_positives[i] + m_negatives[i];
+    }
+}
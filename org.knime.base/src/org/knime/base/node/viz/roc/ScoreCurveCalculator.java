@@ -0,0 +1,347 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.node.viz.roc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+import org.knime.base.util.internal.ParallelTasks;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Computes the {@link ScoreCurve}s of several score columns with a single pass over the table. The scores of the
+ * positive and of the negative rows are kept in primitive arrays, which are sorted concurrently for all columns with
+ * a radix sort. If the scores of all columns do not fit into memory, the columns are processed in batches, each with
+ * its own pass over the table.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ */
+public final class ScoreCurveCalculator {
+
+    private final List<String> m_scoreColumns;
+
+    private final String m_classColumn;
+
+    private final Predicate<DataCell> m_isPositive;
+
+    private final boolean m_ignoreMissingClasses;
+
+    private final boolean m_ignoreMissingScores;
+
+    private String m_warningMessage;
+
+    /**
+     * @param scoreColumns the score columns, higher scores indicate the positive class
+     * @param classColumn the class column
+     * @param positiveClass the positive class
+     * @param ignoreMissingValues <code>true</code> if rows with a missing class or score are ignored, otherwise they
+     *            are negative respectively get the lowest score
+     */
+    public ScoreCurveCalculator(final List<String> scoreColumns, final String classColumn,
+        final String positiveClass, final boolean ignoreMissingValues) {
+        this(scoreColumns, classColumn, c -> c.toString().equals(positiveClass), ignoreMissingValues,
+            ignoreMissingValues);
+    }
+
+    /**
+     * @param scoreColumns the score columns, higher scores indicate the positive class
+     * @param classColumn the class column
+     * @param isPositive tests whether a class cell, which may be missing, is the positive class
+     * @param ignoreMissingClasses <code>true</code> if rows with a missing class are ignored, otherwise their class is
+     *            tested like any other
+     * @param ignoreMissingScores <code>true</code> if rows with a missing score are ignored, otherwise they get the
+     *            lowest score
+     */
+    public ScoreCurveCalculator(final List<String> scoreColumns, final String classColumn,
+        final Predicate<DataCell> isPositive, final boolean ignoreMissingClasses, final boolean ignoreMissingScores) {
+        m_scoreColumns = scoreColumns;
+        m_classColumn = classColumn;
+        m_isPositive = isPositive;
+        m_ignoreMissingClasses = ignoreMissingClasses;
+        m_ignoreMissingScores = ignoreMissingScores;
+    }
+
+    /**
+     * @return the warning message of the last calculation, <code>null</code> if there is none
+     */
+    public String getWarningMessage() {
+        return m_warningMessage;
+    }
+
+    /**
+     * Computes the curves of all score columns.
+     *
+     * @param table the table containing the class and score columns
+     * @param exec to report progress and check for cancelation
+     * @return the curves, in the order of the score columns
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public List<ScoreCurve> calculate(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        m_warningMessage = null;
+        final long size = table.size();
+        if (size == 0) {
+            m_warningMessage = "Input table contains no rows";
+        }
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many rows to compute score curves: " + size);
+        }
+        final int nrColumns = m_scoreColumns.size();
+        final int batchSize = getBatchSize((int)size, nrColumns);
+        final List<ScoreCurve> curves = new ArrayList<>(nrColumns);
+        for (int from = 0; from < nrColumns; from += batchSize) {
+            final int to = Math.min(nrColumns, from + batchSize);
+            final ExecutionMonitor batchExec = exec.createSubProgress((to - from) / (double)nrColumns);
+            curves.addAll(calculate(table, m_scoreColumns.subList(from, to), (int)size, batchExec));
+        }
+        return curves;
+    }
+
+    /* The number of columns whose scores are kept in memory at the same time. */
+    private static int getBatchSize(final int size, final int nrColumns) {
+        final long bytesPerColumn = 8L * Math.max(size, 1);
+        final long available = Runtime.getRuntime().maxMemory() / 2;
+        // each concurrent sort needs a buffer of the same size
+        final long batchSize = available / bytesPerColumn - KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+        return (int)Math.max(1, Math.min(nrColumns, batchSize));
+    }
+
+    private List<ScoreCurve> calculate(final BufferedDataTable table, final List<String> columns, final int size,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int classIndex = spec.findColumnIndex(m_classColumn);
+        final int nrColumns = columns.size();
+        final int[] scoreIndices = new int[nrColumns];
+        final String[] materialized = new String[nrColumns + 1];
+        for (int c = 0; c < nrColumns; c++) {
+            scoreIndices[c] = spec.findColumnIndex(columns.get(c));
+            materialized[c] = columns.get(c);
+        }
+        materialized[nrColumns] = m_classColumn;
+
+        // the sort keys of the positive rows from the start, of the negative rows from the end
+        final long[][] keys = new long[nrColumns][size];
+        final int[] nrPositives = new int[nrColumns];
+        final int[] nrNegatives = new int[nrColumns];
+        // rows with a missing score are kept only if missing values are not ignored
+        final long[] missingPositives = new long[nrColumns];
+        final long[] missingNegatives = new long[nrColumns];
+
+        final ExecutionMonitor readExec = exec.createSubProgress(0.5);
+        readExec.setMessage("Reading scores");
+        long rowIndex = 0;
+        try (CloseableRowIterator it = table.filter(TableFilter.materializeCols(spec, materialized)).iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                readExec.checkCanceled();
+                readExec.setProgress(++rowIndex / (double)size);
+                final DataCell classCell = row.getCell(classIndex);
+                if (classCell.isMissing() && m_ignoreMissingClasses) {
+                    continue;
+                }
+                final boolean positive = m_isPositive.test(classCell);
+                for (int c = 0; c < nrColumns; c++) {
+                    final DataCell scoreCell = row.getCell(scoreIndices[c]);
+                    if (scoreCell.isMissing() && m_ignoreMissingScores) {
+                        continue;
+                    }
+                    if (classCell.isMissing() || scoreCell.isMissing()) {
+                        m_warningMessage = "Table contains missing values.";
+                    }
+                    if (scoreCell.isMissing()) {
+                        if (positive) {
+                            missingPositives[c]++;
+                        } else {
+                            missingNegatives[c]++;
+                        }
+                    } else {
+                        final long key = toKey(((DoubleValue)scoreCell).getDoubleValue());
+                        if (positive) {
+                            keys[c][nrPositives[c]++] = key;
+                        } else {
+                            keys[c][size - ++nrNegatives[c]] = key;
+                        }
+                    }
+                }
+            }
+        }
+
+        final ExecutionMonitor sortExec = exec.createSubProgress(0.5);
+        sortExec.setMessage("Sorting scores");
+        final ScoreCurve[] curves = new ScoreCurve[nrColumns];
+        final List<Callable<Void>> tasks = new ArrayList<>(nrColumns);
+        for (int c = 0; c < nrColumns; c++) {
+            final int column = c;
+            tasks.add(() -> {
+                sortExec.checkCanceled();
+                final long[] columnKeys = keys[column];
+                sort(columnKeys, 0, nrPositives[column]);
+                sort(columnKeys, size - nrNegatives[column], size);
+                curves[column] = createCurve(columns.get(column), columnKeys, nrPositives[column],
+                    size - nrNegatives[column], size, missingPositives[column], missingNegatives[column]);
+                // allow the scores to be garbage collected while the other columns are sorted
+                keys[column] = null;
+                return null;
+            });
+        }
+        ParallelTasks.run(tasks);
+        sortExec.setProgress(1);
+        return Arrays.asList(curves);
+    }
+
+    /*
+     * Counts the positive and negative rows in descending order of the scores, the rows with missing scores last.
+     * The positive keys are in [0, positivesEnd), the negative ones in [negativesStart, negativesEnd), both sorted
+     * ascending.
+     */
+    private static ScoreCurve createCurve(final String name, final long[] keys, final int positivesEnd,
+        final int negativesStart, final int negativesEnd, final long missingPositives,
+        final long missingNegatives) {
+        final int maxScores = positivesEnd + negativesEnd - negativesStart + 1;
+        final long[] positives = new long[maxScores + 1];
+        final long[] negatives = new long[maxScores + 1];
+        int nrScores = 0;
+        int p = positivesEnd - 1;
+        int n = negativesEnd - 1;
+        while (p >= 0 || n >= negativesStart) {
+            final long key;
+            if (p < 0) {
+                key = keys[n];
+            } else if (n < negativesStart) {
+                key = keys[p];
+            } else {
+                key = Math.max(keys[p], keys[n]);
+            }
+            long tp = positives[nrScores];
+            long fp = negatives[nrScores];
+            while (p >= 0 && keys[p] == key) {
+                tp++;
+                p--;
+            }
+            while (n >= negativesStart && keys[n] == key) {
+                fp++;
+                n--;
+            }
+            nrScores++;
+            positives[nrScores] = tp;
+            negatives[nrScores] = fp;
+        }
+        if (missingPositives > 0 || missingNegatives > 0) {
+            positives[nrScores + 1] = positives[nrScores] + missingPositives;
+            negatives[nrScores + 1] = negatives[nrScores] + missingNegatives;
+            nrScores++;
+        }
+        return new ScoreCurve(name, Arrays.copyOf(positives, nrScores + 1), Arrays.copyOf(negatives, nrScores + 1));
+    }
+
+    /* A key whose signed order is the order of Double#compare. */
+    private static long toKey(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /* LSD radix sort of the signed keys in [from, to), skipping the bytes all keys agree on. */
+    private static void sort(final long[] keys, final int from, final int to) {
+        final int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        final int[][] counts = new int[8][256];
+        for (int i = from; i < to; i++) {
+            final long key = keys[i] ^ Long.MIN_VALUE;
+            for (int b = 0; b < 8; b++) {
+                counts[b][(int)(key >>> (8 * b)) & 0xFF]++;
+            }
+        }
+        long[] buffer = null;
+        long[] source = keys;
+        int sourceOffset = from;
+        for (int b = 0; b < 8; b++) {
+            final int shift = 8 * b;
+            final int[] count = counts[b];
+            if (count[(int)((keys[from] ^ Long.MIN_VALUE) >>> shift) & 0xFF] == length) {
+                // all keys have the same byte
+                continue;
+            }
+            if (buffer == null) {
+                buffer = new long[length];
+            }
+            final long[] target = source == keys ? buffer : keys;
+            final int targetOffset = source == keys ? 0 : from;
+            int position = targetOffset;
+            for (int d = 0; d < 256; d++) {
+                final int c = count[d];
+                count[d] = position;
+                position += c;
+            }
+            for (int i = sourceOffset; i < sourceOffset + length; i++) {
+                final long key = source[i];
+                target[count[(int)((key ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = key;
+            }
+            source = target;
+            sourceOffset = targetOffset;
+        }
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, from, length);
+        }
+    }
+}
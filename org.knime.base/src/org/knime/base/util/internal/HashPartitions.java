@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.util.internal;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.DataContainerSettings;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Hash partitions rows are spilled to by hash based operators once memory gets low.
+ * <p>
+ * The operators keep on processing the keys that are already in memory and write the rows of all other keys to one
+ * of {@value #NUM_PARTITIONS} partitions, which are processed recursively afterwards. Each recursion level uses
+ * different hash bits so that the rows of one partition are distributed over all partitions of the next level.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class HashPartitions {
+
+    /** Number of hash partitions rows are spilled to. */
+    public static final int NUM_PARTITIONS = 32;
+
+    /** Maximum recursion depth after which a partition is processed in memory regardless of the memory state. */
+    public static final int MAX_SPILL_LEVEL = 4;
+
+    private static final DataContainerSettings CONTAINER_SETTINGS =
+        DataContainerSettings.builder().withCheckDuplicateRowKeys(false).build();
+
+    private final BufferedDataContainer[] m_partitions;
+
+    private final int m_level;
+
+    private long m_size;
+
+    /**
+     * Creates {@value #NUM_PARTITIONS} empty partitions.
+     *
+     * @param exec the execution context to create the partition tables with
+     * @param spec the spec of the spilled rows
+     * @param level the recursion level of the operator that spills the rows
+     */
+    public HashPartitions(final ExecutionContext exec, final DataTableSpec spec, final int level) {
+        m_partitions = new BufferedDataContainer[NUM_PARTITIONS];
+        for (var i = 0; i < NUM_PARTITIONS; i++) {
+            m_partitions[i] = createContainer(exec, spec);
+        }
+        m_level = level;
+    }
+
+    /**
+     * Adds the row to the partition of the given hash.
+     *
+     * @param hash the hash code of the key of the row
+     * @param row the row to spill
+     */
+    public void add(final int hash, final DataRow row) {
+        m_partitions[partitionIndex(hash, m_level, NUM_PARTITIONS)].addRowToTable(row);
+        m_size++;
+    }
+
+    /**
+     * @return the number of rows spilled so far
+     */
+    public long size() {
+        return m_size;
+    }
+
+    /**
+     * Closes the partitions.
+     *
+     * @return the partition tables, which are processed on the next recursion level
+     */
+    public BufferedDataTable[] close() {
+        final var tables = new BufferedDataTable[NUM_PARTITIONS];
+        for (var i = 0; i < NUM_PARTITIONS; i++) {
+            m_partitions[i].close();
+            tables[i] = m_partitions[i].getTable();
+        }
+        return tables;
+    }
+
+    /**
+     * Creates a container for intermediate rows, whose RowIDs are not checked for duplicates.
+     *
+     * @param exec the execution context
+     * @param spec the spec of the rows
+     * @return a new container
+     */
+    public static BufferedDataContainer createContainer(final ExecutionContext exec, final DataTableSpec spec) {
+        return exec.createDataContainer(spec, CONTAINER_SETTINGS);
+    }
+
+    /**
+     * Computes the partition of the given hash for the given recursion level.
+     *
+     * @param hash the hash code of the key
+     * @param level the recursion level
+     * @param numPartitions the number of partitions
+     * @return the partition index in the range [0, numPartitions)
+     */
+    public static int partitionIndex(final int hash, final int level, final int numPartitions) {
+        // murmur3 finalizer with a level dependent seed
+        var h = hash ^ (0x9E3779B9 * (level + 1));
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return Math.floorMod(h, numPartitions);
+    }
+}
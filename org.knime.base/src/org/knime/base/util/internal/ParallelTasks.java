@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.base.util.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Runs tasks on the thread pool of the current node, or on the global thread pool if there is none.
+ * <p>
+ * The calling thread collects the results of the tasks in the order of the tasks. While it is waiting it does not
+ * occupy a slot of the pool, so that the tasks can make use of all threads. Exceptions of the tasks are rethrown by
+ * the calling thread and the remaining tasks are canceled.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.12
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ParallelTasks {
+
+    /**
+     * Consumes the results of the tasks in the calling thread.
+     *
+     * @param <T> the type of the results
+     */
+    @FunctionalInterface
+    public interface ResultConsumer<T> {
+
+        /**
+         * Consumes the result of the next task.
+         *
+         * @param result the result of the task
+         * @throws Exception if the result cannot be consumed, which cancels the remaining tasks
+         */
+        void accept(T result) throws Exception; // NOSONAR
+    }
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Runs all tasks concurrently and returns their results.
+     *
+     * @param <T> the type of the results
+     * @param tasks the tasks
+     * @return the results in the order of the tasks
+     * @throws CanceledExecutionException if a task was canceled or the execution was interrupted
+     */
+    public static <T> List<T> run(final List<? extends Callable<T>> tasks) throws CanceledExecutionException {
+        final List<T> results = new ArrayList<>(tasks.size());
+        run(tasks, results::add);
+        return results;
+    }
+
+    /**
+     * Runs all tasks concurrently and passes their results to the consumer in the order of the tasks.
+     *
+     * @param <T> the type of the results
+     * @param tasks the tasks
+     * @param consumer the consumer of the results, which is called by the calling thread
+     * @throws CanceledExecutionException if a task was canceled or the execution was interrupted
+     */
+    public static <T> void run(final List<? extends Callable<T>> tasks, final ResultConsumer<T> consumer)
+        throws CanceledExecutionException {
+        run(tasks.iterator(), Math.max(1, tasks.size()), consumer);
+    }
+
+    /**
+     * Runs the tasks concurrently, where at most the given number of tasks is submitted but not yet consumed at a
+     * time, and passes their results to the consumer in the order of the tasks. This bounds the memory of results
+     * that are waiting to be consumed.
+     *
+     * @param <T> the type of the results
+     * @param tasks the tasks, which are created lazily by the calling thread
+     * @param maxPending the maximum number of submitted tasks whose results have not been consumed yet
+     * @param consumer the consumer of the results, which is called by the calling thread
+     * @throws CanceledExecutionException if a task was canceled or the execution was interrupted
+     */
+    public static <T> void run(final Iterator<? extends Callable<T>> tasks, final int maxPending,
+        final ResultConsumer<T> consumer) throws CanceledExecutionException {
+        final ThreadPool pool =
+            ThreadPool.currentPool() != null ? ThreadPool.currentPool() : KNIMEConstants.GLOBAL_THREAD_POOL;
+        final Deque<Future<T>> pending = new ArrayDeque<>();
+        final Callable<Void> collector = () -> {
+            while (tasks.hasNext() || !pending.isEmpty()) {
+                while (pending.size() < maxPending && tasks.hasNext()) {
+                    pending.add(pool.enqueue(tasks.next()));
+                }
+                consumer.accept(pending.poll().get());
+            }
+            return null;
+        };
+        try {
+            try {
+                pool.runInvisible(collector);
+            } catch (IllegalThreadStateException ex) { // NOSONAR
+                // the current thread is not part of a thread pool
+                collector.call();
+            }
+        } catch (Exception ex) { // NOSONAR
+            pending.forEach(f -> f.cancel(true));
+            throw unwrap(ex);
+        }
+    }
+
+    /**
+     * Returns the exception to rethrow for the given failure of a task or of the consumer.
+     */
+    private static RuntimeException unwrap(final Exception ex) throws CanceledExecutionException {
+        Throwable cause = ex;
+        while (cause instanceof ExecutionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CanceledExecutionException cee) {
+            throw cee;
+        }
+        if (cause instanceof InterruptedException) {
+            throw new CanceledExecutionException("Execution interrupted");
+        }
+        if (cause instanceof Error err) {
+            throw err;
+        }
+        if (cause instanceof RuntimeException re) {
+            return re;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+}
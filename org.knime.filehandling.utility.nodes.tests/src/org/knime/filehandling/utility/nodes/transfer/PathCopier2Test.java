@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.filehandling.utility.nodes.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.filehandling.core.connections.DefaultFSConnectionFactory;
+import org.knime.filehandling.core.connections.FSCategory;
+import org.knime.filehandling.core.connections.FSConnection;
+import org.knime.filehandling.core.connections.FSLocation;
+import org.knime.filehandling.core.connections.FSPath;
+import org.knime.filehandling.utility.nodes.transfer.PathCopier2.PendingTransfer;
+import org.knime.filehandling.utility.nodes.transfer.iterators.TransferEntry;
+import org.knime.filehandling.utility.nodes.transfer.iterators.TransferPair;
+import org.knime.filehandling.utility.nodes.transfer.policy.TransferPolicy;
+import org.knime.testing.core.ExecutionContextExtension;
+
+/**
+ * Tests that the {@link PathCopier2} transfers folders with parallel transfers exactly like sequentially.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@ExtendWith({ExecutionContextExtension.class})
+class PathCopier2Test {
+
+    private static final int NUM_FOLDERS = 4;
+
+    private static final int NUM_FILES = 6;
+
+    private static final int PARALLEL_TRANSFERS = 4;
+
+    @TempDir
+    private Path m_tempFolder;
+
+    private Path m_source;
+
+    private FSConnection m_connection;
+
+    @BeforeEach
+    void createSourceFolder() throws IOException {
+        m_source = m_tempFolder.resolve("source");
+        for (var d = 0; d < NUM_FOLDERS; d++) {
+            for (var f = 0; f < NUM_FILES; f++) {
+                final var file = m_source.resolve("folder" + d).resolve("sub" + (f % 2)).resolve("file" + f + ".txt");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, "x".repeat(1000 * (d + 1) + f));
+            }
+        }
+        m_connection = DefaultFSConnectionFactory.createLocalFSConnection();
+    }
+
+    @AfterEach
+    void closeConnection() throws Exception {
+        m_connection.close();
+    }
+
+    private FSPath toFSPath(final Path path) {
+        return m_connection.getFileSystem().getPath(new FSLocation(FSCategory.LOCAL, path.toString()));
+    }
+
+    /** Creates the entry of the source folder, whose content is listed with folders before their content. */
+    private TransferEntry createEntry(final Path destination) throws IOException {
+        return createEntry(m_source, destination);
+    }
+
+    /** Creates the entry of the file or folder, whose content is listed with folders before their content. */
+    private TransferEntry createEntry(final Path source, final Path destination) throws IOException {
+        final List<TransferPair> pairs = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (final Path path : paths.filter(p -> !p.equals(source)).sorted().toList()) {
+                pairs.add(new TransferPair(toFSPath(path), toFSPath(destination.resolve(source.relativize(path)))));
+            }
+        }
+        final var srcDestPair = new TransferPair(toFSPath(source), toFSPath(destination));
+        return new TransferEntry() {
+            @Override
+            public FSPath getSource() {
+                return srcDestPair.getSource();
+            }
+
+            @Override
+            public TransferPair getSrcDestPair() {
+                return srcDestPair;
+            }
+
+            @Override
+            public List<TransferPair> getPathsToCopy() {
+                return pairs;
+            }
+
+            @Override
+            public void validate() {
+                // nothing to validate
+            }
+        };
+    }
+
+    private DataCell[][] transfer(final ExecutionContext ctx, final Path destination, final int parallelTransfers,
+        final boolean statistics) throws IOException, CanceledExecutionException, InvalidSettingsException {
+        try (final var copier = new PathCopier2(TransferPolicy.FAIL, true, false, false, true, parallelTransfers,
+            statistics)) {
+            return copier.transfer(ctx, createEntry(destination));
+        }
+    }
+
+    /** Transfers the entries like the node model and returns the rows of all entries. */
+    private static List<DataCell[]> transfer(final ExecutionContext ctx, final List<TransferEntry> entries,
+        final int parallelTransfers, final boolean delete) throws Exception {
+        final List<DataCell[]> rows = new ArrayList<>();
+        try (final var copier = new PathCopier2(TransferPolicy.OVERWRITE, true, delete, false, true,
+            parallelTransfers, false)) {
+            final Deque<PendingTransfer> pendingTransfers = new ArrayDeque<>();
+            for (final TransferEntry entry : entries) {
+                while (!pendingTransfers.isEmpty() && !copier.canStartConcurrently(entry, pendingTransfers)) {
+                    rows.addAll(Arrays.asList(copier.finish(pendingTransfers.poll())));
+                }
+                pendingTransfers.add(copier.start(ctx, entry));
+            }
+            while (!pendingTransfers.isEmpty()) {
+                rows.addAll(Arrays.asList(copier.finish(pendingTransfers.poll())));
+            }
+        }
+        return rows;
+    }
+
+    /** Creates one entry per file of the source folder. */
+    private List<TransferEntry> createFileEntries(final Path destination) throws IOException {
+        final List<TransferEntry> entries = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(m_source)) {
+            for (final Path path : paths.filter(Files::isRegularFile).sorted().toList()) {
+                entries.add(createEntry(path, destination.resolve(m_source.relativize(path))));
+            }
+        }
+        return entries;
+    }
+
+    /** The is-directory and status cells of the rows. */
+    private static String[][] getStatus(final DataCell[][] rows) {
+        final var status = new String[rows.length][];
+        for (var i = 0; i < rows.length; i++) {
+            status[i] = new String[]{Boolean.toString(((BooleanValue)rows[i][2]).getBooleanValue()),
+                ((StringValue)rows[i][3]).getStringValue()};
+        }
+        return status;
+    }
+
+    /**
+     * Tests that parallel transfers create the same rows and files as a sequential transfer.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testParallelTransferEqualsSequentialTransfer(final ExecutionContext ctx) throws Exception {
+        final var sequentialDest = m_tempFolder.resolve("sequential");
+        final var parallelDest = m_tempFolder.resolve("parallel");
+        final var sequential = transfer(ctx, sequentialDest, 1, false);
+        final var parallel = transfer(ctx, parallelDest, PARALLEL_TRANSFERS, false);
+        assertEquals(1 + NUM_FOLDERS * (1 + 2 + NUM_FILES), sequential.length, "Wrong number of rows");
+        assertEquals(sequential.length, parallel.length, "Parallel transfer created a different number of rows");
+        assertArrayEquals(getStatus(sequential), getStatus(parallel), "Parallel transfer created different rows");
+        for (var i = 0; i < sequential.length; i++) {
+            assertEquals(sequential[i][0], parallel[i][0], "Rows are not in the order of the sources");
+        }
+        try (Stream<Path> paths = Files.walk(m_source)) {
+            for (final Path path : paths.filter(Files::isRegularFile).toList()) {
+                final var relative = m_source.relativize(path);
+                assertEquals(Files.readString(path), Files.readString(parallelDest.resolve(relative)),
+                    "Wrong content of " + relative);
+            }
+        }
+    }
+
+    /**
+     * Tests that the statistics columns contain the size of each transferred file.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testTransferStatistics(final ExecutionContext ctx) throws Exception {
+        final var rows = transfer(ctx, m_tempFolder.resolve("statistics"), PARALLEL_TRANSFERS, true);
+        final var entry = createEntry(m_tempFolder.resolve("statistics"));
+        final var pairs = entry.getPathsToCopy();
+        for (var i = 0; i < pairs.size(); i++) {
+            final var row = rows[i + 1];
+            assertEquals(4 + 3, row.length, "Wrong number of cells");
+            final var source = pairs.get(i).getSource();
+            if (!Files.isDirectory(source)) {
+                assertEquals(Files.size(source), ((LongValue)row[4]).getLongValue(), "Wrong number of bytes");
+            }
+        }
+    }
+
+    /**
+     * Tests that a parallel transfer fails with the first failing file in list order.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testParallelTransferFailsOnFirstExistingFile(final ExecutionContext ctx) throws Exception {
+        final var destination = m_tempFolder.resolve("existing");
+        final var first = destination.resolve("folder1").resolve("sub0").resolve("file2.txt");
+        final var second = destination.resolve("folder3").resolve("sub1").resolve("file1.txt");
+        for (final Path existing : new Path[]{first, second}) {
+            Files.createDirectories(existing.getParent());
+            Files.writeString(existing, "existing");
+        }
+        final var ex = assertThrows(IOException.class,
+            () -> transfer(ctx, destination, PARALLEL_TRANSFERS, false), "The transfer should fail");
+        assertTrue(ex.getMessage().contains(first.getFileName().toString())
+            && ex.getMessage().contains("folder1"), "Wrong failing file: " + ex.getMessage());
+        assertEquals("existing", Files.readString(second), "Existing files must not be overwritten");
+    }
+
+    /**
+     * Tests that the files of several entries are transferred concurrently with the same rows and files as
+     * sequentially.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testParallelTransferOfSeveralEntries(final ExecutionContext ctx) throws Exception {
+        final var sequentialDest = m_tempFolder.resolve("sequential");
+        final var parallelDest = m_tempFolder.resolve("parallel");
+        final var sequential = transfer(ctx, createFileEntries(sequentialDest), 1, false);
+        final var parallel = transfer(ctx, createFileEntries(parallelDest), PARALLEL_TRANSFERS, false);
+        assertEquals(NUM_FOLDERS * NUM_FILES, sequential.size(), "Wrong number of rows");
+        assertEquals(sequential.size(), parallel.size(), "Parallel transfer created a different number of rows");
+        for (var i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i)[0], parallel.get(i)[0], "Rows are not in the order of the entries");
+            assertEquals(sequential.get(i)[3], parallel.get(i)[3], "Parallel transfer created a different status");
+        }
+        try (Stream<Path> paths = Files.walk(m_source)) {
+            for (final Path path : paths.filter(Files::isRegularFile).toList()) {
+                final var relative = m_source.relativize(path);
+                assertEquals(Files.readString(path), Files.readString(parallelDest.resolve(relative)),
+                    "Wrong content of " + relative);
+            }
+        }
+    }
+
+    /**
+     * Tests that entries whose paths overlap are transferred in their order, i.e., the last entry writing a file wins
+     * and a file is only copied once it has been written.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testParallelTransferOfOverlappingEntries(final ExecutionContext ctx) throws Exception {
+        final var destination = m_tempFolder.resolve("overlapping").resolve("file.txt");
+        final var copy = m_tempFolder.resolve("overlapping").resolve("copy.txt");
+        Files.createDirectories(destination.getParent());
+        Files.writeString(destination, "existing");
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(m_source)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        final List<TransferEntry> entries = new ArrayList<>();
+        for (final Path file : files) {
+            entries.add(createEntry(file, destination));
+        }
+        entries.add(createEntry(destination, copy));
+        final var rows = transfer(ctx, entries, PARALLEL_TRANSFERS, false);
+        assertEquals(files.size() + 1, rows.size(), "Wrong number of rows");
+        final var expected = Files.readString(files.get(files.size() - 1));
+        assertEquals(expected, Files.readString(destination), "The last entry writing the file must win");
+        assertEquals(expected, Files.readString(copy), "The file must be copied after it has been written");
+    }
+
+    /**
+     * Tests that entries are moved concurrently, i.e., their sources are deleted once they have been copied.
+     *
+     * @param ctx the execution context
+     * @throws Exception
+     */
+    @Test
+    void testParallelMoveOfSeveralEntries(final ExecutionContext ctx) throws Exception {
+        final var destination = m_tempFolder.resolve("moved");
+        final var rows = transfer(ctx, createFileEntries(destination), PARALLEL_TRANSFERS, true);
+        assertEquals(NUM_FOLDERS * NUM_FILES, rows.size(), "Wrong number of rows");
+        for (final DataCell[] row : rows) {
+            assertTrue(((BooleanValue)row[4]).getBooleanValue(), "The source has not been deleted");
+        }
+        try (Stream<Path> paths = Files.walk(m_source)) {
+            assertEquals(0, paths.filter(Files::isRegularFile).count(), "All sources must have been deleted");
+        }
+        try (Stream<Path> paths = Files.walk(destination)) {
+            assertEquals(NUM_FOLDERS * NUM_FILES, paths.filter(Files::isRegularFile).count(), "Files are missing");
+        }
+    }
+}
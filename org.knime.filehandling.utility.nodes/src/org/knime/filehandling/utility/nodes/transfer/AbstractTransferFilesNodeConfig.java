@@ -52,6 +52,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.filehandling.core.defaultnodesettings.filechooser.writer.SettingsModelWriterFileChooser;
 import org.knime.filehandling.utility.nodes.transfer.policy.TransferPolicy;
@@ -80,6 +81,12 @@ public abstract class AbstractTransferFilesNodeConfig {
     /** Config key for the transfer policy. */
     protected static final String CFG_TRANSFER_POLICY = "transfer_policy";
 
+    /** Config key for the number of parallel transfers. */
+    private static final String CFG_PARALLEL_TRANSFERS = "parallel_transfers";
+
+    /** Config key for the transfer statistics flag. */
+    private static final String CFG_TRANSFER_STATISTICS = "transfer_statistics";
+
     /** The file chooser model. */
     private final SettingsModelWriterFileChooser m_destinationFileChooserModel;
 
@@ -100,6 +107,14 @@ public abstract class AbstractTransferFilesNodeConfig {
     /** The verbose output settings model. */
     private final SettingsModelBoolean m_verboseOutputModel;
 
+    /** The number of parallel transfers settings model. */
+    private final SettingsModelIntegerBounded m_parallelTransfersModel =
+        new SettingsModelIntegerBounded(CFG_PARALLEL_TRANSFERS, 1, 1, Integer.MAX_VALUE);
+
+    /** The transfer statistics settings model. */
+    private final SettingsModelBoolean m_transferStatisticsModel =
+        new SettingsModelBoolean(CFG_TRANSFER_STATISTICS, false);
+
     /**
      * Constructor.
      *
@@ -171,6 +186,25 @@ final SettingsModelBoolean getFailOnDeletionModel() {
         return m_failOnDeletionModel;
     }
 
+    /**
+     * Returns the {@link SettingsModelIntegerBounded} storing the maximum number of files that are transferred in
+     * parallel.
+     *
+     * @return the parallel transfers model
+     */
+    final SettingsModelIntegerBounded getParallelTransfersModel() {
+        return m_parallelTransfersModel;
+    }
+
+    /**
+     * Returns the {@link SettingsModelBoolean} for the transfer statistics option.
+     *
+     * @return the transfer statistics model
+     */
+    final SettingsModelBoolean getTransferStatisticsModel() {
+        return m_transferStatisticsModel;
+    }
+
     /**
      * Returns the flag indicating whether or not to fail if the source file/folder does not exist.
      *
@@ -218,6 +252,13 @@ final void validateSettingsForModel(final NodeSettingsRO settings) throws Invali
         m_truncationSettings.validateSettingsForModel(settings);
         m_verboseOutputModel.validateSettings(settings);
         m_transferPolicyModel.validateSettings(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_PARALLEL_TRANSFERS)) {
+            m_parallelTransfersModel.validateSettings(settings);
+        }
+        if (settings.containsKey(CFG_TRANSFER_STATISTICS)) {
+            m_transferStatisticsModel.validateSettings(settings);
+        }
         validateAdditionalSettingsForModel(settings);
     }
 
@@ -242,6 +283,8 @@ final void saveSettingsForModel(final NodeSettingsWO settings) {
         m_failOnDeletionModel.saveSettingsTo(settings);
         m_verboseOutputModel.saveSettingsTo(settings);
         m_transferPolicyModel.saveSettingsTo(settings);
+        m_parallelTransfersModel.saveSettingsTo(settings);
+        m_transferStatisticsModel.saveSettingsTo(settings);
     }
 
     /**
@@ -266,6 +309,17 @@ final void loadSettingsInModel(final NodeSettingsRO settings) throws InvalidSett
         m_verboseOutputModel.loadSettingsFrom(settings);
         m_truncationSettings.loadSettingsForModel(settings);
         m_transferPolicyModel.loadSettingsFrom(settings);
+        // Added in 5.12
+        if (settings.containsKey(CFG_PARALLEL_TRANSFERS)) {
+            m_parallelTransfersModel.loadSettingsFrom(settings);
+        } else {
+            m_parallelTransfersModel.setIntValue(1);
+        }
+        if (settings.containsKey(CFG_TRANSFER_STATISTICS)) {
+            m_transferStatisticsModel.loadSettingsFrom(settings);
+        } else {
+            m_transferStatisticsModel.setBooleanValue(false);
+        }
     }
 
     /**
@@ -50,9 +50,11 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
@@ -65,6 +67,8 @@
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.CanceledExecutionException;
@@ -86,6 +90,7 @@
 import org.knime.filehandling.core.data.location.cell.SimpleFSLocationCellFactory;
 import org.knime.filehandling.core.defaultnodesettings.status.NodeModelStatusConsumer;
 import org.knime.filehandling.core.defaultnodesettings.status.StatusMessage.MessageType;
+import org.knime.filehandling.utility.nodes.transfer.PathCopier2.PendingTransfer;
 import org.knime.filehandling.utility.nodes.transfer.iterators.TransferEntry;
 import org.knime.filehandling.utility.nodes.transfer.iterators.TransferIterator;
 
@@ -173,6 +178,11 @@ protected final DataTableSpec createOutputSpec(final PortObjectSpec[] inSpecs) {
             }
             columnSpecs.add(new DataColumnSpecCreator(specName, BooleanCell.TYPE).createSpec());
         }
+        if (m_config.getTransferStatisticsModel().getBooleanValue()) {
+            columnSpecs.add(new DataColumnSpecCreator("Bytes transferred", LongCell.TYPE).createSpec());
+            columnSpecs.add(new DataColumnSpecCreator("Transfer time (ms)", DoubleCell.TYPE).createSpec());
+            columnSpecs.add(new DataColumnSpecCreator("Throughput (MB/s)", DoubleCell.TYPE).createSpec());
+        }
         return new DataTableSpec(columnSpecs.toArray(new DataColumnSpec[0]));
     }
 
@@ -228,17 +238,28 @@ protected final PortObject[] execute(final PortObject[] inObjects, final Executi
             .map(PortObject::getSpec)//
             .toArray(PortObjectSpec[]::new));
         final BufferedDataContainer container = exec.createDataContainer(outputSpec);
-        final PathCopier2 pathCopier = new PathCopier2(m_config.getTransferPolicy(),
+        try (final PathCopier2 pathCopier = new PathCopier2(m_config.getTransferPolicy(),
             m_config.getVerboseOutputModel().getBooleanValue(), m_config.getDeleteSourceFilesModel().getBooleanValue(),
-            m_config.getFailOnDeletionModel().getBooleanValue(), m_config.failIfSourceDoesNotExist());
-        try (final TransferIterator iter = getTransferIterator(inObjects)) {
+            m_config.getFailOnDeletionModel().getBooleanValue(), m_config.failIfSourceDoesNotExist(),
+            m_config.getParallelTransfersModel().getIntValue(),
+            m_config.getTransferStatisticsModel().getBooleanValue());
+                final TransferIterator iter = getTransferIterator(inObjects)) {
             final long numOfFiles = iter.size();
             long rowIdx = 0;
             final double maxProg = 1d / numOfFiles;
+            final Deque<PendingTransfer> pendingTransfers = new ArrayDeque<>();
             while (iter.hasNext()) {
                 exec.checkCanceled();
                 final ExecutionContext subExec = exec.createSubExecutionContext(maxProg);
-                rowIdx = transfer(subExec, container, rowIdx, pathCopier, iter.next());
+                final TransferEntry entry = iter.next();
+                // the preceding entries are finished in order until the entry can be copied at the same time
+                while (!pendingTransfers.isEmpty() && !pathCopier.canStartConcurrently(entry, pendingTransfers)) {
+                    rowIdx = finish(container, rowIdx, pathCopier, pendingTransfers.poll());
+                }
+                pendingTransfers.add(pathCopier.start(subExec, entry));
+            }
+            while (!pendingTransfers.isEmpty()) {
+                rowIdx = finish(container, rowIdx, pathCopier, pendingTransfers.poll());
             }
             container.close();
             return new PortObject[]{container.getTable()};
@@ -259,12 +280,11 @@ protected final PortObject[] execute(final PortObject[] inObjects, final Executi
     protected abstract TransferIterator getTransferIterator(final PortObject[] inObjects)
         throws IOException, InvalidSettingsException;
 
-    private long transfer(final ExecutionContext exec, final DataContainer container, long rowIdx,
-        final PathCopier2 pathCopier, final TransferEntry entry)
+    private long finish(final DataContainer container, long rowIdx, final PathCopier2 pathCopier,
+        final PendingTransfer transfer)
         throws IOException, CanceledExecutionException, InvalidSettingsException, KNIMERuntimeException {
         try {
-            entry.validate();
-            final DataCell[][] rows = pathCopier.transfer(exec, entry);
+            final DataCell[][] rows = pathCopier.finish(transfer);
             for (final DataCell[] row : rows) {
                 container.addRowToTable(new DefaultRow(RowKey.createRowKey(rowIdx), row));
                 rowIdx++;
@@ -53,18 +53,32 @@
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
+import org.knime.core.data.def.DoubleCell.DoubleCellFactory;
+import org.knime.core.data.def.LongCell.LongCellFactory;
 import org.knime.core.data.def.StringCell.StringCellFactory;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 import org.knime.filehandling.core.connections.FSFiles;
 import org.knime.filehandling.core.connections.FSPath;
 import org.knime.filehandling.core.data.location.cell.MultiSimpleFSLocationCellFactory;
@@ -78,10 +92,16 @@
  * Copies files and folders from a source path to a destination path and creates the respective rows for an output
  * table.
  *
+ * If more than one parallel transfer is configured, the files are copied by a sub pool of the KNIME thread pool with
+ * that many threads. The files of an entry can be copied while the files of the preceding entries are still being
+ * copied, see {@link #start(ExecutionContext, TransferEntry)}. Folders are still created in list order by the calling
+ * thread and the rows are created in the same order as for a sequential copy, i.e., the output does not depend on the
+ * number of workers.
+ *
  * @author Lars Schweikardt, KNIME GmbH, Konstanz, Germany
  * @author Mark Ortmann, KNIME GmbH, Berlin, Germany
  */
-final class PathCopier2 {
+final class PathCopier2 implements AutoCloseable {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(PathCopier2.class);
 
@@ -90,6 +110,8 @@ final class PathCopier2 {
 
     private static final int NUMBER_OF_DEFAULT_COLS = 4;
 
+    private static final int NUMBER_OF_STATISTICS_COLS = 3;
+
     private static final int SOURCE_COL_IDX = 0;
 
     private static final int DESTINATION_COL_IDX = 1;
@@ -100,6 +122,12 @@ final class PathCopier2 {
 
     private static final int DELETE_COL_IDX = 4;
 
+    private static final double BYTES_PER_MB = 1_000_000d;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private static final long CANCEL_CHECK_INTERVAL_MS = 500;
+
     private final MultiSimpleFSLocationCellFactory m_sourceFSLocationCellFactory;
 
     private final MultiSimpleFSLocationCellFactory m_destinationFSLocationCellFactory;
@@ -116,8 +144,22 @@ final class PathCopier2 {
 
     private final int m_failIfSrcDoesNotExistIdx;
 
+    private final boolean m_transferStatistics;
+
+    /** The pool of the calling thread, which is left while waiting for the worker threads. */
+    private final ThreadPool m_pool;
+
+    /** The worker threads copying the files, {@code null} if files are copied by the calling thread. */
+    private final ThreadPool m_workers;
+
+    private final int m_maxPendingTransfers;
+
+    /** The transfers that have been started but not finished yet. */
+    private final Set<PendingTransfer> m_pendingTransfers = new LinkedHashSet<>();
+
     PathCopier2(final TransferPolicy transferPolicy, final boolean verbose, final boolean delete,
-        final boolean failOnDeletion, final boolean failIfSrcDoesNotExist) {
+        final boolean failOnDeletion, final boolean failIfSrcDoesNotExist, final int parallelTransfers,
+        final boolean transferStatistics) {
         m_sourceFSLocationCellFactory = new MultiSimpleFSLocationCellFactory();
         m_destinationFSLocationCellFactory = new MultiSimpleFSLocationCellFactory();
         m_transferPolicy = transferPolicy;
@@ -126,22 +168,118 @@ final class PathCopier2 {
         m_failOnUnsuccessfulDeletion = failOnDeletion;
         m_failIfSrcDoesNotExist = failIfSrcDoesNotExist;
         m_failIfSrcDoesNotExistIdx = addDeleteColumn() ? (DELETE_COL_IDX + 1) : DELETE_COL_IDX;
+        m_transferStatistics = transferStatistics;
+        m_pool = ThreadPool.currentPool() != null ? ThreadPool.currentPool() : KNIMEConstants.GLOBAL_THREAD_POOL;
+        m_workers = parallelTransfers > 1 ? m_pool.createSubPool(parallelTransfers) : null;
+        m_maxPendingTransfers = 2 * Math.max(1, parallelTransfers);
+    }
+
+    /**
+     * Cancels the copies of the transfers that have not been finished. Copies that are still running are completed,
+     * but no further copies are started.
+     */
+    @Override
+    public void close() {
+        m_pendingTransfers.forEach(PendingTransfer::cancel);
+        m_pendingTransfers.clear();
     }
 
     private boolean addDeleteColumn() {
         return m_delete && !m_failOnUnsuccessfulDeletion;
     }
 
+    /**
+     * Transfers the entry and returns its rows.
+     *
+     * @param exec the execution context
+     * @param entry the entry to transfer
+     * @return the rows of the entry
+     * @throws IOException - If the entry cannot be transferred
+     * @throws CanceledExecutionException - If the execution has been canceled
+     * @throws InvalidSettingsException - If the validation of the entry fails
+     */
     DataCell[][] transfer(final ExecutionContext exec, final TransferEntry entry)
-        throws IOException, CanceledExecutionException {
-        final boolean exists = FSFiles.exists(entry.getSource());
-        final DataCell[][] rows;
-        if (exists) {
-            rows = copyDelete(exec, entry);
-        } else {
-            rows = handleMissingSrc(exec, entry);
+        throws IOException, CanceledExecutionException, InvalidSettingsException {
+        return finish(start(exec, entry));
+    }
+
+    /**
+     * Validates the entry, creates its folders and hands its files to the worker threads. Failures are not thrown
+     * before the transfer is {@link #finish(PendingTransfer) finished}, so that the entries can be finished in their
+     * order and fail like a sequential transfer.
+     *
+     * @param exec the execution context of the entry
+     * @param entry the entry to transfer
+     * @return the transfer, which must be finished
+     * @throws CanceledExecutionException - If the execution has been canceled
+     */
+    PendingTransfer start(final ExecutionContext exec, final TransferEntry entry) throws CanceledExecutionException {
+        final var transfer = new PendingTransfer(exec);
+        m_pendingTransfers.add(transfer);
+        try {
+            entry.validate();
+            if (FSFiles.exists(entry.getSource())) {
+                startCopy(transfer, entry);
+            } else {
+                transfer.m_rows = handleMissingSrc(exec, entry);
+            }
+        } catch (final IOException | InvalidSettingsException e) {
+            transfer.cancel();
+            transfer.m_failure = e;
         }
-        return rows;
+        return transfer;
+    }
+
+    /**
+     * Waits until all files of the transfer are copied, deletes the sources if necessary and returns the rows of the
+     * entry.
+     *
+     * @param transfer the transfer started by {@link #start(ExecutionContext, TransferEntry)}
+     * @return the rows of the entry
+     * @throws IOException - If the entry cannot be transferred
+     * @throws CanceledExecutionException - If the execution has been canceled
+     * @throws InvalidSettingsException - If the validation of the entry failed
+     */
+    DataCell[][] finish(final PendingTransfer transfer)
+        throws IOException, CanceledExecutionException, InvalidSettingsException {
+        try {
+            if (transfer.m_failure == null && transfer.m_rows == null) {
+                awaitCopies(transfer);
+                transfer.m_rows = createRows(transfer);
+            }
+        } finally {
+            // running copies are not interrupted to avoid leaving partially written files behind
+            transfer.cancel();
+            m_pendingTransfers.remove(transfer);
+        }
+        if (transfer.m_failure instanceof InvalidSettingsException ise) {
+            throw ise;
+        } else if (transfer.m_failure instanceof IOException ioe) {
+            throw ioe;
+        }
+        return transfer.m_rows;
+    }
+
+    /**
+     * Checks whether the entry can be started before the given transfers are finished. This is the case if the
+     * maximum number of pending transfers is not reached and the entry neither reads nor writes any path written by the
+     * transfers, nor writes any path read by them, so that the result is the same as for a sequential transfer.
+     *
+     * @param entry the entry to start
+     * @param pendingTransfers the transfers that have been started but not finished yet
+     * @return {@code true} if the entry can be started
+     */
+    boolean canStartConcurrently(final TransferEntry entry, final Collection<PendingTransfer> pendingTransfers) {
+        if (pendingTransfers.size() >= m_maxPendingTransfers) {
+            return false;
+        }
+        final TransferPair srcDestPair;
+        try {
+            srcDestPair = entry.getSrcDestPair();
+        } catch (final IOException e) { // NOSONAR the entry fails once it is started
+            return false;
+        }
+        return pendingTransfers.stream().noneMatch(t -> t.interferesWith(srcDestPair, m_delete));
     }
 
     private DataCell[][] handleMissingSrc(final ExecutionContext exec, final TransferEntry entry)
@@ -155,52 +293,146 @@ private DataCell[][] handleMissingSrc(final ExecutionContext exec, final Transfe
         }
     }
 
-    private DataCell[][] copyDelete(final ExecutionContext exec, final TransferEntry entry)
+    /**
+     * Creates the folders in list order and hands the files to the worker threads. Since folders are listed before
+     * their content, each folder exists before any of its files is copied and gets the same status as for a sequential
+     * copy.
+     */
+    private void startCopy(final PendingTransfer transfer, final TransferEntry entry)
         throws IOException, CanceledExecutionException {
-        final DataCell[][] rows;
+        final TransferPair srcDestPair = entry.getSrcDestPair();
         final List<TransferPair> paths = entry.getPathsToCopy();
-        rows = new DataCell[!m_verbose ? 1 : (1 + paths.size())][];
-        final ListIterator<TransferPair> listIterator = paths.listIterator();
-        ExecutionContext subExec = exec.createSubExecutionContext(m_delete ? 0.5 : 1);
-        final int entriesToProcess = paths.size() + 1;
-        // copy
-        copy(subExec, rows, 0, entry.getSrcDestPair(), true, entriesToProcess);
-        copy(subExec, rows, 1, listIterator, entriesToProcess);
+        transfer.m_srcDestPair = srcDestPair;
+        transfer.m_paths = paths;
+        transfer.m_results = new CopyResult[paths.size() + 1];
+        transfer.m_copyExec = transfer.m_exec.createSubExecutionContext(m_delete ? 0.5 : 1);
+        transfer.m_start = System.nanoTime();
+        startCopy(transfer, 0, srcDestPair);
+        int idx = 1;
+        for (final TransferPair p : paths) {
+            startCopy(transfer, idx, p);
+            idx++;
+        }
+    }
+
+    private void startCopy(final PendingTransfer transfer, final int idx, final TransferPair p)
+        throws IOException, CanceledExecutionException {
+        if (m_workers == null || FSFiles.isDirectory(p.getSource())) {
+            final ExecutionContext exec = transfer.m_copyExec;
+            exec.checkCanceled();
+            transfer.m_processed++;
+            exec.setProgress(transfer.m_processed / (double)transfer.m_results.length,
+                () -> String.format("Copying '%s'", p.getSource()));
+            transfer.m_results[idx] = copyPath(p.getSource(), p.getDestination());
+        } else {
+            transfer.m_pendingCopies
+                .add(new PendingCopy(idx, p, m_workers.enqueue(() -> copyPath(p.getSource(), p.getDestination()))));
+        }
+    }
+
+    /**
+     * Waits for the files of the transfer in list order. The calling thread leaves its pool while waiting, so that it
+     * does not block a thread the workers might need. If several copies fail, the exception of the first failing pair
+     * in list order is thrown.
+     */
+    private void awaitCopies(final PendingTransfer transfer) throws IOException, CanceledExecutionException {
+        if (transfer.m_pendingCopies.isEmpty()) {
+            return;
+        }
+        final ExecutionContext exec = transfer.m_copyExec;
+        final Callable<Void> awaitAll = () -> {
+            for (final PendingCopy pendingCopy : transfer.m_pendingCopies) {
+                transfer.m_results[pendingCopy.idx()] = await(exec, pendingCopy.future());
+                transfer.m_processed++;
+                exec.setProgress(transfer.m_processed / (double)transfer.m_results.length,
+                    () -> String.format("Copying '%s'", pendingCopy.pair().getSource()));
+            }
+            return null;
+        };
+        try {
+            try {
+                m_pool.runInvisible(awaitAll);
+            } catch (final IllegalThreadStateException e) { // NOSONAR
+                // the current thread is not part of a thread pool
+                awaitAll.call();
+            }
+        } catch (final ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (final IOException | CanceledExecutionException | RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private DataCell[][] createRows(final PendingTransfer transfer) throws IOException, CanceledExecutionException {
+        final long copyNanos = System.nanoTime() - transfer.m_start;
+        final CopyResult[] results = transfer.m_results;
+        final DataCell[][] rows = new DataCell[!m_verbose ? 1 : results.length][];
+        rows[0] = createRow(transfer.m_srcDestPair, results[0]);
+        final ListIterator<TransferPair> listIterator = transfer.m_paths.listIterator();
+        for (int idx = 1; listIterator.hasNext(); idx++) {
+            final TransferPair p = listIterator.next();
+            if (m_verbose) {
+                rows[idx] = createRow(p, results[idx]);
+            }
+        }
 
         // delete it if necessary
         if (m_delete) {
-            subExec = exec.createSubExecutionContext(0.5);
-            delete(subExec, rows, listIterator, entriesToProcess);
-            delete(subExec, rows, 0, entry.getSrcDestPair().getSource(), true, entriesToProcess);
+            final ExecutionContext subExec = transfer.m_exec.createSubExecutionContext(0.5);
+            delete(subExec, rows, listIterator, results.length);
+            delete(subExec, rows, 0, transfer.m_srcDestPair.getSource(), true, results.length);
         }
 
         // add fail if src does not exists col
         if (!m_failIfSrcDoesNotExist) {
             addFailIfSrcDoesNotExistsCol(rows);
         }
+
+        // add the statistics cols, the single row of a non-detailed output covers the whole entry
+        if (m_transferStatistics) {
+            if (m_verbose) {
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = ArrayUtils.addAll(rows[i], createStatisticsCells(results[i].bytes(), results[i].nanos()));
+                }
+            } else {
+                final long bytes = Arrays.stream(results).mapToLong(CopyResult::bytes).sum();
+                rows[0] = ArrayUtils.addAll(rows[0], createStatisticsCells(bytes, copyNanos));
+            }
+        }
         return rows;
     }
 
-    private void copy(final ExecutionContext exec, final DataCell[][] rows, int idx,
-        final ListIterator<TransferPair> listIterator, final double entriesToProcess)
-        throws CanceledExecutionException, IOException {
-        while (listIterator.hasNext()) {
+    private static CopyResult await(final ExecutionContext exec, final Future<CopyResult> future)
+        throws IOException, CanceledExecutionException {
+        while (true) {
             exec.checkCanceled();
-            idx = copy(exec, rows, idx, listIterator.next(), m_verbose, entriesToProcess);
+            try {
+                return future.get(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException e) { // NOSONAR poll again to react on cancellation
+                // the copy is still running
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Transfer has been interrupted.");
+            } catch (final ExecutionException e) {
+                throw unwrap(e.getCause());
+            }
         }
     }
 
-    private int copy(final ExecutionContext exec, final DataCell[][] rows, final int idx, final TransferPair p,
-        final boolean verbose, final double entriesToProcess) throws IOException, CanceledExecutionException {
-        exec.checkCanceled();
-        exec.setProgress((idx + 1) / entriesToProcess, () -> String.format("Copying '%s'", p.getSource()));
-        final DataCell[] row = copyPath(p.getSource(), p.getDestination());
-        if (verbose) {
-            rows[idx] = row;
+    private static IOException unwrap(final Throwable cause) throws CanceledExecutionException {
+        if (cause instanceof IOException ioe) {
+            return ioe;
+        } else if (cause instanceof CanceledExecutionException cee) {
+            throw cee;
+        } else if (cause instanceof RuntimeException re) {
+            throw re;
+        } else if (cause instanceof Error err) {
+            throw err;
         }
-        return idx + 1;
+        return new IOException(cause);
     }
-
     private void delete(final ExecutionContext exec, final DataCell[][] rows,
         final ListIterator<TransferPair> listIterator, final int entriesToProcess)
         throws CanceledExecutionException, IOException {
@@ -237,33 +469,56 @@ private DataCell delete(final FSPath source) throws IOException {
     }
 
     /**
-     * Copies a file or folder from a source to a specified destination.
+     * Copies a file or folder from a source to a specified destination. This method is invoked concurrently by the
+     * worker threads and must therefore not create any cells.
      *
      * @param src the source {@link FSPath}
      * @param dest the destination {@link FSPath}
-     * @param rowIdx the current row index
+     * @return the {@link CopyResult}
      * @throws IOException - If something went wrong while copying the file or creating the folder
      */
-    private DataCell[] copyPath(final FSPath src, final FSPath dest) throws IOException {
+    private CopyResult copyPath(final FSPath src, final FSPath dest) throws IOException {
         validatePair(src, dest);
 
-        final DataCell[] cells = new DataCell[NUMBER_OF_DEFAULT_COLS];
-        cells[SOURCE_COL_IDX] = m_sourceFSLocationCellFactory.createCell(src.toFSLocation());
-        cells[DESTINATION_COL_IDX] = m_destinationFSLocationCellFactory.createCell(dest.toFSLocation());
+        final long start = System.nanoTime();
         final boolean isDirectory = FSFiles.isDirectory(src);
-        cells[IS_DIR_COL_IDX] = BooleanCellFactory.create(isDirectory);
-
         final FileStatus status;
         if (isDirectory) {
             status = createDirectory(dest);
         } else {
             status = copyFile(src, dest);
         }
-        cells[STATUS_COL_IDX] = StringCellFactory.create(status.getText());
+        final long nanos = System.nanoTime() - start;
 
+        final boolean copied = status == FileStatus.CREATED || status == FileStatus.OVERWRITTEN;
+        final long bytes = m_transferStatistics && !isDirectory && copied ? Files.size(src) : 0;
+        return new CopyResult(isDirectory, status, bytes, nanos);
+    }
+
+    private DataCell[] createRow(final TransferPair p, final CopyResult result) {
+        final DataCell[] cells = new DataCell[NUMBER_OF_DEFAULT_COLS];
+        cells[SOURCE_COL_IDX] = m_sourceFSLocationCellFactory.createCell(p.getSource().toFSLocation());
+        cells[DESTINATION_COL_IDX] = m_destinationFSLocationCellFactory.createCell(p.getDestination().toFSLocation());
+        cells[IS_DIR_COL_IDX] = BooleanCellFactory.create(result.isDirectory());
+        cells[STATUS_COL_IDX] = StringCellFactory.create(result.status().getText());
         return cells;
     }
 
+    /**
+     * Creates the bytes transferred, transfer time (ms), and throughput (MB/s) cells. The throughput is missing if
+     * nothing has been transferred.
+     *
+     * @param bytes the number of transferred bytes
+     * @param nanos the transfer time in nanoseconds
+     * @return the statistics cells
+     */
+    private static DataCell[] createStatisticsCells(final long bytes, final long nanos) {
+        final DataCell throughput = bytes > 0 && nanos > 0 //
+            ? DoubleCellFactory.create((bytes / BYTES_PER_MB) / (nanos / NANOS_PER_SECOND)) //
+            : DataType.getMissingCell();
+        return new DataCell[]{LongCellFactory.create(bytes), DoubleCellFactory.create(nanos / 1_000_000d), throughput};
+    }
+
     /**
      * Make sure that if the destination exist that both source and destination are either files or folders.
      *
@@ -359,7 +614,8 @@ private static void addFailIfSrcDoesNotExistsCol(final DataCell[][] rows) {
      * @return the default row for non-existent source paths
      */
     private DataCell[] createSrcDoesNotExistRow(final FSPath src) {
-        final DataCell[] cells = new DataCell[m_failIfSrcDoesNotExistIdx + 1];
+        final DataCell[] cells =
+            new DataCell[m_failIfSrcDoesNotExistIdx + 1 + (m_transferStatistics ? NUMBER_OF_STATISTICS_COLS : 0)];
         Arrays.fill(cells, DataType.getMissingCell());
         cells[SOURCE_COL_IDX] = m_sourceFSLocationCellFactory.createCell(src.toFSLocation());
         if (addDeleteColumn()) {
@@ -369,4 +625,65 @@ private DataCell[] createSrcDoesNotExistRow(final FSPath src) {
         return cells;
     }
 
-}
\ No newline at end of file
+    /** The outcome of copying a single file or folder. */
+    private record CopyResult(boolean isDirectory, FileStatus status, long bytes, long nanos) {
+    }
+
+    /** A file copy that has been handed to the worker threads. */
+    private record PendingCopy(int idx, TransferPair pair, Future<CopyResult> future) {
+    }
+
+    /** The transfer of an entry whose files may still be copied by the worker threads. */
+    static final class PendingTransfer {
+
+        private final ExecutionContext m_exec;
+
+        private ExecutionContext m_copyExec;
+
+        private TransferPair m_srcDestPair;
+
+        private List<TransferPair> m_paths;
+
+        private CopyResult[] m_results;
+
+        private final List<PendingCopy> m_pendingCopies = new ArrayList<>();
+
+        private int m_processed;
+
+        private long m_start;
+
+        private DataCell[][] m_rows;
+
+        private Exception m_failure;
+
+        private PendingTransfer(final ExecutionContext exec) {
+            m_exec = exec;
+        }
+
+        private void cancel() {
+            m_pendingCopies.forEach(c -> c.future().cancel(false));
+        }
+
+        /**
+         * Checks whether the given source or destination is (within) a path written by this transfer, whether the
+         * destination is (within) a path read by this transfer or, if the sources are deleted, whether the source is.
+         */
+        private boolean interferesWith(final TransferPair srcDestPair, final boolean delete) {
+            if (m_srcDestPair == null || m_rows != null || m_failure != null) {
+                return false;
+            }
+            final FSPath source = m_srcDestPair.getSource();
+            final FSPath destination = m_srcDestPair.getDestination();
+            return isRelated(srcDestPair.getDestination(), destination)
+                || isRelated(srcDestPair.getDestination(), source) || isRelated(srcDestPair.getSource(), destination)
+                || (delete && isRelated(srcDestPair.getSource(), source));
+        }
+
+        private static boolean isRelated(final FSPath path, final FSPath other) {
+            final Path p = path.toAbsolutePath().normalize();
+            final Path o = other.toAbsolutePath().normalize();
+            return p.startsWith(o) || o.startsWith(p);
+        }
+    }
+
+}
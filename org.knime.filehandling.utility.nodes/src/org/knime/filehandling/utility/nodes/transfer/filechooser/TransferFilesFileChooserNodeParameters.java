@@ -81,6 +81,8 @@
 import org.knime.node.parameters.widget.message.TextMessage;
 import org.knime.node.parameters.widget.message.TextMessage.MessageType;
 import org.knime.node.parameters.widget.message.TextMessage.SimpleTextMessageProvider;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 
 /**
  * Node parameters for Transfer Files.
@@ -117,6 +119,12 @@ private interface Destination {
     private interface Output {
     }
 
+    @Section(title = "Performance")
+    @After(Output.class)
+    @Advanced()
+    private interface Performance {
+    }
+
     private static final class SourceFilterModeIsFolder implements EffectPredicateProvider {
         @Override
         public EffectPredicate init(final PredicateInitializer i) {
@@ -295,6 +303,26 @@ private enum OverwritePolicy {
     @Persist(configKey = "detailed_output")
     boolean m_detailedOutput;
 
+    @Widget(title = "Parallel transfers", description = """
+            The maximum number of files that are copied at the same time, also across the selected files and
+            folders. Folders are always created one after the other and the order of the output rows does not
+            depend on this setting. Copying several files in parallel mostly pays off for many small files or
+            remote file systems.
+            """)
+    @Layout(Performance.class)
+    @Persist(configKey = "parallel_transfers")
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    int m_parallelTransfers = 1;
+
+    @Widget(title = "Transfer statistics", description = """
+            If selected the output contains the number of bytes transferred, the transfer time in milliseconds,
+            and the throughput in MB/s. Files that have not been copied, e.g., because they already existed, are
+            reported with 0 bytes. Without detailed output the statistics of a folder cover all of its content.
+            """)
+    @Layout(Performance.class)
+    @Persist(configKey = "transfer_statistics")
+    boolean m_transferStatistics;
+
     // ====== Info message
 
     private abstract static class FileSystemManagedByPortMessage implements SimpleTextMessageProvider {
@@ -87,6 +87,8 @@
 import org.knime.node.parameters.widget.message.TextMessage;
 import org.knime.node.parameters.widget.message.TextMessage.MessageType;
 import org.knime.node.parameters.widget.message.TextMessage.SimpleTextMessageProvider;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
 
 /**
  * Node parameters for Transfer Files (Table).
@@ -121,6 +123,12 @@ private interface Destination {
     private interface Output {
     }
 
+    @Section(title = "Performance")
+    @After(Output.class)
+    @Advanced()
+    private interface Performance {
+    }
+
     // ====== Settings
 
     // TODO UIEXT-3103: Remove once frontend displays message based on FS Connector status
@@ -317,6 +325,27 @@ private enum OverwritePolicy {
     @Persist(configKey = "detailed_output")
     boolean m_detailedOutput;
 
+    @Widget(title = "Parallel transfers", description = """
+            The maximum number of files that are copied at the same time, also across the rows of the input
+            table. Folders are always created one after the other and the order of the output rows does not depend
+            on this setting. A row whose paths overlap with the paths of a preceding row is only copied once the
+            preceding row has been transferred. Copying several files in parallel mostly pays off for many small
+            files or remote file systems.
+            """)
+    @Layout(Performance.class)
+    @Persist(configKey = "parallel_transfers")
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    int m_parallelTransfers = 1;
+
+    @Widget(title = "Transfer statistics", description = """
+            If selected the output contains the number of bytes transferred, the transfer time in milliseconds,
+            and the throughput in MB/s. Files that have not been copied, e.g., because they already existed, are
+            reported with 0 bytes. Without detailed output the statistics of a folder cover all of its content.
+            """)
+    @Layout(Performance.class)
+    @Persist(configKey = "transfer_statistics")
+    boolean m_transferStatistics;
+
     // ====== ValueProviders
 
     private static class PathColumnChoices implements ColumnChoicesProvider {
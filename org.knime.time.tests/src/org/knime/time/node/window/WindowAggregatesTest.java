@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the incrementally maintained {@link WindowAggregates} agree with aggregates computed from scratch.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class WindowAggregatesTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testSlidingWindowMatchesRecomputation() {
+        final var random = new Random(42);
+        final var values = new double[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10) == 0 ? Double.NaN : (random.nextGaussian() * 10 + 1000);
+        }
+        for (final int size : new int[]{1, 2, 7, 100}) {
+            final var aggregates = new WindowAggregates(true, true);
+            for (int i = 0; i < values.length; i++) {
+                aggregates.add(i, values[i]);
+                if (i >= size) {
+                    aggregates.remove(i - size, values[i - size]);
+                }
+                final var window = Arrays.stream(values, Math.max(0, i - size + 1), i + 1)
+                    .filter(v -> !Double.isNaN(v)).toArray();
+                assertEquals(window.length, aggregates.getCount(), "count of window ending at " + i);
+                if (window.length == 0) {
+                    assertTrue(Double.isNaN(aggregates.getMean()), "mean of empty window");
+                    assertTrue(Double.isNaN(aggregates.getMin()), "minimum of empty window");
+                    assertTrue(Double.isNaN(aggregates.getMax()), "maximum of empty window");
+                    continue;
+                }
+                final double sum = Arrays.stream(window).sum();
+                final double mean = sum / window.length;
+                final double variance = window.length == 1 ? 0
+                    : (Arrays.stream(window).map(v -> (v - mean) * (v - mean)).sum() / (window.length - 1));
+                assertEquals(sum, aggregates.getSum(), EPSILON * Math.abs(sum), "sum of window ending at " + i);
+                assertEquals(mean, aggregates.getMean(), EPSILON * Math.abs(mean), "mean of window ending at " + i);
+                assertEquals(variance, aggregates.getVariance(), 1e-6, "variance of window ending at " + i);
+                assertEquals(Arrays.stream(window).min().getAsDouble(), aggregates.getMin(),
+                    "minimum of window ending at " + i);
+                assertEquals(Arrays.stream(window).max().getAsDouble(), aggregates.getMax(),
+                    "maximum of window ending at " + i);
+            }
+        }
+    }
+
+    @Test
+    void testMonotonicDequesKeepDuplicatesAndDecreasingRuns() {
+        final var values = new double[]{5, 4, 3, 3, 6, 1, 1, 2};
+        final var aggregates = new WindowAggregates(true, true);
+        for (int i = 0; i < values.length; i++) {
+            aggregates.add(i, values[i]);
+            if (i >= 3) {
+                aggregates.remove(i - 3, values[i - 3]);
+            }
+        }
+        // window {1, 1, 2}
+        assertEquals(1, aggregates.getMin());
+        assertEquals(2, aggregates.getMax());
+        assertEquals(3, aggregates.getCount());
+    }
+
+    @Test
+    void testInfiniteValues() {
+        final var aggregates = new WindowAggregates(true, true);
+        aggregates.add(0, 1);
+        aggregates.add(1, Double.POSITIVE_INFINITY);
+        aggregates.add(2, 3);
+        assertEquals(Double.POSITIVE_INFINITY, aggregates.getSum());
+        assertEquals(Double.POSITIVE_INFINITY, aggregates.getMean());
+        assertEquals(Double.POSITIVE_INFINITY, aggregates.getMax());
+        assertTrue(Double.isNaN(aggregates.getVariance()), "variance with infinite values");
+
+        aggregates.add(3, Double.NEGATIVE_INFINITY);
+        assertTrue(Double.isNaN(aggregates.getSum()), "sum of both infinities");
+        assertEquals(Double.NEGATIVE_INFINITY, aggregates.getMin());
+
+        aggregates.remove(0, 1);
+        aggregates.remove(1, Double.POSITIVE_INFINITY);
+        aggregates.remove(2, 3);
+        aggregates.remove(3, Double.NEGATIVE_INFINITY);
+        aggregates.add(4, 2);
+        aggregates.add(5, 4);
+        assertEquals(6, aggregates.getSum());
+        assertEquals(3, aggregates.getMean());
+        assertEquals(2, aggregates.getVariance(), EPSILON);
+        assertEquals(2, aggregates.getCount());
+    }
+
+    @Test
+    void testRemovalDoesNotLoseFinalDigits() {
+        final var aggregates = new WindowAggregates(false, false);
+        aggregates.add(0, 1e16);
+        aggregates.add(1, 1);
+        aggregates.add(2, 1);
+        aggregates.remove(0, 1e16);
+        assertEquals(2, aggregates.getSum());
+        assertEquals(2, aggregates.getCount());
+    }
+}
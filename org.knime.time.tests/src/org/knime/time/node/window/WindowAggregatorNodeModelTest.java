@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.DateTimeTestingUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.time.localdatetime.LocalDateTimeCellFactory;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersUtil;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.Interval;
+import org.knime.testing.util.TableTestUtil;
+import org.knime.testing.util.WorkflowManagerUtil;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.AggregationMethod;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.IncompleteWindows;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.WindowAggregation;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.WindowDefinition;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.WindowType;
+
+/**
+ * Tests the {@link WindowAggregatorNodeModel} on small tables whose window aggregates are easy to compute by hand.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings({"restriction", "squid:S5960"})
+final class WindowAggregatorNodeModelTest {
+
+    private static final String TIME_COLUMN = "time";
+
+    private static final String VALUE_COLUMN = "value";
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private NativeNodeContainer m_windowAggregatorNode;
+
+    private WorkflowManager m_wfm;
+
+    @BeforeEach
+    void resetWorkflow() throws IOException {
+        m_wfm = WorkflowManagerUtil.createEmptyWorkflow();
+        m_windowAggregatorNode = WorkflowManagerUtil.createAndAddNode(m_wfm, new WindowAggregatorNodeFactory());
+    }
+
+    @Test
+    void testBackwardRowWindows() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.SUM, AggregationMethod.MAX);
+        settings.m_windowSize = 3;
+
+        final var output = execute(settings, createTable(new int[]{0, 1, 2, 3, 4}, 1, 5, 2, 4, 3));
+
+        assertColumn(List.of(1d, 6d, 8d, 11d, 9d), output, 2);
+        assertColumn(List.of(1d, 5d, 5d, 5d, 4d), output, 3);
+    }
+
+    @Test
+    void testCentralRowWindowsWithIncompleteWindowsMissing() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.MEAN);
+        settings.m_windowSize = 3;
+        settings.m_windowDefinition = WindowDefinition.CENTRAL;
+        settings.m_incompleteWindows = IncompleteWindows.MISSING;
+
+        final var output = execute(settings, createTable(new int[]{0, 1, 2, 3, 4}, 1, 5, 2, 4, 3));
+
+        assertColumn(Arrays.asList(null, 8d / 3, 11d / 3, 3d, null), output, 2);
+    }
+
+    @Test
+    void testBackwardTimeWindows() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.SUM, AggregationMethod.COUNT);
+        settings.m_windowType = WindowType.TIME;
+        settings.m_windowDuration = Interval.parseISO("PT2H");
+
+        // hours 0, 1, 1, 3, 6: each window covers the two hours up to and including the current row
+        final var output = execute(settings, createTable(new int[]{0, 1, 1, 3, 6}, 1, 2, 3, 4, 5));
+
+        assertColumn(List.of(1d, 6d, 6d, 4d, 5d), output, 2);
+        assertColumn(List.of(1d, 3d, 3d, 1d, 1d), output, 3);
+    }
+
+    @Test
+    void testForwardTimeWindows() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.MIN);
+        settings.m_windowType = WindowType.TIME;
+        settings.m_windowDefinition = WindowDefinition.FORWARD;
+        settings.m_windowDuration = Interval.parseISO("PT2H");
+
+        final var output = execute(settings, createTable(new int[]{0, 1, 2, 3, 6}, 5, 4, 3, 2, 1));
+
+        assertColumn(List.of(4d, 3d, 2d, 2d, 1d), output, 2);
+    }
+
+    @Test
+    void testMissingValuesAreIgnored() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.MEAN, AggregationMethod.COUNT);
+        settings.m_windowSize = 2;
+
+        final var output = execute(settings, createTable(new int[]{0, 1, 2, 3}, 2, null, null, 4));
+
+        assertColumn(Arrays.asList(2d, 2d, null, 4d), output, 2);
+        assertColumn(List.of(1d, 1d, 0d, 1d), output, 3);
+    }
+
+    @Test
+    void testUnsortedTimeColumnFails() throws InvalidSettingsException {
+        final var settings = createSettings(AggregationMethod.SUM);
+        settings.m_windowType = WindowType.TIME;
+
+        setSettings(settings);
+        DateTimeTestingUtil.addTableToNodeInputPort(m_wfm, createTable(new int[]{2, 1}, 1, 2),
+            m_windowAggregatorNode, 1);
+
+        assertFalse(m_wfm.executeAllAndWaitUntilDone(), "Execution should have failed");
+    }
+
+    @Test
+    void testNoAggregationFailsToConfigure() throws InvalidSettingsException {
+        final var settings = createSettings();
+
+        setSettings(settings);
+        DateTimeTestingUtil.addTableToNodeInputPort(m_wfm, createTable(new int[]{0}, 1), m_windowAggregatorNode, 1);
+
+        assertFalse(m_wfm.executeAllAndWaitUntilDone(), "Execution should have failed");
+    }
+
+    private static WindowAggregatorNodeSettings createSettings(final AggregationMethod... methods) {
+        final var settings = new WindowAggregatorNodeSettings();
+        settings.m_timeColumn = TIME_COLUMN;
+        settings.m_aggregations = new WindowAggregation[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            settings.m_aggregations[i] = new WindowAggregation(VALUE_COLUMN, methods[i]);
+        }
+        return settings;
+    }
+
+    private static Supplier<BufferedDataTable> createTable(final int[] hours, final Integer... values) {
+        final var spec = new TableTestUtil.SpecBuilder() //
+            .addColumn(TIME_COLUMN, LocalDateTimeCellFactory.TYPE) //
+            .addColumn(VALUE_COLUMN, DoubleCell.TYPE) //
+            .build();
+        final var builder = new TableTestUtil.TableBuilder(spec);
+        for (int i = 0; i < hours.length; i++) {
+            builder.addRow(LocalDateTimeCellFactory.create(START.plusHours(hours[i])),
+                values[i] == null ? DataType.getMissingCell() : new DoubleCell(values[i]));
+        }
+        return builder.build();
+    }
+
+    private BufferedDataTable execute(final WindowAggregatorNodeSettings settings,
+        final Supplier<BufferedDataTable> table) throws InvalidSettingsException {
+        setSettings(settings);
+        DateTimeTestingUtil.addTableToNodeInputPort(m_wfm, table, m_windowAggregatorNode, 1);
+        assertTrue(m_wfm.executeAllAndWaitUntilDone(), "expected workflow to execute successfully");
+        return (BufferedDataTable)m_windowAggregatorNode.getOutPort(1).getPortObject();
+    }
+
+    private static List<Double> getColumn(final BufferedDataTable table, final int columnIndex) {
+        final var values = new ArrayList<Double>();
+        try (var it = table.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final DataCell cell = row.getCell(columnIndex);
+                values.add(cell.isMissing() ? null : ((DoubleValue)cell).getDoubleValue());
+            }
+        }
+        return values;
+    }
+
+    private static void assertColumn(final List<Double> expected, final BufferedDataTable table,
+        final int columnIndex) {
+        final var actual = getColumn(table, columnIndex);
+        assertEquals(expected.size(), actual.size(), "number of rows");
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) == null) {
+                assertNull(actual.get(i), "expected a missing value in row " + i);
+            } else {
+                assertEquals(expected.get(i), actual.get(i), 1e-9, "value in row " + i);
+            }
+        }
+    }
+
+    private void setSettings(final WindowAggregatorNodeSettings settings) throws InvalidSettingsException {
+        final var nodeSettings = new NodeSettings("WindowAggregatorNode");
+        m_wfm.saveNodeSettings(m_windowAggregatorNode.getID(), nodeSettings);
+        var modelSettings = nodeSettings.addNodeSettings("model");
+        NodeParametersUtil.saveSettings(WindowAggregatorNodeSettings.class, settings, modelSettings);
+        m_wfm.loadNodeSettings(m_windowAggregatorNode.getID(), nodeSettings);
+    }
+}
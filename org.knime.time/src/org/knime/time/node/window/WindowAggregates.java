@@ -0,0 +1,296 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+/**
+ * Incrementally maintained aggregates of the numeric values in a sliding window. Values enter the window in the
+ * order of their sequence numbers and leave it in the same order, which allows every aggregate to be updated in
+ * amortized constant time instead of re-scanning the window for each row:
+ * <ul>
+ * <li>sum, mean and variance are kept as running moments (compensated sum and Welford's algorithm, both supporting
+ * removal),</li>
+ * <li>minimum and maximum are kept in monotonic deques whose head is the extremum of the current window.</li>
+ * </ul>
+ * Missing values are passed in as {@link Double#NaN} and ignored, infinite values are counted separately so that they
+ * do not spoil the running moments of the finite values.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class WindowAggregates {
+
+    private final boolean m_trackMin;
+
+    private final boolean m_trackMax;
+
+    private final MonotonicDeque m_min;
+
+    private final MonotonicDeque m_max;
+
+    /** Number of non-missing values, including infinite ones. */
+    private long m_count;
+
+    private long m_positiveInfinityCount;
+
+    private long m_negativeInfinityCount;
+
+    /** Number of finite values in {@link #m_mean} and {@link #m_m2}. */
+    private long m_finiteCount;
+
+    private double m_sum;
+
+    private double m_sumCompensation;
+
+    private double m_mean;
+
+    private double m_m2;
+
+    /**
+     * @param trackMin whether the window minimum is needed
+     * @param trackMax whether the window maximum is needed
+     */
+    WindowAggregates(final boolean trackMin, final boolean trackMax) {
+        m_trackMin = trackMin;
+        m_trackMax = trackMax;
+        m_min = trackMin ? new MonotonicDeque(true) : null;
+        m_max = trackMax ? new MonotonicDeque(false) : null;
+    }
+
+    /**
+     * Adds a value to the window. Values must be added with strictly increasing sequence numbers.
+     *
+     * @param seq the sequence number (row index) of the value
+     * @param value the value, {@link Double#NaN} if missing
+     */
+    void add(final long seq, final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        m_count++;
+        if (m_trackMin) {
+            m_min.add(seq, value);
+        }
+        if (m_trackMax) {
+            m_max.add(seq, value);
+        }
+        if (value == Double.POSITIVE_INFINITY) {
+            m_positiveInfinityCount++;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            m_negativeInfinityCount++;
+        } else {
+            addToSum(value);
+            m_finiteCount++;
+            final double delta = value - m_mean;
+            m_mean += delta / m_finiteCount;
+            m_m2 += delta * (value - m_mean);
+        }
+    }
+
+    /**
+     * Removes a value from the window. Values must be removed in the order in which they were added and with the same
+     * arguments.
+     *
+     * @param seq the sequence number (row index) of the value
+     * @param value the value, {@link Double#NaN} if missing
+     */
+    void remove(final long seq, final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        m_count--;
+        if (m_trackMin) {
+            m_min.remove(seq);
+        }
+        if (m_trackMax) {
+            m_max.remove(seq);
+        }
+        if (value == Double.POSITIVE_INFINITY) {
+            m_positiveInfinityCount--;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            m_negativeInfinityCount--;
+        } else if (--m_finiteCount == 0) {
+            // start from scratch whenever the window runs empty so that rounding errors cannot accumulate
+            m_sum = 0;
+            m_sumCompensation = 0;
+            m_mean = 0;
+            m_m2 = 0;
+        } else {
+            addToSum(-value);
+            final double delta = value - m_mean;
+            m_mean -= delta / m_finiteCount;
+            m_m2 = Math.max(0, m_m2 - delta * (value - m_mean));
+        }
+    }
+
+    /** Neumaier's variant of the Kahan summation, which also copes with the subtractions of leaving values. */
+    private void addToSum(final double value) {
+        final double t = m_sum + value;
+        if (Math.abs(m_sum) >= Math.abs(value)) {
+            m_sumCompensation += (m_sum - t) + value;
+        } else {
+            m_sumCompensation += (value - t) + m_sum;
+        }
+        m_sum = t;
+    }
+
+    /** @return the number of non-missing values in the window */
+    long getCount() {
+        return m_count;
+    }
+
+    /** @return the sum of the values in the window, 0 if there are none */
+    double getSum() {
+        return hasInfinity() ? getInfinity() : (m_sum + m_sumCompensation);
+    }
+
+    /** @return the mean of the values in the window, {@link Double#NaN} if there are none */
+    double getMean() {
+        if (m_count == 0) {
+            return Double.NaN;
+        }
+        return hasInfinity() ? getInfinity() : m_mean;
+    }
+
+    /**
+     * @return the sample variance of the values in the window, 0 for a single value and {@link Double#NaN} if there
+     *         are none or the window contains infinite values
+     */
+    double getVariance() {
+        if (m_count == 0 || hasInfinity()) {
+            return Double.NaN;
+        }
+        return m_count == 1 ? 0 : (m_m2 / (m_count - 1));
+    }
+
+    /** @return the minimum of the values in the window, {@link Double#NaN} if there are none */
+    double getMin() {
+        return m_min.head();
+    }
+
+    /** @return the maximum of the values in the window, {@link Double#NaN} if there are none */
+    double getMax() {
+        return m_max.head();
+    }
+
+    private boolean hasInfinity() {
+        return m_positiveInfinityCount > 0 || m_negativeInfinityCount > 0;
+    }
+
+    /** @return the infinity that dominates sum and mean, {@link Double#NaN} if both infinities are present */
+    private double getInfinity() {
+        if (m_positiveInfinityCount > 0) {
+            return m_negativeInfinityCount > 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+        }
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Deque of (sequence number, value) pairs whose values are monotonic from head to tail. A value that is dominated
+     * by a later value can never become the extremum of a window again and is dropped when the later value arrives.
+     */
+    private static final class MonotonicDeque {
+
+        private final boolean m_ascending;
+
+        private long[] m_seqs = new long[16];
+
+        private double[] m_values = new double[16];
+
+        private int m_head;
+
+        private int m_size;
+
+        MonotonicDeque(final boolean ascending) {
+            m_ascending = ascending;
+        }
+
+        void add(final long seq, final double value) {
+            while (m_size > 0 && dominates(value, m_values[index(m_size - 1)])) {
+                m_size--;
+            }
+            if (m_size == m_seqs.length) {
+                grow();
+            }
+            final int i = index(m_size);
+            m_seqs[i] = seq;
+            m_values[i] = value;
+            m_size++;
+        }
+
+        private boolean dominates(final double value, final double other) {
+            return m_ascending ? value <= other : value >= other;
+        }
+
+        void remove(final long seq) {
+            if (m_size > 0 && m_seqs[m_head] == seq) {
+                m_head = index(1);
+                m_size--;
+            }
+        }
+
+        double head() {
+            return m_size == 0 ? Double.NaN : m_values[m_head];
+        }
+
+        private int index(final int offset) {
+            return (m_head + offset) % m_seqs.length;
+        }
+
+        private void grow() {
+            final long[] seqs = new long[m_seqs.length * 2];
+            final double[] values = new double[m_values.length * 2];
+            for (int i = 0; i < m_size; i++) {
+                seqs[i] = m_seqs[index(i)];
+                values[i] = m_values[index(i)];
+            }
+            m_seqs = seqs;
+            m_values = values;
+            m_head = 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+import org.knime.core.webui.node.impl.WebUINodeConfiguration;
+import org.knime.core.webui.node.impl.WebUINodeFactory;
+
+/**
+ * Factory of the Window Aggregator node, which appends sliding window aggregates to each row in a single pass.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("restriction")
+public final class WindowAggregatorNodeFactory extends WebUINodeFactory<WindowAggregatorNodeModel> {
+
+    private static final WebUINodeConfiguration CONFIG = WebUINodeConfiguration.builder()//
+        .name("Window Aggregator")//
+        .icon("./window_aggregator.png")//
+        .shortDescription("Appends aggregates of a sliding window over rows or time to each row.")//
+        .fullDescription(
+            """
+                    <p>
+                      Appends aggregates of a sliding window to each row, for instance rolling sums, moving averages,
+                      or rolling minima and maxima. A window either consists of a fixed number of rows or of all rows
+                      whose values in a time column lie within a fixed duration. The window is placed before
+                      (backward), around (central), or after (forward) the current row.
+                    </p>
+                    <p>
+                      Unlike a loop with the <i>Window Loop Start</i> node, which processes every window in a separate
+                      iteration, this node computes all windows in a single pass over the table. Each row enters and
+                      leaves the window only once and the aggregates are updated incrementally, so the runtime does not
+                      depend on the window size and the node can be streamed.
+                    </p>
+                    <p>
+                      For time-based windows the table must be sorted in ascending order by the time column.
+                    </p>""")//
+        .modelSettingsClass(WindowAggregatorNodeSettings.class)//
+        .addInputTable("Input", "Input data, sorted by the time column if windows are time based.")//
+        .addOutputTable("Output", "Input data with one additional column per aggregation.")//
+        .keywords("Rolling", "Moving average", "Sliding window", "Running sum", "Window")//
+        .build();
+
+    @SuppressWarnings("javadoc")
+    public WindowAggregatorNodeFactory() {
+        super(CONFIG);
+    }
+
+    @Override
+    public WindowAggregatorNodeModel createNodeModel() {
+        return new WindowAggregatorNodeModel(CONFIG);
+    }
+}
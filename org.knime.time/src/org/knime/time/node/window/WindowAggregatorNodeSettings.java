@@ -0,0 +1,312 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.DateInterval;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.Interval;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.IntervalWidget;
+import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.NodeParametersInput;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.array.ArrayWidget;
+import org.knime.node.parameters.array.ArrayWidget.ElementLayout;
+import org.knime.node.parameters.layout.After;
+import org.knime.node.parameters.layout.HorizontalLayout;
+import org.knime.node.parameters.layout.Layout;
+import org.knime.node.parameters.layout.Section;
+import org.knime.node.parameters.updates.Effect;
+import org.knime.node.parameters.updates.Effect.EffectType;
+import org.knime.node.parameters.updates.EffectPredicate;
+import org.knime.node.parameters.updates.EffectPredicateProvider;
+import org.knime.node.parameters.updates.ParameterReference;
+import org.knime.node.parameters.updates.StateProvider;
+import org.knime.node.parameters.updates.ValueReference;
+import org.knime.node.parameters.widget.choices.ChoicesProvider;
+import org.knime.node.parameters.widget.choices.Label;
+import org.knime.node.parameters.widget.choices.ValueSwitchWidget;
+import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider;
+import org.knime.node.parameters.widget.number.NumberInputWidget;
+import org.knime.node.parameters.widget.number.NumberInputWidgetValidation.MinValidation.IsPositiveIntegerValidation;
+import org.knime.time.util.DateTimeUtils.DateTimeColumnProvider;
+
+/**
+ * Settings of the Window Aggregator node.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("restriction")
+final class WindowAggregatorNodeSettings implements NodeParameters {
+
+    WindowAggregatorNodeSettings() {
+    }
+
+    WindowAggregatorNodeSettings(final NodeParametersInput context) {
+        final var spec = context.getInTableSpec(0);
+        m_timeColumn = spec.flatMap(s -> s.stream().filter(DateTimeColumnProvider::isCompatibleType).findFirst())
+            .map(DataColumnSpec::getName).orElse(null);
+        m_aggregations = spec.flatMap(WindowAggregatorNodeSettings::firstNumericColumn)
+            .map(column -> new WindowAggregation[]{new WindowAggregation(column, AggregationMethod.MEAN)})
+            .orElseGet(() -> new WindowAggregation[0]);
+    }
+
+    private static Optional<String> firstNumericColumn(final DataTableSpec spec) {
+        return spec.stream().filter(c -> c.getType().isCompatible(DoubleValue.class)).findFirst()
+            .map(DataColumnSpec::getName);
+    }
+
+    @Section(title = "Window")
+    interface WindowSection {
+    }
+
+    @Section(title = "Aggregations")
+    @After(WindowSection.class)
+    interface AggregationSection {
+    }
+
+    enum WindowType {
+            @Label(value = "Row based", description = "Each window consists of a fixed number of rows.")
+            ROW, //
+            @Label(value = "Time based",
+                description = "Each window consists of the rows whose values in the time column lie within a fixed "
+                    + "duration.")
+            TIME;
+
+        interface Ref extends ParameterReference<WindowType> {
+        }
+
+        static final class IsTime implements EffectPredicateProvider {
+            @Override
+            public EffectPredicate init(final PredicateInitializer i) {
+                return i.getEnum(Ref.class).isOneOf(TIME);
+            }
+        }
+    }
+
+    enum WindowDefinition {
+            @Label(value = "Backward",
+                description = "The current row is the last row of its window. For time-based windows, the window "
+                    + "covers the duration that ends with the time of the current row.")
+            BACKWARD, //
+            @Label(value = "Central",
+                description = "The current row lies in the middle of its window. For time-based windows, the window "
+                    + "extends by half the duration to either side of the time of the current row.")
+            CENTRAL, //
+            @Label(value = "Forward",
+                description = "The current row is the first row of its window. For time-based windows, the window "
+                    + "covers the duration that starts with the time of the current row.")
+            FORWARD;
+    }
+
+    enum AggregationMethod {
+            @Label(value = "Sum", description = "The sum of the values in the window.")
+            SUM("Sum"), //
+            @Label(value = "Mean", description = "The mean of the values in the window.")
+            MEAN("Mean"), //
+            @Label(value = "Minimum", description = "The smallest value in the window.")
+            MIN("Min"), //
+            @Label(value = "Maximum", description = "The largest value in the window.")
+            MAX("Max"), //
+            @Label(value = "Variance", description = "The sample variance of the values in the window.")
+            VARIANCE("Variance"), //
+            @Label(value = "Standard deviation",
+                description = "The sample standard deviation of the values in the window.")
+            STANDARD_DEVIATION("Standard deviation"), //
+            @Label(value = "Count", description = "The number of non-missing values in the window.")
+            COUNT("Count");
+
+        private final String m_columnPrefix;
+
+        AggregationMethod(final String columnPrefix) {
+            m_columnPrefix = columnPrefix;
+        }
+
+        /** @return the prefix of the name of the output column, e.g. "Mean" in "Mean(column)" */
+        String getColumnPrefix() {
+            return m_columnPrefix;
+        }
+    }
+
+    enum IncompleteWindows {
+            @Label(value = "Aggregate",
+                description = "Windows that extend beyond the start or the end of the table are aggregated over the "
+                    + "rows they contain.")
+            AGGREGATE, //
+            @Label(value = "Missing",
+                description = "Windows that extend beyond the start or the end of the table yield missing values.")
+            MISSING;
+    }
+
+    static final class NumericColumnsProvider extends CompatibleColumnsProvider {
+        NumericColumnsProvider() {
+            super(DoubleValue.class);
+        }
+    }
+
+    static final class TimeColumnRef implements ParameterReference<String> {
+    }
+
+    /** Restricts the duration to dates or times if the time column holds only dates or only times. */
+    static final class DurationTypeProvider implements StateProvider<IntervalWidget.IntervalType> {
+
+        private Supplier<String> m_timeColumnSupplier;
+
+        @Override
+        public void init(final StateProviderInitializer initializer) {
+            initializer.computeBeforeOpenDialog();
+            m_timeColumnSupplier = initializer.computeFromValueSupplier(TimeColumnRef.class);
+        }
+
+        @Override
+        public IntervalWidget.IntervalType computeState(final NodeParametersInput context) {
+            final var timeColumn = m_timeColumnSupplier.get();
+            final var type = timeColumn == null ? null : context.getInTableSpec(0)
+                .map(spec -> spec.getColumnSpec(timeColumn)).map(DataColumnSpec::getType).orElse(null);
+            if (type == null) {
+                return IntervalWidget.IntervalType.DATE_OR_TIME;
+            } else if (type.isCompatible(LocalDateValue.class)) {
+                return IntervalWidget.IntervalType.DATE;
+            } else if (type.isCompatible(LocalTimeValue.class)) {
+                return IntervalWidget.IntervalType.TIME;
+            }
+            return IntervalWidget.IntervalType.DATE_OR_TIME;
+        }
+    }
+
+    @Widget(title = "Window type", description = "Whether windows are defined by a number of rows or by a duration.")
+    @ValueSwitchWidget
+    @ValueReference(WindowType.Ref.class)
+    @Layout(WindowSection.class)
+    WindowType m_windowType = WindowType.ROW;
+
+    @Widget(title = "Window definition", description = "The position of the current row within its window.")
+    @ValueSwitchWidget
+    @Layout(WindowSection.class)
+    WindowDefinition m_windowDefinition = WindowDefinition.BACKWARD;
+
+    @Widget(title = "Window size", description = "The number of rows in each window.")
+    @NumberInputWidget(minValidation = IsPositiveIntegerValidation.class)
+    @Effect(predicate = WindowType.IsTime.class, type = EffectType.HIDE)
+    @Layout(WindowSection.class)
+    int m_windowSize = 10;
+
+    @Widget(title = "Time column",
+        description = "The Date, Time, Date&amp;time (Local), or Date&amp;time (Zoned) column that defines the "
+            + "windows. The table must be sorted in ascending order by this column. Rows with a missing time are "
+            + "not part of any window and get missing aggregates.")
+    @ChoicesProvider(DateTimeColumnProvider.class)
+    @ValueReference(TimeColumnRef.class)
+    @Effect(predicate = WindowType.IsTime.class, type = EffectType.SHOW)
+    @Layout(WindowSection.class)
+    String m_timeColumn;
+
+    @Widget(title = "Window duration",
+        description = "The duration covered by each window. Backward windows exclude their start, forward windows "
+            + "exclude their end, and central windows include both ends.")
+    @IntervalWidget(typeProvider = DurationTypeProvider.class)
+    @Effect(predicate = WindowType.IsTime.class, type = EffectType.SHOW)
+    @Layout(WindowSection.class)
+    Interval m_windowDuration = DateInterval.of(0, 0, 0, 1);
+
+    @Widget(title = "Incomplete windows",
+        description = "How to treat windows that extend beyond the start or the end of the table.")
+    @ValueSwitchWidget
+    @Layout(WindowSection.class)
+    IncompleteWindows m_incompleteWindows = IncompleteWindows.AGGREGATE;
+
+    @Widget(title = "Aggregations",
+        description = "The aggregations to compute for each window. Each aggregation appends a column named after "
+            + "the method and the aggregated column, e.g. \"Mean(column)\". Missing values are ignored.")
+    @ArrayWidget(elementLayout = ElementLayout.HORIZONTAL_SINGLE_LINE, addButtonText = "Add aggregation",
+        showSortButtons = true)
+    @Layout(AggregationSection.class)
+    WindowAggregation[] m_aggregations = new WindowAggregation[0];
+
+    static final class WindowAggregation implements NodeParameters {
+
+        WindowAggregation() {
+        }
+
+        WindowAggregation(final String column, final AggregationMethod method) {
+            m_column = column;
+            m_method = method;
+        }
+
+        @HorizontalLayout
+        interface WindowAggregationLayout {
+        }
+
+        @Widget(title = "Column", description = "The numeric column to aggregate.")
+        @ChoicesProvider(NumericColumnsProvider.class)
+        @Layout(WindowAggregationLayout.class)
+        String m_column;
+
+        @Widget(title = "Aggregation", description = "The aggregation method.")
+        @Layout(WindowAggregationLayout.class)
+        AggregationMethod m_method = AggregationMethod.MEAN;
+    }
+
+    @Override
+    public void validate() throws InvalidSettingsException {
+        if (m_windowSize < 1) {
+            throw new InvalidSettingsException("The window size must be positive.");
+        }
+        if (m_windowType == WindowType.TIME && !m_windowDuration.isStrictlyPositive()) {
+            throw new InvalidSettingsException("The window duration must be positive.");
+        }
+    }
+}
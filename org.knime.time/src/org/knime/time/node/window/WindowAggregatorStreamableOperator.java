@@ -0,0 +1,604 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.time.node.window;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.BlobSupportDataRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.util.UniqueNameGenerator;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.DateInterval;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.Interval;
+import org.knime.core.webui.node.dialog.defaultdialog.setting.interval.TimeInterval;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.AggregationMethod;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.IncompleteWindows;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.WindowAggregation;
+import org.knime.time.node.window.WindowAggregatorNodeSettings.WindowType;
+import org.knime.time.util.DateTimeUtils.DateTimeColumnProvider;
+import org.knime.time.util.TemporalCellUtils;
+
+/**
+ * Appends the aggregates of a sliding window to each row in a single pass over the input. The rows between the start
+ * of the current window and the end of the window are buffered, and the {@link WindowAggregates} are updated as rows
+ * enter and leave the window, so each row is added and removed exactly once.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("restriction")
+final class WindowAggregatorStreamableOperator extends StreamableOperator {
+
+    private final DataTableSpec m_outSpec;
+
+    /** The distinct aggregated columns. */
+    private final int[] m_columnIndices;
+
+    private final boolean[] m_trackMin;
+
+    private final boolean[] m_trackMax;
+
+    /** Per aggregation, the index into {@link #m_columnIndices}. */
+    private final int[] m_aggregationColumns;
+
+    private final AggregationMethod[] m_methods;
+
+    private final boolean m_missingIfIncomplete;
+
+    /** -1 for row-based windows. */
+    private final int m_timeColumnIndex;
+
+    private final String m_timeColumn;
+
+    /** Number of rows before and after the current row in row-based windows. */
+    private int m_rowsBefore;
+
+    private int m_rowsAfter;
+
+    /** Offsets of the window bounds from the time of the current row, {@code null} if the bound is the time itself. */
+    private TemporalAmount m_startOffset;
+
+    private TemporalAmount m_endOffset;
+
+    private boolean m_startInclusive;
+
+    private boolean m_endInclusive;
+
+    /** Whether the start or the end of a window over a time column wraps around midnight. */
+    private boolean m_startWrapsDay;
+
+    private boolean m_endWrapsDay;
+
+    private long m_maxRows = -1; // stays -1 if used only during configure or if used in real streaming
+
+    WindowAggregatorStreamableOperator(final WindowAggregatorNodeSettings settings, final DataTableSpec inSpec)
+        throws InvalidSettingsException {
+        final WindowAggregation[] aggregations = settings.m_aggregations;
+        if (aggregations.length == 0) {
+            throw new InvalidSettingsException("Please add at least one aggregation.");
+        }
+        final List<Integer> columns = new ArrayList<>();
+        final var gen = new UniqueNameGenerator(inSpec);
+        final var newCols = new DataColumnSpec[aggregations.length];
+        m_aggregationColumns = new int[aggregations.length];
+        m_methods = new AggregationMethod[aggregations.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            final var column = aggregations[i].m_column;
+            final var method = aggregations[i].m_method;
+            if (column == null) {
+                throw new InvalidSettingsException("Please select a column for each aggregation.");
+            }
+            final int columnIndex = inSpec.findColumnIndex(column);
+            if (columnIndex < 0) {
+                throw new InvalidSettingsException("Selected column \"" + column + "\" does not exist.");
+            }
+            if (!inSpec.getColumnSpec(columnIndex).getType().isCompatible(DoubleValue.class)) {
+                throw new InvalidSettingsException("Selected column \"" + column + "\" is not numeric.");
+            }
+            if (!columns.contains(columnIndex)) {
+                columns.add(columnIndex);
+            }
+            m_aggregationColumns[i] = columns.indexOf(columnIndex);
+            m_methods[i] = method;
+            newCols[i] = gen.newColumn(method.getColumnPrefix() + "(" + column + ")",
+                method == AggregationMethod.COUNT ? LongCell.TYPE : DoubleCell.TYPE);
+        }
+        m_columnIndices = columns.stream().mapToInt(Integer::intValue).toArray();
+        m_trackMin = new boolean[m_columnIndices.length];
+        m_trackMax = new boolean[m_columnIndices.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            m_trackMin[m_aggregationColumns[i]] |= m_methods[i] == AggregationMethod.MIN;
+            m_trackMax[m_aggregationColumns[i]] |= m_methods[i] == AggregationMethod.MAX;
+        }
+        m_missingIfIncomplete = settings.m_incompleteWindows == IncompleteWindows.MISSING;
+        m_outSpec = new DataTableSpec(inSpec, new DataTableSpec(newCols));
+
+        if (settings.m_windowType == WindowType.ROW) {
+            m_timeColumnIndex = -1;
+            m_timeColumn = null;
+            final int size = settings.m_windowSize;
+            switch (settings.m_windowDefinition) {
+                case BACKWARD -> m_rowsBefore = size - 1;
+                case FORWARD -> m_rowsAfter = size - 1;
+                case CENTRAL -> {
+                    m_rowsBefore = size / 2;
+                    m_rowsAfter = size - 1 - size / 2;
+                }
+            }
+        } else {
+            m_timeColumn = settings.m_timeColumn;
+            if (m_timeColumn == null) {
+                throw new InvalidSettingsException("Please select a time column.");
+            }
+            m_timeColumnIndex = inSpec.findColumnIndex(m_timeColumn);
+            if (m_timeColumnIndex < 0) {
+                throw new InvalidSettingsException("Selected time column \"" + m_timeColumn + "\" does not exist.");
+            }
+            final var timeColumnSpec = inSpec.getColumnSpec(m_timeColumnIndex);
+            if (!DateTimeColumnProvider.isCompatibleType(timeColumnSpec)) {
+                throw new InvalidSettingsException(
+                    "Selected time column \"" + m_timeColumn + "\" does not contain date or time values.");
+            }
+            initTimeWindow(settings, timeColumnSpec.getType());
+        }
+    }
+
+    private void initTimeWindow(final WindowAggregatorNodeSettings settings, final DataType timeType)
+        throws InvalidSettingsException {
+        final Interval duration = settings.m_windowDuration;
+        final boolean isDate = timeType.isCompatible(LocalDateValue.class);
+        final boolean isTime = timeType.isCompatible(LocalTimeValue.class);
+        if (isDate && !(duration instanceof DateInterval)) {
+            throw new InvalidSettingsException("The window duration of the date column \"" + m_timeColumn
+                + "\" must be given in years, months, weeks, or days.");
+        }
+        if (isTime && !(duration instanceof TimeInterval)) {
+            throw new InvalidSettingsException("The window duration of the time column \"" + m_timeColumn
+                + "\" must be given in hours, minutes, seconds, or milliseconds.");
+        }
+        switch (settings.m_windowDefinition) {
+            case BACKWARD -> {
+                m_startOffset = duration;
+                m_startInclusive = false;
+                m_endInclusive = true;
+            }
+            case FORWARD -> {
+                m_endOffset = duration;
+                m_startInclusive = true;
+                m_endInclusive = false;
+            }
+            case CENTRAL -> {
+                final var half = halve(duration, isDate);
+                m_startOffset = half;
+                m_endOffset = half;
+                m_startInclusive = true;
+                m_endInclusive = true;
+            }
+        }
+        if (isTime) {
+            final var day = Duration.ofDays(1);
+            m_startWrapsDay = m_startOffset != null && toDuration(m_startOffset).compareTo(day) >= 0;
+            m_endWrapsDay = m_endOffset != null && toDuration(m_endOffset).compareTo(day) >= 0;
+        }
+    }
+
+    private static TemporalAmount halve(final Interval duration, final boolean isDate)
+        throws InvalidSettingsException {
+        final var half = toDuration(duration).dividedBy(2);
+        if (!isDate) {
+            return half;
+        }
+        if (half.getSeconds() % ChronoUnit.DAYS.getDuration().getSeconds() != 0 || half.getNano() != 0) {
+            throw new InvalidSettingsException(
+                "Central windows over the date column require a window duration of an even number of days.");
+        }
+        return Period.ofDays(Math.toIntExact(half.toDays()));
+    }
+
+    /** Converts an amount to an exact duration, counting days as 24 hours and weeks as 7 days. */
+    private static Duration toDuration(final TemporalAmount amount) throws InvalidSettingsException {
+        var duration = Duration.ZERO;
+        for (final var unit : amount.getUnits()) {
+            final long value = amount.get(unit);
+            if (value == 0) {
+                continue;
+            }
+            if (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) {
+                duration = duration.plus(unit.getDuration().multipliedBy(value));
+            } else if (unit.isDurationEstimated()) {
+                throw new InvalidSettingsException(
+                    "Central windows require a window duration without months or years.");
+            } else {
+                duration = duration.plus(value, unit);
+            }
+        }
+        return duration;
+    }
+
+    /**
+     * @return the outSpecs
+     */
+    DataTableSpec getOutSpec() {
+        return m_outSpec;
+    }
+
+    BufferedDataTable execute(final BufferedDataTable table, final ExecutionContext exec) throws Exception {
+        m_maxRows = table.size();
+        BufferedDataContainer output = exec.createDataContainer(m_outSpec);
+        RowInput wrappedInput = new DataTableRowInput(table);
+        DataContainerPortOutput wrappedOutput = new DataContainerPortOutput(output);
+        runFinal(new PortInput[]{wrappedInput}, new PortOutput[]{wrappedOutput}, exec);
+        return wrappedOutput.getTable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+        throws Exception {
+        final var output = (RowOutput)outputs[0];
+        final var scan = new Scan((RowInput)inputs[0]);
+        final var aggregates = new WindowAggregates[m_columnIndices.length];
+        for (int i = 0; i < aggregates.length; i++) {
+            aggregates[i] = new WindowAggregates(m_trackMin[i], m_trackMax[i]);
+        }
+        long windowStart = 0; // first row whose values are part of the aggregates
+        long windowEnd = 0; // row after the last row whose values are part of the aggregates
+        for (long current = 0; scan.ensure(current); current++) {
+            final Entry entry = scan.get(current);
+            final DataCell[] newCells;
+            if (m_timeColumnIndex >= 0 && entry.m_time == null) {
+                newCells = createMissingCells();
+            } else {
+                final Temporal start = m_timeColumnIndex < 0 ? null : getBound(entry.m_time, m_startOffset, true);
+                final Temporal end = m_timeColumnIndex < 0 ? null : getBound(entry.m_time, m_endOffset, false);
+                while (scan.ensure(windowEnd) && isBeforeEnd(scan.get(windowEnd), windowEnd, current, end)) {
+                    add(aggregates, windowEnd, scan.get(windowEnd));
+                    windowEnd++;
+                }
+                while (windowStart < current && !isAfterStart(scan.get(windowStart), windowStart, current, start)) {
+                    remove(aggregates, windowStart, scan.get(windowStart));
+                    windowStart++;
+                }
+                final boolean complete = m_timeColumnIndex < 0
+                    ? (current - m_rowsBefore >= 0 && windowEnd == current + m_rowsAfter + 1)
+                    : (start != null && compare(scan.m_firstTime, start) <= 0 && end != null
+                        && compare(scan.m_lastTime, end) >= 0);
+                newCells = !complete && m_missingIfIncomplete ? createMissingCells() : createCells(aggregates);
+            }
+            scan.discardBefore(windowStart);
+            output.push(copyWithNewCells(entry.m_row, newCells));
+            setProgress(exec, current, entry.m_row);
+        }
+        output.close();
+    }
+
+    /**
+     * @return the bound of the window around the given time, {@code null} if the window is unbounded in that direction
+     */
+    private Temporal getBound(final Temporal time, final TemporalAmount offset, final boolean isStart) {
+        if (offset == null) {
+            return time;
+        }
+        if (time instanceof LocalTime && (isStart ? m_startWrapsDay : m_endWrapsDay)) {
+            return null;
+        }
+        try {
+            final var bound = isStart ? time.minus(offset) : time.plus(offset);
+            if (time instanceof LocalTime && (isStart ? compare(bound, time) > 0 : compare(bound, time) < 0)) {
+                return null; // the window extends beyond midnight, i.e. the start or the end of the day
+            }
+            return bound;
+        } catch (DateTimeException | ArithmeticException e) { // NOSONAR beyond the supported range
+            return null;
+        }
+    }
+
+    private boolean isBeforeEnd(final Entry entry, final long seq, final long current, final Temporal end) {
+        if (m_timeColumnIndex < 0) {
+            return seq <= current + m_rowsAfter;
+        }
+        if (entry.m_time == null || end == null) {
+            return true;
+        }
+        final int c = compare(entry.m_time, end);
+        return m_endInclusive ? c <= 0 : c < 0;
+    }
+
+    private boolean isAfterStart(final Entry entry, final long seq, final long current, final Temporal start) {
+        if (m_timeColumnIndex < 0) {
+            return seq >= current - m_rowsBefore;
+        }
+        if (entry.m_time == null) {
+            return false;
+        }
+        if (start == null) {
+            return true;
+        }
+        final int c = compare(entry.m_time, start);
+        return m_startInclusive ? c >= 0 : c > 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(final Temporal a, final Temporal b) {
+        return ((Comparable)a).compareTo(b);
+    }
+
+    private static void add(final WindowAggregates[] aggregates, final long seq, final Entry entry) {
+        if (entry.m_values != null) {
+            for (int i = 0; i < aggregates.length; i++) {
+                aggregates[i].add(seq, entry.m_values[i]);
+            }
+        }
+    }
+
+    private static void remove(final WindowAggregates[] aggregates, final long seq, final Entry entry) {
+        if (entry.m_values != null) {
+            for (int i = 0; i < aggregates.length; i++) {
+                aggregates[i].remove(seq, entry.m_values[i]);
+            }
+        }
+    }
+
+    private DataCell[] createCells(final WindowAggregates[] aggregates) {
+        final var cells = new DataCell[m_methods.length];
+        for (int i = 0; i < cells.length; i++) {
+            final var aggregate = aggregates[m_aggregationColumns[i]];
+            if (m_methods[i] == AggregationMethod.COUNT) {
+                cells[i] = new LongCell(aggregate.getCount());
+            } else if (aggregate.getCount() == 0) {
+                cells[i] = DataType.getMissingCell();
+            } else {
+                cells[i] = new DoubleCell(switch (m_methods[i]) {
+                    case SUM -> aggregate.getSum();
+                    case MEAN -> aggregate.getMean();
+                    case MIN -> aggregate.getMin();
+                    case MAX -> aggregate.getMax();
+                    case VARIANCE -> aggregate.getVariance();
+                    case STANDARD_DEVIATION -> Math.sqrt(aggregate.getVariance());
+                    case COUNT -> throw new IllegalStateException("Count is handled above.");
+                });
+            }
+        }
+        return cells;
+    }
+
+    private DataCell[] createMissingCells() {
+        final var cells = new DataCell[m_methods.length];
+        Arrays.fill(cells, DataType.getMissingCell());
+        return cells;
+    }
+
+    private static BlobSupportDataRow copyWithNewCells(final DataRow row, final DataCell[] newCells) {
+        int oldCount = row.getNumCells();
+        DataCell[] copiedCells = new DataCell[oldCount + newCells.length];
+        for (int i = 0; i < oldCount; i++) {
+            copiedCells[i] =
+                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+        }
+        System.arraycopy(newCells, 0, copiedCells, oldCount, newCells.length);
+        return new BlobSupportDataRow(row.getKey(), copiedCells);
+    }
+
+    private void setProgress(final ExecutionContext exec, final long counter, final DataRow row)
+        throws CanceledExecutionException {
+        StringBuilder progMessageBuilder = new StringBuilder("Aggregated row ");
+        progMessageBuilder.append(counter + 1);
+        if (m_maxRows > 0) {
+            progMessageBuilder.append("/").append(m_maxRows);
+        }
+        progMessageBuilder.append(" (\"").append(row.getKey()).append("\")");
+        if (m_maxRows > 0) {
+            exec.setProgress(counter / (double)m_maxRows, progMessageBuilder.toString());
+        } else {
+            exec.setMessage(progMessageBuilder.toString());
+        }
+        exec.checkCanceled();
+    }
+
+    /** A buffered input row together with its time and the values of the aggregated columns. */
+    private static final class Entry {
+
+        private final DataRow m_row;
+
+        private final Temporal m_time;
+
+        /** {@code null} if the row is not part of any window. */
+        private final double[] m_values;
+
+        Entry(final DataRow row, final Temporal time, final double[] values) {
+            m_row = row;
+            m_time = time;
+            m_values = values;
+        }
+    }
+
+    /**
+     * Reads the input on demand and buffers the rows from the start of the current window up to the last row read.
+     */
+    private final class Scan {
+
+        private final RowInput m_input;
+
+        private Entry[] m_entries = new Entry[16];
+
+        /** Sequence number of the first buffered row. */
+        private long m_first;
+
+        private int m_head;
+
+        private int m_size;
+
+        private boolean m_exhausted;
+
+        /** First and last non-missing time read so far. */
+        private Temporal m_firstTime;
+
+        private Temporal m_lastTime;
+
+        Scan(final RowInput input) {
+            m_input = input;
+        }
+
+        /** @return whether the row with the given sequence number exists, reading the input up to it if required */
+        boolean ensure(final long seq) throws InterruptedException {
+            while (!m_exhausted && m_first + m_size <= seq) {
+                final DataRow row = m_input.poll();
+                if (row == null) {
+                    m_exhausted = true;
+                } else {
+                    append(read(row));
+                }
+            }
+            return seq < m_first + m_size;
+        }
+
+        private Entry read(final DataRow row) {
+            Temporal time = null;
+            if (m_timeColumnIndex >= 0) {
+                final var timeCell = row.getCell(m_timeColumnIndex);
+                if (timeCell.isMissing()) {
+                    return new Entry(row, null, null);
+                }
+                time = TemporalCellUtils.getTemporalFromCell(timeCell);
+                if (m_lastTime != null && compare(time, m_lastTime) < 0) {
+                    throw new IllegalStateException("Table not in ascending order concerning chosen time column \""
+                        + m_timeColumn + "\" at row \"" + row.getKey()
+                        + "\" (use Sorter prior to Window Aggregator).");
+                }
+                if (m_firstTime == null) {
+                    m_firstTime = time;
+                }
+                m_lastTime = time;
+            }
+            final var values = new double[m_columnIndices.length];
+            for (int i = 0; i < values.length; i++) {
+                final var cell = row.getCell(m_columnIndices[i]);
+                values[i] = cell.isMissing() ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+            }
+            return new Entry(row, time, values);
+        }
+
+        private void append(final Entry entry) {
+            if (m_size == m_entries.length) {
+                final var entries = new Entry[m_entries.length * 2];
+                for (int i = 0; i < m_size; i++) {
+                    entries[i] = m_entries[(m_head + i) % m_entries.length];
+                }
+                m_entries = entries;
+                m_head = 0;
+            }
+            m_entries[(m_head + m_size) % m_entries.length] = entry;
+            m_size++;
+        }
+
+        Entry get(final long seq) {
+            return m_entries[(int)((m_head + (seq - m_first)) % m_entries.length)];
+        }
+
+        void discardBefore(final long seq) {
+            while (m_first < seq && m_size > 0) {
+                m_entries[m_head] = null;
+                m_head = (m_head + 1) % m_entries.length;
+                m_first++;
+                m_size--;
+            }
+        }
+    }
+
+    private static final class DataContainerPortOutput extends RowOutput {
+        private final BufferedDataContainer m_container;
+
+        DataContainerPortOutput(final BufferedDataContainer container) {
+            m_container = container;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            m_container.addRowToTable(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            m_container.close();
+        }
+
+        BufferedDataTable getTable() {
+            return m_container.getTable();
+        }
+    }
+}